@@ -0,0 +1,40 @@
+package com.ldbc.driver;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Handler for connectors built on non-blocking drivers, which may have many operations in flight per connection.
+ * <p/>
+ * Result is reported via ResultReporter, as for blocking handlers, and must be reported before the returned stage
+ * completes. Completing the stage exceptionally is equivalent to throwing from executeOperation().
+ * <p/>
+ * Executors that support asynchronous execution submit the operation and record latency, completion time & metrics
+ * when the stage completes, without holding a driver thread while the operation is in flight. All other executors
+ * call executeOperation(), which blocks until the stage completes.
+ * <p/>
+ * When executed asynchronously, a pooled connection state is held until the returned stage completes, so no more
+ * operations are in flight than there are connection states in the pool.
+ */
+public interface AsyncOperationHandler<OPERATION_TYPE extends Operation, DB_CONNECTION_STATE_TYPE extends DbConnectionState>
+        extends OperationHandler<OPERATION_TYPE,DB_CONNECTION_STATE_TYPE>
+{
+    CompletionStage<Void> executeOperationAsync( OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException;
+
+    @Override
+    default void executeOperation( OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException
+    {
+        try
+        {
+            executeOperationAsync( operation, dbConnectionState, resultReporter ).toCompletableFuture().join();
+        }
+        catch ( CompletionException e )
+        {
+            throw new DbException( "Error executing asynchronous operation", e.getCause() );
+        }
+    }
+}
@@ -2,9 +2,11 @@ package com.ldbc.driver;
 
 import com.ldbc.driver.client.CalculateWorkloadStatisticsMode;
 import com.ldbc.driver.client.ClientMode;
+import com.ldbc.driver.client.CompileOperationStreamsMode;
 import com.ldbc.driver.client.CreateValidationParamsMode;
 import com.ldbc.driver.client.ExecuteWorkloadMode;
 import com.ldbc.driver.client.PrintHelpMode;
+import com.ldbc.driver.client.SearchTimeCompressionRatioMode;
 import com.ldbc.driver.client.ValidateDatabaseMode;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.ControlService;
@@ -123,6 +125,25 @@ public class Client
             }
             return new ValidateDatabaseMode( controlService );
         }
+        else if ( null != controlService.configuration().compileOperationStreamsFilePath() )
+        {
+            // Compile Operation Streams
+            DriverConfiguration configuration = controlService.configuration();
+            List<String> missingParams = new ArrayList<>();
+            if ( null == configuration.workloadClassName() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.WORKLOAD_ARG );
+            }
+            if ( 0 == configuration.operationCount() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG );
+            }
+            if ( false == missingParams.isEmpty() )
+            {
+                throw new ClientException( format( "Missing required parameters: %s", missingParams.toString() ) );
+            }
+            return new CompileOperationStreamsMode( controlService, RANDOM_SEED );
+        }
         else if ( controlService.configuration().calculateWorkloadStatistics() )
         {
             // Calculate Statistics
@@ -142,6 +163,25 @@ public class Client
             }
             return new CalculateWorkloadStatisticsMode( controlService, RANDOM_SEED );
         }
+        else if ( controlService.configuration().timeCompressionRatioSearchProbeCount() > 0 )
+        {
+            // Search Time Compression Ratio
+            DriverConfiguration configuration = controlService.configuration();
+            List<String> missingParams = new ArrayList<>();
+            if ( null == configuration.dbClassName() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.DB_ARG );
+            }
+            if ( null == configuration.workloadClassName() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.WORKLOAD_ARG );
+            }
+            if ( false == missingParams.isEmpty() )
+            {
+                throw new ClientException( format( "Missing required parameters: %s", missingParams.toString() ) );
+            }
+            return new SearchTimeCompressionRatioMode( controlService, new SystemTimeSource(), RANDOM_SEED );
+        }
         else
         {
             // Execute Workload
@@ -1,6 +1,7 @@
 package com.ldbc.driver;
 
 import com.google.common.collect.Ordering;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.util.ClassLoaderHelper;
 
@@ -16,7 +17,7 @@ public abstract class Db implements Closeable
 {
     private boolean isInitialized = false;
     private AtomicBoolean isShutdown = new AtomicBoolean( false );
-    private DbConnectionState dbConnectionState = null;
+    private DbConnectionStatePool dbConnectionStatePool = null;
     private Map<Class<? extends Operation>,OperationHandler> operationHandlers = new HashMap<>();
     private OperationHandler[] operationHandlersArray = null;
     private OperationHandlerRunnerFactory operationHandlerRunnableContextFactory = null;
@@ -32,7 +33,18 @@ public abstract class Db implements Closeable
             throw new DbException( "DB may be initialized only once" );
         }
         onInit( params, loggingService );
-        dbConnectionState = getConnectionState();
+        DbConnectionStateFactory dbConnectionStateFactory = getConnectionStateFactory();
+        if ( null == dbConnectionStateFactory )
+        {
+            dbConnectionStatePool = DbConnectionStatePool.shared( getConnectionState() );
+        }
+        else
+        {
+            dbConnectionStatePool = DbConnectionStatePool.pooled(
+                    dbConnectionStateFactory,
+                    connectionStatePoolSize( params )
+            );
+        }
         operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
                 new InstantiatingOperationHandlerRunnerFactory()
         );
@@ -54,6 +66,11 @@ public abstract class Db implements Closeable
             throw new IOException( "DB may be cleaned up only once" );
         }
         isShutdown.set( true );
+        // connection states are closed before the Db, as they may depend on it
+        if ( null != dbConnectionStatePool )
+        {
+            dbConnectionStatePool.close();
+        }
         onClose();
         try
         {
@@ -80,6 +97,7 @@ public abstract class Db implements Closeable
         operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
                 new InstantiatingOperationHandlerRunnerFactory()
         );
+        dbConnectionStatePool.resetStatistics();
     }
 
     /**
@@ -123,7 +141,7 @@ public abstract class Db implements Closeable
             OperationHandlerRunnableContext operationHandlerRunnableContext =
                     operationHandlerRunnableContextFactory.newOperationHandlerRunner();
             operationHandlerRunnableContext.setOperationHandler( operationHandler );
-            operationHandlerRunnableContext.setDbConnectionState( dbConnectionState );
+            operationHandlerRunnableContext.setDbConnectionStatePool( dbConnectionStatePool );
             return operationHandlerRunnableContext;
         }
         catch ( Exception e )
@@ -132,6 +150,31 @@ public abstract class Db implements Closeable
         }
     }
 
+    /**
+     * @return connection states used by handlers, including statistics on time spent waiting to acquire them
+     */
+    public final DbConnectionStatePool dbConnectionStatePool()
+    {
+        return dbConnectionStatePool;
+    }
+
+    private static int connectionStatePoolSize( Map<String,String> params ) throws DbException
+    {
+        String threadCountString = params.get( ConsoleAndFileDriverConfiguration.THREADS_ARG );
+        if ( null == threadCountString )
+        {
+            return ConsoleAndFileDriverConfiguration.THREADS_DEFAULT;
+        }
+        try
+        {
+            return Math.max( 1, Integer.parseInt( threadCountString ) );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new DbException( format( "Invalid thread count: %s", threadCountString ), e );
+        }
+    }
+
     private static OperationHandler[] toOperationHandlerArray(
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             Map<Class<? extends Operation>,OperationHandler> operationHandlers ) throws DbException
@@ -167,4 +210,17 @@ public abstract class Db implements Closeable
      * reused by all operation handlers
      */
     protected abstract DbConnectionState getConnectionState() throws DbException;
+
+    /**
+     * Should return a factory for state related to the database connection, if that state can not be shared by all
+     * operation handlers, e.g., a connection or session that is not thread-safe.
+     * If a factory is returned, getConnectionState() is not called, instead a pool of connection states -- one per
+     * worker thread (-tc) -- is created, and each handler execution holds one connection state from that pool.
+     * Asynchronous handlers hold it until the operation completes, see {@link AsyncOperationHandler}.
+     * If null is returned (default), the connection state returned by getConnectionState() is shared.
+     */
+    protected DbConnectionStateFactory getConnectionStateFactory() throws DbException
+    {
+        return null;
+    }
 }
@@ -0,0 +1,10 @@
+package com.ldbc.driver;
+
+public interface DbConnectionStateFactory
+{
+    /**
+     * Called whenever the connection state pool of a Db grows, never concurrently with itself.
+     * Connection states are closed by the pool, when Db is closed.
+     */
+    DbConnectionState newDbConnectionState() throws DbException;
+}
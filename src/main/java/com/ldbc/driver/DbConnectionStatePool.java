@@ -0,0 +1,282 @@
+package com.ldbc.driver;
+
+import com.ldbc.driver.runtime.metrics.ConnectionStateAcquisitionSnapshot;
+import com.ldbc.driver.temporal.TemporalUtil;
+import stormpot.Allocator;
+import stormpot.BlazePool;
+import stormpot.Completion;
+import stormpot.Config;
+import stormpot.Expiration;
+import stormpot.Poolable;
+import stormpot.Slot;
+import stormpot.SlotInfo;
+import stormpot.Timeout;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Connection states of a Db, acquired by OperationHandlerRunnableContext for the duration of one handler execution.
+ * <p/>
+ * Either one connection state shared by all handlers (see Db.getConnectionState()), or a fixed size pool of
+ * connection states created by a DbConnectionStateFactory (see Db.getConnectionStateFactory()), in which case time
+ * spent waiting for a connection state to become available is recorded.
+ */
+public abstract class DbConnectionStatePool implements Closeable
+{
+    public static DbConnectionStatePool shared( DbConnectionState dbConnectionState )
+    {
+        return new SharedDbConnectionStatePool( dbConnectionState );
+    }
+
+    public static DbConnectionStatePool pooled( DbConnectionStateFactory dbConnectionStateFactory, int size )
+    {
+        return new BlazeDbConnectionStatePool( dbConnectionStateFactory, size );
+    }
+
+    public interface Lease
+    {
+        DbConnectionState dbConnectionState();
+
+        void release();
+    }
+
+    private final LongAdder acquisitionCount = new LongAdder();
+    private final LongAdder acquisitionWaitTimeAsNano = new LongAdder();
+    private final AtomicLong maxAcquisitionWaitTimeAsNano = new AtomicLong( 0 );
+
+    public abstract Lease acquire() throws DbException;
+
+    public abstract int size();
+
+    final void recordAcquisition( long waitTimeAsNano )
+    {
+        acquisitionCount.increment();
+        acquisitionWaitTimeAsNano.add( waitTimeAsNano );
+        long max = maxAcquisitionWaitTimeAsNano.get();
+        while ( waitTimeAsNano > max && !maxAcquisitionWaitTimeAsNano.compareAndSet( max, waitTimeAsNano ) )
+        {
+            max = maxAcquisitionWaitTimeAsNano.get();
+        }
+    }
+
+    public final long acquisitionCount()
+    {
+        return acquisitionCount.sum();
+    }
+
+    public final long acquisitionWaitTimeAsNano()
+    {
+        return acquisitionWaitTimeAsNano.sum();
+    }
+
+    public final long maxAcquisitionWaitTimeAsNano()
+    {
+        return maxAcquisitionWaitTimeAsNano.get();
+    }
+
+    public final ConnectionStateAcquisitionSnapshot acquisitionSnapshot( TimeUnit unit )
+    {
+        return new ConnectionStateAcquisitionSnapshot(
+                acquisitionCount(),
+                acquisitionWaitTimeAsNano(),
+                maxAcquisitionWaitTimeAsNano(),
+                unit );
+    }
+
+    public final void resetStatistics()
+    {
+        acquisitionCount.reset();
+        acquisitionWaitTimeAsNano.reset();
+        maxAcquisitionWaitTimeAsNano.set( 0 );
+    }
+
+    @Override
+    public String toString()
+    {
+        long count = acquisitionCount();
+        long waitTimeAsNano = acquisitionWaitTimeAsNano();
+        return format( "%s{size=%s, acquisitions=%s, totalWait=%s, meanWait=%s, maxWait=%s}",
+                getClass().getSimpleName(),
+                size(),
+                count,
+                TimeUnit.NANOSECONDS.toMicros( waitTimeAsNano ) + "us",
+                ((0 == count) ? 0 : TimeUnit.NANOSECONDS.toMicros( waitTimeAsNano / count )) + "us",
+                TimeUnit.NANOSECONDS.toMicros( maxAcquisitionWaitTimeAsNano() ) + "us" );
+    }
+
+    private static class SharedDbConnectionStatePool extends DbConnectionStatePool implements Lease
+    {
+        private final DbConnectionState dbConnectionState;
+
+        private SharedDbConnectionStatePool( DbConnectionState dbConnectionState )
+        {
+            this.dbConnectionState = dbConnectionState;
+        }
+
+        @Override
+        public Lease acquire()
+        {
+            return this;
+        }
+
+        @Override
+        public int size()
+        {
+            return 1;
+        }
+
+        @Override
+        public DbConnectionState dbConnectionState()
+        {
+            return dbConnectionState;
+        }
+
+        @Override
+        public void release()
+        {
+        }
+
+        // shared connection state is owned, and closed, by the Db that created it
+        @Override
+        public void close()
+        {
+        }
+    }
+
+    private static class BlazeDbConnectionStatePool extends DbConnectionStatePool
+    {
+        private static final Timeout POOL_CLAIM_TIMEOUT = new Timeout( 1, TimeUnit.SECONDS );
+        private static final Timeout POOL_SHUTDOWN_TIMEOUT = new Timeout( 10, TimeUnit.SECONDS );
+
+        private final BlazePool<PooledDbConnectionState> pool;
+        private final int size;
+
+        private BlazeDbConnectionStatePool( DbConnectionStateFactory dbConnectionStateFactory, int size )
+        {
+            Config<PooledDbConnectionState> config = new Config<>();
+            config.setAllocator( new DbConnectionStateAllocator( dbConnectionStateFactory ) );
+            config.setBackgroundExpirationEnabled( false );
+            config.setPreciseLeakDetectionEnabled( false );
+            config.setExpiration( new NeverExpiration() );
+            config.setSize( size );
+            this.pool = new BlazePool<>( config );
+            this.size = size;
+        }
+
+        @Override
+        public Lease acquire() throws DbException
+        {
+            long startTimeAsNano = System.nanoTime();
+            try
+            {
+                PooledDbConnectionState pooledDbConnectionState = pool.claim( POOL_CLAIM_TIMEOUT );
+                while ( null == pooledDbConnectionState )
+                {
+                    pooledDbConnectionState = pool.claim( POOL_CLAIM_TIMEOUT );
+                }
+                recordAcquisition( System.nanoTime() - startTimeAsNano );
+                return pooledDbConnectionState;
+            }
+            catch ( Exception e )
+            {
+                throw new DbException(
+                        format( "Error while acquiring connection state from pool\n"
+                                + "Pool size: %s\n"
+                                + "Pool allocation count: %s\n"
+                                + "Pool failed allocation count: %s",
+                                size,
+                                pool.getAllocationCount(),
+                                pool.getFailedAllocationCount() ),
+                        e );
+            }
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            Completion completion = pool.shutdown();
+            try
+            {
+                if ( !completion.await( POOL_SHUTDOWN_TIMEOUT ) )
+                {
+                    throw new IOException(
+                            format( "Connection state pool did not shutdown before timeout: %s\n"
+                                    + "Connection states may still be in use by operation handlers",
+                                    new TemporalUtil().milliDurationToString( POOL_SHUTDOWN_TIMEOUT.getUnit()
+                                            .toMillis( POOL_SHUTDOWN_TIMEOUT.getTimeout() ) ) ) );
+                }
+            }
+            catch ( InterruptedException e )
+            {
+                throw new IOException( "Interrupted while shutting down connection state pool", e );
+            }
+        }
+    }
+
+    private static class PooledDbConnectionState implements Poolable, Lease
+    {
+        private final Slot slot;
+        private final DbConnectionState dbConnectionState;
+
+        private PooledDbConnectionState( Slot slot, DbConnectionState dbConnectionState )
+        {
+            this.slot = slot;
+            this.dbConnectionState = dbConnectionState;
+        }
+
+        @Override
+        public DbConnectionState dbConnectionState()
+        {
+            return dbConnectionState;
+        }
+
+        @Override
+        public void release()
+        {
+            slot.release( this );
+        }
+    }
+
+    private static class DbConnectionStateAllocator implements Allocator<PooledDbConnectionState>
+    {
+        private final DbConnectionStateFactory dbConnectionStateFactory;
+
+        private DbConnectionStateAllocator( DbConnectionStateFactory dbConnectionStateFactory )
+        {
+            this.dbConnectionStateFactory = dbConnectionStateFactory;
+        }
+
+        @Override
+        public PooledDbConnectionState allocate( Slot slot ) throws Exception
+        {
+            return new PooledDbConnectionState( slot, dbConnectionStateFactory.newDbConnectionState() );
+        }
+
+        @Override
+        public void deallocate( PooledDbConnectionState pooledDbConnectionState ) throws Exception
+        {
+            pooledDbConnectionState.dbConnectionState().close();
+        }
+    }
+
+    private static class NeverExpiration implements Expiration<PooledDbConnectionState>
+    {
+        @Override
+        public boolean hasExpired( SlotInfo<? extends PooledDbConnectionState> slotInfo ) throws Exception
+        {
+            return false;
+        }
+    }
+}
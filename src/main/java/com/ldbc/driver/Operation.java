@@ -10,6 +10,8 @@ public abstract class Operation<RESULT_TYPE>
     private long scheduledStartTimeAsMilli = -1;
     private long timeStamp = -1;
     private long dependencyTimeStamp = -1;
+    private OperationPool pool = null;
+    private Operation nextInPool = null;
 
     public final void setScheduledStartTimeAsMilli( long scheduledStartTimeAsMilli )
     {
@@ -43,6 +45,33 @@ public abstract class Operation<RESULT_TYPE>
 
     public abstract int type();
 
+    /**
+     * Returns operation to the pool it was acquired from, after which it must no longer be referenced.
+     * Does nothing if operation was not acquired from a pool.
+     */
+    public final void recycle()
+    {
+        if ( null != pool )
+        {
+            pool.recycle( this );
+        }
+    }
+
+    final void setPool( OperationPool pool )
+    {
+        this.pool = pool;
+    }
+
+    final Operation nextInPool()
+    {
+        return nextInPool;
+    }
+
+    final void setNextInPool( Operation nextInPool )
+    {
+        this.nextInPool = nextInPool;
+    }
+
     @Override
     public String toString()
     {
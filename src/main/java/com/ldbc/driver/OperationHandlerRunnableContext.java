@@ -10,6 +10,10 @@ import com.ldbc.driver.temporal.TimeSource;
 import stormpot.Poolable;
 import stormpot.Slot;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
 import static java.lang.String.format;
 
 public class OperationHandlerRunnableContext implements Runnable, Poolable
@@ -18,9 +22,12 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
     private Slot slot = null;
 
     // set by Db
-    private DbConnectionState dbConnectionState = null;
+    private DbConnectionStatePool dbConnectionStatePool = null;
     private OperationHandler operationHandler = null;
 
+    // held only while handler executes, for asynchronous handlers until the returned stage completes
+    private DbConnectionStatePool.Lease dbConnectionStateLease = null;
+
     // set by DependencyAndNonDependencyHandlersRetriever
     private TimeSource timeSource = null;
     private Spinner spinner = null;
@@ -32,6 +39,10 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
     // set by DependencyAndNonDependencyHandlersRetriever
     private SpinnerCheck beforeExecuteCheck = null;
 
+    // set by executors that support asynchronous execution, null otherwise
+    private Runnable asynchronousCompletionCallback = null;
+    private Executor asynchronousCompletionExecutor = null;
+
     private boolean initialized = false;
 
     private ResultReporter.SimpleResultReporter resultReporter = null;
@@ -73,6 +84,8 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         this.operation = operation;
         this.completionTimeWriter = completionTimeWriter;
         this.beforeExecuteCheck = Spinner.TRUE_CHECK;
+        this.asynchronousCompletionCallback = null;
+        this.asynchronousCompletionExecutor = null;
         this.initialized = true;
     }
 
@@ -81,9 +94,9 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         this.operationHandler = operationHandler;
     }
 
-    final void setDbConnectionState( DbConnectionState dbConnectionState )
+    final void setDbConnectionStatePool( DbConnectionStatePool dbConnectionStatePool )
     {
-        this.dbConnectionState = dbConnectionState;
+        this.dbConnectionStatePool = dbConnectionStatePool;
     }
 
     public final void setBeforeExecuteCheck( SpinnerCheck check )
@@ -91,6 +104,33 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         beforeExecuteCheck = check;
     }
 
+    /**
+     * Enables asynchronous execution, if handler is an AsyncOperationHandler.
+     * Thread that completes the stage returned by the handler, e.g., an I/O thread of the database driver, only takes
+     * the end time and releases the connection state. Results, metrics & callback are then processed on the
+     * completion executor, so nothing that blocks, e.g., child operations, runs on the thread of the database driver.
+     * Callback is run once handler has completed, successfully or not. After that callback has run, context must not
+     * be accessed by the thread that called run(). If completion executor rejects the completion, e.g., because it was
+     * shut down, an error is reported and callback is not run.
+     *
+     * @param asynchronousCompletionCallback run after asynchronous handler completed
+     * @param asynchronousCompletionExecutor executor, owned by the driver, that results & callback are processed on
+     */
+    public final void setAsynchronousCompletionCallback( Runnable asynchronousCompletionCallback,
+            Executor asynchronousCompletionExecutor )
+    {
+        this.asynchronousCompletionCallback = asynchronousCompletionCallback;
+        this.asynchronousCompletionExecutor = asynchronousCompletionExecutor;
+    }
+
+    /**
+     * @return true if run() will return before handler has completed, and completion callback will be run later
+     */
+    public final boolean executesAsynchronously()
+    {
+        return null != asynchronousCompletionCallback && operationHandler instanceof AsyncOperationHandler;
+    }
+
     public final Operation operation()
     {
         return operation;
@@ -101,9 +141,38 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         return operationHandler;
     }
 
+    /**
+     * @return connection state acquired for current handler execution, null if none is currently held
+     */
     public final DbConnectionState dbConnectionState()
     {
-        return dbConnectionState;
+        return (null == dbConnectionStateLease) ? null : dbConnectionStateLease.dbConnectionState();
+    }
+
+    /**
+     * Acquires a connection state from the pool of Db, for callers that execute the handler directly rather than
+     * via run(). Waits while all connection states are in use. Released by cleanup().
+     *
+     * @return connection state to pass to the handler
+     * @throws DbException if no connection state could be acquired
+     */
+    public final DbConnectionState acquireDbConnectionState() throws DbException
+    {
+        if ( null == dbConnectionStateLease )
+        {
+            dbConnectionStateLease = dbConnectionStatePool.acquire();
+        }
+        return dbConnectionStateLease.dbConnectionState();
+    }
+
+    private void releaseDbConnectionState()
+    {
+        if ( null != dbConnectionStateLease )
+        {
+            DbConnectionStatePool.Lease lease = dbConnectionStateLease;
+            dbConnectionStateLease = null;
+            lease.release();
+        }
     }
 
     public final ResultReporter resultReporter()
@@ -128,6 +197,11 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
             errorReporter.reportError( this, "Handler was executed before being initialized" );
             return;
         }
+        if ( executesAsynchronously() )
+        {
+            runAsynchronously();
+            return;
+        }
         try
         {
             if ( !spinner.waitForScheduledStartTime( operation, beforeExecuteCheck ) )
@@ -137,35 +211,135 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
                 // Spinner result indicates operation should not be processed
                 return;
             }
+            // acquired before actual start time is taken, so pool waits are not measured as handler latency
+            DbConnectionState dbConnectionState = acquireDbConnectionState();
             resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
             long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
             operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
             long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            releaseDbConnectionState();
             resultReporter.setRunDurationAsNano( endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
-            if ( null == resultReporter().result() )
+            submitResult();
+        }
+        catch ( Throwable e )
+        {
+            reportExecutionError( e );
+        }
+        finally
+        {
+            releaseDbConnectionState();
+        }
+    }
+
+    // actual start time is recorded at submit, latency/completion time/metrics are recorded by completion callback
+    private void runAsynchronously()
+    {
+        final Runnable completionCallback = asynchronousCompletionCallback;
+        final Executor completionExecutor = asynchronousCompletionExecutor;
+        try
+        {
+            if ( !spinner.waitForScheduledStartTime( operation, beforeExecuteCheck ) )
+            {
+                // Spinner result indicates operation should not be processed
+                completionCallback.run();
+                return;
+            }
+            DbConnectionState dbConnectionState = acquireDbConnectionState();
+            resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
+            final long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            CompletionStage<Void> completionStage = ((AsyncOperationHandler) operationHandler).executeOperationAsync(
+                    operation,
+                    dbConnectionState,
+                    resultReporter
+            );
+            // lease is held until stage completes, connection states are not thread-safe so pool size bounds in flight
+            completionStage.whenComplete( new BiConsumer<Void,Throwable>()
+            {
+                @Override
+                public void accept( Void ignore, final Throwable throwable )
+                {
+                    // runs on whichever thread completed the stage, so only what must happen at completion is done
+                    final long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+                    releaseDbConnectionState();
+                    try
+                    {
+                        completionExecutor.execute( new Runnable()
+                        {
+                            @Override
+                            public void run()
+                            {
+                                completeAsynchronously(
+                                        endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano,
+                                        throwable,
+                                        completionCallback );
+                            }
+                        } );
+                    }
+                    catch ( Throwable e )
+                    {
+                        reportExecutionError( e );
+                    }
+                }
+            } );
+        }
+        catch ( Throwable e )
+        {
+            reportExecutionError( e );
+            releaseDbConnectionState();
+            completionCallback.run();
+        }
+    }
+
+    private void completeAsynchronously( long runDurationAsNano, Throwable throwable, Runnable completionCallback )
+    {
+        try
+        {
+            resultReporter.setRunDurationAsNano( runDurationAsNano );
+            if ( null == throwable )
             {
-                errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+                submitResult();
             }
             else
             {
-                completionTimeWriter.submitCompletedTime( operation.timeStamp() );
-                metricsServiceWriter.submitOperationResult(
-                        operation.type(),
-                        operation.scheduledStartTimeAsMilli(),
-                        resultReporter.actualStartTimeAsMilli(),
-                        resultReporter.runDurationAsNano(),
-                        resultReporter.resultCode(),
-                        operation.timeStamp()
-                );
+                reportExecutionError( throwable );
             }
         }
         catch ( Throwable e )
         {
-            String errMsg = format( "Error encountered\n%s\n%s",
-                    operation,
-                    ConcurrentErrorReporter.stackTraceToString( e ) );
-            errorReporter.reportError( this, errMsg );
+            reportExecutionError( e );
         }
+        finally
+        {
+            completionCallback.run();
+        }
+    }
+
+    private void submitResult() throws Exception
+    {
+        if ( null == resultReporter().result() )
+        {
+            errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+        }
+        else
+        {
+            completionTimeWriter.submitCompletedTime( operation.timeStamp() );
+            metricsServiceWriter.submitOperationResult(
+                    operation.type(),
+                    operation.scheduledStartTimeAsMilli(),
+                    resultReporter.actualStartTimeAsMilli(),
+                    resultReporter.runDurationAsNano(),
+                    resultReporter.resultCode(),
+                    operation.timeStamp()
+            );
+        }
+    }
+
+    private void reportExecutionError( Throwable e )
+    {
+        String errMsg = format( "Error encountered\n%s\n%s",
+                operation,
+                ConcurrentErrorReporter.stackTraceToString( e ) );
+        errorReporter.reportError( this, errMsg );
     }
 
 
@@ -186,10 +360,26 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         release();
     }
 
+    /**
+     * As cleanup(), but also recycles the operation if it was acquired from an operation pool.
+     * Only to be used once nothing references the operation anymore, i.e., after its result was submitted & its
+     * child operations were generated, which is not the case for callers that retain operations, e.g., validation.
+     */
+    public final void cleanupAndRecycleOperation()
+    {
+        Operation operationToRecycle = operation;
+        release();
+        if ( null != operationToRecycle )
+        {
+            operationToRecycle.recycle();
+        }
+    }
+
     // Note, this should not really be public API, it is from the StormPot Poolable interface
     @Override
     public final void release()
     {
+        releaseDbConnectionState();
         initialized = false;
         if ( null != slot )
         {
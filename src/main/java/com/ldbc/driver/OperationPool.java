@@ -0,0 +1,85 @@
+package com.ldbc.driver;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Pool of mutable operation instances of one type, reused to avoid allocating an operation per parsed event.
+ * <p/>
+ * Operations are acquired by a single thread, the stream reader that initializes them, and may be recycled from
+ * any thread, via {@link Operation#recycle()}, once nothing references them anymore.
+ * Recycled operations are pushed onto a lock-free stack, which the reader takes in its entirety when it runs out of
+ * operations, so neither acquire nor recycle allocate, and the pool never holds more operations than were in use at
+ * once.
+ */
+public class OperationPool<OPERATION extends Operation>
+{
+    private final Class<OPERATION> operationType;
+    private final Supplier<OPERATION> operationFactory;
+    private final AtomicReference<Operation> recycled = new AtomicReference<>();
+    // only accessed by reader thread
+    private Operation available = null;
+    private volatile long createdCount = 0;
+    private volatile long reusedCount = 0;
+
+    public OperationPool( Class<OPERATION> operationType, Supplier<OPERATION> operationFactory )
+    {
+        this.operationType = operationType;
+        this.operationFactory = operationFactory;
+    }
+
+    /**
+     * Returned operation must be fully initialized by caller, its parameters are those of its previous use
+     */
+    public OPERATION acquire()
+    {
+        if ( null == available )
+        {
+            available = recycled.getAndSet( null );
+        }
+        if ( null == available )
+        {
+            OPERATION operation = operationFactory.get();
+            operation.setPool( this );
+            createdCount++;
+            return operation;
+        }
+        Operation operation = available;
+        available = operation.nextInPool();
+        operation.setNextInPool( null );
+        operation.setScheduledStartTimeAsMilli( -1 );
+        operation.setTimeStamp( -1 );
+        operation.setDependencyTimeStamp( -1 );
+        reusedCount++;
+        return (OPERATION) operation;
+    }
+
+    void recycle( Operation operation )
+    {
+        Operation head;
+        do
+        {
+            head = recycled.get();
+            operation.setNextInPool( head );
+        }
+        while ( !recycled.compareAndSet( head, operation ) );
+    }
+
+    public long createdCount()
+    {
+        return createdCount;
+    }
+
+    public long reusedCount()
+    {
+        return reusedCount;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "%s: created=%s, reused=%s", operationType.getSimpleName(), createdCount, reusedCount );
+    }
+}
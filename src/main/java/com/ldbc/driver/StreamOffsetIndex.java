@@ -0,0 +1,228 @@
+package com.ldbc.driver;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Sets;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.util.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.CALCULATE_WORKLOAD_STATISTICS_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.COMPILE_OPERATION_STREAMS_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.CREATE_VALIDATION_PARAMS_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.DB_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.DB_VALIDATION_FILE_PATH_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.HELP_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.NAME_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.SHOW_STATUS_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.SKIP_COUNT_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.STREAM_OFFSET_INDEX_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.THREADS_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.TIME_UNIT_ARG;
+import static com.ldbc.driver.control.ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG;
+import static java.lang.String.format;
+
+/**
+ * Result of WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset() for one configuration, offset & limit, cached
+ * so the streams of a workload only need to be scanned once per configuration.
+ * <p/>
+ * Index files are named by a fingerprint of: configuration parameters that may influence the workload streams,
+ * offset, limit, and the name, size & modification time of every file (or file in every directory) that a parameter
+ * refers to, other than index files & the index directory itself. A changed configuration or dataset therefore
+ * results in a different index file, rather than a stale index being used. Random seed is not part of the
+ * fingerprint, it is the same for every run of the driver.
+ */
+public class StreamOffsetIndex
+{
+    private static final String INDEX_FILENAME_PREFIX = "stream_offset_index-";
+    private static final String INDEX_FILENAME_SUFFIX = ".json";
+    private static final int FORMAT_VERSION = 1;
+    // parameters that only affect how operations are executed, not which operations are in the streams
+    private static final Set<String> EXECUTION_PARAMETERS = Sets.newHashSet(
+            NAME_ARG,
+            DB_ARG,
+            RESULT_DIR_PATH_ARG,
+            THREADS_ARG,
+            SHOW_STATUS_ARG,
+            TIME_UNIT_ARG,
+            TIME_COMPRESSION_RATIO_ARG,
+            SPINNER_SLEEP_DURATION_ARG,
+            IGNORE_SCHEDULED_START_TIMES_ARG,
+            HELP_ARG,
+            DB_VALIDATION_FILE_PATH_ARG,
+            CREATE_VALIDATION_PARAMS_ARG,
+            CALCULATE_WORKLOAD_STATISTICS_ARG,
+            COMPILE_OPERATION_STREAMS_ARG,
+            COMPLETION_TIME_TRACKER_ARG,
+            OPERATION_EXECUTOR_ARG,
+            STREAM_OFFSET_INDEX_ARG,
+            // replaced by offset & limit
+            OPERATION_COUNT_ARG,
+            WARMUP_COUNT_ARG,
+            SKIP_COUNT_ARG
+    );
+
+    @JsonProperty( value = "format_version" )
+    private int formatVersion = FORMAT_VERSION;
+
+    @JsonProperty( value = "offset" )
+    private long offset;
+
+    @JsonProperty( value = "limit" )
+    private long limit;
+
+    @JsonProperty( value = "start_for_stream" )
+    private long[] startForStream;
+
+    @JsonProperty( value = "limit_for_stream" )
+    private long[] limitForStream;
+
+    @JsonProperty( value = "minimum_timestamp" )
+    private long minimumTimeStamp;
+
+    public static File indexFileFor( File indexDir, DriverConfiguration configuration, long offset, long limit )
+    {
+        Hasher hasher = Hashing.sha1().newHasher()
+                .putInt( FORMAT_VERSION )
+                .putLong( offset )
+                .putLong( limit );
+        Map<String,String> parameters = new TreeMap<>( configuration.asMap() );
+        for ( Map.Entry<String,String> parameter : parameters.entrySet() )
+        {
+            if ( EXECUTION_PARAMETERS.contains( parameter.getKey() ) || null == parameter.getValue() )
+            {
+                continue;
+            }
+            hasher.putString( parameter.getKey(), StandardCharsets.UTF_8 )
+                    .putString( parameter.getValue(), StandardCharsets.UTF_8 );
+            File file = new File( parameter.getValue() );
+            File[] files = (file.isDirectory()) ? file.listFiles() : new File[]{file};
+            if ( null == files || !file.exists() || isIndexFile( file, indexDir ) )
+            {
+                continue;
+            }
+            Arrays.sort( files );
+            for ( File f : files )
+            {
+                if ( isIndexFile( f, indexDir ) )
+                {
+                    continue;
+                }
+                hasher.putString( f.getName(), StandardCharsets.UTF_8 )
+                        .putLong( f.length() )
+                        .putLong( f.lastModified() );
+            }
+        }
+        return new File( indexDir, INDEX_FILENAME_PREFIX + hasher.hash().toString() + INDEX_FILENAME_SUFFIX );
+    }
+
+    // index files, their temporary files & the directory containing them change whenever an index is written, so
+    // they must not be fingerprinted, e.g., when the index is kept in a dataset directory that a parameter refers to
+    private static boolean isIndexFile( File file, File indexDir )
+    {
+        return file.getName().startsWith( INDEX_FILENAME_PREFIX ) ||
+               file.getAbsoluteFile().toPath().normalize().equals( indexDir.getAbsoluteFile().toPath().normalize() );
+    }
+
+    public static StreamOffsetIndex readFrom( File indexFile ) throws IOException
+    {
+        StreamOffsetIndex index = new ObjectMapper().readValue( indexFile, StreamOffsetIndex.class );
+        if ( FORMAT_VERSION != index.formatVersion ||
+             null == index.startForStream ||
+             null == index.limitForStream ||
+             index.startForStream.length != index.limitForStream.length )
+        {
+            throw new IOException( format( "Invalid stream offset index: %s", indexFile.getAbsolutePath() ) );
+        }
+        return index;
+    }
+
+    private StreamOffsetIndex()
+    {
+    }
+
+    public StreamOffsetIndex( long offset, long limit, long[] startForStream, long[] limitForStream,
+            long minimumTimeStamp )
+    {
+        this.offset = offset;
+        this.limit = limit;
+        this.startForStream = startForStream;
+        this.limitForStream = limitForStream;
+        this.minimumTimeStamp = minimumTimeStamp;
+    }
+
+    public long offset()
+    {
+        return offset;
+    }
+
+    public long limit()
+    {
+        return limit;
+    }
+
+    public long[] startForStream()
+    {
+        return startForStream;
+    }
+
+    public long[] limitForStream()
+    {
+        return limitForStream;
+    }
+
+    public long minimumTimeStamp()
+    {
+        return minimumTimeStamp;
+    }
+
+    /**
+     * Written to a temporary file first, so concurrent runs never read a partially written index
+     */
+    public void writeTo( File indexFile ) throws IOException
+    {
+        FileUtils.tryCreateDirs( indexFile.getAbsoluteFile().getParentFile(), false );
+        File tempFile = File.createTempFile( indexFile.getName(), ".tmp", indexFile.getAbsoluteFile().getParentFile() );
+        try
+        {
+            new ObjectMapper().writer( new DefaultPrettyPrinter() ).writeValue( tempFile, this );
+            Files.move( tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE );
+        }
+        finally
+        {
+            Files.deleteIfExists( tempFile.toPath() );
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "StreamOffsetIndex{" +
+               "offset=" + offset +
+               ", limit=" + limit +
+               ", startForStream=" + Arrays.toString( startForStream ) +
+               ", limitForStream=" + Arrays.toString( limitForStream ) +
+               ", minimumTimeStamp=" + minimumTimeStamp +
+               '}';
+    }
+}
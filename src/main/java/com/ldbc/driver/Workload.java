@@ -1,5 +1,6 @@
 package com.ldbc.driver;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.validation.ResultsLogValidationTolerances;
@@ -7,6 +8,7 @@ import com.ldbc.driver.validation.ResultsLogValidationTolerances;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +18,8 @@ public abstract class Workload implements Closeable
 {
     public static final long DEFAULT_MAXIMUM_EXPECTED_INTERLEAVE_AS_MILLI = TimeUnit.HOURS.toMillis( 1 );
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private boolean isInitialized = false;
     private boolean isClosed = false;
 
@@ -117,6 +121,24 @@ public abstract class Workload implements Closeable
         };
     }
 
+    /**
+     * Operations that database validation must not reorder relative to any other validation parameter, e.g., writes
+     * whose effects are visible to the reads validated after them. Concurrent validation executes them alone, once
+     * all validation parameters before them are complete.
+     */
+    public boolean requiresOrderedValidation( Operation operation )
+    {
+        return false;
+    }
+
+    /**
+     * Pools that workload streams acquire operations from, if any, exposed to report on operation reuse
+     */
+    public List<OperationPool> operationPools()
+    {
+        return Collections.emptyList();
+    }
+
     public long maxExpectedInterleaveAsMilli()
     {
         return DEFAULT_MAXIMUM_EXPECTED_INTERLEAVE_AS_MILLI;
@@ -126,6 +148,24 @@ public abstract class Workload implements Closeable
 
     public abstract Operation marshalOperation( String serializedOperation ) throws SerializingMarshallingException;
 
+    /**
+     * Marshal operation from the list form of its serialization, i.e., the JSON array produced by
+     * serializeOperation(), already parsed into a list of scalars, lists & maps.
+     * Default implementation re-encodes the list as JSON, workloads should override it to avoid that round trip.
+     */
+    public Operation marshalOperation( List<Object> operationAsList ) throws SerializingMarshallingException
+    {
+        try
+        {
+            return marshalOperation( OBJECT_MAPPER.writeValueAsString( operationAsList ) );
+        }
+        catch ( IOException e )
+        {
+            throw new SerializingMarshallingException(
+                    String.format( "Error while encoding operation\n%s", operationAsList ), e );
+        }
+    }
+
     public abstract boolean resultsEqual( Operation operation, Object result1, Object result2 )
             throws WorkloadException;
 
@@ -9,8 +9,10 @@ import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.workloads.ClassNameWorkloadFactory;
+import com.ldbc.driver.workloads.CompiledOperationStreamsWorkloadFactory;
 import com.ldbc.driver.workloads.WorkloadFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
@@ -225,7 +227,15 @@ public class WorkloadStreams
             long limit,
             LoggingServiceFactory loggingServiceFactory ) throws WorkloadException, IOException
     {
-        ClassNameWorkloadFactory workloadFactory = new ClassNameWorkloadFactory( configuration.workloadClassName() );
+        WorkloadFactory workloadFactory = new ClassNameWorkloadFactory( configuration.workloadClassName() );
+        if ( null != configuration.operationStreamsFilePath() )
+        {
+            workloadFactory = new CompiledOperationStreamsWorkloadFactory(
+                    workloadFactory,
+                    configuration,
+                    new File( configuration.operationStreamsFilePath() )
+            );
+        }
         return createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
                 workloadFactory,
                 configuration,
@@ -251,45 +261,83 @@ public class WorkloadStreams
         // ====== Calculate Limits ========
         // ================================
 
-        // get workload
-        Workload workload = workloadFactory.createWorkload();
-        workload.init( configuration );
-        // retrieve unbounded streams
-        boolean hasDbConnected = false;
-        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, hasDbConnected );
-        List<Iterator<Operation>> streams = new ArrayList<>();
-        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
-
-        streams.add( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations() );
-        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
-
-        streams.add( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations() );
-        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
+        LoggingService loggingService =
+                loggingServiceFactory.loggingServiceFor( WorkloadStreams.class.getSimpleName() );
+        File indexFile = (null == configuration.streamOffsetIndexDirPath())
+                         ? null
+                         : StreamOffsetIndex.indexFileFor(
+                                 new File( configuration.streamOffsetIndexDirPath() ), configuration, offset, limit );
+        StreamOffsetIndex index = null;
+        if ( null != indexFile && indexFile.exists() )
+        {
+            try
+            {
+                index = StreamOffsetIndex.readFrom( indexFile );
+                loggingService.info( format( "Using stream offset index: %s", indexFile.getAbsolutePath() ) );
+            }
+            catch ( IOException e )
+            {
+                loggingService.info( format( "Ignoring unreadable stream offset index: %s\n%s",
+                        indexFile.getAbsolutePath(), e.getMessage() ) );
+            }
+        }
 
-        for ( WorkloadStreamDefinition stream : unlimitedWorkloadStreams.blockingStreamDefinitions() )
+        Workload workload;
+        if ( null == index )
         {
-            streams.add( stream.dependencyOperations() );
-            childOperationGenerators.add( stream.childOperationGenerator() );
+            // get workload
+            workload = workloadFactory.createWorkload();
+            workload.init( configuration );
+            // retrieve unbounded streams
+            boolean hasDbConnected = false;
+            WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, hasDbConnected );
+            List<Iterator<Operation>> streams = new ArrayList<>();
+            List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
+
+            streams.add( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations() );
+            childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
+
+            streams.add( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations() );
+            childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
+
+            for ( WorkloadStreamDefinition stream : unlimitedWorkloadStreams.blockingStreamDefinitions() )
+            {
+                streams.add( stream.dependencyOperations() );
+                childOperationGenerators.add( stream.childOperationGenerator() );
 
-            streams.add( stream.nonDependencyOperations() );
-            childOperationGenerators.add( stream.childOperationGenerator() );
-        }
+                streams.add( stream.nonDependencyOperations() );
+                childOperationGenerators.add( stream.childOperationGenerator() );
+            }
 
-        // stream through streams once, to calculate how many operations are needed from each,
-        // to get operation_count in total
-        Tuple3<long[],long[],Long> limitsAndMinimumsForStream =
-                WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
-                        streams,
-                        offset,
-                        limit,
-                        childOperationGenerators,
-                        loggingServiceFactory
-                );
-        long[] startForStream = limitsAndMinimumsForStream._1();
-        long[] limitForStream = limitsAndMinimumsForStream._2();
-        long minimumTimeStamp = limitsAndMinimumsForStream._3();
+            // stream through streams once, to calculate how many operations are needed from each,
+            // to get operation_count in total
+            Tuple3<long[],long[],Long> limitsAndMinimumsForStream =
+                    WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                            streams,
+                            offset,
+                            limit,
+                            childOperationGenerators,
+                            loggingServiceFactory
+                    );
+            index = new StreamOffsetIndex(
+                    offset,
+                    limit,
+                    limitsAndMinimumsForStream._1(),
+                    limitsAndMinimumsForStream._2(),
+                    limitsAndMinimumsForStream._3()
+            );
+
+            workload.close();
 
-        workload.close();
+            if ( null != indexFile )
+            {
+                index.writeTo( indexFile );
+                loggingService.info( format( "Created stream offset index: %s", indexFile.getAbsolutePath() ) );
+            }
+        }
+        long[] startForStream = index.startForStream();
+        long[] limitForStream = index.limitForStream();
+        long minimumTimeStamp = index.minimumTimeStamp();
 
         // ================================
         // ====== Create Limited Streams ==
@@ -302,10 +350,10 @@ public class WorkloadStreams
         workload.init( configuration );
 
         // retrieve unbounded streams
-        unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
+        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
         List<WorkloadStreamDefinition> unlimitedBlockingStreams = unlimitedWorkloadStreams.blockingStreamDefinitions();
 
-        // advance to offsets
+        // advance to offsets, compiled operation streams seek rather than read through skipped operations
         gf.consume( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(), startForStream[0] );
         gf.consume( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations(), startForStream[1] );
         for ( int i = 0; i < unlimitedBlockingStreams.size(); i++ )
@@ -0,0 +1,97 @@
+package com.ldbc.driver.client;
+
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.workloads.ClassNameWorkloadFactory;
+import com.ldbc.driver.workloads.CompiledOperationStreamsWorkload;
+import com.ldbc.driver.workloads.WorkloadFactory;
+
+import java.io.File;
+import java.text.DecimalFormat;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * Compiles the operation streams of a workload into a binary file, which can later be executed via the operation
+ * streams parameter instead of generating (e.g., parsing) operations on every run.
+ * <p/>
+ * Enough operations are compiled to execute skip, warmup & operation count operations, streams are compiled with
+ * their original (not time offset or compressed) times.
+ */
+public class CompileOperationStreamsMode implements ClientMode<Object>
+{
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+    private final long randomSeed;
+
+    private WorkloadFactory workloadFactory = null;
+
+    public CompileOperationStreamsMode( ControlService controlService, long randomSeed ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        workloadFactory = new ClassNameWorkloadFactory( configuration.workloadClassName() );
+        try ( Workload workload = workloadFactory.createWorkload() )
+        {
+            loggingService.info( format( "Loaded Workload: %s", workload.getClass().getName() ) );
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( format( "Error loading Workload class: %s",
+                    configuration.workloadClassName() ), e );
+        }
+
+        loggingService.info( "Driver Configuration" );
+        loggingService.info( controlService.toString() );
+    }
+
+    @Override
+    public Object startExecutionAndAwaitCompletion() throws ClientException
+    {
+        File operationStreamsFile = new File( controlService.configuration().compileOperationStreamsFilePath() );
+        loggingService.info(
+                format( "Compiling operation streams of %s to: %s",
+                        controlService.configuration().workloadClassName(),
+                        operationStreamsFile.getAbsolutePath() ) );
+        try
+        {
+            long[] operationCounts = CompiledOperationStreamsWorkload.compile(
+                    workloadFactory,
+                    controlService.configuration(),
+                    new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) ),
+                    operationStreamsFile,
+                    controlService.loggingServiceFactory()
+            );
+            long operationCount = 0;
+            for ( long streamOperationCount : operationCounts )
+            {
+                operationCount += streamOperationCount;
+            }
+            DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
+            loggingService.info(
+                    format( "Compiled %s operations (%s bytes), per stream: %s",
+                            numberFormat.format( operationCount ),
+                            numberFormat.format( operationStreamsFile.length() ),
+                            Arrays.toString( operationCounts ) ) );
+        }
+        catch ( WorkloadException e )
+        {
+            throw new ClientException( "Error while compiling operation streams", e );
+        }
+        return null;
+    }
+}
@@ -4,6 +4,7 @@ import com.google.common.base.Charsets;
 import com.ldbc.driver.ClientException;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.DbException;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
@@ -13,19 +14,25 @@ import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.PrometheusMetricsEndpoint;
 import com.ldbc.driver.runtime.WorkloadRunner;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.BatchingResultsLogWriter;
 import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.GarbageCollectionMonitor;
+import com.ldbc.driver.runtime.metrics.IntervalMetricsLogWriter;
 import com.ldbc.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsManager;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
 import com.ldbc.driver.runtime.metrics.NullResultsLogWriter;
 import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
-import com.ldbc.driver.runtime.metrics.SimpleResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.ThreadLocalHistogramMetricsService;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 import com.ldbc.driver.temporal.TemporalUtil;
@@ -48,7 +55,7 @@ import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 
-public class ExecuteWorkloadMode implements ClientMode<Object>
+public class ExecuteWorkloadMode implements ClientMode<WorkloadResultsSnapshot>
 {
     private final ControlService controlService;
     private final TimeSource timeSource;
@@ -63,6 +70,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     private CompletionTimeService completionTimeService = null;
     private WorkloadRunner workloadRunner = null;
     private ResultsLogWriter resultsLogWriter = null;
+    private IntervalMetricsLogWriter intervalMetricsLogWriter = null;
 
     public ExecuteWorkloadMode(
             ControlService controlService,
@@ -93,8 +101,11 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         loggingService.info( controlService.toString() );
     }
 
+    /**
+     * @return metrics of the measurement phase
+     */
     @Override
-    public Object startExecutionAndAwaitCompletion() throws ClientException
+    public WorkloadResultsSnapshot startExecutionAndAwaitCompletion() throws ClientException
     {
         if ( controlService.configuration().warmupCount() > 0 )
         {
@@ -129,7 +140,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                              " --- Run Phase ---\n" +
                              " -----------------" );
         doInit( false );
-        doExecute( false );
+        WorkloadResultsSnapshot workloadResults = doExecute( false );
 
         try
         {
@@ -144,7 +155,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
             throw new ClientException( "Error shutting down database", e );
         }
         loggingService.info( "Workload completed successfully" );
-        return null;
+        return workloadResults;
     }
 
     private void doInit( boolean warmup ) throws ClientException
@@ -160,7 +171,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             resultsLogWriter = (null == resultsLog)
                                ? new NullResultsLogWriter()
-                               : new SimpleResultsLogWriter( resultsLog, controlService.configuration().timeUnit() );
+                               : new BatchingResultsLogWriter( resultsLog, controlService.configuration().timeUnit() );
         }
         catch ( IOException e )
         {
@@ -247,18 +258,57 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         //  ========================
         //  ===  Metrics Service  ==
         //  ========================
+        File intervalMetricsLog = resultsDirectory.getOrCreateIntervalMetricsLogFile( warmup );
+        try
+        {
+            intervalMetricsLogWriter = (null == intervalMetricsLog)
+                                       ? null
+                                       : new IntervalMetricsLogWriter( intervalMetricsLog );
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException(
+                    format( "Error creating interval metrics log writer for: %s",
+                            intervalMetricsLog.getAbsolutePath() ), e );
+        }
         try
         {
             // TODO create metrics service factory so different ones can be easily created
-            metricsService = new DisruptorSbeMetricsService(
-                    timeSource,
-                    errorReporter,
-                    controlService.configuration().timeUnit(),
-                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
-                    resultsLogWriter,
-                    workload.operationTypeToClassMapping(),
-                    controlService.loggingServiceFactory()
-            );
+            // thread local histograms can not produce a results log, only use them when none is written
+            if ( MetricsServiceType.THREAD_LOCAL == controlService.configuration().metricsServiceType() &&
+                 null == resultsLog )
+            {
+                metricsService = new ThreadLocalHistogramMetricsService(
+                        timeSource,
+                        errorReporter,
+                        controlService.configuration().timeUnit(),
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        workload.operationTypeToClassMapping(),
+                        controlService.loggingServiceFactory(),
+                        ThreadLocalHistogramMetricsService.DEFAULT_MERGE_INTERVAL_AS_MILLI,
+                        controlService.configuration().metricsIntervalAsMilli(),
+                        intervalMetricsLogWriter
+                );
+            }
+            else
+            {
+                metricsService = new DisruptorSbeMetricsService(
+                        timeSource,
+                        errorReporter,
+                        controlService.configuration().timeUnit(),
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        resultsLogWriter,
+                        workload.operationTypeToClassMapping(),
+                        controlService.loggingServiceFactory(),
+                        controlService.configuration().metricsRingSize(),
+                        controlService.configuration().metricsWaitStrategyType(),
+                        controlService.configuration().metricsHandlerCount(),
+                        controlService.configuration().metricsIntervalAsMilli(),
+                        intervalMetricsLogWriter
+                );
+            }
+            metricsService.setDbConnectionStatePool( database.dbConnectionStatePool() );
+            loggingService.info( format( "Metrics service: %s", metricsService.getClass().getSimpleName() ) );
         }
         catch ( MetricsCollectionException e )
         {
@@ -271,11 +321,24 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         CompletionTimeServiceAssistant completionTimeServiceAssistant = new CompletionTimeServiceAssistant();
         try
         {
-            completionTimeService =
-                    completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
-                            timeSource,
-                            errorReporter
-                    );
+            if ( CompletionTimeServiceType.LOCK_FREE == controlService.configuration().completionTimeServiceType() )
+            {
+                completionTimeService =
+                        completionTimeServiceAssistant.newLockFreeCompletionTimeService(
+                                controlService.configuration().completionTimeTrackerType()
+                        );
+            }
+            else
+            {
+                completionTimeService =
+                        completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
+                                timeSource,
+                                errorReporter,
+                                controlService.configuration().completionTimeTrackerType()
+                        );
+            }
+            loggingService.info(
+                    format( "Completion time service: %s", completionTimeService.getClass().getSimpleName() ) );
         }
         catch ( CompletionTimeException e )
         {
@@ -301,7 +364,9 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    operationHandlerExecutorsBoundedQueueSize );
+                    operationHandlerExecutorsBoundedQueueSize,
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().maxInFlightAsynchronousOperations() );
         }
         catch ( Exception e )
         {
@@ -367,8 +432,33 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         }
     }
 
-    private void doExecute( boolean warmup ) throws ClientException
+    private WorkloadResultsSnapshot doExecute( boolean warmup ) throws ClientException
     {
+        GarbageCollectionMonitor garbageCollectionMonitor = new GarbageCollectionMonitor();
+        garbageCollectionMonitor.start();
+        PrometheusMetricsEndpoint metricsEndpoint = null;
+        if ( controlService.configuration().metricsPort() > 0 )
+        {
+            try
+            {
+                metricsEndpoint = new PrometheusMetricsEndpoint(
+                        controlService.configuration().metricsPort(),
+                        warmup,
+                        metricsService,
+                        completionTimeService,
+                        workloadRunner::uncompletedOperationHandlerCount,
+                        controlService.loggingServiceFactory()
+                );
+                metricsEndpoint.start();
+            }
+            catch ( Exception e )
+            {
+                throw new ClientException(
+                        format( "Error starting metrics endpoint on port: %s",
+                                controlService.configuration().metricsPort() ), e );
+            }
+        }
+
         try
         {
             ConcurrentErrorReporter errorReporter = workloadRunner.getFuture().get();
@@ -383,6 +473,14 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Error running workload", e );
         }
+        finally
+        {
+            garbageCollectionMonitor.stop();
+            if ( null != metricsEndpoint )
+            {
+                metricsEndpoint.stop();
+            }
+        }
 
         loggingService.info( "Shutting down completion time service..." );
         try
@@ -405,6 +503,17 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Error during shutdown of metrics collection service", e );
         }
+        if ( null != intervalMetricsLogWriter )
+        {
+            try
+            {
+                intervalMetricsLogWriter.close();
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException( "Error closing interval metrics log writer", e );
+            }
+        }
 
         try
         {
@@ -416,6 +525,12 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
             {
                 loggingService.detailedResult( workloadResults );
             }
+            loggingService.info( format( "Connection state acquisition: %s", database.dbConnectionStatePool() ) );
+            loggingService.info( format( "Garbage collection: %s", garbageCollectionMonitor ) );
+            for ( OperationPool operationPool : workload.operationPools() )
+            {
+                loggingService.info( format( "Operation pool: %s", operationPool ) );
+            }
             if ( resultsDirectory.exists() )
             {
                 File resultsSummaryFile = resultsDirectory.getOrCreateResultsSummaryFile( warmup );
@@ -440,9 +555,10 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     ResultsLogValidator resultsLogValidator = new ResultsLogValidator();
                     ResultsLogValidationTolerances resultsLogValidationTolerances =
                             workload.resultsLogValidationTolerances( controlService.configuration(), warmup );
-                    ResultsLogValidationSummary resultsLogValidationSummary = resultsLogValidator.compute(
+                    ResultsLogValidationSummary resultsLogValidationSummary = resultsLogValidator.computeInParallel(
                             resultsDirectory.getOrCreateResultsLogFile( warmup ),
-                            resultsLogValidationTolerances.excessiveDelayThresholdAsMilli()
+                            resultsLogValidationTolerances.excessiveDelayThresholdAsMilli(),
+                            Runtime.getRuntime().availableProcessors()
                     );
                     File resultsValidationFile = resultsDirectory.getOrCreateResultsValidationFile( warmup );
                     loggingService.info(
@@ -470,5 +586,6 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Could not export workload metrics", e );
         }
+        return workloadResults;
     }
 }
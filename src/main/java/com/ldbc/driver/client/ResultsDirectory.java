@@ -45,6 +45,7 @@ public class ResultsDirectory
     private static final String RESULTS_LOG_FILENAME_SUFFIX = "-results_log.csv";
     private static final String RESULTS_METRICS_FILENAME_SUFFIX = "-results.json";
     private static final String RESULTS_CONFIGURATION_FILENAME_SUFFIX = "-configuration.properties";
+    private static final String RESULTS_INTERVAL_METRICS_FILENAME_SUFFIX = "-results.hlog";
 
     private static final String RESULTS_VALIDATION_FILENAME_SUFFIX = "-validation.json";
 
@@ -118,6 +119,36 @@ public class ResultsDirectory
         return getResultsLogFile( resultsDir, configuration, warmup );
     }
 
+    /**
+     * @return interval metrics log, or null if there is no results directory or interval metrics are disabled
+     */
+    File getOrCreateIntervalMetricsLogFile( boolean warmup ) throws ClientException
+    {
+        if ( null == resultsDir || 0 == configuration.metricsIntervalAsMilli() )
+        {
+            return null;
+        }
+        File intervalMetricsLog = getIntervalMetricsLogFile( warmup );
+        if ( !intervalMetricsLog.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( intervalMetricsLog );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        "Error creating interval metrics log file: " + intervalMetricsLog.getAbsolutePath(), e );
+            }
+        }
+        return intervalMetricsLog;
+    }
+
+    private File getIntervalMetricsLogFile( boolean warmup ) throws ClientException
+    {
+        return new File( resultsDir, intervalMetricsLogFilename( configuration, warmup ) );
+    }
+
     public long getResultsLogFileLength( boolean warmup ) throws ClientException
     {
         try ( SimpleCsvFileReader csvResultsLogReader = new SimpleCsvFileReader(
@@ -225,6 +256,10 @@ public class ResultsDirectory
                 expectedFiles.add( getResultsLogFile( true ) );
                 expectedFiles.add( getResultsSummaryFile( true ) );
                 expectedFiles.add( getConfigurationFile( true ) );
+                if ( configuration.metricsIntervalAsMilli() > 0 )
+                {
+                    expectedFiles.add( getIntervalMetricsLogFile( true ) );
+                }
             }
             if ( !configuration.ignoreScheduledStartTimes() )
             {
@@ -233,6 +268,10 @@ public class ResultsDirectory
             expectedFiles.add( getResultsLogFile( false ) );
             expectedFiles.add( getResultsSummaryFile( false ) );
             expectedFiles.add( getConfigurationFile( false ) );
+            if ( configuration.metricsIntervalAsMilli() > 0 )
+            {
+                expectedFiles.add( getIntervalMetricsLogFile( false ) );
+            }
             return expectedFiles;
         }
     }
@@ -377,4 +416,10 @@ public class ResultsDirectory
         return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_CONFIGURATION_FILENAME_SUFFIX
                         : configuration.name() + RESULTS_CONFIGURATION_FILENAME_SUFFIX;
     }
+
+    private static String intervalMetricsLogFilename( DriverConfiguration configuration, boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_INTERVAL_METRICS_FILENAME_SUFFIX
+                        : configuration.name() + RESULTS_INTERVAL_METRICS_FILENAME_SUFFIX;
+    }
 }
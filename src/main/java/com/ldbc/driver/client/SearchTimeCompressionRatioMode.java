@@ -0,0 +1,236 @@
+package com.ldbc.driver.client;
+
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.LocalControlService;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.OperationMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.util.ClassLoaderHelper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Searches for the lowest time compression ratio, i.e., highest throughput, at which the driver keeps up with the
+ * workload schedule, so that results would pass validation.
+ * <p/>
+ * Rather than executing the whole workload, short probes are executed, each one a complete run (without warmup) of
+ * the configured probe operation count at a different time compression ratio. A probe is sustainable if the 95th
+ * percentile start delay of every operation type is within the excessive delay threshold of the workload's results
+ * log validation tolerances.
+ * <p/>
+ * Probes execute against the same database, so each one skips the operations of the probes before it, rather than
+ * replaying them. Probes together execute one contiguous window of the workload, in order, so no update is applied
+ * twice, and the workload must have at least as many operations as are probed.
+ * <p/>
+ * Starting from the configured time compression ratio, the ratio is halved while probes are sustainable, or doubled
+ * while they are not, until a sustainable & an unsustainable ratio are known. The ratio is then bisected, until the
+ * two are within {@link #PRECISION} of each other or {@link #MAX_PROBE_COUNT} probes have been executed.
+ */
+public class SearchTimeCompressionRatioMode implements ClientMode<Double>
+{
+    static final int MAX_PROBE_COUNT = 16;
+    static final double PRECISION = 0.05;
+
+    private final ControlService controlService;
+    private final TimeSource timeSource;
+    private final LoggingService loggingService;
+    private final long randomSeed;
+
+    private long excessiveDelayThresholdAsMilli = -1;
+    private int executedProbeCount = 0;
+
+    public SearchTimeCompressionRatioMode(
+            ControlService controlService,
+            TimeSource timeSource,
+            long randomSeed ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.timeSource = timeSource;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        if ( configuration.ignoreScheduledStartTimes() )
+        {
+            throw new ClientException(
+                    "Time compression ratio search requires scheduled start times, they are currently ignored" );
+        }
+        try ( Workload workload = ClassLoaderHelper.loadWorkload( configuration.workloadClassName() ) )
+        {
+            workload.init( configuration );
+            excessiveDelayThresholdAsMilli =
+                    workload.resultsLogValidationTolerances( configuration, false ).excessiveDelayThresholdAsMilli();
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException(
+                    format( "Error loading Workload class: %s", configuration.workloadClassName() ), e );
+        }
+        loggingService.info( "Driver Configuration" );
+        loggingService.info( controlService.toString() );
+    }
+
+    /**
+     * @return lowest sustainable time compression ratio found
+     */
+    @Override
+    public Double startExecutionAndAwaitCompletion() throws ClientException
+    {
+        double timeCompressionRatio = search(
+                controlService.configuration().timeCompressionRatio(),
+                this::probeIsSustainable
+        );
+        loggingService.info( format( "Lowest sustainable time compression ratio: %s\n" +
+                                     "Use it with: -%s %s",
+                timeCompressionRatio,
+                ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                timeCompressionRatio ) );
+        return timeCompressionRatio;
+    }
+
+    static double search( double initialTimeCompressionRatio, Probe probe ) throws ClientException
+    {
+        double lowestSustainable = Double.NaN;
+        double highestUnsustainable = Double.NaN;
+        double timeCompressionRatio = initialTimeCompressionRatio;
+        for ( int probeCount = 0; probeCount < MAX_PROBE_COUNT; probeCount++ )
+        {
+            if ( probe.isSustainable( timeCompressionRatio ) )
+            {
+                lowestSustainable = timeCompressionRatio;
+            }
+            else
+            {
+                highestUnsustainable = timeCompressionRatio;
+            }
+
+            if ( Double.isNaN( highestUnsustainable ) )
+            {
+                // speed up until driver can no longer keep up
+                timeCompressionRatio = timeCompressionRatio / 2;
+            }
+            else if ( Double.isNaN( lowestSustainable ) )
+            {
+                // back off until driver can keep up
+                timeCompressionRatio = timeCompressionRatio * 2;
+            }
+            else if ( lowestSustainable / highestUnsustainable <= 1 + PRECISION )
+            {
+                break;
+            }
+            else
+            {
+                // ratios are bisected geometrically, as throughput is proportional to the inverse of the ratio
+                timeCompressionRatio = Math.sqrt( lowestSustainable * highestUnsustainable );
+            }
+        }
+        if ( Double.isNaN( lowestSustainable ) )
+        {
+            throw new ClientException(
+                    format( "No sustainable time compression ratio found after %s probes, highest probed: %s",
+                            MAX_PROBE_COUNT, highestUnsustainable ) );
+        }
+        return lowestSustainable;
+    }
+
+    private boolean probeIsSustainable( double timeCompressionRatio ) throws ClientException
+    {
+        DriverConfiguration probeConfiguration;
+        try
+        {
+            long probeOperationCount = controlService.configuration().timeCompressionRatioSearchProbeCount();
+            Map<String,String> probeArgs = new HashMap<>();
+            probeArgs.put( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                    Double.toString( timeCompressionRatio ) );
+            probeArgs.put( ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG,
+                    Long.toString( probeOperationCount ) );
+            probeArgs.put( ConsoleAndFileDriverConfiguration.SKIP_COUNT_ARG,
+                    Long.toString( probeSkipCount(
+                            controlService.configuration().skipCount(),
+                            probeOperationCount,
+                            executedProbeCount ) ) );
+            probeArgs.put( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, "0" );
+            probeArgs.put( ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG, null );
+            probeArgs.put( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_SEARCH_ARG, "0" );
+            probeConfiguration = controlService.configuration().applyArgs( probeArgs );
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( "Error creating probe configuration", e );
+        }
+
+        loggingService.info( format( "Probing time compression ratio: %s", timeCompressionRatio ) );
+        ControlService probeControlService = new LocalControlService(
+                controlService.workloadStartTimeAsMilli(),
+                probeConfiguration,
+                controlService.loggingServiceFactory(),
+                timeSource
+        );
+        ExecuteWorkloadMode probe = new ExecuteWorkloadMode( probeControlService, timeSource, randomSeed );
+        probe.init();
+        WorkloadResultsSnapshot probeResults = probe.startExecutionAndAwaitCompletion();
+        executedProbeCount++;
+        if ( 0 == probeResults.totalOperationCount() )
+        {
+            throw new ClientException(
+                    format( "Workload has no operations left to probe with after %s probes, reduce probe count",
+                            executedProbeCount - 1 ) );
+        }
+
+        long highestStartDelayAsMilli = highestStartDelayPercentileAsMilli( probeResults );
+        boolean sustainable = highestStartDelayAsMilli <= excessiveDelayThresholdAsMilli;
+        loggingService.info( format( "Time compression ratio: %s, 95th percentile start delay: %s ms, " +
+                                     "threshold: %s ms --> %s",
+                timeCompressionRatio,
+                highestStartDelayAsMilli,
+                excessiveDelayThresholdAsMilli,
+                (sustainable) ? "SUSTAINABLE" : "NOT SUSTAINABLE" ) );
+        return sustainable;
+    }
+
+    /**
+     * @return operations to skip before a probe, past the configured skip and the operations of every earlier probe
+     */
+    static long probeSkipCount( long skipCount, long probeOperationCount, int executedProbeCount )
+    {
+        return skipCount + probeOperationCount * executedProbeCount;
+    }
+
+    static long highestStartDelayPercentileAsMilli( WorkloadResultsSnapshot results )
+    {
+        long highestStartDelayAsMilli = 0;
+        for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+        {
+            ContinuousMetricSnapshot startDelayMetric = operationMetrics.startDelayMetric();
+            if ( null != startDelayMetric && startDelayMetric.count() > 0 )
+            {
+                highestStartDelayAsMilli = Math.max(
+                        highestStartDelayAsMilli,
+                        startDelayMetric.unit().toMillis( startDelayMetric.percentile95() )
+                );
+            }
+        }
+        return highestStartDelayAsMilli;
+    }
+
+    interface Probe
+    {
+        /**
+         * @return true if driver keeps up with workload schedule at given time compression ratio
+         */
+        boolean isSustainable( double timeCompressionRatio ) throws ClientException;
+    }
+}
@@ -112,7 +112,8 @@ public class ValidateDatabaseMode implements ClientMode<DbValidationResult>
                         validationParams,
                         db,
                         validationParamsCount,
-                        w
+                        w,
+                        controlService.configuration().threadCount()
                 );
             }
             catch ( WorkloadException e )
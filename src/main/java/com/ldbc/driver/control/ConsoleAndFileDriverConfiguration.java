@@ -3,6 +3,11 @@ package com.ldbc.driver.control;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.Client;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.coordination.CompletionTimeTrackerType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.MetricsWaitStrategyType;
 import com.ldbc.driver.temporal.TemporalUtil;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
@@ -166,6 +171,133 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             format( "number of operations to execute during warmup phase (default: %s)",
                     WARMUP_COUNT_DEFAULT_STRING );
 
+    public static final String COMPLETION_TIME_TRACKER_ARG = "ctt";
+    private static final String COMPLETION_TIME_TRACKER_ARG_LONG = "completion_time_tracker";
+    public static final CompletionTimeTrackerType COMPLETION_TIME_TRACKER_DEFAULT = CompletionTimeTrackerType.PRIMITIVE;
+    public static final String COMPLETION_TIME_TRACKER_DEFAULT_STRING = COMPLETION_TIME_TRACKER_DEFAULT.name();
+    private static final String COMPLETION_TIME_TRACKER_DESCRIPTION = format(
+            "data structure used to track initiated & completed times, when computing completion time. default:%s, "
+            + "valid:%s", COMPLETION_TIME_TRACKER_DEFAULT_STRING,
+            Arrays.toString( CompletionTimeTrackerType.values() ) );
+
+    public static final String COMPLETION_TIME_SERVICE_ARG = "cts";
+    private static final String COMPLETION_TIME_SERVICE_ARG_LONG = "completion_time_service";
+    public static final CompletionTimeServiceType COMPLETION_TIME_SERVICE_DEFAULT =
+            CompletionTimeServiceType.THREADED_QUEUED;
+    public static final String COMPLETION_TIME_SERVICE_DEFAULT_STRING = COMPLETION_TIME_SERVICE_DEFAULT.name();
+    private static final String COMPLETION_TIME_SERVICE_DESCRIPTION = format(
+            "service that computes completion time, %s computes it on the threads that submit initiated & completed "
+            + "times instead of on one service thread. default:%s, valid:%s",
+            CompletionTimeServiceType.LOCK_FREE.name(), COMPLETION_TIME_SERVICE_DEFAULT_STRING,
+            Arrays.toString( CompletionTimeServiceType.values() ) );
+
+    public static final String OPERATION_EXECUTOR_ARG = "oet";
+    private static final String OPERATION_EXECUTOR_ARG_LONG = "operation_executor";
+    public static final OperationExecutorType OPERATION_EXECUTOR_DEFAULT = OperationExecutorType.THREAD_POOL;
+    public static final String OPERATION_EXECUTOR_DEFAULT_STRING = OPERATION_EXECUTOR_DEFAULT.name();
+    private static final String OPERATION_EXECUTOR_DESCRIPTION = format(
+            "executor used to run operations of the asynchronous stream, for %s thread count is the maximum number "
+            + "of in-flight operations, %s also runs blocking streams, on one pool of thread count threads. "
+            + "default:%s, valid:%s", OperationExecutorType.VIRTUAL_THREAD.name(),
+            OperationExecutorType.WORK_STEALING.name(), OPERATION_EXECUTOR_DEFAULT_STRING,
+            Arrays.toString( OperationExecutorType.values() ) );
+
+    public static final String MAX_IN_FLIGHT_ASYNC_ARG = "mia";
+    private static final String MAX_IN_FLIGHT_ASYNC_ARG_LONG = "max_in_flight_async";
+    public static final int MAX_IN_FLIGHT_ASYNC_DEFAULT = 1024;
+    public static final String MAX_IN_FLIGHT_ASYNC_DEFAULT_STRING = Integer.toString( MAX_IN_FLIGHT_ASYNC_DEFAULT );
+    private static final String MAX_IN_FLIGHT_ASYNC_DESCRIPTION = format(
+            "maximum number of operations with asynchronous handlers in flight at once, for %s executor "
+            + "(default: %s)", OperationExecutorType.THREAD_POOL.name(), MAX_IN_FLIGHT_ASYNC_DEFAULT_STRING );
+
+    public static final String COMPILE_OPERATION_STREAMS_ARG = "cos";
+    private static final String COMPILE_OPERATION_STREAMS_ARG_LONG = "compile_operation_streams";
+    public static final String COMPILE_OPERATION_STREAMS_DEFAULT = null;
+    public static final String COMPILE_OPERATION_STREAMS_DEFAULT_STRING = COMPILE_OPERATION_STREAMS_DEFAULT;
+    private static final String COMPILE_OPERATION_STREAMS_DESCRIPTION =
+            "path to where compiled (binary) operation streams file should be created, if provided workload "
+            + "streams will be compiled instead of executed";
+
+    public static final String OPERATION_STREAMS_ARG = "os";
+    private static final String OPERATION_STREAMS_ARG_LONG = "operation_streams";
+    public static final String OPERATION_STREAMS_DEFAULT = null;
+    public static final String OPERATION_STREAMS_DEFAULT_STRING = OPERATION_STREAMS_DEFAULT;
+    private static final String OPERATION_STREAMS_DESCRIPTION =
+            "path to compiled (binary) operation streams file, if provided operations are read from it "
+            + "rather than generated by the workload";
+
+    public static final String STREAM_OFFSET_INDEX_ARG = "soi";
+    private static final String STREAM_OFFSET_INDEX_ARG_LONG = "stream_offset_index";
+    public static final String STREAM_OFFSET_INDEX_DEFAULT = null;
+    public static final String STREAM_OFFSET_INDEX_DEFAULT_STRING = STREAM_OFFSET_INDEX_DEFAULT;
+    private static final String STREAM_OFFSET_INDEX_DESCRIPTION =
+            "directory where stream offset indexes are cached, if provided the operations to skip & execute from "
+            + "each stream are only calculated the first time a workload is run with a given configuration";
+
+    public static final String METRICS_RING_SIZE_ARG = "mrs";
+    private static final String METRICS_RING_SIZE_ARG_LONG = "metrics_ring_size";
+    public static final int METRICS_RING_SIZE_DEFAULT = 1024;
+    public static final String METRICS_RING_SIZE_DEFAULT_STRING = Integer.toString( METRICS_RING_SIZE_DEFAULT );
+    private static final String METRICS_RING_SIZE_DESCRIPTION = format(
+            "size of ring buffer through which operation results are passed to metrics collection, must be a "
+            + "power of 2 (default: %s)", METRICS_RING_SIZE_DEFAULT_STRING );
+
+    public static final String METRICS_WAIT_STRATEGY_ARG = "mws";
+    private static final String METRICS_WAIT_STRATEGY_ARG_LONG = "metrics_wait_strategy";
+    public static final MetricsWaitStrategyType METRICS_WAIT_STRATEGY_DEFAULT = MetricsWaitStrategyType.BLOCKING;
+    public static final String METRICS_WAIT_STRATEGY_DEFAULT_STRING = METRICS_WAIT_STRATEGY_DEFAULT.name();
+    private static final String METRICS_WAIT_STRATEGY_DESCRIPTION = format(
+            "strategy metrics event handlers use to wait for operation results. default:%s, valid:%s",
+            METRICS_WAIT_STRATEGY_DEFAULT_STRING, Arrays.toString( MetricsWaitStrategyType.values() ) );
+
+    public static final String METRICS_HANDLER_COUNT_ARG = "mhc";
+    private static final String METRICS_HANDLER_COUNT_ARG_LONG = "metrics_handler_count";
+    public static final int METRICS_HANDLER_COUNT_DEFAULT = 1;
+    public static final String METRICS_HANDLER_COUNT_DEFAULT_STRING =
+            Integer.toString( METRICS_HANDLER_COUNT_DEFAULT );
+    private static final String METRICS_HANDLER_COUNT_DESCRIPTION = format(
+            "number of metrics event handlers, each recording metrics of a disjoint subset of operation types "
+            + "on its own thread (default: %s)", METRICS_HANDLER_COUNT_DEFAULT_STRING );
+
+    public static final String METRICS_SERVICE_ARG = "mst";
+    private static final String METRICS_SERVICE_ARG_LONG = "metrics_service";
+    public static final MetricsServiceType METRICS_SERVICE_DEFAULT = MetricsServiceType.DISRUPTOR;
+    public static final String METRICS_SERVICE_DEFAULT_STRING = METRICS_SERVICE_DEFAULT.name();
+    private static final String METRICS_SERVICE_DESCRIPTION = format(
+            "service used to collect operation metrics, THREAD_LOCAL is only used when no results log is written, "
+            + "it allocates six histograms per operation type per executor thread, roughly 3.9MB with milliseconds "
+            + "as time unit, 7.9MB with microseconds, 11.8MB with nanoseconds. default:%s, valid:%s",
+            METRICS_SERVICE_DEFAULT_STRING, Arrays.toString( MetricsServiceType.values() ) );
+
+    public static final String METRICS_INTERVAL_ARG = "mi";
+    private static final String METRICS_INTERVAL_ARG_LONG = "metrics_interval";
+    public static final long METRICS_INTERVAL_DEFAULT = 0;
+    public static final String METRICS_INTERVAL_DEFAULT_STRING = Long.toString( METRICS_INTERVAL_DEFAULT );
+    private static final String METRICS_INTERVAL_DESCRIPTION = format(
+            "duration (ms) of intervals for which latency histograms are recorded per operation type, and written "
+            + "to an HdrHistogram log in results directory, 0 disables interval recording (default: %s)",
+            METRICS_INTERVAL_DEFAULT_STRING );
+
+    public static final String METRICS_PORT_ARG = "mp";
+    private static final String METRICS_PORT_ARG_LONG = "metrics_port";
+    public static final int METRICS_PORT_DEFAULT = 0;
+    public static final String METRICS_PORT_DEFAULT_STRING = Integer.toString( METRICS_PORT_DEFAULT );
+    private static final String METRICS_PORT_DESCRIPTION = format(
+            "port of HTTP endpoint that serves live metrics in Prometheus text format at /metrics, "
+            + "0 disables the endpoint (default: %s)",
+            METRICS_PORT_DEFAULT_STRING );
+
+    public static final String TIME_COMPRESSION_RATIO_SEARCH_ARG = "tcrs";
+    private static final String TIME_COMPRESSION_RATIO_SEARCH_ARG_LONG = "time_compression_ratio_search";
+    public static final long TIME_COMPRESSION_RATIO_SEARCH_DEFAULT = 0;
+    public static final String TIME_COMPRESSION_RATIO_SEARCH_DEFAULT_STRING =
+            Long.toString( TIME_COMPRESSION_RATIO_SEARCH_DEFAULT );
+    private static final String TIME_COMPRESSION_RATIO_SEARCH_DESCRIPTION = format(
+            "search for lowest sustainable time compression ratio instead of executing workload, by executing "
+            + "probes of this many operations, each one after the operations of the previous probe, 0 disables search "
+            + "(default: %s)",
+            TIME_COMPRESSION_RATIO_SEARCH_DEFAULT_STRING );
+
     public static final String PROPERTY_FILE_ARG = "P";
     private static final String PROPERTY_FILE_DESCRIPTION =
             "load properties from file(s) - files will be loaded in the order provided\n" +
@@ -207,6 +339,29 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         defaultParamsMap.put( SPINNER_SLEEP_DURATION_ARG, SPINNER_SLEEP_DURATION_DEFAULT_STRING );
         defaultParamsMap.put( WARMUP_COUNT_ARG, WARMUP_COUNT_DEFAULT_STRING );
         defaultParamsMap.put( SKIP_COUNT_ARG, SKIP_COUNT_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_TRACKER_ARG, COMPLETION_TIME_TRACKER_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_SERVICE_ARG, COMPLETION_TIME_SERVICE_DEFAULT_STRING );
+        defaultParamsMap.put( OPERATION_EXECUTOR_ARG, OPERATION_EXECUTOR_DEFAULT_STRING );
+        defaultParamsMap.put( MAX_IN_FLIGHT_ASYNC_ARG, MAX_IN_FLIGHT_ASYNC_DEFAULT_STRING );
+        if ( null != COMPILE_OPERATION_STREAMS_DEFAULT_STRING )
+        {
+            defaultParamsMap.put( COMPILE_OPERATION_STREAMS_ARG, COMPILE_OPERATION_STREAMS_DEFAULT_STRING );
+        }
+        if ( null != OPERATION_STREAMS_DEFAULT_STRING )
+        {
+            defaultParamsMap.put( OPERATION_STREAMS_ARG, OPERATION_STREAMS_DEFAULT_STRING );
+        }
+        if ( null != STREAM_OFFSET_INDEX_DEFAULT_STRING )
+        {
+            defaultParamsMap.put( STREAM_OFFSET_INDEX_ARG, STREAM_OFFSET_INDEX_DEFAULT_STRING );
+        }
+        defaultParamsMap.put( METRICS_RING_SIZE_ARG, METRICS_RING_SIZE_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_WAIT_STRATEGY_ARG, METRICS_WAIT_STRATEGY_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_HANDLER_COUNT_ARG, METRICS_HANDLER_COUNT_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_SERVICE_ARG, METRICS_SERVICE_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_INTERVAL_ARG, METRICS_INTERVAL_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_PORT_ARG, METRICS_PORT_DEFAULT_STRING );
+        defaultParamsMap.put( TIME_COMPRESSION_RATIO_SEARCH_ARG, TIME_COMPRESSION_RATIO_SEARCH_DEFAULT_STRING );
         return defaultParamsMap;
     }
 
@@ -250,10 +405,54 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         {
             paramsMap = convertLongKeysToShortKeys( paramsMap );
 
+            if ( paramsMap.containsKey( COMPLETION_TIME_TRACKER_ARG ) )
+            {
+                assertValidCompletionTimeTracker( paramsMap.get( COMPLETION_TIME_TRACKER_ARG ) );
+            }
+            if ( paramsMap.containsKey( COMPLETION_TIME_SERVICE_ARG ) )
+            {
+                assertValidCompletionTimeService( paramsMap.get( COMPLETION_TIME_SERVICE_ARG ) );
+            }
+            if ( paramsMap.containsKey( OPERATION_EXECUTOR_ARG ) )
+            {
+                assertValidOperationExecutor( paramsMap.get( OPERATION_EXECUTOR_ARG ) );
+            }
+            if ( paramsMap.containsKey( MAX_IN_FLIGHT_ASYNC_ARG ) )
+            {
+                assertValidMaxInFlightAsync( paramsMap.get( MAX_IN_FLIGHT_ASYNC_ARG ) );
+            }
             if ( paramsMap.containsKey( TIME_UNIT_ARG ) )
             {
                 assertValidTimeUnit( paramsMap.get( TIME_UNIT_ARG ) );
             }
+            if ( paramsMap.containsKey( METRICS_RING_SIZE_ARG ) )
+            {
+                assertValidMetricsRingSize( paramsMap.get( METRICS_RING_SIZE_ARG ) );
+            }
+            if ( paramsMap.containsKey( METRICS_WAIT_STRATEGY_ARG ) )
+            {
+                assertValidMetricsWaitStrategy( paramsMap.get( METRICS_WAIT_STRATEGY_ARG ) );
+            }
+            if ( paramsMap.containsKey( METRICS_HANDLER_COUNT_ARG ) )
+            {
+                assertValidMetricsHandlerCount( paramsMap.get( METRICS_HANDLER_COUNT_ARG ) );
+            }
+            if ( paramsMap.containsKey( METRICS_SERVICE_ARG ) )
+            {
+                assertValidMetricsService( paramsMap.get( METRICS_SERVICE_ARG ) );
+            }
+            if ( paramsMap.containsKey( METRICS_INTERVAL_ARG ) )
+            {
+                assertValidMetricsInterval( paramsMap.get( METRICS_INTERVAL_ARG ) );
+            }
+            if ( paramsMap.containsKey( METRICS_PORT_ARG ) )
+            {
+                assertValidMetricsPort( paramsMap.get( METRICS_PORT_ARG ) );
+            }
+            if ( paramsMap.containsKey( TIME_COMPRESSION_RATIO_SEARCH_ARG ) )
+            {
+                assertValidTimeCompressionRatioSearch( paramsMap.get( TIME_COMPRESSION_RATIO_SEARCH_ARG ) );
+            }
 
             paramsMap = MapUtils.mergeMaps( paramsMap, defaultsAsMap(), false );
 
@@ -280,6 +479,25 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean printHelp = Boolean.parseBoolean( paramsMap.get( HELP_ARG ) );
             boolean ignoreScheduledStartTimes =
                     Boolean.parseBoolean( paramsMap.get( IGNORE_SCHEDULED_START_TIMES_ARG ) );
+            CompletionTimeTrackerType completionTimeTrackerType =
+                    CompletionTimeTrackerType.valueOf( paramsMap.get( COMPLETION_TIME_TRACKER_ARG ) );
+            CompletionTimeServiceType completionTimeServiceType =
+                    CompletionTimeServiceType.valueOf( paramsMap.get( COMPLETION_TIME_SERVICE_ARG ) );
+            OperationExecutorType operationExecutorType =
+                    OperationExecutorType.valueOf( paramsMap.get( OPERATION_EXECUTOR_ARG ) );
+            int maxInFlightAsynchronousOperations = Integer.parseInt( paramsMap.get( MAX_IN_FLIGHT_ASYNC_ARG ) );
+            String compileOperationStreamsFilePath = paramsMap.get( COMPILE_OPERATION_STREAMS_ARG );
+            String operationStreamsFilePath = paramsMap.get( OPERATION_STREAMS_ARG );
+            String streamOffsetIndexDirPath = paramsMap.get( STREAM_OFFSET_INDEX_ARG );
+            int metricsRingSize = Integer.parseInt( paramsMap.get( METRICS_RING_SIZE_ARG ) );
+            MetricsWaitStrategyType metricsWaitStrategyType =
+                    MetricsWaitStrategyType.valueOf( paramsMap.get( METRICS_WAIT_STRATEGY_ARG ) );
+            int metricsHandlerCount = Integer.parseInt( paramsMap.get( METRICS_HANDLER_COUNT_ARG ) );
+            MetricsServiceType metricsServiceType = MetricsServiceType.valueOf( paramsMap.get( METRICS_SERVICE_ARG ) );
+            long metricsIntervalAsMilli = Long.parseLong( paramsMap.get( METRICS_INTERVAL_ARG ) );
+            int metricsPort = Integer.parseInt( paramsMap.get( METRICS_PORT_ARG ) );
+            long timeCompressionRatioSearchProbeCount =
+                    Long.parseLong( paramsMap.get( TIME_COMPRESSION_RATIO_SEARCH_ARG ) );
             return new ConsoleAndFileDriverConfiguration(
                     paramsMap,
                     name,
@@ -298,7 +516,21 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    completionTimeTrackerType,
+                    completionTimeServiceType,
+                    operationExecutorType,
+                    maxInFlightAsynchronousOperations,
+                    compileOperationStreamsFilePath,
+                    operationStreamsFilePath,
+                    streamOffsetIndexDirPath,
+                    metricsRingSize,
+                    metricsWaitStrategyType,
+                    metricsHandlerCount,
+                    metricsServiceType,
+                    metricsIntervalAsMilli,
+                    metricsPort,
+                    timeCompressionRatioSearchProbeCount
             );
         }
         catch ( DriverConfigurationException e )
@@ -308,6 +540,182 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
     }
 
+    private static void assertValidCompletionTimeTracker( String completionTimeTrackerString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            CompletionTimeTrackerType.valueOf( completionTimeTrackerString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported completion time tracker value: %s", completionTimeTrackerString ) );
+        }
+    }
+
+    private static void assertValidCompletionTimeService( String completionTimeServiceString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            CompletionTimeServiceType.valueOf( completionTimeServiceString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported completion time service value: %s", completionTimeServiceString ) );
+        }
+    }
+
+    private static void assertValidOperationExecutor( String operationExecutorString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            OperationExecutorType.valueOf( operationExecutorString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported operation executor value: %s", operationExecutorString ) );
+        }
+    }
+
+    private static void assertValidMaxInFlightAsync( String maxInFlightAsyncString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            if ( Integer.parseInt( maxInFlightAsyncString ) < 1 )
+            {
+                throw new IllegalArgumentException();
+            }
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Maximum in-flight asynchronous operations must be positive: %s",
+                            maxInFlightAsyncString ) );
+        }
+    }
+
+    private static void assertValidMetricsRingSize( String metricsRingSizeString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            int metricsRingSize = Integer.parseInt( metricsRingSizeString );
+            if ( metricsRingSize < 1 || Integer.bitCount( metricsRingSize ) != 1 )
+            {
+                throw new IllegalArgumentException();
+            }
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Metrics ring size must be a power of 2: %s", metricsRingSizeString ) );
+        }
+    }
+
+    private static void assertValidMetricsWaitStrategy( String metricsWaitStrategyString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            MetricsWaitStrategyType.valueOf( metricsWaitStrategyString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported metrics wait strategy value: %s", metricsWaitStrategyString ) );
+        }
+    }
+
+    private static void assertValidMetricsHandlerCount( String metricsHandlerCountString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            if ( Integer.parseInt( metricsHandlerCountString ) < 1 )
+            {
+                throw new IllegalArgumentException();
+            }
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Metrics handler count must be positive: %s", metricsHandlerCountString ) );
+        }
+    }
+
+    private static void assertValidMetricsService( String metricsServiceString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            MetricsServiceType.valueOf( metricsServiceString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported metrics service value: %s", metricsServiceString ) );
+        }
+    }
+
+    private static void assertValidMetricsInterval( String metricsIntervalString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            if ( Long.parseLong( metricsIntervalString ) < 0 )
+            {
+                throw new IllegalArgumentException();
+            }
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Metrics interval must not be negative: %s", metricsIntervalString ) );
+        }
+    }
+
+    private static void assertValidMetricsPort( String metricsPortString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            int metricsPort = Integer.parseInt( metricsPortString );
+            if ( metricsPort < 0 || metricsPort > 65535 )
+            {
+                throw new IllegalArgumentException();
+            }
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Metrics port must be in range [0,65535]: %s", metricsPortString ) );
+        }
+    }
+
+    private static void assertValidTimeCompressionRatioSearch( String timeCompressionRatioSearchString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            if ( Long.parseLong( timeCompressionRatioSearchString ) < 0 )
+            {
+                throw new IllegalArgumentException();
+            }
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Time compression ratio search probe operation count must not be negative: %s",
+                            timeCompressionRatioSearchString ) );
+        }
+    }
+
     private static void assertValidTimeUnit( String timeUnitString ) throws DriverConfigurationException
     {
         try
@@ -432,6 +840,76 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             cmdParams.put( SKIP_COUNT_ARG, cmd.getOptionValue( SKIP_COUNT_ARG ) );
         }
 
+        if ( cmd.hasOption( COMPLETION_TIME_TRACKER_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_TRACKER_ARG, cmd.getOptionValue( COMPLETION_TIME_TRACKER_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPLETION_TIME_SERVICE_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_SERVICE_ARG, cmd.getOptionValue( COMPLETION_TIME_SERVICE_ARG ) );
+        }
+
+        if ( cmd.hasOption( OPERATION_EXECUTOR_ARG ) )
+        {
+            cmdParams.put( OPERATION_EXECUTOR_ARG, cmd.getOptionValue( OPERATION_EXECUTOR_ARG ) );
+        }
+
+        if ( cmd.hasOption( MAX_IN_FLIGHT_ASYNC_ARG ) )
+        {
+            cmdParams.put( MAX_IN_FLIGHT_ASYNC_ARG, cmd.getOptionValue( MAX_IN_FLIGHT_ASYNC_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPILE_OPERATION_STREAMS_ARG ) )
+        {
+            cmdParams.put( COMPILE_OPERATION_STREAMS_ARG, cmd.getOptionValue( COMPILE_OPERATION_STREAMS_ARG ) );
+        }
+
+        if ( cmd.hasOption( OPERATION_STREAMS_ARG ) )
+        {
+            cmdParams.put( OPERATION_STREAMS_ARG, cmd.getOptionValue( OPERATION_STREAMS_ARG ) );
+        }
+
+        if ( cmd.hasOption( STREAM_OFFSET_INDEX_ARG ) )
+        {
+            cmdParams.put( STREAM_OFFSET_INDEX_ARG, cmd.getOptionValue( STREAM_OFFSET_INDEX_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_RING_SIZE_ARG ) )
+        {
+            cmdParams.put( METRICS_RING_SIZE_ARG, cmd.getOptionValue( METRICS_RING_SIZE_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_WAIT_STRATEGY_ARG ) )
+        {
+            cmdParams.put( METRICS_WAIT_STRATEGY_ARG, cmd.getOptionValue( METRICS_WAIT_STRATEGY_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_HANDLER_COUNT_ARG ) )
+        {
+            cmdParams.put( METRICS_HANDLER_COUNT_ARG, cmd.getOptionValue( METRICS_HANDLER_COUNT_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_SERVICE_ARG ) )
+        {
+            cmdParams.put( METRICS_SERVICE_ARG, cmd.getOptionValue( METRICS_SERVICE_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_INTERVAL_ARG ) )
+        {
+            cmdParams.put( METRICS_INTERVAL_ARG, cmd.getOptionValue( METRICS_INTERVAL_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_PORT_ARG ) )
+        {
+            cmdParams.put( METRICS_PORT_ARG, cmd.getOptionValue( METRICS_PORT_ARG ) );
+        }
+
+        if ( cmd.hasOption( TIME_COMPRESSION_RATIO_SEARCH_ARG ) )
+        {
+            cmdParams.put( TIME_COMPRESSION_RATIO_SEARCH_ARG, cmd.getOptionValue( TIME_COMPRESSION_RATIO_SEARCH_ARG ) );
+        }
+
         if ( cmd.hasOption( CREATE_VALIDATION_PARAMS_ARG ) )
         {
             String[] validationParams = cmd.getOptionValues( CREATE_VALIDATION_PARAMS_ARG );
@@ -497,6 +975,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap = replaceKey( paramsMap, SPINNER_SLEEP_DURATION_ARG_LONG, SPINNER_SLEEP_DURATION_ARG );
         paramsMap = replaceKey( paramsMap, WARMUP_COUNT_ARG_LONG, WARMUP_COUNT_ARG );
         paramsMap = replaceKey( paramsMap, SKIP_COUNT_ARG_LONG, SKIP_COUNT_ARG );
+        paramsMap = replaceKey( paramsMap, COMPLETION_TIME_TRACKER_ARG_LONG, COMPLETION_TIME_TRACKER_ARG );
+        paramsMap = replaceKey( paramsMap, COMPLETION_TIME_SERVICE_ARG_LONG, COMPLETION_TIME_SERVICE_ARG );
+        paramsMap = replaceKey( paramsMap, OPERATION_EXECUTOR_ARG_LONG, OPERATION_EXECUTOR_ARG );
+        paramsMap = replaceKey( paramsMap, MAX_IN_FLIGHT_ASYNC_ARG_LONG, MAX_IN_FLIGHT_ASYNC_ARG );
+        paramsMap = replaceKey( paramsMap, COMPILE_OPERATION_STREAMS_ARG_LONG, COMPILE_OPERATION_STREAMS_ARG );
+        paramsMap = replaceKey( paramsMap, OPERATION_STREAMS_ARG_LONG, OPERATION_STREAMS_ARG );
+        paramsMap = replaceKey( paramsMap, STREAM_OFFSET_INDEX_ARG_LONG, STREAM_OFFSET_INDEX_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_RING_SIZE_ARG_LONG, METRICS_RING_SIZE_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_WAIT_STRATEGY_ARG_LONG, METRICS_WAIT_STRATEGY_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_HANDLER_COUNT_ARG_LONG, METRICS_HANDLER_COUNT_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_SERVICE_ARG_LONG, METRICS_SERVICE_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_INTERVAL_ARG_LONG, METRICS_INTERVAL_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_PORT_ARG_LONG, METRICS_PORT_ARG );
+        paramsMap = replaceKey( paramsMap, TIME_COMPRESSION_RATIO_SEARCH_ARG_LONG, TIME_COMPRESSION_RATIO_SEARCH_ARG );
         return paramsMap;
     }
 
@@ -602,6 +1094,91 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                         .withLongOpt( SKIP_COUNT_ARG_LONG ).create( SKIP_COUNT_ARG );
         options.addOption( skipCountOption );
 
+        Option completionTimeTrackerOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "tracker" ).withDescription(
+                        COMPLETION_TIME_TRACKER_DESCRIPTION ).withLongOpt( COMPLETION_TIME_TRACKER_ARG_LONG )
+                        .create( COMPLETION_TIME_TRACKER_ARG );
+        options.addOption( completionTimeTrackerOption );
+
+        Option completionTimeServiceOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "service" ).withDescription(
+                        COMPLETION_TIME_SERVICE_DESCRIPTION ).withLongOpt( COMPLETION_TIME_SERVICE_ARG_LONG )
+                        .create( COMPLETION_TIME_SERVICE_ARG );
+        options.addOption( completionTimeServiceOption );
+
+        Option operationExecutorOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "executor" ).withDescription(
+                        OPERATION_EXECUTOR_DESCRIPTION ).withLongOpt( OPERATION_EXECUTOR_ARG_LONG )
+                        .create( OPERATION_EXECUTOR_ARG );
+        options.addOption( operationExecutorOption );
+
+        Option maxInFlightAsyncOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription(
+                        MAX_IN_FLIGHT_ASYNC_DESCRIPTION ).withLongOpt( MAX_IN_FLIGHT_ASYNC_ARG_LONG )
+                        .create( MAX_IN_FLIGHT_ASYNC_ARG );
+        options.addOption( maxInFlightAsyncOption );
+
+        Option compileOperationStreamsFilePathOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "path" ).withDescription(
+                        COMPILE_OPERATION_STREAMS_DESCRIPTION ).withLongOpt( COMPILE_OPERATION_STREAMS_ARG_LONG )
+                        .create( COMPILE_OPERATION_STREAMS_ARG );
+        options.addOption( compileOperationStreamsFilePathOption );
+
+        Option operationStreamsFilePathOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "path" ).withDescription(
+                        OPERATION_STREAMS_DESCRIPTION ).withLongOpt( OPERATION_STREAMS_ARG_LONG )
+                        .create( OPERATION_STREAMS_ARG );
+        options.addOption( operationStreamsFilePathOption );
+
+        Option streamOffsetIndexDirPathOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "path" ).withDescription(
+                        STREAM_OFFSET_INDEX_DESCRIPTION ).withLongOpt( STREAM_OFFSET_INDEX_ARG_LONG )
+                        .create( STREAM_OFFSET_INDEX_ARG );
+        options.addOption( streamOffsetIndexDirPathOption );
+
+        Option metricsRingSizeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription(
+                        METRICS_RING_SIZE_DESCRIPTION ).withLongOpt( METRICS_RING_SIZE_ARG_LONG )
+                        .create( METRICS_RING_SIZE_ARG );
+        options.addOption( metricsRingSizeOption );
+
+        Option metricsWaitStrategyOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "strategy" ).withDescription(
+                        METRICS_WAIT_STRATEGY_DESCRIPTION ).withLongOpt( METRICS_WAIT_STRATEGY_ARG_LONG )
+                        .create( METRICS_WAIT_STRATEGY_ARG );
+        options.addOption( metricsWaitStrategyOption );
+
+        Option metricsHandlerCountOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription(
+                        METRICS_HANDLER_COUNT_DESCRIPTION ).withLongOpt( METRICS_HANDLER_COUNT_ARG_LONG )
+                        .create( METRICS_HANDLER_COUNT_ARG );
+        options.addOption( metricsHandlerCountOption );
+
+        Option metricsServiceOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "service" ).withDescription(
+                        METRICS_SERVICE_DESCRIPTION ).withLongOpt( METRICS_SERVICE_ARG_LONG )
+                        .create( METRICS_SERVICE_ARG );
+        options.addOption( metricsServiceOption );
+
+        Option metricsIntervalOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "duration" ).withDescription(
+                        METRICS_INTERVAL_DESCRIPTION ).withLongOpt( METRICS_INTERVAL_ARG_LONG )
+                        .create( METRICS_INTERVAL_ARG );
+        options.addOption( metricsIntervalOption );
+
+        Option metricsPortOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "port" ).withDescription(
+                        METRICS_PORT_DESCRIPTION ).withLongOpt( METRICS_PORT_ARG_LONG )
+                        .create( METRICS_PORT_ARG );
+        options.addOption( metricsPortOption );
+
+        Option timeCompressionRatioSearchOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription(
+                        TIME_COMPRESSION_RATIO_SEARCH_DESCRIPTION )
+                        .withLongOpt( TIME_COMPRESSION_RATIO_SEARCH_ARG_LONG )
+                        .create( TIME_COMPRESSION_RATIO_SEARCH_ARG );
+        options.addOption( timeCompressionRatioSearchOption );
+
         Option printHelpOption = OptionBuilder.withDescription( HELP_DESCRIPTION ).create( HELP_ARG );
         options.addOption( printHelpOption );
 
@@ -642,7 +1219,21 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 HELP_ARG,
                 IGNORE_SCHEDULED_START_TIMES_ARG,
                 WARMUP_COUNT_ARG,
-                SKIP_COUNT_ARG
+                SKIP_COUNT_ARG,
+                COMPLETION_TIME_TRACKER_ARG,
+                COMPLETION_TIME_SERVICE_ARG,
+                OPERATION_EXECUTOR_ARG,
+                MAX_IN_FLIGHT_ASYNC_ARG,
+                COMPILE_OPERATION_STREAMS_ARG,
+                OPERATION_STREAMS_ARG,
+                STREAM_OFFSET_INDEX_ARG,
+                METRICS_RING_SIZE_ARG,
+                METRICS_WAIT_STRATEGY_ARG,
+                METRICS_HANDLER_COUNT_ARG,
+                METRICS_SERVICE_ARG,
+                METRICS_INTERVAL_ARG,
+                METRICS_PORT_ARG,
+                TIME_COMPRESSION_RATIO_SEARCH_ARG
         );
     }
 
@@ -684,6 +1275,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private final boolean ignoreScheduledStartTimes;
     private final long warmupCount;
     private final long skipCount;
+    private final CompletionTimeTrackerType completionTimeTrackerType;
+    private final CompletionTimeServiceType completionTimeServiceType;
+    private final OperationExecutorType operationExecutorType;
+    private final int maxInFlightAsynchronousOperations;
+    private final String compileOperationStreamsFilePath;
+    private final String operationStreamsFilePath;
+    private final String streamOffsetIndexDirPath;
+    private final int metricsRingSize;
+    private final MetricsWaitStrategyType metricsWaitStrategyType;
+    private final int metricsHandlerCount;
+    private final MetricsServiceType metricsServiceType;
+    private final long metricsIntervalAsMilli;
+    private final int metricsPort;
+    private final long timeCompressionRatioSearchProbeCount;
 
     public ConsoleAndFileDriverConfiguration( Map<String,String> paramsMap,
             String name,
@@ -702,7 +1307,21 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean printHelp,
             boolean ignoreScheduledStartTimes,
             long warmupCount,
-            long skipCount )
+            long skipCount,
+            CompletionTimeTrackerType completionTimeTrackerType,
+            CompletionTimeServiceType completionTimeServiceType,
+            OperationExecutorType operationExecutorType,
+            int maxInFlightAsynchronousOperations,
+            String compileOperationStreamsFilePath,
+            String operationStreamsFilePath,
+            String streamOffsetIndexDirPath,
+            int metricsRingSize,
+            MetricsWaitStrategyType metricsWaitStrategyType,
+            int metricsHandlerCount,
+            MetricsServiceType metricsServiceType,
+            long metricsIntervalAsMilli,
+            int metricsPort,
+            long timeCompressionRatioSearchProbeCount )
     {
         if ( null == paramsMap )
         {
@@ -726,6 +1345,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         this.ignoreScheduledStartTimes = ignoreScheduledStartTimes;
         this.warmupCount = warmupCount;
         this.skipCount = skipCount;
+        this.completionTimeTrackerType = completionTimeTrackerType;
+        this.completionTimeServiceType = completionTimeServiceType;
+        this.operationExecutorType = operationExecutorType;
+        this.maxInFlightAsynchronousOperations = maxInFlightAsynchronousOperations;
+        this.compileOperationStreamsFilePath = compileOperationStreamsFilePath;
+        this.operationStreamsFilePath = operationStreamsFilePath;
+        this.streamOffsetIndexDirPath = streamOffsetIndexDirPath;
+        this.metricsRingSize = metricsRingSize;
+        this.metricsWaitStrategyType = metricsWaitStrategyType;
+        this.metricsHandlerCount = metricsHandlerCount;
+        this.metricsServiceType = metricsServiceType;
+        this.metricsIntervalAsMilli = metricsIntervalAsMilli;
+        this.metricsPort = metricsPort;
+        this.timeCompressionRatioSearchProbeCount = timeCompressionRatioSearchProbeCount;
 
         if ( null != name )
         {
@@ -762,6 +1395,29 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap.put( IGNORE_SCHEDULED_START_TIMES_ARG, Boolean.toString( ignoreScheduledStartTimes ) );
         paramsMap.put( WARMUP_COUNT_ARG, Long.toString( warmupCount ) );
         paramsMap.put( SKIP_COUNT_ARG, Long.toString( skipCount ) );
+        paramsMap.put( COMPLETION_TIME_TRACKER_ARG, completionTimeTrackerType.name() );
+        paramsMap.put( COMPLETION_TIME_SERVICE_ARG, completionTimeServiceType.name() );
+        paramsMap.put( OPERATION_EXECUTOR_ARG, operationExecutorType.name() );
+        paramsMap.put( MAX_IN_FLIGHT_ASYNC_ARG, Integer.toString( maxInFlightAsynchronousOperations ) );
+        if ( null != compileOperationStreamsFilePath )
+        {
+            paramsMap.put( COMPILE_OPERATION_STREAMS_ARG, compileOperationStreamsFilePath );
+        }
+        if ( null != operationStreamsFilePath )
+        {
+            paramsMap.put( OPERATION_STREAMS_ARG, operationStreamsFilePath );
+        }
+        if ( null != streamOffsetIndexDirPath )
+        {
+            paramsMap.put( STREAM_OFFSET_INDEX_ARG, streamOffsetIndexDirPath );
+        }
+        paramsMap.put( METRICS_RING_SIZE_ARG, Integer.toString( metricsRingSize ) );
+        paramsMap.put( METRICS_WAIT_STRATEGY_ARG, metricsWaitStrategyType.name() );
+        paramsMap.put( METRICS_HANDLER_COUNT_ARG, Integer.toString( metricsHandlerCount ) );
+        paramsMap.put( METRICS_SERVICE_ARG, metricsServiceType.name() );
+        paramsMap.put( METRICS_INTERVAL_ARG, Long.toString( metricsIntervalAsMilli ) );
+        paramsMap.put( METRICS_PORT_ARG, Integer.toString( metricsPort ) );
+        paramsMap.put( TIME_COMPRESSION_RATIO_SEARCH_ARG, Long.toString( timeCompressionRatioSearchProbeCount ) );
     }
 
     @Override
@@ -879,6 +1535,90 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         return skipCount;
     }
 
+    @Override
+    public CompletionTimeTrackerType completionTimeTrackerType()
+    {
+        return completionTimeTrackerType;
+    }
+
+    @Override
+    public CompletionTimeServiceType completionTimeServiceType()
+    {
+        return completionTimeServiceType;
+    }
+
+    @Override
+    public OperationExecutorType operationExecutorType()
+    {
+        return operationExecutorType;
+    }
+
+    @Override
+    public int maxInFlightAsynchronousOperations()
+    {
+        return maxInFlightAsynchronousOperations;
+    }
+
+    @Override
+    public String compileOperationStreamsFilePath()
+    {
+        return compileOperationStreamsFilePath;
+    }
+
+    @Override
+    public String operationStreamsFilePath()
+    {
+        return operationStreamsFilePath;
+    }
+
+    @Override
+    public String streamOffsetIndexDirPath()
+    {
+        return streamOffsetIndexDirPath;
+    }
+
+    @Override
+    public int metricsRingSize()
+    {
+        return metricsRingSize;
+    }
+
+    @Override
+    public MetricsWaitStrategyType metricsWaitStrategyType()
+    {
+        return metricsWaitStrategyType;
+    }
+
+    @Override
+    public int metricsHandlerCount()
+    {
+        return metricsHandlerCount;
+    }
+
+    @Override
+    public MetricsServiceType metricsServiceType()
+    {
+        return metricsServiceType;
+    }
+
+    @Override
+    public long metricsIntervalAsMilli()
+    {
+        return metricsIntervalAsMilli;
+    }
+
+    @Override
+    public int metricsPort()
+    {
+        return metricsPort;
+    }
+
+    @Override
+    public long timeCompressionRatioSearchProbeCount()
+    {
+        return timeCompressionRatioSearchProbeCount;
+    }
+
     @Override
     public Map<String,String> asMap()
     {
@@ -995,6 +1735,62 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         long newSkipCount = (newParamsMapWithShortKeys.containsKey( SKIP_COUNT_ARG )) ?
                             Long.parseLong( newParamsMapWithShortKeys.get( SKIP_COUNT_ARG ) ) :
                             skipCount;
+        CompletionTimeTrackerType newCompletionTimeTrackerType =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_TRACKER_ARG )) ?
+                CompletionTimeTrackerType.valueOf( newParamsMapWithShortKeys.get( COMPLETION_TIME_TRACKER_ARG ) ) :
+                completionTimeTrackerType;
+        CompletionTimeServiceType newCompletionTimeServiceType =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_SERVICE_ARG )) ?
+                CompletionTimeServiceType.valueOf( newParamsMapWithShortKeys.get( COMPLETION_TIME_SERVICE_ARG ) ) :
+                completionTimeServiceType;
+        OperationExecutorType newOperationExecutorType =
+                (newParamsMapWithShortKeys.containsKey( OPERATION_EXECUTOR_ARG )) ?
+                OperationExecutorType.valueOf( newParamsMapWithShortKeys.get( OPERATION_EXECUTOR_ARG ) ) :
+                operationExecutorType;
+        int newMaxInFlightAsynchronousOperations =
+                (newParamsMapWithShortKeys.containsKey( MAX_IN_FLIGHT_ASYNC_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( MAX_IN_FLIGHT_ASYNC_ARG ) ) :
+                maxInFlightAsynchronousOperations;
+        String newCompileOperationStreamsFilePath =
+                (newParamsMapWithShortKeys.containsKey( COMPILE_OPERATION_STREAMS_ARG )) ?
+                newParamsMapWithShortKeys.get( COMPILE_OPERATION_STREAMS_ARG ) :
+                compileOperationStreamsFilePath;
+        String newOperationStreamsFilePath =
+                (newParamsMapWithShortKeys.containsKey( OPERATION_STREAMS_ARG )) ?
+                newParamsMapWithShortKeys.get( OPERATION_STREAMS_ARG ) :
+                operationStreamsFilePath;
+        String newStreamOffsetIndexDirPath =
+                (newParamsMapWithShortKeys.containsKey( STREAM_OFFSET_INDEX_ARG )) ?
+                newParamsMapWithShortKeys.get( STREAM_OFFSET_INDEX_ARG ) :
+                streamOffsetIndexDirPath;
+        int newMetricsRingSize =
+                (newParamsMapWithShortKeys.containsKey( METRICS_RING_SIZE_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( METRICS_RING_SIZE_ARG ) ) :
+                metricsRingSize;
+        MetricsWaitStrategyType newMetricsWaitStrategyType =
+                (newParamsMapWithShortKeys.containsKey( METRICS_WAIT_STRATEGY_ARG )) ?
+                MetricsWaitStrategyType.valueOf( newParamsMapWithShortKeys.get( METRICS_WAIT_STRATEGY_ARG ) ) :
+                metricsWaitStrategyType;
+        int newMetricsHandlerCount =
+                (newParamsMapWithShortKeys.containsKey( METRICS_HANDLER_COUNT_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( METRICS_HANDLER_COUNT_ARG ) ) :
+                metricsHandlerCount;
+        MetricsServiceType newMetricsServiceType =
+                (newParamsMapWithShortKeys.containsKey( METRICS_SERVICE_ARG )) ?
+                MetricsServiceType.valueOf( newParamsMapWithShortKeys.get( METRICS_SERVICE_ARG ) ) :
+                metricsServiceType;
+        long newMetricsIntervalAsMilli =
+                (newParamsMapWithShortKeys.containsKey( METRICS_INTERVAL_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( METRICS_INTERVAL_ARG ) ) :
+                metricsIntervalAsMilli;
+        int newMetricsPort =
+                (newParamsMapWithShortKeys.containsKey( METRICS_PORT_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( METRICS_PORT_ARG ) ) :
+                metricsPort;
+        long newTimeCompressionRatioSearchProbeCount =
+                (newParamsMapWithShortKeys.containsKey( TIME_COMPRESSION_RATIO_SEARCH_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( TIME_COMPRESSION_RATIO_SEARCH_ARG ) ) :
+                timeCompressionRatioSearchProbeCount;
 
         return new ConsoleAndFileDriverConfiguration(
                 newOtherParams,
@@ -1014,7 +1810,21 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 newPrintHelp,
                 newIgnoreScheduledStartTimes,
                 newWarmupCount,
-                newSkipCount
+                newSkipCount,
+                newCompletionTimeTrackerType,
+                newCompletionTimeServiceType,
+                newOperationExecutorType,
+                newMaxInFlightAsynchronousOperations,
+                newCompileOperationStreamsFilePath,
+                newOperationStreamsFilePath,
+                newStreamOffsetIndexDirPath,
+                newMetricsRingSize,
+                newMetricsWaitStrategyType,
+                newMetricsHandlerCount,
+                newMetricsServiceType,
+                newMetricsIntervalAsMilli,
+                newMetricsPort,
+                newTimeCompressionRatioSearchProbeCount
         );
     }
 
@@ -1062,6 +1872,43 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
         argsList.addAll(
                 Lists.newArrayList( "-" + SPINNER_SLEEP_DURATION_ARG, Long.toString( spinnerSleepDurationAsMilli ) ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + COMPLETION_TIME_TRACKER_ARG, completionTimeTrackerType.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + COMPLETION_TIME_SERVICE_ARG, completionTimeServiceType.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + OPERATION_EXECUTOR_ARG, operationExecutorType.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + MAX_IN_FLIGHT_ASYNC_ARG,
+                Integer.toString( maxInFlightAsynchronousOperations ) ) );
+        if ( null != compileOperationStreamsFilePath )
+        {
+            argsList.addAll(
+                    Lists.newArrayList( "-" + COMPILE_OPERATION_STREAMS_ARG, compileOperationStreamsFilePath ) );
+        }
+        if ( null != operationStreamsFilePath )
+        {
+            argsList.addAll( Lists.newArrayList( "-" + OPERATION_STREAMS_ARG, operationStreamsFilePath ) );
+        }
+        if ( null != streamOffsetIndexDirPath )
+        {
+            argsList.addAll( Lists.newArrayList( "-" + STREAM_OFFSET_INDEX_ARG, streamOffsetIndexDirPath ) );
+        }
+        argsList.addAll(
+                Lists.newArrayList( "-" + METRICS_RING_SIZE_ARG, Integer.toString( metricsRingSize ) ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + METRICS_WAIT_STRATEGY_ARG, metricsWaitStrategyType.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + METRICS_HANDLER_COUNT_ARG, Integer.toString( metricsHandlerCount ) ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + METRICS_SERVICE_ARG, metricsServiceType.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + METRICS_INTERVAL_ARG, Long.toString( metricsIntervalAsMilli ) ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + METRICS_PORT_ARG, Integer.toString( metricsPort ) ) );
+        argsList.addAll(
+                Lists.newArrayList(
+                        "-" + TIME_COMPRESSION_RATIO_SEARCH_ARG,
+                        Long.toString( timeCompressionRatioSearchProbeCount ) ) );
         if ( printHelp )
         {
             argsList.add( "-" + HELP_ARG );
@@ -1206,6 +2053,143 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 .append( SPINNER_SLEEP_DURATION_ARG_LONG ).append( "\n" );
         sb.append( SPINNER_SLEEP_DURATION_ARG_LONG ).append( "=" ).append( spinnerSleepDurationAsMilli ).append( "\n" );
         sb.append( "\n" );
+        sb.append( "# data structure used to track initiated & completed times, when computing completion time\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( CompletionTimeTrackerType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_TRACKER_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_TRACKER_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_TRACKER_ARG_LONG ).append( "=" ).append( completionTimeTrackerType.name() )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# service that computes completion time\n" );
+        sb.append( "# LOCK_FREE computes it on the threads that submit initiated & completed times\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( CompletionTimeServiceType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_SERVICE_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_SERVICE_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_SERVICE_ARG_LONG ).append( "=" ).append( completionTimeServiceType.name() )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# executor used to run operations of the asynchronous stream\n" );
+        sb.append( "# for VIRTUAL_THREAD thread count is the maximum number of in-flight operations\n" );
+        sb.append( "# WORK_STEALING also runs blocking streams, on one pool of thread count threads\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( OperationExecutorType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( OPERATION_EXECUTOR_ARG ).append( "/--" )
+                .append( OPERATION_EXECUTOR_ARG_LONG ).append( "\n" );
+        sb.append( OPERATION_EXECUTOR_ARG_LONG ).append( "=" ).append( operationExecutorType.name() )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# maximum number of operations with asynchronous handlers in flight at once, for THREAD_POOL\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( MAX_IN_FLIGHT_ASYNC_ARG ).append( "/--" )
+                .append( MAX_IN_FLIGHT_ASYNC_ARG_LONG ).append( "\n" );
+        sb.append( MAX_IN_FLIGHT_ASYNC_ARG_LONG ).append( "=" ).append( maxInFlightAsynchronousOperations )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# compile workload operation streams into a binary file, rather than executing them\n" );
+        sb.append( "# parameter value specifies where to create the compiled operation streams file\n" );
+        sb.append( "# STRING\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPILE_OPERATION_STREAMS_ARG ).append( "/--" )
+                .append( COMPILE_OPERATION_STREAMS_ARG_LONG ).append( "\n" );
+        if ( null == compileOperationStreamsFilePath )
+        {
+            sb.append( "# " ).append( COMPILE_OPERATION_STREAMS_ARG_LONG ).append( "=" ).append( "\n" );
+        }
+        else
+        {
+            sb.append( COMPILE_OPERATION_STREAMS_ARG_LONG ).append( "=" ).append( compileOperationStreamsFilePath )
+                    .append( "\n" );
+        }
+        sb.append( "\n" );
+        sb.append( "# read workload operations from a compiled operation streams file, rather than generating them\n" );
+        sb.append( "# parameter value specifies where to find the compiled operation streams file\n" );
+        sb.append( "# STRING\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( OPERATION_STREAMS_ARG ).append( "/--" )
+                .append( OPERATION_STREAMS_ARG_LONG ).append( "\n" );
+        if ( null == operationStreamsFilePath )
+        {
+            sb.append( "# " ).append( OPERATION_STREAMS_ARG_LONG ).append( "=" ).append( "\n" );
+        }
+        else
+        {
+            sb.append( OPERATION_STREAMS_ARG_LONG ).append( "=" ).append( operationStreamsFilePath ).append( "\n" );
+        }
+        sb.append( "\n" );
+        sb.append( "# cache the number of operations to skip & execute from each workload stream, rather than\n" );
+        sb.append( "# calculating them on every run\n" );
+        sb.append( "# parameter value specifies directory in which to cache indexes, e.g., parameters directory\n" );
+        sb.append( "# STRING\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( STREAM_OFFSET_INDEX_ARG ).append( "/--" )
+                .append( STREAM_OFFSET_INDEX_ARG_LONG ).append( "\n" );
+        if ( null == streamOffsetIndexDirPath )
+        {
+            sb.append( "# " ).append( STREAM_OFFSET_INDEX_ARG_LONG ).append( "=" ).append( "\n" );
+        }
+        else
+        {
+            sb.append( STREAM_OFFSET_INDEX_ARG_LONG ).append( "=" ).append( streamOffsetIndexDirPath ).append( "\n" );
+        }
+        sb.append( "\n" );
+        sb.append( "# size of ring buffer through which operation results are passed to metrics collection\n" );
+        sb.append( "# must be a power of 2, larger rings absorb bursts, so executor threads block less often\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_RING_SIZE_ARG ).append( "/--" )
+                .append( METRICS_RING_SIZE_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_RING_SIZE_ARG_LONG ).append( "=" ).append( metricsRingSize ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# strategy metrics event handlers use to wait for operation results\n" );
+        sb.append( "# BUSY_SPIN & YIELDING have lowest latency, but occupy one core per metrics event handler\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( MetricsWaitStrategyType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_WAIT_STRATEGY_ARG ).append( "/--" )
+                .append( METRICS_WAIT_STRATEGY_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_WAIT_STRATEGY_ARG_LONG ).append( "=" ).append( metricsWaitStrategyType.name() )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# number of metrics event handlers, each recording metrics of a disjoint subset of operation\n" );
+        sb.append( "# types on its own thread, results log is always written by one additional handler\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_HANDLER_COUNT_ARG ).append( "/--" )
+                .append( METRICS_HANDLER_COUNT_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_HANDLER_COUNT_ARG_LONG ).append( "=" ).append( metricsHandlerCount ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# service used to collect operation metrics\n" );
+        sb.append( "# THREAD_LOCAL records into per thread histograms instead of a ring buffer, uses more memory\n" );
+        sb.append( "# six histograms per operation type per executor thread, with time_unit MILLISECONDS roughly "
+                   + "3.9MB\n" );
+        sb.append( "# (7.9MB with MICROSECONDS, 11.8MB with NANOSECONDS)\n" );
+        sb.append( "# THREAD_LOCAL is only used when no results log is written, i.e., when results_dir is not set\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( MetricsServiceType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_SERVICE_ARG ).append( "/--" )
+                .append( METRICS_SERVICE_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_SERVICE_ARG_LONG ).append( "=" ).append( metricsServiceType.name() )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# duration of intervals for which latency histograms are recorded per operation type\n" );
+        sb.append( "# intervals are written to <name>-results.hlog and summarized in <name>-results.json\n" );
+        sb.append( "# 0 disables interval recording\n" );
+        sb.append( "# INT-64 (milliseconds)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_INTERVAL_ARG ).append( "/--" )
+                .append( METRICS_INTERVAL_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_INTERVAL_ARG_LONG ).append( "=" ).append( Long.toString( metricsIntervalAsMilli ) )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# port of HTTP endpoint that serves live metrics in Prometheus text format at /metrics\n" );
+        sb.append( "# 0 disables the endpoint\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_PORT_ARG ).append( "/--" )
+                .append( METRICS_PORT_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_PORT_ARG_LONG ).append( "=" ).append( Integer.toString( metricsPort ) )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# search for lowest (fastest) time compression ratio at which driver keeps up with schedule\n" );
+        sb.append( "# instead of executing workload, probes of this many operations are executed\n" );
+        sb.append( "# starting from time_compression_ratio\n" );
+        sb.append( "# 0 disables search\n" );
+        sb.append( "# INT-64\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( TIME_COMPRESSION_RATIO_SEARCH_ARG ).append( "/--" )
+                .append( TIME_COMPRESSION_RATIO_SEARCH_ARG_LONG ).append( "\n" );
+        sb.append( TIME_COMPRESSION_RATIO_SEARCH_ARG_LONG ).append( "=" )
+                .append( Long.toString( timeCompressionRatioSearchProbeCount ) )
+                .append( "\n" );
+        sb.append( "\n" );
         sb.append( "# print help string - usage instructions\n" );
         sb.append( "# BOOLEAN\n" );
         sb.append( "# COMMAND: " ).append( "-" ).append( HELP_ARG ).append( "\n" );
@@ -1324,6 +2308,34 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Spinner Sleep Duration:" ) )
                 .append( TEMPORAL_UTIL.milliDurationToString( spinnerSleepDurationAsMilli ) ).append( " / " )
                 .append( spinnerSleepDurationAsMilli ).append( " (ms)\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time Tracker:" ) )
+                .append( completionTimeTrackerType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time Service:" ) )
+                .append( completionTimeServiceType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Operation Executor:" ) )
+                .append( operationExecutorType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Max In-Flight Async Operations:" ) )
+                .append( maxInFlightAsynchronousOperations ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Compile Operation Streams To:" ) )
+                .append( compileOperationStreamsFilePath ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Operation Streams File:" ) )
+                .append( operationStreamsFilePath ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Stream Offset Index Dir:" ) )
+                .append( streamOffsetIndexDirPath ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Ring Size:" ) )
+                .append( metricsRingSize ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Wait Strategy:" ) )
+                .append( metricsWaitStrategyType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Handler Count:" ) )
+                .append( metricsHandlerCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Service:" ) )
+                .append( metricsServiceType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Interval (ms):" ) )
+                .append( metricsIntervalAsMilli ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Port:" ) )
+                .append( metricsPort ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Time Compression Ratio Search:" ) )
+                .append( timeCompressionRatioSearchProbeCount ).append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Print Help:" ) ).append( printHelp )
                 .append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Ignore Scheduled Start Times:" ) )
@@ -1372,6 +2384,66 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         {
             return false;
         }
+        if ( completionTimeTrackerType != that.completionTimeTrackerType )
+        {
+            return false;
+        }
+        if ( completionTimeServiceType != that.completionTimeServiceType )
+        {
+            return false;
+        }
+        if ( operationExecutorType != that.operationExecutorType )
+        {
+            return false;
+        }
+        if ( maxInFlightAsynchronousOperations != that.maxInFlightAsynchronousOperations )
+        {
+            return false;
+        }
+        if ( compileOperationStreamsFilePath != null
+             ? !compileOperationStreamsFilePath.equals( that.compileOperationStreamsFilePath )
+             : that.compileOperationStreamsFilePath != null )
+        {
+            return false;
+        }
+        if ( operationStreamsFilePath != null ? !operationStreamsFilePath.equals( that.operationStreamsFilePath )
+                                              : that.operationStreamsFilePath != null )
+        {
+            return false;
+        }
+        if ( streamOffsetIndexDirPath != null ? !streamOffsetIndexDirPath.equals( that.streamOffsetIndexDirPath )
+                                              : that.streamOffsetIndexDirPath != null )
+        {
+            return false;
+        }
+        if ( metricsRingSize != that.metricsRingSize )
+        {
+            return false;
+        }
+        if ( metricsWaitStrategyType != that.metricsWaitStrategyType )
+        {
+            return false;
+        }
+        if ( metricsHandlerCount != that.metricsHandlerCount )
+        {
+            return false;
+        }
+        if ( metricsServiceType != that.metricsServiceType )
+        {
+            return false;
+        }
+        if ( metricsIntervalAsMilli != that.metricsIntervalAsMilli )
+        {
+            return false;
+        }
+        if ( metricsPort != that.metricsPort )
+        {
+            return false;
+        }
+        if ( timeCompressionRatioSearchProbeCount != that.timeCompressionRatioSearchProbeCount )
+        {
+            return false;
+        }
         if ( printHelp != that.printHelp )
         {
             return false;
@@ -1454,6 +2526,22 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         result = 31 * result + (int) (spinnerSleepDurationAsMilli ^ (spinnerSleepDurationAsMilli >>> 32));
         result = 31 * result + (printHelp ? 1 : 0);
         result = 31 * result + (ignoreScheduledStartTimes ? 1 : 0);
+        result = 31 * result + (completionTimeTrackerType != null ? completionTimeTrackerType.hashCode() : 0);
+        result = 31 * result + (completionTimeServiceType != null ? completionTimeServiceType.hashCode() : 0);
+        result = 31 * result + (operationExecutorType != null ? operationExecutorType.hashCode() : 0);
+        result = 31 * result + maxInFlightAsynchronousOperations;
+        result = 31 * result +
+                 (compileOperationStreamsFilePath != null ? compileOperationStreamsFilePath.hashCode() : 0);
+        result = 31 * result + (operationStreamsFilePath != null ? operationStreamsFilePath.hashCode() : 0);
+        result = 31 * result + (streamOffsetIndexDirPath != null ? streamOffsetIndexDirPath.hashCode() : 0);
+        result = 31 * result + metricsRingSize;
+        result = 31 * result + metricsWaitStrategyType.hashCode();
+        result = 31 * result + metricsHandlerCount;
+        result = 31 * result + metricsServiceType.hashCode();
+        result = 31 * result + (int) (metricsIntervalAsMilli ^ (metricsIntervalAsMilli >>> 32));
+        result = 31 * result + metricsPort;
+        result = 31 * result +
+                 (int) (timeCompressionRatioSearchProbeCount ^ (timeCompressionRatioSearchProbeCount >>> 32));
         return result;
     }
 
@@ -1,5 +1,11 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.coordination.CompletionTimeTrackerType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.MetricsWaitStrategyType;
+
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -41,6 +47,34 @@ public interface DriverConfiguration
 
     long skipCount();
 
+    CompletionTimeTrackerType completionTimeTrackerType();
+
+    CompletionTimeServiceType completionTimeServiceType();
+
+    OperationExecutorType operationExecutorType();
+
+    int maxInFlightAsynchronousOperations();
+
+    String compileOperationStreamsFilePath();
+
+    String operationStreamsFilePath();
+
+    String streamOffsetIndexDirPath();
+
+    int metricsRingSize();
+
+    MetricsWaitStrategyType metricsWaitStrategyType();
+
+    int metricsHandlerCount();
+
+    MetricsServiceType metricsServiceType();
+
+    long metricsIntervalAsMilli();
+
+    int metricsPort();
+
+    long timeCompressionRatioSearchProbeCount();
+
     String toPropertiesString() throws DriverConfigurationException;
 
     Map<String,String> asMap();
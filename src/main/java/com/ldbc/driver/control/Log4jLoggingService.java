@@ -1,5 +1,6 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.metrics.ConnectionStateAcquisitionSnapshot;
 import com.ldbc.driver.runtime.metrics.SimpleDetailedWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.SimpleSummaryWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.WorkloadMetricsFormatter;
@@ -55,6 +56,7 @@ public class Log4jLoggingService implements LoggingService
                                status.throughput(),
                                recentThroughputAndDuration.throughput(),
                                recentThroughputAndDuration.duration(),
+                               status.connectionStateAcquisition(),
                                completionTimeAsMilli ) :
                        formatWithoutCt(
                                status.operationCount(),
@@ -62,7 +64,8 @@ public class Log4jLoggingService implements LoggingService
                                status.durationSinceLastMeasurementAsMilli(),
                                status.throughput(),
                                recentThroughputAndDuration.throughput(),
-                               recentThroughputAndDuration.duration() );
+                               recentThroughputAndDuration.duration(),
+                               status.connectionStateAcquisition() );
         logger.info( statusString );
     }
 
@@ -84,7 +87,8 @@ public class Log4jLoggingService implements LoggingService
             long durationSinceLastMeasurementAsMilli,
             double throughput,
             double recentThroughput,
-            long recentDurationAsMilli )
+            long recentDurationAsMilli,
+            ConnectionStateAcquisitionSnapshot connectionStateAcquisition )
     {
         return format(
                 operationCount,
@@ -93,6 +97,7 @@ public class Log4jLoggingService implements LoggingService
                 throughput,
                 recentThroughput,
                 recentDurationAsMilli,
+                connectionStateAcquisition,
                 null ).toString();
     }
 
@@ -103,6 +108,7 @@ public class Log4jLoggingService implements LoggingService
             double throughput,
             double recentThroughput,
             long recentDurationAsMilli,
+            ConnectionStateAcquisitionSnapshot connectionStateAcquisition,
             long ctAsMilli )
     {
         return format(
@@ -112,6 +118,7 @@ public class Log4jLoggingService implements LoggingService
                 throughput,
                 recentThroughput,
                 recentDurationAsMilli,
+                connectionStateAcquisition,
                 ctAsMilli ).toString();
     }
 
@@ -122,6 +129,7 @@ public class Log4jLoggingService implements LoggingService
             double throughput,
             double recentThroughput,
             long recentDurationAsMilli,
+            ConnectionStateAcquisitionSnapshot connectionStateAcquisition,
             Long ctAsMilli )
     {
         StringBuffer sb = new StringBuffer()
@@ -139,6 +147,17 @@ public class Log4jLoggingService implements LoggingService
                 .append( " (Total) [" ).append( THROUGHPUT_FORMATTER.format( throughput ) ).append( "]" )
                 .append( " (Last " ).append( TimeUnit.MILLISECONDS.toSeconds( recentDurationAsMilli ) )
                 .append( "s) [" ).append( THROUGHPUT_FORMATTER.format( recentThroughput ) ).append( "]" );
+        // shared connection states are not acquired from a pool, there is no wait to report
+        if ( null != connectionStateAcquisition && connectionStateAcquisition.count() > 0 )
+        {
+            sb.append( ", Connection Wait" )
+                    .append( " (Total) [" )
+                    .append( temporalUtil.nanoDurationToString( connectionStateAcquisition.totalWaitAsNano() ) )
+                    .append( "]" )
+                    .append( " (Max) [" )
+                    .append( temporalUtil.nanoDurationToString( connectionStateAcquisition.maxWaitAsNano() ) )
+                    .append( "]" );
+        }
         if ( null != ctAsMilli )
         {
             sb.append( ", CT: " + ((-1 == ctAsMilli) ? "--" : temporalUtil.milliTimeToDateTimeString( ctAsMilli )) );
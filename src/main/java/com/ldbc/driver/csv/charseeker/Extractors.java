@@ -20,6 +20,7 @@
 package com.ldbc.driver.csv.charseeker;
 
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -249,6 +250,13 @@ public class Extractors {
             value = extractLong(data, offset, length);
         }
 
+        /**
+         * Extracts value from ASCII encoded bytes, without decoding them to chars first.
+         */
+        void extract(ByteBuffer data, int offset, int length) {
+            value = extractLong(data, offset, length);
+        }
+
         @Override
         public Long value() {
             return Long.valueOf(value);
@@ -743,6 +751,24 @@ public class Extractors {
         return negate ? -result : result;
     }
 
+    private static long extractLong(ByteBuffer data, int offset, int length) {
+        if (length == 0) {
+            throw new NumberFormatException("For input string \"\"");
+        }
+
+        long result = 0;
+        int i = 0;
+        boolean negate = false;
+        if (data.get(offset) == '-') {
+            negate = true;
+            i++;
+        }
+        for (; i < length; i++) {
+            result = result * 10 + digit((char) data.get(offset + i));
+        }
+        return negate ? -result : result;
+    }
+
     private static int digit(char ch) {
         int digit = ch - '0';
         if ((digit < 0) || (digit > 9)) {
@@ -0,0 +1,260 @@
+package com.ldbc.driver.csv.charseeker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+import static java.lang.Math.min;
+
+/**
+ * {@link CharSeeker} that reads UTF-8 encoded files through a {@link MappedByteBuffer}, rather than a
+ * {@link java.io.Reader}.
+ * <p/>
+ * Delimiters are sought directly in the mapped bytes, so the file is never decoded as a whole. Bytes are only turned
+ * into chars for values that are actually extracted: {@link Extractors.LongExtractor long} values are parsed straight
+ * from the bytes, other values are copied byte-per-char while they are ASCII, and only values containing multi-byte
+ * characters go through a UTF-8 decoder.
+ * <p/>
+ * Delimiters, quotes & new lines must be ASCII characters. Files larger than one mapped region are read region by
+ * region, a value must fit in one region.
+ */
+public class MappedByteBufferCharSeeker implements CharSeeker {
+    private static final int KB = 1024, MB = KB * KB;
+    public static final int DEFAULT_REGION_SIZE = 256 * MB;
+
+    private static final int EOL_CHAR = '\n';
+    private static final int EOL_CHAR_2 = '\r';
+    private static final int EOF_CHAR = -1;
+    private static final int BACK_SLASH = '\\';
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int regionSize;
+    private final int quoteChar;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+
+    private MappedByteBuffer region;
+    private long regionStartPos;
+    private long regionEndPos;
+
+    private long bufferPos;
+    private long lineStartPos;
+    private long seekStartPos;
+    private int lineNumber = 1;
+    private boolean eof;
+    // true if value found by last seek was quoted and contained escaped quotes
+    private boolean hasEscapedQuotes;
+
+    private char[] chars = new char[KB];
+
+    public MappedByteBufferCharSeeker(File file) throws IOException {
+        this(file, DEFAULT_REGION_SIZE, BufferedCharSeeker.DEFAULT_QUOTE_CHAR);
+    }
+
+    public MappedByteBufferCharSeeker(File file, int regionSize) throws IOException {
+        this(file, regionSize, BufferedCharSeeker.DEFAULT_QUOTE_CHAR);
+    }
+
+    public MappedByteBufferCharSeeker(File file, int regionSize, char quoteChar) throws IOException {
+        this.file = new RandomAccessFile(file, "r");
+        this.channel = this.file.getChannel();
+        this.fileSize = channel.size();
+        this.regionSize = regionSize;
+        this.quoteChar = quoteChar;
+        map(0);
+    }
+
+    @Override
+    public boolean seek(Mark mark, int[] untilOneOfChars) throws IOException {
+        if (eof) {   // We're at the end
+            return eof(mark);
+        }
+
+        seekStartPos = bufferPos;
+        hasEscapedQuotes = false;
+        long valueEndPos = -1;
+        int ch;
+        int quoteDepth = 0;
+        while (!eof) {
+            ch = nextByte();
+            if (quoteDepth == 0) {   // In normal mode, i.e. not within quotes
+                if (ch == quoteChar && seekStartPos == bufferPos - 1) {   // Quote is first byte of value, skip it
+                    quoteDepth++;
+                    seekStartPos++;
+                } else if (isNewLine(ch) || ch == EOF_CHAR) {
+                    break;
+                } else {
+                    for (int i = 0; i < untilOneOfChars.length; i++) {
+                        if (ch == untilOneOfChars[i]) {   // We found a delimiter, set marker and return true
+                            mark.set(lineNumber, seekStartPos, valueEnd(valueEndPos), ch);
+                            return true;
+                        }
+                    }
+                }
+            } else {   // In quoted mode, i.e. within quotes
+                if (ch == quoteChar) {
+                    if (peekByte() == quoteChar) {   // Double quote, quote-in-quote
+                        nextByte();
+                        hasEscapedQuotes = true;
+                    } else {   // Ending quote, value ends here
+                        valueEndPos = bufferPos - 1;
+                        quoteDepth--;
+                    }
+                } else if (ch == BACK_SLASH) {   // Legacy concern, support java style quote encoding
+                    if (peekByte() == quoteChar) {
+                        nextByte();
+                        hasEscapedQuotes = true;
+                    }
+                }
+            }
+        }
+
+        long valueLength = bufferPos - seekStartPos - 1;
+        if (eof && valueLength <= 0 && seekStartPos == lineStartPos) {   // Nothing found before end of file
+            return eof(mark);
+        }
+
+        // We found the last value of the line or stream
+        long valuePos = valueEnd(valueEndPos);
+        skipEolBytes();
+        mark.set(lineNumber, seekStartPos, valuePos, Mark.END_OF_LINE_CHARACTER);
+        lineNumber++;
+        lineStartPos = bufferPos;
+        return true;
+    }
+
+    // unquoted value ends before the byte that terminated it
+    private long valueEnd(long quotedValueEndPos) {
+        return (-1 == quotedValueEndPos) ? bufferPos - 1 : quotedValueEndPos;
+    }
+
+    private boolean eof(Mark mark) {
+        mark.set(lineNumber, -1, -1, Mark.END_OF_LINE_CHARACTER);
+        return false;
+    }
+
+    @Override
+    public <EXTRACTOR extends Extractor<?>> EXTRACTOR extract(Mark mark, EXTRACTOR extractor) {
+        int from = (int) (mark.startPosition() - regionStartPos);
+        int length = (int) (mark.position() - mark.startPosition());
+        if (extractor instanceof Extractors.LongExtractor && !hasEscapedQuotes) {
+            ((Extractors.LongExtractor) extractor).extract(region, from, length);
+        } else {
+            int charCount = toChars(from, length);
+            extractor.extract(chars, 0, charCount);
+        }
+        return extractor;
+    }
+
+    private int toChars(int from, int length) {
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        int charCount = 0;
+        for (int i = from, to = from + length; i < to; i++) {
+            byte b = region.get(i);
+            if (b < 0) {   // Multi-byte character, decode rest of value as UTF-8
+                charCount = decode(i, to, charCount);
+                break;
+            }
+            chars[charCount++] = (char) b;
+        }
+        return (hasEscapedQuotes) ? unescapeQuotes(charCount) : charCount;
+    }
+
+    private int decode(int from, int to, int charCount) {
+        ByteBuffer in = region.duplicate();
+        in.limit(to).position(from);
+        CharBuffer out = CharBuffer.wrap(chars, charCount, chars.length - charCount);
+        decoder.reset();
+        CoderResult result = decoder.decode(in, out, true);
+        if (!result.isUnderflow()) {
+            throw new IllegalStateException("Invalid UTF-8 value on line " + lineNumber, toException(result));
+        }
+        decoder.flush(out);
+        return out.position();
+    }
+
+    private static Exception toException(CoderResult result) {
+        try {
+            result.throwException();
+            return null;
+        } catch (CharacterCodingException e) {
+            return e;
+        }
+    }
+
+    private int unescapeQuotes(int charCount) {
+        int to = 0;
+        for (int from = 0; from < charCount; from++) {
+            char ch = chars[from];
+            if ((ch == quoteChar || ch == BACK_SLASH) && from + 1 < charCount && chars[from + 1] == quoteChar) {
+                from++;
+                ch = chars[from];
+            }
+            chars[to++] = ch;
+        }
+        return to;
+    }
+
+    private boolean isNewLine(int ch) {
+        return ch == EOL_CHAR || ch == EOL_CHAR_2;
+    }
+
+    private void skipEolBytes() throws IOException {
+        while (isNewLine(peekByte())) {
+            nextByte();
+        }
+    }
+
+    private int nextByte() throws IOException {
+        int ch = peekByte();
+        if (ch == EOF_CHAR) {
+            eof = true;
+        }
+        bufferPos++;
+        return ch;
+    }
+
+    private int peekByte() throws IOException {
+        if (bufferPos >= fileSize) {
+            return EOF_CHAR;
+        }
+        if (bufferPos >= regionEndPos) {
+            if (seekStartPos == regionStartPos) {
+                throw new IllegalStateException("Tried to read in a value larger than region size " + regionSize);
+            }
+            // Value being sought becomes start of next region
+            map(seekStartPos);
+        }
+        return region.get((int) (bufferPos - regionStartPos)) & 0xFF;
+    }
+
+    private void map(long startPos) throws IOException {
+        long size = min(regionSize, fileSize - startPos);
+        region = channel.map(FileChannel.MapMode.READ_ONLY, startPos, size);
+        regionStartPos = startPos;
+        regionEndPos = startPos + size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        file.close();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[region:" + regionStartPos + "-" + regionEndPos +
+                ", seekPos:" + seekStartPos + ", line:" + lineNumber + "]";
+    }
+}
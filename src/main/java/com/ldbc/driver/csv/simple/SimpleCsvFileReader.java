@@ -15,10 +15,18 @@ import java.util.regex.Pattern;
 
 import static java.lang.String.format;
 
+/**
+ * Reads rows from a character separated file, splitting lines on a separator regex, or, when the separator is a
+ * single literal character, on that character directly via {@link SingleCharSeparatorLineTokenizer}, which reads rows
+ * without a regex or a string per line. Regexes that match one literal character only, e.g.,
+ * {@link #DEFAULT_COLUMN_SEPARATOR_REGEX_STRING}, select the latter too.
+ */
 public class SimpleCsvFileReader implements Iterator<String[]>, Closeable
 {
     public static final String DEFAULT_COLUMN_SEPARATOR_REGEX_STRING = "\\|";
+    public static final char DEFAULT_COLUMN_SEPARATOR_CHAR = '|';
     private final Pattern columnSeparatorPattern;
+    private final SingleCharSeparatorLineTokenizer tokenizer;
     private final BufferedReader csvReader;
 
     private String[] next = null;
@@ -28,22 +36,73 @@ public class SimpleCsvFileReader implements Iterator<String[]>, Closeable
     {
         this(
                 new BufferedReader( new InputStreamReader( new FileInputStream( csvFile ), Charsets.UTF_8 ) ),
-                Pattern.compile( separatorRegexString )
+                separatorRegexString
         );
     }
 
     public SimpleCsvFileReader( BufferedReader reader, String separatorRegexString ) throws FileNotFoundException
+    {
+        this.csvReader = reader;
+        Character columnSeparator = singleLiteralCharacter( separatorRegexString );
+        if ( null == columnSeparator )
+        {
+            this.columnSeparatorPattern = Pattern.compile( separatorRegexString );
+            this.tokenizer = null;
+        }
+        else
+        {
+            this.columnSeparatorPattern = null;
+            this.tokenizer = new SingleCharSeparatorLineTokenizer( reader, columnSeparator );
+        }
+    }
+
+    public SimpleCsvFileReader( File csvFile, char columnSeparator ) throws FileNotFoundException
     {
         this(
-                reader,
-                Pattern.compile( separatorRegexString )
+                new BufferedReader( new InputStreamReader( new FileInputStream( csvFile ), Charsets.UTF_8 ) ),
+                columnSeparator
         );
     }
 
-    private SimpleCsvFileReader( BufferedReader reader, Pattern separatorRegexPattern ) throws FileNotFoundException
+    public SimpleCsvFileReader( BufferedReader reader, char columnSeparator ) throws FileNotFoundException
     {
+        if ( '\n' == columnSeparator || '\r' == columnSeparator )
+        {
+            throw new IllegalArgumentException( "Column separator can not be a line separator" );
+        }
         this.csvReader = reader;
-        this.columnSeparatorPattern = separatorRegexPattern;
+        this.columnSeparatorPattern = null;
+        this.tokenizer = new SingleCharSeparatorLineTokenizer( reader, columnSeparator );
+    }
+
+    /**
+     * @return the character matched by separatorRegexString if it matches exactly one literal character, which is
+     * neither a line separator nor a letter or digit escaped into a character class, otherwise null
+     */
+    private static Character singleLiteralCharacter( String separatorRegexString )
+    {
+        char c;
+        if ( 1 == separatorRegexString.length() )
+        {
+            c = separatorRegexString.charAt( 0 );
+            if ( ".$|()[{^?*+\\".indexOf( c ) >= 0 )
+            {
+                return null;
+            }
+        }
+        else if ( 2 == separatorRegexString.length() && '\\' == separatorRegexString.charAt( 0 ) )
+        {
+            c = separatorRegexString.charAt( 1 );
+            if ( Character.isLetterOrDigit( c ) )
+            {
+                return null;
+            }
+        }
+        else
+        {
+            return null;
+        }
+        return ('\n' == c || '\r' == c) ? null : c;
     }
 
     @Override
@@ -77,6 +136,8 @@ public class SimpleCsvFileReader implements Iterator<String[]>, Closeable
         String csvLine;
         try
         {
+            if ( null != tokenizer )
+            { return tokenizer.nextLine(); }
             csvLine = csvReader.readLine();
             if ( null == csvLine )
             { return null; }
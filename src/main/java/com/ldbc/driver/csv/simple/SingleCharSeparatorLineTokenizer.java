@@ -0,0 +1,136 @@
+package com.ldbc.driver.csv.simple;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Splits lines read from a reader on a single, literal, column separator character.
+ * <p/>
+ * Characters are read into a reusable buffer and each column is copied out of it directly, so, unlike
+ * BufferedReader.readLine() followed by Pattern.split(), no string is created for the whole line and no regex is
+ * matched. Produces the same rows as those would: lines end at '\n', '\r' or "\r\n", a final line needs no line
+ * separator, and empty columns, including trailing ones, are kept.
+ */
+class SingleCharSeparatorLineTokenizer
+{
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char columnSeparator;
+    private char[] buffer = new char[INITIAL_BUFFER_SIZE];
+    // start of each column of the current line, followed by the position of its line separator
+    private int[] columnStarts = new int[16];
+    private int position = 0;
+    private int end = 0;
+    private boolean endOfInput = false;
+    private boolean skipLineFeed = false;
+
+    SingleCharSeparatorLineTokenizer( Reader reader, char columnSeparator )
+    {
+        this.reader = reader;
+        this.columnSeparator = columnSeparator;
+    }
+
+    /**
+     * @return columns of the next line, or null if there are no more lines
+     */
+    String[] nextLine() throws IOException
+    {
+        if ( skipLineFeed )
+        {
+            if ( position == end && !fill() )
+            {
+                return null;
+            }
+            if ( '\n' == buffer[position] )
+            {
+                position++;
+            }
+            skipLineFeed = false;
+        }
+        if ( position == end && !fill() )
+        {
+            return null;
+        }
+        int columnCount = 1;
+        columnStarts[0] = position;
+        int i = position;
+        while ( true )
+        {
+            if ( i == end )
+            {
+                // line continues beyond buffer, fill() moves it to the start of the buffer
+                int lineStart = columnStarts[0];
+                if ( !fill() )
+                {
+                    break;
+                }
+                int shift = lineStart - position;
+                for ( int column = 0; column < columnCount; column++ )
+                {
+                    columnStarts[column] -= shift;
+                }
+                i -= shift;
+                continue;
+            }
+            char c = buffer[i];
+            if ( columnSeparator == c )
+            {
+                if ( columnCount == columnStarts.length - 1 )
+                {
+                    columnStarts = Arrays.copyOf( columnStarts, columnStarts.length * 2 );
+                }
+                columnStarts[columnCount++] = i + 1;
+            }
+            else if ( '\n' == c || '\r' == c )
+            {
+                skipLineFeed = '\r' == c;
+                break;
+            }
+            i++;
+        }
+        columnStarts[columnCount] = i + 1;
+        String[] columns = new String[columnCount];
+        for ( int column = 0; column < columnCount; column++ )
+        {
+            int columnStart = columnStarts[column];
+            columns[column] = new String( buffer, columnStart, columnStarts[column + 1] - 1 - columnStart );
+        }
+        position = Math.min( i + 1, end );
+        return columns;
+    }
+
+    /**
+     * Moves unconsumed characters, i.e., from position onwards, to the start of the buffer, growing it if they fill
+     * it, then reads more characters after them.
+     *
+     * @return false if no more characters could be read
+     */
+    private boolean fill() throws IOException
+    {
+        if ( endOfInput )
+        {
+            return false;
+        }
+        int remaining = end - position;
+        if ( remaining == buffer.length )
+        {
+            buffer = Arrays.copyOf( buffer, buffer.length * 2 );
+        }
+        else if ( position > 0 )
+        {
+            System.arraycopy( buffer, position, buffer, 0, remaining );
+        }
+        position = 0;
+        end = remaining;
+        int read = reader.read( buffer, end, buffer.length - end );
+        if ( -1 == read )
+        {
+            endOfInput = true;
+            return false;
+        }
+        end += read;
+        return true;
+    }
+}
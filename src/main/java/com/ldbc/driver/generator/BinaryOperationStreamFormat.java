@@ -0,0 +1,55 @@
+package com.ldbc.driver.generator;
+
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Layout of compiled (binary) operation stream files, written by {@link BinaryOperationStreamWriter} and read by
+ * {@link BinaryOperationStreamReader}.
+ * <p/>
+ * All fixed width fields are little endian, variable width fields are length prefixed, in the same style as the SBE
+ * codecs of runtime.metrics.sbe.
+ * <pre>
+ * file   := header stream* footer
+ * header := magic:long version:int
+ * stream := record*
+ * record := length:int type:int scheduledStartTime:long timeStamp:long dependencyTimeStamp:long value
+ * value  := tag:byte payload
+ * footer := dictionarySize:int (length:int utf8)* streamCount:int
+ *           (offset:long length:long operationCount:long firstTimeStamp:long lastTimeStamp:long)*
+ *           (checkpointCount:int checkpointOffset:long*)*
+ *           footerOffset:long magic:long
+ * </pre>
+ * Record length excludes the length field itself. Record value is the operation, as the list produced by
+ * Workload.serializeOperation(), its first element (operation class name) is stored once in the footer dictionary.
+ * Checkpoints are the file offsets of every CHECKPOINT_INTERVAL-th record of a stream (starting with the first), so
+ * a stream can be advanced to any operation without reading the records before it.
+ */
+final class BinaryOperationStreamFormat
+{
+    static final long MAGIC = 0x3153504F4342444CL; // "LDBCOPS1", little endian
+    static final int VERSION = 2;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    static final int HEADER_LENGTH = 8 + 4;
+    static final int TRAILER_LENGTH = 8 + 8;
+    static final int RECORD_LENGTH_FIELD_LENGTH = 4;
+    static final int STREAM_INDEX_ENTRY_LENGTH = 5 * 8;
+    static final int CHECKPOINT_INTERVAL = 1024;
+
+    static final byte TAG_NULL = 0;
+    static final byte TAG_LONG = 1;
+    static final byte TAG_DOUBLE = 2;
+    static final byte TAG_TRUE = 3;
+    static final byte TAG_FALSE = 4;
+    static final byte TAG_STRING = 5;
+    static final byte TAG_DICTIONARY_STRING = 6;
+    static final byte TAG_LIST = 7;
+    static final byte TAG_MAP = 8;
+
+    private BinaryOperationStreamFormat()
+    {
+    }
+}
@@ -0,0 +1,438 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.Workload;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.BYTE_ORDER;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.CHARSET;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.CHECKPOINT_INTERVAL;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.HEADER_LENGTH;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.MAGIC;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.RECORD_LENGTH_FIELD_LENGTH;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.STREAM_INDEX_ENTRY_LENGTH;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_DICTIONARY_STRING;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_DOUBLE;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_FALSE;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_LIST;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_LONG;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_MAP;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_NULL;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_STRING;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_TRUE;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TRAILER_LENGTH;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.VERSION;
+import static java.lang.String.format;
+
+/**
+ * Reads operation streams compiled by {@link BinaryOperationStreamWriter}, see {@link BinaryOperationStreamFormat}
+ * for layout.
+ * <p/>
+ * Footer is read on construction, streams are then read sequentially, in large blocks, by position. Multiple streams
+ * may be read concurrently from one reader, each stream iterator has its own buffer. Operations are re-created via
+ * Workload.marshalOperation(List), without going through any text format. Skipping operations (e.g., via
+ * GeneratorFactory.consume()) seeks to the nearest checkpoint, and does not decode any records.
+ */
+public class BinaryOperationStreamReader implements Closeable
+{
+    private static final int KB = 1024;
+    private static final int DEFAULT_BUFFER_SIZE = 256 * KB;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final Workload workload;
+    private final String[] dictionary;
+    private final List<StreamIndexEntry> streamIndex;
+    private final long[][] streamCheckpoints;
+
+    public BinaryOperationStreamReader( File file, Workload workload ) throws IOException
+    {
+        this.file = new RandomAccessFile( file, "r" );
+        this.channel = this.file.getChannel();
+        this.workload = workload;
+        try
+        {
+            long fileSize = channel.size();
+            if ( fileSize < HEADER_LENGTH + TRAILER_LENGTH )
+            {
+                throw new IOException( format( "Not a compiled operation stream file, too small: %s", file ) );
+            }
+            ByteBuffer header = read( 0, HEADER_LENGTH );
+            if ( MAGIC != header.getLong() )
+            {
+                throw new IOException( format( "Not a compiled operation stream file: %s", file ) );
+            }
+            int version = header.getInt();
+            if ( VERSION != version )
+            {
+                throw new IOException(
+                        format( "Unsupported compiled operation stream file version: %s\nExpected: %s\nFile: %s",
+                                version, VERSION, file ) );
+            }
+            ByteBuffer trailer = read( fileSize - TRAILER_LENGTH, TRAILER_LENGTH );
+            long footerOffset = trailer.getLong();
+            if ( MAGIC != trailer.getLong() || footerOffset < HEADER_LENGTH ||
+                 footerOffset > fileSize - TRAILER_LENGTH )
+            {
+                throw new IOException( format( "Compiled operation stream file is incomplete: %s", file ) );
+            }
+            ByteBuffer footer = read( footerOffset, (int) (fileSize - TRAILER_LENGTH - footerOffset) );
+            this.dictionary = new String[footer.getInt()];
+            for ( int i = 0; i < dictionary.length; i++ )
+            {
+                dictionary[i] = readString( footer );
+            }
+            int streamCount = footer.getInt();
+            if ( footer.remaining() < streamCount * STREAM_INDEX_ENTRY_LENGTH )
+            {
+                throw new IOException( format( "Compiled operation stream file has corrupt index: %s", file ) );
+            }
+            List<StreamIndexEntry> streamIndex = new ArrayList<>();
+            for ( int i = 0; i < streamCount; i++ )
+            {
+                streamIndex.add( new StreamIndexEntry(
+                        footer.getLong(),
+                        footer.getLong(),
+                        footer.getLong(),
+                        footer.getLong(),
+                        footer.getLong()
+                ) );
+            }
+            this.streamIndex = Collections.unmodifiableList( streamIndex );
+            this.streamCheckpoints = new long[streamCount][];
+            for ( int i = 0; i < streamCount; i++ )
+            {
+                long expectedCheckpointCount =
+                        (streamIndex.get( i ).operationCount() + CHECKPOINT_INTERVAL - 1) / CHECKPOINT_INTERVAL;
+                int checkpointCount = footer.getInt();
+                if ( checkpointCount != expectedCheckpointCount || footer.remaining() < checkpointCount * 8 )
+                {
+                    throw new IOException( format( "Compiled operation stream file has corrupt index: %s", file ) );
+                }
+                streamCheckpoints[i] = new long[checkpointCount];
+                for ( int j = 0; j < checkpointCount; j++ )
+                {
+                    streamCheckpoints[i][j] = footer.getLong();
+                }
+            }
+            if ( footer.hasRemaining() )
+            {
+                throw new IOException( format( "Compiled operation stream file has corrupt index: %s", file ) );
+            }
+        }
+        catch ( IOException e )
+        {
+            this.file.close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer read( long position, int length ) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate( length ).order( BYTE_ORDER );
+        while ( buffer.hasRemaining() )
+        {
+            if ( -1 == channel.read( buffer, position + buffer.position() ) )
+            {
+                throw new EOFException( format( "Unexpected end of file at: %s", position + buffer.position() ) );
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    public int streamCount()
+    {
+        return streamIndex.size();
+    }
+
+    public List<StreamIndexEntry> streamIndex()
+    {
+        return streamIndex;
+    }
+
+    public Iterator<Operation> operations( int streamIndex )
+    {
+        return new OperationIterator( this.streamIndex.get( streamIndex ), streamCheckpoints[streamIndex] );
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        file.close();
+    }
+
+    private Object readValue( ByteBuffer buffer )
+    {
+        byte tag = buffer.get();
+        switch ( tag )
+        {
+        case TAG_NULL:
+            return null;
+        case TAG_LONG:
+            return buffer.getLong();
+        case TAG_DOUBLE:
+            return buffer.getDouble();
+        case TAG_TRUE:
+            return Boolean.TRUE;
+        case TAG_FALSE:
+            return Boolean.FALSE;
+        case TAG_STRING:
+            return readString( buffer );
+        case TAG_DICTIONARY_STRING:
+            return dictionary[buffer.getInt()];
+        case TAG_LIST:
+        {
+            int size = buffer.getInt();
+            List<Object> list = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                list.add( readValue( buffer ) );
+            }
+            return list;
+        }
+        case TAG_MAP:
+        {
+            int size = buffer.getInt();
+            Map<Object,Object> map = new LinkedHashMap<>();
+            for ( int i = 0; i < size; i++ )
+            {
+                map.put( readValue( buffer ), readValue( buffer ) );
+            }
+            return map;
+        }
+        default:
+            throw new GeneratorException( format( "Unknown value tag in compiled operation stream: %s", tag ) );
+        }
+    }
+
+    private static String readString( ByteBuffer buffer )
+    {
+        int length = buffer.getInt();
+        String value = new String( buffer.array(), buffer.arrayOffset() + buffer.position(), length, CHARSET );
+        buffer.position( buffer.position() + length );
+        return value;
+    }
+
+    private class OperationIterator implements SkippableIterator<Operation>
+    {
+        private final long endPosition;
+        private final long operationCount;
+        private final long[] checkpoints;
+        private long filePosition;
+        private long remainingOperationCount;
+        private ByteBuffer buffer;
+
+        private OperationIterator( StreamIndexEntry entry, long[] checkpoints )
+        {
+            this.operationCount = entry.operationCount();
+            this.checkpoints = checkpoints;
+            this.filePosition = entry.offset();
+            this.endPosition = entry.offset() + entry.length();
+            this.remainingOperationCount = entry.operationCount();
+            this.buffer = ByteBuffer.allocate( (int) Math.min( DEFAULT_BUFFER_SIZE, Math.max( 1, entry.length() ) ) )
+                    .order( BYTE_ORDER );
+            buffer.flip();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return remainingOperationCount > 0;
+        }
+
+        @Override
+        public Operation next()
+        {
+            if ( remainingOperationCount <= 0 )
+            {
+                throw new NoSuchElementException( "Compiled operation stream has no more operations" );
+            }
+            try
+            {
+                fill( RECORD_LENGTH_FIELD_LENGTH );
+                int recordLength = buffer.getInt();
+                fill( recordLength );
+                int recordEnd = buffer.position() + recordLength;
+                buffer.getInt(); // operation type, operation is identified by class name
+                long scheduledStartTimeAsMilli = buffer.getLong();
+                long timeStamp = buffer.getLong();
+                long dependencyTimeStamp = buffer.getLong();
+                @SuppressWarnings( "unchecked" )
+                List<Object> operationAsList = (List<Object>) readValue( buffer );
+                buffer.position( recordEnd );
+                Operation operation = workload.marshalOperation( operationAsList );
+                operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+                operation.setTimeStamp( timeStamp );
+                operation.setDependencyTimeStamp( dependencyTimeStamp );
+                remainingOperationCount--;
+                return operation;
+            }
+            catch ( IOException | SerializingMarshallingException e )
+            {
+                throw new GeneratorException( "Error while reading next operation from compiled stream", e );
+            }
+        }
+
+        /**
+         * Seeks to closest checkpoint at or before target operation, if it is ahead of current operation, then steps
+         * over remaining records using only their lengths
+         */
+        @Override
+        public long skip( long count )
+        {
+            long skipCount = Math.min( Math.max( 0, count ), remainingOperationCount );
+            long operationIndex = operationCount - remainingOperationCount;
+            long targetOperationIndex = operationIndex + skipCount;
+            int checkpoint = (int) (targetOperationIndex / CHECKPOINT_INTERVAL);
+            if ( checkpoint < checkpoints.length && (long) checkpoint * CHECKPOINT_INTERVAL > operationIndex )
+            {
+                filePosition = checkpoints[checkpoint];
+                buffer.clear();
+                buffer.flip();
+                operationIndex = (long) checkpoint * CHECKPOINT_INTERVAL;
+            }
+            try
+            {
+                for ( ; operationIndex < targetOperationIndex; operationIndex++ )
+                {
+                    fill( RECORD_LENGTH_FIELD_LENGTH );
+                    int recordLength = buffer.getInt();
+                    if ( buffer.remaining() >= recordLength )
+                    {
+                        buffer.position( buffer.position() + recordLength );
+                    }
+                    else
+                    {
+                        filePosition += recordLength - buffer.remaining();
+                        buffer.clear();
+                        buffer.flip();
+                    }
+                }
+            }
+            catch ( IOException e )
+            {
+                throw new GeneratorException( "Error while skipping operations of compiled stream", e );
+            }
+            remainingOperationCount -= skipCount;
+            return skipCount;
+        }
+
+        /**
+         * Ensures at least length bytes are readable from buffer, reading next block of stream if necessary
+         */
+        private void fill( int length ) throws IOException
+        {
+            if ( buffer.remaining() >= length )
+            {
+                return;
+            }
+            if ( buffer.capacity() < length )
+            {
+                ByteBuffer newBuffer = ByteBuffer.allocate( length ).order( BYTE_ORDER );
+                newBuffer.put( buffer );
+                buffer = newBuffer;
+            }
+            else
+            {
+                buffer.compact();
+            }
+            while ( buffer.position() < length )
+            {
+                int maxRead = (int) Math.min( buffer.remaining(), endPosition - filePosition );
+                if ( maxRead <= 0 )
+                {
+                    throw new EOFException( "Unexpected end of compiled operation stream" );
+                }
+                ByteBuffer target = buffer.duplicate();
+                target.limit( target.position() + maxRead );
+                int read = channel.read( target, filePosition );
+                if ( -1 == read )
+                {
+                    throw new EOFException( "Unexpected end of compiled operation stream file" );
+                }
+                filePosition += read;
+                buffer.position( target.position() );
+            }
+            buffer.flip();
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException(
+                    format( "%s does not support remove()", getClass().getSimpleName() ) );
+        }
+    }
+
+    public static class StreamIndexEntry
+    {
+        private final long offset;
+        private final long length;
+        private final long operationCount;
+        private final long firstTimeStamp;
+        private final long lastTimeStamp;
+
+        public StreamIndexEntry( long offset, long length, long operationCount, long firstTimeStamp,
+                long lastTimeStamp )
+        {
+            this.offset = offset;
+            this.length = length;
+            this.operationCount = operationCount;
+            this.firstTimeStamp = firstTimeStamp;
+            this.lastTimeStamp = lastTimeStamp;
+        }
+
+        public long offset()
+        {
+            return offset;
+        }
+
+        public long length()
+        {
+            return length;
+        }
+
+        public long operationCount()
+        {
+            return operationCount;
+        }
+
+        public long firstTimeStamp()
+        {
+            return firstTimeStamp;
+        }
+
+        public long lastTimeStamp()
+        {
+            return lastTimeStamp;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "StreamIndexEntry{" +
+                   "offset=" + offset +
+                   ", length=" + length +
+                   ", operationCount=" + operationCount +
+                   ", firstTimeStamp=" + firstTimeStamp +
+                   ", lastTimeStamp=" + lastTimeStamp +
+                   '}';
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.util.JsonArrayReader;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.BYTE_ORDER;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.CHARSET;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.CHECKPOINT_INTERVAL;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.HEADER_LENGTH;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.MAGIC;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.RECORD_LENGTH_FIELD_LENGTH;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_DICTIONARY_STRING;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_DOUBLE;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_FALSE;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_LIST;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_LONG;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_MAP;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_NULL;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_STRING;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.TAG_TRUE;
+import static com.ldbc.driver.generator.BinaryOperationStreamFormat.VERSION;
+import static java.lang.String.format;
+
+/**
+ * Compiles operation streams into a binary file, see {@link BinaryOperationStreamFormat} for layout.
+ * <p/>
+ * Streams are written one after the other, each by one call to writeStream(), index of a stream in the file is the
+ * order in which it was written. Operations are encoded from the output of Workload.serializeOperation(), so every
+ * operation the workload can serialize can be compiled. Footer is written on close().
+ */
+public class BinaryOperationStreamWriter implements Closeable
+{
+    private static final int KB = 1024;
+    private static final int DEFAULT_BUFFER_SIZE = 1024 * KB;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final Workload workload;
+    private final Map<String,Integer> dictionary = new LinkedHashMap<>();
+    private final List<BinaryOperationStreamReader.StreamIndexEntry> streamIndex = new ArrayList<>();
+    private final List<List<Long>> streamCheckpoints = new ArrayList<>();
+    private ByteBuffer buffer;
+    private long position = 0;
+    private boolean closed = false;
+
+    public BinaryOperationStreamWriter( File file, Workload workload ) throws IOException
+    {
+        this.file = new RandomAccessFile( file, "rw" );
+        this.file.setLength( 0 );
+        this.channel = this.file.getChannel();
+        this.workload = workload;
+        this.buffer = ByteBuffer.allocate( DEFAULT_BUFFER_SIZE ).order( BYTE_ORDER );
+        buffer.putLong( MAGIC );
+        buffer.putInt( VERSION );
+        position = HEADER_LENGTH;
+    }
+
+    /**
+     * @return number of operations written
+     */
+    public long writeStream( Iterator<Operation> operations ) throws IOException, SerializingMarshallingException
+    {
+        if ( closed )
+        {
+            throw new IOException( "Writer has already been closed" );
+        }
+        long streamOffset = position;
+        long operationCount = 0;
+        long firstTimeStamp = -1;
+        long lastTimeStamp = -1;
+        List<Long> checkpoints = new ArrayList<>();
+        while ( operations.hasNext() )
+        {
+            Operation operation = operations.next();
+            if ( 0 == operationCount % CHECKPOINT_INTERVAL )
+            {
+                checkpoints.add( position );
+            }
+            writeOperation( operation );
+            if ( 0 == operationCount )
+            {
+                firstTimeStamp = operation.timeStamp();
+            }
+            lastTimeStamp = operation.timeStamp();
+            operationCount++;
+        }
+        streamIndex.add( new BinaryOperationStreamReader.StreamIndexEntry(
+                streamOffset,
+                position - streamOffset,
+                operationCount,
+                firstTimeStamp,
+                lastTimeStamp
+        ) );
+        streamCheckpoints.add( checkpoints );
+        return operationCount;
+    }
+
+    private void writeOperation( Operation operation ) throws IOException, SerializingMarshallingException
+    {
+        String serializedOperation = workload.serializeOperation( operation );
+        List<Object> operationAsList = JsonArrayReader.readList( serializedOperation );
+        if ( operationAsList.isEmpty() || !(operationAsList.get( 0 ) instanceof String) )
+        {
+            throw new SerializingMarshallingException(
+                    format( "Serialized operation does not start with operation class name\n%s",
+                            serializedOperation ) );
+        }
+
+        flushIfFull();
+        ensureCapacity( RECORD_LENGTH_FIELD_LENGTH + 4 + 3 * 8 );
+        int recordStart = buffer.position();
+        buffer.putInt( 0 ); // length, set once record is encoded
+        buffer.putInt( operation.type() );
+        buffer.putLong( operation.scheduledStartTimeAsMilli() );
+        buffer.putLong( operation.timeStamp() );
+        buffer.putLong( operation.dependencyTimeStamp() );
+        ensureCapacity( 1 + 4 );
+        buffer.put( TAG_LIST );
+        buffer.putInt( operationAsList.size() );
+        ensureCapacity( 1 + 4 );
+        buffer.put( TAG_DICTIONARY_STRING );
+        buffer.putInt( dictionaryIndexFor( (String) operationAsList.get( 0 ) ) );
+        for ( int i = 1; i < operationAsList.size(); i++ )
+        {
+            writeValue( operationAsList.get( i ) );
+        }
+        int recordLength = buffer.position() - recordStart;
+        buffer.putInt( recordStart, recordLength - RECORD_LENGTH_FIELD_LENGTH );
+        position += recordLength;
+    }
+
+    private int dictionaryIndexFor( String value )
+    {
+        Integer index = dictionary.get( value );
+        if ( null == index )
+        {
+            index = dictionary.size();
+            dictionary.put( value, index );
+        }
+        return index;
+    }
+
+    private void writeValue( Object value ) throws SerializingMarshallingException
+    {
+        if ( null == value )
+        {
+            ensureCapacity( 1 );
+            buffer.put( TAG_NULL );
+        }
+        else if ( value instanceof Long || value instanceof Integer || value instanceof Short ||
+                  value instanceof Byte )
+        {
+            ensureCapacity( 1 + 8 );
+            buffer.put( TAG_LONG );
+            buffer.putLong( ((Number) value).longValue() );
+        }
+        else if ( value instanceof Double || value instanceof Float )
+        {
+            ensureCapacity( 1 + 8 );
+            buffer.put( TAG_DOUBLE );
+            buffer.putDouble( ((Number) value).doubleValue() );
+        }
+        else if ( value instanceof Boolean )
+        {
+            ensureCapacity( 1 );
+            buffer.put( ((Boolean) value) ? TAG_TRUE : TAG_FALSE );
+        }
+        else if ( value instanceof String )
+        {
+            byte[] bytes = ((String) value).getBytes( CHARSET );
+            ensureCapacity( 1 + 4 + bytes.length );
+            buffer.put( TAG_STRING );
+            buffer.putInt( bytes.length );
+            buffer.put( bytes );
+        }
+        else if ( value instanceof List )
+        {
+            List<?> list = (List<?>) value;
+            ensureCapacity( 1 + 4 );
+            buffer.put( TAG_LIST );
+            buffer.putInt( list.size() );
+            for ( Object element : list )
+            {
+                writeValue( element );
+            }
+        }
+        else if ( value instanceof Map )
+        {
+            Map<?,?> map = (Map<?,?>) value;
+            ensureCapacity( 1 + 4 );
+            buffer.put( TAG_MAP );
+            buffer.putInt( map.size() );
+            for ( Map.Entry<?,?> entry : map.entrySet() )
+            {
+                writeValue( entry.getKey() );
+                writeValue( entry.getValue() );
+            }
+        }
+        else
+        {
+            throw new SerializingMarshallingException(
+                    format( "Unsupported value type in serialized operation: %s\n%s",
+                            value.getClass().getName(), value ) );
+        }
+    }
+
+    /**
+     * Makes room in buffer for given number of bytes, growing it if necessary.
+     * Record currently being encoded is never flushed, so its length can still be written when it is complete.
+     */
+    private void ensureCapacity( int length )
+    {
+        if ( buffer.remaining() < length )
+        {
+            ByteBuffer newBuffer = ByteBuffer.allocate( Math.max( buffer.capacity() * 2, buffer.position() + length ) )
+                    .order( BYTE_ORDER );
+            buffer.flip();
+            newBuffer.put( buffer );
+            buffer = newBuffer;
+        }
+    }
+
+    private void flushIfFull() throws IOException
+    {
+        if ( buffer.position() >= DEFAULT_BUFFER_SIZE / 2 )
+        {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException
+    {
+        buffer.flip();
+        while ( buffer.hasRemaining() )
+        {
+            channel.write( buffer );
+        }
+        buffer.clear();
+        if ( buffer.capacity() > DEFAULT_BUFFER_SIZE )
+        {
+            buffer = ByteBuffer.allocate( DEFAULT_BUFFER_SIZE ).order( BYTE_ORDER );
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if ( closed )
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            long footerOffset = position;
+            ensureCapacity( 4 );
+            buffer.putInt( dictionary.size() );
+            for ( String value : dictionary.keySet() )
+            {
+                byte[] bytes = value.getBytes( CHARSET );
+                ensureCapacity( 4 + bytes.length );
+                buffer.putInt( bytes.length );
+                buffer.put( bytes );
+            }
+            ensureCapacity( 4 );
+            buffer.putInt( streamIndex.size() );
+            for ( BinaryOperationStreamReader.StreamIndexEntry entry : streamIndex )
+            {
+                ensureCapacity( BinaryOperationStreamFormat.STREAM_INDEX_ENTRY_LENGTH );
+                buffer.putLong( entry.offset() );
+                buffer.putLong( entry.length() );
+                buffer.putLong( entry.operationCount() );
+                buffer.putLong( entry.firstTimeStamp() );
+                buffer.putLong( entry.lastTimeStamp() );
+            }
+            for ( List<Long> checkpoints : streamCheckpoints )
+            {
+                ensureCapacity( 4 + checkpoints.size() * 8 );
+                buffer.putInt( checkpoints.size() );
+                for ( long checkpoint : checkpoints )
+                {
+                    buffer.putLong( checkpoint );
+                }
+            }
+            ensureCapacity( BinaryOperationStreamFormat.TRAILER_LENGTH );
+            buffer.putLong( footerOffset );
+            buffer.putLong( MAGIC );
+            flush();
+            channel.force( true );
+        }
+        finally
+        {
+            file.close();
+        }
+    }
+}
@@ -212,6 +212,11 @@ public class GeneratorFactory
 
     public <T> void consume( Iterator<T> generator, long count )
     {
+        if ( generator instanceof SkippableIterator )
+        {
+            ((SkippableIterator<T>) generator).skip( count );
+            return;
+        }
         for ( long consumed = 0; generator.hasNext() && consumed < count; consumed++ )
         {
             generator.next();
@@ -520,20 +525,8 @@ public class GeneratorFactory
      */
     public Iterator<Operation> mergeSortOperationsByScheduledStartTime( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
-                {
-                    @Override
-                    public int compare( Operation o1, Operation o2 )
-                    {
-                        if ( o1.scheduledStartTimeAsMilli() > o2.scheduledStartTimeAsMilli() )
-                        { return 1; }
-                        else if ( o1.scheduledStartTimeAsMilli() < o2.scheduledStartTimeAsMilli() )
-                        { return -1; }
-                        else
-                        { return 0; }
-                    }
-                },
+        return new TimeOrderedOperationMergeGenerator(
+                TimeOrderedOperationMergeGenerator.SortKey.SCHEDULED_START_TIME,
                 generators
         );
     }
@@ -546,20 +539,8 @@ public class GeneratorFactory
      */
     public Iterator<Operation> mergeSortOperationsByTimeStamp( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
-                {
-                    @Override
-                    public int compare( Operation o1, Operation o2 )
-                    {
-                        if ( o1.timeStamp() > o2.timeStamp() )
-                        { return 1; }
-                        else if ( o1.timeStamp() < o2.timeStamp() )
-                        { return -1; }
-                        else
-                        { return 0; }
-                    }
-                },
+        return new TimeOrderedOperationMergeGenerator(
+                TimeOrderedOperationMergeGenerator.SortKey.TIME_STAMP,
                 generators
         );
     }
@@ -5,17 +5,27 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
+/**
+ * Merges sorted generators into one sorted generator, using a {@link TournamentTree} to find the generator with the
+ * lowest head, so merging k generators costs O(log k) comparisons per element.
+ * Ties are won by the generator that was provided first.
+ * Generators are first read, and the tree first built, when the merged generator is, not on construction.
+ */
 public class OrderedMultiGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE> {
-    private final List<GeneratorHead<GENERATE_TYPE>> generatorHeads;
+    // leaves remain in generator order when exhausted generators are dropped, so ties are won by the lowest leaf
+    private List<GeneratorHead<GENERATE_TYPE>> generatorHeads = null;
     private final Comparator<GENERATE_TYPE> comparator;
+    private final int lookAheadDistance;
+    private Iterator<GENERATE_TYPE>[] generators;
+    // index 0 holds the leaf of the overall winner, all other indexes hold the leaf that lost the match at that node
+    private final int[] nodes;
+    private int liveCount;
 
     public OrderedMultiGenerator(Comparator<GENERATE_TYPE> comparator, int lookAheadDistance, Iterator<GENERATE_TYPE>... generators) {
         this.comparator = comparator;
-        if (1 == lookAheadDistance) {
-            this.generatorHeads = buildSimpleGeneratorHeads(generators);
-        } else {
-            this.generatorHeads = buildLookAheadGeneratorHeads(comparator, lookAheadDistance, generators);
-        }
+        this.lookAheadDistance = lookAheadDistance;
+        this.generators = generators;
+        this.nodes = new int[Math.max(1, generators.length)];
     }
 
     private static <T1> List<GeneratorHead<T1>> buildSimpleGeneratorHeads(Iterator<T1>... generators) {
@@ -36,27 +46,63 @@ public class OrderedMultiGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYP
 
     @Override
     protected GENERATE_TYPE doNext() throws GeneratorException {
-        GeneratorHead<GENERATE_TYPE> minGeneratorHead = getMinGeneratorHead();
-        return (null == minGeneratorHead) ? null : minGeneratorHead.removeHead();
+        if (null == generatorHeads) {
+            // heads read from their generators, so generators are only read once merged generator is
+            if (1 == lookAheadDistance) {
+                generatorHeads = buildSimpleGeneratorHeads(generators);
+            } else {
+                generatorHeads = buildLookAheadGeneratorHeads(comparator, lookAheadDistance, generators);
+            }
+            generators = null;
+            build();
+        }
+        if (0 == liveCount) {
+            return null;
+        }
+        int winner = nodes[0];
+        GENERATE_TYPE next = generatorHeads.get(winner).removeHead();
+        if (null == generatorHeads.get(winner).inspectHead()) {
+            liveCount--;
+            if (liveCount <= generatorHeads.size() / 2) {
+                build();
+                return next;
+            }
+        }
+        int leafCount = generatorHeads.size();
+        for (int node = (winner + leafCount) >> 1; node > 0; node >>= 1) {
+            if (beats(nodes[node], winner)) {
+                int loser = winner;
+                winner = nodes[node];
+                nodes[node] = loser;
+            }
+        }
+        nodes[0] = winner;
+        return next;
     }
 
-    private GeneratorHead<GENERATE_TYPE> getMinGeneratorHead() {
-        GeneratorHead<GENERATE_TYPE> minGeneratorHead = null;
-
-        // Get generator head with lowest head element (removing empty ones encountered first)
-        for (int i = 0; i < generatorHeads.size(); i++) {
-            GeneratorHead<GENERATE_TYPE> generatorHead = generatorHeads.get(i);
-            if (null == generatorHead) continue;
-            if (null == generatorHead.inspectHead()) {
-                generatorHeads.set(i, null);
-                continue;
-            }
-            if (null == minGeneratorHead || comparator.compare(generatorHead.inspectHead(), minGeneratorHead.inspectHead()) < 0) {
-                minGeneratorHead = generatorHead;
+    // drops exhausted generators, then plays all matches
+    private void build() {
+        Iterator<GeneratorHead<GENERATE_TYPE>> heads = generatorHeads.iterator();
+        while (heads.hasNext()) {
+            if (null == heads.next().inspectHead()) {
+                heads.remove();
             }
         }
+        liveCount = generatorHeads.size();
+        TournamentTree.playAllMatches(nodes, liveCount, this::beats);
+    }
 
-        return minGeneratorHead;
+    private boolean beats(int leafA, int leafB) {
+        GENERATE_TYPE headA = generatorHeads.get(leafA).inspectHead();
+        GENERATE_TYPE headB = generatorHeads.get(leafB).inspectHead();
+        if (null == headA) {
+            return false;
+        }
+        if (null == headB) {
+            return true;
+        }
+        int comparison = comparator.compare(headA, headB);
+        return comparison < 0 || (0 == comparison && leafA < leafB);
     }
 
     private static interface GeneratorHead<T1> {
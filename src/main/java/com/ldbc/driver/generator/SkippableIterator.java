@@ -0,0 +1,17 @@
+package com.ldbc.driver.generator;
+
+import java.util.Iterator;
+
+/**
+ * Iterator that can advance past elements without materializing them, e.g., by seeking within an indexed file.
+ * GeneratorFactory.consume() uses skip() when it is available.
+ */
+public interface SkippableIterator<T> extends Iterator<T>
+{
+    /**
+     * Advances past at most count elements, fewer if the iterator is exhausted first
+     *
+     * @return number of elements skipped
+     */
+    long skip( long count );
+}
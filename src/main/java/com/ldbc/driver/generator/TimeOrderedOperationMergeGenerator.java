@@ -0,0 +1,139 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Merges operation streams, each sorted by scheduled start time or by time stamp, into one stream sorted by the
+ * same time.
+ * <p/>
+ * Specialization of the {@link TournamentTree} used by {@link OrderedMultiGenerator}, for the driver's most frequent
+ * merges: the time of every stream head is read once, when the stream advances, and kept in a primitive array
+ * indexed by leaf, so each match compares two longs rather than calling a comparator on two operations.
+ * Exhausted streams get the highest possible time, so they lose all matches without a separate check, except on ties.
+ */
+public class TimeOrderedOperationMergeGenerator extends Generator<Operation>
+{
+    public enum SortKey
+    {
+        SCHEDULED_START_TIME,
+        TIME_STAMP
+    }
+
+    private final boolean sortByScheduledStartTime;
+    // leaves remain in stream order when exhausted streams are dropped, so ties are won by the lowest leaf
+    private final Iterator<Operation>[] leafStreams;
+    private final Operation[] leafHeads;
+    private final long[] leafTimes;
+    // index 0 holds the leaf of the overall winner, all other indexes hold the leaf that lost the match at that node
+    private final int[] nodes;
+    private int leafCount;
+    private int liveCount;
+    private boolean started = false;
+
+    TimeOrderedOperationMergeGenerator( SortKey sortKey, Iterator<Operation>... streams )
+    {
+        this.sortByScheduledStartTime = SortKey.SCHEDULED_START_TIME == sortKey;
+        this.leafStreams = Arrays.copyOf( streams, streams.length );
+        this.leafHeads = new Operation[streams.length];
+        this.leafTimes = new long[streams.length];
+        this.nodes = new int[Math.max( 1, streams.length )];
+        this.leafCount = streams.length;
+    }
+
+    @Override
+    protected Operation doNext() throws GeneratorException
+    {
+        if ( false == started )
+        {
+            // streams are only read once merged stream is, as with other generators
+            for ( int leaf = 0; leaf < leafCount; leaf++ )
+            {
+                advance( leaf );
+            }
+            build();
+            started = true;
+        }
+        if ( 0 == liveCount )
+        { return null; }
+        int winner = nodes[0];
+        Operation next = leafHeads[winner];
+        advance( winner );
+        replay( winner );
+        return next;
+    }
+
+    private void advance( int leaf )
+    {
+        if ( leafStreams[leaf].hasNext() )
+        {
+            Operation head = leafStreams[leaf].next();
+            leafHeads[leaf] = head;
+            leafTimes[leaf] = (sortByScheduledStartTime) ? head.scheduledStartTimeAsMilli() : head.timeStamp();
+        }
+        else
+        {
+            leafHeads[leaf] = null;
+            leafTimes[leaf] = Long.MAX_VALUE;
+        }
+    }
+
+    private void replay( int winner )
+    {
+        if ( null == leafHeads[winner] )
+        {
+            liveCount--;
+            if ( liveCount <= leafCount / 2 )
+            {
+                build();
+                return;
+            }
+        }
+        for ( int node = (winner + leafCount) >> 1; node > 0; node >>= 1 )
+        {
+            if ( beats( nodes[node], winner ) )
+            {
+                int loser = winner;
+                winner = nodes[node];
+                nodes[node] = loser;
+            }
+        }
+        nodes[0] = winner;
+    }
+
+    // drops exhausted streams, then plays all matches
+    private void build()
+    {
+        int live = 0;
+        for ( int leaf = 0; leaf < leafCount; leaf++ )
+        {
+            if ( null != leafHeads[leaf] )
+            {
+                leafStreams[live] = leafStreams[leaf];
+                leafHeads[live] = leafHeads[leaf];
+                leafTimes[live] = leafTimes[leaf];
+                live++;
+            }
+        }
+        leafCount = live;
+        liveCount = live;
+        TournamentTree.playAllMatches( nodes, leafCount, this::beats );
+    }
+
+    private boolean beats( int leafA, int leafB )
+    {
+        long timeA = leafTimes[leafA];
+        long timeB = leafTimes[leafB];
+        if ( timeA != timeB )
+        {
+            return timeA < timeB;
+        }
+        if ( null == leafHeads[leafA] )
+        {
+            return false;
+        }
+        return null == leafHeads[leafB] || leafA < leafB;
+    }
+}
@@ -0,0 +1,64 @@
+package com.ldbc.driver.generator;
+
+import java.util.Arrays;
+
+/**
+ * Loser tree, i.e., tournament tree, used to k-way merge sorted inputs, each input being one leaf of the tree.
+ * <p/>
+ * For n leaves, nodes 1 to n-1 are the internal nodes, node i having children 2i & 2i+1, and leaf j is found at
+ * position n+j, so the parent of leaf j is node (n+j)/2. Every internal node holds the leaf that lost the match played
+ * there, and node 0 holds the overall winner. When the winning input advances only the matches on the path from its
+ * leaf to the root are replayed, one comparison per level, i.e., O(log k) comparisons per merged element:
+ * <pre>
+ * for ( int node = (winner + leafCount) >> 1; node > 0; node >>= 1 )
+ * {
+ *     if ( beats( nodes[node], winner ) ) { swap winner & nodes[node] }
+ * }
+ * nodes[0] = winner;
+ * </pre>
+ * Users inline that loop, so the comparison of their leaves can be inlined too, and drop exhausted inputs by
+ * compacting their leaves & playing all matches again.
+ */
+final class TournamentTree
+{
+    interface Match
+    {
+        /**
+         * @return true if the head of leafA is to be merged before the head of leafB
+         */
+        boolean beats( int leafA, int leafB );
+    }
+
+    private TournamentTree()
+    {
+    }
+
+    static void playAllMatches( int[] nodes, int leafCount, Match match )
+    {
+        Arrays.fill( nodes, -1 );
+        for ( int leaf = 0; leaf < leafCount; leaf++ )
+        {
+            // the first leaf to reach a node waits there for its opponent, the winner of each match moves up
+            int winner = leaf;
+            for ( int node = (leaf + leafCount) >> 1; node > 0; node >>= 1 )
+            {
+                if ( -1 == nodes[node] )
+                {
+                    nodes[node] = winner;
+                    winner = -1;
+                    break;
+                }
+                if ( match.beats( nodes[node], winner ) )
+                {
+                    int loser = winner;
+                    winner = nodes[node];
+                    nodes[node] = loser;
+                }
+            }
+            if ( -1 != winner )
+            {
+                nodes[0] = winner;
+            }
+        }
+    }
+}
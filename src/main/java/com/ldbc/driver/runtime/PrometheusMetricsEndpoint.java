@@ -0,0 +1,275 @@
+package com.ldbc.driver.runtime;
+
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.metrics.ConnectionStateAcquisitionSnapshot;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.IntervalMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.OperationMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import static java.lang.String.format;
+
+/**
+ * Embedded HTTP endpoint that serves live metrics of a running workload at /metrics, in Prometheus text format.
+ * <p/>
+ * Metrics are computed when scraped, from the metrics service, completion time service & executors, so scraping has
+ * a cost similar to that of a status update & should not be done more often than every few seconds.
+ * Durations are exposed in seconds and times in seconds since epoch, as is convention for Prometheus metrics.
+ */
+public class PrometheusMetricsEndpoint
+{
+    static final String METRICS_PATH = "/metrics";
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final String PREFIX = "ldbc_driver_";
+    private static final double[] QUANTILES = new double[]{0.5, 0.9, 0.95, 0.99, 0.999};
+
+    private final HttpServer httpServer;
+    private final MetricsService.MetricsServiceWriter metricsServiceWriter;
+    private final DisruptorSbeMetricsService disruptorSbeMetricsService;
+    private final CompletionTimeReader completionTimeReader;
+    private final LongSupplier inFlightOperationCount;
+    private final boolean warmup;
+    private final LoggingService loggingService;
+
+    /**
+     * @param port port to listen on, 0 to pick any free port
+     * @param inFlightOperationCount number of operations submitted to executors that have not yet completed
+     */
+    public PrometheusMetricsEndpoint(
+            int port,
+            boolean warmup,
+            MetricsService metricsService,
+            CompletionTimeReader completionTimeReader,
+            LongSupplier inFlightOperationCount,
+            LoggingServiceFactory loggingServiceFactory ) throws IOException, MetricsCollectionException
+    {
+        this.metricsServiceWriter = metricsService.getWriter();
+        // ring buffer metrics are only available when metrics are collected via a ring buffer
+        this.disruptorSbeMetricsService = (metricsService instanceof DisruptorSbeMetricsService)
+                                          ? (DisruptorSbeMetricsService) metricsService
+                                          : null;
+        this.completionTimeReader = completionTimeReader;
+        this.inFlightOperationCount = inFlightOperationCount;
+        this.warmup = warmup;
+        this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+        this.httpServer = HttpServer.create( new InetSocketAddress( port ), 0 );
+        this.httpServer.createContext( METRICS_PATH, new MetricsHandler() );
+    }
+
+    public void start()
+    {
+        httpServer.start();
+        loggingService.info( format( "Serving metrics at http://localhost:%s%s", port(), METRICS_PATH ) );
+    }
+
+    public void stop()
+    {
+        httpServer.stop( 0 );
+    }
+
+    public int port()
+    {
+        return httpServer.getAddress().getPort();
+    }
+
+    String scrape() throws MetricsCollectionException, CompletionTimeException
+    {
+        StringBuilder sb = new StringBuilder();
+
+        WorkloadStatusSnapshot status = metricsServiceWriter.status();
+        gauge( sb, "warmup", "1 while warmup is running, 0 while measurement is running", (warmup) ? 1 : 0 );
+        gauge( sb, "run_duration_seconds", "Time since first operation started",
+                seconds( status.runDurationAsMilli(), TimeUnit.MILLISECONDS ) );
+        counter( sb, "operations_total", "Operations completed", status.operationCount() );
+        gauge( sb, "throughput_operations_per_second", "Operations completed per second, since run start",
+                status.throughput() );
+        gauge( sb, "operations_in_flight", "Operations submitted to executors that have not yet completed",
+                inFlightOperationCount.getAsLong() );
+        gauge( sb, "completion_time_seconds", "Completion Time (CT), in workload time",
+                seconds( completionTimeReader.completionTimeAsMilli(), TimeUnit.MILLISECONDS ) );
+        gauge( sb, "lowest_initiated_time_seconds", "Last known lowest initiated time (LITe), in workload time",
+                seconds( completionTimeReader.lastKnownLowestInitiatedTimeAsMilli(), TimeUnit.MILLISECONDS ) );
+        if ( null != disruptorSbeMetricsService )
+        {
+            gauge( sb, "metrics_ring_occupancy", "Unprocessed events in metrics ring buffer",
+                    disruptorSbeMetricsService.ringOccupancy() );
+            gauge( sb, "metrics_ring_max_occupancy", "Highest sampled number of unprocessed events in ring buffer",
+                    disruptorSbeMetricsService.maxRingOccupancy() );
+            counter( sb, "metrics_ring_full_total", "Operation results that had to wait for space in ring buffer",
+                    disruptorSbeMetricsService.ringFullCount() );
+        }
+        ConnectionStateAcquisitionSnapshot connectionStateAcquisition = status.connectionStateAcquisition();
+        if ( null != connectionStateAcquisition )
+        {
+            counter( sb, "connection_state_acquisitions_total", "Connection states acquired from connection state pool",
+                    connectionStateAcquisition.count() );
+            counter( sb, "connection_state_acquisition_wait_seconds_total",
+                    "Time spent waiting for connection states from connection state pool",
+                    seconds( connectionStateAcquisition.totalWaitAsNano(), TimeUnit.NANOSECONDS ) );
+            gauge( sb, "connection_state_acquisition_max_wait_seconds",
+                    "Longest wait for a connection state from connection state pool",
+                    seconds( connectionStateAcquisition.maxWaitAsNano(), TimeUnit.NANOSECONDS ) );
+        }
+
+        WorkloadResultsSnapshot results = metricsServiceWriter.results();
+        List<OperationMetricsSnapshot> allMetrics = results.allMetrics();
+        header( sb, "operation_operations_total", "Operations completed, per operation type", "counter" );
+        for ( OperationMetricsSnapshot operationMetrics : allMetrics )
+        {
+            sample( sb, "operation_operations_total", operationLabel( operationMetrics ), operationMetrics.count() );
+        }
+        summary( sb, allMetrics, "operation_run_time_seconds", "Run time, per operation type",
+                OperationMetricsSnapshot::runTimeMetric );
+        summary( sb, allMetrics, "operation_intended_start_latency_seconds",
+                "Run time plus delay between scheduled & actual start time, per operation type",
+                OperationMetricsSnapshot::intendedStartLatencyMetric );
+        summary( sb, allMetrics, "operation_start_delay_seconds",
+                "Delay between scheduled & actual start time, per operation type",
+                OperationMetricsSnapshot::startDelayMetric );
+        summary( sb, allMetrics, "operation_interval_run_time_seconds",
+                "Run time in latest interval, per operation type",
+                operationMetrics -> (null == latestInterval( operationMetrics ))
+                                    ? null
+                                    : latestInterval( operationMetrics ).runTimeMetric() );
+        summary( sb, allMetrics, "operation_interval_intended_start_latency_seconds",
+                "Intended start latency in latest interval, per operation type",
+                operationMetrics -> (null == latestInterval( operationMetrics ))
+                                    ? null
+                                    : latestInterval( operationMetrics ).intendedStartLatencyMetric() );
+        return sb.toString();
+    }
+
+    // intervals are only recorded when enabled
+    private static IntervalMetricsSnapshot latestInterval( OperationMetricsSnapshot operationMetrics )
+    {
+        List<IntervalMetricsSnapshot> intervals = operationMetrics.intervals();
+        return (intervals.isEmpty()) ? null : intervals.get( intervals.size() - 1 );
+    }
+
+    private static void summary(
+            StringBuilder sb,
+            List<OperationMetricsSnapshot> allMetrics,
+            String name,
+            String help,
+            Function<OperationMetricsSnapshot,ContinuousMetricSnapshot> metricFor )
+    {
+        header( sb, name, help, "summary" );
+        for ( OperationMetricsSnapshot operationMetrics : allMetrics )
+        {
+            ContinuousMetricSnapshot metric = metricFor.apply( operationMetrics );
+            if ( null == metric || 0 == metric.count() )
+            {
+                continue;
+            }
+            String operationLabel = operationLabel( operationMetrics );
+            long[] quantileValues = new long[]{
+                    metric.percentile50(),
+                    metric.percentile90(),
+                    metric.percentile95(),
+                    metric.percentile99(),
+                    metric.percentile99_9()
+            };
+            for ( int i = 0; i < QUANTILES.length; i++ )
+            {
+                sample( sb, name, operationLabel + ",quantile=\"" + QUANTILES[i] + "\"",
+                        seconds( quantileValues[i], metric.unit() ) );
+            }
+            sample( sb, name + "_sum", operationLabel, seconds( metric.mean(), metric.unit() ) * metric.count() );
+            sample( sb, name + "_count", operationLabel, metric.count() );
+        }
+    }
+
+    private static void gauge( StringBuilder sb, String name, String help, double value )
+    {
+        header( sb, name, help, "gauge" );
+        sample( sb, name, null, value );
+    }
+
+    private static void counter( StringBuilder sb, String name, String help, double value )
+    {
+        header( sb, name, help, "counter" );
+        sample( sb, name, null, value );
+    }
+
+    private static void header( StringBuilder sb, String name, String help, String type )
+    {
+        sb.append( "# HELP " ).append( PREFIX ).append( name ).append( ' ' ).append( help ).append( '\n' );
+        sb.append( "# TYPE " ).append( PREFIX ).append( name ).append( ' ' ).append( type ).append( '\n' );
+    }
+
+    private static void sample( StringBuilder sb, String name, String labels, double value )
+    {
+        sb.append( PREFIX ).append( name );
+        if ( null != labels )
+        {
+            sb.append( '{' ).append( labels ).append( '}' );
+        }
+        sb.append( ' ' ).append( formatValue( value ) ).append( '\n' );
+    }
+
+    private static String operationLabel( OperationMetricsSnapshot operationMetrics )
+    {
+        return "operation=\"" + operationMetrics.name().replace( "\\", "\\\\" ).replace( "\"", "\\\"" ) + "\"";
+    }
+
+    private static double seconds( double duration, TimeUnit unit )
+    {
+        return duration * unit.toNanos( 1 ) / TimeUnit.SECONDS.toNanos( 1 );
+    }
+
+    private static String formatValue( double value )
+    {
+        if ( value == Math.rint( value ) && !Double.isInfinite( value ) && Math.abs( value ) < 1e15 )
+        {
+            return Long.toString( (long) value );
+        }
+        return Double.toString( value );
+    }
+
+    private class MetricsHandler implements HttpHandler
+    {
+        @Override
+        public void handle( HttpExchange exchange ) throws IOException
+        {
+            int statusCode;
+            byte[] body;
+            try
+            {
+                body = scrape().getBytes( StandardCharsets.UTF_8 );
+                statusCode = 200;
+            }
+            catch ( Throwable e )
+            {
+                // e.g., scraped after metrics service was shutdown, at the end of a run
+                body = format( "Metrics unavailable: %s\n", e.getMessage() ).getBytes( StandardCharsets.UTF_8 );
+                statusCode = 503;
+            }
+            exchange.getResponseHeaders().set( "Content-Type", CONTENT_TYPE );
+            exchange.sendResponseHeaders( statusCode, body.length );
+            try ( OutputStream responseBody = exchange.getResponseBody() )
+            {
+                responseBody.write( body );
+            }
+        }
+    }
+}
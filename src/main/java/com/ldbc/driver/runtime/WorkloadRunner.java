@@ -3,6 +3,7 @@ package com.ldbc.driver.runtime;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
@@ -10,12 +11,16 @@ import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
 import com.ldbc.driver.runtime.executor.OperationExecutor;
 import com.ldbc.driver.runtime.executor.OperationExecutorException;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.executor.OperationStreamExecutorService;
 import com.ldbc.driver.runtime.executor.SameThreadOperationExecutor;
 import com.ldbc.driver.runtime.executor.ThreadPoolOperationExecutor;
+import com.ldbc.driver.runtime.executor.VirtualThreadOperationExecutor;
+import com.ldbc.driver.runtime.executor.WorkStealingOperationExecutorService;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.runtime.scheduling.TimerWheelScheduler;
 import com.ldbc.driver.temporal.TimeSource;
 
 import java.util.ArrayList;
@@ -50,6 +55,72 @@ public class WorkloadRunner
             long spinnerSleepDurationAsMilli,
             boolean ignoreScheduleStartTimes,
             int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+    {
+        this(
+                timeSource,
+                db,
+                workloadStreams,
+                metricsService,
+                errorReporter,
+                completionTimeService,
+                loggingServiceFactory,
+                threadCount,
+                statusDisplayIntervalAsSeconds,
+                spinnerSleepDurationAsMilli,
+                ignoreScheduleStartTimes,
+                operationHandlerExecutorsBoundedQueueSize,
+                OperationExecutorType.THREAD_POOL
+        );
+    }
+
+    public WorkloadRunner(
+            TimeSource timeSource,
+            Db db,
+            WorkloadStreams workloadStreams,
+            MetricsService metricsService,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeService completionTimeService,
+            LoggingServiceFactory loggingServiceFactory,
+            int threadCount,
+            long statusDisplayIntervalAsSeconds,
+            long spinnerSleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            int operationHandlerExecutorsBoundedQueueSize,
+            OperationExecutorType operationExecutorType ) throws WorkloadException, MetricsCollectionException
+    {
+        this(
+                timeSource,
+                db,
+                workloadStreams,
+                metricsService,
+                errorReporter,
+                completionTimeService,
+                loggingServiceFactory,
+                threadCount,
+                statusDisplayIntervalAsSeconds,
+                spinnerSleepDurationAsMilli,
+                ignoreScheduleStartTimes,
+                operationHandlerExecutorsBoundedQueueSize,
+                operationExecutorType,
+                ConsoleAndFileDriverConfiguration.MAX_IN_FLIGHT_ASYNC_DEFAULT
+        );
+    }
+
+    public WorkloadRunner(
+            TimeSource timeSource,
+            Db db,
+            WorkloadStreams workloadStreams,
+            MetricsService metricsService,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeService completionTimeService,
+            LoggingServiceFactory loggingServiceFactory,
+            int threadCount,
+            long statusDisplayIntervalAsSeconds,
+            long spinnerSleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            int operationHandlerExecutorsBoundedQueueSize,
+            OperationExecutorType operationExecutorType,
+            int maxInFlightAsynchronousOperations ) throws WorkloadException, MetricsCollectionException
     {
         this.workloadRunnerFuture = new WorkloadRunnerFuture(
                 timeSource,
@@ -63,7 +134,9 @@ public class WorkloadRunner
                 statusDisplayIntervalAsSeconds,
                 spinnerSleepDurationAsMilli,
                 ignoreScheduleStartTimes,
-                operationHandlerExecutorsBoundedQueueSize
+                operationHandlerExecutorsBoundedQueueSize,
+                operationExecutorType,
+                maxInFlightAsynchronousOperations
         );
     }
 
@@ -73,6 +146,14 @@ public class WorkloadRunner
         return workloadRunnerFuture;
     }
 
+    /**
+     * @return number of operations submitted to executors whose handlers have not yet completed
+     */
+    public long uncompletedOperationHandlerCount()
+    {
+        return workloadRunnerFuture.workloadRunnerThread.uncompletedOperationHandlerCount();
+    }
+
     private static class WorkloadRunnerFuture implements Future<ConcurrentErrorReporter>
     {
         private final WorkloadRunnerThread workloadRunnerThread;
@@ -93,7 +174,9 @@ public class WorkloadRunner
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws MetricsCollectionException, WorkloadException
+                int operationHandlerExecutorsBoundedQueueSize,
+                OperationExecutorType operationExecutorType,
+                int maxInFlightAsynchronousOperations ) throws MetricsCollectionException, WorkloadException
         {
             this.workloadRunnerThread = new WorkloadRunnerThread(
                     timeSource,
@@ -107,7 +190,9 @@ public class WorkloadRunner
                     statusDisplayIntervalAsSeconds,
                     spinnerSleepDurationAsMilli,
                     ignoreScheduleStartTimes,
-                    operationHandlerExecutorsBoundedQueueSize
+                    operationHandlerExecutorsBoundedQueueSize,
+                    operationExecutorType,
+                    maxInFlightAsynchronousOperations
             );
             this.timeSource = timeSource;
             this.errorReporter = errorReporter;
@@ -270,12 +355,16 @@ public class WorkloadRunner
     private static class WorkloadRunnerThread extends Thread
     {
         private final Spinner spinner;
+        private final TimerWheelScheduler timerWheelScheduler;
         private WorkloadStatusThread workloadStatusThread;
         private final ConcurrentErrorReporter errorReporter;
+        // null when all streams are executed by work-stealing executor service
         private final OperationExecutor executorForAsynchronous;
         private final List<OperationExecutor> executorsForBlocking = new ArrayList<>();
         private final OperationStreamExecutorService asynchronousStreamExecutorService;
         private final List<OperationStreamExecutorService> blockingStreamExecutorServices = new ArrayList<>();
+        // null unless operation executor is WORK_STEALING
+        private final WorkStealingOperationExecutorService workStealingExecutorService;
         private final long statusDisplayIntervalAsMilli;
         private final AtomicReference<WorkloadRunnerThreadState> stateRef;
 
@@ -296,12 +385,23 @@ public class WorkloadRunner
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+                int operationHandlerExecutorsBoundedQueueSize,
+                OperationExecutorType operationExecutorType,
+                int maxInFlightAsynchronousOperations ) throws WorkloadException, MetricsCollectionException
         {
             this.errorReporter = errorReporter;
             this.statusDisplayIntervalAsMilli = statusDisplayIntervalAsSeconds;
 
-            this.spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduleStartTimes );
+            // executor threads park on timer wheel until scheduled start time, rather than sleep-polling time source
+            this.timerWheelScheduler = (ignoreScheduleStartTimes)
+                                       ? null
+                                       : new TimerWheelScheduler( timeSource, errorReporter );
+            this.spinner = new Spinner(
+                    timeSource,
+                    spinnerSleepDurationAsMilli,
+                    ignoreScheduleStartTimes,
+                    timerWheelScheduler
+            );
 
             if ( statusDisplayIntervalAsSeconds > 0 )
             {
@@ -327,25 +427,83 @@ public class WorkloadRunner
             {
                 throw new WorkloadException( "Error while attempting to create completion time writer", e );
             }
-            this.executorForAsynchronous = new ThreadPoolOperationExecutor(
-                    threadCount,
-                    operationHandlerExecutorsBoundedQueueSize,
-                    db,
-                    asynchronousStream,
-                    completionTimeWriterForAsynchronous,
-                    completionTimeService,
-                    spinner,
-                    timeSource,
-                    errorReporter,
-                    metricsService,
-                    asynchronousStream.childOperationGenerator()
-            );
-            this.asynchronousStreamExecutorService = new OperationStreamExecutorService(
-                    errorReporter,
-                    asynchronousStream,
-                    executorForAsynchronous,
-                    completionTimeWriterForAsynchronous
-            );
+            if ( OperationExecutorType.WORK_STEALING == operationExecutorType )
+            {
+                this.workStealingExecutorService = new WorkStealingOperationExecutorService(
+                        threadCount,
+                        db,
+                        completionTimeService,
+                        timerWheelScheduler,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService
+                );
+            }
+            else
+            {
+                this.workStealingExecutorService = null;
+            }
+            switch ( operationExecutorType )
+            {
+            case WORK_STEALING:
+            {
+                // same bound on operations retrieved ahead of execution as THREAD_POOL, running + queued
+                addWorkStealingStream(
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        threadCount + operationHandlerExecutorsBoundedQueueSize
+                );
+                this.executorForAsynchronous = null;
+                break;
+            }
+            case VIRTUAL_THREAD:
+            {
+                this.executorForAsynchronous = new VirtualThreadOperationExecutor(
+                        threadCount,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+                break;
+            }
+            case THREAD_POOL:
+            {
+                this.executorForAsynchronous = new ThreadPoolOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        maxInFlightAsynchronousOperations,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+                break;
+            }
+            default:
+            {
+                throw new WorkloadException( format( "Unsupported operation executor: %s", operationExecutorType ) );
+            }
+            }
+            this.asynchronousStreamExecutorService = (null == executorForAsynchronous)
+                                                     ? null
+                                                     : new OperationStreamExecutorService(
+                                                             errorReporter,
+                                                             asynchronousStream,
+                                                             executorForAsynchronous,
+                                                             completionTimeWriterForAsynchronous
+                                                     );
 
             for ( WorkloadStreamDefinition blockingStream : workloadStreams.blockingStreamDefinitions() )
             {
@@ -362,6 +520,12 @@ public class WorkloadRunner
                 {
                     throw new WorkloadException( "Error while attempting to create completion time writer", e );
                 }
+                if ( null != workStealingExecutorService )
+                {
+                    // one operation in flight at a time keeps blocking stream sequential
+                    addWorkStealingStream( blockingStream, completionTimeWriterForBlocking, 1 );
+                    continue;
+                }
                 OperationExecutor executorForBlocking = new SameThreadOperationExecutor(
                         db,
                         blockingStream,
@@ -386,24 +550,69 @@ public class WorkloadRunner
             this.stateRef = new AtomicReference<>( WorkloadRunnerThreadState.NOT_STARTED );
         }
 
+        private void addWorkStealingStream(
+                WorkloadStreamDefinition stream,
+                CompletionTimeWriter completionTimeWriter,
+                int maxInFlightOperations ) throws WorkloadException
+        {
+            try
+            {
+                workStealingExecutorService.addStream( stream, completionTimeWriter, maxInFlightOperations );
+            }
+            catch ( OperationExecutorException e )
+            {
+                throw new WorkloadException( "Error while attempting to add stream to work-stealing executor", e );
+            }
+        }
+
         private WorkloadRunnerThreadState state()
         {
             return stateRef.get();
         }
 
+        private long uncompletedOperationHandlerCount()
+        {
+            long uncompletedOperationHandlerCount = 0;
+            if ( null != executorForAsynchronous )
+            {
+                uncompletedOperationHandlerCount += executorForAsynchronous.uncompletedOperationHandlerCount();
+            }
+            for ( OperationExecutor executorForBlocking : executorsForBlocking )
+            {
+                uncompletedOperationHandlerCount += executorForBlocking.uncompletedOperationHandlerCount();
+            }
+            if ( null != workStealingExecutorService )
+            {
+                uncompletedOperationHandlerCount += workStealingExecutorService.uncompletedOperationHandlerCount();
+            }
+            return uncompletedOperationHandlerCount;
+        }
+
         @Override
         public void run()
         {
+            if ( null != timerWheelScheduler )
+            {
+                timerWheelScheduler.start();
+            }
+
             if ( statusDisplayIntervalAsMilli > 0 )
             {
                 workloadStatusThread.start();
             }
 
-            AtomicBoolean[] executorFinishedFlags = new AtomicBoolean[blockingStreamExecutorServices.size() + 1];
-            executorFinishedFlags[0] = asynchronousStreamExecutorService.execute();
-            for ( int i = 0; i < blockingStreamExecutorServices.size(); i++ )
+            List<AtomicBoolean> executorFinishedFlags = new ArrayList<>();
+            if ( null != asynchronousStreamExecutorService )
+            {
+                executorFinishedFlags.add( asynchronousStreamExecutorService.execute() );
+            }
+            for ( OperationStreamExecutorService blockingStreamExecutorService : blockingStreamExecutorServices )
+            {
+                executorFinishedFlags.add( blockingStreamExecutorService.execute() );
+            }
+            if ( null != workStealingExecutorService )
             {
-                executorFinishedFlags[i + 1] = blockingStreamExecutorServices.get( i ).execute();
+                executorFinishedFlags.add( workStealingExecutorService.execute() );
             }
 
             stateRef.set( WorkloadRunnerThreadState.RUNNING );
@@ -420,9 +629,9 @@ public class WorkloadRunner
 
                 // All executors have completed --> return
                 boolean allExecutorsHaveCompleted = true;
-                for ( int i = 0; i < executorFinishedFlags.length; i++ )
+                for ( AtomicBoolean executorFinishedFlag : executorFinishedFlags )
                 {
-                    if ( !executorFinishedFlags[i].get() )
+                    if ( !executorFinishedFlag.get() )
                     {
                         allExecutorsHaveCompleted = false;
                         break;
@@ -468,18 +677,21 @@ public class WorkloadRunner
                                 ? 1
                                 : OperationStreamExecutorService.SHUTDOWN_WAIT_TIMEOUT_AS_MILLI;
 
-            try
-            {
-                asynchronousStreamExecutorService.shutdown( shutdownWait );
-            }
-            catch ( OperationExecutorException e )
+            if ( null != asynchronousStreamExecutorService )
             {
-                errorReporter.reportError(
-                        this,
-                        format( "Encountered error while shutting down %s\n%s\n",
-                                asynchronousStreamExecutorService.getClass().getSimpleName(),
-                                ConcurrentErrorReporter.stackTraceToString( e ) )
-                );
+                try
+                {
+                    asynchronousStreamExecutorService.shutdown( shutdownWait );
+                }
+                catch ( OperationExecutorException e )
+                {
+                    errorReporter.reportError(
+                            this,
+                            format( "Encountered error while shutting down %s\n%s\n",
+                                    asynchronousStreamExecutorService.getClass().getSimpleName(),
+                                    ConcurrentErrorReporter.stackTraceToString( e ) )
+                    );
+                }
             }
 
             for ( OperationStreamExecutorService blockingStreamExecutorService : blockingStreamExecutorServices )
@@ -499,23 +711,45 @@ public class WorkloadRunner
                 }
             }
 
-            try
+            if ( null != executorForAsynchronous )
             {
-                // if forced shutdown (error) some handlers likely still running,
-                // but for now it does not matter as the process will terminate anyway
-                // (though when running test suite it can result in many running threads, making the tests much slower)
-                executorForAsynchronous.shutdown( shutdownWait );
+                try
+                {
+                    // if forced shutdown (error) some handlers likely still running,
+                    // but for now it does not matter as the process will terminate anyway
+                    // (though when running test suite it can result in many running threads, making tests slower)
+                    executorForAsynchronous.shutdown( shutdownWait );
+                }
+                catch ( OperationExecutorException e )
+                {
+                    errorReporter.reportError(
+                            this,
+                            format( "Encountered error while waiting for asynchronous executor to shutdown\n" +
+                                    "Handlers still running: %s\n" +
+                                    "%s",
+                                    executorForAsynchronous.uncompletedOperationHandlerCount(),
+                                    ConcurrentErrorReporter.stackTraceToString( e ) )
+                    );
+                }
             }
-            catch ( OperationExecutorException e )
+
+            if ( null != workStealingExecutorService )
             {
-                errorReporter.reportError(
-                        this,
-                        format( "Encountered error while waiting for asynchronous executor to shutdown\n" +
-                                "Handlers still running: %s\n" +
-                                "%s",
-                                executorForAsynchronous.uncompletedOperationHandlerCount(),
-                                ConcurrentErrorReporter.stackTraceToString( e ) )
-                );
+                try
+                {
+                    workStealingExecutorService.shutdown( shutdownWait );
+                }
+                catch ( OperationExecutorException e )
+                {
+                    errorReporter.reportError(
+                            this,
+                            format( "Encountered error while waiting for work-stealing executor to shutdown\n" +
+                                    "Handlers still running: %s\n" +
+                                    "%s",
+                                    workStealingExecutorService.uncompletedOperationHandlerCount(),
+                                    ConcurrentErrorReporter.stackTraceToString( e ) )
+                    );
+                }
             }
 
             try
@@ -559,6 +793,12 @@ public class WorkloadRunner
                     // do nothing
                 }
             }
+
+            if ( null != timerWheelScheduler )
+            {
+                // releases any handlers still parked, e.g., after forced shutdown
+                timerWheelScheduler.shutdown();
+            }
         }
     }
 }
@@ -11,5 +11,17 @@ public interface CompletionTimeService extends CompletionTimeReader
 
     List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException;
 
+    /**
+     * Registers callback to be run once Completion Time is greater than or equal to the given time.
+     * If Completion Time has already reached that time, callback is run immediately, on the calling thread.
+     * Otherwise it is run by whichever thread advances Completion Time, so it must be short and must never block.
+     * All remaining callbacks are run when the service is shutdown.
+     *
+     * @param timeAsMilli Completion Time to wait for
+     * @param callback callback to run once Completion Time reaches time
+     * @throws CompletionTimeException
+     */
+    void notifyWhenCompletionTimeReaches( long timeAsMilli, Runnable callback ) throws CompletionTimeException;
+
     void shutdown() throws CompletionTimeException;
 }
@@ -50,10 +50,35 @@ public class CompletionTimeServiceAssistant
         return new SynchronizedCompletionTimeService();
     }
 
+    public SynchronizedCompletionTimeService newSynchronizedCompletionTimeService(
+            CompletionTimeTrackerType trackerType ) throws CompletionTimeException
+    {
+        return new SynchronizedCompletionTimeService( trackerType );
+    }
+
+    public LockFreeCompletionTimeService newLockFreeCompletionTimeService() throws CompletionTimeException
+    {
+        return new LockFreeCompletionTimeService();
+    }
+
+    public LockFreeCompletionTimeService newLockFreeCompletionTimeService(
+            CompletionTimeTrackerType trackerType ) throws CompletionTimeException
+    {
+        return new LockFreeCompletionTimeService( trackerType );
+    }
+
     public ThreadedQueuedCompletionTimeService newThreadedQueuedCompletionTimeService(
             TimeSource timeSource,
             ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
     {
         return new ThreadedQueuedCompletionTimeService( timeSource, errorReporter );
     }
+
+    public ThreadedQueuedCompletionTimeService newThreadedQueuedCompletionTimeService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeTrackerType trackerType ) throws CompletionTimeException
+    {
+        return new ThreadedQueuedCompletionTimeService( timeSource, errorReporter, trackerType );
+    }
 }
@@ -0,0 +1,17 @@
+package com.ldbc.driver.runtime.coordination;
+
+/**
+ * Completion Time services that may be used to track initiated & completed times during workload execution
+ */
+public enum CompletionTimeServiceType
+{
+    /**
+     * Initiated & completed times are queued to a single service thread, which computes Completion Time
+     */
+    THREADED_QUEUED,
+    /**
+     * Every writer tracks & publishes its own times, Completion Time is computed by the threads that submit them,
+     * without a service thread or a lock shared by all writers
+     */
+    LOCK_FREE
+}
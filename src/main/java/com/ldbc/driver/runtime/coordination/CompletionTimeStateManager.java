@@ -7,6 +7,7 @@ import com.ldbc.driver.util.Function1;
 import com.ldbc.driver.util.Function2;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -26,12 +27,42 @@ import static java.lang.String.format;
 public class CompletionTimeStateManager implements CompletionTimeReaderWriter
 {
     private long completionTimeAsMilli = -1;
-    private final InitiatedTimeTracker initiatedTimeTracker = InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
-    private final CompletedTimeTracker completedTimeTracker = CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+    private final InitiatedTimeTracker initiatedTimeTracker;
+    private final CompletedTimeTracker completedTimeTracker;
     private long lastKnownLowestInitiatedTimeAsMilli = -1;
 
     CompletionTimeStateManager()
     {
+        this( CompletionTimeTrackerType.PRIMITIVE );
+    }
+
+    CompletionTimeStateManager( CompletionTimeTrackerType trackerType )
+    {
+        switch ( trackerType )
+        {
+        case TREE_MULTISET:
+        {
+            this.initiatedTimeTracker = InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
+            this.completedTimeTracker = CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+            break;
+        }
+        case ARRAY_LIST:
+        {
+            this.initiatedTimeTracker = InitiatedTimeTrackerImpl.createUsingArrayList();
+            this.completedTimeTracker = CompletedTimeTrackerImpl.createUsingArrayList();
+            break;
+        }
+        case PRIMITIVE:
+        {
+            this.initiatedTimeTracker = new RunLengthInitiatedTimeTracker();
+            this.completedTimeTracker = new LongMinHeapCompletedTimeTracker();
+            break;
+        }
+        default:
+        {
+            throw new IllegalArgumentException( format( "Unsupported tracker type: %s", trackerType ) );
+        }
+        }
     }
 
     @Override
@@ -323,4 +354,248 @@ public class CompletionTimeStateManager implements CompletionTimeReaderWriter
                    '}';
         }
     }
+
+    /**
+     * Completed times are stored in a min-heap of primitive longs, so no boxing and no per-time node allocation.
+     */
+    static class LongMinHeapCompletedTimeTracker implements CompletedTimeTracker
+    {
+        private static final int INITIAL_CAPACITY = 1024;
+        private long[] heap = new long[INITIAL_CAPACITY];
+        private int size = 0;
+
+        @Override
+        public void addCompletedTimeAsMilli( long completedTimeAsMilli )
+        {
+            if ( size == heap.length )
+            {
+                heap = Arrays.copyOf( heap, heap.length * 2 );
+            }
+            // sift up
+            int index = size++;
+            while ( index > 0 )
+            {
+                int parentIndex = (index - 1) >>> 1;
+                long parent = heap[parentIndex];
+                if ( parent <= completedTimeAsMilli )
+                {
+                    break;
+                }
+                heap[index] = parent;
+                index = parentIndex;
+            }
+            heap[index] = completedTimeAsMilli;
+        }
+
+        @Override
+        public long removeTimesLowerThanAndReturnHighestRemoved( long timeAsMilli )
+        {
+            long highestRemovedAsMilli = -1;
+            // times are removed in ascending order, so last one removed is the highest
+            while ( size > 0 && heap[0] < timeAsMilli )
+            {
+                highestRemovedAsMilli = heap[0];
+                removeMin();
+            }
+            return highestRemovedAsMilli;
+        }
+
+        private void removeMin()
+        {
+            long last = heap[--size];
+            // sift down
+            int index = 0;
+            int half = size >>> 1;
+            while ( index < half )
+            {
+                int childIndex = (index << 1) + 1;
+                long child = heap[childIndex];
+                int rightIndex = childIndex + 1;
+                if ( rightIndex < size && heap[rightIndex] < child )
+                {
+                    childIndex = rightIndex;
+                    child = heap[childIndex];
+                }
+                if ( last <= child )
+                {
+                    break;
+                }
+                heap[index] = child;
+                index = childIndex;
+            }
+            heap[index] = last;
+        }
+
+        @Override
+        public String toString()
+        {
+            long[] completedTimesAsMilli = Arrays.copyOf( heap, size );
+            Arrays.sort( completedTimesAsMilli );
+            return "LongMinHeapCompletedTimeTracker{" +
+                   "completedTimesAsMilli=" + Arrays.toString( completedTimesAsMilli ) +
+                   '}';
+        }
+    }
+
+    /**
+     * Initiated times arrive in ascending order, so they are appended to a ring buffer of (time, count) runs that is
+     * always sorted. Removal is a binary search, lowest uncompleted time is the first run with a non-zero count.
+     */
+    static class RunLengthInitiatedTimeTracker implements InitiatedTimeTracker
+    {
+        private static final int INITIAL_CAPACITY = 1024;
+        private final TemporalUtil temporalUtil = new TemporalUtil();
+        private long[] runTimesAsMilli = new long[INITIAL_CAPACITY];
+        private int[] runCounts = new int[INITIAL_CAPACITY];
+        // ring buffer: physical index of first run, number of runs, capacity is always a power of two
+        private int head = 0;
+        private int runCount = 0;
+        private long lastKnownLowestInitiatedTimeAsMilli = -1;
+        private long highestInitiatedTimeAsMilli = -1;
+        private int uncompletedInitiatedTimes = 0;
+
+        @Override
+        public long addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( long initiatedTimeAsMilli )
+                throws CompletionTimeException
+        {
+            if ( -1 != highestInitiatedTimeAsMilli && initiatedTimeAsMilli < highestInitiatedTimeAsMilli )
+            {
+                String errMsg = format( "Submitted initiated time is lower than previously submitted initiated time\n"
+                                        + "  Submitted: %s (%s ms)\n"
+                                        + "  Previous: %s (%s ms)",
+                        temporalUtil.milliTimeToDateTimeString( initiatedTimeAsMilli ), initiatedTimeAsMilli,
+                        temporalUtil.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ),
+                        highestInitiatedTimeAsMilli
+                );
+                throw new CompletionTimeException( errMsg );
+            }
+            highestInitiatedTimeAsMilli = initiatedTimeAsMilli;
+
+            if ( 0 == uncompletedInitiatedTimes )
+            { lastKnownLowestInitiatedTimeAsMilli = initiatedTimeAsMilli; }
+            int lastIndex = physicalIndex( runCount - 1 );
+            if ( runCount > 0 && runTimesAsMilli[lastIndex] == initiatedTimeAsMilli )
+            {
+                runCounts[lastIndex]++;
+            }
+            else
+            {
+                if ( runCount == runTimesAsMilli.length )
+                {
+                    grow();
+                }
+                int index = physicalIndex( runCount );
+                runTimesAsMilli[index] = initiatedTimeAsMilli;
+                runCounts[index] = 1;
+                runCount++;
+            }
+            uncompletedInitiatedTimes++;
+            return lastKnownLowestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public long removeTimeAndReturnLastKnownLowestTimeAsMilli( long timeAsMilli ) throws CompletionTimeException
+        {
+            int index = indexOfRun( timeAsMilli );
+            if ( -1 == index || 0 == runCounts[index] )
+            {
+                throw new CompletionTimeException( format(
+                        "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                        timeAsMilli ) );
+            }
+            runCounts[index]--;
+            uncompletedInitiatedTimes--;
+            // drop completed runs from the front, runs further back are dropped once they reach the front
+            while ( runCount > 0 && 0 == runCounts[head] )
+            {
+                head = (head + 1) & (runTimesAsMilli.length - 1);
+                runCount--;
+            }
+            if ( 0 == uncompletedInitiatedTimes )
+            { lastKnownLowestInitiatedTimeAsMilli = highestInitiatedTimeAsMilli; }
+            else
+            { lastKnownLowestInitiatedTimeAsMilli = runTimesAsMilli[head]; }
+            return lastKnownLowestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public long highestInitiatedTimeAsMilli()
+        {
+            return highestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public int uncompletedInitiatedTimes()
+        {
+            return uncompletedInitiatedTimes;
+        }
+
+        private int physicalIndex( int logicalIndex )
+        {
+            return (head + logicalIndex) & (runTimesAsMilli.length - 1);
+        }
+
+        // binary search over logical indexes, runs are sorted by time and unique
+        private int indexOfRun( long timeAsMilli )
+        {
+            int low = 0;
+            int high = runCount - 1;
+            while ( low <= high )
+            {
+                int middle = (low + high) >>> 1;
+                long middleTimeAsMilli = runTimesAsMilli[physicalIndex( middle )];
+                if ( middleTimeAsMilli < timeAsMilli )
+                {
+                    low = middle + 1;
+                }
+                else if ( middleTimeAsMilli > timeAsMilli )
+                {
+                    high = middle - 1;
+                }
+                else
+                {
+                    return physicalIndex( middle );
+                }
+            }
+            return -1;
+        }
+
+        private void grow()
+        {
+            int newCapacity = runTimesAsMilli.length * 2;
+            long[] newRunTimesAsMilli = new long[newCapacity];
+            int[] newRunCounts = new int[newCapacity];
+            for ( int i = 0; i < runCount; i++ )
+            {
+                int index = physicalIndex( i );
+                newRunTimesAsMilli[i] = runTimesAsMilli[index];
+                newRunCounts[i] = runCounts[index];
+            }
+            runTimesAsMilli = newRunTimesAsMilli;
+            runCounts = newRunCounts;
+            head = 0;
+        }
+
+        @Override
+        public String toString()
+        {
+            StringBuilder runs = new StringBuilder( "[" );
+            for ( int i = 0; i < runCount; i++ )
+            {
+                int index = physicalIndex( i );
+                if ( i > 0 )
+                {
+                    runs.append( ", " );
+                }
+                runs.append( runTimesAsMilli[index] ).append( "x" ).append( runCounts[index] );
+            }
+            runs.append( "]" );
+            return "RunLengthInitiatedTimeTracker{" +
+                   "initiatedTimesAsMilli=" + runs +
+                   ", lastKnownLowestInitiatedTimeAsMilli=" + lastKnownLowestInitiatedTimeAsMilli +
+                   ", highestInitiatedTimeAsMilli=" + highestInitiatedTimeAsMilli +
+                   ", uncompletedInitiatedTimes=" + uncompletedInitiatedTimes +
+                   '}';
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package com.ldbc.driver.runtime.coordination;
+
+/**
+ * Data structures used to track initiated and completed times of each completion time writer
+ */
+public enum CompletionTimeTrackerType
+{
+    /**
+     * Guava TreeMultiset of boxed times
+     */
+    TREE_MULTISET,
+    /**
+     * ArrayList of boxed times, linear time removal
+     */
+    ARRAY_LIST,
+    /**
+     * Primitive long arrays: run-length encoded ring buffer for initiated times, min-heap for completed times
+     */
+    PRIMITIVE
+}
@@ -0,0 +1,89 @@
+package com.ldbc.driver.runtime.coordination;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Waiters for Completion Time to reach some time, ordered by that time.
+ * <p/>
+ * Completion Time services call releaseUpTo() every time CT advances, which notifies all waiters whose time has been
+ * reached. CT only ever advances, so registration is checked against the last released CT, rather than against the
+ * CT value of the service. That way a waiter registered concurrently with CT advancing is either notified
+ * immediately or notified by the release that follows that advance, but never missed.
+ */
+class CompletionTimeWaiters
+{
+    private static final Comparator<Waiter> WAITER_COMPARATOR = new Comparator<Waiter>()
+    {
+        @Override
+        public int compare( Waiter waiter1, Waiter waiter2 )
+        {
+            return Long.compare( waiter1.timeAsMilli, waiter2.timeAsMilli );
+        }
+    };
+
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>( 64, WAITER_COMPARATOR );
+    private long releasedCompletionTimeAsMilli;
+    private boolean shutdown = false;
+
+    CompletionTimeWaiters( long initialCompletionTimeAsMilli )
+    {
+        this.releasedCompletionTimeAsMilli = initialCompletionTimeAsMilli;
+    }
+
+    void register( long timeAsMilli, Runnable callback )
+    {
+        synchronized ( waiters )
+        {
+            if ( !shutdown && releasedCompletionTimeAsMilli < timeAsMilli )
+            {
+                waiters.add( new Waiter( timeAsMilli, callback ) );
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    void releaseUpTo( long completionTimeAsMilli )
+    {
+        synchronized ( waiters )
+        {
+            if ( completionTimeAsMilli <= releasedCompletionTimeAsMilli )
+            {
+                return;
+            }
+            releasedCompletionTimeAsMilli = completionTimeAsMilli;
+            while ( !waiters.isEmpty() && waiters.peek().timeAsMilli <= completionTimeAsMilli )
+            {
+                waiters.poll().callback.run();
+            }
+        }
+    }
+
+    /**
+     * Notifies all waiters, regardless of CT, and notifies all future waiters immediately
+     */
+    void releaseAll()
+    {
+        synchronized ( waiters )
+        {
+            shutdown = true;
+            while ( !waiters.isEmpty() )
+            {
+                waiters.poll().callback.run();
+            }
+        }
+    }
+
+    private static class Waiter
+    {
+        private final long timeAsMilli;
+        private final Runnable callback;
+
+        private Waiter( long timeAsMilli, Runnable callback )
+        {
+            this.timeAsMilli = timeAsMilli;
+            this.callback = callback;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.ldbc.driver.runtime.coordination;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Completion Time service without a global monitor and without a service thread.
+ * <p/>
+ * Every writer tracks its own initiated & completed times, in its own CompletionTimeStateManager, and after each
+ * write publishes its lowest uncompleted initiated time & its local completion time. Global Completion Time is then
+ * computed as a reduction over the published values of all writers:
+ * <p/>
+ * Initiated Time = min( writer Initiated Times )
+ * <p/>
+ * Completion Time = max( writer Completion Times that are lower than Initiated Time )
+ * <p/>
+ * Published values of each writer only ever increase, so a reduction that reads a stale value of some writer can
+ * only produce a Completion Time that is lower than the true one, never one that is too high.
+ * <p/>
+ * The reduction is only computed by writers, after each write, and its result is cached. Reading Completion Time
+ * returns the cached value, without a reduction. Every writer publishes before it reduces, so of two concurrent
+ * writes at least the later reduction sees both, and the cached value is never left behind the last write.
+ * <p/>
+ * Writers are still synchronized individually, because initiated times of a stream are submitted by the stream
+ * thread while completed times are submitted by the threads that execute its operations.
+ * That lock is only ever contended by threads of the same stream, not by all streams.
+ */
+public class LockFreeCompletionTimeService implements CompletionTimeService
+{
+    private final AtomicLong completionTimeAsMilli = new AtomicLong( -1 );
+    private final CompletionTimeWaiters completionTimeWaiters;
+    private final CompletionTimeTrackerType trackerType;
+    private final List<CompletionTimeWriter> writersList = new ArrayList<>();
+    private volatile LockFreeCompletionTimeWriter[] writers = new LockFreeCompletionTimeWriter[0];
+
+    LockFreeCompletionTimeService() throws CompletionTimeException
+    {
+        this( CompletionTimeTrackerType.PRIMITIVE );
+    }
+
+    LockFreeCompletionTimeService( CompletionTimeTrackerType trackerType ) throws CompletionTimeException
+    {
+        this.trackerType = trackerType;
+        this.completionTimeWaiters = new CompletionTimeWaiters( completionTimeAsMilli.get() );
+    }
+
+    /**
+     * IMPORTANT: not safe to call after IT/CT times have been submitted, as it will likely put CT in invalid state
+     *
+     * @return new writer
+     * @throws CompletionTimeException
+     */
+    @Override
+    synchronized public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    {
+        LockFreeCompletionTimeWriter writer =
+                new LockFreeCompletionTimeWriter( writers.length, new CompletionTimeStateManager( trackerType ), this );
+        LockFreeCompletionTimeWriter[] newWriters = Arrays.copyOf( writers, writers.length + 1 );
+        newWriters[writer.id] = writer;
+        writers = newWriters;
+        writersList.add( writer );
+        return writer;
+    }
+
+    @Override
+    public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException
+    {
+        return new CompletionTimeAsMilliFuture( completionTimeAsMilli() );
+    }
+
+    @Override
+    synchronized public List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException
+    {
+        return new ArrayList<>( writersList );
+    }
+
+    @Override
+    public void notifyWhenCompletionTimeReaches( long timeAsMilli, Runnable callback )
+    {
+        completionTimeWaiters.register( timeAsMilli, callback );
+    }
+
+    @Override
+    public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
+    {
+        long initiatedTimeAsMilli = -1;
+        for ( LockFreeCompletionTimeWriter writer : writers )
+        {
+            long writerInitiatedTimeAsMilli = writer.initiatedTimeAsMilli;
+            if ( -1 == writerInitiatedTimeAsMilli )
+            {
+                // if any initiation times are null, initiation time is undefined
+                return -1;
+            }
+            else if ( -1 == initiatedTimeAsMilli || writerInitiatedTimeAsMilli < initiatedTimeAsMilli )
+            {
+                initiatedTimeAsMilli = writerInitiatedTimeAsMilli;
+            }
+        }
+        return initiatedTimeAsMilli;
+    }
+
+    @Override
+    public long completionTimeAsMilli() throws CompletionTimeException
+    {
+        return completionTimeAsMilli.get();
+    }
+
+    @Override
+    public void shutdown() throws CompletionTimeException
+    {
+        completionTimeWaiters.releaseAll();
+    }
+
+    /**
+     * Recomputes Completion Time from the values published by all writers, and releases waiters if it advanced.
+     * Called by writers after every write.
+     *
+     * @return current Completion Time
+     * @throws CompletionTimeException
+     */
+    private long advanceCompletionTime() throws CompletionTimeException
+    {
+        long initiatedTimeAsMilli = lastKnownLowestInitiatedTimeAsMilli();
+        long previousCompletionTimeAsMilli = completionTimeAsMilli.get();
+        if ( -1 == initiatedTimeAsMilli )
+        {
+            return previousCompletionTimeAsMilli;
+        }
+
+        long newCompletionTimeAsMilli = previousCompletionTimeAsMilli;
+        for ( LockFreeCompletionTimeWriter writer : writers )
+        {
+            long writerCompletionTimeAsMilli = writer.completionTimeAsMilli;
+            // completion time must be lower than initiation time
+            if ( -1 != writerCompletionTimeAsMilli &&
+                 writerCompletionTimeAsMilli < initiatedTimeAsMilli &&
+                 writerCompletionTimeAsMilli > newCompletionTimeAsMilli )
+            {
+                newCompletionTimeAsMilli = writerCompletionTimeAsMilli;
+            }
+        }
+
+        // concurrent reductions may finish in any order, only ever move completion time forward
+        while ( newCompletionTimeAsMilli > previousCompletionTimeAsMilli )
+        {
+            if ( completionTimeAsMilli.compareAndSet( previousCompletionTimeAsMilli, newCompletionTimeAsMilli ) )
+            {
+                completionTimeWaiters.releaseUpTo( newCompletionTimeAsMilli );
+                return newCompletionTimeAsMilli;
+            }
+            previousCompletionTimeAsMilli = completionTimeAsMilli.get();
+        }
+        return previousCompletionTimeAsMilli;
+    }
+
+    static class LockFreeCompletionTimeWriter implements CompletionTimeWriter
+    {
+        private final int id;
+        private final CompletionTimeReaderWriter completionTimeStateManager;
+        private final LockFreeCompletionTimeService completionTimeService;
+        private volatile long initiatedTimeAsMilli = -1;
+        private volatile long completionTimeAsMilli = -1;
+
+        private LockFreeCompletionTimeWriter(
+                int id,
+                CompletionTimeReaderWriter completionTimeStateManager,
+                LockFreeCompletionTimeService completionTimeService )
+        {
+            this.id = id;
+            this.completionTimeStateManager = completionTimeStateManager;
+            this.completionTimeService = completionTimeService;
+        }
+
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            synchronized ( this )
+            {
+                completionTimeStateManager.submitInitiatedTime( timeAsMilli );
+                publish();
+            }
+            completionTimeService.advanceCompletionTime();
+        }
+
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            synchronized ( this )
+            {
+                completionTimeStateManager.submitCompletedTime( timeAsMilli );
+                publish();
+            }
+            completionTimeService.advanceCompletionTime();
+        }
+
+        private void publish() throws CompletionTimeException
+        {
+            initiatedTimeAsMilli = completionTimeStateManager.lastKnownLowestInitiatedTimeAsMilli();
+            completionTimeAsMilli = completionTimeStateManager.completionTimeAsMilli();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "LockFreeCompletionTimeWriter{" + "id=" + id + '}';
+        }
+    }
+
+    private static class CompletionTimeAsMilliFuture implements Future<Long>
+    {
+        private final long completionTimeValueAsMilli;
+
+        CompletionTimeAsMilliFuture( long completionTimeValueAsMilli )
+        {
+            this.completionTimeValueAsMilli = completionTimeValueAsMilli;
+        }
+
+        @Override
+        public boolean cancel( boolean mayInterruptIfRunning )
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isCancelled()
+        {
+            return false;
+        }
+
+        @Override
+        public boolean isDone()
+        {
+            return true;
+        }
+
+        @Override
+        public Long get()
+        {
+            return completionTimeValueAsMilli;
+        }
+
+        @Override
+        public Long get( long timeout, TimeUnit unit )
+        {
+            return completionTimeValueAsMilli;
+        }
+    }
+}
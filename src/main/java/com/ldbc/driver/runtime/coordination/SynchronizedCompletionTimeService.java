@@ -9,6 +9,7 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
 {
     private final MultiWriterCompletionTimeStateManager completionTimeStateManager;
     private final List<CompletionTimeWriter> completionTimeWriters;
+    private final CompletionTimeWaiters completionTimeWaiters;
 
     private enum Event
     {
@@ -19,6 +20,11 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
     }
 
     SynchronizedCompletionTimeService() throws CompletionTimeException
+    {
+        this( CompletionTimeTrackerType.PRIMITIVE );
+    }
+
+    SynchronizedCompletionTimeService( CompletionTimeTrackerType trackerType ) throws CompletionTimeException
     {
         // *** CT Reader ***
         // Completion Time will only get read from MultiWriterCompletionTimeStateManager,
@@ -33,8 +39,9 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         // which will result in an error when the lower Initiated Time is finally submitted.
         // MultiWriterCompletionTimeStateManagerWriter instances, via newCompletionTimeWriter(),
         // will perform the Completion Time writing
-        this.completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        this.completionTimeStateManager = new MultiWriterCompletionTimeStateManager( trackerType );
         this.completionTimeWriters = new ArrayList<>();
+        this.completionTimeWaiters = new CompletionTimeWaiters( completionTimeStateManager.completionTimeAsMilli() );
     }
 
     @Override
@@ -49,6 +56,12 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         return (List<CompletionTimeWriter>) processEvent( Event.GET_ALL_WRITERS );
     }
 
+    @Override
+    public void notifyWhenCompletionTimeReaches( long timeAsMilli, Runnable callback )
+    {
+        completionTimeWaiters.register( timeAsMilli, callback );
+    }
+
     @Override
     // TODO remove from interface
     public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
@@ -71,6 +84,7 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
     @Override
     public void shutdown() throws CompletionTimeException
     {
+        completionTimeWaiters.releaseAll();
     }
 
     private Object processEvent( Event event ) throws CompletionTimeException
@@ -89,7 +103,10 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
             }
             case CREATE_NEW_COMPLETION_TIME_WRITER:
             {
-                CompletionTimeWriter completionTimeWriter = completionTimeStateManager.newCompletionTimeWriter();
+                CompletionTimeWriter completionTimeWriter = new CompletionTimeWaitersReleasingWriter(
+                        completionTimeStateManager.newCompletionTimeWriter(),
+                        this
+                );
                 completionTimeWriters.add( completionTimeWriter );
                 return completionTimeWriter;
             }
@@ -105,6 +122,35 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         }
     }
 
+    // there is no thread that owns CT, so writers release waiters after each write that may have advanced it
+    private static class CompletionTimeWaitersReleasingWriter implements CompletionTimeWriter
+    {
+        private final CompletionTimeWriter writer;
+        private final SynchronizedCompletionTimeService completionTimeService;
+
+        private CompletionTimeWaitersReleasingWriter(
+                CompletionTimeWriter writer,
+                SynchronizedCompletionTimeService completionTimeService )
+        {
+            this.writer = writer;
+            this.completionTimeService = completionTimeService;
+        }
+
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            writer.submitInitiatedTime( timeAsMilli );
+            completionTimeService.completionTimeWaiters.releaseUpTo( completionTimeService.completionTimeAsMilli() );
+        }
+
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            writer.submitCompletedTime( timeAsMilli );
+            completionTimeService.completionTimeWaiters.releaseUpTo( completionTimeService.completionTimeAsMilli() );
+        }
+    }
+
     private static class CompletionTimeAsMilliFuture implements Future<Long>
     {
         private final long completionTimeValueAsMilli;
@@ -25,6 +25,7 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
     private final TimeSource timeSource;
     private final QueueEventSubmitter<CompletionTimeEvent> queueEventSubmitter;
     private final AtomicLong sharedCtReference;
+    private final CompletionTimeWaiters completionTimeWaiters;
     private final AtomicLong sharedWriteEventCountReference;
     private final ThreadedQueuedCompletionTimeServiceThread threadedQueuedCompletionTimeServiceThread;
     private final AtomicBoolean sharedIsShuttingDownReference = new AtomicBoolean( false );
@@ -33,6 +34,13 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
 
     ThreadedQueuedCompletionTimeService( TimeSource timeSource,
             ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+    {
+        this( timeSource, errorReporter, CompletionTimeTrackerType.PRIMITIVE );
+    }
+
+    ThreadedQueuedCompletionTimeService( TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeTrackerType trackerType ) throws CompletionTimeException
     {
         this.timeSource = timeSource;
         this.errorReporter = errorReporter;
@@ -40,10 +48,13 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         this.queueEventSubmitter = QueueEventSubmitter.queueEventSubmitterFor( completionTimeEventQueue );
         this.sharedCtReference = new AtomicLong( -1 );
         this.sharedWriteEventCountReference = new AtomicLong( 0 );
+        this.completionTimeWaiters = new CompletionTimeWaiters( sharedCtReference.get() );
         threadedQueuedCompletionTimeServiceThread = new ThreadedQueuedCompletionTimeServiceThread(
                 completionTimeEventQueue,
                 errorReporter,
-                sharedCtReference );
+                sharedCtReference,
+                completionTimeWaiters,
+                trackerType );
         threadedQueuedCompletionTimeServiceThread.start();
     }
 
@@ -106,6 +117,12 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         return writers;
     }
 
+    @Override
+    public void notifyWhenCompletionTimeReaches( long timeAsMilli, Runnable callback )
+    {
+        completionTimeWaiters.register( timeAsMilli, callback );
+    }
+
     @Override
     // TODO remove from interface
     public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
@@ -121,6 +138,7 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
             return;
         }
         sharedIsShuttingDownReference.set( true );
+        completionTimeWaiters.releaseAll();
 
         long pollingIntervalAsMilli = 100;
         long shutdownTimeoutTimeAsMilli = timeSource.nowAsMilli() + SHUTDOWN_WAIT_TIMEOUT_AS_MILLI;
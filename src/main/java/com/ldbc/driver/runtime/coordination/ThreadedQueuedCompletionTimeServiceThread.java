@@ -33,6 +33,7 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final MultiWriterCompletionTimeStateManager completionTimeStateManager;
     private final AtomicLong completionTimeSharedReference;
+    private final CompletionTimeWaiters completionTimeWaiters;
     private final QueueEventFetcher<CompletionTimeEvent> completionTimeEventQueueEventFetcher;
     private final ConcurrentErrorReporter errorReporter;
     private Long processedWriteEventCount = 0L;
@@ -43,7 +44,9 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
     ThreadedQueuedCompletionTimeServiceThread(
             Queue<CompletionTimeEvent> completionTimeQueue,
             ConcurrentErrorReporter errorReporter,
-            AtomicLong completionTimeSharedReference ) throws CompletionTimeException
+            AtomicLong completionTimeSharedReference,
+            CompletionTimeWaiters completionTimeWaiters,
+            CompletionTimeTrackerType trackerType ) throws CompletionTimeException
     {
         super( ThreadedQueuedCompletionTimeServiceThread.class.getSimpleName() + "-" +
                System.currentTimeMillis() );
@@ -60,12 +63,13 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
         // which will result in an error when the lower Initiated Time is finally submitted.
         // MultiWriterCompletionTimeStateManagerWriter instances, via newCompletionTimeWriter(),
         // will perform the Completion Time writing
-        completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        completionTimeStateManager = new MultiWriterCompletionTimeStateManager( trackerType );
         this.completionTimeWriters = new HashMap<>();
         this.completionTimeEventQueueEventFetcher = QueueEventFetcher.queueEventFetcherFor( completionTimeQueue );
         this.errorReporter = errorReporter;
         this.completionTimeSharedReference = completionTimeSharedReference;
         this.completionTimeSharedReference.set( completionTimeStateManager.completionTimeAsMilli() );
+        this.completionTimeWaiters = completionTimeWaiters;
     }
 
     @Override
@@ -187,9 +191,11 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
                             temporalUtil.milliTimeToDateTimeString( prevCompletionTimeAsMilli ),
                             prevCompletionTimeAsMilli ) );
         }
-        else
+        else if ( newCompletionTimeAsMilli != prevCompletionTimeAsMilli )
         {
             completionTimeSharedReference.set( newCompletionTimeAsMilli );
+            // wake up everything that was waiting for CT to reach this point
+            completionTimeWaiters.releaseUpTo( newCompletionTimeAsMilli );
         }
     }
 }
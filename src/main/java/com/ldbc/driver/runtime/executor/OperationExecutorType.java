@@ -0,0 +1,22 @@
+package com.ldbc.driver.runtime.executor;
+
+/**
+ * Executors that may be used to run the operations of the asynchronous stream
+ * (and, for WORK_STEALING, of the blocking streams too)
+ */
+public enum OperationExecutorType
+{
+    /**
+     * Fixed size thread pool with bounded queue, pool size is thread count
+     */
+    THREAD_POOL,
+    /**
+     * One virtual thread per operation, maximum number of in-flight operations is thread count
+     */
+    VIRTUAL_THREAD,
+    /**
+     * One work-stealing pool, pool size is thread count, shared by the asynchronous stream & all blocking streams,
+     * operations of each blocking stream are still executed one at a time, in order
+     */
+    WORK_STEALING
+}
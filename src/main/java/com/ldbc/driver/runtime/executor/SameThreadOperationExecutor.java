@@ -79,7 +79,7 @@ public class SameThreadOperationExecutor implements OperationExecutor
         finally
         {
             uncompletedHandlers.decrementAndGet();
-            operationHandlerRunnableContext.cleanup();
+            operationHandlerRunnableContext.cleanupAndRecycleOperation();
         }
     }
 
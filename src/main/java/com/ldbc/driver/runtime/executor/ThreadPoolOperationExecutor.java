@@ -1,5 +1,6 @@
 package com.ldbc.driver.runtime.executor;
 
+import com.ldbc.driver.AsyncOperationHandler;
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.Operation;
@@ -16,6 +17,8 @@ import com.ldbc.driver.temporal.TimeSource;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -24,15 +27,27 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 
+/**
+ * Runs operation handlers on a fixed size pool of threads.
+ * <p/>
+ * Asynchronous handlers release their pool thread once the operation is submitted, so the number of them in flight
+ * is not bounded by pool size. It is bounded by a semaphore instead, execute() blocks while that bound is reached.
+ * Their results & child operations are processed on a separate pool of completion threads, never on the thread that
+ * completed the operation, which usually belongs to the database driver, nor on the handler pool, whose threads may
+ * all be waiting for connection states that only completing operations release.
+ */
 public class ThreadPoolOperationExecutor implements OperationExecutor
 {
-    private final ExecutorService threadPoolExecutorService;
+    private final ThreadPoolExecutorWithAfterExecute threadPoolExecutorService;
+    private final ExecutorService asynchronousCompletionExecutorService;
+    private final Semaphore asynchronousInFlightPermits;
     private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
     private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
 
     public ThreadPoolOperationExecutor( int threadCount,
             int boundedQueueSize,
+            int maxInFlightAsynchronousOperations,
             Db db,
             WorkloadStreams.WorkloadStreamDefinition streamDefinition,
             CompletionTimeWriter completionTimeWriter,
@@ -53,7 +68,24 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 errorReporter,
                 metricsService
         );
-        ThreadFactory threadFactory = new ThreadFactory()
+        this.asynchronousInFlightPermits = new Semaphore( maxInFlightAsynchronousOperations );
+        ThreadFactory threadFactory = threadFactory( "thread" );
+        this.threadPoolExecutorService = ThreadPoolExecutorWithAfterExecute.newFixedThreadPool(
+                threadCount,
+                threadFactory,
+                uncompletedHandlers,
+                boundedQueueSize,
+                childOperationGenerator,
+                operationHandlerRunnableContextRetriever,
+                errorReporter
+        );
+        this.asynchronousCompletionExecutorService =
+                Executors.newFixedThreadPool( threadCount, threadFactory( "completion-thread" ) );
+    }
+
+    private static ThreadFactory threadFactory( final String threadName )
+    {
+        return new ThreadFactory()
         {
             private final long factoryTimeStampId = System.currentTimeMillis();
             int count = 0;
@@ -64,33 +96,68 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 return new Thread(
                         runnable,
                         ThreadPoolOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
-                        "-thread(" + count++ + ")"
+                        "-" + threadName + "(" + count++ + ")"
                 );
             }
         };
-        this.threadPoolExecutorService = ThreadPoolExecutorWithAfterExecute.newFixedThreadPool(
-                threadCount,
-                threadFactory,
-                uncompletedHandlers,
-                boundedQueueSize,
-                childOperationGenerator,
-                operationHandlerRunnableContextRetriever,
-                errorReporter
-        );
     }
 
     @Override
     public final void execute( Operation operation ) throws OperationExecutorException
     {
         uncompletedHandlers.incrementAndGet();
+        boolean acquiredAsynchronousInFlightPermit = false;
         try
         {
-            OperationHandlerRunnableContext operationHandlerRunnableContext =
+            final OperationHandlerRunnableContext operationHandlerRunnableContext =
                     operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
-            threadPoolExecutorService.execute( operationHandlerRunnableContext );
+            if ( operationHandlerRunnableContext.operationHandler() instanceof AsyncOperationHandler )
+            {
+                try
+                {
+                    asynchronousInFlightPermits.acquire();
+                    acquiredAsynchronousInFlightPermit = true;
+                }
+                catch ( InterruptedException e )
+                {
+                    uncompletedHandlers.decrementAndGet();
+                    operationHandlerRunnableContext.cleanupAndRecycleOperation();
+                    throw new OperationExecutorException(
+                            format( "Interrupted while waiting to execute handler\nOperation: %s", operation ), e );
+                }
+                // pool thread is released once operation is submitted, handler is completed by its callback
+                operationHandlerRunnableContext.setAsynchronousCompletionCallback( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        try
+                        {
+                            threadPoolExecutorService.completeHandler( operationHandlerRunnableContext );
+                        }
+                        finally
+                        {
+                            asynchronousInFlightPermits.release();
+                        }
+                    }
+                }, asynchronousCompletionExecutorService );
+                threadPoolExecutorService.execute( new AsynchronousHandlerRunnable( operationHandlerRunnableContext ) );
+            }
+            else
+            {
+                threadPoolExecutorService.execute( operationHandlerRunnableContext );
+            }
+        }
+        catch ( OperationExecutorException e )
+        {
+            throw e;
         }
         catch ( Throwable e )
         {
+            if ( acquiredAsynchronousInFlightPermit )
+            {
+                asynchronousInFlightPermits.release();
+            }
             throw new OperationExecutorException(
                     format( "Error retrieving handler\nOperation: %s\n%s",
                             operation,
@@ -108,9 +175,19 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         }
         try
         {
+            long shutdownDeadlineAsMilli = System.currentTimeMillis() + waitAsMilli;
             threadPoolExecutorService.shutdown();
             boolean allHandlersCompleted =
                     threadPoolExecutorService.awaitTermination( waitAsMilli, TimeUnit.MILLISECONDS );
+            // asynchronous handlers may still be in flight, their completions are processed by completion threads
+            while ( uncompletedHandlers.get() > 0 && System.currentTimeMillis() < shutdownDeadlineAsMilli )
+            {
+                Spinner.powerNap( 1 );
+            }
+            asynchronousCompletionExecutorService.shutdown();
+            asynchronousCompletionExecutorService.awaitTermination(
+                    Math.max( 0, shutdownDeadlineAsMilli - System.currentTimeMillis() ),
+                    TimeUnit.MILLISECONDS );
             if ( !allHandlersCompleted )
             {
                 List<Runnable> stillRunningThreads = threadPoolExecutorService.shutdownNow();
@@ -142,6 +219,23 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         return uncompletedHandlers.get();
     }
 
+    // context must not be accessed after run(), as completion callback may already have released it
+    private static class AsynchronousHandlerRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private AsynchronousHandlerRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        @Override
+        public void run()
+        {
+            operationHandlerRunnableContext.run();
+        }
+    }
+
     private static class ThreadPoolExecutorWithAfterExecute extends ThreadPoolExecutor
     {
         private final ChildOperationGenerator childOperationGenerator;
@@ -202,8 +296,16 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         protected void afterExecute( Runnable runnable, Throwable throwable )
         {
             super.afterExecute( runnable, throwable );
-            OperationHandlerRunnableContext operationHandlerRunnableContext =
-                    (OperationHandlerRunnableContext) runnable;
+            if ( runnable instanceof AsynchronousHandlerRunnable )
+            {
+                return;
+            }
+            completeHandler( (OperationHandlerRunnableContext) runnable );
+        }
+
+        // called from worker thread for blocking handlers, and from completion thread for asynchronous handlers
+        void completeHandler( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
             try
             {
                 childOperationExecutor.execute(
@@ -223,7 +325,7 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
             finally
             {
                 uncompletedHandlers.decrementAndGet();
-                operationHandlerRunnableContext.cleanup();
+                operationHandlerRunnableContext.cleanupAndRecycleOperation();
             }
         }
     }
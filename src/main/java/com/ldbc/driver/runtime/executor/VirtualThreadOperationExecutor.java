@@ -0,0 +1,267 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.AsyncOperationHandler;
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Runs every operation handler on its own thread, rather than queueing it for a fixed size pool, so an operation
+ * blocked on I/O never prevents another operation from starting.
+ * <p/>
+ * On JVMs that support virtual threads (Java 21+) each handler runs on a virtual thread, so tens of thousands of
+ * blocking operations may be in flight on a few carrier threads. Driver is compiled for Java 8, so virtual threads
+ * are looked up reflectively; on older JVMs a cached pool of platform threads is used instead.
+ * <p/>
+ * Number of in-flight operations is bounded by a semaphore, execute() blocks while that bound is reached.
+ * <p/>
+ * Results & child operations of asynchronous handlers are processed on a thread of this executor, never on the thread
+ * that completed the operation, which usually belongs to the database driver.
+ */
+public class VirtualThreadOperationExecutor implements OperationExecutor
+{
+    private final ExecutorService executorService;
+    private final boolean usesVirtualThreads;
+    private final Semaphore inFlightPermits;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final ConcurrentErrorReporter errorReporter;
+
+    public VirtualThreadOperationExecutor( int maxInFlightOperations,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        this.childOperationGenerator = childOperationGenerator;
+        this.childOperationExecutor = new ChildOperationExecutor();
+        this.errorReporter = errorReporter;
+        this.inFlightPermits = new Semaphore( maxInFlightOperations );
+        ExecutorService virtualThreadPerTaskExecutor = newVirtualThreadPerTaskExecutor();
+        if ( null != virtualThreadPerTaskExecutor )
+        {
+            this.executorService = virtualThreadPerTaskExecutor;
+            this.usesVirtualThreads = true;
+        }
+        else
+        {
+            ThreadFactory threadFactory = new ThreadFactory()
+            {
+                private final long factoryTimeStampId = System.currentTimeMillis();
+                private final AtomicLong count = new AtomicLong( 0 );
+
+                @Override
+                public Thread newThread( Runnable runnable )
+                {
+                    return new Thread(
+                            runnable,
+                            VirtualThreadOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId +
+                            ")" + "-thread(" + count.getAndIncrement() + ")"
+                    );
+                }
+            };
+            this.executorService = Executors.newCachedThreadPool( threadFactory );
+            this.usesVirtualThreads = false;
+        }
+    }
+
+    /**
+     * @return Executors.newVirtualThreadPerTaskExecutor() if supported by running JVM, otherwise null
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor()
+    {
+        try
+        {
+            Method method = Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" );
+            return (ExecutorService) method.invoke( null );
+        }
+        catch ( Exception e )
+        {
+            return null;
+        }
+    }
+
+    public boolean usesVirtualThreads()
+    {
+        return usesVirtualThreads;
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        try
+        {
+            inFlightPermits.acquire();
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException(
+                    format( "Interrupted while waiting to execute handler\nOperation: %s", operation ), e );
+        }
+        uncompletedHandlers.incrementAndGet();
+        try
+        {
+            final OperationHandlerRunnableContext operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            final HandlerRunnable handlerRunnable = new HandlerRunnable( operationHandlerRunnableContext );
+            if ( operationHandlerRunnableContext.operationHandler() instanceof AsyncOperationHandler )
+            {
+                // thread is released once operation is submitted, handler is completed by its callback, on a new thread
+                operationHandlerRunnableContext.setAsynchronousCompletionCallback( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        handlerRunnable.complete();
+                    }
+                }, executorService );
+            }
+            executorService.execute( handlerRunnable );
+        }
+        catch ( Throwable e )
+        {
+            uncompletedHandlers.decrementAndGet();
+            inFlightPermits.release();
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            long shutdownDeadlineAsMilli = System.currentTimeMillis() + waitAsMilli;
+            // asynchronous handlers may still be in flight, their completions need executor to accept new tasks
+            while ( uncompletedHandlers.get() > 0 && System.currentTimeMillis() < shutdownDeadlineAsMilli )
+            {
+                Spinner.powerNap( 1 );
+            }
+            executorService.shutdown();
+            boolean allHandlersCompleted = executorService.awaitTermination(
+                    Math.max( 0, shutdownDeadlineAsMilli - System.currentTimeMillis() ),
+                    TimeUnit.MILLISECONDS );
+            if ( !allHandlersCompleted )
+            {
+                List<Runnable> stillRunningThreads = executorService.shutdownNow();
+                if ( !stillRunningThreads.isEmpty() || uncompletedHandlers.get() > 0 )
+                {
+                    String errMsg = format(
+                            "%s shutdown before all handlers could complete\n%s handlers were mid-execution",
+                            getClass().getSimpleName(),
+                            uncompletedHandlers.get() );
+                    throw new OperationExecutorException( errMsg );
+                }
+            }
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    private class HandlerRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private HandlerRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        @Override
+        public void run()
+        {
+            // context must not be accessed after asynchronous run(), as callback may already have released it
+            boolean executesAsynchronously = operationHandlerRunnableContext.executesAsynchronously();
+            operationHandlerRunnableContext.run();
+            if ( !executesAsynchronously )
+            {
+                complete();
+            }
+        }
+
+        // called from executing thread for blocking handlers, and from completion thread for asynchronous handlers
+        private void complete()
+        {
+            try
+            {
+                childOperationExecutor.execute(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever
+                );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error executing handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                uncompletedHandlers.decrementAndGet();
+                operationHandlerRunnableContext.cleanupAndRecycleOperation();
+                inFlightPermits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,506 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.runtime.scheduling.TimerWheelScheduler;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Executes the operations of any number of streams on one fixed size work-stealing pool, instead of dedicating a
+ * thread (or thread pool) to every stream, so thread count does not grow with the number of blocking streams.
+ * <p/>
+ * Each stream is given a bound on its in-flight operations. With a bound of one, the next operation of a stream is
+ * only retrieved once the previous one has completed, so blocking streams keep their sequential ordering.
+ * <p/>
+ * Pool threads never wait for an operation to become due. Until completion time reaches the dependency time of an
+ * operation it waits for a completion time notification, and until its scheduled start time it waits on the timer
+ * wheel, only then is its handler submitted to the pool. Otherwise a few streams waiting for their next operation
+ * could occupy every pool thread, and starve the streams whose operations they depend on. Child operations, e.g.,
+ * short reads, are generated once their parent completes and become due the same way, one at a time.
+ */
+public class WorkStealingOperationExecutorService
+{
+    private final ForkJoinPool forkJoinPool;
+    private final Db db;
+    private final CompletionTimeReader completionTimeReader;
+    // null if reader can not notify when CT advances, in which case handlers wait for CT on pool threads
+    private final CompletionTimeService completionTimeService;
+    // null if scheduled start times are ignored
+    private final TimerWheelScheduler timerWheelScheduler;
+    private final Spinner spinner;
+    private final TimeSource timeSource;
+    private final ConcurrentErrorReporter errorReporter;
+    private final MetricsService metricsService;
+    private final List<StreamRunner> streamRunners = new ArrayList<>();
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicInteger unfinishedStreamCount = new AtomicInteger( 0 );
+    private final AtomicBoolean hasFinished = new AtomicBoolean( false );
+    private final AtomicBoolean executing = new AtomicBoolean( false );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final AtomicBoolean forceStreamsToTerminate = new AtomicBoolean( false );
+
+    public WorkStealingOperationExecutorService( int threadCount,
+            Db db,
+            CompletionTimeReader completionTimeReader,
+            TimerWheelScheduler timerWheelScheduler,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService )
+    {
+        this.db = db;
+        this.completionTimeReader = completionTimeReader;
+        this.completionTimeService = (completionTimeReader instanceof CompletionTimeService)
+                                     ? (CompletionTimeService) completionTimeReader
+                                     : null;
+        this.timerWheelScheduler = timerWheelScheduler;
+        this.spinner = spinner;
+        this.timeSource = timeSource;
+        this.errorReporter = errorReporter;
+        this.metricsService = metricsService;
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = new ForkJoinPool.ForkJoinWorkerThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            private final AtomicLong count = new AtomicLong( 0 );
+
+            @Override
+            public ForkJoinWorkerThread newThread( ForkJoinPool pool )
+            {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+                thread.setName( WorkStealingOperationExecutorService.class.getSimpleName() + "-id(" +
+                                factoryTimeStampId + ")" + "-thread(" + count.getAndIncrement() + ")" );
+                return thread;
+            }
+        };
+        // async mode: tasks are never joined, so local queues are processed in submission (FIFO) order
+        this.forkJoinPool = new ForkJoinPool( threadCount, threadFactory, null, true );
+    }
+
+    /**
+     * Must be called before execute()
+     *
+     * @param streamDefinition stream to execute
+     * @param completionTimeWriter writer to submit initiated & completed times of dependency operations to
+     * @param maxInFlightOperations maximum number of operations of the stream executing at once, 1 to execute the
+     * stream sequentially
+     */
+    synchronized public void addStream( WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            int maxInFlightOperations ) throws OperationExecutorException
+    {
+        if ( executing.get() )
+        {
+            throw new OperationExecutorException( "Streams can not be added once execution has started" );
+        }
+        if ( maxInFlightOperations < 1 )
+        {
+            throw new OperationExecutorException(
+                    format( "Maximum in-flight operations must be positive: %s", maxInFlightOperations ) );
+        }
+        streamRunners.add( new StreamRunner( streamDefinition, completionTimeWriter, maxInFlightOperations ) );
+    }
+
+    /**
+     * @return flag that is set once all operations of all streams have completed
+     */
+    synchronized public AtomicBoolean execute()
+    {
+        if ( executing.get() )
+        {
+            return hasFinished;
+        }
+        executing.set( true );
+        unfinishedStreamCount.set( streamRunners.size() );
+        if ( streamRunners.isEmpty() )
+        {
+            hasFinished.set( true );
+        }
+        for ( StreamRunner streamRunner : streamRunners )
+        {
+            streamRunner.retrieveOperations();
+        }
+        return hasFinished;
+    }
+
+    synchronized public void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            long shutdownDeadlineAsMilli = System.currentTimeMillis() + waitAsMilli;
+            forceStreamsToTerminate.set( true );
+            // asynchronous handlers may still be in flight, their completions need pool to accept new tasks
+            while ( uncompletedHandlers.get() > 0 && System.currentTimeMillis() < shutdownDeadlineAsMilli )
+            {
+                Spinner.powerNap( 1 );
+            }
+            forkJoinPool.shutdown();
+            boolean allHandlersCompleted = forkJoinPool.awaitTermination(
+                    Math.max( 0, shutdownDeadlineAsMilli - System.currentTimeMillis() ),
+                    TimeUnit.MILLISECONDS );
+            if ( !allHandlersCompleted )
+            {
+                forkJoinPool.shutdownNow();
+                if ( uncompletedHandlers.get() > 0 )
+                {
+                    String errMsg = format(
+                            "%s shutdown before all handlers could complete\n%s handlers were mid-execution",
+                            getClass().getSimpleName(),
+                            uncompletedHandlers.get() );
+                    throw new OperationExecutorException( errMsg );
+                }
+            }
+        }
+        catch ( OperationExecutorException e )
+        {
+            throw e;
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    /**
+     * Retrieves the operations of one stream, and submits each one to the pool once it is due.
+     * Retrieval is triggered at start and by every completion, from whichever thread that happens on, and is
+     * serialized with a work-in-progress counter rather than a lock, so triggering it never blocks.
+     */
+    private class StreamRunner
+    {
+        private final InitiatedTimeSubmittingOperationRetriever operationRetriever;
+        private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+        private final ChildOperationGenerator childOperationGenerator;
+        private final Set<Class<? extends Operation>> dependentOperationTypes;
+        private final int maxInFlightOperations;
+        private final AtomicInteger inFlightOperations = new AtomicInteger( 0 );
+        private final AtomicInteger retrievalsRequested = new AtomicInteger( 0 );
+        private boolean finished = false;
+
+        private StreamRunner( WorkloadStreamDefinition streamDefinition,
+                CompletionTimeWriter completionTimeWriter,
+                int maxInFlightOperations )
+        {
+            this.operationRetriever = new InitiatedTimeSubmittingOperationRetriever(
+                    streamDefinition,
+                    completionTimeWriter
+            );
+            this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                    streamDefinition,
+                    db,
+                    completionTimeWriter,
+                    completionTimeReader,
+                    spinner,
+                    timeSource,
+                    errorReporter,
+                    metricsService
+            );
+            this.childOperationGenerator = streamDefinition.childOperationGenerator();
+            this.dependentOperationTypes = streamDefinition.dependentOperationTypes();
+            this.maxInFlightOperations = maxInFlightOperations;
+        }
+
+        private void retrieveOperations()
+        {
+            if ( 0 != retrievalsRequested.getAndIncrement() )
+            {
+                // another thread is retrieving, it will retry on behalf of this request
+                return;
+            }
+            int missedRetrievals = 1;
+            do
+            {
+                doRetrieveOperations();
+                missedRetrievals = retrievalsRequested.addAndGet( -missedRetrievals );
+            }
+            while ( 0 != missedRetrievals );
+        }
+
+        private void doRetrieveOperations()
+        {
+            if ( finished )
+            {
+                return;
+            }
+            try
+            {
+                while ( !forceStreamsToTerminate.get() &&
+                        inFlightOperations.get() < maxInFlightOperations &&
+                        operationRetriever.hasNextOperation() )
+                {
+                    Operation operation = operationRetriever.nextOperation();
+                    inFlightOperations.incrementAndGet();
+                    uncompletedHandlers.incrementAndGet();
+                    OperationHandlerRunnableContext operationHandlerRunnableContext;
+                    try
+                    {
+                        operationHandlerRunnableContext =
+                                operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+                    }
+                    catch ( Throwable e )
+                    {
+                        inFlightOperations.decrementAndGet();
+                        uncompletedHandlers.decrementAndGet();
+                        throw e;
+                    }
+                    new HandlerTask( this, operationHandlerRunnableContext ).awaitDependencyTime();
+                }
+                if ( 0 == inFlightOperations.get() &&
+                     (forceStreamsToTerminate.get() || !operationRetriever.hasNextOperation()) )
+                {
+                    finish();
+                }
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+                finish();
+            }
+        }
+
+        private void finish()
+        {
+            finished = true;
+            if ( 0 == unfinishedStreamCount.decrementAndGet() )
+            {
+                hasFinished.set( true );
+            }
+        }
+
+        private boolean isDependent( Operation operation )
+        {
+            return dependentOperationTypes.contains( operation.getClass() );
+        }
+
+        private void complete()
+        {
+            inFlightOperations.decrementAndGet();
+            retrieveOperations();
+        }
+    }
+
+    /**
+     * Executes one operation, of the stream or a child operation. Child operations are not run inline by the task of
+     * the operation that generated them, each one becomes a task that waits to become due like operations of the
+     * stream do. The task of the stream operation is released once its last child operation has completed.
+     */
+    private class HandlerTask implements Runnable
+    {
+        private final StreamRunner streamRunner;
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+        // null if operation is of the stream, otherwise task of the stream operation that child operation descends from
+        private final HandlerTask parentTask;
+        // state of child operation generator, only used by tasks of stream operations
+        private double childOperationGeneratorState;
+
+        private HandlerTask( StreamRunner streamRunner,
+                OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this( streamRunner, operationHandlerRunnableContext, null );
+        }
+
+        private HandlerTask( StreamRunner streamRunner,
+                OperationHandlerRunnableContext operationHandlerRunnableContext,
+                HandlerTask parentTask )
+        {
+            this.streamRunner = streamRunner;
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+            this.parentTask = parentTask;
+            // pool thread is released once operation is submitted, handler is completed by its callback, on the pool
+            operationHandlerRunnableContext.setAsynchronousCompletionCallback( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    complete();
+                }
+            }, forkJoinPool );
+        }
+
+        private void awaitDependencyTime() throws CompletionTimeException
+        {
+            Operation operation = operationHandlerRunnableContext.operation();
+            if ( null != completionTimeService &&
+                 streamRunner.isDependent( operation ) &&
+                 completionTimeReader.completionTimeAsMilli() < operation.dependencyTimeStamp() )
+            {
+                // notification runs on whichever thread advances CT, so it must only hand the task on
+                completionTimeService.notifyWhenCompletionTimeReaches(
+                        operation.dependencyTimeStamp(),
+                        new Runnable()
+                        {
+                            @Override
+                            public void run()
+                            {
+                                awaitScheduledStartTime();
+                            }
+                        } );
+            }
+            else
+            {
+                awaitScheduledStartTime();
+            }
+        }
+
+        private void awaitScheduledStartTime()
+        {
+            long scheduledStartTimeAsMilli = operationHandlerRunnableContext.operation().scheduledStartTimeAsMilli();
+            if ( null != timerWheelScheduler && timeSource.nowAsMilli() < scheduledStartTimeAsMilli )
+            {
+                timerWheelScheduler.schedule( scheduledStartTimeAsMilli, new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        submit();
+                    }
+                } );
+            }
+            else
+            {
+                submit();
+            }
+        }
+
+        private void submit()
+        {
+            try
+            {
+                forkJoinPool.execute( this );
+            }
+            catch ( RejectedExecutionException e )
+            {
+                // pool was shutdown while operation was waiting to become due, e.g., after an error
+                release();
+            }
+        }
+
+        @Override
+        public void run()
+        {
+            // context must not be accessed after asynchronous run(), as callback may already have released it
+            boolean executesAsynchronously = operationHandlerRunnableContext.executesAsynchronously();
+            // remaining checks of spinner pass immediately, as operation is already due
+            operationHandlerRunnableContext.run();
+            if ( !executesAsynchronously )
+            {
+                complete();
+            }
+        }
+
+        // called from pool thread, for asynchronous handlers once their completion is handed to the pool
+        private void complete()
+        {
+            HandlerTask streamOperationTask = (null == parentTask) ? this : parentTask;
+            try
+            {
+                Operation childOperation = nextChildOperation();
+                if ( null == childOperation )
+                {
+                    streamOperationTask.release();
+                }
+                else
+                {
+                    // waits to become due like operations of the stream do, rather than on this pool thread
+                    new HandlerTask(
+                            streamRunner,
+                            streamRunner.operationHandlerRunnableContextRetriever.getInitializedHandlerFor(
+                                    childOperation ),
+                            streamOperationTask
+                    ).awaitDependencyTime();
+                }
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error executing handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+                streamOperationTask.release();
+            }
+        }
+
+        // context of child operation is cleaned up once its result has been passed to the generator
+        private Operation nextChildOperation() throws WorkloadException
+        {
+            try
+            {
+                ChildOperationGenerator childOperationGenerator = streamRunner.childOperationGenerator;
+                if ( null == childOperationGenerator )
+                {
+                    return null;
+                }
+                HandlerTask streamOperationTask = (null == parentTask) ? this : parentTask;
+                Operation operation = operationHandlerRunnableContext.operation();
+                streamOperationTask.childOperationGeneratorState = (null == parentTask)
+                                                                   ? childOperationGenerator.initialState()
+                                                                   : childOperationGenerator.updateState(
+                                                                           parentTask.childOperationGeneratorState,
+                                                                           operation.type() );
+                return childOperationGenerator.nextOperation(
+                        streamOperationTask.childOperationGeneratorState,
+                        operation,
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano()
+                );
+            }
+            finally
+            {
+                if ( null != parentTask )
+                {
+                    operationHandlerRunnableContext.cleanup();
+                }
+            }
+        }
+
+        private void release()
+        {
+            if ( null != parentTask )
+            {
+                // child operation was never run, e.g., pool was shutdown, generated operations are not recycled
+                operationHandlerRunnableContext.cleanup();
+                parentTask.release();
+                return;
+            }
+            uncompletedHandlers.decrementAndGet();
+            operationHandlerRunnableContext.cleanupAndRecycleOperation();
+            streamRunner.complete();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the same CSV format as SimpleResultsLogWriter, but encodes rows directly into a reusable byte buffer,
+ * without creating intermediate strings, and writes that buffer to a file channel only once it is full.
+ * Not thread-safe, intended to be used by one results log consumer thread.
+ */
+public class BatchingResultsLogWriter implements ResultsLogWriter
+{
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private static final byte[] COLUMN_SEPARATOR =
+            SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR.getBytes( StandardCharsets.UTF_8 );
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes( StandardCharsets.UTF_8 );
+    // sign and digits of Long.MIN_VALUE
+    private static final int MAX_LONG_LENGTH = 20;
+    private static final int MAX_ROW_LENGTH_WITHOUT_OPERATION_NAME =
+            6 * (COLUMN_SEPARATOR.length + MAX_LONG_LENGTH) + LINE_SEPARATOR.length;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final TimeUnit unit;
+    private final Map<String,byte[]> operationNames = new HashMap<>();
+    private final byte[] digits = new byte[MAX_LONG_LENGTH];
+
+    public BatchingResultsLogWriter( File resultsLog, TimeUnit unit ) throws IOException
+    {
+        this( resultsLog, unit, DEFAULT_BUFFER_SIZE );
+    }
+
+    public BatchingResultsLogWriter( File resultsLog, TimeUnit unit, int bufferSize ) throws IOException
+    {
+        this.channel = FileChannel.open(
+                resultsLog.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+        );
+        this.buffer = ByteBuffer.allocateDirect( bufferSize );
+        this.unit = unit;
+        String[] headers = new String[]{
+                HEADER_OPERATION_TYPE,
+                HEADER_SCHEDULED_START_TIME,
+                HEADER_ACTUAL_START_TIME,
+                HEADER_EXECUTION_DURATION_PREFIX + unit.name(),
+                HEADER_RESULT_CODE,
+                HEADER_ORIGINAL_START_TIME,
+                HEADER_INTENDED_START_LATENCY_PREFIX + unit.name()
+        };
+        for ( int i = 0; i < headers.length; i++ )
+        {
+            byte[] header = headers[i].getBytes( StandardCharsets.UTF_8 );
+            ensureRemaining( header.length + COLUMN_SEPARATOR.length + LINE_SEPARATOR.length );
+            buffer.put( header );
+            buffer.put( (i < headers.length - 1) ? COLUMN_SEPARATOR : LINE_SEPARATOR );
+        }
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        byte[] operationNameBytes = operationNames.get( operationName );
+        if ( null == operationNameBytes )
+        {
+            operationNameBytes = operationName.getBytes( StandardCharsets.UTF_8 );
+            operationNames.put( operationName, operationNameBytes );
+        }
+        ensureRemaining( operationNameBytes.length + MAX_ROW_LENGTH_WITHOUT_OPERATION_NAME );
+        buffer.put( operationNameBytes );
+        buffer.put( COLUMN_SEPARATOR );
+        putLong( scheduledStartTimeAsMilli );
+        buffer.put( COLUMN_SEPARATOR );
+        putLong( actualStartTimeAsMilli );
+        buffer.put( COLUMN_SEPARATOR );
+        putLong( unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) );
+        buffer.put( COLUMN_SEPARATOR );
+        putLong( resultCode );
+        buffer.put( COLUMN_SEPARATOR );
+        putLong( originalStartTime );
+        buffer.put( COLUMN_SEPARATOR );
+        putLong( unit.convert(
+                MetricsManager.intendedStartLatencyAsNano(
+                        scheduledStartTimeAsMilli,
+                        actualStartTimeAsMilli,
+                        runDurationAsNano ),
+                TimeUnit.NANOSECONDS ) );
+        buffer.put( LINE_SEPARATOR );
+    }
+
+    // digits are computed on the negated value, because Long.MIN_VALUE has no positive counterpart
+    private void putLong( long value )
+    {
+        long negativeValue = value;
+        if ( value < 0 )
+        {
+            buffer.put( (byte) '-' );
+        }
+        else
+        {
+            negativeValue = -value;
+        }
+        int start = digits.length;
+        do
+        {
+            digits[--start] = (byte) ('0' - (negativeValue % 10));
+            negativeValue = negativeValue / 10;
+        }
+        while ( 0 != negativeValue );
+        buffer.put( digits, start, digits.length - start );
+    }
+
+    private void ensureRemaining( int length ) throws IOException
+    {
+        if ( buffer.remaining() < length )
+        {
+            flush();
+            if ( buffer.remaining() < length )
+            {
+                throw new IOException(
+                        String.format( "Row length %s exceeds buffer size %s", length, buffer.capacity() ) );
+            }
+        }
+    }
+
+    private void flush() throws IOException
+    {
+        buffer.flip();
+        while ( buffer.hasRemaining() )
+        {
+            channel.write( buffer );
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        try
+        {
+            flush();
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acquisitions of connection states from the connection state pool of a Db, and time spent waiting for them
+ */
+public class ConnectionStateAcquisitionSnapshot
+{
+    @JsonProperty( value = "unit" )
+    private TimeUnit unit;
+
+    @JsonProperty( value = "count" )
+    private long count;
+
+    @JsonProperty( value = "total_wait" )
+    private long totalWaitAsUnit;
+
+    @JsonProperty( value = "max_wait" )
+    private long maxWaitAsUnit;
+
+    private ConnectionStateAcquisitionSnapshot()
+    {
+    }
+
+    public ConnectionStateAcquisitionSnapshot(
+            long count,
+            long totalWaitAsNano,
+            long maxWaitAsNano,
+            TimeUnit unit )
+    {
+        this.unit = unit;
+        this.count = count;
+        this.totalWaitAsUnit = unit.convert( totalWaitAsNano, TimeUnit.NANOSECONDS );
+        this.maxWaitAsUnit = unit.convert( maxWaitAsNano, TimeUnit.NANOSECONDS );
+    }
+
+    public TimeUnit unit()
+    {
+        return unit;
+    }
+
+    public long count()
+    {
+        return count;
+    }
+
+    public long totalWaitAsNano()
+    {
+        return unit.toNanos( totalWaitAsUnit );
+    }
+
+    public long maxWaitAsNano()
+    {
+        return unit.toNanos( maxWaitAsUnit );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ConnectionStateAcquisitionSnapshot{" +
+               "unit=" + unit +
+               ", count=" + count +
+               ", totalWaitAsUnit=" + totalWaitAsUnit +
+               ", maxWaitAsUnit=" + maxWaitAsUnit +
+               '}';
+    }
+}
@@ -1,5 +1,6 @@
 package com.ldbc.driver.runtime.metrics;
 
+import org.HdrHistogram.AbstractHistogram;
 import org.HdrHistogram.Histogram;
 
 import java.util.concurrent.TimeUnit;
@@ -28,11 +29,34 @@ public class ContinuousMetricManager
         this.unit = unit;
     }
 
+    public String name()
+    {
+        return name;
+    }
+
     public void addMeasurement( long value )
     {
         histogram.recordValue( value );
     }
 
+    /**
+     * Adds all measurements recorded by another histogram, which must track at most the same highest value
+     */
+    public void addMeasurements( AbstractHistogram measurements )
+    {
+        histogram.add( measurements );
+    }
+
+    public void reset()
+    {
+        histogram.reset();
+    }
+
+    Histogram histogram()
+    {
+        return histogram;
+    }
+
     public ContinuousMetricSnapshot snapshot()
     {
         return new ContinuousMetricSnapshot(
@@ -14,6 +14,10 @@ import java.util.concurrent.atomic.AtomicStampedReference;
 
 import static java.lang.String.format;
 
+/**
+ * Records metrics of operation types whose type code modulo shard count equals shard index, so metrics collection can
+ * be spread across multiple handlers. Every shard answers status and results requests for its own operation types.
+ */
 class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
 {
     private final AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshotReference =
@@ -23,30 +27,35 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
 
     private final MetricsManager metricsManager;
     private final ConcurrentErrorReporter errorReporter;
-    private final ResultsLogWriter resultsLogWriter;
-    private long processedEventCount = 0L;
-    private final String[] operationNames;
+    private volatile long processedEventCount = 0L;
     private final MetricsEvent metricsEvent;
+    private final int shardIndex;
+    private final int shardCount;
 
     DisruptorSbeMetricsEventHandler(
+            int shardIndex,
+            int shardCount,
             ConcurrentErrorReporter errorReporter,
-            ResultsLogWriter resultsLogWriter,
             TimeUnit unit,
             TimeSource timeSource,
             long maxRuntimeDurationAsNano,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
-            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+            LoggingServiceFactory loggingServiceFactory,
+            long intervalDurationAsMilli,
+            IntervalMetricsLogWriter intervalMetricsLogWriter ) throws MetricsCollectionException
     {
         this.errorReporter = errorReporter;
-        this.resultsLogWriter = resultsLogWriter;
         this.metricsManager = new MetricsManager(
                 timeSource,
                 unit,
                 maxRuntimeDurationAsNano,
                 operationTypeToClassMapping,
-                loggingServiceFactory );
-        operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+                loggingServiceFactory,
+                intervalDurationAsMilli,
+                intervalMetricsLogWriter );
         this.metricsEvent = new MetricsEvent();
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
     }
 
     AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshot()
@@ -64,6 +73,14 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
         return processedEventCount;
     }
 
+    /**
+     * Must only be called once no more events are processed
+     */
+    void completeInterval()
+    {
+        metricsManager.completeInterval();
+    }
+
     @Override
     public void onEvent( DirectBuffer event, long l, boolean b ) throws Exception
     {
@@ -79,21 +96,21 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
         case DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT:
         {
             int operationType = metricsEvent.operationType();
+            if ( operationType % shardCount != shardIndex )
+            {
+                // measured by another shard, but still counted, as processed count is used to await shutdown
+                processedEventCount++;
+                break;
+            }
             long scheduledStartTimeAsMilli = metricsEvent.scheduledStartTimeAsMilli();
             long actualStartTimeAsMilli = metricsEvent.actualStartTimeAsMilli();
             long runDurationAsNano = metricsEvent.runDurationAsNano();
-            int resultCode = metricsEvent.resultCode();
-            long originalStartTime = metricsEvent.originalStartTime();
 
-            resultsLogWriter.write(
-                    operationNames[operationType],
+            metricsManager.measure(
                     scheduledStartTimeAsMilli,
                     actualStartTimeAsMilli,
                     runDurationAsNano,
-                    resultCode,
-                    originalStartTime );
-
-            metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+                    operationType );
             processedEventCount++;
             break;
         }
@@ -1,11 +1,13 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.ldbc.driver.DbConnectionStatePool;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
 import com.ldbc.driver.temporal.TimeSource;
-import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.EventTranslator;
 import com.lmax.disruptor.EventTranslatorVararg;
 import com.lmax.disruptor.RingBuffer;
@@ -14,6 +16,8 @@ import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import uk.co.real_logic.sbe.codec.java.DirectBuffer;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -22,7 +26,9 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicStampedReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.LockSupport;
 
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.GET_WORKLOAD_RESULTS;
@@ -39,14 +45,25 @@ public class DisruptorSbeMetricsService implements MetricsService
     // TODO this could come from config, if we had a max_runtime parameter. for now, it can default to something
     public static final long DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO = TimeUnit.MINUTES.toNanos( 90 );
 
+    public static final int DEFAULT_RING_SIZE = 1024;
+    public static final MetricsWaitStrategyType DEFAULT_WAIT_STRATEGY = MetricsWaitStrategyType.BLOCKING;
+    public static final int DEFAULT_HANDLER_COUNT = 1;
+
     private final AtomicLong initiatedEvents = new AtomicLong( 0 );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
     private final TimeSource timeSource;
     private final RingBuffer<DirectBuffer> ringBuffer;
     private final Disruptor<DirectBuffer> disruptor;
-    private final DisruptorSbeMetricsEventHandler eventHandler;
+    private final DisruptorSbeMetricsEventHandler[] eventHandlers;
+    private final DisruptorSbeResultsLogEventHandler resultsLogEventHandler;
     private final ConcurrentLinkedQueue<DisruptorSbeMetricsServiceWriter> metricsServiceWriters;
     private final ExecutorService executor;
+    private final LoggingService loggingService;
+    private final MetricsWaitStrategyType waitStrategyType;
+    // number of operation results that could not be published immediately, because ring buffer was full
+    private final LongAdder ringFullCount = new LongAdder();
+    private final AtomicLong maxRingOccupancy = new AtomicLong( 0 );
+    private final AtomicReference<DbConnectionStatePool> dbConnectionStatePool = new AtomicReference<>();
 
     public DisruptorSbeMetricsService(
             TimeSource timeSource,
@@ -57,40 +74,134 @@ public class DisruptorSbeMetricsService implements MetricsService
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
-        // Specify the size of the ring buffer, must be power of 2
-        int bufferSize = 1024;
+        this(
+                timeSource,
+                errorReporter,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                DEFAULT_RING_SIZE,
+                DEFAULT_WAIT_STRATEGY,
+                DEFAULT_HANDLER_COUNT
+        );
+    }
 
-        this.executor = Executors.newSingleThreadExecutor();
+    /**
+     * @param ringSize size of ring buffer operation results are published to, must be a power of 2
+     * @param waitStrategyType how event handlers wait for operation results to be published
+     * @param handlerCount number of metrics event handlers, operation types are spread across them by type code
+     */
+    public DisruptorSbeMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            int ringSize,
+            MetricsWaitStrategyType waitStrategyType,
+            int handlerCount ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                errorReporter,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                ringSize,
+                waitStrategyType,
+                handlerCount,
+                0,
+                null
+        );
+    }
+
+    /**
+     * @param intervalDurationAsMilli duration of intervals for which metrics are also recorded separately, 0 disables
+     * @param intervalMetricsLogWriter log completed intervals are written to, may be null
+     */
+    public DisruptorSbeMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            int ringSize,
+            MetricsWaitStrategyType waitStrategyType,
+            int handlerCount,
+            long intervalDurationAsMilli,
+            IntervalMetricsLogWriter intervalMetricsLogWriter ) throws MetricsCollectionException
+    {
+        if ( ringSize < 1 || Integer.bitCount( ringSize ) != 1 )
+        {
+            throw new MetricsCollectionException( format( "Ring size must be a power of 2: %s", ringSize ) );
+        }
+        if ( handlerCount < 1 )
+        {
+            throw new MetricsCollectionException( format( "Handler count must be positive: %s", handlerCount ) );
+        }
+
+        // One thread per event handler, plus one for results log
+        this.executor = Executors.newFixedThreadPool( handlerCount + 1 );
         // Construct the Disruptor
         disruptor = new Disruptor(
                 new MetricsCollectionEventFactory(),
-                bufferSize,
+                ringSize,
                 // Executor that will be used to construct new threads for consumers
                 this.executor,
                 ProducerType.MULTI,
-                new BlockingWaitStrategy()
-//                new LiteBlockingWaitStrategy()
-//                new SleepingWaitStrategy()
-//                new YieldingWaitStrategy()
-//                new BusySpinWaitStrategy()
-//                new TimeoutBlockingWaitStrategy()
-//                new PhasedBackoffWaitStrategy()
+                waitStrategyType.newWaitStrategy()
         );
 
-        // Connect the handler
-        eventHandler = new DisruptorSbeMetricsEventHandler(
-                errorReporter,
+        // Connect the handlers, each measures its own subset of operation types
+        eventHandlers = new DisruptorSbeMetricsEventHandler[handlerCount];
+        for ( int shardIndex = 0; shardIndex < handlerCount; shardIndex++ )
+        {
+            Map<Integer,Class<? extends Operation>> shardOperationTypeToClassMapping = new HashMap<>();
+            for ( Map.Entry<Integer,Class<? extends Operation>> entry : operationTypeToClassMapping.entrySet() )
+            {
+                if ( entry.getKey() % handlerCount == shardIndex )
+                {
+                    shardOperationTypeToClassMapping.put( entry.getKey(), entry.getValue() );
+                }
+            }
+            eventHandlers[shardIndex] = new DisruptorSbeMetricsEventHandler(
+                    shardIndex,
+                    handlerCount,
+                    errorReporter,
+                    timeUnit,
+                    timeSource,
+                    maxRuntimeDurationAsNano,
+                    shardOperationTypeToClassMapping,
+                    loggingServiceFactory,
+                    intervalDurationAsMilli,
+                    intervalMetricsLogWriter
+            );
+        }
+
+        // Results log is written by its own consumer, in parallel to metrics collection, so slow disk writes do not
+        // delay metrics collection -- ring buffer capacity is still shared, so they may delay publishers
+        resultsLogEventHandler = new DisruptorSbeResultsLogEventHandler(
                 resultsLogWriter,
-                timeUnit,
-                timeSource,
-                maxRuntimeDurationAsNano,
-                operationTypeToClassMapping,
-                loggingServiceFactory
+                operationTypeToClassMapping
         );
 
-        disruptor.handleEventsWith( eventHandler );
+        EventHandler<DirectBuffer>[] allEventHandlers = new EventHandler[handlerCount + 1];
+        System.arraycopy( eventHandlers, 0, allEventHandlers, 0, handlerCount );
+        allEventHandlers[handlerCount] = resultsLogEventHandler;
+        disruptor.handleEventsWith( allEventHandlers );
         DisruptorExceptionHandler exceptionHandler = new DisruptorExceptionHandler( errorReporter );
-        disruptor.handleExceptionsFor( eventHandler ).with( exceptionHandler );
+        for ( EventHandler<DirectBuffer> eventHandler : allEventHandlers )
+        {
+            disruptor.handleExceptionsFor( eventHandler ).with( exceptionHandler );
+        }
         disruptor.handleExceptionsWith( exceptionHandler );
 
         // Start the Disruptor, starts all threads running  & get the ring buffer from the Disruptor to be used for
@@ -98,9 +209,46 @@ public class DisruptorSbeMetricsService implements MetricsService
         ringBuffer = disruptor.start();
 
         this.timeSource = timeSource;
+        this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+        this.waitStrategyType = waitStrategyType;
         metricsServiceWriters = new ConcurrentLinkedQueue<>();
     }
 
+    /**
+     * @return number of operation results published so far that had to wait for space in the ring buffer, i.e.,
+     * how often executor threads were blocked by metrics collection
+     */
+    public long ringFullCount()
+    {
+        return ringFullCount.sum();
+    }
+
+    /**
+     * @return number of unprocessed events in the ring buffer
+     */
+    public long ringOccupancy()
+    {
+        return ringBuffer.getBufferSize() - ringBuffer.remainingCapacity();
+    }
+
+    /**
+     * @return highest number of unprocessed events in the ring buffer, sampled whenever status is requested
+     */
+    public long maxRingOccupancy()
+    {
+        return maxRingOccupancy.get();
+    }
+
+    private long minProcessedEventCount()
+    {
+        long minProcessedEventCount = resultsLogEventHandler.processedEventCount();
+        for ( DisruptorSbeMetricsEventHandler eventHandler : eventHandlers )
+        {
+            minProcessedEventCount = Math.min( minProcessedEventCount, eventHandler.processedEventCount() );
+        }
+        return minProcessedEventCount;
+    }
+
     @Override
     synchronized public void shutdown() throws MetricsCollectionException
     {
@@ -112,7 +260,7 @@ public class DisruptorSbeMetricsService implements MetricsService
         boolean shutdownSuccessful = false;
         while ( timeSource.nowAsMilli() - startTimeMs < SHUTDOWN_WAIT_TIMEOUT_AS_MILLI )
         {
-            if ( eventHandler.processedEventCount() >= initiatedEvents.get() )
+            if ( minProcessedEventCount() >= initiatedEvents.get() )
             {
                 shutdownSuccessful = true;
                 break;
@@ -122,9 +270,13 @@ public class DisruptorSbeMetricsService implements MetricsService
         if ( false == shutdownSuccessful )
         {
             String errMsg =
-                    format( "%s timed out waiting for last operations to complete\n%s/%s operations completed",
+                    format( "%s timed out waiting for last operations to complete\n"
+                            + "%s/%s operations completed\n"
+                            + "%s/%s operations written to results log",
                             getClass().getSimpleName(),
-                            eventHandler.processedEventCount(),
+                            minProcessedEventCount(),
+                            initiatedEvents.get(),
+                            resultsLogEventHandler.processedEventCount(),
                             initiatedEvents.get()
                     );
             throw new MetricsCollectionException( errMsg );
@@ -167,12 +319,32 @@ public class DisruptorSbeMetricsService implements MetricsService
             );
             throw new MetricsCollectionException( errMsg, e );
         }
+        // handler threads have stopped, last intervals can be completed from this thread
+        for ( DisruptorSbeMetricsEventHandler eventHandler : eventHandlers )
+        {
+            eventHandler.completeInterval();
+        }
         AlreadyShutdownPolicy alreadyShutdownPolicy = new AlreadyShutdownPolicy();
         for ( DisruptorSbeMetricsServiceWriter metricsServiceWriter : metricsServiceWriters )
         {
             metricsServiceWriter.setAlreadyShutdownPolicy( alreadyShutdownPolicy );
         }
         shutdown.set( true );
+        loggingService.info( format(
+                "Metrics ring buffer (size: %s, wait strategy: %s, metrics handlers: %s) was full for %s/%s "
+                + "operation results, max sampled occupancy: %s",
+                ringBuffer.getBufferSize(),
+                waitStrategyType.name(),
+                eventHandlers.length,
+                ringFullCount(),
+                initiatedEvents.get(),
+                maxRingOccupancy() ) );
+    }
+
+    @Override
+    public void setDbConnectionStatePool( DbConnectionStatePool dbConnectionStatePool )
+    {
+        this.dbConnectionStatePool.set( dbConnectionStatePool );
     }
 
     @Override
@@ -182,8 +354,13 @@ public class DisruptorSbeMetricsService implements MetricsService
         {
             throw new MetricsCollectionException( "Metrics service has already been shutdown" );
         }
-        DisruptorSbeMetricsServiceWriter metricsServiceWriter =
-                new DisruptorSbeMetricsServiceWriter( initiatedEvents, ringBuffer, eventHandler );
+        DisruptorSbeMetricsServiceWriter metricsServiceWriter = new DisruptorSbeMetricsServiceWriter(
+                initiatedEvents,
+                ringFullCount,
+                maxRingOccupancy,
+                dbConnectionStatePool,
+                ringBuffer,
+                eventHandlers );
         metricsServiceWriters.add( metricsServiceWriter );
         return metricsServiceWriter;
     }
@@ -191,8 +368,11 @@ public class DisruptorSbeMetricsService implements MetricsService
     private static class DisruptorSbeMetricsServiceWriter implements MetricsServiceWriter
     {
         private final AtomicLong initiatedEvents;
+        private final LongAdder ringFullCount;
+        private final AtomicLong maxRingOccupancy;
+        private final AtomicReference<DbConnectionStatePool> dbConnectionStatePool;
         private final RingBuffer<DirectBuffer> ringBuffer;
-        private final DisruptorSbeMetricsEventHandler eventHandler;
+        private final DisruptorSbeMetricsEventHandler[] eventHandlers;
         private final SubmitOperationResultTranslator submitOperationResultTranslator;
         private final GetWorkloadStatusTranslator getWorkloadStatusTranslator;
         private final GetWorkloadResultsTranslator getWorkloadResultsTranslator;
@@ -200,12 +380,18 @@ public class DisruptorSbeMetricsService implements MetricsService
         private AlreadyShutdownPolicy alreadyShutdownPolicy = null;
 
         public DisruptorSbeMetricsServiceWriter( AtomicLong initiatedEvents,
+                LongAdder ringFullCount,
+                AtomicLong maxRingOccupancy,
+                AtomicReference<DbConnectionStatePool> dbConnectionStatePool,
                 RingBuffer<DirectBuffer> ringBuffer,
-                DisruptorSbeMetricsEventHandler eventHandler )
+                DisruptorSbeMetricsEventHandler[] eventHandlers )
         {
             this.initiatedEvents = initiatedEvents;
+            this.ringFullCount = ringFullCount;
+            this.maxRingOccupancy = maxRingOccupancy;
+            this.dbConnectionStatePool = dbConnectionStatePool;
             this.ringBuffer = ringBuffer;
-            this.eventHandler = eventHandler;
+            this.eventHandlers = eventHandlers;
             MetricsEvent metricsEvent = new MetricsEvent();
             this.submitOperationResultTranslator = new SubmitOperationResultTranslator( metricsEvent );
             this.getWorkloadStatusTranslator = new GetWorkloadStatusTranslator( metricsEvent );
@@ -230,8 +416,14 @@ public class DisruptorSbeMetricsService implements MetricsService
                 alreadyShutdownPolicy.apply();
             }
             initiatedEvents.incrementAndGet();
-            ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
-                    actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
+            if ( !ringBuffer.tryPublishEvent( submitOperationResultTranslator, operationType,
+                    scheduledStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano, resultCode,
+                    originalStartTime ) )
+            {
+                ringFullCount.increment();
+                ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
+                        actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
+            }
         }
 
         @Override
@@ -241,14 +433,33 @@ public class DisruptorSbeMetricsService implements MetricsService
             {
                 alreadyShutdownPolicy.apply();
             }
-            AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshotReference = eventHandler.statusSnapshot();
-            int oldStamp = statusSnapshotReference.getStamp();
+            long ringOccupancy = ringBuffer.getBufferSize() - ringBuffer.remainingCapacity();
+            long previousMaxRingOccupancy = maxRingOccupancy.get();
+            while ( ringOccupancy > previousMaxRingOccupancy &&
+                    !maxRingOccupancy.compareAndSet( previousMaxRingOccupancy, ringOccupancy ) )
+            {
+                previousMaxRingOccupancy = maxRingOccupancy.get();
+            }
+            int[] oldStamps = new int[eventHandlers.length];
+            for ( int i = 0; i < eventHandlers.length; i++ )
+            {
+                oldStamps[i] = eventHandlers[i].statusSnapshot().getStamp();
+            }
             ringBuffer.publishEvent( getWorkloadStatusTranslator );
-            while ( statusSnapshotReference.getStamp() <= oldStamp )
+            List<WorkloadStatusSnapshot> statusSnapshots = new ArrayList<>();
+            for ( int i = 0; i < eventHandlers.length; i++ )
             {
-                LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+                AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshotReference =
+                        eventHandlers[i].statusSnapshot();
+                while ( statusSnapshotReference.getStamp() <= oldStamps[i] )
+                {
+                    LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+                }
+                statusSnapshots.add( statusSnapshotReference.getReference() );
             }
-            return statusSnapshotReference.getReference();
+            return MetricsManager.withConnectionStateAcquisition(
+                    mergeStatusSnapshots( statusSnapshots ),
+                    dbConnectionStatePool.get() );
         }
 
         @Override
@@ -258,14 +469,26 @@ public class DisruptorSbeMetricsService implements MetricsService
             {
                 alreadyShutdownPolicy.apply();
             }
-            AtomicStampedReference<WorkloadResultsSnapshot> resultsSnapshotReference = eventHandler.resultsSnapshot();
-            int oldStamp = resultsSnapshotReference.getStamp();
+            int[] oldStamps = new int[eventHandlers.length];
+            for ( int i = 0; i < eventHandlers.length; i++ )
+            {
+                oldStamps[i] = eventHandlers[i].resultsSnapshot().getStamp();
+            }
             ringBuffer.publishEvent( getWorkloadResultsTranslator );
-            while ( resultsSnapshotReference.getStamp() <= oldStamp )
+            List<WorkloadResultsSnapshot> resultsSnapshots = new ArrayList<>();
+            for ( int i = 0; i < eventHandlers.length; i++ )
             {
-                LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+                AtomicStampedReference<WorkloadResultsSnapshot> resultsSnapshotReference =
+                        eventHandlers[i].resultsSnapshot();
+                while ( resultsSnapshotReference.getStamp() <= oldStamps[i] )
+                {
+                    LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+                }
+                resultsSnapshots.add( resultsSnapshotReference.getReference() );
             }
-            return resultsSnapshotReference.getReference();
+            return MetricsManager.withConnectionStateAcquisition(
+                    mergeResultsSnapshots( resultsSnapshots ),
+                    dbConnectionStatePool.get() );
         }
 
         public static class SubmitOperationResultTranslator implements EventTranslatorVararg<DirectBuffer>
@@ -326,6 +549,68 @@ public class DisruptorSbeMetricsService implements MetricsService
         }
     }
 
+    // shards measure disjoint operation types, so their snapshots can be combined without loss
+    static WorkloadStatusSnapshot mergeStatusSnapshots( List<WorkloadStatusSnapshot> statusSnapshots )
+    {
+        if ( 1 == statusSnapshots.size() )
+        {
+            return statusSnapshots.get( 0 );
+        }
+        long runDurationAsMilli = 0;
+        long operationCount = 0;
+        long durationSinceLastMeasurementAsMilli = -1;
+        for ( WorkloadStatusSnapshot statusSnapshot : statusSnapshots )
+        {
+            runDurationAsMilli = Math.max( runDurationAsMilli, statusSnapshot.runDurationAsMilli() );
+            operationCount += statusSnapshot.operationCount();
+            if ( statusSnapshot.operationCount() > 0 && (-1 == durationSinceLastMeasurementAsMilli ||
+                    statusSnapshot.durationSinceLastMeasurementAsMilli() < durationSinceLastMeasurementAsMilli) )
+            {
+                durationSinceLastMeasurementAsMilli = statusSnapshot.durationSinceLastMeasurementAsMilli();
+            }
+        }
+        if ( 0 == operationCount )
+        {
+            return statusSnapshots.get( 0 );
+        }
+        double operationsPerSecond =
+                ((double) operationCount / TimeUnit.MILLISECONDS.toNanos( runDurationAsMilli )) *
+                TimeUnit.SECONDS.toNanos( 1 );
+        return new WorkloadStatusSnapshot(
+                runDurationAsMilli,
+                operationCount,
+                durationSinceLastMeasurementAsMilli,
+                operationsPerSecond );
+    }
+
+    static WorkloadResultsSnapshot mergeResultsSnapshots( List<WorkloadResultsSnapshot> resultsSnapshots )
+    {
+        if ( 1 == resultsSnapshots.size() )
+        {
+            return resultsSnapshots.get( 0 );
+        }
+        List<OperationMetricsSnapshot> operationMetrics = new ArrayList<>();
+        long startTimeAsMilli = Long.MAX_VALUE;
+        long latestFinishTimeAsMilli = -1;
+        long operationCount = 0;
+        for ( WorkloadResultsSnapshot resultsSnapshot : resultsSnapshots )
+        {
+            operationMetrics.addAll( resultsSnapshot.allMetrics() );
+            if ( -1 != resultsSnapshot.startTimeAsMilli() )
+            {
+                startTimeAsMilli = Math.min( startTimeAsMilli, resultsSnapshot.startTimeAsMilli() );
+            }
+            latestFinishTimeAsMilli = Math.max( latestFinishTimeAsMilli, resultsSnapshot.latestFinishTimeAsMilli() );
+            operationCount += resultsSnapshot.totalOperationCount();
+        }
+        return new WorkloadResultsSnapshot(
+                operationMetrics,
+                (Long.MAX_VALUE == startTimeAsMilli) ? -1 : startTimeAsMilli,
+                latestFinishTimeAsMilli,
+                operationCount,
+                resultsSnapshots.get( 0 ).unit() );
+    }
+
     private static class AlreadyShutdownPolicy
     {
         void apply() throws MetricsCollectionException
@@ -0,0 +1,64 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
+import com.lmax.disruptor.EventHandler;
+import uk.co.real_logic.sbe.codec.java.DirectBuffer;
+
+import java.util.Map;
+
+/**
+ * Consumes the same ring buffer as DisruptorSbeMetricsEventHandler, in parallel to it, so that writing the results
+ * log does not delay metrics collection, nor the executor threads publishing to the ring buffer.
+ */
+class DisruptorSbeResultsLogEventHandler implements EventHandler<DirectBuffer>
+{
+    private final ResultsLogWriter resultsLogWriter;
+    private final String[] operationNames;
+    private final MetricsEvent metricsEvent;
+    private volatile long processedEventCount = 0L;
+
+    DisruptorSbeResultsLogEventHandler(
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping ) throws MetricsCollectionException
+    {
+        this.resultsLogWriter = resultsLogWriter;
+        this.operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.metricsEvent = new MetricsEvent();
+    }
+
+    long processedEventCount()
+    {
+        return processedEventCount;
+    }
+
+    @Override
+    public void onEvent( DirectBuffer event, long l, boolean b ) throws Exception
+    {
+        metricsEvent.wrapForDecode(
+                event,
+                DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE,
+                DisruptorSbeMetricsEvent.ACTING_BLOCK_LENGTH,
+                DisruptorSbeMetricsEvent.ACTING_VERSION
+        );
+
+        // status and results requests are answered by the metrics event handler
+        if ( DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT == metricsEvent.eventType() )
+        {
+            try
+            {
+                resultsLogWriter.write(
+                        operationNames[metricsEvent.operationType()],
+                        metricsEvent.scheduledStartTimeAsMilli(),
+                        metricsEvent.actualStartTimeAsMilli(),
+                        metricsEvent.runDurationAsNano(),
+                        metricsEvent.resultCode(),
+                        metricsEvent.originalStartTime() );
+            }
+            finally
+            {
+                processedEventCount++;
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import static java.lang.String.format;
+
+/**
+ * Measures garbage collection of the driver JVM between start() and stop(), to report the GC overhead of a run.
+ * <p/>
+ * Bytes allocated are derived from GC notifications, as the bytes freed by all collections plus the growth of the
+ * heap, as the JVM does not expose an allocation counter that includes threads which have since terminated.
+ */
+public class GarbageCollectionMonitor implements NotificationListener
+{
+    private final List<GarbageCollectorMXBean> garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final Set<String> heapPoolNames = new HashSet<>();
+    private final AtomicLong freedBytes = new AtomicLong( 0 );
+
+    private long startCollectionCount;
+    private long startCollectionTimeAsMilli;
+    private long startHeapUsedBytes;
+    private long startTimeAsMilli;
+
+    private long collectionCount = -1;
+    private long collectionTimeAsMilli = -1;
+    private long allocatedBytes = -1;
+    private long durationAsMilli = -1;
+
+    public GarbageCollectionMonitor()
+    {
+        for ( MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans() )
+        {
+            if ( MemoryType.HEAP == memoryPool.getType() )
+            {
+                heapPoolNames.add( memoryPool.getName() );
+            }
+        }
+    }
+
+    public void start()
+    {
+        for ( GarbageCollectorMXBean garbageCollector : garbageCollectors )
+        {
+            if ( garbageCollector instanceof NotificationEmitter )
+            {
+                ((NotificationEmitter) garbageCollector).addNotificationListener( this, null, null );
+            }
+        }
+        startCollectionCount = totalCollectionCount();
+        startCollectionTimeAsMilli = totalCollectionTimeAsMilli();
+        startHeapUsedBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        startTimeAsMilli = System.currentTimeMillis();
+    }
+
+    public void stop()
+    {
+        durationAsMilli = System.currentTimeMillis() - startTimeAsMilli;
+        collectionCount = totalCollectionCount() - startCollectionCount;
+        collectionTimeAsMilli = totalCollectionTimeAsMilli() - startCollectionTimeAsMilli;
+        long endHeapUsedBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        for ( GarbageCollectorMXBean garbageCollector : garbageCollectors )
+        {
+            if ( garbageCollector instanceof NotificationEmitter )
+            {
+                try
+                {
+                    ((NotificationEmitter) garbageCollector).removeNotificationListener( this );
+                }
+                catch ( ListenerNotFoundException e )
+                {
+                    // listener was never added, nothing to remove
+                }
+            }
+        }
+        allocatedBytes = freedBytes.get() + endHeapUsedBytes - startHeapUsedBytes;
+    }
+
+    @Override
+    public void handleNotification( Notification notification, Object handback )
+    {
+        if ( !GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals( notification.getType() ) )
+        {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from( (CompositeData) notification.getUserData() );
+        Map<String,MemoryUsage> usageBeforeGc = info.getGcInfo().getMemoryUsageBeforeGc();
+        Map<String,MemoryUsage> usageAfterGc = info.getGcInfo().getMemoryUsageAfterGc();
+        long freedByCollection = 0;
+        for ( String heapPoolName : heapPoolNames )
+        {
+            MemoryUsage before = usageBeforeGc.get( heapPoolName );
+            MemoryUsage after = usageAfterGc.get( heapPoolName );
+            if ( null != before && null != after )
+            {
+                freedByCollection += before.getUsed() - after.getUsed();
+            }
+        }
+        freedBytes.addAndGet( freedByCollection );
+    }
+
+    public long collectionCount()
+    {
+        return collectionCount;
+    }
+
+    public long collectionTimeAsMilli()
+    {
+        return collectionTimeAsMilli;
+    }
+
+    public long allocatedBytes()
+    {
+        return allocatedBytes;
+    }
+
+    public double allocatedBytesPerSecond()
+    {
+        return (0 == durationAsMilli) ? 0 : allocatedBytes * 1000d / durationAsMilli;
+    }
+
+    private long totalCollectionCount()
+    {
+        long count = 0;
+        for ( GarbageCollectorMXBean garbageCollector : garbageCollectors )
+        {
+            count += Math.max( 0, garbageCollector.getCollectionCount() );
+        }
+        return count;
+    }
+
+    private long totalCollectionTimeAsMilli()
+    {
+        long timeAsMilli = 0;
+        for ( GarbageCollectorMXBean garbageCollector : garbageCollectors )
+        {
+            timeAsMilli += Math.max( 0, garbageCollector.getCollectionTime() );
+        }
+        return timeAsMilli;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "%s collections, %s ms (%.2f%% of %s ms), %.1f MB allocated (%.1f MB/s)",
+                collectionCount,
+                collectionTimeAsMilli,
+                (0 == durationAsMilli) ? 0 : collectionTimeAsMilli * 100d / durationAsMilli,
+                durationAsMilli,
+                allocatedBytes / (1024d * 1024d),
+                allocatedBytesPerSecond() / (1024d * 1024d) );
+    }
+}
@@ -0,0 +1,66 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import static java.lang.String.format;
+
+/**
+ * Writes interval histograms to an HdrHistogram log (.hlog), readable by HistogramLogReader & HistogramLogProcessor.
+ * <p/>
+ * The log format of the HdrHistogram version in use has no tags, so all operation types and metrics share one log,
+ * and every interval histogram is preceded by a comment naming its operation type and metric, e.g.,
+ * "#Operation=LdbcQuery1,Metric=Runtime". Timestamps are relative to the start time of the first interval written.
+ * <p/>
+ * Thread-safe, metrics may be collected by more than one thread.
+ */
+public class IntervalMetricsLogWriter implements Closeable
+{
+    private final PrintStream printStream;
+    private final HistogramLogWriter histogramLogWriter;
+    private long logStartTimeAsMilli = -1;
+
+    public IntervalMetricsLogWriter( File intervalMetricsLog ) throws IOException
+    {
+        this.printStream = new PrintStream( new FileOutputStream( intervalMetricsLog ), false, "UTF-8" );
+        this.histogramLogWriter = new HistogramLogWriter( printStream );
+        histogramLogWriter.outputLogFormatVersion();
+        histogramLogWriter.outputLegend();
+    }
+
+    synchronized void write(
+            String operationName,
+            String metricName,
+            long startTimeAsMilli,
+            long endTimeAsMilli,
+            Histogram intervalHistogram )
+    {
+        if ( -1 == logStartTimeAsMilli )
+        {
+            logStartTimeAsMilli = startTimeAsMilli;
+            histogramLogWriter.outputStartTime( logStartTimeAsMilli );
+        }
+        histogramLogWriter.outputComment( format( "Operation=%s,Metric=%s", operationName, metricName ) );
+        histogramLogWriter.outputIntervalHistogram(
+                (startTimeAsMilli - logStartTimeAsMilli) / 1000.0,
+                (endTimeAsMilli - logStartTimeAsMilli) / 1000.0,
+                intervalHistogram
+        );
+    }
+
+    @Override
+    synchronized public void close() throws IOException
+    {
+        printStream.close();
+        if ( printStream.checkError() )
+        {
+            throw new IOException( "Error encountered while writing interval metrics log" );
+        }
+    }
+}
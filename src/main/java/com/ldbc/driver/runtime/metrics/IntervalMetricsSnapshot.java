@@ -0,0 +1,104 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of one operation type, for operations that started within one interval of the run
+ */
+public class IntervalMetricsSnapshot
+{
+    @JsonProperty( value = "start_time" )
+    private long startTimeAsUnit;
+    @JsonProperty( value = "end_time" )
+    private long endTimeAsUnit;
+    @JsonProperty( value = "unit" )
+    private TimeUnit unit;
+    @JsonProperty( value = "run_time" )
+    private ContinuousMetricSnapshot runTimeMetric;
+    @JsonProperty( value = "intended_start_latency" )
+    private ContinuousMetricSnapshot intendedStartLatencyMetric;
+
+    private IntervalMetricsSnapshot()
+    {
+    }
+
+    IntervalMetricsSnapshot(
+            long startTimeAsMilli,
+            long endTimeAsMilli,
+            TimeUnit unit,
+            ContinuousMetricSnapshot runTimeMetric,
+            ContinuousMetricSnapshot intendedStartLatencyMetric )
+    {
+        this.startTimeAsUnit = unit.convert( startTimeAsMilli, TimeUnit.MILLISECONDS );
+        this.endTimeAsUnit = unit.convert( endTimeAsMilli, TimeUnit.MILLISECONDS );
+        this.unit = unit;
+        this.runTimeMetric = runTimeMetric;
+        this.intendedStartLatencyMetric = intendedStartLatencyMetric;
+    }
+
+    public long startTimeAsMilli()
+    {
+        return unit.toMillis( startTimeAsUnit );
+    }
+
+    public long endTimeAsMilli()
+    {
+        return unit.toMillis( endTimeAsUnit );
+    }
+
+    public TimeUnit unit()
+    {
+        return unit;
+    }
+
+    public long count()
+    {
+        return runTimeMetric.count();
+    }
+
+    public ContinuousMetricSnapshot runTimeMetric()
+    {
+        return runTimeMetric;
+    }
+
+    public ContinuousMetricSnapshot intendedStartLatencyMetric()
+    {
+        return intendedStartLatencyMetric;
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        { return true; }
+        if ( o == null || getClass() != o.getClass() )
+        { return false; }
+        IntervalMetricsSnapshot that = (IntervalMetricsSnapshot) o;
+        return startTimeAsUnit == that.startTimeAsUnit &&
+               endTimeAsUnit == that.endTimeAsUnit &&
+               unit == that.unit &&
+               Objects.equals( runTimeMetric, that.runTimeMetric ) &&
+               Objects.equals( intendedStartLatencyMetric, that.intendedStartLatencyMetric );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash( startTimeAsUnit, endTimeAsUnit, unit, runTimeMetric, intendedStartLatencyMetric );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "IntervalMetricsSnapshot{" +
+               "startTimeAsUnit=" + startTimeAsUnit +
+               ", endTimeAsUnit=" + endTimeAsUnit +
+               ", unit=" + unit +
+               ", runTimeMetric=" + runTimeMetric +
+               ", intendedStartLatencyMetric=" + intendedStartLatencyMetric +
+               '}';
+    }
+}
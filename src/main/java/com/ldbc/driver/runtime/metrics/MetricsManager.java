@@ -1,9 +1,11 @@
 package com.ldbc.driver.runtime.metrics;
 
 import com.google.common.collect.Ordering;
+import com.ldbc.driver.DbConnectionStatePool;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TimeSource;
+import org.HdrHistogram.AbstractHistogram;
 
 import java.io.OutputStream;
 import java.nio.charset.Charset;
@@ -22,6 +24,11 @@ public class MetricsManager
     private long latestFinishTimeAsMilli;
     private final OperationTypeMetricsManager[] operationTypeMetricsManagers;
     private final Map<Integer,Class<? extends Operation>> operationTypeToClassMapping;
+    // 0 if intervals are not recorded
+    private final long intervalDurationAsMilli;
+    // null if intervals are not written to a log
+    private final IntervalMetricsLogWriter intervalMetricsLogWriter;
+    private long intervalStartTimeAsMilli = -1;
 
     public static void export(
             WorkloadResultsSnapshot workloadResults,
@@ -46,6 +53,22 @@ public class MetricsManager
             TimeUnit unit,
             long highestExpectedRuntimeDurationAsNano,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        return toOperationTypeMetricsManagerArray(
+                operationTypeToClassMapping,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                loggingServiceFactory,
+                false
+        );
+    }
+
+    public static OperationTypeMetricsManager[] toOperationTypeMetricsManagerArray(
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            LoggingServiceFactory loggingServiceFactory,
+            boolean recordIntervals ) throws MetricsCollectionException
     {
         if ( operationTypeToClassMapping.isEmpty() )
         {
@@ -76,7 +99,8 @@ public class MetricsManager
                             operationClass.getSimpleName(),
                             unit,
                             highestExpectedRuntimeDurationAsNano,
-                            loggingServiceFactory
+                            loggingServiceFactory,
+                            recordIntervals
                     );
                 }
             }
@@ -123,12 +147,46 @@ public class MetricsManager
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
+        this(
+                timeSource,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                0,
+                null
+        );
+    }
+
+    /**
+     * @param intervalDurationAsMilli duration of intervals for which metrics are also recorded separately, 0 disables
+     * interval recording. Interval boundaries are multiples of interval duration, so they are the same for all
+     * metrics managers of a run, and operations are assigned to intervals by actual start time, in the order they are
+     * measured -- an operation measured after a later interval has begun is assigned to that later interval
+     * @param intervalMetricsLogWriter log completed intervals are written to, may be null
+     */
+    public MetricsManager( TimeSource timeSource,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            long intervalDurationAsMilli,
+            IntervalMetricsLogWriter intervalMetricsLogWriter ) throws MetricsCollectionException
+    {
+        if ( intervalDurationAsMilli < 0 )
+        {
+            throw new MetricsCollectionException(
+                    format( "Interval duration must not be negative: %s", intervalDurationAsMilli ) );
+        }
         operationTypeMetricsManagers = toOperationTypeMetricsManagerArray(
                 operationTypeToClassMapping,
                 unit,
                 highestExpectedRuntimeDurationAsNano,
-                loggingServiceFactory
+                loggingServiceFactory,
+                intervalDurationAsMilli > 0
         );
+        this.intervalDurationAsMilli = intervalDurationAsMilli;
+        this.intervalMetricsLogWriter = intervalMetricsLogWriter;
         this.operationTypeToClassMapping = operationTypeToClassMapping;
         this.startTimeAsMilli = Long.MAX_VALUE;
         this.latestFinishTimeAsMilli = Long.MIN_VALUE;
@@ -138,8 +196,44 @@ public class MetricsManager
 
     final static long ONE_MS_AS_NS = TimeUnit.MILLISECONDS.toNanos( 1 );
 
-    public void measure( long actualStartTimeAsMilli, long runDurationAsNano, int operationType )
-            throws MetricsCollectionException
+    /**
+     * Latency as experienced by a client that issued the operation at its scheduled start time, i.e., including time
+     * operation spent waiting to start because driver was behind schedule. Unlike run duration, which is measured from
+     * actual start time, this latency is not subject to coordinated omission.
+     * <p/>
+     * Start times have millisecond precision, run duration has nanosecond precision.
+     *
+     * @return run duration plus delay of actual start time behind scheduled start time, in nanoseconds
+     */
+    public static long intendedStartLatencyAsNano(
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano )
+    {
+        return startDelayAsNano( scheduledStartTimeAsMilli, actualStartTimeAsMilli ) + runDurationAsNano;
+    }
+
+    /**
+     * Delay of actual start time behind scheduled start time, i.e., how far behind schedule the driver was when the
+     * operation started. This is what results log validation checks against its excessive delay threshold.
+     *
+     * @return start delay in nanoseconds, with millisecond precision
+     */
+    public static long startDelayAsNano( long scheduledStartTimeAsMilli, long actualStartTimeAsMilli )
+    {
+        // operations that were not scheduled, or that started early, have no start delay
+        if ( scheduledStartTimeAsMilli < 0 || actualStartTimeAsMilli <= scheduledStartTimeAsMilli )
+        {
+            return 0;
+        }
+        return (actualStartTimeAsMilli - scheduledStartTimeAsMilli) * ONE_MS_AS_NS;
+    }
+
+    public void measure(
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int operationType ) throws MetricsCollectionException
     {
         if ( actualStartTimeAsMilli < startTimeAsMilli )
         {
@@ -152,7 +246,86 @@ public class MetricsManager
             latestFinishTimeAsMilli = operationFinishTimeAsMilli;
         }
 
-        operationTypeMetricsManagers[operationType].measure( runDurationAsNano );
+        advanceInterval( actualStartTimeAsMilli );
+
+        long startDelayAsNano = startDelayAsNano( scheduledStartTimeAsMilli, actualStartTimeAsMilli );
+        operationTypeMetricsManagers[operationType].measure(
+                runDurationAsNano,
+                startDelayAsNano + runDurationAsNano,
+                startDelayAsNano
+        );
+    }
+
+    /**
+     * Adds measurements of one operation type that were recorded elsewhere, in this manager's unit
+     *
+     * @param startTimeAsMilli earliest actual start time of the recorded operations
+     * @param latestFinishTimeAsMilli latest finish time of the recorded operations
+     */
+    void measure(
+            int operationType,
+            AbstractHistogram runDurations,
+            AbstractHistogram intendedStartLatencies,
+            AbstractHistogram startDelays,
+            long startTimeAsMilli,
+            long latestFinishTimeAsMilli ) throws MetricsCollectionException
+    {
+        if ( 0 == runDurations.getTotalCount() )
+        {
+            return;
+        }
+        if ( startTimeAsMilli < this.startTimeAsMilli )
+        {
+            this.startTimeAsMilli = startTimeAsMilli;
+        }
+        if ( latestFinishTimeAsMilli > this.latestFinishTimeAsMilli )
+        {
+            this.latestFinishTimeAsMilli = latestFinishTimeAsMilli;
+        }
+        advanceInterval( startTimeAsMilli );
+        operationTypeMetricsManagers[operationType].measure( runDurations, intendedStartLatencies, startDelays );
+    }
+
+    private void advanceInterval( long actualStartTimeAsMilli )
+    {
+        if ( 0 == intervalDurationAsMilli )
+        {
+            return;
+        }
+        if ( -1 == intervalStartTimeAsMilli )
+        {
+            intervalStartTimeAsMilli = actualStartTimeAsMilli - (actualStartTimeAsMilli % intervalDurationAsMilli);
+        }
+        else if ( actualStartTimeAsMilli >= intervalStartTimeAsMilli + intervalDurationAsMilli )
+        {
+            completeInterval();
+            // intervals in which no operations started are skipped
+            intervalStartTimeAsMilli +=
+                    ((actualStartTimeAsMilli - intervalStartTimeAsMilli) / intervalDurationAsMilli) *
+                    intervalDurationAsMilli;
+        }
+    }
+
+    /**
+     * Completes the interval currently being recorded, e.g., at the end of a run, so it is written to interval log
+     */
+    void completeInterval()
+    {
+        if ( 0 == intervalDurationAsMilli || -1 == intervalStartTimeAsMilli )
+        {
+            return;
+        }
+        for ( OperationTypeMetricsManager operationTypeMetricsManager : operationTypeMetricsManagers )
+        {
+            if ( null != operationTypeMetricsManager )
+            {
+                operationTypeMetricsManager.completeInterval(
+                        intervalStartTimeAsMilli,
+                        intervalStartTimeAsMilli + intervalDurationAsMilli,
+                        intervalMetricsLogWriter
+                );
+            }
+        }
     }
 
     public void applyResultsLog( ResultsLogReader reader ) throws MetricsCollectionException
@@ -161,7 +334,11 @@ public class MetricsManager
         while ( reader.next() )
         {
             int operationType = simpleNameToTypeMapping.get( reader.getOperationName() );
-            measure( reader.getActualStartTimeAsMilli(), reader.getRunDurationAsNano(), operationType );
+            measure(
+                    reader.getScheduledStartTimeAsMilli(),
+                    reader.getActualStartTimeAsMilli(),
+                    reader.getRunDurationAsNano(),
+                    operationType );
         }
     }
 
@@ -192,7 +369,11 @@ public class MetricsManager
         {
             if ( null != operationTypeMetricsManager && operationTypeMetricsManager.count() > 0 )
             {
-                OperationMetricsSnapshot snapshot = operationTypeMetricsManager.snapshot();
+                OperationMetricsSnapshot snapshot = (-1 == intervalStartTimeAsMilli)
+                                                    ? operationTypeMetricsManager.snapshot()
+                                                    : operationTypeMetricsManager.snapshot(
+                                                            intervalStartTimeAsMilli,
+                                                            intervalStartTimeAsMilli + intervalDurationAsMilli );
                 operationMetricsMap.put( snapshot.name(), snapshot );
             }
         }
@@ -204,6 +385,24 @@ public class MetricsManager
                 unit );
     }
 
+    static WorkloadStatusSnapshot withConnectionStateAcquisition( WorkloadStatusSnapshot status,
+            DbConnectionStatePool dbConnectionStatePool )
+    {
+        return (null == dbConnectionStatePool)
+               ? status
+               : status.withConnectionStateAcquisition(
+                       dbConnectionStatePool.acquisitionSnapshot( TimeUnit.NANOSECONDS ) );
+    }
+
+    static WorkloadResultsSnapshot withConnectionStateAcquisition( WorkloadResultsSnapshot results,
+            DbConnectionStatePool dbConnectionStatePool )
+    {
+        return (null == dbConnectionStatePool)
+               ? results
+               : results.withConnectionStateAcquisition(
+                       dbConnectionStatePool.acquisitionSnapshot( results.unit() ) );
+    }
+
     WorkloadStatusSnapshot status()
     {
         long nowAsMilli = timeSource.nowAsMilli();
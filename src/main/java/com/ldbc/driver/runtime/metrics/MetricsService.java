@@ -1,11 +1,18 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.ldbc.driver.DbConnectionStatePool;
+
 public interface MetricsService
 {
     void shutdown() throws MetricsCollectionException;
 
     MetricsServiceWriter getWriter() throws MetricsCollectionException;
 
+    /**
+     * Acquisitions from the given connection state pool are included in status & results snapshots
+     */
+    void setDbConnectionStatePool( DbConnectionStatePool dbConnectionStatePool );
+
     interface MetricsServiceWriter
     {
         void submitOperationResult(
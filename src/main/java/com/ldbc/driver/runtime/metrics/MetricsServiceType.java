@@ -0,0 +1,18 @@
+package com.ldbc.driver.runtime.metrics;
+
+/**
+ * Metrics services that may be used to collect operation results during workload execution
+ */
+public enum MetricsServiceType
+{
+    /**
+     * Operation results are published to a ring buffer, from which metrics and results log are written
+     */
+    DISRUPTOR,
+    /**
+     * Each executor thread records into its own histograms, which are periodically merged by a background thread.
+     * No ring buffer on the hot path, but no results log, and histogram memory grows with thread count: six
+     * histograms per operation type per thread, roughly 3.9MB with milliseconds as unit
+     */
+    THREAD_LOCAL
+}
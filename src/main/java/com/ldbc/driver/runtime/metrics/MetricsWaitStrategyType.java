@@ -0,0 +1,54 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.LiteBlockingWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+/**
+ * Strategies metrics event handlers may use to wait for events on the metrics ring buffer
+ */
+public enum MetricsWaitStrategyType
+{
+    /**
+     * Lock and condition variable, lowest CPU usage, highest latency
+     */
+    BLOCKING,
+    /**
+     * Like BLOCKING, but publishers only signal the condition variable when a handler is waiting on it
+     */
+    LITE_BLOCKING,
+    /**
+     * Spins, then yields, then parks, low CPU usage when idle, but slow to wake up
+     */
+    SLEEPING,
+    /**
+     * Spins, then yields, low latency, but one busy core per event handler
+     */
+    YIELDING,
+    /**
+     * Spins, lowest latency, but one dedicated core per event handler
+     */
+    BUSY_SPIN;
+
+    WaitStrategy newWaitStrategy()
+    {
+        switch ( this )
+        {
+        case BLOCKING:
+            return new BlockingWaitStrategy();
+        case LITE_BLOCKING:
+            return new LiteBlockingWaitStrategy();
+        case SLEEPING:
+            return new SleepingWaitStrategy();
+        case YIELDING:
+            return new YieldingWaitStrategy();
+        case BUSY_SPIN:
+            return new BusySpinWaitStrategy();
+        default:
+            throw new IllegalStateException( "Unrecognized wait strategy: " + name() );
+        }
+    }
+}
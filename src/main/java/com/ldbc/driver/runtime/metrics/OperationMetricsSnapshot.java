@@ -1,7 +1,10 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public class OperationMetricsSnapshot {
@@ -13,6 +16,14 @@ public class OperationMetricsSnapshot {
     private long count;
     @JsonProperty("run_time")
     private ContinuousMetricSnapshot rutTimeMetric;
+    @JsonProperty("intended_start_latency")
+    private ContinuousMetricSnapshot intendedStartLatencyMetric;
+    @JsonProperty("start_delay")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ContinuousMetricSnapshot startDelayMetric;
+    @JsonProperty("intervals")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<IntervalMetricsSnapshot> intervals = new ArrayList<>();
 
     private OperationMetricsSnapshot() {
     }
@@ -20,11 +31,34 @@ public class OperationMetricsSnapshot {
     public OperationMetricsSnapshot(String name,
                                     TimeUnit durationUnit,
                                     long count,
-                                    ContinuousMetricSnapshot rutTimeMetric) {
+                                    ContinuousMetricSnapshot rutTimeMetric,
+                                    ContinuousMetricSnapshot intendedStartLatencyMetric) {
         this.name = name;
         this.durationUnit = durationUnit;
         this.count = count;
         this.rutTimeMetric = rutTimeMetric;
+        this.intendedStartLatencyMetric = intendedStartLatencyMetric;
+    }
+
+    public OperationMetricsSnapshot(String name,
+                                    TimeUnit durationUnit,
+                                    long count,
+                                    ContinuousMetricSnapshot rutTimeMetric,
+                                    ContinuousMetricSnapshot intendedStartLatencyMetric,
+                                    List<IntervalMetricsSnapshot> intervals) {
+        this(name, durationUnit, count, rutTimeMetric, intendedStartLatencyMetric);
+        this.intervals = intervals;
+    }
+
+    public OperationMetricsSnapshot(String name,
+                                    TimeUnit durationUnit,
+                                    long count,
+                                    ContinuousMetricSnapshot rutTimeMetric,
+                                    ContinuousMetricSnapshot intendedStartLatencyMetric,
+                                    ContinuousMetricSnapshot startDelayMetric,
+                                    List<IntervalMetricsSnapshot> intervals) {
+        this(name, durationUnit, count, rutTimeMetric, intendedStartLatencyMetric, intervals);
+        this.startDelayMetric = startDelayMetric;
     }
 
     public String name() {
@@ -43,6 +77,27 @@ public class OperationMetricsSnapshot {
         return rutTimeMetric;
     }
 
+    /**
+     * @return latency measured from scheduled start time, includes time spent waiting to start when behind schedule
+     */
+    public ContinuousMetricSnapshot intendedStartLatencyMetric() {
+        return intendedStartLatencyMetric;
+    }
+
+    /**
+     * @return delay of actual start time behind scheduled start time, null if it was not recorded
+     */
+    public ContinuousMetricSnapshot startDelayMetric() {
+        return startDelayMetric;
+    }
+
+    /**
+     * @return metrics per interval of the run, in order of interval start time, empty if intervals were not recorded
+     */
+    public List<IntervalMetricsSnapshot> intervals() {
+        return intervals;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -55,6 +110,11 @@ public class OperationMetricsSnapshot {
         if (name != null ? !name.equals(that.name) : that.name != null) return false;
         if (rutTimeMetric != null ? !rutTimeMetric.equals(that.rutTimeMetric) : that.rutTimeMetric != null)
             return false;
+        if (intendedStartLatencyMetric != null ? !intendedStartLatencyMetric.equals(that.intendedStartLatencyMetric) : that.intendedStartLatencyMetric != null)
+            return false;
+        if (startDelayMetric != null ? !startDelayMetric.equals(that.startDelayMetric) : that.startDelayMetric != null)
+            return false;
+        if (intervals != null ? !intervals.equals(that.intervals) : that.intervals != null) return false;
 
         return true;
     }
@@ -65,6 +125,9 @@ public class OperationMetricsSnapshot {
         result = 31 * result + (durationUnit != null ? durationUnit.hashCode() : 0);
         result = 31 * result + (int) (count ^ (count >>> 32));
         result = 31 * result + (rutTimeMetric != null ? rutTimeMetric.hashCode() : 0);
+        result = 31 * result + (intendedStartLatencyMetric != null ? intendedStartLatencyMetric.hashCode() : 0);
+        result = 31 * result + (startDelayMetric != null ? startDelayMetric.hashCode() : 0);
+        result = 31 * result + (intervals != null ? intervals.hashCode() : 0);
         return result;
     }
 
@@ -75,6 +138,9 @@ public class OperationMetricsSnapshot {
                 ", durationUnit=" + durationUnit +
                 ", count=" + count +
                 ", rutTimeMetric=" + rutTimeMetric +
+                ", intendedStartLatencyMetric=" + intendedStartLatencyMetric +
+                ", startDelayMetric=" + startDelayMetric +
+                ", intervals=" + intervals +
                 '}';
     }
 }
@@ -3,8 +3,11 @@ package com.ldbc.driver.runtime.metrics;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TemporalUtil;
+import org.HdrHistogram.AbstractHistogram;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -12,9 +15,18 @@ import static java.lang.String.format;
 public class OperationTypeMetricsManager
 {
     private static final String METRIC_RUNTIME = "Runtime";
+    private static final String METRIC_INTENDED_START_LATENCY = "Intended Start Latency";
+    private static final String METRIC_START_DELAY = "Start Delay";
+    static final int NUMBER_OF_SIGNIFICANT_DIGITS = 4;
 
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final ContinuousMetricManager runTimeMetric;
+    private final ContinuousMetricManager intendedStartLatencyMetric;
+    private final ContinuousMetricManager startDelayMetric;
+    // null if intervals are not recorded
+    private final ContinuousMetricManager intervalRunTimeMetric;
+    private final ContinuousMetricManager intervalIntendedStartLatencyMetric;
+    private final List<IntervalMetricsSnapshot> intervals = new ArrayList<>();
     private final String name;
     private final TimeUnit unit;
     private final long highestExpectedRuntimeDurationAsNano;
@@ -25,6 +37,16 @@ public class OperationTypeMetricsManager
             TimeUnit unit,
             long highestExpectedRuntimeDurationAsNano,
             LoggingServiceFactory loggingServiceFactory )
+    {
+        this( name, unit, highestExpectedRuntimeDurationAsNano, loggingServiceFactory, false );
+    }
+
+    OperationTypeMetricsManager(
+            String name,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            LoggingServiceFactory loggingServiceFactory,
+            boolean recordIntervals )
     {
         this.name = name;
         this.unit = unit;
@@ -34,48 +56,128 @@ public class OperationTypeMetricsManager
                 METRIC_RUNTIME,
                 unit,
                 unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
-                4
+                NUMBER_OF_SIGNIFICANT_DIGITS
         );
+        this.intendedStartLatencyMetric = new ContinuousMetricManager(
+                METRIC_INTENDED_START_LATENCY,
+                unit,
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                NUMBER_OF_SIGNIFICANT_DIGITS
+        );
+        this.startDelayMetric = new ContinuousMetricManager(
+                METRIC_START_DELAY,
+                unit,
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                NUMBER_OF_SIGNIFICANT_DIGITS
+        );
+        if ( recordIntervals )
+        {
+            this.intervalRunTimeMetric = new ContinuousMetricManager(
+                    METRIC_RUNTIME,
+                    unit,
+                    unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                    NUMBER_OF_SIGNIFICANT_DIGITS
+            );
+            this.intervalIntendedStartLatencyMetric = new ContinuousMetricManager(
+                    METRIC_INTENDED_START_LATENCY,
+                    unit,
+                    unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                    NUMBER_OF_SIGNIFICANT_DIGITS
+            );
+        }
+        else
+        {
+            this.intervalRunTimeMetric = null;
+            this.intervalIntendedStartLatencyMetric = null;
+        }
     }
 
-    void measure( long runDurationAsNano ) throws MetricsCollectionException
+    void measure( long runDurationAsNano, long intendedStartLatencyAsNano, long startDelayAsNano )
+            throws MetricsCollectionException
     {
         //
-        // Measure operation runtime
+        // Measure operation runtime, from actual start time
+        //
+        addMeasurement( runTimeMetric, intervalRunTimeMetric, runDurationAsNano );
+
         //
-        if ( runDurationAsNano > highestExpectedRuntimeDurationAsNano )
+        // Measure operation latency, from scheduled start time
+        //
+        addMeasurement( intendedStartLatencyMetric, intervalIntendedStartLatencyMetric, intendedStartLatencyAsNano );
+
+        //
+        // Measure how far behind schedule operation started
+        //
+        addMeasurement( startDelayMetric, null, startDelayAsNano );
+    }
+
+    /**
+     * Adds measurements that were already recorded elsewhere, in this manager's unit, e.g., by one executor thread
+     */
+    void measure(
+            AbstractHistogram runDurations,
+            AbstractHistogram intendedStartLatencies,
+            AbstractHistogram startDelays ) throws MetricsCollectionException
+    {
+        try
+        {
+            runTimeMetric.addMeasurements( runDurations );
+            intendedStartLatencyMetric.addMeasurements( intendedStartLatencies );
+            startDelayMetric.addMeasurements( startDelays );
+            if ( null != intervalRunTimeMetric )
+            {
+                intervalRunTimeMetric.addMeasurements( runDurations );
+                intervalIntendedStartLatencyMetric.addMeasurements( intendedStartLatencies );
+            }
+        }
+        catch ( Throwable e )
+        {
+            throw new MetricsCollectionException( format( "Error encountered adding measurements to: %s", name ), e );
+        }
+    }
+
+    private void addMeasurement( ContinuousMetricManager metric, ContinuousMetricManager intervalMetric,
+            long durationAsNano ) throws MetricsCollectionException
+    {
+        if ( durationAsNano > highestExpectedRuntimeDurationAsNano )
         {
             String errMsg = format(
-                    "Error recording runtime - reported value exceeds maximum allowed. Time " +
+                    "Error recording %s - reported value exceeds maximum allowed. Time " +
                     "reported as maximum.\n"
                     + "Reported: %s %s / %s\n"
                     + "For: %s\n"
                     + "Maximum: %s %s / %s",
-                    runDurationAsNano,
+                    metric.name(),
+                    durationAsNano,
                     TimeUnit.NANOSECONDS.name(),
-                    temporalUtil.nanoDurationToString( runDurationAsNano ),
+                    temporalUtil.nanoDurationToString( durationAsNano ),
                     name,
                     highestExpectedRuntimeDurationAsNano,
                     TimeUnit.NANOSECONDS.name(),
                     temporalUtil.nanoDurationToString( highestExpectedRuntimeDurationAsNano )
             );
             loggingService.info( errMsg );
-            runDurationAsNano = highestExpectedRuntimeDurationAsNano;
+            durationAsNano = highestExpectedRuntimeDurationAsNano;
         }
 
-        long runtimeInAppropriateUnit = unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS );
+        long durationInAppropriateUnit = unit.convert( durationAsNano, TimeUnit.NANOSECONDS );
 
         try
         {
-            runTimeMetric.addMeasurement( runtimeInAppropriateUnit );
+            metric.addMeasurement( durationInAppropriateUnit );
+            if ( null != intervalMetric )
+            {
+                intervalMetric.addMeasurement( durationInAppropriateUnit );
+            }
         }
         catch ( Throwable e )
         {
             String errMsg = format(
-                    "Error encountered adding runtime: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
-                    runDurationAsNano,
+                    "Error encountered adding %s: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
+                    metric.name(),
+                    durationAsNano,
                     TimeUnit.NANOSECONDS.name(),
-                    runtimeInAppropriateUnit,
+                    durationInAppropriateUnit,
                     unit.name(),
                     name,
                     highestExpectedRuntimeDurationAsNano,
@@ -89,7 +191,79 @@ public class OperationTypeMetricsManager
 
     public OperationMetricsSnapshot snapshot()
     {
-        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot() );
+        return new OperationMetricsSnapshot(
+                name,
+                unit,
+                count(),
+                runTimeMetric.snapshot(),
+                intendedStartLatencyMetric.snapshot(),
+                startDelayMetric.snapshot(),
+                new ArrayList<>( intervals ) );
+    }
+
+    /**
+     * @return snapshot that also includes the interval that is still being recorded, if it has measurements
+     */
+    OperationMetricsSnapshot snapshot( long currentIntervalStartTimeAsMilli, long currentIntervalEndTimeAsMilli )
+    {
+        List<IntervalMetricsSnapshot> intervalsIncludingCurrent = new ArrayList<>( intervals );
+        if ( null != intervalRunTimeMetric && intervalRunTimeMetric.histogram().getTotalCount() > 0 )
+        {
+            intervalsIncludingCurrent.add( currentIntervalSnapshot(
+                    currentIntervalStartTimeAsMilli,
+                    currentIntervalEndTimeAsMilli ) );
+        }
+        return new OperationMetricsSnapshot(
+                name,
+                unit,
+                count(),
+                runTimeMetric.snapshot(),
+                intendedStartLatencyMetric.snapshot(),
+                startDelayMetric.snapshot(),
+                intervalsIncludingCurrent );
+    }
+
+    /**
+     * Completes the interval currently being recorded, writes its histograms to the log, if one is given, and starts
+     * recording a new interval. Intervals without measurements are skipped.
+     */
+    void completeInterval(
+            long startTimeAsMilli,
+            long endTimeAsMilli,
+            IntervalMetricsLogWriter intervalMetricsLogWriter )
+    {
+        if ( null == intervalRunTimeMetric || 0 == intervalRunTimeMetric.histogram().getTotalCount() )
+        {
+            return;
+        }
+        intervals.add( currentIntervalSnapshot( startTimeAsMilli, endTimeAsMilli ) );
+        if ( null != intervalMetricsLogWriter )
+        {
+            intervalMetricsLogWriter.write(
+                    name,
+                    METRIC_RUNTIME,
+                    startTimeAsMilli,
+                    endTimeAsMilli,
+                    intervalRunTimeMetric.histogram() );
+            intervalMetricsLogWriter.write(
+                    name,
+                    METRIC_INTENDED_START_LATENCY,
+                    startTimeAsMilli,
+                    endTimeAsMilli,
+                    intervalIntendedStartLatencyMetric.histogram() );
+        }
+        intervalRunTimeMetric.reset();
+        intervalIntendedStartLatencyMetric.reset();
+    }
+
+    private IntervalMetricsSnapshot currentIntervalSnapshot( long startTimeAsMilli, long endTimeAsMilli )
+    {
+        return new IntervalMetricsSnapshot(
+                startTimeAsMilli,
+                endTimeAsMilli,
+                unit,
+                intervalRunTimeMetric.snapshot(),
+                intervalIntendedStartLatencyMetric.snapshot() );
     }
 
     public String name()
@@ -19,4 +19,6 @@ public interface ResultsLogReader extends AutoCloseable
     int getResultCode();
 
     long getOriginalStartTime();
+
+    long getIntendedStartLatencyAsNano();
 }
@@ -10,6 +10,7 @@ public interface ResultsLogWriter extends AutoCloseable
     String HEADER_EXECUTION_DURATION_PREFIX = "execution_duration_";
     String HEADER_RESULT_CODE = "result_code";
     String HEADER_ORIGINAL_START_TIME = "original_start_time";
+    String HEADER_INTENDED_START_LATENCY_PREFIX = "intended_start_latency_";
 
     int INDEX_OPERATION_TYPE = 0;
     int INDEX_SCHEDULED_START_TIME = 1;
@@ -17,6 +18,7 @@ public interface ResultsLogWriter extends AutoCloseable
     int INDEX_EXECUTION_DURATION = 3;
     int INDEX_RESULT_CODE = 4;
     int INDEX_ORIGINAL_START_TIME = 5;
+    int INDEX_INTENDED_START_LATENCY = 6;
 
     void write(
             String operationName,
@@ -82,6 +82,34 @@ public class SimpleDetailedWorkloadMetricsFormatter implements WorkloadMetricsFo
         sb.append( offset ).append( offset )
                 .append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
                 .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile99() ) ).append( "\n" );
+        if ( null != metric.intendedStartLatencyMetric() )
+        {
+            sb.append( offset ).append( offset ).append( "Intended Start Latency\n" );
+            sb.append( offset ).append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "50th Percentile:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.intendedStartLatencyMetric().percentile50() ) )
+                    .append( "\n" );
+            sb.append( offset ).append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.intendedStartLatencyMetric().percentile99() ) )
+                    .append( "\n" );
+            sb.append( offset ).append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Max:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.intendedStartLatencyMetric().max() ) )
+                    .append( "\n" );
+        }
+        if ( null != metric.startDelayMetric() )
+        {
+            sb.append( offset ).append( offset ).append( "Start Delay\n" );
+            sb.append( offset ).append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "95th Percentile:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.startDelayMetric().percentile95() ) )
+                    .append( "\n" );
+            sb.append( offset ).append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Max:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.startDelayMetric().max() ) )
+                    .append( "\n" );
+        }
         return sb.toString();
     }
 }
@@ -10,6 +10,7 @@ import java.util.concurrent.TimeUnit;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.HEADER_EXECUTION_DURATION_PREFIX;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_ACTUAL_START_TIME;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_EXECUTION_DURATION;
+import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_INTENDED_START_LATENCY;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_OPERATION_TYPE;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_ORIGINAL_START_TIME;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_RESULT_CODE;
@@ -108,6 +109,24 @@ public class SimpleResultsLogReader implements ResultsLogReader
         return Long.parseLong( row[INDEX_ORIGINAL_START_TIME] );
     }
 
+    @Override
+    public long getIntendedStartLatencyAsNano()
+    {
+        assertRowNotNull( row );
+        if ( row.length > INDEX_INTENDED_START_LATENCY )
+        {
+            return unit.toNanos( Long.parseLong( row[INDEX_INTENDED_START_LATENCY] ) );
+        }
+        else
+        {
+            // results logs written before intended start latency was logged
+            return MetricsManager.intendedStartLatencyAsNano(
+                    getScheduledStartTimeAsMilli(),
+                    getActualStartTimeAsMilli(),
+                    getRunDurationAsNano() );
+        }
+    }
+
     private void assertRowNotNull( String[] row )
     {
         if ( null == row )
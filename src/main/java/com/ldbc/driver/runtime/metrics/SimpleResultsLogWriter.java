@@ -22,7 +22,8 @@ public class SimpleResultsLogWriter implements ResultsLogWriter
                 HEADER_ACTUAL_START_TIME,
                 HEADER_EXECUTION_DURATION_PREFIX + unit.name(),
                 HEADER_RESULT_CODE,
-                HEADER_ORIGINAL_START_TIME
+                HEADER_ORIGINAL_START_TIME,
+                HEADER_INTENDED_START_LATENCY_PREFIX + unit.name()
         );
     }
 
@@ -41,7 +42,13 @@ public class SimpleResultsLogWriter implements ResultsLogWriter
                 Long.toString( actualStartTimeAsMilli ),
                 Long.toString( unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) ),
                 Integer.toString( resultCode ),
-                Long.toString( originalStartTime )
+                Long.toString( originalStartTime ),
+                Long.toString( unit.convert(
+                        MetricsManager.intendedStartLatencyAsNano(
+                                scheduledStartTimeAsMilli,
+                                actualStartTimeAsMilli,
+                                runDurationAsNano ),
+                        TimeUnit.NANOSECONDS ) )
         );
     }
 
@@ -0,0 +1,508 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.DbConnectionStatePool;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.TimeSource;
+import org.HdrHistogram.IntHistogram;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Every thread that submits operation results records them into its own histograms, three per operation type
+ * (run duration, intended start latency & start delay), without any hand-off to another thread, and without
+ * allocation once the first result of a type has been recorded.
+ * A background thread periodically swaps out those interval histograms and merges them into one MetricsManager, from
+ * which status and results snapshots are taken.
+ * <p/>
+ * Status snapshots may lag behind by up to one merge interval, results snapshots merge before they are taken.
+ * <p/>
+ * Does not write a results log. Histograms are allocated per thread, on the first result of each operation type it
+ * submits, and twice (active & inactive), i.e., six histograms per operation type per thread, so memory grows with
+ * thread count. With the default highest expected value (90 minutes) and precision that is roughly 3.9MB per
+ * operation type, per thread, with milliseconds as unit, 7.9MB with microseconds and 11.8MB with nanoseconds.
+ * Histograms of a thread that has terminated are merged one last time and then released, so only threads that are
+ * alive hold histograms.
+ */
+public class ThreadLocalHistogramMetricsService implements MetricsService
+{
+    private static final long SHUTDOWN_WAIT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 5 );
+
+    public static final long DEFAULT_MERGE_INTERVAL_AS_MILLI = TimeUnit.SECONDS.toMillis( 1 );
+
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final ConcurrentErrorReporter errorReporter;
+    private final MetricsManager metricsManager;
+    private final String[] operationNames;
+    private final TimeUnit unit;
+    private final long highestExpectedRuntimeDurationAsNano;
+    private final ConcurrentLinkedQueue<ThreadMetricsRecorder> threadMetricsRecorders;
+    private final ThreadLocal<ThreadMetricsRecorder> threadMetricsRecorder;
+    // number of threads that ever recorded, recorders of terminated threads are removed once merged
+    private final AtomicLong recordingThreadCount = new AtomicLong( 0 );
+    private final IntervalMergeThread intervalMergeThread;
+    private final MetricsServiceWriter metricsServiceWriter;
+    private final LoggingService loggingService;
+    // number of measurements that exceeded highest expected runtime duration, and were recorded as that duration
+    private long exceededHighestExpectedValueCount = 0;
+    private volatile DbConnectionStatePool dbConnectionStatePool = null;
+
+    public ThreadLocalHistogramMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                errorReporter,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                DEFAULT_MERGE_INTERVAL_AS_MILLI
+        );
+    }
+
+    /**
+     * @param mergeIntervalAsMilli how often thread local histograms are merged, i.e., how stale status may be
+     */
+    public ThreadLocalHistogramMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            long mergeIntervalAsMilli ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                errorReporter,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                mergeIntervalAsMilli,
+                0,
+                null
+        );
+    }
+
+    /**
+     * @param intervalDurationAsMilli duration of intervals for which metrics are also recorded separately, 0 disables.
+     * Merged measurements are assigned to intervals as a whole, by the earliest start time among them, so interval
+     * boundaries are only accurate to within one merge interval
+     * @param intervalMetricsLogWriter log completed intervals are written to, may be null
+     */
+    public ThreadLocalHistogramMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            long mergeIntervalAsMilli,
+            long intervalDurationAsMilli,
+            IntervalMetricsLogWriter intervalMetricsLogWriter ) throws MetricsCollectionException
+    {
+        if ( mergeIntervalAsMilli < 1 )
+        {
+            throw new MetricsCollectionException(
+                    format( "Merge interval must be positive: %s", mergeIntervalAsMilli ) );
+        }
+        this.errorReporter = errorReporter;
+        this.metricsManager = new MetricsManager(
+                timeSource,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                intervalDurationAsMilli,
+                intervalMetricsLogWriter
+        );
+        this.operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.unit = unit;
+        this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        this.threadMetricsRecorders = new ConcurrentLinkedQueue<>();
+        this.threadMetricsRecorder = ThreadLocal.withInitial( () ->
+        {
+            ThreadMetricsRecorder recorder = new ThreadMetricsRecorder( Thread.currentThread() );
+            threadMetricsRecorders.add( recorder );
+            recordingThreadCount.incrementAndGet();
+            return recorder;
+        } );
+        this.metricsServiceWriter = new ThreadLocalHistogramMetricsServiceWriter();
+        this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+        this.intervalMergeThread = new IntervalMergeThread( TimeUnit.MILLISECONDS.toNanos( mergeIntervalAsMilli ) );
+        this.intervalMergeThread.start();
+    }
+
+    @Override
+    public void shutdown() throws MetricsCollectionException
+    {
+        // set before the final merge, writers check it inside their critical section, so the final phase flip
+        // either waits for their measurement or they fail
+        if ( false == shutdown.compareAndSet( false, true ) )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        intervalMergeThread.shutdown();
+        try
+        {
+            intervalMergeThread.join( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new MetricsCollectionException( "Interrupted while waiting for interval merge thread to stop", e );
+        }
+        if ( intervalMergeThread.isAlive() )
+        {
+            throw new MetricsCollectionException(
+                    format( "%s timed out waiting for interval merge thread to stop", getClass().getSimpleName() ) );
+        }
+        mergeIntervals();
+        synchronized ( this )
+        {
+            metricsManager.completeInterval();
+        }
+        loggingService.info( format(
+                "Merged thread local metrics of %s threads, %s measurements exceeded highest expected value %s %s",
+                recordingThreadCount.get(),
+                exceededHighestExpectedValueCount,
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                unit.name() ) );
+    }
+
+    @Override
+    public void setDbConnectionStatePool( DbConnectionStatePool dbConnectionStatePool )
+    {
+        this.dbConnectionStatePool = dbConnectionStatePool;
+    }
+
+    @Override
+    public MetricsServiceWriter getWriter() throws MetricsCollectionException
+    {
+        if ( shutdown.get() )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        // writer has no state of its own, measurements go to histograms of the calling thread
+        return metricsServiceWriter;
+    }
+
+    /**
+     * @return number of recorders that have not yet been retired, i.e., of threads that are alive or were alive
+     * during the last merge
+     */
+    int threadMetricsRecorderCount()
+    {
+        return threadMetricsRecorders.size();
+    }
+
+    synchronized private void mergeIntervals() throws MetricsCollectionException
+    {
+        Iterator<ThreadMetricsRecorder> recorders = threadMetricsRecorders.iterator();
+        while ( recorders.hasNext() )
+        {
+            ThreadMetricsRecorder recorder = recorders.next();
+            // checked before swapping, a thread that has terminated by now has completed all its recordings, so they
+            // are all merged by this swap, after which its recorder can be retired
+            boolean recordingThreadTerminated = recorder.recordingThreadTerminated();
+            IntervalMetrics intervalMetrics = recorder.swapIntervalMetrics();
+            try
+            {
+                for ( int operationType = 0; operationType < operationNames.length; operationType++ )
+                {
+                    if ( null != intervalMetrics.runDurations[operationType] )
+                    {
+                        metricsManager.measure(
+                                operationType,
+                                intervalMetrics.runDurations[operationType],
+                                intervalMetrics.intendedStartLatencies[operationType],
+                                intervalMetrics.startDelays[operationType],
+                                intervalMetrics.startTimeAsMilli,
+                                intervalMetrics.latestFinishTimeAsMilli
+                        );
+                    }
+                }
+                exceededHighestExpectedValueCount += intervalMetrics.exceededHighestExpectedValueCount;
+            }
+            finally
+            {
+                intervalMetrics.reset();
+            }
+            if ( recordingThreadTerminated )
+            {
+                recorders.remove();
+            }
+        }
+    }
+
+    synchronized private WorkloadStatusSnapshot statusSnapshot()
+    {
+        return MetricsManager.withConnectionStateAcquisition( metricsManager.status(), dbConnectionStatePool );
+    }
+
+    synchronized private WorkloadResultsSnapshot resultsSnapshot() throws MetricsCollectionException
+    {
+        mergeIntervals();
+        return MetricsManager.withConnectionStateAcquisition( metricsManager.snapshot(), dbConnectionStatePool );
+    }
+
+    private class ThreadLocalHistogramMetricsServiceWriter implements MetricsServiceWriter
+    {
+        @Override
+        public void submitOperationResult(
+                int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
+        {
+            threadMetricsRecorder.get().record(
+                    operationType,
+                    scheduledStartTimeAsMilli,
+                    actualStartTimeAsMilli,
+                    runDurationAsNano
+            );
+        }
+
+        @Override
+        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        {
+            if ( shutdown.get() )
+            {
+                throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+            }
+            return statusSnapshot();
+        }
+
+        @Override
+        public WorkloadResultsSnapshot results() throws MetricsCollectionException
+        {
+            if ( shutdown.get() )
+            {
+                throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+            }
+            return resultsSnapshot();
+        }
+    }
+
+    /**
+     * Written by exactly one thread, swapped out by whichever thread merges intervals
+     */
+    private class ThreadMetricsRecorder
+    {
+        private final WriterReaderPhaser phaser = new WriterReaderPhaser();
+        // weak, recorder must not keep a terminated thread reachable
+        private final WeakReference<Thread> recordingThread;
+        private volatile IntervalMetrics activeIntervalMetrics = new IntervalMetrics();
+        private IntervalMetrics inactiveIntervalMetrics = new IntervalMetrics();
+
+        private ThreadMetricsRecorder( Thread recordingThread )
+        {
+            this.recordingThread = new WeakReference<>( recordingThread );
+        }
+
+        private boolean recordingThreadTerminated()
+        {
+            Thread thread = recordingThread.get();
+            return null == thread || false == thread.isAlive();
+        }
+
+        private void record(
+                int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano ) throws MetricsCollectionException
+        {
+            long criticalValueAtEnter = phaser.writerCriticalSectionEnter();
+            try
+            {
+                if ( shutdown.get() )
+                {
+                    throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+                }
+                activeIntervalMetrics.record(
+                        operationType,
+                        scheduledStartTimeAsMilli,
+                        actualStartTimeAsMilli,
+                        runDurationAsNano
+                );
+            }
+            finally
+            {
+                phaser.writerCriticalSectionExit( criticalValueAtEnter );
+            }
+        }
+
+        /**
+         * @return metrics recorded since previous swap, must be reset before next swap
+         */
+        private IntervalMetrics swapIntervalMetrics()
+        {
+            IntervalMetrics previousIntervalMetrics = activeIntervalMetrics;
+            activeIntervalMetrics = inactiveIntervalMetrics;
+            inactiveIntervalMetrics = previousIntervalMetrics;
+            phaser.flipPhase();
+            return previousIntervalMetrics;
+        }
+    }
+
+    private class IntervalMetrics
+    {
+        // histograms of an operation type are allocated on first use, by the recording thread
+        private final IntHistogram[] runDurations = new IntHistogram[operationNames.length];
+        private final IntHistogram[] intendedStartLatencies = new IntHistogram[operationNames.length];
+        private final IntHistogram[] startDelays = new IntHistogram[operationNames.length];
+        private long startTimeAsMilli = Long.MAX_VALUE;
+        private long latestFinishTimeAsMilli = Long.MIN_VALUE;
+        private long exceededHighestExpectedValueCount = 0;
+
+        private void record(
+                int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano ) throws MetricsCollectionException
+        {
+            if ( operationType < 0 || operationType >= operationNames.length || null == operationNames[operationType] )
+            {
+                throw new MetricsCollectionException( format( "Unrecognized operation type: %s", operationType ) );
+            }
+            if ( null == runDurations[operationType] )
+            {
+                long highestExpectedValue = unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS );
+                runDurations[operationType] = new IntHistogram(
+                        1,
+                        highestExpectedValue,
+                        OperationTypeMetricsManager.NUMBER_OF_SIGNIFICANT_DIGITS
+                );
+                intendedStartLatencies[operationType] = new IntHistogram(
+                        1,
+                        highestExpectedValue,
+                        OperationTypeMetricsManager.NUMBER_OF_SIGNIFICANT_DIGITS
+                );
+                startDelays[operationType] = new IntHistogram(
+                        1,
+                        highestExpectedValue,
+                        OperationTypeMetricsManager.NUMBER_OF_SIGNIFICANT_DIGITS
+                );
+            }
+
+            if ( actualStartTimeAsMilli < startTimeAsMilli )
+            {
+                startTimeAsMilli = actualStartTimeAsMilli;
+            }
+            long operationFinishTimeAsMilli =
+                    actualStartTimeAsMilli + (runDurationAsNano / MetricsManager.ONE_MS_AS_NS);
+            if ( operationFinishTimeAsMilli > latestFinishTimeAsMilli )
+            {
+                latestFinishTimeAsMilli = operationFinishTimeAsMilli;
+            }
+
+            long startDelayAsNano =
+                    MetricsManager.startDelayAsNano( scheduledStartTimeAsMilli, actualStartTimeAsMilli );
+            long intendedStartLatencyAsNano = startDelayAsNano + runDurationAsNano;
+            try
+            {
+                runDurations[operationType].recordValue( toUnit( runDurationAsNano ) );
+                intendedStartLatencies[operationType].recordValue( toUnit( intendedStartLatencyAsNano ) );
+                startDelays[operationType].recordValue( toUnit( startDelayAsNano ) );
+            }
+            catch ( Throwable e )
+            {
+                throw new MetricsCollectionException(
+                        format( "Error encountered recording %s: %s %s / %s %s",
+                                operationNames[operationType],
+                                runDurationAsNano,
+                                TimeUnit.NANOSECONDS.name(),
+                                intendedStartLatencyAsNano,
+                                TimeUnit.NANOSECONDS.name() ),
+                        e );
+            }
+        }
+
+        // values above highest expected are recorded as highest expected, and only counted here, logging is too
+        // expensive for the hot path
+        private long toUnit( long durationAsNano )
+        {
+            if ( durationAsNano > highestExpectedRuntimeDurationAsNano )
+            {
+                exceededHighestExpectedValueCount++;
+                durationAsNano = highestExpectedRuntimeDurationAsNano;
+            }
+            return unit.convert( durationAsNano, TimeUnit.NANOSECONDS );
+        }
+
+        private void reset()
+        {
+            for ( int operationType = 0; operationType < runDurations.length; operationType++ )
+            {
+                if ( null != runDurations[operationType] && runDurations[operationType].getTotalCount() > 0 )
+                {
+                    runDurations[operationType].reset();
+                    intendedStartLatencies[operationType].reset();
+                    startDelays[operationType].reset();
+                }
+            }
+            startTimeAsMilli = Long.MAX_VALUE;
+            latestFinishTimeAsMilli = Long.MIN_VALUE;
+            exceededHighestExpectedValueCount = 0;
+        }
+    }
+
+    private class IntervalMergeThread extends Thread
+    {
+        private final long mergeIntervalAsNano;
+        private volatile boolean continueRunning = true;
+
+        private IntervalMergeThread( long mergeIntervalAsNano )
+        {
+            super( IntervalMergeThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
+            setDaemon( true );
+            this.mergeIntervalAsNano = mergeIntervalAsNano;
+        }
+
+        private void shutdown()
+        {
+            continueRunning = false;
+            LockSupport.unpark( this );
+        }
+
+        @Override
+        public void run()
+        {
+            while ( continueRunning )
+            {
+                LockSupport.parkNanos( mergeIntervalAsNano );
+                try
+                {
+                    mergeIntervals();
+                }
+                catch ( Throwable e )
+                {
+                    errorReporter.reportError(
+                            this,
+                            format( "Encountered error while merging thread local metrics\n%s",
+                                    ConcurrentErrorReporter.stackTraceToString( e ) ) );
+                    return;
+                }
+            }
+        }
+    }
+}
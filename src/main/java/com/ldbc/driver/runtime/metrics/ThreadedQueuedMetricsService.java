@@ -1,5 +1,6 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.ldbc.driver.DbConnectionStatePool;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
@@ -35,6 +36,7 @@ public class ThreadedQueuedMetricsService implements MetricsService
     private final ThreadedQueuedMetricsServiceThread threadedQueuedMetricsServiceThread;
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
     private final ConcurrentLinkedQueue<ThreadedQueuedMetricsServiceWriter> metricsServiceWriters;
+    private final AtomicReference<DbConnectionStatePool> dbConnectionStatePool = new AtomicReference<>();
 
     static ThreadedQueuedMetricsService newInstanceUsingNonBlockingBoundedQueue(
             TimeSource timeSource,
@@ -134,6 +136,12 @@ public class ThreadedQueuedMetricsService implements MetricsService
         shutdown.set( true );
     }
 
+    @Override
+    public void setDbConnectionStatePool( DbConnectionStatePool dbConnectionStatePool )
+    {
+        this.dbConnectionStatePool.set( dbConnectionStatePool );
+    }
+
     @Override
     public MetricsServiceWriter getWriter() throws MetricsCollectionException
     {
@@ -142,7 +150,11 @@ public class ThreadedQueuedMetricsService implements MetricsService
             throw new MetricsCollectionException( "Metrics service has already been shutdown" );
         }
         ThreadedQueuedMetricsServiceWriter metricsServiceWriter =
-                new ThreadedQueuedMetricsServiceWriter( initiatedEvents, queueEventSubmitter, timeSource );
+                new ThreadedQueuedMetricsServiceWriter(
+                        initiatedEvents,
+                        queueEventSubmitter,
+                        timeSource,
+                        dbConnectionStatePool );
         metricsServiceWriters.add( metricsServiceWriter );
         return metricsServiceWriter;
     }
@@ -152,16 +164,19 @@ public class ThreadedQueuedMetricsService implements MetricsService
         private final AtomicLong initiatedEvents;
         private final QueueEventSubmitter<ThreadedQueuedMetricsEvent> queueEventSubmitter;
         private final TimeSource timeSource;
+        private final AtomicReference<DbConnectionStatePool> dbConnectionStatePool;
 
         private AlreadyShutdownPolicy alreadyShutdownPolicy = null;
 
         private ThreadedQueuedMetricsServiceWriter( AtomicLong initiatedEvents,
                 QueueEventSubmitter<ThreadedQueuedMetricsEvent> queueEventSubmitter,
-                TimeSource timeSource )
+                TimeSource timeSource,
+                AtomicReference<DbConnectionStatePool> dbConnectionStatePool )
         {
             this.initiatedEvents = initiatedEvents;
             this.queueEventSubmitter = queueEventSubmitter;
             this.timeSource = timeSource;
+            this.dbConnectionStatePool = dbConnectionStatePool;
         }
 
         private void setAlreadyShutdownPolicy( AlreadyShutdownPolicy alreadyShutdownPolicy )
@@ -225,7 +240,9 @@ public class ThreadedQueuedMetricsService implements MetricsService
                 MetricsStatusFuture statusFuture = new MetricsStatusFuture( timeSource );
                 ThreadedQueuedMetricsEvent event = new ThreadedQueuedMetricsEvent.Status( statusFuture );
                 queueEventSubmitter.submitEventToQueue( event );
-                return statusFuture.get( FUTURE_GET_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+                return MetricsManager.withConnectionStateAcquisition(
+                        statusFuture.get( FUTURE_GET_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS ),
+                        dbConnectionStatePool.get() );
             }
             catch ( Exception e )
             {
@@ -246,7 +263,9 @@ public class ThreadedQueuedMetricsService implements MetricsService
                 ThreadedQueuedMetricsEvent event =
                         new ThreadedQueuedMetricsEvent.GetWorkloadResults( workloadResultFuture );
                 queueEventSubmitter.submitEventToQueue( event );
-                return workloadResultFuture.get( FUTURE_GET_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+                return MetricsManager.withConnectionStateAcquisition(
+                        workloadResultFuture.get( FUTURE_GET_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS ),
+                        dbConnectionStatePool.get() );
             }
             catch ( Exception e )
             {
@@ -110,13 +110,21 @@ public class ThreadedQueuedMetricsServiceThread extends Thread
                         Long.toString(
                                 unit.convert( submitOperationResultEvent.runDurationAsNano(), TimeUnit.NANOSECONDS ) ),
                         Integer.toString( submitOperationResultEvent.resultCode() ),
-                        Long.toString( submitOperationResultEvent.originalStartTime() )
+                        Long.toString( submitOperationResultEvent.originalStartTime() ),
+                        Long.toString(
+                                unit.convert(
+                                        MetricsManager.intendedStartLatencyAsNano(
+                                                submitOperationResultEvent.scheduledStartTimeAsMilli(),
+                                                submitOperationResultEvent.actualStartTimeAsMilli(),
+                                                submitOperationResultEvent.runDurationAsNano() ),
+                                        TimeUnit.NANOSECONDS ) )
                 );
             }
 
             try
             {
                 metricsManager.measure(
+                        submitOperationResultEvent.scheduledStartTimeAsMilli(),
                         submitOperationResultEvent.actualStartTimeAsMilli(),
                         submitOperationResultEvent.runDurationAsNano(),
                         submitOperationResultEvent.operationType()
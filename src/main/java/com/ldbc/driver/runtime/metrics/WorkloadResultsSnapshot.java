@@ -1,5 +1,6 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -38,6 +39,11 @@ public class WorkloadResultsSnapshot
     @JsonProperty( value = "throughput" )
     private double throughput;
 
+    // null unless metrics service was given the connection state pool of the Db
+    @JsonProperty( value = "connection_state_acquisition" )
+    @JsonInclude( JsonInclude.Include.NON_NULL )
+    private ConnectionStateAcquisitionSnapshot connectionStateAcquisition;
+
     public static WorkloadResultsSnapshot fromJson( File jsonFile ) throws IOException
     {
         return new ObjectMapper().readValue( jsonFile, WorkloadResultsSnapshot.class );
@@ -69,6 +75,22 @@ public class WorkloadResultsSnapshot
         this.unit = unit;
     }
 
+    public WorkloadResultsSnapshot withConnectionStateAcquisition(
+            ConnectionStateAcquisitionSnapshot connectionStateAcquisition )
+    {
+        WorkloadResultsSnapshot workloadResultsSnapshot = new WorkloadResultsSnapshot();
+        workloadResultsSnapshot.metrics = metrics;
+        workloadResultsSnapshot.formatVersion = formatVersion;
+        workloadResultsSnapshot.unit = unit;
+        workloadResultsSnapshot.startTimeAsUnit = startTimeAsUnit;
+        workloadResultsSnapshot.latestFinishTimeAsUnit = latestFinishTimeAsUnit;
+        workloadResultsSnapshot.totalRunDurationAsUnit = totalRunDurationAsUnit;
+        workloadResultsSnapshot.operationCount = operationCount;
+        workloadResultsSnapshot.throughput = throughput;
+        workloadResultsSnapshot.connectionStateAcquisition = connectionStateAcquisition;
+        return workloadResultsSnapshot;
+    }
+
     @JsonProperty( value = "all_metrics" )
     public List<OperationMetricsSnapshot> allMetrics()
     {
@@ -112,6 +134,11 @@ public class WorkloadResultsSnapshot
         return throughput;
     }
 
+    public ConnectionStateAcquisitionSnapshot connectionStateAcquisition()
+    {
+        return connectionStateAcquisition;
+    }
+
     public String toJson()
     {
         try
@@ -136,6 +163,7 @@ public class WorkloadResultsSnapshot
                ", totalRunDurationAsUnit=" + totalRunDurationAsUnit +
                ", operationCount=" + operationCount +
                ", throughput=" + throughput +
+               ", connectionStateAcquisition=" + connectionStateAcquisition +
                '}';
     }
 
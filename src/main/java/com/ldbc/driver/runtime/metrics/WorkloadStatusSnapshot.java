@@ -5,15 +5,36 @@ public class WorkloadStatusSnapshot {
     private final long operationCount;
     private final long durationSinceLastMeasurementAsMilli;
     private final double throughput;
+    // null unless metrics service was given the connection state pool of the Db
+    private final ConnectionStateAcquisitionSnapshot connectionStateAcquisition;
 
     public WorkloadStatusSnapshot(long runDurationAsMilli,
                                   long operationCount,
                                   long durationSinceLastMeasurementAsMilli,
                                   double throughput) {
+        this(runDurationAsMilli, operationCount, durationSinceLastMeasurementAsMilli, throughput, null);
+    }
+
+    public WorkloadStatusSnapshot(long runDurationAsMilli,
+                                  long operationCount,
+                                  long durationSinceLastMeasurementAsMilli,
+                                  double throughput,
+                                  ConnectionStateAcquisitionSnapshot connectionStateAcquisition) {
         this.runDurationAsMilli = runDurationAsMilli;
         this.operationCount = operationCount;
         this.durationSinceLastMeasurementAsMilli = durationSinceLastMeasurementAsMilli;
         this.throughput = throughput;
+        this.connectionStateAcquisition = connectionStateAcquisition;
+    }
+
+    public WorkloadStatusSnapshot withConnectionStateAcquisition(
+            ConnectionStateAcquisitionSnapshot connectionStateAcquisition) {
+        return new WorkloadStatusSnapshot(
+                runDurationAsMilli,
+                operationCount,
+                durationSinceLastMeasurementAsMilli,
+                throughput,
+                connectionStateAcquisition);
     }
 
     public long runDurationAsMilli() {
@@ -31,4 +52,8 @@ public class WorkloadStatusSnapshot {
     public double throughput() {
         return throughput;
     }
+
+    public ConnectionStateAcquisitionSnapshot connectionStateAcquisition() {
+        return connectionStateAcquisition;
+    }
 }
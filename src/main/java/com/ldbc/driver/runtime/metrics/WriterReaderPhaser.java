@@ -0,0 +1,66 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lets writers update data structures without blocking, while a reader swaps them out from under the writers and
+ * waits until every writer that may still be using the swapped out structure has left its critical section.
+ * Writers are wait-free, only the reader waits.
+ * <p/>
+ * Same algorithm as org.HdrHistogram.WriterReaderPhaser, which is not available in the HdrHistogram version in use.
+ * <p/>
+ * Usage: writers wrap updates in writerCriticalSectionEnter()/writerCriticalSectionExit(), the reader first swaps
+ * the active structure, then calls flipPhase(), after which the previously active structure may be read safely.
+ * flipPhase() must not be called concurrently by more than one reader.
+ */
+class WriterReaderPhaser
+{
+    private static final long FLIP_PHASE_WAIT_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 10 );
+
+    // even phase counts up from 0, odd phase counts up from Long.MIN_VALUE, so the sign identifies the phase
+    private final AtomicLong startEpoch = new AtomicLong( 0 );
+    private final AtomicLong evenEndEpoch = new AtomicLong( 0 );
+    private final AtomicLong oddEndEpoch = new AtomicLong( Long.MIN_VALUE );
+
+    long writerCriticalSectionEnter()
+    {
+        return startEpoch.getAndIncrement();
+    }
+
+    void writerCriticalSectionExit( long criticalValueAtEnter )
+    {
+        if ( criticalValueAtEnter < 0 )
+        {
+            oddEndEpoch.getAndIncrement();
+        }
+        else
+        {
+            evenEndEpoch.getAndIncrement();
+        }
+    }
+
+    void flipPhase()
+    {
+        boolean nextPhaseIsEven = startEpoch.get() < 0;
+        long initialStartValue;
+        if ( nextPhaseIsEven )
+        {
+            initialStartValue = 0;
+            evenEndEpoch.set( initialStartValue );
+        }
+        else
+        {
+            initialStartValue = Long.MIN_VALUE;
+            oddEndEpoch.set( initialStartValue );
+        }
+        long startValueAtFlip = startEpoch.getAndSet( initialStartValue );
+        // wait for all writers that entered during the previous phase to exit
+        AtomicLong previousPhaseEndEpoch = nextPhaseIsEven ? oddEndEpoch : evenEndEpoch;
+        while ( previousPhaseEndEpoch.get() != startValueAtFlip )
+        {
+            LockSupport.parkNanos( FLIP_PHASE_WAIT_AS_NANO );
+        }
+    }
+}
@@ -4,29 +4,54 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.temporal.TemporalUtil;
 
+import java.util.concurrent.locks.LockSupport;
+
 import static java.lang.String.format;
 
 public class CtDependencyCheck implements SpinnerCheck
 {
     private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
     private final CompletionTimeReader completionTimeReader;
+    // null if reader can not notify when CT advances, in which case Spinner has to keep polling
+    private final CompletionTimeService completionTimeService;
     private final ConcurrentErrorReporter errorReporter;
 
     public CtDependencyCheck( CompletionTimeReader completionTimeReader, ConcurrentErrorReporter errorReporter )
     {
         this.completionTimeReader = completionTimeReader;
+        this.completionTimeService = (completionTimeReader instanceof CompletionTimeService)
+                                     ? (CompletionTimeService) completionTimeReader
+                                     : null;
         this.errorReporter = errorReporter;
     }
 
+    /**
+     * When reading from a completion time service, blocks until CT reaches dependency time of operation
+     * (or service is shutdown), rather than returning STILL_CHECKING for the caller to poll again.
+     */
     @Override
     public SpinnerCheckResult doCheck( Operation operation )
     {
         try
         {
-            return (completionTimeReader.completionTimeAsMilli() >= operation.dependencyTimeStamp())
-                   ? SpinnerCheckResult.PASSED : SpinnerCheckResult.STILL_CHECKING;
+            if ( completionTimeReader.completionTimeAsMilli() >= operation.dependencyTimeStamp() )
+            {
+                return SpinnerCheckResult.PASSED;
+            }
+            if ( null != completionTimeService )
+            {
+                CompletionTimeNotification notification = new CompletionTimeNotification( Thread.currentThread() );
+                completionTimeService.notifyWhenCompletionTimeReaches( operation.dependencyTimeStamp(), notification );
+                notification.await();
+                if ( completionTimeReader.completionTimeAsMilli() >= operation.dependencyTimeStamp() )
+                {
+                    return SpinnerCheckResult.PASSED;
+                }
+            }
+            return SpinnerCheckResult.STILL_CHECKING;
         }
         catch ( CompletionTimeException e )
         {
@@ -66,4 +91,32 @@ public class CtDependencyCheck implements SpinnerCheck
             return false;
         }
     }
+
+    private static class CompletionTimeNotification implements Runnable
+    {
+        private final Thread waitingThread;
+        private volatile boolean notified = false;
+
+        private CompletionTimeNotification( Thread waitingThread )
+        {
+            this.waitingThread = waitingThread;
+        }
+
+        @Override
+        public void run()
+        {
+            notified = true;
+            LockSupport.unpark( waitingThread );
+        }
+
+        private void await()
+        {
+            while ( !notified )
+            {
+                LockSupport.park( this );
+                // interrupts are ignored, same as Spinner.powerNap(), shutting down the service notifies everyone
+                Thread.interrupted();
+            }
+        }
+    }
 }
@@ -26,9 +26,33 @@ public class Spinner
             long sleepDurationAsMilli,
             boolean ignoreScheduleStartTimes )
     {
-        this.spinFun = (ignoreScheduleStartTimes)
-                       ? new WaitForChecksFun( sleepDurationAsMilli )
-                       : new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli );
+        this( timeSource, sleepDurationAsMilli, ignoreScheduleStartTimes, null );
+    }
+
+    /**
+     * @param timerWheelScheduler if not null, used to park until scheduled start time instead of sleep-polling
+     */
+    public Spinner(
+            TimeSource timeSource,
+            long sleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            TimerWheelScheduler timerWheelScheduler )
+    {
+        if ( ignoreScheduleStartTimes )
+        {
+            this.spinFun = new WaitForChecksFun( sleepDurationAsMilli );
+        }
+        else if ( null == timerWheelScheduler )
+        {
+            this.spinFun = new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli );
+        }
+        else
+        {
+            this.spinFun = new WaitForChecksAndScheduledStartTimeOnTimerWheelFun(
+                    timerWheelScheduler,
+                    sleepDurationAsMilli
+            );
+        }
     }
 
     boolean waitForScheduledStartTime( Operation operation )
@@ -105,6 +129,36 @@ public class Spinner
         }
     }
 
+    private static class WaitForChecksAndScheduledStartTimeOnTimerWheelFun implements
+            Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
+    {
+        private final TimerWheelScheduler timerWheelScheduler;
+        private final long sleepDurationAsMilli;
+
+        private WaitForChecksAndScheduledStartTimeOnTimerWheelFun(
+                TimerWheelScheduler timerWheelScheduler,
+                long sleepDurationAsMilli )
+        {
+            this.timerWheelScheduler = timerWheelScheduler;
+            this.sleepDurationAsMilli = sleepDurationAsMilli;
+        }
+
+        @Override
+        public Boolean apply( Operation operation, SpinnerCheck check )
+        {
+            // wait for checks to have all passed before allowing operation to start
+            while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
+            {
+                powerNap( sleepDurationAsMilli );
+            }
+
+            // park until timer wheel releases operation at its scheduled start time
+            timerWheelScheduler.awaitTime( operation.scheduledStartTimeAsMilli() );
+
+            return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
+        }
+    }
+
     private static class WaitForChecksFun implements Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
     {
         private final long sleepDurationAsMilli;
@@ -0,0 +1,394 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Hashed timer wheel, with one bucket per millisecond, that releases tasks at their scheduled start time.
+ * <p/>
+ * Threads waiting for a scheduled start time are parked, rather than sleep-polling the time source, and a single
+ * scheduler thread unparks them as soon as it observes the millisecond at which they become due.
+ * While there is nothing to release the scheduler thread is also parked, so pending operations cost no CPU.
+ * <p/>
+ * Timer tasks are run on the scheduler thread, so they must be short and must never block.
+ */
+public class TimerWheelScheduler
+{
+    public static final int DEFAULT_WHEEL_SIZE = 1024;
+    private static final long TICK_DURATION_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 1 );
+    // wake up this long before estimated tick boundary, then poll until boundary is observed
+    private static final long TICK_BOUNDARY_MARGIN_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 50 );
+    private static final long TICK_BOUNDARY_POLL_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 10 );
+    // upper bound on any single park, in case time source is not wall clock (e.g., manually advanced)
+    private static final long MAX_PARK_DURATION_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 10 );
+    private static final long NO_WAKEUP_SCHEDULED = Long.MAX_VALUE;
+
+    private final TimeSource timeSource;
+    private final ConcurrentErrorReporter errorReporter;
+    private final Queue<TimerTask> submittedTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTaskCount = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final ThreadLocal<Waiter> waiters = new ThreadLocal<Waiter>()
+    {
+        @Override
+        protected Waiter initialValue()
+        {
+            return new Waiter();
+        }
+    };
+    private final SchedulerThread schedulerThread;
+    // time (ms) at which scheduler thread intends to wake up next, used by submitters to decide if it must be woken
+    private volatile long wakeupTimeAsMilli = NO_WAKEUP_SCHEDULED;
+
+    public TimerWheelScheduler( TimeSource timeSource, ConcurrentErrorReporter errorReporter )
+    {
+        this( timeSource, errorReporter, DEFAULT_WHEEL_SIZE );
+    }
+
+    public TimerWheelScheduler( TimeSource timeSource, ConcurrentErrorReporter errorReporter, int wheelSize )
+    {
+        if ( wheelSize <= 0 || Integer.bitCount( wheelSize ) != 1 )
+        {
+            throw new IllegalArgumentException( format( "Wheel size must be a power of two: %s", wheelSize ) );
+        }
+        this.timeSource = timeSource;
+        this.errorReporter = errorReporter;
+        this.schedulerThread = new SchedulerThread( wheelSize );
+    }
+
+    public void start()
+    {
+        schedulerThread.start();
+    }
+
+    /**
+     * Number of tasks that have been scheduled but not yet released
+     *
+     * @return pending task count
+     */
+    public long pendingTaskCount()
+    {
+        return pendingTaskCount.get();
+    }
+
+    /**
+     * Runs task once time source reaches due time.
+     * Task is run on the scheduler thread, or immediately on the calling thread if it is already due.
+     *
+     * @param dueTimeAsMilli time at which task should be run
+     * @param task task to run, must not block
+     */
+    public void schedule( long dueTimeAsMilli, Runnable task )
+    {
+        schedule( new RunnableTimerTask( task ), dueTimeAsMilli );
+    }
+
+    /**
+     * Parks calling thread until time source reaches due time, or scheduler is shutdown.
+     *
+     * @param dueTimeAsMilli time to wait for
+     */
+    public void awaitTime( long dueTimeAsMilli )
+    {
+        if ( timeSource.nowAsMilli() >= dueTimeAsMilli )
+        {
+            return;
+        }
+        Waiter waiter = waiters.get();
+        waiter.reset( Thread.currentThread() );
+        schedule( waiter, dueTimeAsMilli );
+        while ( !waiter.released )
+        {
+            LockSupport.park( this );
+            // interrupts are ignored, same as Spinner.powerNap(), shutdown will release all waiters
+            Thread.interrupted();
+        }
+    }
+
+    public void shutdown()
+    {
+        if ( shutdown.compareAndSet( false, true ) )
+        {
+            LockSupport.unpark( schedulerThread );
+            try
+            {
+                if ( schedulerThread.isAlive() )
+                {
+                    schedulerThread.join( TimeUnit.SECONDS.toMillis( 10 ) );
+                }
+            }
+            catch ( InterruptedException e )
+            {
+                // do nothing
+            }
+            // in case thread was never started make sure nothing is left waiting
+            schedulerThread.requestReleaseAll();
+        }
+    }
+
+    private void schedule( TimerTask task, long dueTimeAsMilli )
+    {
+        task.dueTimeAsMilli = dueTimeAsMilli;
+        if ( shutdown.get() )
+        {
+            task.expire();
+            return;
+        }
+        pendingTaskCount.incrementAndGet();
+        submittedTasks.add( task );
+        if ( shutdown.get() )
+        {
+            // shutdown raced with submission, scheduler thread may already have released everything
+            schedulerThread.requestReleaseAll();
+        }
+        else if ( dueTimeAsMilli < wakeupTimeAsMilli )
+        {
+            LockSupport.unpark( schedulerThread );
+        }
+    }
+
+    abstract static class TimerTask
+    {
+        private long dueTimeAsMilli;
+        private TimerTask next;
+
+        abstract void expire();
+    }
+
+    private static class RunnableTimerTask extends TimerTask
+    {
+        private final Runnable task;
+
+        private RunnableTimerTask( Runnable task )
+        {
+            this.task = task;
+        }
+
+        @Override
+        void expire()
+        {
+            task.run();
+        }
+    }
+
+    // reused by each waiting thread, as a thread can only wait for one start time at a time
+    private static class Waiter extends TimerTask
+    {
+        private volatile boolean released = true;
+        private Thread thread;
+
+        private void reset( Thread thread )
+        {
+            this.thread = thread;
+            this.released = false;
+        }
+
+        @Override
+        void expire()
+        {
+            released = true;
+            LockSupport.unpark( thread );
+        }
+    }
+
+    private class SchedulerThread extends Thread
+    {
+        private final TimerTask[] buckets;
+        private final int mask;
+        private long currentTickAsMilli = -1;
+        private long currentTickObservedAtAsNano = -1;
+        // guarded by this, set once scheduler thread has released all tasks & will no longer touch the buckets
+        private boolean terminated = false;
+
+        private SchedulerThread( int wheelSize )
+        {
+            super( TimerWheelScheduler.class.getSimpleName() + "-" + System.currentTimeMillis() );
+            setDaemon( true );
+            this.buckets = new TimerTask[wheelSize];
+            this.mask = wheelSize - 1;
+        }
+
+        @Override
+        public void run()
+        {
+            currentTickAsMilli = timeSource.nowAsMilli();
+            currentTickObservedAtAsNano = timeSource.nanoSnapshot();
+            try
+            {
+                while ( !shutdown.get() )
+                {
+                    // uncontended, unless scheduler thread was started after shutdown released all tasks
+                    synchronized ( this )
+                    {
+                        transferSubmittedTasks();
+                        long nowAsMilli = timeSource.nowAsMilli();
+                        if ( nowAsMilli > currentTickAsMilli )
+                        {
+                            expireTasks( nowAsMilli );
+                            currentTickAsMilli = nowAsMilli;
+                            currentTickObservedAtAsNano = timeSource.nanoSnapshot();
+                        }
+                    }
+                    parkUntilNextOccupiedTick();
+                }
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Encountered unexpected exception\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                synchronized ( this )
+                {
+                    releaseAll();
+                    terminated = true;
+                }
+            }
+        }
+
+        private void transferSubmittedTasks()
+        {
+            TimerTask task;
+            while ( null != (task = submittedTasks.poll()) )
+            {
+                if ( task.dueTimeAsMilli <= currentTickAsMilli )
+                {
+                    pendingTaskCount.decrementAndGet();
+                    task.expire();
+                }
+                else
+                {
+                    int bucketIndex = (int) (task.dueTimeAsMilli & mask);
+                    task.next = buckets[bucketIndex];
+                    buckets[bucketIndex] = task;
+                }
+            }
+        }
+
+        private void expireTasks( long nowAsMilli )
+        {
+            long elapsedTicks = nowAsMilli - currentTickAsMilli;
+            if ( elapsedTicks >= buckets.length )
+            {
+                // time advanced by more than one revolution, every bucket may contain due tasks
+                for ( int bucketIndex = 0; bucketIndex < buckets.length; bucketIndex++ )
+                {
+                    expireBucket( bucketIndex, nowAsMilli );
+                }
+            }
+            else
+            {
+                for ( long tick = currentTickAsMilli + 1; tick <= nowAsMilli; tick++ )
+                {
+                    expireBucket( (int) (tick & mask), nowAsMilli );
+                }
+            }
+        }
+
+        private void expireBucket( int bucketIndex, long nowAsMilli )
+        {
+            TimerTask previous = null;
+            TimerTask task = buckets[bucketIndex];
+            while ( null != task )
+            {
+                TimerTask next = task.next;
+                if ( task.dueTimeAsMilli <= nowAsMilli )
+                {
+                    if ( null == previous )
+                    {
+                        buckets[bucketIndex] = next;
+                    }
+                    else
+                    {
+                        previous.next = next;
+                    }
+                    task.next = null;
+                    pendingTaskCount.decrementAndGet();
+                    task.expire();
+                }
+                else
+                {
+                    // due in a later revolution of the wheel
+                    previous = task;
+                }
+                task = next;
+            }
+        }
+
+        private void parkUntilNextOccupiedTick()
+        {
+            long ticksUntilNextOccupiedBucket = -1;
+            for ( int tick = 1; tick <= buckets.length; tick++ )
+            {
+                if ( null != buckets[(int) ((currentTickAsMilli + tick) & mask)] )
+                {
+                    ticksUntilNextOccupiedBucket = tick;
+                    break;
+                }
+            }
+            if ( -1 == ticksUntilNextOccupiedBucket )
+            {
+                wakeupTimeAsMilli = NO_WAKEUP_SCHEDULED;
+                if ( submittedTasks.isEmpty() && !shutdown.get() )
+                {
+                    LockSupport.parkNanos( this, MAX_PARK_DURATION_AS_NANO );
+                }
+            }
+            else
+            {
+                wakeupTimeAsMilli = currentTickAsMilli + ticksUntilNextOccupiedBucket;
+                if ( submittedTasks.isEmpty() && !shutdown.get() )
+                {
+                    // tick boundaries are estimated from when the current tick was first observed
+                    long estimatedWakeupTimeAsNano = currentTickObservedAtAsNano +
+                                                     ticksUntilNextOccupiedBucket * TICK_DURATION_AS_NANO -
+                                                     TICK_BOUNDARY_MARGIN_AS_NANO;
+                    long parkDurationAsNano = Math.min(
+                            Math.max( estimatedWakeupTimeAsNano - timeSource.nanoSnapshot(),
+                                    TICK_BOUNDARY_POLL_AS_NANO ),
+                            MAX_PARK_DURATION_AS_NANO );
+                    LockSupport.parkNanos( this, parkDurationAsNano );
+                }
+            }
+        }
+
+        /**
+         * Called by threads other than the scheduler thread, after shutdown.
+         * Only the scheduler thread drains the buckets, on exit, unless it has already exited or was never started.
+         * Tasks submitted before this call are then released either by the scheduler thread or by the caller.
+         */
+        private void requestReleaseAll()
+        {
+            synchronized ( this )
+            {
+                if ( terminated || !isAlive() )
+                {
+                    releaseAll();
+                    return;
+                }
+            }
+            LockSupport.unpark( this );
+        }
+
+        // must hold lock on this
+        private void releaseAll()
+        {
+            transferSubmittedTasks();
+            for ( int bucketIndex = 0; bucketIndex < buckets.length; bucketIndex++ )
+            {
+                expireBucket( bucketIndex, Long.MAX_VALUE );
+            }
+            wakeupTimeAsMilli = NO_WAKEUP_SCHEDULED;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ldbc.driver.util;
+
+import com.ldbc.driver.SerializingMarshallingException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads values of arrays, e.g., serialized operations, one at a time, straight into the types the caller asks for.
+ * Implemented by {@link JsonArrayReader}, for JSON text, and {@link ListArrayReader}, for arrays already held as lists,
+ * so the same code marshals values from either.
+ */
+public interface ArrayReader
+{
+    void beginArray() throws SerializingMarshallingException;
+
+    void endArray() throws SerializingMarshallingException;
+
+    /**
+     * @return true if the current array has more elements
+     */
+    boolean hasNext() throws SerializingMarshallingException;
+
+    long nextLong() throws SerializingMarshallingException;
+
+    int nextInt() throws SerializingMarshallingException;
+
+    double nextDouble() throws SerializingMarshallingException;
+
+    float nextFloat() throws SerializingMarshallingException;
+
+    boolean nextBoolean() throws SerializingMarshallingException;
+
+    /**
+     * @return string value, or null for a null element
+     */
+    String nextString() throws SerializingMarshallingException;
+
+    List<String> nextStringList() throws SerializingMarshallingException;
+
+    List<Long> nextLongList() throws SerializingMarshallingException;
+
+    /**
+     * Reads the next element, of any type, as Integer, Long, Double, String, Boolean, null, List or Map
+     */
+    Object nextValue() throws SerializingMarshallingException;
+
+    List<Object> nextList() throws SerializingMarshallingException;
+
+    Map<String,Object> nextMap() throws SerializingMarshallingException;
+}
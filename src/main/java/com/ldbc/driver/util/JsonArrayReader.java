@@ -0,0 +1,330 @@
+package com.ldbc.driver.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.ldbc.driver.SerializingMarshallingException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Reads values of JSON arrays, e.g., serialized operations & operation results, one token at a time, straight into
+ * the types the caller asks for, rather than binding the whole document to a tree of lists, maps & boxed numbers.
+ * <p/>
+ * Usage, for an array of rows:
+ * <pre>
+ * reader.beginArray();
+ * while ( reader.hasNext() )
+ * {
+ *     reader.beginArray();
+ *     long id = reader.nextLong();
+ *     String name = reader.nextString();
+ *     reader.endArray();
+ * }
+ * reader.endArray();
+ * </pre>
+ * Instances are cheap, and not thread safe, create one per document.
+ */
+public class JsonArrayReader implements ArrayReader
+{
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String json;
+    private final JsonParser parser;
+    // token read by hasNext() but not yet consumed
+    private JsonToken peeked = null;
+
+    public JsonArrayReader( String json ) throws SerializingMarshallingException
+    {
+        this.json = json;
+        try
+        {
+            this.parser = JSON_FACTORY.createParser( json );
+        }
+        catch ( IOException e )
+        {
+            throw new SerializingMarshallingException( format( "Error parsing JSON\n%s", json ), e );
+        }
+    }
+
+    /**
+     * Reads a JSON array of scalars, nested arrays & objects, with the same element types Jackson's ObjectMapper would
+     * bind them to, i.e., Integer, Long, Double, String, Boolean, null, List & Map
+     */
+    public static List<Object> readList( String json ) throws SerializingMarshallingException
+    {
+        return new JsonArrayReader( json ).nextList();
+    }
+
+    @Override
+    public void beginArray() throws SerializingMarshallingException
+    {
+        expect( JsonToken.START_ARRAY, next() );
+    }
+
+    @Override
+    public void endArray() throws SerializingMarshallingException
+    {
+        expect( JsonToken.END_ARRAY, next() );
+    }
+
+    /**
+     * @return true if the current array has more elements
+     */
+    @Override
+    public boolean hasNext() throws SerializingMarshallingException
+    {
+        JsonToken token = peek();
+        return null != token && JsonToken.END_ARRAY != token;
+    }
+
+    @Override
+    public long nextLong() throws SerializingMarshallingException
+    {
+        expectNumber( next() );
+        try
+        {
+            return parser.getLongValue();
+        }
+        catch ( IOException e )
+        {
+            throw error( "Error reading long", e );
+        }
+    }
+
+    @Override
+    public int nextInt() throws SerializingMarshallingException
+    {
+        expectNumber( next() );
+        try
+        {
+            return parser.getIntValue();
+        }
+        catch ( IOException e )
+        {
+            throw error( "Error reading int", e );
+        }
+    }
+
+    @Override
+    public double nextDouble() throws SerializingMarshallingException
+    {
+        expectNumber( next() );
+        try
+        {
+            return parser.getDoubleValue();
+        }
+        catch ( IOException e )
+        {
+            throw error( "Error reading double", e );
+        }
+    }
+
+    @Override
+    public float nextFloat() throws SerializingMarshallingException
+    {
+        expectNumber( next() );
+        try
+        {
+            return parser.getFloatValue();
+        }
+        catch ( IOException e )
+        {
+            throw error( "Error reading float", e );
+        }
+    }
+
+    @Override
+    public boolean nextBoolean() throws SerializingMarshallingException
+    {
+        JsonToken token = next();
+        if ( JsonToken.VALUE_TRUE == token )
+        {
+            return true;
+        }
+        if ( JsonToken.VALUE_FALSE == token )
+        {
+            return false;
+        }
+        throw error( format( "Expected boolean but found %s", token ), null );
+    }
+
+    /**
+     * @return string value, or null for a JSON null
+     */
+    @Override
+    public String nextString() throws SerializingMarshallingException
+    {
+        JsonToken token = next();
+        if ( JsonToken.VALUE_NULL == token )
+        {
+            return null;
+        }
+        expect( JsonToken.VALUE_STRING, token );
+        try
+        {
+            return parser.getText();
+        }
+        catch ( IOException e )
+        {
+            throw error( "Error reading string", e );
+        }
+    }
+
+    @Override
+    public List<String> nextStringList() throws SerializingMarshallingException
+    {
+        beginArray();
+        List<String> strings = new ArrayList<>();
+        while ( hasNext() )
+        {
+            strings.add( nextString() );
+        }
+        endArray();
+        return strings;
+    }
+
+    @Override
+    public List<Long> nextLongList() throws SerializingMarshallingException
+    {
+        beginArray();
+        List<Long> longs = new ArrayList<>();
+        while ( hasNext() )
+        {
+            longs.add( nextLong() );
+        }
+        endArray();
+        return longs;
+    }
+
+    /**
+     * Reads the next element, of any type, see readList()
+     */
+    @Override
+    public Object nextValue() throws SerializingMarshallingException
+    {
+        JsonToken token = peek();
+        if ( JsonToken.START_ARRAY == token )
+        {
+            return nextList();
+        }
+        if ( JsonToken.START_OBJECT == token )
+        {
+            return nextMap();
+        }
+        token = next();
+        try
+        {
+            switch ( token )
+            {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return (JsonToken.VALUE_NUMBER_FLOAT == token) ? parser.getDoubleValue() : parser.getNumberValue();
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_TRUE:
+                return true;
+            case VALUE_FALSE:
+                return false;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw error( format( "Unexpected %s", token ), null );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw error( "Error reading value", e );
+        }
+    }
+
+    @Override
+    public List<Object> nextList() throws SerializingMarshallingException
+    {
+        beginArray();
+        List<Object> values = new ArrayList<>();
+        while ( hasNext() )
+        {
+            values.add( nextValue() );
+        }
+        endArray();
+        return values;
+    }
+
+    /**
+     * Reads the next element, a JSON object, into a map that retains the order of its fields
+     */
+    @Override
+    public Map<String,Object> nextMap() throws SerializingMarshallingException
+    {
+        expect( JsonToken.START_OBJECT, next() );
+        Map<String,Object> values = new LinkedHashMap<>();
+        while ( JsonToken.FIELD_NAME == peek() )
+        {
+            next();
+            String fieldName;
+            try
+            {
+                fieldName = parser.getCurrentName();
+            }
+            catch ( IOException e )
+            {
+                throw error( "Error reading field name", e );
+            }
+            values.put( fieldName, nextValue() );
+        }
+        expect( JsonToken.END_OBJECT, next() );
+        return values;
+    }
+
+    private JsonToken peek() throws SerializingMarshallingException
+    {
+        if ( null == peeked )
+        {
+            try
+            {
+                peeked = parser.nextToken();
+            }
+            catch ( IOException e )
+            {
+                throw error( "Error parsing JSON", e );
+            }
+        }
+        return peeked;
+    }
+
+    private JsonToken next() throws SerializingMarshallingException
+    {
+        JsonToken token = peek();
+        peeked = null;
+        return token;
+    }
+
+    private void expect( JsonToken expected, JsonToken actual ) throws SerializingMarshallingException
+    {
+        if ( expected != actual )
+        {
+            throw error( format( "Expected %s but found %s", expected, actual ), null );
+        }
+    }
+
+    private void expectNumber( JsonToken actual ) throws SerializingMarshallingException
+    {
+        if ( JsonToken.VALUE_NUMBER_INT != actual && JsonToken.VALUE_NUMBER_FLOAT != actual )
+        {
+            throw error( format( "Expected number but found %s", actual ), null );
+        }
+    }
+
+    private SerializingMarshallingException error( String message, IOException cause )
+    {
+        return new SerializingMarshallingException(
+                format( "%s at %s\n%s", message, parser.getCurrentLocation(), json ), cause );
+    }
+}
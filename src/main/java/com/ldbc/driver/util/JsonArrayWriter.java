@@ -0,0 +1,301 @@
+package com.ldbc.driver.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldbc.driver.SerializingMarshallingException;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+
+import static java.lang.String.format;
+
+/**
+ * Writes JSON arrays, e.g., serialized operations & operation results, one value at a time, counterpart of
+ * {@link JsonArrayReader}. Output is identical to that of Jackson's ObjectMapper for the same values in lists, without
+ * first copying those values into lists.
+ * <p/>
+ * Instances are cheap, and not thread safe, create one per document.
+ */
+public class JsonArrayWriter
+{
+    // has an ObjectMapper as codec, so values of types not handled here are written as ObjectMapper would
+    private static final JsonFactory JSON_FACTORY = new ObjectMapper().getFactory();
+
+    private final StringWriter stringWriter = new StringWriter();
+    private final JsonGenerator generator;
+
+    public JsonArrayWriter() throws SerializingMarshallingException
+    {
+        try
+        {
+            this.generator = JSON_FACTORY.createGenerator( stringWriter );
+        }
+        catch ( IOException e )
+        {
+            throw new SerializingMarshallingException( "Error creating JSON generator", e );
+        }
+    }
+
+    /**
+     * Writes an iterable of scalars & nested iterables as a JSON array
+     */
+    public static String toJson( Iterable<?> values ) throws SerializingMarshallingException
+    {
+        return new JsonArrayWriter().write( values ).toJson();
+    }
+
+    public JsonArrayWriter beginArray() throws SerializingMarshallingException
+    {
+        try
+        {
+            generator.writeStartArray();
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return this;
+    }
+
+    public JsonArrayWriter endArray() throws SerializingMarshallingException
+    {
+        try
+        {
+            generator.writeEndArray();
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return this;
+    }
+
+    /**
+     * Begins a JSON object, its fields are written as writeFieldName() followed by a value
+     */
+    public JsonArrayWriter beginObject() throws SerializingMarshallingException
+    {
+        try
+        {
+            generator.writeStartObject();
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return this;
+    }
+
+    public JsonArrayWriter endObject() throws SerializingMarshallingException
+    {
+        try
+        {
+            generator.writeEndObject();
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return this;
+    }
+
+    public JsonArrayWriter writeFieldName( String fieldName ) throws SerializingMarshallingException
+    {
+        try
+        {
+            generator.writeFieldName( fieldName );
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return this;
+    }
+
+    public JsonArrayWriter write( long value ) throws SerializingMarshallingException
+    {
+        try
+        {
+            generator.writeNumber( value );
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return this;
+    }
+
+    public JsonArrayWriter write( int value ) throws SerializingMarshallingException
+    {
+        try
+        {
+            generator.writeNumber( value );
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return this;
+    }
+
+    public JsonArrayWriter write( double value ) throws SerializingMarshallingException
+    {
+        try
+        {
+            generator.writeNumber( value );
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return this;
+    }
+
+    public JsonArrayWriter write( float value ) throws SerializingMarshallingException
+    {
+        try
+        {
+            generator.writeNumber( value );
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return this;
+    }
+
+    public JsonArrayWriter write( boolean value ) throws SerializingMarshallingException
+    {
+        try
+        {
+            generator.writeBoolean( value );
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return this;
+    }
+
+    /**
+     * Writes value, or JSON null if value is null
+     */
+    public JsonArrayWriter write( String value ) throws SerializingMarshallingException
+    {
+        try
+        {
+            if ( null == value )
+            {
+                generator.writeNull();
+            }
+            else
+            {
+                generator.writeString( value );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return this;
+    }
+
+    /**
+     * Writes values as a nested JSON array, see writeValue() for supported element types
+     */
+    public JsonArrayWriter write( Iterable<?> values ) throws SerializingMarshallingException
+    {
+        beginArray();
+        for ( Object value : values )
+        {
+            writeValue( value );
+        }
+        return endArray();
+    }
+
+    /**
+     * Writes a value of any type: numbers, strings, booleans, dates (as milliseconds), null & iterables of those are
+     * written directly, anything else as ObjectMapper would write it
+     */
+    public JsonArrayWriter writeValue( Object value ) throws SerializingMarshallingException
+    {
+        try
+        {
+            if ( null == value )
+            {
+                generator.writeNull();
+            }
+            else if ( value instanceof String )
+            {
+                generator.writeString( (String) value );
+            }
+            else if ( value instanceof Long )
+            {
+                generator.writeNumber( (Long) value );
+            }
+            else if ( value instanceof Integer || value instanceof Short || value instanceof Byte )
+            {
+                generator.writeNumber( ((Number) value).intValue() );
+            }
+            else if ( value instanceof Double )
+            {
+                generator.writeNumber( (Double) value );
+            }
+            else if ( value instanceof Float )
+            {
+                generator.writeNumber( (Float) value );
+            }
+            else if ( value instanceof Boolean )
+            {
+                generator.writeBoolean( (Boolean) value );
+            }
+            else if ( value instanceof BigInteger )
+            {
+                generator.writeNumber( (BigInteger) value );
+            }
+            else if ( value instanceof BigDecimal )
+            {
+                generator.writeNumber( (BigDecimal) value );
+            }
+            else if ( value instanceof Date )
+            {
+                generator.writeNumber( ((Date) value).getTime() );
+            }
+            else if ( value instanceof Iterable )
+            {
+                write( (Iterable<?>) value );
+            }
+            else
+            {
+                generator.writeObject( value );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return this;
+    }
+
+    public String toJson() throws SerializingMarshallingException
+    {
+        try
+        {
+            generator.flush();
+        }
+        catch ( IOException e )
+        {
+            throw error( e );
+        }
+        return stringWriter.toString();
+    }
+
+    private SerializingMarshallingException error( IOException cause )
+    {
+        return new SerializingMarshallingException( format( "Error writing JSON\n%s", stringWriter ), cause );
+    }
+}
@@ -0,0 +1,170 @@
+package com.ldbc.driver.util;
+
+import com.ldbc.driver.SerializingMarshallingException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Reads values of an array that is already held as a list of scalars, lists & maps, e.g., as read by
+ * {@link JsonArrayReader#readList(String)} or from a binary operation stream, with the same calls as
+ * {@link JsonArrayReader} reads them from JSON text.
+ * <p/>
+ * Instances are cheap, and not thread safe, create one per list.
+ */
+public class ListArrayReader implements ArrayReader
+{
+    private final List<Object> list;
+    // iterators of the arrays begun but not yet ended, innermost first
+    private final Deque<Iterator<?>> arrays = new ArrayDeque<>();
+    private boolean begun = false;
+
+    public ListArrayReader( List<Object> list )
+    {
+        this.list = list;
+    }
+
+    @Override
+    public void beginArray() throws SerializingMarshallingException
+    {
+        if ( begun )
+        {
+            arrays.push( next( List.class, "list" ).iterator() );
+        }
+        else
+        {
+            begun = true;
+            arrays.push( list.iterator() );
+        }
+    }
+
+    @Override
+    public void endArray() throws SerializingMarshallingException
+    {
+        if ( hasNext() )
+        {
+            throw error( "Expected end of array but found more elements" );
+        }
+        if ( arrays.isEmpty() )
+        {
+            throw error( "Expected end of array but no array was begun" );
+        }
+        arrays.pop();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return false == arrays.isEmpty() && arrays.peek().hasNext();
+    }
+
+    @Override
+    public long nextLong() throws SerializingMarshallingException
+    {
+        return next( Number.class, "number" ).longValue();
+    }
+
+    @Override
+    public int nextInt() throws SerializingMarshallingException
+    {
+        return next( Number.class, "number" ).intValue();
+    }
+
+    @Override
+    public double nextDouble() throws SerializingMarshallingException
+    {
+        return next( Number.class, "number" ).doubleValue();
+    }
+
+    @Override
+    public float nextFloat() throws SerializingMarshallingException
+    {
+        return next( Number.class, "number" ).floatValue();
+    }
+
+    @Override
+    public boolean nextBoolean() throws SerializingMarshallingException
+    {
+        return next( Boolean.class, "boolean" );
+    }
+
+    @Override
+    public String nextString() throws SerializingMarshallingException
+    {
+        Object value = nextValue();
+        if ( null == value || value instanceof String )
+        {
+            return (String) value;
+        }
+        throw error( format( "Expected string but found %s", value ) );
+    }
+
+    @Override
+    public List<String> nextStringList() throws SerializingMarshallingException
+    {
+        beginArray();
+        List<String> strings = new ArrayList<>();
+        while ( hasNext() )
+        {
+            strings.add( nextString() );
+        }
+        endArray();
+        return strings;
+    }
+
+    @Override
+    public List<Long> nextLongList() throws SerializingMarshallingException
+    {
+        beginArray();
+        List<Long> longs = new ArrayList<>();
+        while ( hasNext() )
+        {
+            longs.add( nextLong() );
+        }
+        endArray();
+        return longs;
+    }
+
+    @Override
+    public Object nextValue() throws SerializingMarshallingException
+    {
+        if ( false == hasNext() )
+        {
+            throw error( "Expected value but found end of array" );
+        }
+        return arrays.peek().next();
+    }
+
+    @Override
+    public List<Object> nextList() throws SerializingMarshallingException
+    {
+        return next( List.class, "list" );
+    }
+
+    @Override
+    public Map<String,Object> nextMap() throws SerializingMarshallingException
+    {
+        return next( Map.class, "map" );
+    }
+
+    private <T> T next( Class<? super T> type, String typeName ) throws SerializingMarshallingException
+    {
+        Object value = nextValue();
+        if ( false == type.isInstance( value ) )
+        {
+            throw error( format( "Expected %s but found %s", typeName, value ) );
+        }
+        return (T) value;
+    }
+
+    private SerializingMarshallingException error( String message )
+    {
+        return new SerializingMarshallingException( format( "%s\n%s", message, list ) );
+    }
+}
@@ -12,101 +12,338 @@ import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 
 import java.text.DecimalFormat;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 
 public class DbValidator
 {
+    private static final long PROGRESS_REPORT_INTERVAL_AS_MILLI = 1000;
+    // bounds memory of validation params & results not yet reported, and how far ahead of the slowest one workers run
+    private static final int IN_FLIGHT_VALIDATION_PARAMS_PER_THREAD = 4;
+
     public DbValidationResult validate( Iterator<ValidationParam> validationParameters,
             Db db,
             int validationParamsCount,
             Workload workload ) throws WorkloadException
+    {
+        return validate( validationParameters, db, validationParamsCount, workload, 1 );
+    }
+
+    /**
+     * With a thread count of 1 validation parameters are executed one at a time, on the calling thread. Otherwise they
+     * are executed by that many worker threads, each with its own result reporter, while results are still reported
+     * in validation parameter order. Operations the workload requires ordered validation for, e.g., writes, are
+     * executed alone, after all validation parameters before them are complete.
+     */
+    public DbValidationResult validate( Iterator<ValidationParam> validationParameters,
+            Db db,
+            int validationParamsCount,
+            Workload workload,
+            int threadCount ) throws WorkloadException
     {
         System.out.println( "----" );
-        DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
         DbValidationResult dbValidationResult = new DbValidationResult( db );
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
-        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( errorReporter );
-
-        int validationParamsProcessedSoFar = 0;
-        int validationParamsCrashedSoFar = 0;
-        int validationParamsIncorrectSoFar = 0;
-
-        Operation operation = null;
-        while ( true )
-        {
-            if (null != operation) {
-                System.out.print(format(
-                        "Processed %s / %s -- Crashed %s -- Incorrect %s -- Currently processing %s...\r",
-                        numberFormat.format(validationParamsProcessedSoFar),
-                        numberFormat.format(validationParamsCount),
-                        numberFormat.format(validationParamsCrashedSoFar),
-                        numberFormat.format(validationParamsIncorrectSoFar),
-                        operation.getClass().getSimpleName()
-                ));
-                System.out.flush();
-            }
+        Progress progress = new Progress( validationParamsCount );
 
-            if (!validationParameters.hasNext()) {
-                break;
+        if ( threadCount <= 1 )
+        {
+            ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( errorReporter );
+            while ( validationParameters.hasNext() )
+            {
+                ValidationOutcome outcome = validate( validationParameters.next(), db, workload, resultReporter );
+                outcome.reportTo( dbValidationResult );
+                progress.record( outcome );
             }
+        }
+        else
+        {
+            validateConcurrently( validationParameters, db, workload, threadCount, errorReporter, dbValidationResult,
+                    progress );
+        }
 
-            ValidationParam validationParam = validationParameters.next();
-            operation = validationParam.operation();
-            Object expectedOperationResult = validationParam.operationResult();
+        progress.print();
+        System.out.println( "\n----" );
+        return dbValidationResult;
+    }
 
-            OperationHandlerRunnableContext handlerRunner;
-            try
+    private void validateConcurrently( Iterator<ValidationParam> validationParameters,
+            final Db db,
+            final Workload workload,
+            int threadCount,
+            final ConcurrentErrorReporter errorReporter,
+            DbValidationResult dbValidationResult,
+            Progress progress ) throws WorkloadException
+    {
+        final ThreadLocal<ResultReporter> resultReporters =
+                ThreadLocal.withInitial( () -> new ResultReporter.SimpleResultReporter( errorReporter ) );
+        ExecutorService executor = Executors.newFixedThreadPool( threadCount, new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            private final AtomicInteger count = new AtomicInteger( 0 );
+
+            @Override
+            public Thread newThread( Runnable runnable )
             {
-                handlerRunner = db.getOperationHandlerRunnableContext( operation );
+                return new Thread(
+                        runnable,
+                        DbValidator.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-thread(" + count.getAndIncrement() + ")"
+                );
             }
-            catch ( Throwable e )
+        } );
+        int maxInFlight = threadCount * IN_FLIGHT_VALIDATION_PARAMS_PER_THREAD;
+        // in validation parameter order, so results can be reported in that order
+        Deque<Future<ValidationOutcome>> inFlight = new ArrayDeque<>( maxInFlight );
+        try
+        {
+            while ( validationParameters.hasNext() )
             {
-
-                dbValidationResult.reportMissingHandlerForOperation( operation );
-                continue;
+                final ValidationParam validationParam = validationParameters.next();
+                if ( workload.requiresOrderedValidation( validationParam.operation() ) )
+                {
+                    while ( false == inFlight.isEmpty() )
+                    {
+                        collect( inFlight.poll(), dbValidationResult, progress );
+                    }
+                    ValidationOutcome outcome = validate( validationParam, db, workload, resultReporters.get() );
+                    outcome.reportTo( dbValidationResult );
+                    progress.record( outcome );
+                    continue;
+                }
+                inFlight.add( executor.submit( () -> validate( validationParam, db, workload, resultReporters.get() ) ) );
+                if ( inFlight.size() >= maxInFlight )
+                {
+                    collect( inFlight.poll(), dbValidationResult, progress );
+                }
+                while ( false == inFlight.isEmpty() && inFlight.peek().isDone() )
+                {
+                    collect( inFlight.poll(), dbValidationResult, progress );
+                }
             }
+            while ( false == inFlight.isEmpty() )
+            {
+                collect( inFlight.poll(), dbValidationResult, progress );
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
 
-            try
+    private void collect( Future<ValidationOutcome> futureOutcome,
+            DbValidationResult dbValidationResult,
+            Progress progress ) throws WorkloadException
+    {
+        ValidationOutcome outcome;
+        try
+        {
+            outcome = futureOutcome.get();
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof WorkloadException )
             {
-                OperationHandler handler = handlerRunner.operationHandler();
-                DbConnectionState dbConnectionState = handlerRunner.dbConnectionState();
-                handler.executeOperation( operation, dbConnectionState, resultReporter );
-                if ( null == resultReporter.result() )
-                {
-                    throw new DbException(
-                            format( "Db returned null result for: %s", operation.getClass().getSimpleName() ) );
-                }
+                throw (WorkloadException) e.getCause();
             }
-            catch ( Throwable e )
+            throw new WorkloadException( "Error encountered while validating operation", e.getCause() );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new WorkloadException( "Interrupted while waiting for validation of operation", e );
+        }
+        outcome.reportTo( dbValidationResult );
+        progress.record( outcome );
+    }
+
+    private ValidationOutcome validate( ValidationParam validationParam,
+            Db db,
+            Workload workload,
+            ResultReporter resultReporter ) throws WorkloadException
+    {
+        Operation operation = validationParam.operation();
+        Object expectedOperationResult = validationParam.operationResult();
+
+        OperationHandlerRunnableContext handlerRunner;
+        try
+        {
+            handlerRunner = db.getOperationHandlerRunnableContext( operation );
+        }
+        catch ( Throwable e )
+        {
+            return ValidationOutcome.missingHandler( operation );
+        }
+
+        try
+        {
+            OperationHandler handler = handlerRunner.operationHandler();
+            DbConnectionState dbConnectionState = handlerRunner.acquireDbConnectionState();
+            handler.executeOperation( operation, dbConnectionState, resultReporter );
+            if ( null == resultReporter.result() )
             {
-                // Not necessary, but perhaps useful for debugging
-                e.printStackTrace();
-                validationParamsCrashedSoFar++;
-                dbValidationResult
-                        .reportUnableToExecuteOperation( operation, ConcurrentErrorReporter.stackTraceToString( e ) );
-                continue;
+                throw new DbException(
+                        format( "Db returned null result for: %s", operation.getClass().getSimpleName() ) );
             }
-            finally
+        }
+        catch ( Throwable e )
+        {
+            // Not necessary, but perhaps useful for debugging
+            e.printStackTrace();
+            return ValidationOutcome.unableToExecute( operation, ConcurrentErrorReporter.stackTraceToString( e ) );
+        }
+        finally
+        {
+            handlerRunner.cleanup();
+        }
+
+        Object actualOperationResult = resultReporter.result();
+
+        if ( false == workload.resultsEqual( operation, expectedOperationResult, actualOperationResult ) )
+        {
+            return ValidationOutcome.incorrectResult( operation, expectedOperationResult, actualOperationResult );
+        }
+
+        return ValidationOutcome.successful( operation );
+    }
+
+    private enum ValidationOutcomeType
+    {
+        MISSING_HANDLER,
+        UNABLE_TO_EXECUTE,
+        INCORRECT_RESULT,
+        SUCCESSFUL
+    }
+
+    private static class ValidationOutcome
+    {
+        private final ValidationOutcomeType type;
+        private final Operation operation;
+        private final Object expectedResult;
+        private final Object actualResult;
+        private final String errorMessage;
+
+        private ValidationOutcome( ValidationOutcomeType type,
+                Operation operation,
+                Object expectedResult,
+                Object actualResult,
+                String errorMessage )
+        {
+            this.type = type;
+            this.operation = operation;
+            this.expectedResult = expectedResult;
+            this.actualResult = actualResult;
+            this.errorMessage = errorMessage;
+        }
+
+        static ValidationOutcome missingHandler( Operation operation )
+        {
+            return new ValidationOutcome( ValidationOutcomeType.MISSING_HANDLER, operation, null, null, null );
+        }
+
+        static ValidationOutcome unableToExecute( Operation operation, String errorMessage )
+        {
+            return new ValidationOutcome( ValidationOutcomeType.UNABLE_TO_EXECUTE, operation, null, null,
+                    errorMessage );
+        }
+
+        static ValidationOutcome incorrectResult( Operation operation, Object expectedResult, Object actualResult )
+        {
+            return new ValidationOutcome( ValidationOutcomeType.INCORRECT_RESULT, operation, expectedResult,
+                    actualResult, null );
+        }
+
+        static ValidationOutcome successful( Operation operation )
+        {
+            return new ValidationOutcome( ValidationOutcomeType.SUCCESSFUL, operation, null, null, null );
+        }
+
+        void reportTo( DbValidationResult dbValidationResult )
+        {
+            switch ( type )
             {
-                validationParamsProcessedSoFar++;
-                handlerRunner.cleanup();
+            case MISSING_HANDLER:
+                dbValidationResult.reportMissingHandlerForOperation( operation );
+                break;
+            case UNABLE_TO_EXECUTE:
+                dbValidationResult.reportUnableToExecuteOperation( operation, errorMessage );
+                break;
+            case INCORRECT_RESULT:
+                dbValidationResult.reportIncorrectResultForOperation( operation, expectedResult, actualResult );
+                break;
+            case SUCCESSFUL:
+                dbValidationResult.reportSuccessfulExecution( operation );
+                break;
             }
+        }
+    }
 
-            Object actualOperationResult = resultReporter.result();
+    /**
+     * Prints progress at most once per PROGRESS_REPORT_INTERVAL_AS_MILLI, rather than once per validation parameter
+     */
+    private static class Progress
+    {
+        private final DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
+        private final int validationParamsCount;
+        private int validationParamsProcessedSoFar = 0;
+        private int validationParamsCrashedSoFar = 0;
+        private int validationParamsIncorrectSoFar = 0;
+        private Operation lastOperation = null;
+        private long lastPrintTimeAsMilli = 0;
 
-            if ( false == workload.resultsEqual( operation, expectedOperationResult, actualOperationResult ) )
+        private Progress( int validationParamsCount )
+        {
+            this.validationParamsCount = validationParamsCount;
+        }
+
+        void record( ValidationOutcome outcome )
+        {
+            if ( ValidationOutcomeType.MISSING_HANDLER != outcome.type )
+            {
+                validationParamsProcessedSoFar++;
+            }
+            if ( ValidationOutcomeType.UNABLE_TO_EXECUTE == outcome.type )
+            {
+                validationParamsCrashedSoFar++;
+            }
+            else if ( ValidationOutcomeType.INCORRECT_RESULT == outcome.type )
             {
                 validationParamsIncorrectSoFar++;
-                dbValidationResult
-                        .reportIncorrectResultForOperation( operation, expectedOperationResult, actualOperationResult );
-                continue;
             }
+            lastOperation = outcome.operation;
+            long nowAsMilli = System.currentTimeMillis();
+            if ( nowAsMilli - lastPrintTimeAsMilli >= PROGRESS_REPORT_INTERVAL_AS_MILLI )
+            {
+                lastPrintTimeAsMilli = nowAsMilli;
+                print();
+            }
+        }
 
-            dbValidationResult.reportSuccessfulExecution( operation );
+        void print()
+        {
+            if ( null == lastOperation )
+            {
+                return;
+            }
+            System.out.print( format(
+                    "Processed %s / %s -- Crashed %s -- Incorrect %s -- Currently processing %s...\r",
+                    numberFormat.format( validationParamsProcessedSoFar ),
+                    numberFormat.format( validationParamsCount ),
+                    numberFormat.format( validationParamsCrashedSoFar ),
+                    numberFormat.format( validationParamsIncorrectSoFar ),
+                    lastOperation.getClass().getSimpleName()
+            ) );
+            System.out.flush();
         }
-        System.out.println( "\n----" );
-        return dbValidationResult;
     }
 }
@@ -7,18 +7,21 @@ import java.util.Map;
 
 class ResultsLogValidationSummaryCalculator
 {
-    private final Histogram delays;
+    private Histogram delays;
     private final Map<String,Histogram> delaysPerType;
     private final Map<String,Long> delaysAboveThresholdPerType;
     private final long maxDelayAsMilli;
     private final long excessiveDelayThresholdAsMilli;
     private long delaysAboveThreshold;
 
+    /**
+     * @param maxDelayAsMilli initial highest trackable delay, histograms grow when a higher delay is recorded or merged
+     */
     ResultsLogValidationSummaryCalculator( long maxDelayAsMilli, long excessiveDelayThresholdAsMilli )
     {
         this.maxDelayAsMilli = maxDelayAsMilli;
         this.excessiveDelayThresholdAsMilli = excessiveDelayThresholdAsMilli;
-        this.delays = new Histogram( 1, Math.max( 2, maxDelayAsMilli ), 5 );
+        this.delays = newHistogram( maxDelayAsMilli );
         this.delaysPerType = new HashMap<>();
         this.delaysAboveThresholdPerType = new HashMap<>();
         this.delaysAboveThreshold = 0;
@@ -26,12 +29,18 @@ class ResultsLogValidationSummaryCalculator
 
     void recordDelay( String operationType, long delayAsMilli )
     {
+        delays = covering( delays, delayAsMilli );
         delays.recordValue( delayAsMilli );
 
         Histogram delayForType = delaysPerType.get( operationType );
         if ( null == delayForType )
         {
-            delayForType = new Histogram( 1, Math.max( 2, maxDelayAsMilli ), 5 );
+            delayForType = newHistogram( maxDelayAsMilli );
+            delaysPerType.put( operationType, delayForType );
+        }
+        if ( delayAsMilli > delayForType.getHighestTrackableValue() )
+        {
+            delayForType = covering( delayForType, delayAsMilli );
             delaysPerType.put( operationType, delayForType );
         }
         delayForType.recordValue( delayAsMilli );
@@ -49,6 +58,35 @@ class ResultsLogValidationSummaryCalculator
         }
     }
 
+    /**
+     * Adds all delays recorded by other, e.g., computed over another part of the same results log, to this calculator
+     */
+    void merge( ResultsLogValidationSummaryCalculator other )
+    {
+        // add() requires this histogram to be at least as wide as the other one, regardless of its content
+        delays = covering( delays, other.delays.getHighestTrackableValue() );
+        delays.add( other.delays );
+        for ( Map.Entry<String,Histogram> entry : other.delaysPerType.entrySet() )
+        {
+            Histogram delayForType = delaysPerType.get( entry.getKey() );
+            delayForType = (null == delayForType)
+                           ? newHistogram( entry.getValue().getHighestTrackableValue() )
+                           : covering( delayForType, entry.getValue().getHighestTrackableValue() );
+            delayForType.add( entry.getValue() );
+            delaysPerType.put( entry.getKey(), delayForType );
+        }
+        for ( Map.Entry<String,Long> entry : other.delaysAboveThresholdPerType.entrySet() )
+        {
+            Long delaysAboveThresholdForType = delaysAboveThresholdPerType.get( entry.getKey() );
+            delaysAboveThresholdPerType.put(
+                    entry.getKey(),
+                    (null == delaysAboveThresholdForType) ? entry.getValue()
+                                                          : delaysAboveThresholdForType + entry.getValue()
+            );
+        }
+        delaysAboveThreshold += other.delaysAboveThreshold;
+    }
+
     ResultsLogValidationSummary snapshot()
     {
         Map<String,Long> minDelayAsMilliPerType = new HashMap<>();
@@ -81,4 +119,21 @@ class ResultsLogValidationSummaryCalculator
                 meanDelayAsMilliPerType
         );
     }
+
+    private static Histogram newHistogram( long maxDelayAsMilli )
+    {
+        return new Histogram( 1, Math.max( 2, maxDelayAsMilli ), 5 );
+    }
+
+    // bucket boundaries only depend on lowest trackable value & precision, so counts copy over unchanged when grown
+    private static Histogram covering( Histogram histogram, long delayAsMilli )
+    {
+        if ( delayAsMilli <= histogram.getHighestTrackableValue() )
+        {
+            return histogram;
+        }
+        Histogram grown = newHistogram( Math.max( delayAsMilli, histogram.getHighestTrackableValue() * 2 ) );
+        grown.add( histogram );
+        return grown;
+    }
 }
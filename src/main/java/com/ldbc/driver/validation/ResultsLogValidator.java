@@ -5,6 +5,20 @@ import com.ldbc.driver.temporal.TemporalUtil;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.ldbc.driver.validation.ResultsLogValidationResult.ValidationErrorType;
 import static java.lang.String.format;
@@ -12,6 +26,7 @@ import static java.lang.String.format;
 public class ResultsLogValidator
 {
     private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+    private static final long DEFAULT_CHUNK_SIZE_AS_BYTES = 64 * 1024 * 1024;
 
     public ResultsLogValidationResult validate(
             ResultsLogValidationSummary summary,
@@ -101,19 +116,7 @@ public class ResultsLogValidator
                 long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
                 if ( delayAsMilli < 0 )
                 {
-                    throw new ValidationException(
-                            format( "Delay can not be negative\n" +
-                                    "Delay: %s (ms) / %s\n" +
-                                    "Scheduled Start Time: %s (ms) / %s\n" +
-                                    "Actual Start Time: %s (ms) / %s",
-                                    delayAsMilli,
-                                    TEMPORAL_UTIL.milliDurationToString( delayAsMilli ),
-                                    scheduledStartTimeAsMilli,
-                                    TEMPORAL_UTIL.milliTimeToTimeString( scheduledStartTimeAsMilli ),
-                                    actualStartTimeAsMilli,
-                                    TEMPORAL_UTIL.milliTimeToTimeString( actualStartTimeAsMilli )
-                            )
-                    );
+                    throw negativeDelayException( scheduledStartTimeAsMilli, actualStartTimeAsMilli );
                 }
                 if ( delayAsMilli > maxDelayAsMilli )
                 {
@@ -127,4 +130,308 @@ public class ResultsLogValidator
         }
         return maxDelayAsMilli;
     }
+
+    private static ValidationException negativeDelayException(
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli )
+    {
+        long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
+        return new ValidationException(
+                format( "Delay can not be negative\n" +
+                        "Delay: %s (ms) / %s\n" +
+                        "Scheduled Start Time: %s (ms) / %s\n" +
+                        "Actual Start Time: %s (ms) / %s",
+                        delayAsMilli,
+                        TEMPORAL_UTIL.milliDurationToString( delayAsMilli ),
+                        scheduledStartTimeAsMilli,
+                        TEMPORAL_UTIL.milliTimeToTimeString( scheduledStartTimeAsMilli ),
+                        actualStartTimeAsMilli,
+                        TEMPORAL_UTIL.milliTimeToTimeString( actualStartTimeAsMilli )
+                )
+        );
+    }
+
+    /**
+     * Computes the same summary as compute(), in one pass over the results log, using threadCount threads.
+     * <p/>
+     * The log is split into byte ranges that end at line boundaries, each thread repeatedly takes the next range,
+     * maps it & tokenizes its lines directly from bytes into its own calculator, and finally all calculators are merged.
+     */
+    public ResultsLogValidationSummary computeInParallel(
+            File resultsLog,
+            long excessiveDelayThresholdAsMilli,
+            int threadCount ) throws ValidationException
+    {
+        return computeInParallel( resultsLog, excessiveDelayThresholdAsMilli, threadCount,
+                DEFAULT_CHUNK_SIZE_AS_BYTES );
+    }
+
+    ResultsLogValidationSummary computeInParallel(
+            File resultsLog,
+            final long excessiveDelayThresholdAsMilli,
+            int threadCount,
+            long chunkSizeAsBytes ) throws ValidationException
+    {
+        if ( threadCount < 1 )
+        {
+            throw new ValidationException( format( "Thread count must be at least 1: %s", threadCount ) );
+        }
+        if ( chunkSizeAsBytes < 1 || chunkSizeAsBytes > Integer.MAX_VALUE / 2 )
+        {
+            throw new ValidationException( format( "Invalid chunk size: %s (bytes)", chunkSizeAsBytes ) );
+        }
+        try ( final FileChannel channel = FileChannel.open( resultsLog.toPath(), StandardOpenOption.READ ) )
+        {
+            // skip headers
+            final List<long[]> chunks = chunks( channel, lineEnd( channel, 0 ), chunkSizeAsBytes );
+            final AtomicInteger nextChunk = new AtomicInteger( 0 );
+            List<Callable<ResultsLogValidationSummaryCalculator>> workers = new ArrayList<>();
+            for ( int i = 0; i < Math.min( threadCount, chunks.size() ); i++ )
+            {
+                workers.add( () ->
+                {
+                    ResultsLogValidationSummaryCalculator calculator =
+                            new ResultsLogValidationSummaryCalculator( 0, excessiveDelayThresholdAsMilli );
+                    for ( int chunk = nextChunk.getAndIncrement(); chunk < chunks.size();
+                          chunk = nextChunk.getAndIncrement() )
+                    {
+                        long[] range = chunks.get( chunk );
+                        MappedByteBuffer buffer =
+                                channel.map( FileChannel.MapMode.READ_ONLY, range[0], range[1] - range[0] );
+                        new ChunkTokenizer( buffer, range[0] ).recordDelays( calculator );
+                    }
+                    return calculator;
+                } );
+            }
+            ResultsLogValidationSummaryCalculator calculator =
+                    new ResultsLogValidationSummaryCalculator( 0, excessiveDelayThresholdAsMilli );
+            ForkJoinPool forkJoinPool = new ForkJoinPool( threadCount );
+            try
+            {
+                for ( Future<ResultsLogValidationSummaryCalculator> worker : forkJoinPool.invokeAll( workers ) )
+                {
+                    calculator.merge( worker.get() );
+                }
+            }
+            catch ( ExecutionException e )
+            {
+                if ( e.getCause() instanceof ValidationException )
+                {
+                    throw (ValidationException) e.getCause();
+                }
+                throw new ValidationException(
+                        format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e.getCause() );
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw new ValidationException(
+                        format( "Interrupted while reading results log: %s", resultsLog.getAbsolutePath() ), e );
+            }
+            finally
+            {
+                forkJoinPool.shutdownNow();
+            }
+            return calculator.snapshot();
+        }
+        catch ( NoSuchFileException e )
+        {
+            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+        }
+        catch ( IOException e )
+        {
+            throw new ValidationException( format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e );
+        }
+    }
+
+    // [start, end) byte ranges of roughly chunkSizeAsBytes, each extended to the end of the line it finishes in
+    private static List<long[]> chunks( FileChannel channel, long start, long chunkSizeAsBytes ) throws IOException
+    {
+        List<long[]> chunks = new ArrayList<>();
+        long size = channel.size();
+        while ( start < size )
+        {
+            long end = lineEnd( channel, Math.min( size, start + chunkSizeAsBytes ) - 1 );
+            chunks.add( new long[]{start, end} );
+            start = end;
+        }
+        return chunks;
+    }
+
+    // position after the first line separator at or after position, or channel size if there is none
+    private static long lineEnd( FileChannel channel, long position ) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate( 8 * 1024 );
+        long size = channel.size();
+        while ( position < size )
+        {
+            buffer.clear();
+            int read = channel.read( buffer, position );
+            if ( read <= 0 )
+            {
+                break;
+            }
+            for ( int i = 0; i < read; i++ )
+            {
+                if ( '\n' == buffer.get( i ) )
+                {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Reads operation type, scheduled start time & actual start time from every line of a chunk of the results log,
+     * without decoding the chunk into strings, apart from operation types, which are decoded once per chunk.
+     */
+    private static class ChunkTokenizer
+    {
+        private final ByteBuffer buffer;
+        private final long offset;
+        private final List<byte[]> operationTypeBytes = new ArrayList<>();
+        private final List<String> operationTypes = new ArrayList<>();
+        private int position = 0;
+
+        private ChunkTokenizer( ByteBuffer buffer, long offset )
+        {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        void recordDelays( ResultsLogValidationSummaryCalculator calculator ) throws ValidationException
+        {
+            int limit = buffer.limit();
+            while ( position < limit )
+            {
+                byte first = buffer.get( position );
+                if ( '\n' == first || '\r' == first )
+                {
+                    // blank line
+                    position++;
+                    continue;
+                }
+                int lineStart = position;
+                String operationType = operationType( lineStart );
+                long scheduledStartTimeAsMilli = nextLong( lineStart );
+                long actualStartTimeAsMilli = nextLong( lineStart );
+                // duration
+                // result code
+                long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
+                if ( delayAsMilli < 0 )
+                {
+                    throw negativeDelayException( scheduledStartTimeAsMilli, actualStartTimeAsMilli );
+                }
+                calculator.recordDelay( operationType, delayAsMilli );
+                while ( position < limit && '\n' != buffer.get( position ) )
+                {
+                    position++;
+                }
+                position++;
+            }
+        }
+
+        private String operationType( int lineStart ) throws ValidationException
+        {
+            int start = position;
+            int end = endOfColumn( lineStart );
+            int length = end - start;
+            for ( int i = 0; i < operationTypeBytes.size(); i++ )
+            {
+                if ( matches( operationTypeBytes.get( i ), start, length ) )
+                {
+                    return operationTypes.get( i );
+                }
+            }
+            byte[] bytes = new byte[length];
+            for ( int i = 0; i < length; i++ )
+            {
+                bytes[i] = buffer.get( start + i );
+            }
+            String operationType = new String( bytes, StandardCharsets.UTF_8 );
+            operationTypeBytes.add( bytes );
+            operationTypes.add( operationType );
+            return operationType;
+        }
+
+        private boolean matches( byte[] bytes, int start, int length )
+        {
+            if ( bytes.length != length )
+            {
+                return false;
+            }
+            for ( int i = 0; i < length; i++ )
+            {
+                if ( bytes[i] != buffer.get( start + i ) )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long nextLong( int lineStart ) throws ValidationException
+        {
+            int start = position;
+            int end = endOfColumn( lineStart );
+            boolean negative = end > start && '-' == buffer.get( start );
+            int i = (negative) ? start + 1 : start;
+            if ( i == end )
+            {
+                throw malformedLineException( lineStart );
+            }
+            long value = 0;
+            for ( ; i < end; i++ )
+            {
+                int digit = buffer.get( i ) - '0';
+                if ( digit < 0 || digit > 9 )
+                {
+                    throw malformedLineException( lineStart );
+                }
+                value = value * 10 + digit;
+            }
+            return (negative) ? -value : value;
+        }
+
+        // moves position past the next column separator and returns the position of that separator
+        private int endOfColumn( int lineStart ) throws ValidationException
+        {
+            int limit = buffer.limit();
+            while ( position < limit )
+            {
+                byte b = buffer.get( position );
+                if ( '|' == b )
+                {
+                    return position++;
+                }
+                if ( '\n' == b )
+                {
+                    break;
+                }
+                position++;
+            }
+            throw malformedLineException( lineStart );
+        }
+
+        private ValidationException malformedLineException( int lineStart )
+        {
+            int lineEnd = lineStart;
+            while ( lineEnd < buffer.limit() && '\n' != buffer.get( lineEnd ) )
+            {
+                lineEnd++;
+            }
+            byte[] line = new byte[lineEnd - lineStart];
+            for ( int i = 0; i < line.length; i++ )
+            {
+                line[i] = buffer.get( lineStart + i );
+            }
+            return new ValidationException(
+                    format( "Malformed results log line at byte %s: %s",
+                            offset + lineStart,
+                            new String( line, StandardCharsets.UTF_8 ) )
+            );
+        }
+    }
 }
@@ -84,7 +84,7 @@ public class ValidationParamsGenerator extends Generator<ValidationParam>
             try
             {
                 OperationHandler operationHandler = operationHandlerRunner.operationHandler();
-                DbConnectionState dbConnectionState = operationHandlerRunner.dbConnectionState();
+                DbConnectionState dbConnectionState = operationHandlerRunner.acquireDbConnectionState();
                 operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
             }
             catch ( DbException e )
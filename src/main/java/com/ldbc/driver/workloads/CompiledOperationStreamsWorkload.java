@@ -0,0 +1,269 @@
+package com.ldbc.driver.workloads;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.generator.BinaryOperationStreamReader;
+import com.ldbc.driver.generator.BinaryOperationStreamWriter;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.util.Tuple3;
+import com.ldbc.driver.validation.ResultsLogValidationTolerances;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Workload that streams operations from a compiled (binary) operation streams file, rather than generating them.
+ * <p/>
+ * All other behavior, including stream definitions (dependency types, child operation generators), is that of the
+ * workload the file was compiled from. Streams are stored in the order returned by streamsInFileOrder().
+ */
+public class CompiledOperationStreamsWorkload extends Workload
+{
+    private final Workload workload;
+    private final DriverConfiguration configuration;
+    private final File operationStreamsFile;
+    private BinaryOperationStreamReader reader = null;
+
+    public CompiledOperationStreamsWorkload( Workload workload, DriverConfiguration configuration,
+            File operationStreamsFile )
+    {
+        this.workload = workload;
+        this.configuration = configuration;
+        this.operationStreamsFile = operationStreamsFile;
+    }
+
+    /**
+     * Order in which streams are stored in compiled file: asynchronous dependency, asynchronous non-dependency, then
+     * dependency & non-dependency of each blocking stream
+     */
+    public static List<Iterator<Operation>> streamsInFileOrder( WorkloadStreams workloadStreams )
+    {
+        List<Iterator<Operation>> streams = new ArrayList<>();
+        streams.add( workloadStreams.asynchronousStream().dependencyOperations() );
+        streams.add( workloadStreams.asynchronousStream().nonDependencyOperations() );
+        for ( WorkloadStreamDefinition stream : workloadStreams.blockingStreamDefinitions() )
+        {
+            streams.add( stream.dependencyOperations() );
+            streams.add( stream.nonDependencyOperations() );
+        }
+        return streams;
+    }
+
+    private static List<ChildOperationGenerator> childOperationGeneratorsInFileOrder( WorkloadStreams workloadStreams )
+    {
+        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
+        childOperationGenerators.add( workloadStreams.asynchronousStream().childOperationGenerator() );
+        childOperationGenerators.add( workloadStreams.asynchronousStream().childOperationGenerator() );
+        for ( WorkloadStreamDefinition stream : workloadStreams.blockingStreamDefinitions() )
+        {
+            childOperationGenerators.add( stream.childOperationGenerator() );
+            childOperationGenerators.add( stream.childOperationGenerator() );
+        }
+        return childOperationGenerators;
+    }
+
+    /**
+     * Compiles as many operations of each stream as any of the phases (skip, warmup & measurement) of a run with the
+     * given configuration will retrieve from it. These depend on the interleaving of all streams (including generated
+     * child operations), so they are calculated by the same scan the driver performs before each phase.
+     *
+     * @return number of operations written, per stream
+     */
+    public static long[] compile( WorkloadFactory workloadFactory,
+            DriverConfiguration configuration,
+            GeneratorFactory gf,
+            File operationStreamsFile,
+            LoggingServiceFactory loggingServiceFactory ) throws WorkloadException
+    {
+        long skipCount = configuration.skipCount();
+        long warmupCount = configuration.warmupCount();
+        long operationCount = configuration.operationCount();
+        long[][] offsetsAndLimits = new long[][]{
+                {0, operationCount},
+                {skipCount, warmupCount},
+                {skipCount + warmupCount, operationCount}
+        };
+        long[] operationCountsToCompile = null;
+        for ( long[] offsetAndLimit : offsetsAndLimits )
+        {
+            try ( Workload workload = workloadFactory.createWorkload() )
+            {
+                workload.init( configuration );
+                WorkloadStreams workloadStreams = workload.streams( gf, false );
+                Tuple3<long[],long[],Long> startsAndLimits = WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                        streamsInFileOrder( workloadStreams ),
+                        offsetAndLimit[0],
+                        offsetAndLimit[1],
+                        childOperationGeneratorsInFileOrder( workloadStreams ),
+                        loggingServiceFactory
+                );
+                if ( null == operationCountsToCompile )
+                {
+                    operationCountsToCompile = new long[startsAndLimits._1().length];
+                }
+                for ( int i = 0; i < operationCountsToCompile.length; i++ )
+                {
+                    operationCountsToCompile[i] = Math.max(
+                            operationCountsToCompile[i],
+                            startsAndLimits._1()[i] + startsAndLimits._2()[i]
+                    );
+                }
+            }
+            catch ( IOException e )
+            {
+                throw new WorkloadException( "Error while closing workload", e );
+            }
+        }
+
+        try ( Workload workload = workloadFactory.createWorkload();
+              BinaryOperationStreamWriter writer = new BinaryOperationStreamWriter( operationStreamsFile, workload ) )
+        {
+            workload.init( configuration );
+            List<Iterator<Operation>> streams = streamsInFileOrder( workload.streams( gf, false ) );
+            long[] operationCounts = new long[streams.size()];
+            for ( int i = 0; i < streams.size(); i++ )
+            {
+                operationCounts[i] = writer.writeStream( gf.limit( streams.get( i ), operationCountsToCompile[i] ) );
+            }
+            return operationCounts;
+        }
+        catch ( IOException | SerializingMarshallingException e )
+        {
+            throw new WorkloadException(
+                    format( "Error compiling operation streams to: %s", operationStreamsFile.getAbsolutePath() ), e );
+        }
+    }
+
+    @Override
+    public Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
+    {
+        return workload.operationTypeToClassMapping();
+    }
+
+    @Override
+    public ResultsLogValidationTolerances resultsLogValidationTolerances( DriverConfiguration configuration,
+            boolean warmup )
+    {
+        return workload.resultsLogValidationTolerances( configuration, warmup );
+    }
+
+    @Override
+    public void onInit( Map<String,String> params ) throws WorkloadException
+    {
+        workload.init( configuration );
+        try
+        {
+            reader = new BinaryOperationStreamReader( operationStreamsFile, workload );
+        }
+        catch ( IOException e )
+        {
+            throw new WorkloadException(
+                    format( "Error opening compiled operation streams file: %s",
+                            operationStreamsFile.getAbsolutePath() ), e );
+        }
+    }
+
+    @Override
+    protected void onClose() throws IOException
+    {
+        try
+        {
+            if ( null != reader )
+            {
+                reader.close();
+            }
+        }
+        finally
+        {
+            workload.close();
+        }
+    }
+
+    @Override
+    protected WorkloadStreams getStreams( GeneratorFactory generators, boolean hasDbConnected )
+            throws WorkloadException
+    {
+        WorkloadStreams workloadStreams = workload.streams( generators, hasDbConnected );
+        List<WorkloadStreamDefinition> blockingStreams = workloadStreams.blockingStreamDefinitions();
+        int expectedStreamCount = 2 + 2 * blockingStreams.size();
+        if ( reader.streamCount() != expectedStreamCount )
+        {
+            throw new WorkloadException(
+                    format( "Compiled operation streams file does not match workload\n" +
+                            "Workload: %s\nExpected stream count: %s\nFile stream count: %s\nFile: %s",
+                            workload.getClass().getName(),
+                            expectedStreamCount,
+                            reader.streamCount(),
+                            operationStreamsFile.getAbsolutePath() ) );
+        }
+
+        WorkloadStreams compiledWorkloadStreams = new WorkloadStreams();
+        compiledWorkloadStreams.setAsynchronousStream(
+                workloadStreams.asynchronousStream().dependentOperationTypes(),
+                workloadStreams.asynchronousStream().dependencyOperationTypes(),
+                reader.operations( 0 ),
+                reader.operations( 1 ),
+                workloadStreams.asynchronousStream().childOperationGenerator()
+        );
+        for ( int i = 0; i < blockingStreams.size(); i++ )
+        {
+            compiledWorkloadStreams.addBlockingStream(
+                    blockingStreams.get( i ).dependentOperationTypes(),
+                    blockingStreams.get( i ).dependencyOperationTypes(),
+                    reader.operations( i * 2 + 2 ),
+                    reader.operations( i * 2 + 3 ),
+                    blockingStreams.get( i ).childOperationGenerator()
+            );
+        }
+        return compiledWorkloadStreams;
+    }
+
+    @Override
+    public DbValidationParametersFilter dbValidationParametersFilter( Integer requiredValidationParameterCount )
+    {
+        return workload.dbValidationParametersFilter( requiredValidationParameterCount );
+    }
+
+    @Override
+    public long maxExpectedInterleaveAsMilli()
+    {
+        return workload.maxExpectedInterleaveAsMilli();
+    }
+
+    @Override
+    public String serializeOperation( Operation operation ) throws SerializingMarshallingException
+    {
+        return workload.serializeOperation( operation );
+    }
+
+    @Override
+    public Operation marshalOperation( String serializedOperation ) throws SerializingMarshallingException
+    {
+        return workload.marshalOperation( serializedOperation );
+    }
+
+    @Override
+    public Operation marshalOperation( List<Object> operationAsList ) throws SerializingMarshallingException
+    {
+        return workload.marshalOperation( operationAsList );
+    }
+
+    @Override
+    public boolean resultsEqual( Operation operation, Object result1, Object result2 ) throws WorkloadException
+    {
+        return workload.resultsEqual( operation, result1, result2 );
+    }
+}
@@ -0,0 +1,32 @@
+package com.ldbc.driver.workloads;
+
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.DriverConfiguration;
+
+import java.io.File;
+
+public class CompiledOperationStreamsWorkloadFactory implements WorkloadFactory
+{
+    private final WorkloadFactory workloadFactory;
+    private final DriverConfiguration configuration;
+    private final File operationStreamsFile;
+
+    public CompiledOperationStreamsWorkloadFactory( WorkloadFactory workloadFactory,
+            DriverConfiguration configuration,
+            File operationStreamsFile )
+    {
+        this.workloadFactory = workloadFactory;
+        this.configuration = configuration;
+        this.operationStreamsFile = operationStreamsFile;
+    }
+
+    public Workload createWorkload() throws WorkloadException
+    {
+        return new CompiledOperationStreamsWorkload(
+                workloadFactory.createWorkload(),
+                configuration,
+                operationStreamsFile
+        );
+    }
+}
@@ -0,0 +1,146 @@
+package com.ldbc.driver.workloads;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.util.ArrayReader;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
+import com.ldbc.driver.util.ListArrayReader;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Serializes & marshals the operations of a workload, with one codec per operation type, registered against
+ * Operation.type(). An operation is serialized as a JSON array of its class name followed by its fields, which codecs
+ * write & read one at a time, without going through lists of boxed values.
+ * <p/>
+ * Serializing looks the codec up by operation type, marshalling by the class name that leads the array, with a single
+ * hash lookup. The same codecs marshal operations from JSON text and from the list form of that text, e.g., as read
+ * from binary operation streams.
+ * <p/>
+ * Register all codecs before first use, after that instances are thread safe.
+ */
+public class OperationCodecs
+{
+    public interface FieldsWriter<OPERATION extends Operation>
+    {
+        /**
+         * Write the fields of operation, in the order FieldsReader reads them
+         */
+        void write( OPERATION operation, JsonArrayWriter writer ) throws SerializingMarshallingException;
+    }
+
+    public interface FieldsReader<OPERATION extends Operation>
+    {
+        /**
+         * Read the fields of an operation, in the order FieldsWriter writes them, and create the operation
+         */
+        OPERATION read( ArrayReader reader ) throws SerializingMarshallingException;
+    }
+
+    private static class OperationCodec
+    {
+        private final String className;
+        private final FieldsWriter<Operation> fieldsWriter;
+        private final FieldsReader<?> fieldsReader;
+
+        private OperationCodec( String className, FieldsWriter<Operation> fieldsWriter, FieldsReader<?> fieldsReader )
+        {
+            this.className = className;
+            this.fieldsWriter = fieldsWriter;
+            this.fieldsReader = fieldsReader;
+        }
+    }
+
+    private final Class<? extends Workload> workloadClass;
+    private OperationCodec[] codecsByType = new OperationCodec[0];
+    private final Map<String,OperationCodec> codecsByClassName = new HashMap<>();
+
+    public OperationCodecs( Class<? extends Workload> workloadClass )
+    {
+        this.workloadClass = workloadClass;
+    }
+
+    public <OPERATION extends Operation> OperationCodecs register(
+            int operationType,
+            Class<OPERATION> operationClass,
+            FieldsWriter<OPERATION> fieldsWriter,
+            FieldsReader<OPERATION> fieldsReader )
+    {
+        if ( operationType >= codecsByType.length )
+        {
+            codecsByType = Arrays.copyOf( codecsByType, operationType + 1 );
+        }
+        if ( null != codecsByType[operationType] )
+        {
+            throw new IllegalStateException( format( "Operation type %s already registered", operationType ) );
+        }
+        OperationCodec codec = new OperationCodec(
+                operationClass.getName(),
+                (FieldsWriter<Operation>) fieldsWriter,
+                fieldsReader );
+        codecsByType[operationType] = codec;
+        codecsByClassName.put( codec.className, codec );
+        return this;
+    }
+
+    public String serializeOperation( Operation operation ) throws SerializingMarshallingException
+    {
+        int operationType = operation.type();
+        OperationCodec codec = (operationType >= 0 && operationType < codecsByType.length)
+                               ? codecsByType[operationType]
+                               : null;
+        if ( null == codec )
+        {
+            throw new SerializingMarshallingException(
+                    format(
+                            "Workload does not know how to serialize operation\nWorkload: %s\nOperation Type: " +
+                            "%s\nOperation: %s",
+                            workloadClass.getName(),
+                            operationType,
+                            operation ) );
+        }
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
+        writer.write( codec.className );
+        codec.fieldsWriter.write( operation, writer );
+        return writer.endArray().toJson();
+    }
+
+    public Operation marshalOperation( String serializedOperation ) throws SerializingMarshallingException
+    {
+        return marshalOperation( new JsonArrayReader( serializedOperation ), serializedOperation );
+    }
+
+    public Operation marshalOperation( List<Object> operationAsList ) throws SerializingMarshallingException
+    {
+        return marshalOperation( new ListArrayReader( operationAsList ), operationAsList );
+    }
+
+    private Operation marshalOperation( ArrayReader reader, Object serializedOperation )
+            throws SerializingMarshallingException
+    {
+        reader.beginArray();
+        String operationClassName = reader.nextString();
+        OperationCodec codec = codecsByClassName.get( operationClassName );
+        if ( null == codec )
+        {
+            throw new SerializingMarshallingException(
+                    format(
+                            "Workload does not know how to marshal operation\nWorkload: %s\nAssumed Operation Type: " +
+                            "%s\nSerialized Operation: %s",
+                            workloadClass.getName(),
+                            operationClassName,
+                            serializedOperation ) );
+        }
+        Operation operation = codec.fieldsReader.read( reader );
+        reader.endArray();
+        return operation;
+    }
+}
@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -91,14 +93,16 @@ public class LdbcSnbBiQuery10TagPerson extends Operation<List<LdbcSnbBiQuery10Ta
     public List<LdbcSnbBiQuery10TagPersonResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery10TagPersonResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            int score = ((Number) row.get( 1 )).intValue();
-            int friendsScore = ((Number) row.get( 2 )).intValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            int score = reader.nextInt();
+            int friendsScore = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery10TagPersonResult(
                             personId,
@@ -107,6 +111,7 @@ public class LdbcSnbBiQuery10TagPerson extends Operation<List<LdbcSnbBiQuery10Ta
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -114,17 +119,18 @@ public class LdbcSnbBiQuery10TagPerson extends Operation<List<LdbcSnbBiQuery10Ta
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcSnbBiQuery10TagPersonResult> result = (List<LdbcSnbBiQuery10TagPersonResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery10TagPersonResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.score() );
-            resultFields.add( row.friendsScore() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.personId() );
+            writer.write( row.score() );
+            writer.write( row.friendsScore() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
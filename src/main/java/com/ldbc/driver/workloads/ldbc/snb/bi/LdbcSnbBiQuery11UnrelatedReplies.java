@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -92,15 +94,17 @@ public class LdbcSnbBiQuery11UnrelatedReplies extends Operation<List<LdbcSnbBiQu
     public List<LdbcSnbBiQuery11UnrelatedRepliesResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery11UnrelatedRepliesResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            String tagName = (String) row.get( 1 );
-            int likeCount = ((Number) row.get( 2 )).intValue();
-            int replyCount = ((Number) row.get( 3 )).intValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            String tagName = reader.nextString();
+            int likeCount = reader.nextInt();
+            int replyCount = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery11UnrelatedRepliesResult(
                             personId,
@@ -110,6 +114,7 @@ public class LdbcSnbBiQuery11UnrelatedReplies extends Operation<List<LdbcSnbBiQu
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -118,18 +123,19 @@ public class LdbcSnbBiQuery11UnrelatedReplies extends Operation<List<LdbcSnbBiQu
     {
         List<LdbcSnbBiQuery11UnrelatedRepliesResult> result =
                 (List<LdbcSnbBiQuery11UnrelatedRepliesResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery11UnrelatedRepliesResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.tag() );
-            resultFields.add( row.likeCount() );
-            resultFields.add( row.replyCount() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.personId() );
+            writer.write( row.tag() );
+            writer.write( row.likeCount() );
+            writer.write( row.replyCount() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -91,16 +93,18 @@ public class LdbcSnbBiQuery12TrendingPosts extends Operation<List<LdbcSnbBiQuery
     public List<LdbcSnbBiQuery12TrendingPostsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery12TrendingPostsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long messageId = ((Number) row.get( 0 )).longValue();
-            long messageCreationDate = ((Number) row.get( 1 )).longValue();
-            String creatorFirstName = (String) row.get( 2 );
-            String creatorLastName = (String) row.get( 3 );
-            int likeCount = ((Number) row.get( 4 )).intValue();
+            reader.beginArray();
+            long messageId = reader.nextLong();
+            long messageCreationDate = reader.nextLong();
+            String creatorFirstName = reader.nextString();
+            String creatorLastName = reader.nextString();
+            int likeCount = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery12TrendingPostsResult(
                             messageId,
@@ -111,6 +115,7 @@ public class LdbcSnbBiQuery12TrendingPosts extends Operation<List<LdbcSnbBiQuery
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -118,19 +123,20 @@ public class LdbcSnbBiQuery12TrendingPosts extends Operation<List<LdbcSnbBiQuery
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcSnbBiQuery12TrendingPostsResult> result = (List<LdbcSnbBiQuery12TrendingPostsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery12TrendingPostsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.messageId() );
-            resultFields.add( row.messageCreationDate() );
-            resultFields.add( row.creatorFirstName() );
-            resultFields.add( row.creatorLastName() );
-            resultFields.add( row.likeCount() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.messageId() );
+            writer.write( row.messageCreationDate() );
+            writer.write( row.creatorFirstName() );
+            writer.write( row.creatorLastName() );
+            writer.write( row.likeCount() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -1,9 +1,10 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -80,23 +81,29 @@ public class LdbcSnbBiQuery13PopularMonthlyTags extends Operation<List<LdbcSnbBi
     public List<LdbcSnbBiQuery13PopularMonthlyTagsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery13PopularMonthlyTagsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            int year = ((Number) row.get( 0 )).intValue();
-            int month = ((Number) row.get( 1 )).intValue();
+            reader.beginArray();
+            int year = reader.nextInt();
+            int month = reader.nextInt();
             List<LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity> popularTags = new ArrayList<>();
-            for ( List tagPopularity : (List<List>) row.get( 2 ) )
+            reader.beginArray();
+            while ( reader.hasNext() )
             {
+                reader.beginArray();
                 popularTags.add(
                         new LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity(
-                                (String) tagPopularity.get( 0 ),
-                                (Integer) tagPopularity.get( 1 )
+                                reader.nextString(),
+                                reader.nextInt()
                         )
                 );
+                reader.endArray();
             }
+            reader.endArray();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery13PopularMonthlyTagsResult(
                             year,
@@ -105,6 +112,7 @@ public class LdbcSnbBiQuery13PopularMonthlyTags extends Operation<List<LdbcSnbBi
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -113,22 +121,26 @@ public class LdbcSnbBiQuery13PopularMonthlyTags extends Operation<List<LdbcSnbBi
     {
         List<LdbcSnbBiQuery13PopularMonthlyTagsResult> result =
                 (List<LdbcSnbBiQuery13PopularMonthlyTagsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery13PopularMonthlyTagsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.year() );
-            resultFields.add( row.month() );
-            List<List> tagPopularitiesAsLists = new ArrayList<>();
+            writer.beginArray();
+            writer.write( row.year() );
+            writer.write( row.month() );
+            writer.beginArray();
             for ( LdbcSnbBiQuery13PopularMonthlyTagsResult.TagPopularity tagPopularity : row.popularTags() )
             {
-                tagPopularitiesAsLists.add( Lists.newArrayList( tagPopularity.tagName(), tagPopularity.popularity() ) );
+                writer.beginArray();
+                writer.write( tagPopularity.tagName() );
+                writer.write( tagPopularity.popularity() );
+                writer.endArray();
             }
-            resultFields.add( tagPopularitiesAsLists );
-            resultsFields.add( resultFields );
+            writer.endArray();
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
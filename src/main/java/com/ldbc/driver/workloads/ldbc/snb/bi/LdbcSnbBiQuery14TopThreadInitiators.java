@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -92,16 +94,18 @@ public class LdbcSnbBiQuery14TopThreadInitiators extends Operation<List<LdbcSnbB
     public List<LdbcSnbBiQuery14TopThreadInitiatorsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery14TopThreadInitiatorsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            String personFirstName = (String) row.get( 1 );
-            String personLastName = (String) row.get( 2 );
-            int threadCount = ((Number) row.get( 3 )).intValue();
-            int messageCount = ((Number) row.get( 4 )).intValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            String personFirstName = reader.nextString();
+            String personLastName = reader.nextString();
+            int threadCount = reader.nextInt();
+            int messageCount = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery14TopThreadInitiatorsResult(
                             personId,
@@ -112,6 +116,7 @@ public class LdbcSnbBiQuery14TopThreadInitiators extends Operation<List<LdbcSnbB
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -120,19 +125,20 @@ public class LdbcSnbBiQuery14TopThreadInitiators extends Operation<List<LdbcSnbB
     {
         List<LdbcSnbBiQuery14TopThreadInitiatorsResult> result =
                 (List<LdbcSnbBiQuery14TopThreadInitiatorsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery14TopThreadInitiatorsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.personFirstName() );
-            resultFields.add( row.personLastName() );
-            resultFields.add( row.threadCount() );
-            resultFields.add( row.messageCount() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.personId() );
+            writer.write( row.personFirstName() );
+            writer.write( row.personLastName() );
+            writer.write( row.threadCount() );
+            writer.write( row.messageCount() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
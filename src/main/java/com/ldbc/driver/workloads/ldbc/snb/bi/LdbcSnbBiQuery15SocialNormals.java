@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -79,13 +81,15 @@ public class LdbcSnbBiQuery15SocialNormals extends Operation<List<LdbcSnbBiQuery
     public List<LdbcSnbBiQuery15SocialNormalsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery15SocialNormalsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            int count = ((Number) row.get( 1 )).intValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            int count = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery15SocialNormalsResult(
                             personId,
@@ -93,6 +97,7 @@ public class LdbcSnbBiQuery15SocialNormals extends Operation<List<LdbcSnbBiQuery
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -100,16 +105,17 @@ public class LdbcSnbBiQuery15SocialNormals extends Operation<List<LdbcSnbBiQuery
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcSnbBiQuery15SocialNormalsResult> result = (List<LdbcSnbBiQuery15SocialNormalsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery15SocialNormalsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.count() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.personId() );
+            writer.write( row.count() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
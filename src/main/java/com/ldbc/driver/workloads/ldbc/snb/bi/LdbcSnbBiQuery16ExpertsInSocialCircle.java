@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -121,14 +123,16 @@ public class LdbcSnbBiQuery16ExpertsInSocialCircle extends Operation<List<LdbcSn
     public List<LdbcSnbBiQuery16ExpertsInSocialCircleResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery16ExpertsInSocialCircleResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            String tagName = (String) row.get( 1 );
-            int messageCount = ((Number) row.get( 2 )).intValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            String tagName = reader.nextString();
+            int messageCount = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery16ExpertsInSocialCircleResult(
                             personId,
@@ -137,6 +141,7 @@ public class LdbcSnbBiQuery16ExpertsInSocialCircle extends Operation<List<LdbcSn
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -145,17 +150,18 @@ public class LdbcSnbBiQuery16ExpertsInSocialCircle extends Operation<List<LdbcSn
     {
         List<LdbcSnbBiQuery16ExpertsInSocialCircleResult> result =
                 (List<LdbcSnbBiQuery16ExpertsInSocialCircleResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery16ExpertsInSocialCircleResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.tag() );
-            resultFields.add( row.count() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.personId() );
+            writer.write( row.tag() );
+            writer.write( row.count() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -3,9 +3,9 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 public class LdbcSnbBiQuery17FriendshipTriangles extends Operation<LdbcSnbBiQuery17FriendshipTrianglesResult>
@@ -64,9 +64,12 @@ public class LdbcSnbBiQuery17FriendshipTriangles extends Operation<LdbcSnbBiQuer
     public LdbcSnbBiQuery17FriendshipTrianglesResult marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
-        List<Object> row = resultsAsList.get( 0 );
-        int count = ((Number) row.get( 0 )).intValue();
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
+        reader.beginArray();
+        reader.beginArray();
+        int count = reader.nextInt();
+        reader.endArray();
+        reader.endArray();
         return new LdbcSnbBiQuery17FriendshipTrianglesResult( count );
     }
 
@@ -74,11 +77,12 @@ public class LdbcSnbBiQuery17FriendshipTriangles extends Operation<LdbcSnbBiQuer
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         LdbcSnbBiQuery17FriendshipTrianglesResult result = (LdbcSnbBiQuery17FriendshipTrianglesResult) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
-        List<Object> resultFields = new ArrayList<>();
-        resultFields.add( result.count() );
-        resultsFields.add( resultFields );
-        return SerializationUtil.toJson( resultsFields );
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
+        writer.beginArray();
+        writer.write( result.count() );
+        writer.endArray();
+        return writer.endArray().toJson();
     }
 
     @Override
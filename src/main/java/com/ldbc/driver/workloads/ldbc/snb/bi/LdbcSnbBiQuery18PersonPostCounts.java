@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -104,13 +106,15 @@ public class LdbcSnbBiQuery18PersonPostCounts extends Operation<List<LdbcSnbBiQu
     public List<LdbcSnbBiQuery18PersonPostCountsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery18PersonPostCountsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            int postCount = ((Number) row.get( 0 )).intValue();
-            int count = ((Number) row.get( 1 )).intValue();
+            reader.beginArray();
+            int postCount = reader.nextInt();
+            int count = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery18PersonPostCountsResult(
                             postCount,
@@ -118,6 +122,7 @@ public class LdbcSnbBiQuery18PersonPostCounts extends Operation<List<LdbcSnbBiQu
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -126,16 +131,17 @@ public class LdbcSnbBiQuery18PersonPostCounts extends Operation<List<LdbcSnbBiQu
     {
         List<LdbcSnbBiQuery18PersonPostCountsResult> result =
                 (List<LdbcSnbBiQuery18PersonPostCountsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery18PersonPostCountsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.messageCount() );
-            resultFields.add( row.personCount() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.messageCount() );
+            writer.write( row.personCount() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
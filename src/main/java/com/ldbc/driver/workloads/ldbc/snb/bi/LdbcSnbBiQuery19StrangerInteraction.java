@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -105,14 +107,16 @@ public class LdbcSnbBiQuery19StrangerInteraction extends Operation<List<LdbcSnbB
     public List<LdbcSnbBiQuery19StrangerInteractionResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery19StrangerInteractionResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            int strangerCount = ((Number) row.get( 1 )).intValue();
-            int interactionCount = ((Number) row.get( 2 )).intValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            int strangerCount = reader.nextInt();
+            int interactionCount = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery19StrangerInteractionResult(
                             personId,
@@ -121,6 +125,7 @@ public class LdbcSnbBiQuery19StrangerInteraction extends Operation<List<LdbcSnbB
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -129,17 +134,18 @@ public class LdbcSnbBiQuery19StrangerInteraction extends Operation<List<LdbcSnbB
     {
         List<LdbcSnbBiQuery19StrangerInteractionResult> result =
                 (List<LdbcSnbBiQuery19StrangerInteractionResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery19StrangerInteractionResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.strangerCount() );
-            resultFields.add( row.count() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.personId() );
+            writer.write( row.strangerCount() );
+            writer.write( row.count() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -64,18 +66,20 @@ public class LdbcSnbBiQuery1PostingSummary extends Operation<List<LdbcSnbBiQuery
     public List<LdbcSnbBiQuery1PostingSummaryResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery1PostingSummaryResult> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
-            int messageYear = ((Number) resultAsList.get( 0 )).intValue();
-            boolean isComment = (boolean) resultAsList.get( 1 );
-            int lengthCategory = ((Number) resultAsList.get( 2 )).intValue();
-            long messageCount = ((Number) resultAsList.get( 3 )).longValue();
-            long averageMessageLength = ((Number) resultAsList.get( 4 )).longValue();
-            long sumMessageLength = ((Number) resultAsList.get( 5 )).longValue();
-            float percentageOfMessages = ((Number) resultAsList.get( 6 )).floatValue();
+            reader.beginArray();
+            int messageYear = reader.nextInt();
+            boolean isComment = reader.nextBoolean();
+            int lengthCategory = reader.nextInt();
+            long messageCount = reader.nextLong();
+            long averageMessageLength = reader.nextLong();
+            long sumMessageLength = reader.nextLong();
+            float percentageOfMessages = reader.nextFloat();
+            reader.endArray();
 
             results.add(
                     new LdbcSnbBiQuery1PostingSummaryResult(
@@ -89,6 +93,7 @@ public class LdbcSnbBiQuery1PostingSummary extends Operation<List<LdbcSnbBiQuery
                     )
             );
         }
+        reader.endArray();
         return results;
     }
 
@@ -96,21 +101,22 @@ public class LdbcSnbBiQuery1PostingSummary extends Operation<List<LdbcSnbBiQuery
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcSnbBiQuery1PostingSummaryResult> result = (List<LdbcSnbBiQuery1PostingSummaryResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery1PostingSummaryResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.messageYear() );
-            resultFields.add( row.isComment() );
-            resultFields.add( row.lengthCategory() );
-            resultFields.add( row.messageCount() );
-            resultFields.add( row.averageMessageLength() );
-            resultFields.add( row.sumMessageLength() );
-            resultFields.add( row.percentOfMessages() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.messageYear() );
+            writer.write( row.isComment() );
+            writer.write( row.lengthCategory() );
+            writer.write( row.messageCount() );
+            writer.write( row.averageMessageLength() );
+            writer.write( row.sumMessageLength() );
+            writer.write( row.percentOfMessages() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
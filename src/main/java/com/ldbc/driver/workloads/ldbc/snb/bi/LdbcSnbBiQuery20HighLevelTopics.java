@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -79,13 +81,15 @@ public class LdbcSnbBiQuery20HighLevelTopics extends Operation<List<LdbcSnbBiQue
     public List<LdbcSnbBiQuery20HighLevelTopicsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery20HighLevelTopicsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            String tagClassName = (String) row.get( 0 );
-            int messageCount = ((Number) row.get( 1 )).intValue();
+            reader.beginArray();
+            String tagClassName = reader.nextString();
+            int messageCount = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery20HighLevelTopicsResult(
                             tagClassName,
@@ -93,6 +97,7 @@ public class LdbcSnbBiQuery20HighLevelTopics extends Operation<List<LdbcSnbBiQue
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -101,16 +106,17 @@ public class LdbcSnbBiQuery20HighLevelTopics extends Operation<List<LdbcSnbBiQue
     {
         List<LdbcSnbBiQuery20HighLevelTopicsResult> result =
                 (List<LdbcSnbBiQuery20HighLevelTopicsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery20HighLevelTopicsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.tagClassName() );
-            resultFields.add( row.messageCount() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.tagClassName() );
+            writer.write( row.messageCount() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
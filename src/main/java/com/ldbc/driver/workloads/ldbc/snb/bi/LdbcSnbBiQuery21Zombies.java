@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -83,15 +85,17 @@ public class LdbcSnbBiQuery21Zombies extends Operation<List<LdbcSnbBiQuery21Zomb
     public List<LdbcSnbBiQuery21ZombiesResult> marshalResult( String serializedResults ) throws
             SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery21ZombiesResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            int zombieCount = ((Number) row.get( 1 )).intValue();
-            int realCount = ((Number) row.get( 2 )).intValue();
-            double score = ((Number) row.get( 3 )).doubleValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            int zombieCount = reader.nextInt();
+            int realCount = reader.nextInt();
+            double score = reader.nextDouble();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery21ZombiesResult(
                             personId,
@@ -101,6 +105,7 @@ public class LdbcSnbBiQuery21Zombies extends Operation<List<LdbcSnbBiQuery21Zomb
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -108,18 +113,19 @@ public class LdbcSnbBiQuery21Zombies extends Operation<List<LdbcSnbBiQuery21Zomb
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcSnbBiQuery21ZombiesResult> result = (List<LdbcSnbBiQuery21ZombiesResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery21ZombiesResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.zombieLikeCount() );
-            resultFields.add( row.totalLikeCount() );
-            resultFields.add( row.zombieScore() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.personId() );
+            writer.write( row.zombieLikeCount() );
+            writer.write( row.totalLikeCount() );
+            writer.write( row.zombieScore() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
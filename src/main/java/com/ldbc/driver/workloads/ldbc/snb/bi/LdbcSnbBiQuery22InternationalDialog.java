@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -92,15 +94,17 @@ public class LdbcSnbBiQuery22InternationalDialog extends Operation<List<LdbcSnbB
     public List<LdbcSnbBiQuery22InternationalDialogResult> marshalResult( String serializedResults ) throws
             SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery22InternationalDialogResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long personId1 = ((Number) row.get( 0 )).longValue();
-            long personId2 = ((Number) row.get( 1 )).longValue();
-            String city1Name = (String) row.get( 2 );
-            int score = ((Number) row.get( 3 )).intValue();
+            reader.beginArray();
+            long personId1 = reader.nextLong();
+            long personId2 = reader.nextLong();
+            String city1Name = reader.nextString();
+            int score = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery22InternationalDialogResult(
                             personId1,
@@ -110,6 +114,7 @@ public class LdbcSnbBiQuery22InternationalDialog extends Operation<List<LdbcSnbB
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -118,18 +123,19 @@ public class LdbcSnbBiQuery22InternationalDialog extends Operation<List<LdbcSnbB
     {
         List<LdbcSnbBiQuery22InternationalDialogResult> result =
                 (List<LdbcSnbBiQuery22InternationalDialogResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery22InternationalDialogResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId1() );
-            resultFields.add( row.personId2() );
-            resultFields.add( row.city1Name() );
-            resultFields.add( row.score() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.personId1() );
+            writer.write( row.personId2() );
+            writer.write( row.city1Name() );
+            writer.write( row.score() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
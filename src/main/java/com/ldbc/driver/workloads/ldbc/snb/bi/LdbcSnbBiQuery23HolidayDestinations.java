@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -79,14 +81,16 @@ public class LdbcSnbBiQuery23HolidayDestinations extends Operation<List<LdbcSnbB
     public List<LdbcSnbBiQuery23HolidayDestinationsResult> marshalResult( String serializedResults ) throws
             SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery23HolidayDestinationsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            int messageCount = ((Number) row.get( 0 )).intValue();
-            String destinationName = (String) row.get( 1 );
-            int month = ((Number) row.get( 2 )).intValue();
+            reader.beginArray();
+            int messageCount = reader.nextInt();
+            String destinationName = reader.nextString();
+            int month = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery23HolidayDestinationsResult(
                             messageCount,
@@ -95,6 +99,7 @@ public class LdbcSnbBiQuery23HolidayDestinations extends Operation<List<LdbcSnbB
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -103,17 +108,18 @@ public class LdbcSnbBiQuery23HolidayDestinations extends Operation<List<LdbcSnbB
     {
         List<LdbcSnbBiQuery23HolidayDestinationsResult> result =
                 (List<LdbcSnbBiQuery23HolidayDestinationsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery23HolidayDestinationsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.messageCount() );
-            resultFields.add( row.destinationName() );
-            resultFields.add( row.month() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.messageCount() );
+            writer.write( row.destinationName() );
+            writer.write( row.month() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -79,16 +81,18 @@ public class LdbcSnbBiQuery24MessagesByTopic extends Operation<List<LdbcSnbBiQue
     public List<LdbcSnbBiQuery24MessagesByTopicResult> marshalResult( String serializedResults ) throws
             SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery24MessagesByTopicResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            int messageCount = ((Number) row.get( 0 )).intValue();
-            int likeCount = ((Number) row.get( 1 )).intValue();
-            int year = ((Number) row.get( 2 )).intValue();
-            int month = ((Number) row.get( 3 )).intValue();
-            String continentName = (String) row.get( 4 );
+            reader.beginArray();
+            int messageCount = reader.nextInt();
+            int likeCount = reader.nextInt();
+            int year = reader.nextInt();
+            int month = reader.nextInt();
+            String continentName = reader.nextString();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery24MessagesByTopicResult(
                             messageCount,
@@ -99,6 +103,7 @@ public class LdbcSnbBiQuery24MessagesByTopic extends Operation<List<LdbcSnbBiQue
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -107,19 +112,20 @@ public class LdbcSnbBiQuery24MessagesByTopic extends Operation<List<LdbcSnbBiQue
     {
         List<LdbcSnbBiQuery24MessagesByTopicResult> result =
                 (List<LdbcSnbBiQuery24MessagesByTopicResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery24MessagesByTopicResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.messageCount() );
-            resultFields.add( row.likeCount() );
-            resultFields.add( row.year() );
-            resultFields.add( row.month() );
-            resultFields.add( row.continentName() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.messageCount() );
+            writer.write( row.likeCount() );
+            writer.write( row.year() );
+            writer.write( row.month() );
+            writer.write( row.continentName() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
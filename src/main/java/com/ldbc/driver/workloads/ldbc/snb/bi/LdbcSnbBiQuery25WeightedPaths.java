@@ -3,11 +3,12 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class LdbcSnbBiQuery25WeightedPaths extends Operation<List<LdbcSnbBiQuery25WeightedPathsResult>>
 {
@@ -104,23 +105,20 @@ public class LdbcSnbBiQuery25WeightedPaths extends Operation<List<LdbcSnbBiQuery
     public List<LdbcSnbBiQuery25WeightedPathsResult> marshalResult( String serializedResults ) throws
             SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery25WeightedPathsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            List<Long> personIds = ((List<Object>) row.get( 0 )).stream().map(x -> {
-                if (x instanceof Integer) {
-                    return Long.valueOf((Integer) x);
-                } else {
-                    return (Long) x;
-                }
-            }).collect(Collectors.toList());
-            double weight = (double) row.get( 1 );
+            reader.beginArray();
+            List<Long> personIds = reader.nextLongList();
+            double weight = reader.nextDouble();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery25WeightedPathsResult( personIds, weight )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -129,16 +127,17 @@ public class LdbcSnbBiQuery25WeightedPaths extends Operation<List<LdbcSnbBiQuery
     {
         List<LdbcSnbBiQuery25WeightedPathsResult> result =
                 (List<LdbcSnbBiQuery25WeightedPathsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery25WeightedPathsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personIds() );
-            resultFields.add( row.weight() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.personIds() );
+            writer.write( row.weight() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
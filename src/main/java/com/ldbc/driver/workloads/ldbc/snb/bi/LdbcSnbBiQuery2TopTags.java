@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -110,17 +112,19 @@ public class LdbcSnbBiQuery2TopTags extends Operation<List<LdbcSnbBiQuery2TopTag
     public List<LdbcSnbBiQuery2TopTagsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery2TopTagsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            String countryName = (String) row.get( 0 );
-            int messageMonth = ((Number) row.get( 1 )).intValue();
-            String personGender = (String) row.get( 2 );
-            int ageGroup = ((Number) row.get( 3 )).intValue();
-            String tagName = (String) row.get( 4 );
-            int messageCount = ((Number) row.get( 5 )).intValue();
+            reader.beginArray();
+            String countryName = reader.nextString();
+            int messageMonth = reader.nextInt();
+            String personGender = reader.nextString();
+            int ageGroup = reader.nextInt();
+            String tagName = reader.nextString();
+            int messageCount = reader.nextInt();
+            reader.endArray();
 
             result.add(
                     new LdbcSnbBiQuery2TopTagsResult(
@@ -133,6 +137,7 @@ public class LdbcSnbBiQuery2TopTags extends Operation<List<LdbcSnbBiQuery2TopTag
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -140,20 +145,21 @@ public class LdbcSnbBiQuery2TopTags extends Operation<List<LdbcSnbBiQuery2TopTag
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcSnbBiQuery2TopTagsResult> result = (List<LdbcSnbBiQuery2TopTagsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery2TopTagsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.countryName() );
-            resultFields.add( row.messageMonth() );
-            resultFields.add( row.personGender() );
-            resultFields.add( row.ageGroup() );
-            resultFields.add( row.tagName() );
-            resultFields.add( row.messageCount() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.countryName() );
+            writer.write( row.messageMonth() );
+            writer.write( row.personGender() );
+            writer.write( row.ageGroup() );
+            writer.write( row.tagName() );
+            writer.write( row.messageCount() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
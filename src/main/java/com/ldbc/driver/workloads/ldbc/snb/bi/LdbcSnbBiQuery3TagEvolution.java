@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -90,15 +92,17 @@ public class LdbcSnbBiQuery3TagEvolution extends Operation<List<LdbcSnbBiQuery3T
     public List<LdbcSnbBiQuery3TagEvolutionResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery3TagEvolutionResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            String tagName = (String) row.get( 0 );
-            int countMonth1 = ((Number) row.get( 1 )).intValue();
-            int countMonth2 = ((Number) row.get( 2 )).intValue();
-            int diff = ((Number) row.get( 3 )).intValue();
+            reader.beginArray();
+            String tagName = reader.nextString();
+            int countMonth1 = reader.nextInt();
+            int countMonth2 = reader.nextInt();
+            int diff = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery3TagEvolutionResult(
                             tagName,
@@ -108,6 +112,7 @@ public class LdbcSnbBiQuery3TagEvolution extends Operation<List<LdbcSnbBiQuery3T
                     )
             );
         }
+        reader.endArray();
 
         return result;
     }
@@ -116,18 +121,19 @@ public class LdbcSnbBiQuery3TagEvolution extends Operation<List<LdbcSnbBiQuery3T
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcSnbBiQuery3TagEvolutionResult> result = (List<LdbcSnbBiQuery3TagEvolutionResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery3TagEvolutionResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.tagName() );
-            resultFields.add( row.countMonth1() );
-            resultFields.add( row.countMonth2() );
-            resultFields.add( row.diff() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.tagName() );
+            writer.write( row.countMonth1() );
+            writer.write( row.countMonth2() );
+            writer.write( row.diff() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
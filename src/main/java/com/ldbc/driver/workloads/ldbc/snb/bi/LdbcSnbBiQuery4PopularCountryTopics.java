@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -92,16 +94,18 @@ public class LdbcSnbBiQuery4PopularCountryTopics extends Operation<List<LdbcSnbB
     public List<LdbcSnbBiQuery4PopularCountryTopicsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery4PopularCountryTopicsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long forumId = ((Number) row.get( 0 )).longValue();
-            String title = (String) row.get( 1 );
-            long creationDate = ((Number) row.get( 2 )).longValue();
-            long personId = ((Number) row.get( 3 )).longValue();
-            int postCount = ((Number) row.get( 4 )).intValue();
+            reader.beginArray();
+            long forumId = reader.nextLong();
+            String title = reader.nextString();
+            long creationDate = reader.nextLong();
+            long personId = reader.nextLong();
+            int postCount = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery4PopularCountryTopicsResult(
                             forumId,
@@ -112,6 +116,7 @@ public class LdbcSnbBiQuery4PopularCountryTopics extends Operation<List<LdbcSnbB
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -120,19 +125,20 @@ public class LdbcSnbBiQuery4PopularCountryTopics extends Operation<List<LdbcSnbB
     {
         List<LdbcSnbBiQuery4PopularCountryTopicsResult> result =
                 (List<LdbcSnbBiQuery4PopularCountryTopicsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery4PopularCountryTopicsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.forumId() );
-            resultFields.add( row.forumTitle() );
-            resultFields.add( row.forumCreationDate() );
-            resultFields.add( row.personId() );
-            resultFields.add( row.postCount() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.forumId() );
+            writer.write( row.forumTitle() );
+            writer.write( row.forumCreationDate() );
+            writer.write( row.personId() );
+            writer.write( row.postCount() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
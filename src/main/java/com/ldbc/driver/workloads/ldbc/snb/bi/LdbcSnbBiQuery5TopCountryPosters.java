@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -78,16 +80,18 @@ public class LdbcSnbBiQuery5TopCountryPosters extends Operation<List<LdbcSnbBiQu
     public List<LdbcSnbBiQuery5TopCountryPostersResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery5TopCountryPostersResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            String personFirstName = (String) row.get( 1 );
-            String personLastName = (String) row.get( 2 );
-            long personCreationDate = ((Number) row.get( 3 )).longValue();
-            int postCount = ((Number) row.get( 4 )).intValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            String personFirstName = reader.nextString();
+            String personLastName = reader.nextString();
+            long personCreationDate = reader.nextLong();
+            int postCount = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery5TopCountryPostersResult(
                             personId,
@@ -98,6 +102,7 @@ public class LdbcSnbBiQuery5TopCountryPosters extends Operation<List<LdbcSnbBiQu
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -106,19 +111,20 @@ public class LdbcSnbBiQuery5TopCountryPosters extends Operation<List<LdbcSnbBiQu
     {
         List<LdbcSnbBiQuery5TopCountryPostersResult> result =
                 (List<LdbcSnbBiQuery5TopCountryPostersResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery5TopCountryPostersResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.personFirstName() );
-            resultFields.add( row.personLastName() );
-            resultFields.add( row.personCreationDate() );
-            resultFields.add( row.postCount() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.personId() );
+            writer.write( row.personFirstName() );
+            writer.write( row.personLastName() );
+            writer.write( row.personCreationDate() );
+            writer.write( row.postCount() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -79,16 +81,18 @@ public class LdbcSnbBiQuery6ActivePosters extends Operation<List<LdbcSnbBiQuery6
     public List<LdbcSnbBiQuery6ActivePostersResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery6ActivePostersResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            int replyCount = ((Number) row.get( 1 )).intValue();
-            int likeCount = ((Number) row.get( 2 )).intValue();
-            int messageCount = ((Number) row.get( 3 )).intValue();
-            int score = ((Number) row.get( 4 )).intValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            int replyCount = reader.nextInt();
+            int likeCount = reader.nextInt();
+            int messageCount = reader.nextInt();
+            int score = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery6ActivePostersResult(
                             personId,
@@ -99,6 +103,7 @@ public class LdbcSnbBiQuery6ActivePosters extends Operation<List<LdbcSnbBiQuery6
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -106,19 +111,20 @@ public class LdbcSnbBiQuery6ActivePosters extends Operation<List<LdbcSnbBiQuery6
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcSnbBiQuery6ActivePostersResult> result = (List<LdbcSnbBiQuery6ActivePostersResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery6ActivePostersResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.personId() );
-            resultFields.add( row.replyCount() );
-            resultFields.add( row.likeCount() );
-            resultFields.add( row.messageCount() );
-            resultFields.add( row.score() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.personId() );
+            writer.write( row.replyCount() );
+            writer.write( row.likeCount() );
+            writer.write( row.messageCount() );
+            writer.write( row.score() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
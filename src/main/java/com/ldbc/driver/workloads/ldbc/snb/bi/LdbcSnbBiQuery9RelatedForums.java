@@ -3,6 +3,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -104,14 +106,16 @@ public class LdbcSnbBiQuery9RelatedForums extends Operation<List<LdbcSnbBiQuery9
     public List<LdbcSnbBiQuery9RelatedForumsResult> marshalResult( String serializedResults )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList = SerializationUtil.marshalListOfLists( serializedResults );
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
         List<LdbcSnbBiQuery9RelatedForumsResult> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long forumId = ((Number) row.get( 0 )).longValue();
-            int count1 = ((Number) row.get( 1 )).intValue();
-            int count2 = ((Number) row.get( 2 )).intValue();
+            reader.beginArray();
+            long forumId = reader.nextLong();
+            int count1 = reader.nextInt();
+            int count2 = reader.nextInt();
+            reader.endArray();
             result.add(
                     new LdbcSnbBiQuery9RelatedForumsResult(
                             forumId,
@@ -120,6 +124,7 @@ public class LdbcSnbBiQuery9RelatedForums extends Operation<List<LdbcSnbBiQuery9
                     )
             );
         }
+        reader.endArray();
         return result;
     }
 
@@ -127,17 +132,18 @@ public class LdbcSnbBiQuery9RelatedForums extends Operation<List<LdbcSnbBiQuery9
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcSnbBiQuery9RelatedForumsResult> result = (List<LdbcSnbBiQuery9RelatedForumsResult>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < result.size(); i++ )
         {
             LdbcSnbBiQuery9RelatedForumsResult row = result.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( row.forumId() );
-            resultFields.add( row.count1() );
-            resultFields.add( row.count2() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( row.forumId() );
+            writer.write( row.count1() );
+            writer.write( row.count2() );
+            writer.endArray();
         }
-        return SerializationUtil.toJson( resultsFields );
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -1,7 +1,5 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
@@ -11,6 +9,7 @@ import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.csv.charseeker.CharSeekerParams;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.workloads.OperationCodecs;
 
 import java.io.Closeable;
 import java.io.File;
@@ -846,482 +845,237 @@ public class LdbcSnbBiWorkload extends Workload
         return TimeUnit.HOURS.toMillis( 1 );
     }
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final TypeReference TYPE_REFERENCE = new TypeReference<List<Object>>()
-    {
-    };
+    private static final OperationCodecs OPERATION_CODECS = new OperationCodecs( LdbcSnbBiWorkload.class )
+            .register( LdbcSnbBiQuery1PostingSummary.TYPE, LdbcSnbBiQuery1PostingSummary.class,
+                    ( operation, writer ) -> writer.write( operation.date() ),
+                    reader -> new LdbcSnbBiQuery1PostingSummary( reader.nextLong() ) )
+            .register( LdbcSnbBiQuery2TopTags.TYPE, LdbcSnbBiQuery2TopTags.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.startDate() )
+                            .write( operation.endDate() )
+                            .write( operation.country1() )
+                            .write( operation.country2() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery2TopTags(
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery3TagEvolution.TYPE, LdbcSnbBiQuery3TagEvolution.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.year() )
+                            .write( operation.month() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery3TagEvolution(
+                            reader.nextInt(),
+                            reader.nextInt(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery4PopularCountryTopics.TYPE, LdbcSnbBiQuery4PopularCountryTopics.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.tagClass() )
+                            .write( operation.country() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery4PopularCountryTopics(
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery5TopCountryPosters.TYPE, LdbcSnbBiQuery5TopCountryPosters.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.country() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery5TopCountryPosters(
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery6ActivePosters.TYPE, LdbcSnbBiQuery6ActivePosters.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.tag() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery6ActivePosters(
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery7AuthoritativeUsers.TYPE, LdbcSnbBiQuery7AuthoritativeUsers.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.tag() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery7AuthoritativeUsers(
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery8RelatedTopics.TYPE, LdbcSnbBiQuery8RelatedTopics.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.tag() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery8RelatedTopics(
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery9RelatedForums.TYPE, LdbcSnbBiQuery9RelatedForums.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.tagClass1() )
+                            .write( operation.tagClass2() )
+                            .write( operation.threshold() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery9RelatedForums(
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextInt(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery10TagPerson.TYPE, LdbcSnbBiQuery10TagPerson.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.tag() )
+                            .write( operation.date() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery10TagPerson(
+                            reader.nextString(),
+                            reader.nextLong(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery11UnrelatedReplies.TYPE, LdbcSnbBiQuery11UnrelatedReplies.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.country() )
+                            .write( operation.blacklist() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery11UnrelatedReplies(
+                            reader.nextString(),
+                            reader.nextStringList(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery12TrendingPosts.TYPE, LdbcSnbBiQuery12TrendingPosts.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.date() )
+                            .write( operation.likeThreshold() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery12TrendingPosts(
+                            reader.nextLong(),
+                            reader.nextInt(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery13PopularMonthlyTags.TYPE, LdbcSnbBiQuery13PopularMonthlyTags.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.country() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery13PopularMonthlyTags(
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery14TopThreadInitiators.TYPE, LdbcSnbBiQuery14TopThreadInitiators.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.startDate() )
+                            .write( operation.endDate() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery14TopThreadInitiators(
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery15SocialNormals.TYPE, LdbcSnbBiQuery15SocialNormals.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.country() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery15SocialNormals(
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery16ExpertsInSocialCircle.TYPE, LdbcSnbBiQuery16ExpertsInSocialCircle.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.country() )
+                            .write( operation.tagClass() )
+                            .write( operation.minPathDistance() )
+                            .write( operation.maxPathDistance() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery16ExpertsInSocialCircle(
+                            reader.nextLong(),
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextInt(),
+                            reader.nextInt(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery17FriendshipTriangles.TYPE, LdbcSnbBiQuery17FriendshipTriangles.class,
+                    ( operation, writer ) -> writer.write( operation.country() ),
+                    reader -> new LdbcSnbBiQuery17FriendshipTriangles( reader.nextString() ) )
+            .register( LdbcSnbBiQuery18PersonPostCounts.TYPE, LdbcSnbBiQuery18PersonPostCounts.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.date() )
+                            .write( operation.lengthThreshold() )
+                            .write( operation.languages() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery18PersonPostCounts(
+                            reader.nextLong(),
+                            reader.nextInt(),
+                            reader.nextStringList(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery19StrangerInteraction.TYPE, LdbcSnbBiQuery19StrangerInteraction.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.date() )
+                            .write( operation.tagClass1() )
+                            .write( operation.tagClass2() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery19StrangerInteraction(
+                            reader.nextLong(),
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery20HighLevelTopics.TYPE, LdbcSnbBiQuery20HighLevelTopics.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.tagClasses() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery20HighLevelTopics(
+                            reader.nextStringList(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery21Zombies.TYPE, LdbcSnbBiQuery21Zombies.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.country() )
+                            .write( operation.endDate() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery21Zombies(
+                            reader.nextString(),
+                            reader.nextLong(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery22InternationalDialog.TYPE, LdbcSnbBiQuery22InternationalDialog.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.country1() )
+                            .write( operation.country2() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery22InternationalDialog(
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery23HolidayDestinations.TYPE, LdbcSnbBiQuery23HolidayDestinations.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.country() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery23HolidayDestinations(
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery24MessagesByTopic.TYPE, LdbcSnbBiQuery24MessagesByTopic.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.tagClass() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcSnbBiQuery24MessagesByTopic(
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcSnbBiQuery25WeightedPaths.TYPE, LdbcSnbBiQuery25WeightedPaths.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.person1Id() )
+                            .write( operation.person2Id() )
+                            .write( operation.startDate() )
+                            .write( operation.endDate() ),
+                    reader -> new LdbcSnbBiQuery25WeightedPaths(
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            reader.nextLong() ) );
 
     @Override
     public String serializeOperation( Operation operation ) throws SerializingMarshallingException
     {
-        try
-        {
-            switch ( operation.type() )
-            {
-            case LdbcSnbBiQuery1PostingSummary.TYPE:
-            {
-                LdbcSnbBiQuery1PostingSummary ldbcQuery = (LdbcSnbBiQuery1PostingSummary) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.date() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery2TopTags.TYPE:
-            {
-                LdbcSnbBiQuery2TopTags ldbcQuery = (LdbcSnbBiQuery2TopTags) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.startDate() );
-                operationAsList.add( ldbcQuery.endDate() );
-                operationAsList.add( ldbcQuery.country1() );
-                operationAsList.add( ldbcQuery.country2() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery3TagEvolution.TYPE:
-            {
-                LdbcSnbBiQuery3TagEvolution ldbcQuery = (LdbcSnbBiQuery3TagEvolution) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.year() );
-                operationAsList.add( ldbcQuery.month() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery4PopularCountryTopics.TYPE:
-            {
-                LdbcSnbBiQuery4PopularCountryTopics ldbcQuery = (LdbcSnbBiQuery4PopularCountryTopics) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.tagClass() );
-                operationAsList.add( ldbcQuery.country() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery5TopCountryPosters.TYPE:
-            {
-                LdbcSnbBiQuery5TopCountryPosters ldbcQuery = (LdbcSnbBiQuery5TopCountryPosters) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.country() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery6ActivePosters.TYPE:
-            {
-                LdbcSnbBiQuery6ActivePosters ldbcQuery = (LdbcSnbBiQuery6ActivePosters) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.tag() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery7AuthoritativeUsers.TYPE:
-            {
-                LdbcSnbBiQuery7AuthoritativeUsers ldbcQuery = (LdbcSnbBiQuery7AuthoritativeUsers) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.tag() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery8RelatedTopics.TYPE:
-            {
-                LdbcSnbBiQuery8RelatedTopics ldbcQuery = (LdbcSnbBiQuery8RelatedTopics) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.tag() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery9RelatedForums.TYPE:
-            {
-                LdbcSnbBiQuery9RelatedForums ldbcQuery = (LdbcSnbBiQuery9RelatedForums) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.tagClass1() );
-                operationAsList.add( ldbcQuery.tagClass2() );
-                operationAsList.add( ldbcQuery.threshold() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery10TagPerson.TYPE:
-            {
-                LdbcSnbBiQuery10TagPerson ldbcQuery = (LdbcSnbBiQuery10TagPerson) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.tag() );
-                operationAsList.add( ldbcQuery.date() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery11UnrelatedReplies.TYPE:
-            {
-                LdbcSnbBiQuery11UnrelatedReplies ldbcQuery = (LdbcSnbBiQuery11UnrelatedReplies) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.country() );
-                operationAsList.add( ldbcQuery.blacklist() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery12TrendingPosts.TYPE:
-            {
-                LdbcSnbBiQuery12TrendingPosts ldbcQuery = (LdbcSnbBiQuery12TrendingPosts) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.date() );
-                operationAsList.add( ldbcQuery.likeThreshold() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery13PopularMonthlyTags.TYPE:
-            {
-                LdbcSnbBiQuery13PopularMonthlyTags ldbcQuery = (LdbcSnbBiQuery13PopularMonthlyTags) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.country() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery14TopThreadInitiators.TYPE:
-            {
-                LdbcSnbBiQuery14TopThreadInitiators ldbcQuery = (LdbcSnbBiQuery14TopThreadInitiators) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.startDate() );
-                operationAsList.add( ldbcQuery.endDate() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery15SocialNormals.TYPE:
-            {
-                LdbcSnbBiQuery15SocialNormals ldbcQuery = (LdbcSnbBiQuery15SocialNormals) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.country() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery16ExpertsInSocialCircle.TYPE:
-            {
-                LdbcSnbBiQuery16ExpertsInSocialCircle ldbcQuery = (LdbcSnbBiQuery16ExpertsInSocialCircle) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.personId() );
-                operationAsList.add( ldbcQuery.country() );
-                operationAsList.add( ldbcQuery.tagClass() );
-                operationAsList.add( ldbcQuery.minPathDistance() );
-                operationAsList.add( ldbcQuery.maxPathDistance() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery17FriendshipTriangles.TYPE:
-            {
-                LdbcSnbBiQuery17FriendshipTriangles ldbcQuery = (LdbcSnbBiQuery17FriendshipTriangles) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.country() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery18PersonPostCounts.TYPE:
-            {
-                LdbcSnbBiQuery18PersonPostCounts ldbcQuery = (LdbcSnbBiQuery18PersonPostCounts) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.date() );
-                operationAsList.add( ldbcQuery.lengthThreshold() );
-                operationAsList.add( ldbcQuery.languages() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery19StrangerInteraction.TYPE:
-            {
-                LdbcSnbBiQuery19StrangerInteraction ldbcQuery = (LdbcSnbBiQuery19StrangerInteraction) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.date() );
-                operationAsList.add( ldbcQuery.tagClass1() );
-                operationAsList.add( ldbcQuery.tagClass2() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery20HighLevelTopics.TYPE:
-            {
-                LdbcSnbBiQuery20HighLevelTopics ldbcQuery = (LdbcSnbBiQuery20HighLevelTopics) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.tagClasses() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery21Zombies.TYPE:
-            {
-                LdbcSnbBiQuery21Zombies ldbcQuery = (LdbcSnbBiQuery21Zombies) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.country() );
-                operationAsList.add( ldbcQuery.endDate() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery22InternationalDialog.TYPE:
-            {
-                LdbcSnbBiQuery22InternationalDialog ldbcQuery = (LdbcSnbBiQuery22InternationalDialog) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.country1() );
-                operationAsList.add( ldbcQuery.country2() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery23HolidayDestinations.TYPE:
-            {
-                LdbcSnbBiQuery23HolidayDestinations ldbcQuery = (LdbcSnbBiQuery23HolidayDestinations) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.country() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery24MessagesByTopic.TYPE:
-            {
-                LdbcSnbBiQuery24MessagesByTopic ldbcQuery = (LdbcSnbBiQuery24MessagesByTopic) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.tagClass() );
-                operationAsList.add( ldbcQuery.limit() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            case LdbcSnbBiQuery25WeightedPaths.TYPE:
-            {
-                LdbcSnbBiQuery25WeightedPaths ldbcQuery = (LdbcSnbBiQuery25WeightedPaths) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add( ldbcQuery.getClass().getName() );
-                operationAsList.add( ldbcQuery.person1Id() );
-                operationAsList.add( ldbcQuery.person2Id() );
-                operationAsList.add( ldbcQuery.startDate() );
-                operationAsList.add( ldbcQuery.endDate() );
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            default:
-            {
-                throw new SerializingMarshallingException(
-                        format(
-                                "Workload does not know how to serialize operation\nWorkload: %s\nOperation Type: " +
-                                "%s\nOperation: %s",
-                                getClass().getName(),
-                                operation.getClass().getName(),
-                                operation ) );
-            }
-            }
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error serializing operation\n%s", operation ), e );
-        }
+        return OPERATION_CODECS.serializeOperation( operation );
     }
 
     @Override
     public Operation marshalOperation( String serializedOperation ) throws SerializingMarshallingException
     {
-        List<Object> operationAsList;
-        try
-        {
-            operationAsList = OBJECT_MAPPER.readValue( serializedOperation, TYPE_REFERENCE );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedOperation ), e );
-        }
-        String operationClassName = (String) operationAsList.get( 0 );
+        return OPERATION_CODECS.marshalOperation( serializedOperation );
+    }
 
-        if ( operationClassName.equals( LdbcSnbBiQuery1PostingSummary.class.getName() ) )
-        {
-            long date = ((Number) operationAsList.get( 1 )).longValue();
-            return new LdbcSnbBiQuery1PostingSummary( date );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery2TopTags.class.getName() ) )
-        {
-            long startDate = ((Number) operationAsList.get( 1 )).longValue();
-            long endDate = ((Number) operationAsList.get( 2 )).longValue();
-            String country1 = (String) operationAsList.get( 3 );
-            String country2 = (String) operationAsList.get( 4 );
-            int limit = ((Number) operationAsList.get( 5 )).intValue();
-            return new LdbcSnbBiQuery2TopTags(
-                    startDate,
-                    endDate,
-                    country1,
-                    country2,
-                    limit
-            );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery3TagEvolution.class.getName() ) )
-        {
-            int year = ((Number) operationAsList.get( 1 )).intValue();
-            int month = ((Number) operationAsList.get( 2 )).intValue();
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcSnbBiQuery3TagEvolution( year, month, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery4PopularCountryTopics.class.getName() ) )
-        {
-            String tagClass = (String) operationAsList.get( 1 );
-            String country = (String) operationAsList.get( 2 );
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcSnbBiQuery4PopularCountryTopics( tagClass, country, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery5TopCountryPosters.class.getName() ) )
-        {
-            String country = (String) operationAsList.get( 1 );
-            int limit = ((Number) operationAsList.get( 2 )).intValue();
-            return new LdbcSnbBiQuery5TopCountryPosters( country, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery6ActivePosters.class.getName() ) )
-        {
-            String tag = (String) operationAsList.get( 1 );
-            int limit = ((Number) operationAsList.get( 2 )).intValue();
-            return new LdbcSnbBiQuery6ActivePosters( tag, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery7AuthoritativeUsers.class.getName() ) )
-        {
-            String tag = (String) operationAsList.get( 1 );
-            int limit = ((Number) operationAsList.get( 2 )).intValue();
-            return new LdbcSnbBiQuery7AuthoritativeUsers( tag, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery8RelatedTopics.class.getName() ) )
-        {
-            String tag = (String) operationAsList.get( 1 );
-            int limit = ((Number) operationAsList.get( 2 )).intValue();
-            return new LdbcSnbBiQuery8RelatedTopics( tag, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery9RelatedForums.class.getName() ) )
-        {
-            String tagClass1 = (String) operationAsList.get( 1 );
-            String tagClass2 = (String) operationAsList.get( 2 );
-            int threshold = ((Number) operationAsList.get( 3 )).intValue();
-            int limit = ((Number) operationAsList.get( 4 )).intValue();
-            return new LdbcSnbBiQuery9RelatedForums( tagClass1, tagClass2, threshold, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery10TagPerson.class.getName() ) )
-        {
-            String tag = (String) operationAsList.get( 1 );
-            long date = ((Number) operationAsList.get( 2 )).longValue();
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcSnbBiQuery10TagPerson( tag, date, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery11UnrelatedReplies.class.getName() ) )
-        {
-            String country = (String) operationAsList.get( 1 );
-            List<String> blacklist = (List<String>) operationAsList.get( 2 );
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcSnbBiQuery11UnrelatedReplies( country, blacklist, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery12TrendingPosts.class.getName() ) )
-        {
-            long date = ((Number) operationAsList.get( 1 )).longValue();
-            int likeThreshold = ((Number) operationAsList.get( 2 )).intValue();
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcSnbBiQuery12TrendingPosts( date, likeThreshold, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery13PopularMonthlyTags.class.getName() ) )
-        {
-            String country = (String) operationAsList.get( 1 );
-            int limit = ((Number) operationAsList.get( 2 )).intValue();
-            return new LdbcSnbBiQuery13PopularMonthlyTags( country, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery14TopThreadInitiators.class.getName() ) )
-        {
-            long startDate = ((Number) operationAsList.get( 1 )).longValue();
-            long endDate = ((Number) operationAsList.get( 2 )).longValue();
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcSnbBiQuery14TopThreadInitiators( startDate, endDate, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery15SocialNormals.class.getName() ) )
-        {
-            String country = (String) operationAsList.get( 1 );
-            int limit = ((Number) operationAsList.get( 2 )).intValue();
-            return new LdbcSnbBiQuery15SocialNormals( country, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery16ExpertsInSocialCircle.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            String country = (String) operationAsList.get( 2 );
-            String tagClass = (String) operationAsList.get( 3 );
-            int minPathDistance = (int) operationAsList.get( 4 );
-            int maxPathDistance = (int) operationAsList.get( 5 );
-            int limit = ((Number) operationAsList.get( 6 )).intValue();
-            return new LdbcSnbBiQuery16ExpertsInSocialCircle( personId, country, tagClass, minPathDistance,
-                    maxPathDistance, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery17FriendshipTriangles.class.getName() ) )
-        {
-            String country = (String) operationAsList.get( 1 );
-            return new LdbcSnbBiQuery17FriendshipTriangles( country );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery18PersonPostCounts.class.getName() ) )
-        {
-            long date = ((Number) operationAsList.get( 1 )).longValue();
-            int lengthThreshold = ((Number) operationAsList.get( 2 )).intValue();
-            List<String> languages = (List<String>) operationAsList.get( 3 );
-            int limit = ((Number) operationAsList.get( 4 )).intValue();
-            return new LdbcSnbBiQuery18PersonPostCounts( date, lengthThreshold, languages, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery19StrangerInteraction.class.getName() ) )
-        {
-            long date = ((Number) operationAsList.get( 1 )).longValue();
-            String tagClass1 = (String) operationAsList.get( 2 );
-            String tagClass2 = (String) operationAsList.get( 3 );
-            int limit = ((Number) operationAsList.get( 4 )).intValue();
-            return new LdbcSnbBiQuery19StrangerInteraction( date, tagClass1, tagClass2, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery20HighLevelTopics.class.getName() ) )
-        {
-            List<String> tagClasses = (List<String>) operationAsList.get( 1 );
-            int limit = ((Number) operationAsList.get( 2 )).intValue();
-            return new LdbcSnbBiQuery20HighLevelTopics( tagClasses, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery21Zombies.class.getName() ) )
-        {
-            String country = (String) operationAsList.get( 1 );
-            long endDate = ((Number) operationAsList.get( 2 )).longValue();
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcSnbBiQuery21Zombies( country, endDate, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery22InternationalDialog.class.getName() ) )
-        {
-            String country1 = (String) operationAsList.get( 1 );
-            String country2 = (String) operationAsList.get( 2 );
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcSnbBiQuery22InternationalDialog( country1, country2, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery23HolidayDestinations.class.getName() ) )
-        {
-            String country = (String) operationAsList.get( 1 );
-            int limit = ((Number) operationAsList.get( 2 )).intValue();
-            return new LdbcSnbBiQuery23HolidayDestinations( country, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery24MessagesByTopic.class.getName() ) )
-        {
-            String tagClass = (String) operationAsList.get( 1 );
-            int limit = ((Number) operationAsList.get( 2 )).intValue();
-            return new LdbcSnbBiQuery24MessagesByTopic( tagClass, limit );
-        }
-        else if ( operationClassName.equals( LdbcSnbBiQuery25WeightedPaths.class.getName() ) )
-        {
-            long person1Id = ((Number) operationAsList.get( 1 )).longValue();
-            long person2Id = ((Number) operationAsList.get( 2 )).longValue();
-            long startDate = ((Number) operationAsList.get( 3 )).longValue();
-            long endDate = ((Number) operationAsList.get( 4 )).longValue();
-            return new LdbcSnbBiQuery25WeightedPaths( person1Id, person2Id, startDate, endDate );
-        }
-        throw new SerializingMarshallingException(
-                format(
-                        "Workload does not know how to marshal operation\nWorkload: %s\nAssumed Operation Type: " +
-                        "%s\nSerialized Operation: %s",
-                        getClass().getName(),
-                        operationClassName,
-                        serializedOperation ) );
+    @Override
+    public Operation marshalOperation( List<Object> operationAsList ) throws SerializingMarshallingException
+    {
+        return OPERATION_CODECS.marshalOperation( operationAsList );
     }
 
     @Override
@@ -17,13 +17,13 @@ public class SerializationUtil
             {
             };
 
-    public static synchronized List<List<Object>> marshalListOfLists( String serializedJson )
+    public static List<List<Object>> marshalListOfLists( String serializedJson )
             throws SerializingMarshallingException
     {
         return marshalListOfLists( serializedJson, LIST_OF_LISTS_TYPE_REFERENCE );
     }
 
-    public static synchronized List<List<Object>> marshalListOfLists( String serializedJson,
+    public static List<List<Object>> marshalListOfLists( String serializedJson,
             TypeReference typeReference )
             throws SerializingMarshallingException
     {
@@ -37,7 +37,7 @@ public class SerializationUtil
         }
     }
 
-    public static synchronized String toJson( Object object ) throws SerializingMarshallingException
+    public static String toJson( Object object ) throws SerializingMarshallingException
     {
         try
         {
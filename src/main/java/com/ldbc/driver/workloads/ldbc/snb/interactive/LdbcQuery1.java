@@ -1,32 +1,26 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery1 extends Operation<List<LdbcQuery1Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 1;
     public static final int DEFAULT_LIMIT = 20;
     public static final String PERSON_ID = "personId";
     public static final String FIRST_NAME = "firstName";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final String firstName;
-    private final int limit;
+    private long personId;
+    private String firstName;
+    private int limit;
 
     public LdbcQuery1( long personId, String firstName, int limit )
     {
@@ -35,6 +29,17 @@ public class LdbcQuery1 extends Operation<List<LdbcQuery1Result>>
         this.limit = limit;
     }
 
+    LdbcQuery1()
+    {
+    }
+
+    void init( long personId, String firstName, int limit )
+    {
+        this.personId = personId;
+        this.firstName = firstName;
+        this.limit = limit;
+    }
+
     public long personId()
     {
         return personId;
@@ -101,37 +106,28 @@ public class LdbcQuery1 extends Operation<List<LdbcQuery1Result>>
     @Override
     public List<LdbcQuery1Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error parsing serialized results\n%s", serializedResults ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
 
         List<LdbcQuery1Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
-
-            long friendId = ((Number) resultAsList.get( 0 )).longValue();
-            String friendLastName = (String) resultAsList.get( 1 );
-            int distanceFromPerson = (Integer) resultAsList.get( 2 );
-            long friendBirthday = ((Number) resultAsList.get( 3 )).longValue();
-            long friendCreationDate = ((Number) resultAsList.get( 4 )).longValue();
-            String friendGender = (String) resultAsList.get( 5 );
-            String friendBrowserUsed = (String) resultAsList.get( 6 );
-            String friendLocationIp = (String) resultAsList.get( 7 );
-            Iterable<String> friendEmails = (List<String>) resultAsList.get( 8 );
-            Iterable<String> friendLanguages = (List<String>) resultAsList.get( 9 );
-            String friendCityName = (String) resultAsList.get( 10 );
-            Iterable<List<Object>> friendUniversities = Lists.newArrayList( (List) resultAsList.get( 11 ) );
-            Iterable<List<Object>> friendCompanies = Lists.newArrayList( (List) resultAsList.get( 12 ) );
+            reader.beginArray();
+
+            long friendId = reader.nextLong();
+            String friendLastName = reader.nextString();
+            int distanceFromPerson = reader.nextInt();
+            long friendBirthday = reader.nextLong();
+            long friendCreationDate = reader.nextLong();
+            String friendGender = reader.nextString();
+            String friendBrowserUsed = reader.nextString();
+            String friendLocationIp = reader.nextString();
+            Iterable<String> friendEmails = reader.nextStringList();
+            Iterable<String> friendLanguages = reader.nextStringList();
+            String friendCityName = reader.nextString();
+            Iterable<List<Object>> friendUniversities = (List) reader.nextList();
+            Iterable<List<Object>> friendCompanies = (List) reader.nextList();
+            reader.endArray();
 
             results.add( new LdbcQuery1Result(
                     friendId,
@@ -148,6 +144,7 @@ public class LdbcQuery1 extends Operation<List<LdbcQuery1Result>>
                     friendUniversities,
                     friendCompanies ) );
         }
+        reader.endArray();
 
         return results;
     }
@@ -157,36 +154,29 @@ public class LdbcQuery1 extends Operation<List<LdbcQuery1Result>>
     {
         List<LdbcQuery1Result> results = (List<LdbcQuery1Result>) resultsObject;
 
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcQuery1Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.friendId() );
-            resultFields.add( result.friendLastName() );
-            resultFields.add( result.distanceFromPerson() );
-            resultFields.add( result.friendBirthday() );
-            resultFields.add( result.friendCreationDate() );
-            resultFields.add( result.friendGender() );
-            resultFields.add( result.friendBrowserUsed() );
-            resultFields.add( result.friendLocationIp() );
-            resultFields.add( result.friendEmails() );
-            resultFields.add( result.friendLanguages() );
-            resultFields.add( result.friendCityName() );
-            resultFields.add( result.friendUniversities() );
-            resultFields.add( result.friendCompanies() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.friendId() );
+            writer.write( result.friendLastName() );
+            writer.write( result.distanceFromPerson() );
+            writer.write( result.friendBirthday() );
+            writer.write( result.friendCreationDate() );
+            writer.write( result.friendGender() );
+            writer.write( result.friendBrowserUsed() );
+            writer.write( result.friendLocationIp() );
+            writer.write( result.friendEmails() );
+            writer.write( result.friendLanguages() );
+            writer.write( result.friendCityName() );
+            writer.write( result.friendUniversities() );
+            writer.write( result.friendCompanies() );
+            writer.endArray();
         }
 
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
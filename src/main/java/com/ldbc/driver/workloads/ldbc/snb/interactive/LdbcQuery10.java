@@ -1,31 +1,26 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery10 extends Operation<List<LdbcQuery10Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 10;
     public static final int DEFAULT_LIMIT = 10;
     public static final String PERSON_ID = "personId";
     public static final String MONTH = "month";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final int month;
-    private final int limit;
+    private long personId;
+    private int month;
+    private int limit;
 
     public LdbcQuery10( long personId, int month, int limit )
     {
@@ -34,6 +29,17 @@ public class LdbcQuery10 extends Operation<List<LdbcQuery10Result>>
         this.limit = limit;
     }
 
+    LdbcQuery10()
+    {
+    }
+
+    void init( long personId, int month, int limit )
+    {
+        this.personId = personId;
+        this.month = month;
+        this.limit = limit;
+    }
+
     public long personId()
     {
         return personId;
@@ -101,29 +107,20 @@ public class LdbcQuery10 extends Operation<List<LdbcQuery10Result>>
     @Override
     public List<LdbcQuery10Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
 
         List<LdbcQuery10Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            int commonInterestScore = ((Number) resultAsList.get( 3 )).intValue();
-            String personGender = (String) resultAsList.get( 4 );
-            String personCityName = (String) resultAsList.get( 5 );
+            reader.beginArray();
+            long personId = reader.nextLong();
+            String personFirstName = reader.nextString();
+            String personLastName = reader.nextString();
+            int commonInterestScore = reader.nextInt();
+            String personGender = reader.nextString();
+            String personCityName = reader.nextString();
+            reader.endArray();
 
             results.add( new LdbcQuery10Result(
                     personId,
@@ -134,6 +131,7 @@ public class LdbcQuery10 extends Operation<List<LdbcQuery10Result>>
                     personCityName
             ) );
         }
+        reader.endArray();
 
         return results;
     }
@@ -142,29 +140,22 @@ public class LdbcQuery10 extends Operation<List<LdbcQuery10Result>>
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcQuery10Result> results = (List<LdbcQuery10Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcQuery10Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.commonInterestScore() );
-            resultFields.add( result.personGender() );
-            resultFields.add( result.personCityName() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.personId() );
+            writer.write( result.personFirstName() );
+            writer.write( result.personLastName() );
+            writer.write( result.commonInterestScore() );
+            writer.write( result.personGender() );
+            writer.write( result.personCityName() );
+            writer.endArray();
         }
 
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -1,22 +1,17 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 11;
     public static final int DEFAULT_LIMIT = 10;
     public static final String PERSON_ID = "personId";
@@ -24,10 +19,10 @@ public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
     public static final String WORK_FROM_YEAR = "workFromYear";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final String countryName;
-    private final int workFromYear;
-    private final int limit;
+    private long personId;
+    private String countryName;
+    private int workFromYear;
+    private int limit;
 
     public LdbcQuery11( long personId, String countryName, int workFromYear, int limit )
     {
@@ -37,6 +32,18 @@ public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
         this.limit = limit;
     }
 
+    LdbcQuery11()
+    {
+    }
+
+    void init( long personId, String countryName, int workFromYear, int limit )
+    {
+        this.personId = personId;
+        this.countryName = countryName;
+        this.workFromYear = workFromYear;
+        this.limit = limit;
+    }
+
     public long personId()
     {
         return personId;
@@ -113,28 +120,19 @@ public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
     @Override
     public List<LdbcQuery11Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
 
         List<LdbcQuery11Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            String organizationName = (String) resultAsList.get( 3 );
-            int organizationWorkFromYear = ((Number) resultAsList.get( 4 )).intValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            String personFirstName = reader.nextString();
+            String personLastName = reader.nextString();
+            String organizationName = reader.nextString();
+            int organizationWorkFromYear = reader.nextInt();
+            reader.endArray();
 
             results.add( new LdbcQuery11Result(
                     personId,
@@ -144,6 +142,7 @@ public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
                     organizationWorkFromYear
             ) );
         }
+        reader.endArray();
 
         return results;
     }
@@ -152,28 +151,21 @@ public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcQuery11Result> results = (List<LdbcQuery11Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcQuery11Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.organizationName() );
-            resultFields.add( result.organizationWorkFromYear() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.personId() );
+            writer.write( result.personFirstName() );
+            writer.write( result.personLastName() );
+            writer.write( result.organizationName() );
+            writer.write( result.organizationWorkFromYear() );
+            writer.endArray();
         }
 
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
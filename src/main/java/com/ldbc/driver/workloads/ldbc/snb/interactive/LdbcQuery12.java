@@ -1,31 +1,26 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery12 extends Operation<List<LdbcQuery12Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 12;
     public static final int DEFAULT_LIMIT = 20;
     public static final String PERSON_ID = "personId";
     public static final String TAG_CLASS_NAME = "tagClassName";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final String tagClassName;
-    private final int limit;
+    private long personId;
+    private String tagClassName;
+    private int limit;
 
     public LdbcQuery12( long personId, String tagClassName, int limit )
     {
@@ -34,6 +29,17 @@ public class LdbcQuery12 extends Operation<List<LdbcQuery12Result>>
         this.limit = limit;
     }
 
+    LdbcQuery12()
+    {
+    }
+
+    void init( long personId, String tagClassName, int limit )
+    {
+        this.personId = personId;
+        this.tagClassName = tagClassName;
+        this.limit = limit;
+    }
+
     public long personId()
     {
         return personId;
@@ -100,28 +106,19 @@ public class LdbcQuery12 extends Operation<List<LdbcQuery12Result>>
     @Override
     public List<LdbcQuery12Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
 
         List<LdbcQuery12Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            Iterable<String> tagNames = (List<String>) resultAsList.get( 3 );
-            int replyCount = ((Number) resultAsList.get( 4 )).intValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            String personFirstName = reader.nextString();
+            String personLastName = reader.nextString();
+            Iterable<String> tagNames = reader.nextStringList();
+            int replyCount = reader.nextInt();
+            reader.endArray();
 
             results.add( new LdbcQuery12Result(
                     personId,
@@ -131,6 +128,7 @@ public class LdbcQuery12 extends Operation<List<LdbcQuery12Result>>
                     replyCount
             ) );
         }
+        reader.endArray();
 
         return results;
     }
@@ -139,28 +137,21 @@ public class LdbcQuery12 extends Operation<List<LdbcQuery12Result>>
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcQuery12Result> results = (List<LdbcQuery12Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcQuery12Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.tagNames() );
-            resultFields.add( result.replyCount() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.personId() );
+            writer.write( result.personFirstName() );
+            writer.write( result.personLastName() );
+            writer.write( result.tagNames() );
+            writer.write( result.replyCount() );
+            writer.endArray();
         }
 
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
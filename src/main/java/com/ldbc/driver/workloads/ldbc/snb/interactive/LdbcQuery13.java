@@ -1,28 +1,21 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery13 extends Operation<LdbcQuery13Result>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 13;
     public static final String PERSON1_ID = "person1Id";
     public static final String PERSON2_ID = "person2Id";
 
-    private final long person1Id;
-    private final long person2Id;
+    private long person1Id;
+    private long person2Id;
 
     public LdbcQuery13( long person1Id, long person2Id )
     {
@@ -30,6 +23,16 @@ public class LdbcQuery13 extends Operation<LdbcQuery13Result>
         this.person2Id = person2Id;
     }
 
+    LdbcQuery13()
+    {
+    }
+
+    void init( long person1Id, long person2Id )
+    {
+        this.person1Id = person1Id;
+        this.person2Id = person2Id;
+    }
+
     public long person1Id()
     {
         return person1Id;
@@ -86,20 +89,10 @@ public class LdbcQuery13 extends Operation<LdbcQuery13Result>
     @Override
     public LdbcQuery13Result marshalResult( String serializedResult ) throws SerializingMarshallingException
     {
-        List<Object> resultAsList;
-        try
-        {
-            resultAsList = OBJECT_MAPPER.readValue( serializedResult, new TypeReference<List<Object>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResult ), e );
-        }
-
-        int shortestPathLength = ((Number) resultAsList.get( 0 )).intValue();
+        JsonArrayReader reader = new JsonArrayReader( serializedResult );
+        reader.beginArray();
+        int shortestPathLength = reader.nextInt();
+        reader.endArray();
         return new LdbcQuery13Result( shortestPathLength );
     }
 
@@ -107,18 +100,11 @@ public class LdbcQuery13 extends Operation<LdbcQuery13Result>
     public String serializeResult( Object resultObject ) throws SerializingMarshallingException
     {
         LdbcQuery13Result result = (LdbcQuery13Result) resultObject;
-        List<Object> resultFields = new ArrayList<>();
-        resultFields.add( result.shortestPathLength() );
-
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", result.toString() ), e );
-        }
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
+        writer.write( result.shortestPathLength() );
+
+        return writer.endArray().toJson();
     }
 
     @Override
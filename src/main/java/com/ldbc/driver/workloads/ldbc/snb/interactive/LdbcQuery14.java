@@ -1,30 +1,23 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Iterables;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery14 extends Operation<List<LdbcQuery14Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 14;
     public static final String PERSON1_ID = "person1Id";
     public static final String PERSON2_ID = "person2Id";
 
-    private final long person1Id;
-    private final long person2Id;
+    private long person1Id;
+    private long person2Id;
 
     public LdbcQuery14( long person1Id, long person2Id )
     {
@@ -32,6 +25,16 @@ public class LdbcQuery14 extends Operation<List<LdbcQuery14Result>>
         this.person2Id = person2Id;
     }
 
+    LdbcQuery14()
+    {
+    }
+
+    void init( long person1Id, long person2Id )
+    {
+        this.person1Id = person1Id;
+        this.person2Id = person2Id;
+    }
+
     public long person1Id()
     {
         return person1Id;
@@ -88,36 +91,16 @@ public class LdbcQuery14 extends Operation<List<LdbcQuery14Result>>
     @Override
     public List<LdbcQuery14Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue(
-                    serializedResults,
-                    new TypeReference<List<List<Object>>>()
-                    {
-                    }
-            );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
 
         List<LdbcQuery14Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
-            Iterable<Long> personsIdsInPath =
-                    Iterables.transform( (List<Number>) resultAsList.get( 0 ), new Function<Number,Long>()
-                    {
-                        @Override
-                        public Long apply( Number number )
-                        {
-                            return number.longValue();
-                        }
-                    } );
-            double pathWeight = ((Number) resultAsList.get( 1 )).doubleValue();
+            reader.beginArray();
+            Iterable<Long> personsIdsInPath = reader.nextLongList();
+            double pathWeight = reader.nextDouble();
+            reader.endArray();
 
             results.add(
                     new LdbcQuery14Result(
@@ -126,6 +109,7 @@ public class LdbcQuery14 extends Operation<List<LdbcQuery14Result>>
                     )
             );
         }
+        reader.endArray();
         return results;
     }
 
@@ -133,25 +117,18 @@ public class LdbcQuery14 extends Operation<List<LdbcQuery14Result>>
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcQuery14Result> results = (List<LdbcQuery14Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcQuery14Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personsIdsInPath() );
-            resultFields.add( result.pathWeight() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.personsIdsInPath() );
+            writer.write( result.pathWeight() );
+            writer.endArray();
         }
 
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -1,23 +1,18 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 3;
     public static final int DEFAULT_LIMIT = 20;
     public static final String PERSON_ID = "personId";
@@ -27,12 +22,12 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
     public static final String DURATION_DAYS= "durationDays";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final String countryXName;
-    private final String countryYName;
-    private final Date startDate;
-    private final int durationDays;
-    private final int limit;
+    private long personId;
+    private String countryXName;
+    private String countryYName;
+    private Date startDate;
+    private int durationDays;
+    private int limit;
 
     public LdbcQuery3( long personId, String countryXName, String countryYName, Date startDate, int durationDays,
             int limit )
@@ -45,6 +40,21 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
         this.limit = limit;
     }
 
+    LdbcQuery3()
+    {
+    }
+
+    void init( long personId, String countryXName, String countryYName, Date startDate, int durationDays,
+            int limit )
+    {
+        this.personId = personId;
+        this.countryXName = countryXName;
+        this.countryYName = countryYName;
+        this.startDate = startDate;
+        this.durationDays = durationDays;
+        this.limit = limit;
+    }
+
     public long personId()
     {
         return personId;
@@ -141,29 +151,20 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
     @Override
     public List<LdbcQuery3Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
 
         List<LdbcQuery3Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            long xCount = ((Number) resultAsList.get( 3 )).longValue();
-            long yCount = ((Number) resultAsList.get( 4 )).longValue();
-            long count = ((Number) resultAsList.get( 5 )).longValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            String personFirstName = reader.nextString();
+            String personLastName = reader.nextString();
+            long xCount = reader.nextLong();
+            long yCount = reader.nextLong();
+            long count = reader.nextLong();
+            reader.endArray();
 
             results.add( new LdbcQuery3Result(
                     personId,
@@ -174,6 +175,7 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
                     count
             ) );
         }
+        reader.endArray();
 
         return results;
     }
@@ -182,29 +184,22 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcQuery3Result> results = (List<LdbcQuery3Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcQuery3Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.xCount() );
-            resultFields.add( result.yCount() );
-            resultFields.add( result.count() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.personId() );
+            writer.write( result.personFirstName() );
+            writer.write( result.personLastName() );
+            writer.write( result.xCount() );
+            writer.write( result.yCount() );
+            writer.write( result.count() );
+            writer.endArray();
         }
 
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
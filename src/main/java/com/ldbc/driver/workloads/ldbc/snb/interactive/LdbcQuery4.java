@@ -1,23 +1,18 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 4;
     public static final int DEFAULT_LIMIT = 10;
     public static final String PERSON_ID = "personId";
@@ -25,10 +20,10 @@ public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
     public static final String DURATION_DAYS = "durationDays";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final Date startDate;
-    private final int durationDays;
-    private final int limit;
+    private long personId;
+    private Date startDate;
+    private int durationDays;
+    private int limit;
 
     public LdbcQuery4( long personId, Date startDate, int durationDays, int limit )
     {
@@ -38,6 +33,18 @@ public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
         this.limit = limit;
     }
 
+    LdbcQuery4()
+    {
+    }
+
+    void init( long personId, Date startDate, int durationDays, int limit )
+    {
+        this.personId = personId;
+        this.startDate = startDate;
+        this.durationDays = durationDays;
+        this.limit = limit;
+    }
+
     public long personId()
     {
         return personId;
@@ -114,31 +121,23 @@ public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
     @Override
     public List<LdbcQuery4Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
 
         List<LdbcQuery4Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
-            String tagName = (String) resultAsList.get( 0 );
-            int tagCount = ((Number) resultAsList.get( 1 )).intValue();
+            reader.beginArray();
+            String tagName = reader.nextString();
+            int tagCount = reader.nextInt();
+            reader.endArray();
 
             results.add( new LdbcQuery4Result(
                     tagName,
                     tagCount
             ) );
         }
+        reader.endArray();
 
         return results;
     }
@@ -147,25 +146,18 @@ public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcQuery4Result> results = (List<LdbcQuery4Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcQuery4Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.tagName() );
-            resultFields.add( result.postCount() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.tagName() );
+            writer.write( result.postCount() );
+            writer.endArray();
         }
 
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -1,32 +1,27 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 5;
     public static final int DEFAULT_LIMIT = 20;
     public static final String PERSON_ID = "personId";
     public static final String MIN_DATE = "minDate";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final Date minDate;
-    private final int limit;
+    private long personId;
+    private Date minDate;
+    private int limit;
 
     public LdbcQuery5( long personId, Date minDate, int limit )
     {
@@ -36,6 +31,17 @@ public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
         this.limit = limit;
     }
 
+    LdbcQuery5()
+    {
+    }
+
+    void init( long personId, Date minDate, int limit )
+    {
+        this.personId = personId;
+        this.minDate = minDate;
+        this.limit = limit;
+    }
+
     public long personId()
     {
         return personId;
@@ -102,31 +108,23 @@ public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
     @Override
     public List<LdbcQuery5Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
 
         List<LdbcQuery5Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
-            String forumTitle = (String) resultAsList.get( 0 );
-            int postCount = ((Number) resultAsList.get( 1 )).intValue();
+            reader.beginArray();
+            String forumTitle = reader.nextString();
+            int postCount = reader.nextInt();
+            reader.endArray();
 
             results.add( new LdbcQuery5Result(
                     forumTitle,
                     postCount
             ) );
         }
+        reader.endArray();
 
         return results;
     }
@@ -135,25 +133,18 @@ public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcQuery5Result> results = (List<LdbcQuery5Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcQuery5Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.forumTitle() );
-            resultFields.add( result.postCount() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.forumTitle() );
+            writer.write( result.postCount() );
+            writer.endArray();
         }
 
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -1,31 +1,26 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery6 extends Operation<List<LdbcQuery6Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 6;
     public static final int DEFAULT_LIMIT = 10;
     public static final String PERSON_ID = "personId";
     public static final String TAG_NAME = "tagName";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final String tagName;
-    private final int limit;
+    private long personId;
+    private String tagName;
+    private int limit;
 
     public LdbcQuery6( long personId, String tagName, int limit )
     {
@@ -34,6 +29,17 @@ public class LdbcQuery6 extends Operation<List<LdbcQuery6Result>>
         this.limit = limit;
     }
 
+    LdbcQuery6()
+    {
+    }
+
+    void init( long personId, String tagName, int limit )
+    {
+        this.personId = personId;
+        this.tagName = tagName;
+        this.limit = limit;
+    }
+
     public long personId()
     {
         return personId;
@@ -101,31 +107,23 @@ public class LdbcQuery6 extends Operation<List<LdbcQuery6Result>>
     @Override
     public List<LdbcQuery6Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
 
         List<LdbcQuery6Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
-            String tagName = (String) resultAsList.get( 0 );
-            int tagCount = ((Number) resultAsList.get( 1 )).intValue();
+            reader.beginArray();
+            String tagName = reader.nextString();
+            int tagCount = reader.nextInt();
+            reader.endArray();
 
             results.add( new LdbcQuery6Result(
                     tagName,
                     tagCount
             ) );
         }
+        reader.endArray();
 
         return results;
     }
@@ -134,25 +132,18 @@ public class LdbcQuery6 extends Operation<List<LdbcQuery6Result>>
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcQuery6Result> results = (List<LdbcQuery6Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcQuery6Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.tagName() );
-            resultFields.add( result.postCount() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.tagName() );
+            writer.write( result.postCount() );
+            writer.endArray();
         }
 
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
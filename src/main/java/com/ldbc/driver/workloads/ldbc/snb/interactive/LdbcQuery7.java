@@ -1,29 +1,24 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery7 extends Operation<List<LdbcQuery7Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 7;
     public static final int DEFAULT_LIMIT = 20;
     public static final String PERSON_ID = "personId";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final int limit;
+    private long personId;
+    private int limit;
 
     public LdbcQuery7( long personId, int limit )
     {
@@ -32,6 +27,16 @@ public class LdbcQuery7 extends Operation<List<LdbcQuery7Result>>
         this.limit = limit;
     }
 
+    LdbcQuery7()
+    {
+    }
+
+    void init( long personId, int limit )
+    {
+        this.personId = personId;
+        this.limit = limit;
+    }
+
     public long personId()
     {
         return personId;
@@ -88,31 +93,22 @@ public class LdbcQuery7 extends Operation<List<LdbcQuery7Result>>
     @Override
     public List<LdbcQuery7Result> marshalResult( String serializedResult ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResult, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error parsing serialized result\n%s", serializedResult ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResult );
 
         List<LdbcQuery7Result> result = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> row = resultsAsList.get( i );
-            long personId = ((Number) row.get( 0 )).longValue();
-            String personFirstName = (String) row.get( 1 );
-            String personLastName = (String) row.get( 2 );
-            long likeCreationDate = ((Number) row.get( 3 )).longValue();
-            long messageId = ((Number) row.get( 4 )).longValue();
-            String messageContent = (String) row.get( 5 );
-            int minutesLatency = ((Number) row.get( 6 )).intValue();
-            boolean isNew = (Boolean) row.get( 7 );
+            reader.beginArray();
+            long personId = reader.nextLong();
+            String personFirstName = reader.nextString();
+            String personLastName = reader.nextString();
+            long likeCreationDate = reader.nextLong();
+            long messageId = reader.nextLong();
+            String messageContent = reader.nextString();
+            int minutesLatency = reader.nextInt();
+            boolean isNew = reader.nextBoolean();
+            reader.endArray();
 
             result.add( new LdbcQuery7Result(
                     personId,
@@ -125,6 +121,7 @@ public class LdbcQuery7 extends Operation<List<LdbcQuery7Result>>
                     isNew
             ) );
         }
+        reader.endArray();
 
         return result;
     }
@@ -133,31 +130,24 @@ public class LdbcQuery7 extends Operation<List<LdbcQuery7Result>>
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcQuery7Result> results = (List<LdbcQuery7Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcQuery7Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.likeCreationDate() );
-            resultFields.add( result.messageId() );
-            resultFields.add( result.messageContent() );
-            resultFields.add( result.minutesLatency() );
-            resultFields.add( result.isNew() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.personId() );
+            writer.write( result.personFirstName() );
+            writer.write( result.personLastName() );
+            writer.write( result.likeCreationDate() );
+            writer.write( result.messageId() );
+            writer.write( result.messageContent() );
+            writer.write( result.minutesLatency() );
+            writer.write( result.isNew() );
+            writer.endArray();
         }
 
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -1,29 +1,24 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery8 extends Operation<List<LdbcQuery8Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 8;
     public static final int DEFAULT_LIMIT = 20;
     public static final String PERSON_ID = "personId";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final int limit;
+    private long personId;
+    private int limit;
 
     public LdbcQuery8( long personId, int limit )
     {
@@ -32,6 +27,16 @@ public class LdbcQuery8 extends Operation<List<LdbcQuery8Result>>
         this.limit = limit;
     }
 
+    LdbcQuery8()
+    {
+    }
+
+    void init( long personId, int limit )
+    {
+        this.personId = personId;
+        this.limit = limit;
+    }
+
     public long personId()
     {
         return personId;
@@ -89,29 +94,20 @@ public class LdbcQuery8 extends Operation<List<LdbcQuery8Result>>
     @Override
     public List<LdbcQuery8Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
 
         List<LdbcQuery8Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            long commentCreationDate = ((Number) resultAsList.get( 3 )).longValue();
-            long commentId = ((Number) resultAsList.get( 4 )).longValue();
-            String commentContent = (String) resultAsList.get( 5 );
+            reader.beginArray();
+            long personId = reader.nextLong();
+            String personFirstName = reader.nextString();
+            String personLastName = reader.nextString();
+            long commentCreationDate = reader.nextLong();
+            long commentId = reader.nextLong();
+            String commentContent = reader.nextString();
+            reader.endArray();
 
             results.add( new LdbcQuery8Result(
                     personId,
@@ -122,6 +118,7 @@ public class LdbcQuery8 extends Operation<List<LdbcQuery8Result>>
                     commentContent
             ) );
         }
+        reader.endArray();
 
         return results;
     }
@@ -130,29 +127,22 @@ public class LdbcQuery8 extends Operation<List<LdbcQuery8Result>>
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcQuery8Result> results = (List<LdbcQuery8Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcQuery8Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.commentCreationDate() );
-            resultFields.add( result.commentId() );
-            resultFields.add( result.commentContent() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.personId() );
+            writer.write( result.personFirstName() );
+            writer.write( result.personLastName() );
+            writer.write( result.commentCreationDate() );
+            writer.write( result.commentId() );
+            writer.write( result.commentContent() );
+            writer.endArray();
         }
 
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
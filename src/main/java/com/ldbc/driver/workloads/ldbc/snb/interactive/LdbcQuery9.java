@@ -1,32 +1,27 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcQuery9 extends Operation<List<LdbcQuery9Result>>
 {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     public static final int TYPE = 9;
     public static final int DEFAULT_LIMIT = 20;
     public static final String PERSON_ID = "personId";
     public static final String MAX_DATE = "maxDate";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final Date maxDate;
-    private final int limit;
+    private long personId;
+    private Date maxDate;
+    private int limit;
 
     public LdbcQuery9( long personId, Date maxDate, int limit )
     {
@@ -35,6 +30,17 @@ public class LdbcQuery9 extends Operation<List<LdbcQuery9Result>>
         this.limit = limit;
     }
 
+    LdbcQuery9()
+    {
+    }
+
+    void init( long personId, Date maxDate, int limit )
+    {
+        this.personId = personId;
+        this.maxDate = maxDate;
+        this.limit = limit;
+    }
+
     public long personId()
     {
         return personId;
@@ -101,29 +107,20 @@ public class LdbcQuery9 extends Operation<List<LdbcQuery9Result>>
     @Override
     public List<LdbcQuery9Result> marshalResult( String serializedResults ) throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = OBJECT_MAPPER.readValue( serializedResults, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedResults ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResults );
 
         List<LdbcQuery9Result> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
-            long personId = ((Number) resultAsList.get( 0 )).longValue();
-            String personFirstName = (String) resultAsList.get( 1 );
-            String personLastName = (String) resultAsList.get( 2 );
-            long messageId = ((Number) resultAsList.get( 3 )).longValue();
-            String messageContent = (String) resultAsList.get( 4 );
-            long messageCreationDate = ((Number) resultAsList.get( 5 )).longValue();
+            reader.beginArray();
+            long personId = reader.nextLong();
+            String personFirstName = reader.nextString();
+            String personLastName = reader.nextString();
+            long messageId = reader.nextLong();
+            String messageContent = reader.nextString();
+            long messageCreationDate = reader.nextLong();
+            reader.endArray();
 
             results.add( new LdbcQuery9Result(
                     personId,
@@ -134,6 +131,7 @@ public class LdbcQuery9 extends Operation<List<LdbcQuery9Result>>
                     messageCreationDate
             ) );
         }
+        reader.endArray();
 
         return results;
     }
@@ -142,29 +140,22 @@ public class LdbcQuery9 extends Operation<List<LdbcQuery9Result>>
     public String serializeResult( Object resultsObject ) throws SerializingMarshallingException
     {
         List<LdbcQuery9Result> results = (List<LdbcQuery9Result>) resultsObject;
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcQuery9Result result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.personFirstName() );
-            resultFields.add( result.personLastName() );
-            resultFields.add( result.messageId() );
-            resultFields.add( result.messageContent() );
-            resultFields.add( result.messageCreationDate() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.personId() );
+            writer.write( result.personFirstName() );
+            writer.write( result.personLastName() );
+            writer.write( result.messageId() );
+            writer.write( result.messageContent() );
+            writer.write( result.messageCreationDate() );
+            writer.endArray();
         }
 
-        try
-        {
-            return OBJECT_MAPPER.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while trying to serialize result\n%s", results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -1,21 +1,15 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcShortQuery1PersonProfile extends Operation<LdbcShortQuery1PersonProfileResult>
 {
-    private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final int TYPE = 101;
     public static final String PERSON_ID = "personId";
 
@@ -43,27 +37,17 @@ public class LdbcShortQuery1PersonProfile extends Operation<LdbcShortQuery1Perso
     public LdbcShortQuery1PersonProfileResult marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<Object> resultAsList;
-        try
-        {
-            resultAsList = objectMapper.readValue( serializedResult, new TypeReference<List<Object>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
-
-        String firstName = (String) resultAsList.get( 0 );
-        String lastName = (String) resultAsList.get( 1 );
-        long birthday = ((Number) resultAsList.get( 2 )).longValue();
-        String locationIp = (String) resultAsList.get( 3 );
-        String browserUsed = (String) resultAsList.get( 4 );
-        long cityId = ((Number) resultAsList.get( 5 )).longValue();
-        String gender = (String) resultAsList.get( 6 );
-        long creationDate = ((Number) resultAsList.get( 7 )).longValue();
+        JsonArrayReader reader = new JsonArrayReader( serializedResult );
+        reader.beginArray();
+        String firstName = reader.nextString();
+        String lastName = reader.nextString();
+        long birthday = reader.nextLong();
+        String locationIp = reader.nextString();
+        String browserUsed = reader.nextString();
+        long cityId = reader.nextLong();
+        String gender = reader.nextString();
+        long creationDate = reader.nextLong();
+        reader.endArray();
 
         return new LdbcShortQuery1PersonProfileResult(
                 firstName,
@@ -81,24 +65,17 @@ public class LdbcShortQuery1PersonProfile extends Operation<LdbcShortQuery1Perso
     public String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException
     {
         LdbcShortQuery1PersonProfileResult result = (LdbcShortQuery1PersonProfileResult) operationResultInstance;
-        List<Object> resultFields = new ArrayList<>();
-        resultFields.add( result.firstName() );
-        resultFields.add( result.lastName() );
-        resultFields.add( result.birthday() );
-        resultFields.add( result.locationIp() );
-        resultFields.add( result.browserUsed() );
-        resultFields.add( result.cityId() );
-        resultFields.add( result.gender() );
-        resultFields.add( result.creationDate() );
-        try
-        {
-            return objectMapper.writeValueAsString( resultFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    result.toString() ), e );
-        }
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
+        writer.write( result.firstName() );
+        writer.write( result.lastName() );
+        writer.write( result.birthday() );
+        writer.write( result.locationIp() );
+        writer.write( result.browserUsed() );
+        writer.write( result.cityId() );
+        writer.write( result.gender() );
+        writer.write( result.creationDate() );
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -1,23 +1,19 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcShortQuery2PersonPosts extends Operation<List<LdbcShortQuery2PersonPostsResult>>
 {
     public static final int TYPE = 102;
     public static final int DEFAULT_LIMIT = 10;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final String PERSON_ID = "personId";
     public static final String LIMIT = "limit";
 
@@ -52,31 +48,22 @@ public class LdbcShortQuery2PersonPosts extends Operation<List<LdbcShortQuery2Pe
     public List<LdbcShortQuery2PersonPostsResult> marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = objectMapper.readValue( serializedResult, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResult );
 
         List<LdbcShortQuery2PersonPostsResult> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
+            reader.beginArray();
 
-            long messageId = ((Number) resultAsList.get( 0 )).longValue();
-            String messageContent = (String) resultAsList.get( 1 );
-            long messageCreationDate = ((Number) resultAsList.get( 2 )).longValue();
-            long originalPostId = ((Number) resultAsList.get( 3 )).longValue();
-            long originalPostAuthorId = ((Number) resultAsList.get( 4 )).longValue();
-            String originalPostAuthorFirstName = (String) resultAsList.get( 5 );
-            String originalPostAuthorLastName = (String) resultAsList.get( 6 );
+            long messageId = reader.nextLong();
+            String messageContent = reader.nextString();
+            long messageCreationDate = reader.nextLong();
+            long originalPostId = reader.nextLong();
+            long originalPostAuthorId = reader.nextLong();
+            String originalPostAuthorFirstName = reader.nextString();
+            String originalPostAuthorLastName = reader.nextString();
+            reader.endArray();
 
             results.add(
                     new LdbcShortQuery2PersonPostsResult(
@@ -90,6 +77,7 @@ public class LdbcShortQuery2PersonPosts extends Operation<List<LdbcShortQuery2Pe
                     )
             );
         }
+        reader.endArray();
         return results;
     }
 
@@ -99,30 +87,23 @@ public class LdbcShortQuery2PersonPosts extends Operation<List<LdbcShortQuery2Pe
         List<LdbcShortQuery2PersonPostsResult> results =
                 (List<LdbcShortQuery2PersonPostsResult>) operationResultInstance;
 
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcShortQuery2PersonPostsResult result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.messageId() );
-            resultFields.add( result.messageContent() );
-            resultFields.add( result.messageCreationDate() );
-            resultFields.add( result.originalPostId() );
-            resultFields.add( result.originalPostAuthorId() );
-            resultFields.add( result.originalPostAuthorFirstName() );
-            resultFields.add( result.originalPostAuthorLastName() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.messageId() );
+            writer.write( result.messageContent() );
+            writer.write( result.messageCreationDate() );
+            writer.write( result.originalPostId() );
+            writer.write( result.originalPostAuthorId() );
+            writer.write( result.originalPostAuthorFirstName() );
+            writer.write( result.originalPostAuthorLastName() );
+            writer.endArray();
         }
 
-        try
-        {
-            return objectMapper.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
@@ -1,22 +1,18 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcShortQuery3PersonFriends extends Operation<List<LdbcShortQuery3PersonFriendsResult>>
 {
     public static final int TYPE = 103;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final String PERSON_ID = "personId";
 
     private final long personId;
@@ -42,28 +38,19 @@ public class LdbcShortQuery3PersonFriends extends Operation<List<LdbcShortQuery3
     public List<LdbcShortQuery3PersonFriendsResult> marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = objectMapper.readValue( serializedResult, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResult );
 
         List<LdbcShortQuery3PersonFriendsResult> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
+            reader.beginArray();
 
-            long friendId = ((Number) resultAsList.get( 0 )).longValue();
-            String firstName = (String) resultAsList.get( 1 );
-            String lastName = (String) resultAsList.get( 2 );
-            long friendshipCreationDate = ((Number) resultAsList.get( 3 )).longValue();
+            long friendId = reader.nextLong();
+            String firstName = reader.nextString();
+            String lastName = reader.nextString();
+            long friendshipCreationDate = reader.nextLong();
+            reader.endArray();
 
             results.add(
                     new LdbcShortQuery3PersonFriendsResult(
@@ -74,6 +61,7 @@ public class LdbcShortQuery3PersonFriends extends Operation<List<LdbcShortQuery3
                     )
             );
         }
+        reader.endArray();
         return results;
     }
 
@@ -83,27 +71,20 @@ public class LdbcShortQuery3PersonFriends extends Operation<List<LdbcShortQuery3
         List<LdbcShortQuery3PersonFriendsResult> results =
                 (List<LdbcShortQuery3PersonFriendsResult>) operationResultInstance;
 
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcShortQuery3PersonFriendsResult result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.personId() );
-            resultFields.add( result.firstName() );
-            resultFields.add( result.lastName() );
-            resultFields.add( result.friendshipCreationDate() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.personId() );
+            writer.write( result.firstName() );
+            writer.write( result.lastName() );
+            writer.write( result.friendshipCreationDate() );
+            writer.endArray();
         }
 
-        try
-        {
-            return objectMapper.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
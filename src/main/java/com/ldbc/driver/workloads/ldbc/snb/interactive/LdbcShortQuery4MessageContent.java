@@ -1,22 +1,16 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcShortQuery4MessageContent extends Operation<LdbcShortQuery4MessageContentResult>
 {
     public static final int TYPE = 104;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final String MESSAGE_ID = "messageId";
 
     private final long messageId;
@@ -42,21 +36,11 @@ public class LdbcShortQuery4MessageContent extends Operation<LdbcShortQuery4Mess
     public LdbcShortQuery4MessageContentResult marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<Object> resultAsList;
-        try
-        {
-            resultAsList = objectMapper.readValue( serializedResult, new TypeReference<List<Object>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
-
-        String marshaledMessageContent = (String) resultAsList.get( 0 );
-        long marshaledMessageCreationDate = ((Number) resultAsList.get( 1 )).longValue();
+        JsonArrayReader reader = new JsonArrayReader( serializedResult );
+        reader.beginArray();
+        String marshaledMessageContent = reader.nextString();
+        long marshaledMessageCreationDate = reader.nextLong();
+        reader.endArray();
 
         return new LdbcShortQuery4MessageContentResult(
                 marshaledMessageContent,
@@ -68,18 +52,11 @@ public class LdbcShortQuery4MessageContent extends Operation<LdbcShortQuery4Mess
     public String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException
     {
         LdbcShortQuery4MessageContentResult result = (LdbcShortQuery4MessageContentResult) operationResultInstance;
-        List<Object> resultFields = new ArrayList<>();
-        resultFields.add( result.messageContent() );
-        resultFields.add( result.messageCreationDate() );
-        try
-        {
-            return objectMapper.writeValueAsString( resultFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    result.toString() ), e );
-        }
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
+        writer.write( result.messageContent() );
+        writer.write( result.messageCreationDate() );
+        return writer.endArray().toJson();
     }
 
     @Override
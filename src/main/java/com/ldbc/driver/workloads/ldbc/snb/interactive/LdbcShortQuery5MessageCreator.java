@@ -1,22 +1,16 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcShortQuery5MessageCreator extends Operation<LdbcShortQuery5MessageCreatorResult>
 {
     public static final int TYPE = 105;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final String MESSAGE_ID = "messageId";
 
     private final long messageId;
@@ -42,22 +36,12 @@ public class LdbcShortQuery5MessageCreator extends Operation<LdbcShortQuery5Mess
     public LdbcShortQuery5MessageCreatorResult marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<Object> resultAsList;
-        try
-        {
-            resultAsList = objectMapper.readValue( serializedResult, new TypeReference<List<Object>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
-
-        long personId = ((Number) resultAsList.get( 0 )).longValue();
-        String firstName = (String) resultAsList.get( 1 );
-        String lastName = (String) resultAsList.get( 2 );
+        JsonArrayReader reader = new JsonArrayReader( serializedResult );
+        reader.beginArray();
+        long personId = reader.nextLong();
+        String firstName = reader.nextString();
+        String lastName = reader.nextString();
+        reader.endArray();
 
         return new LdbcShortQuery5MessageCreatorResult(
                 personId,
@@ -70,20 +54,13 @@ public class LdbcShortQuery5MessageCreator extends Operation<LdbcShortQuery5Mess
     public String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException
     {
         LdbcShortQuery5MessageCreatorResult result = (LdbcShortQuery5MessageCreatorResult) operationResultInstance;
-        List<Object> resultFields = new ArrayList<>();
-        resultFields.add( result.personId() );
-        resultFields.add( result.firstName() );
-        resultFields.add( result.lastName() );
-
-        try
-        {
-            return objectMapper.writeValueAsString( resultFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    result.toString() ), e );
-        }
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
+        writer.write( result.personId() );
+        writer.write( result.firstName() );
+        writer.write( result.lastName() );
+
+        return writer.endArray().toJson();
     }
 
     @Override
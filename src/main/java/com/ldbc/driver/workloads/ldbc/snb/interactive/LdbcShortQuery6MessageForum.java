@@ -1,22 +1,16 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcShortQuery6MessageForum extends Operation<LdbcShortQuery6MessageForumResult>
 {
     public static final int TYPE = 106;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final String MESSAGE_ID = "messageId";
 
     private final long messageId;
@@ -42,24 +36,14 @@ public class LdbcShortQuery6MessageForum extends Operation<LdbcShortQuery6Messag
     public LdbcShortQuery6MessageForumResult marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<Object> resultAsList;
-        try
-        {
-            resultAsList = objectMapper.readValue( serializedResult, new TypeReference<List<Object>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
-
-        long forumId = ((Number) resultAsList.get( 0 )).longValue();
-        String forumTitle = (String) resultAsList.get( 1 );
-        long moderatorId = ((Number) resultAsList.get( 2 )).longValue();
-        String moderatorFirstName = (String) resultAsList.get( 3 );
-        String moderatorLastName = (String) resultAsList.get( 4 );
+        JsonArrayReader reader = new JsonArrayReader( serializedResult );
+        reader.beginArray();
+        long forumId = reader.nextLong();
+        String forumTitle = reader.nextString();
+        long moderatorId = reader.nextLong();
+        String moderatorFirstName = reader.nextString();
+        String moderatorLastName = reader.nextString();
+        reader.endArray();
 
         return new LdbcShortQuery6MessageForumResult(
                 forumId,
@@ -74,22 +58,15 @@ public class LdbcShortQuery6MessageForum extends Operation<LdbcShortQuery6Messag
     public String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException
     {
         LdbcShortQuery6MessageForumResult result = (LdbcShortQuery6MessageForumResult) operationResultInstance;
-        List<Object> resultFields = new ArrayList<>();
-        resultFields.add( result.forumId() );
-        resultFields.add( result.forumTitle() );
-        resultFields.add( result.moderatorId() );
-        resultFields.add( result.moderatorFirstName() );
-        resultFields.add( result.moderatorLastName() );
-
-        try
-        {
-            return objectMapper.writeValueAsString( resultFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    result.toString() ), e );
-        }
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
+        writer.write( result.forumId() );
+        writer.write( result.forumTitle() );
+        writer.write( result.moderatorId() );
+        writer.write( result.moderatorFirstName() );
+        writer.write( result.moderatorLastName() );
+
+        return writer.endArray().toJson();
     }
 
     @Override
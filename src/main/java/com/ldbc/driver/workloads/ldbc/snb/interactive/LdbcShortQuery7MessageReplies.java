@@ -1,22 +1,18 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-
 public class LdbcShortQuery7MessageReplies extends Operation<List<LdbcShortQuery7MessageRepliesResult>>
 {
     public static final int TYPE = 107;
-    private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final String MESSAGE_ID = "messageId";
 
     private final long messageId;
@@ -42,31 +38,22 @@ public class LdbcShortQuery7MessageReplies extends Operation<List<LdbcShortQuery
     public List<LdbcShortQuery7MessageRepliesResult> marshalResult( String serializedResult )
             throws SerializingMarshallingException
     {
-        List<List<Object>> resultsAsList;
-        try
-        {
-            resultsAsList = objectMapper.readValue( serializedResult, new TypeReference<List<List<Object>>>()
-            {
-            } );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while parsing serialized results\n%s",
-                    serializedResult ), e );
-        }
+        JsonArrayReader reader = new JsonArrayReader( serializedResult );
 
         List<LdbcShortQuery7MessageRepliesResult> results = new ArrayList<>();
-        for ( int i = 0; i < resultsAsList.size(); i++ )
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            List<Object> resultAsList = resultsAsList.get( i );
+            reader.beginArray();
 
-            long commentId = ((Number) resultAsList.get( 0 )).longValue();
-            String commentContent = (String) resultAsList.get( 1 );
-            long commentCreationDate = ((Number) resultAsList.get( 2 )).longValue();
-            long replyAuthorId = ((Number) resultAsList.get( 3 )).longValue();
-            String replyAuthorFirstName = (String) resultAsList.get( 4 );
-            String replyAuthorLastName = (String) resultAsList.get( 5 );
-            boolean isReplyAuthorKnowsOriginalMessageAuthor = (Boolean) resultAsList.get( 6 );
+            long commentId = reader.nextLong();
+            String commentContent = reader.nextString();
+            long commentCreationDate = reader.nextLong();
+            long replyAuthorId = reader.nextLong();
+            String replyAuthorFirstName = reader.nextString();
+            String replyAuthorLastName = reader.nextString();
+            boolean isReplyAuthorKnowsOriginalMessageAuthor = reader.nextBoolean();
+            reader.endArray();
 
             results.add(
                     new LdbcShortQuery7MessageRepliesResult(
@@ -80,6 +67,7 @@ public class LdbcShortQuery7MessageReplies extends Operation<List<LdbcShortQuery
                     )
             );
         }
+        reader.endArray();
         return results;
     }
 
@@ -89,30 +77,23 @@ public class LdbcShortQuery7MessageReplies extends Operation<List<LdbcShortQuery
         List<LdbcShortQuery7MessageRepliesResult> results =
                 (List<LdbcShortQuery7MessageRepliesResult>) operationResultInstance;
 
-        List<List<Object>> resultsFields = new ArrayList<>();
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
         for ( int i = 0; i < results.size(); i++ )
         {
             LdbcShortQuery7MessageRepliesResult result = results.get( i );
-            List<Object> resultFields = new ArrayList<>();
-            resultFields.add( result.commentId() );
-            resultFields.add( result.commentContent() );
-            resultFields.add( result.commentCreationDate() );
-            resultFields.add( result.replyAuthorId() );
-            resultFields.add( result.replyAuthorFirstName() );
-            resultFields.add( result.replyAuthorLastName() );
-            resultFields.add( result.isReplyAuthorKnowsOriginalMessageAuthor() );
-            resultsFields.add( resultFields );
+            writer.beginArray();
+            writer.write( result.commentId() );
+            writer.write( result.commentContent() );
+            writer.write( result.commentCreationDate() );
+            writer.write( result.replyAuthorId() );
+            writer.write( result.replyAuthorFirstName() );
+            writer.write( result.replyAuthorLastName() );
+            writer.write( result.isReplyAuthorKnowsOriginalMessageAuthor() );
+            writer.endArray();
         }
 
-        try
-        {
-            return objectMapper.writeValueAsString( resultsFields );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException( format( "Error while trying to serialize result\n%s",
-                    results.toString() ), e );
-        }
+        return writer.endArray().toJson();
     }
 
     @Override
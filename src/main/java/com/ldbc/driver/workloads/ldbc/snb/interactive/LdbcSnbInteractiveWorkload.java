@@ -1,17 +1,14 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Charsets;
-import com.google.common.base.Function;
 import com.google.common.base.Predicate;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.PeekingIterator;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
@@ -20,6 +17,7 @@ import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.MappedByteBufferCharSeeker;
 import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
@@ -27,10 +25,13 @@ import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.util.ArrayReader;
 import com.ldbc.driver.util.ClassLoaderHelper;
 import com.ldbc.driver.util.ClassLoadingException;
-import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.JsonArrayWriter;
 import com.ldbc.driver.util.Tuple2;
+import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.workloads.OperationCodecs;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.Equator;
 
@@ -49,9 +50,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 
@@ -101,6 +102,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
     private Set<Class> enabledShortReadOperationTypes;
     private Set<Class> enabledWriteOperationTypes;
     private LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser;
+    private boolean operationPooling;
+    private List<OperationPool> operationPools = new ArrayList<>();
 
     @Override
     public Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
@@ -402,11 +405,55 @@ public class LdbcSnbInteractiveWorkload extends Workload
             throw new WorkloadException( "Invalid parser: " + parserString );
         }
         this.parser = LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.valueOf( parserString.trim() );
+
+        String operationPoolingString = params.get( LdbcSnbInteractiveWorkloadConfiguration.OPERATION_POOLING );
+        this.operationPooling = (null == operationPoolingString)
+                                ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_OPERATION_POOLING
+                                : Boolean.parseBoolean( operationPoolingString.trim() );
         this.compressionRatio = Double.parseDouble(
                 params.get( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG ).trim()
         );
     }
 
+    @Override
+    public List<OperationPool> operationPools()
+    {
+        return operationPools;
+    }
+
+    @Override
+    public boolean requiresOrderedValidation( Operation operation )
+    {
+        switch ( operation.type() )
+        {
+        case LdbcUpdate1AddPerson.TYPE:
+        case LdbcUpdate2AddPostLike.TYPE:
+        case LdbcUpdate3AddCommentLike.TYPE:
+        case LdbcUpdate4AddForum.TYPE:
+        case LdbcUpdate5AddForumMembership.TYPE:
+        case LdbcUpdate6AddPost.TYPE:
+        case LdbcUpdate7AddComment.TYPE:
+        case LdbcUpdate8AddFriendship.TYPE:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    // null when operation pooling is disabled, in which case readers instantiate a new operation per row or event
+    private <OPERATION extends Operation> OperationPool<OPERATION> operationPoolFor(
+            Class<OPERATION> operationType,
+            Supplier<OPERATION> operationFactory )
+    {
+        if ( false == operationPooling )
+        {
+            return null;
+        }
+        OperationPool<OPERATION> operationPool = new OperationPool<>( operationType, operationFactory );
+        operationPools.add( operationPool );
+        return operationPool;
+    }
+
     @Override
     synchronized protected void onClose() throws IOException
     {
@@ -451,7 +498,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             );
             Extractors extractors = new Extractors( ';', ',' );
             return Tuple.<Iterator<Operation>,Closeable>tuple2(
-                    WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|' ), charSeeker );
+                    WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|', this::operationPoolFor ),
+                    charSeeker );
         }
         case CHAR_SEEKER_THREAD:
         {
@@ -467,7 +515,16 @@ public class LdbcSnbInteractiveWorkload extends Workload
             );
             Extractors extractors = new Extractors( ';', ',' );
             return Tuple.<Iterator<Operation>,Closeable>tuple2(
-                    WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|' ), charSeeker );
+                    WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|', this::operationPoolFor ),
+                    charSeeker );
+        }
+        case CHAR_SEEKER_MEMORY_MAPPED:
+        {
+            CharSeeker charSeeker = new MappedByteBufferCharSeeker( updateOperationsFile );
+            Extractors extractors = new Extractors( ';', ',' );
+            return Tuple.<Iterator<Operation>,Closeable>tuple2(
+                    WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|', this::operationPoolFor ),
+                    charSeeker );
         }
         }
         SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader( updateOperationsFile,
@@ -731,7 +788,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery1.class, LdbcQuery1::new )
             );
 
             Iterator<Long> operation1StartTimes =
@@ -789,7 +847,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery2.class, LdbcQuery2::new )
             );
 
             Iterator<Long> operation2StartTimes =
@@ -850,7 +909,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery3.class, LdbcQuery3::new )
             );
 
             Iterator<Long> operation3StartTimes =
@@ -909,7 +969,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery4.class, LdbcQuery4::new )
             );
 
             Iterator<Long> operation4StartTimes =
@@ -967,7 +1028,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery5.class, LdbcQuery5::new )
             );
 
             Iterator<Long> operation5StartTimes =
@@ -1025,7 +1087,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery6.class, LdbcQuery6::new )
             );
 
             Iterator<Long> operation6StartTimes =
@@ -1082,7 +1145,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery7.class, LdbcQuery7::new )
             );
 
             Iterator<Long> operation7StartTimes =
@@ -1139,7 +1203,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery8.class, LdbcQuery8::new )
             );
 
             Iterator<Long> operation8StartTimes =
@@ -1197,7 +1262,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery9.class, LdbcQuery9::new )
             );
 
             Iterator<Long> operation9StartTimes =
@@ -1255,7 +1321,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery10.class, LdbcQuery10::new )
             );
 
             Iterator<Long> operation10StartTimes =
@@ -1314,7 +1381,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery11.class, LdbcQuery11::new )
             );
 
             Iterator<Long> operation11StartTimes =
@@ -1372,7 +1440,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery12.class, LdbcQuery12::new )
             );
 
             Iterator<Long> operation12StartTimes =
@@ -1430,7 +1499,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery13.class, LdbcQuery13::new )
             );
 
             Iterator<Long> operation13StartTimes =
@@ -1488,7 +1558,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                     decoder,
                                     columnDelimiter
                             )
-                    )
+                    ),
+                    operationPoolFor( LdbcQuery14.class, LdbcQuery14::new )
             );
 
             Iterator<Long> operation14StartTimes =
@@ -1575,12 +1646,12 @@ public class LdbcSnbInteractiveWorkload extends Workload
 
             RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory( 42l );
             double initialProbability = 1.0;
-            Queue<Long> personIdBuffer = (hasDbConnected)
-                                         ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer( 1024 )
-                                         : LdbcSnbShortReadGenerator.constantBuffer( 1 );
-            Queue<Long> messageIdBuffer = (hasDbConnected)
-                                          ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer( 1024 )
-                                          : LdbcSnbShortReadGenerator.constantBuffer( 1 );
+            LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = (hasDbConnected)
+                                                                ? LdbcSnbShortReadGenerator.stripedCircularBuffer( 1024 )
+                                                                : LdbcSnbShortReadGenerator.constantBuffer( 1 );
+            LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = (hasDbConnected)
+                                                                 ? LdbcSnbShortReadGenerator.stripedCircularBuffer( 1024 )
+                                                                 : LdbcSnbShortReadGenerator.constantBuffer( 1 );
             LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy = (hasDbConnected)
                                                                                              ?
                                                                                              LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_ACTUAL_FINISH_TIME
@@ -1694,931 +1765,343 @@ public class LdbcSnbInteractiveWorkload extends Workload
         return TimeUnit.HOURS.toMillis( 1 );
     }
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final TypeReference TYPE_REFERENCE = new TypeReference<List<Object>>()
-    {
-    };
-
-    @Override
-    public String serializeOperation( Operation operation ) throws SerializingMarshallingException
-    {
-        switch ( operation.type() )
-        {
-        case LdbcQuery1.TYPE:
-        {
-            LdbcQuery1 ldbcQuery = (LdbcQuery1) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.firstName() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery2.TYPE:
-        {
-            LdbcQuery2 ldbcQuery = (LdbcQuery2) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.maxDate().getTime() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery3.TYPE:
-        {
-            LdbcQuery3 ldbcQuery = (LdbcQuery3) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.countryXName() );
-            operationAsList.add( ldbcQuery.countryYName() );
-            operationAsList.add( ldbcQuery.startDate().getTime() );
-            operationAsList.add( ldbcQuery.durationDays() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery4.TYPE:
-        {
-            LdbcQuery4 ldbcQuery = (LdbcQuery4) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.startDate().getTime() );
-            operationAsList.add( ldbcQuery.durationDays() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery5.TYPE:
-        {
-            LdbcQuery5 ldbcQuery = (LdbcQuery5) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.minDate().getTime() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery6.TYPE:
-        {
-            LdbcQuery6 ldbcQuery = (LdbcQuery6) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.tagName() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery7.TYPE:
-        {
-            LdbcQuery7 ldbcQuery = (LdbcQuery7) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery8.TYPE:
-        {
-            LdbcQuery8 ldbcQuery = (LdbcQuery8) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery9.TYPE:
-        {
-            LdbcQuery9 ldbcQuery = (LdbcQuery9) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.maxDate().getTime() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery10.TYPE:
-        {
-            LdbcQuery10 ldbcQuery = (LdbcQuery10) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.month() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery11.TYPE:
-        {
-            LdbcQuery11 ldbcQuery = (LdbcQuery11) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.countryName() );
-            operationAsList.add( ldbcQuery.workFromYear() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery12.TYPE:
-        {
-            LdbcQuery12 ldbcQuery = (LdbcQuery12) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.tagClassName() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery13.TYPE:
-        {
-            LdbcQuery13 ldbcQuery = (LdbcQuery13) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.person1Id() );
-            operationAsList.add( ldbcQuery.person2Id() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcQuery14.TYPE:
-        {
-            LdbcQuery14 ldbcQuery = (LdbcQuery14) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.person1Id() );
-            operationAsList.add( ldbcQuery.person2Id() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcShortQuery1PersonProfile.TYPE:
-        {
-            LdbcShortQuery1PersonProfile ldbcQuery = (LdbcShortQuery1PersonProfile) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcShortQuery2PersonPosts.TYPE:
-        {
-            LdbcShortQuery2PersonPosts ldbcQuery = (LdbcShortQuery2PersonPosts) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.limit() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcShortQuery3PersonFriends.TYPE:
-        {
-            LdbcShortQuery3PersonFriends ldbcQuery = (LdbcShortQuery3PersonFriends) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcShortQuery4MessageContent.TYPE:
-        {
-            LdbcShortQuery4MessageContent ldbcQuery = (LdbcShortQuery4MessageContent) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.messageId() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcShortQuery5MessageCreator.TYPE:
-        {
-            LdbcShortQuery5MessageCreator ldbcQuery = (LdbcShortQuery5MessageCreator) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.messageId() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcShortQuery6MessageForum.TYPE:
-        {
-            LdbcShortQuery6MessageForum ldbcQuery = (LdbcShortQuery6MessageForum) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.messageId() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcShortQuery7MessageReplies.TYPE:
-        {
-            LdbcShortQuery7MessageReplies ldbcQuery = (LdbcShortQuery7MessageReplies) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.messageId() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcUpdate1AddPerson.TYPE:
-        {
-            LdbcUpdate1AddPerson ldbcQuery = (LdbcUpdate1AddPerson) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.personFirstName() );
-            operationAsList.add( ldbcQuery.personLastName() );
-            operationAsList.add( ldbcQuery.gender() );
-            operationAsList.add( ldbcQuery.birthday().getTime() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
-            operationAsList.add( ldbcQuery.locationIp() );
-            operationAsList.add( ldbcQuery.browserUsed() );
-            operationAsList.add( ldbcQuery.cityId() );
-            operationAsList.add( ldbcQuery.languages() );
-            operationAsList.add( ldbcQuery.emails() );
-            operationAsList.add( ldbcQuery.tagIds() );
-            Iterable<Map<String,Object>> studyAt = Lists.newArrayList( Iterables.transform( ldbcQuery.studyAt(),
-                    new Function<LdbcUpdate1AddPerson.Organization,Map<String,Object>>()
+    private static final OperationCodecs OPERATION_CODECS = new OperationCodecs( LdbcSnbInteractiveWorkload.class )
+            .register( LdbcQuery1.TYPE, LdbcQuery1.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.firstName() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcQuery1(
+                            reader.nextLong(),
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcQuery2.TYPE, LdbcQuery2.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.maxDate().getTime() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcQuery2(
+                            reader.nextLong(),
+                            new Date( reader.nextLong() ),
+                            reader.nextInt() ) )
+            .register( LdbcQuery3.TYPE, LdbcQuery3.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.countryXName() )
+                            .write( operation.countryYName() )
+                            .write( operation.startDate().getTime() )
+                            .write( operation.durationDays() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcQuery3(
+                            reader.nextLong(),
+                            reader.nextString(),
+                            reader.nextString(),
+                            new Date( reader.nextLong() ),
+                            reader.nextInt(),
+                            reader.nextInt() ) )
+            .register( LdbcQuery4.TYPE, LdbcQuery4.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.startDate().getTime() )
+                            .write( operation.durationDays() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcQuery4(
+                            reader.nextLong(),
+                            new Date( reader.nextLong() ),
+                            reader.nextInt(),
+                            reader.nextInt() ) )
+            .register( LdbcQuery5.TYPE, LdbcQuery5.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.minDate().getTime() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcQuery5(
+                            reader.nextLong(),
+                            new Date( reader.nextLong() ),
+                            reader.nextInt() ) )
+            .register( LdbcQuery6.TYPE, LdbcQuery6.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.tagName() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcQuery6(
+                            reader.nextLong(),
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcQuery7.TYPE, LdbcQuery7.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcQuery7(
+                            reader.nextLong(),
+                            reader.nextInt() ) )
+            .register( LdbcQuery8.TYPE, LdbcQuery8.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcQuery8(
+                            reader.nextLong(),
+                            reader.nextInt() ) )
+            .register( LdbcQuery9.TYPE, LdbcQuery9.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.maxDate().getTime() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcQuery9(
+                            reader.nextLong(),
+                            new Date( reader.nextLong() ),
+                            reader.nextInt() ) )
+            .register( LdbcQuery10.TYPE, LdbcQuery10.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.month() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcQuery10(
+                            reader.nextLong(),
+                            reader.nextInt(),
+                            reader.nextInt() ) )
+            .register( LdbcQuery11.TYPE, LdbcQuery11.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.countryName() )
+                            .write( operation.workFromYear() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcQuery11(
+                            reader.nextLong(),
+                            reader.nextString(),
+                            reader.nextInt(),
+                            reader.nextInt() ) )
+            .register( LdbcQuery12.TYPE, LdbcQuery12.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.tagClassName() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcQuery12(
+                            reader.nextLong(),
+                            reader.nextString(),
+                            reader.nextInt() ) )
+            .register( LdbcQuery13.TYPE, LdbcQuery13.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.person1Id() )
+                            .write( operation.person2Id() ),
+                    reader -> new LdbcQuery13(
+                            reader.nextLong(),
+                            reader.nextLong() ) )
+            .register( LdbcQuery14.TYPE, LdbcQuery14.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.person1Id() )
+                            .write( operation.person2Id() ),
+                    reader -> new LdbcQuery14(
+                            reader.nextLong(),
+                            reader.nextLong() ) )
+            .register( LdbcShortQuery1PersonProfile.TYPE, LdbcShortQuery1PersonProfile.class,
+                    ( operation, writer ) -> writer.write( operation.personId() ),
+                    reader -> new LdbcShortQuery1PersonProfile( reader.nextLong() ) )
+            .register( LdbcShortQuery2PersonPosts.TYPE, LdbcShortQuery2PersonPosts.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.limit() ),
+                    reader -> new LdbcShortQuery2PersonPosts(
+                            reader.nextLong(),
+                            reader.nextInt() ) )
+            .register( LdbcShortQuery3PersonFriends.TYPE, LdbcShortQuery3PersonFriends.class,
+                    ( operation, writer ) -> writer.write( operation.personId() ),
+                    reader -> new LdbcShortQuery3PersonFriends( reader.nextLong() ) )
+            .register( LdbcShortQuery4MessageContent.TYPE, LdbcShortQuery4MessageContent.class,
+                    ( operation, writer ) -> writer.write( operation.messageId() ),
+                    reader -> new LdbcShortQuery4MessageContent( reader.nextLong() ) )
+            .register( LdbcShortQuery5MessageCreator.TYPE, LdbcShortQuery5MessageCreator.class,
+                    ( operation, writer ) -> writer.write( operation.messageId() ),
+                    reader -> new LdbcShortQuery5MessageCreator( reader.nextLong() ) )
+            .register( LdbcShortQuery6MessageForum.TYPE, LdbcShortQuery6MessageForum.class,
+                    ( operation, writer ) -> writer.write( operation.messageId() ),
+                    reader -> new LdbcShortQuery6MessageForum( reader.nextLong() ) )
+            .register( LdbcShortQuery7MessageReplies.TYPE, LdbcShortQuery7MessageReplies.class,
+                    ( operation, writer ) -> writer.write( operation.messageId() ),
+                    reader -> new LdbcShortQuery7MessageReplies( reader.nextLong() ) )
+            .register( LdbcUpdate1AddPerson.TYPE, LdbcUpdate1AddPerson.class,
+                    ( operation, writer ) ->
                     {
-                        @Override
-                        public Map<String,Object> apply( LdbcUpdate1AddPerson.Organization organization )
-                        {
-                            Map<String,Object> organizationMap = new HashMap<>();
-                            organizationMap.put( "id", organization.organizationId() );
-                            organizationMap.put( "year", organization.year() );
-                            return organizationMap;
-                        }
-                    } ) );
-            operationAsList.add( studyAt );
-            Iterable<Map<String,Object>> workAt = Lists.newArrayList( Iterables
-                    .transform( ldbcQuery.workAt(), new Function<LdbcUpdate1AddPerson.Organization,Map<String,Object>>()
-                    {
-                        @Override
-                        public Map<String,Object> apply( LdbcUpdate1AddPerson.Organization organization )
-                        {
-                            Map<String,Object> organizationMap = new HashMap<>();
-                            organizationMap.put( "id", organization.organizationId() );
-                            organizationMap.put( "year", organization.year() );
-                            return organizationMap;
-                        }
-                    } ) );
-            operationAsList.add( workAt );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcUpdate2AddPostLike.TYPE:
-        {
-            LdbcUpdate2AddPostLike ldbcQuery = (LdbcUpdate2AddPostLike) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.postId() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcUpdate3AddCommentLike.TYPE:
-        {
-            LdbcUpdate3AddCommentLike ldbcQuery = (LdbcUpdate3AddCommentLike) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.commentId() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcUpdate4AddForum.TYPE:
-        {
-            LdbcUpdate4AddForum ldbcQuery = (LdbcUpdate4AddForum) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.forumId() );
-            operationAsList.add( ldbcQuery.forumTitle() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
-            operationAsList.add( ldbcQuery.moderatorPersonId() );
-            operationAsList.add( ldbcQuery.tagIds() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcUpdate5AddForumMembership.TYPE:
-        {
-            LdbcUpdate5AddForumMembership ldbcQuery = (LdbcUpdate5AddForumMembership) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.forumId() );
-            operationAsList.add( ldbcQuery.personId() );
-            operationAsList.add( ldbcQuery.joinDate().getTime() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcUpdate6AddPost.TYPE:
-        {
-            LdbcUpdate6AddPost ldbcQuery = (LdbcUpdate6AddPost) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.postId() );
-            operationAsList.add( ldbcQuery.imageFile() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
-            operationAsList.add( ldbcQuery.locationIp() );
-            operationAsList.add( ldbcQuery.browserUsed() );
-            operationAsList.add( ldbcQuery.language() );
-            operationAsList.add( ldbcQuery.content() );
-            operationAsList.add( ldbcQuery.length() );
-            operationAsList.add( ldbcQuery.authorPersonId() );
-            operationAsList.add( ldbcQuery.forumId() );
-            operationAsList.add( ldbcQuery.countryId() );
-            operationAsList.add( ldbcQuery.tagIds() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcUpdate7AddComment.TYPE:
-        {
-            LdbcUpdate7AddComment ldbcQuery = (LdbcUpdate7AddComment) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.commentId() );
-            operationAsList.add( ldbcQuery.creationDate() );
-            operationAsList.add( ldbcQuery.locationIp() );
-            operationAsList.add( ldbcQuery.browserUsed() );
-            operationAsList.add( ldbcQuery.content() );
-            operationAsList.add( ldbcQuery.length() );
-            operationAsList.add( ldbcQuery.authorPersonId() );
-            operationAsList.add( ldbcQuery.countryId() );
-            operationAsList.add( ldbcQuery.replyToPostId() );
-            operationAsList.add( ldbcQuery.replyToCommentId() );
-            operationAsList.add( ldbcQuery.tagIds() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        case LdbcUpdate8AddFriendship.TYPE:
-        {
-            LdbcUpdate8AddFriendship ldbcQuery = (LdbcUpdate8AddFriendship) operation;
-            List<Object> operationAsList = new ArrayList<>();
-            operationAsList.add( ldbcQuery.getClass().getName() );
-            operationAsList.add( ldbcQuery.person1Id() );
-            operationAsList.add( ldbcQuery.person2Id() );
-            operationAsList.add( ldbcQuery.creationDate().getTime() );
-            try
-            {
-                return OBJECT_MAPPER.writeValueAsString( operationAsList );
-            }
-            catch ( IOException e )
-            {
-                throw new SerializingMarshallingException(
-                        format( "Error while trying to serialize result\n%s", operationAsList.toString() ), e );
-            }
-        }
-        default:
+                        writer
+                                .write( operation.personId() )
+                                .write( operation.personFirstName() )
+                                .write( operation.personLastName() )
+                                .write( operation.gender() )
+                                .write( operation.birthday().getTime() )
+                                .write( operation.creationDate().getTime() )
+                                .write( operation.locationIp() )
+                                .write( operation.browserUsed() )
+                                .write( operation.cityId() )
+                                .write( operation.languages() )
+                                .write( operation.emails() )
+                                .write( operation.tagIds() );
+                        writeOrganizations( operation.studyAt(), writer );
+                        writeOrganizations( operation.workAt(), writer );
+                    },
+                    reader -> new LdbcUpdate1AddPerson(
+                            reader.nextLong(),
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextString(),
+                            new Date( reader.nextLong() ),
+                            new Date( reader.nextLong() ),
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextLong(),
+                            reader.nextStringList(),
+                            reader.nextStringList(),
+                            reader.nextLongList(),
+                            readOrganizations( reader ),
+                            readOrganizations( reader ) ) )
+            .register( LdbcUpdate2AddPostLike.TYPE, LdbcUpdate2AddPostLike.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.postId() )
+                            .write( operation.creationDate().getTime() ),
+                    reader -> new LdbcUpdate2AddPostLike(
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            new Date( reader.nextLong() ) ) )
+            .register( LdbcUpdate3AddCommentLike.TYPE, LdbcUpdate3AddCommentLike.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.personId() )
+                            .write( operation.commentId() )
+                            .write( operation.creationDate().getTime() ),
+                    reader -> new LdbcUpdate3AddCommentLike(
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            new Date( reader.nextLong() ) ) )
+            .register( LdbcUpdate4AddForum.TYPE, LdbcUpdate4AddForum.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.forumId() )
+                            .write( operation.forumTitle() )
+                            .write( operation.creationDate().getTime() )
+                            .write( operation.moderatorPersonId() )
+                            .write( operation.tagIds() ),
+                    reader -> new LdbcUpdate4AddForum(
+                            reader.nextLong(),
+                            reader.nextString(),
+                            new Date( reader.nextLong() ),
+                            reader.nextLong(),
+                            reader.nextLongList() ) )
+            .register( LdbcUpdate5AddForumMembership.TYPE, LdbcUpdate5AddForumMembership.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.forumId() )
+                            .write( operation.personId() )
+                            .write( operation.joinDate().getTime() ),
+                    reader -> new LdbcUpdate5AddForumMembership(
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            new Date( reader.nextLong() ) ) )
+            .register( LdbcUpdate6AddPost.TYPE, LdbcUpdate6AddPost.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.postId() )
+                            .write( operation.imageFile() )
+                            .write( operation.creationDate().getTime() )
+                            .write( operation.locationIp() )
+                            .write( operation.browserUsed() )
+                            .write( operation.language() )
+                            .write( operation.content() )
+                            .write( operation.length() )
+                            .write( operation.authorPersonId() )
+                            .write( operation.forumId() )
+                            .write( operation.countryId() )
+                            .write( operation.tagIds() ),
+                    reader -> new LdbcUpdate6AddPost(
+                            reader.nextLong(),
+                            reader.nextString(),
+                            new Date( reader.nextLong() ),
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextInt(),
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            reader.nextLongList() ) )
+            .register( LdbcUpdate7AddComment.TYPE, LdbcUpdate7AddComment.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.commentId() )
+                            .write( operation.creationDate().getTime() )
+                            .write( operation.locationIp() )
+                            .write( operation.browserUsed() )
+                            .write( operation.content() )
+                            .write( operation.length() )
+                            .write( operation.authorPersonId() )
+                            .write( operation.countryId() )
+                            .write( operation.replyToPostId() )
+                            .write( operation.replyToCommentId() )
+                            .write( operation.tagIds() ),
+                    reader -> new LdbcUpdate7AddComment(
+                            reader.nextLong(),
+                            new Date( reader.nextLong() ),
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextString(),
+                            reader.nextInt(),
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            reader.nextLongList() ) )
+            .register( LdbcUpdate8AddFriendship.TYPE, LdbcUpdate8AddFriendship.class,
+                    ( operation, writer ) -> writer
+                            .write( operation.person1Id() )
+                            .write( operation.person2Id() )
+                            .write( operation.creationDate().getTime() ),
+                    reader -> new LdbcUpdate8AddFriendship(
+                            reader.nextLong(),
+                            reader.nextLong(),
+                            new Date( reader.nextLong() ) ) );
+
+    // fields in the order previous versions wrote them in, from hash maps, so serialized operations stay unchanged
+    private static void writeOrganizations( List<LdbcUpdate1AddPerson.Organization> organizations,
+            JsonArrayWriter writer ) throws SerializingMarshallingException
+    {
+        writer.beginArray();
+        for ( LdbcUpdate1AddPerson.Organization organization : organizations )
         {
-            throw new SerializingMarshallingException(
-                    format(
-                            "Workload does not know how to serialize operation\nWorkload: %s\nOperation Type: " +
-                            "%s\nOperation: %s",
-                            getClass().getName(),
-                            operation.getClass().getName(),
-                            operation ) );
-        }
+            writer.beginObject()
+                    .writeFieldName( "year" ).write( organization.year() )
+                    .writeFieldName( "id" ).write( organization.organizationId() )
+                    .endObject();
         }
+        writer.endArray();
     }
 
-    @Override
-    public Operation marshalOperation( String serializedOperation ) throws SerializingMarshallingException
+    private static List<LdbcUpdate1AddPerson.Organization> readOrganizations( ArrayReader reader )
+            throws SerializingMarshallingException
     {
-        List<Object> operationAsList;
-        try
-        {
-            operationAsList = OBJECT_MAPPER.readValue( serializedOperation, TYPE_REFERENCE );
-        }
-        catch ( IOException e )
-        {
-            throw new SerializingMarshallingException(
-                    format( "Error while parsing serialized results\n%s", serializedOperation ), e );
-        }
-
-        String operationTypeName = (String) operationAsList.get( 0 );
-        if ( operationTypeName.equals( LdbcQuery1.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            String firstName = (String) operationAsList.get( 2 );
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcQuery1( personId, firstName, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery2.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            Date maxDate = new Date( ((Number) operationAsList.get( 2 )).longValue() );
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcQuery2( personId, maxDate, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery3.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            String countryXName = (String) operationAsList.get( 2 );
-            String countryYName = (String) operationAsList.get( 3 );
-            Date startDate = new Date( ((Number) operationAsList.get( 4 )).longValue() );
-            int durationDays = ((Number) operationAsList.get( 5 )).intValue();
-            int limit = ((Number) operationAsList.get( 6 )).intValue();
-            return new LdbcQuery3( personId, countryXName, countryYName, startDate, durationDays, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery4.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            Date startDate = new Date( ((Number) operationAsList.get( 2 )).longValue() );
-            int durationDays = ((Number) operationAsList.get( 3 )).intValue();
-            int limit = ((Number) operationAsList.get( 4 )).intValue();
-            return new LdbcQuery4( personId, startDate, durationDays, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery5.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            Date minDate = new Date( ((Number) operationAsList.get( 2 )).longValue() );
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcQuery5( personId, minDate, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery6.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            String tagName = (String) operationAsList.get( 2 );
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcQuery6( personId, tagName, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery7.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            int limit = ((Number) operationAsList.get( 2 )).intValue();
-            return new LdbcQuery7( personId, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery8.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            int limit = ((Number) operationAsList.get( 2 )).intValue();
-            return new LdbcQuery8( personId, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery9.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            Date maxDate = new Date( ((Number) operationAsList.get( 2 )).longValue() );
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcQuery9( personId, maxDate, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery10.class.getName() ) )
+        List<LdbcUpdate1AddPerson.Organization> organizations = new ArrayList<>();
+        reader.beginArray();
+        while ( reader.hasNext() )
         {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            int month = ((Number) operationAsList.get( 2 )).intValue();
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcQuery10( personId, month, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery11.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            String countryName = (String) operationAsList.get( 2 );
-            int workFromYear = ((Number) operationAsList.get( 3 )).intValue();
-            int limit = ((Number) operationAsList.get( 4 )).intValue();
-            return new LdbcQuery11( personId, countryName, workFromYear, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery12.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            String tagClassName = (String) operationAsList.get( 2 );
-            int limit = ((Number) operationAsList.get( 3 )).intValue();
-            return new LdbcQuery12( personId, tagClassName, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery13.class.getName() ) )
-        {
-            long person1Id = ((Number) operationAsList.get( 1 )).longValue();
-            long person2Id = ((Number) operationAsList.get( 2 )).longValue();
-            return new LdbcQuery13( person1Id, person2Id );
-        }
-
-        if ( operationTypeName.equals( LdbcQuery14.class.getName() ) )
-        {
-            long person1Id = ((Number) operationAsList.get( 1 )).longValue();
-            long person2Id = ((Number) operationAsList.get( 2 )).longValue();
-            return new LdbcQuery14( person1Id, person2Id );
-        }
-
-        if ( operationTypeName.equals( LdbcShortQuery1PersonProfile.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            return new LdbcShortQuery1PersonProfile( personId );
-        }
-
-        if ( operationTypeName.equals( LdbcShortQuery2PersonPosts.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            int limit = ((Number) operationAsList.get( 2 )).intValue();
-            return new LdbcShortQuery2PersonPosts( personId, limit );
-        }
-
-        if ( operationTypeName.equals( LdbcShortQuery3PersonFriends.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            return new LdbcShortQuery3PersonFriends( personId );
-        }
-
-        if ( operationTypeName.equals( LdbcShortQuery4MessageContent.class.getName() ) )
-        {
-            long messageId = ((Number) operationAsList.get( 1 )).longValue();
-            return new LdbcShortQuery4MessageContent( messageId );
-        }
-
-        if ( operationTypeName.equals( LdbcShortQuery5MessageCreator.class.getName() ) )
-        {
-            long messageId = ((Number) operationAsList.get( 1 )).longValue();
-            return new LdbcShortQuery5MessageCreator( messageId );
-        }
-
-        if ( operationTypeName.equals( LdbcShortQuery6MessageForum.class.getName() ) )
-        {
-            long messageId = ((Number) operationAsList.get( 1 )).longValue();
-            return new LdbcShortQuery6MessageForum( messageId );
-        }
-
-        if ( operationTypeName.equals( LdbcShortQuery7MessageReplies.class.getName() ) )
-        {
-            long messageId = ((Number) operationAsList.get( 1 )).longValue();
-            return new LdbcShortQuery7MessageReplies( messageId );
-        }
-
-        if ( operationTypeName.equals( LdbcUpdate1AddPerson.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            String personFirstName = (String) operationAsList.get( 2 );
-            String personLastName = (String) operationAsList.get( 3 );
-            String gender = (String) operationAsList.get( 4 );
-            Date birthday = new Date( ((Number) operationAsList.get( 5 )).longValue() );
-            Date creationDate = new Date( ((Number) operationAsList.get( 6 )).longValue() );
-            String locationIp = (String) operationAsList.get( 7 );
-            String browserUsed = (String) operationAsList.get( 8 );
-            long cityId = ((Number) operationAsList.get( 9 )).longValue();
-            List<String> languages = (List<String>) operationAsList.get( 10 );
-            List<String> emails = (List<String>) operationAsList.get( 11 );
-            List<Long> tagIds = Lists.newArrayList(
-                    Iterables.transform( (List<Number>) operationAsList.get( 12 ), new Function<Number,Long>()
-                    {
-                        @Override
-                        public Long apply( Number number )
-                        {
-                            return number.longValue();
-                        }
-                    } ) );
-            List<Map<String,Object>> studyAtList = (List<Map<String,Object>>) operationAsList.get( 13 );
-            List<LdbcUpdate1AddPerson.Organization> studyAt = Lists.newArrayList( Iterables
-                    .transform( studyAtList, new Function<Map<String,Object>,LdbcUpdate1AddPerson.Organization>()
-                    {
-                        @Override
-                        public LdbcUpdate1AddPerson.Organization apply( Map<String,Object> input )
-                        {
-                            long organizationId = ((Number) input.get( "id" )).longValue();
-                            int year = ((Number) input.get( "year" )).intValue();
-                            return new LdbcUpdate1AddPerson.Organization( organizationId, year );
-                        }
-                    } ) );
-            List<Map<String,Object>> workAtList = (List<Map<String,Object>>) operationAsList.get( 14 );
-            List<LdbcUpdate1AddPerson.Organization> workAt = Lists.newArrayList( Iterables
-                    .transform( workAtList, new Function<Map<String,Object>,LdbcUpdate1AddPerson.Organization>()
-                    {
-                        @Override
-                        public LdbcUpdate1AddPerson.Organization apply( Map<String,Object> input )
-                        {
-                            long organizationId = ((Number) input.get( "id" )).longValue();
-                            int year = ((Number) input.get( "year" )).intValue();
-                            return new LdbcUpdate1AddPerson.Organization( organizationId, year );
-                        }
-                    } ) );
-
-            return new LdbcUpdate1AddPerson( personId, personFirstName, personLastName, gender, birthday, creationDate,
-                    locationIp, browserUsed, cityId, languages, emails, tagIds, studyAt, workAt );
-        }
-
-        if ( operationTypeName.equals( LdbcUpdate2AddPostLike.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            long postId = ((Number) operationAsList.get( 2 )).longValue();
-            Date creationDate = new Date( ((Number) operationAsList.get( 3 )).longValue() );
-
-            return new LdbcUpdate2AddPostLike( personId, postId, creationDate );
-        }
-
-        if ( operationTypeName.equals( LdbcUpdate3AddCommentLike.class.getName() ) )
-        {
-            long personId = ((Number) operationAsList.get( 1 )).longValue();
-            long commentId = ((Number) operationAsList.get( 2 )).longValue();
-            Date creationDate = new Date( ((Number) operationAsList.get( 3 )).longValue() );
-
-            return new LdbcUpdate3AddCommentLike( personId, commentId, creationDate );
-        }
-
-        if ( operationTypeName.equals( LdbcUpdate4AddForum.class.getName() ) )
-        {
-            long forumId = ((Number) operationAsList.get( 1 )).longValue();
-            String forumTitle = (String) operationAsList.get( 2 );
-            Date creationDate = new Date( ((Number) operationAsList.get( 3 )).longValue() );
-            long moderatorPersonId = ((Number) operationAsList.get( 4 )).longValue();
-            List<Long> tagIds = Lists.newArrayList(
-                    Iterables.transform( (List<Number>) operationAsList.get( 5 ), new Function<Number,Long>()
-                    {
-                        @Override
-                        public Long apply( Number number )
-                        {
-                            return number.longValue();
-                        }
-                    } ) );
-
-            return new LdbcUpdate4AddForum( forumId, forumTitle, creationDate, moderatorPersonId, tagIds );
-        }
-
-
-        if ( operationTypeName.equals( LdbcUpdate5AddForumMembership.class.getName() ) )
-        {
-            long forumId = ((Number) operationAsList.get( 1 )).longValue();
-            long personId = ((Number) operationAsList.get( 2 )).longValue();
-            Date creationDate = new Date( ((Number) operationAsList.get( 3 )).longValue() );
-
-            return new LdbcUpdate5AddForumMembership( forumId, personId, creationDate );
-        }
-
-        if ( operationTypeName.equals( LdbcUpdate6AddPost.class.getName() ) )
-        {
-            long postId = ((Number) operationAsList.get( 1 )).longValue();
-            String imageFile = (String) operationAsList.get( 2 );
-            Date creationDate = new Date( ((Number) operationAsList.get( 3 )).longValue() );
-            String locationIp = (String) operationAsList.get( 4 );
-            String browserUsed = (String) operationAsList.get( 5 );
-            String language = (String) operationAsList.get( 6 );
-            String content = (String) operationAsList.get( 7 );
-            int length = ((Number) operationAsList.get( 8 )).intValue();
-            long authorPersonId = ((Number) operationAsList.get( 9 )).longValue();
-            long forumId = ((Number) operationAsList.get( 10 )).longValue();
-            long countryId = ((Number) operationAsList.get( 11 )).longValue();
-            List<Long> tagIds = Lists.newArrayList(
-                    Iterables.transform( (List<Number>) operationAsList.get( 12 ), new Function<Number,Long>()
-                    {
-                        @Override
-                        public Long apply( Number number )
-                        {
-                            return number.longValue();
-                        }
-                    } ) );
-
-            return new LdbcUpdate6AddPost( postId, imageFile, creationDate, locationIp, browserUsed, language, content,
-                    length, authorPersonId, forumId, countryId, tagIds );
-        }
-
-        if ( operationTypeName.equals( LdbcUpdate7AddComment.class.getName() ) )
-        {
-            long commentId = ((Number) operationAsList.get( 1 )).longValue();
-            Date creationDate = new Date( ((Number) operationAsList.get( 2 )).longValue() );
-            String locationIp = (String) operationAsList.get( 3 );
-            String browserUsed = (String) operationAsList.get( 4 );
-            String content = (String) operationAsList.get( 5 );
-            int length = ((Number) operationAsList.get( 6 )).intValue();
-            long authorPersonId = ((Number) operationAsList.get( 7 )).longValue();
-            long countryId = ((Number) operationAsList.get( 8 )).longValue();
-            long replyToPostId = ((Number) operationAsList.get( 9 )).longValue();
-            long replyToCommentId = ((Number) operationAsList.get( 10 )).longValue();
-            List<Long> tagIds = Lists.newArrayList(
-                    Iterables.transform( (List<Number>) operationAsList.get( 11 ), new Function<Number,Long>()
-                    {
-                        @Override
-                        public Long apply( Number number )
-                        {
-                            return number.longValue();
-                        }
-                    } ) );
-
-            return new LdbcUpdate7AddComment( commentId, creationDate, locationIp, browserUsed, content, length,
-                    authorPersonId, countryId, replyToPostId, replyToCommentId, tagIds );
+            Map<String,Object> organization = reader.nextMap();
+            organizations.add( new LdbcUpdate1AddPerson.Organization(
+                    ((Number) organization.get( "id" )).longValue(),
+                    ((Number) organization.get( "year" )).intValue() ) );
         }
+        reader.endArray();
+        return organizations;
+    }
 
-        if ( operationTypeName.equals( LdbcUpdate8AddFriendship.class.getName() ) )
-        {
-            long person1Id = ((Number) operationAsList.get( 1 )).longValue();
-            long person2Id = ((Number) operationAsList.get( 2 )).longValue();
-            Date creationDate = new Date( ((Number) operationAsList.get( 3 )).longValue() );
+    @Override
+    public String serializeOperation( Operation operation ) throws SerializingMarshallingException
+    {
+        return OPERATION_CODECS.serializeOperation( operation );
+    }
 
-            return new LdbcUpdate8AddFriendship( person1Id, person2Id, creationDate );
-        }
+    @Override
+    public Operation marshalOperation( String serializedOperation ) throws SerializingMarshallingException
+    {
+        return OPERATION_CODECS.marshalOperation( serializedOperation );
+    }
 
-        throw new SerializingMarshallingException(
-                format(
-                        "Workload does not know how to marshal operation\nWorkload: %s\nAssumed Operation Type: " +
-                        "%s\nSerialized Operation: %s",
-                        getClass().getName(),
-                        operationTypeName,
-                        serializedOperation ) );
+    @Override
+    public Operation marshalOperation( List<Object> operationAsList ) throws SerializingMarshallingException
+    {
+        return OPERATION_CODECS.marshalOperation( operationAsList );
     }
 
     private static final Equator<LdbcQuery14Result> LDBC_QUERY_14_RESULT_EQUATOR = new Equator<LdbcQuery14Result>()
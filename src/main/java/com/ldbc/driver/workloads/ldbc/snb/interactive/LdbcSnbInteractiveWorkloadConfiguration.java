@@ -44,11 +44,17 @@ public abstract class LdbcSnbInteractiveWorkloadConfiguration
     {
         REGEX,
         CHAR_SEEKER,
-        CHAR_SEEKER_THREAD
+        CHAR_SEEKER_THREAD,
+        // memory maps update streams & parses values directly from their bytes
+        CHAR_SEEKER_MEMORY_MAPPED
     }
 
     public final static String UPDATE_STREAM_PARSER = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser";
     public final static UpdateStreamParser DEFAULT_UPDATE_STREAM_PARSER = UpdateStreamParser.CHAR_SEEKER;
+    // reuse read & update operation instances, drawn from per-type pools & recycled once executed, only applies to
+    // execution, update operations are only pooled by the char seeker update stream parsers
+    public final static String OPERATION_POOLING = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "operation_pooling";
+    public final static boolean DEFAULT_OPERATION_POOLING = false;
     public final static String LDBC_INTERACTIVE_PACKAGE_PREFIX =
             removeSuffix( LdbcQuery1.class.getName(), LdbcQuery1.class.getSimpleName() );
 
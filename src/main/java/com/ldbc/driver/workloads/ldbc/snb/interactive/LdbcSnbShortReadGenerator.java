@@ -1,8 +1,6 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.google.common.collect.EvictingQueue;
 import com.google.common.collect.Ordering;
-import com.google.common.collect.Queues;
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadException;
@@ -12,11 +10,8 @@ import com.ldbc.driver.util.Tuple2;
 import org.apache.commons.math3.random.RandomDataGenerator;
 
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -27,8 +22,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     private final double initialProbability;
     private final LdbcShortQueryFactory[] shortReadFactories;
     private final double[] probabilityDegradationFactors;
-    private final Queue<Long> personIdBuffer;
-    private final Queue<Long> messageIdBuffer;
+    private final IdBuffer personIdBuffer;
+    private final IdBuffer messageIdBuffer;
     private final long[] interleavesAsMilli;
     private final BufferReplenishFun bufferReplenishFun;
 
@@ -44,8 +39,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             long updateInterleaveAsMilli,
             Set<Class> enabledShortReadOperationTypes,
             double compressionRatio,
-            Queue<Long> personIdBuffer,
-            Queue<Long> messageIdBuffer,
+            IdBuffer personIdBuffer,
+            IdBuffer messageIdBuffer,
             RandomDataGeneratorFactory randomFactory,
             Map<Integer,Long> longReadInterleaves,
             SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy,
@@ -518,10 +513,10 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
     public static class ResultBufferReplenishFun implements BufferReplenishFun
     {
-        private final Queue<Long> personIdBuffer;
-        private final Queue<Long> messageIdBuffer;
+        private final IdBuffer personIdBuffer;
+        private final IdBuffer messageIdBuffer;
 
-        public ResultBufferReplenishFun( Queue<Long> personIdBuffer, Queue<Long> messageIdBuffer )
+        public ResultBufferReplenishFun( IdBuffer personIdBuffer, IdBuffer messageIdBuffer )
         {
             this.personIdBuffer = personIdBuffer;
             this.messageIdBuffer = messageIdBuffer;
@@ -690,8 +685,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     private interface LdbcShortQueryFactory
     {
         Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -704,8 +699,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     {
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -732,8 +727,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -771,8 +766,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -816,8 +811,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
@@ -884,15 +879,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = personIdBuffer.poll();
-            if ( null == id )
+            long id = personIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -951,15 +946,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = personIdBuffer.poll();
-            if ( null == id )
+            long id = personIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1018,15 +1013,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = personIdBuffer.poll();
-            if ( null == id )
+            long id = personIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1085,15 +1080,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = messageIdBuffer.poll();
-            if ( null == id )
+            long id = messageIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1152,15 +1147,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = messageIdBuffer.poll();
-            if ( null == id )
+            long id = messageIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1219,15 +1214,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = messageIdBuffer.poll();
-            if ( null == id )
+            long id = messageIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1286,15 +1281,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public Operation create(
-                Queue<Long> personIdBuffer,
-                Queue<Long> messageIdBuffer,
+                IdBuffer personIdBuffer,
+                IdBuffer messageIdBuffer,
                 Operation previousOperation,
                 long previousOperationActualStartTimeAsMilli,
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            Long id = messageIdBuffer.poll();
-            if ( null == id )
+            long id = messageIdBuffer.poll();
+            if ( IdBuffer.NO_ID == id )
             {
                 return null;
             }
@@ -1363,122 +1358,37 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     Buffer
      */
 
-    static Queue<Long> synchronizedCircularQueueBuffer( int bufferSize )
+    public static interface IdBuffer
     {
-        return Queues.synchronizedQueue( EvictingQueue.<Long>create( bufferSize ) );
-    }
+        long NO_ID = -1;
 
-    static Queue<Long> constantBuffer( final long value )
-    {
-        return new Queue<Long>()
-        {
-            @Override
-            public boolean add( Long aLong )
-            {
-                return true;
-            }
-
-            @Override
-            public boolean offer( Long aLong )
-            {
-                return true;
-            }
+        void add( long id );
 
-            @Override
-            public Long remove()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
+        /**
+         * @return an ID, or NO_ID if buffer is empty
+         */
+        long poll();
+    }
 
-            @Override
-            public Long poll()
-            {
-                return value;
-            }
+    static IdBuffer stripedCircularBuffer( int bufferSize )
+    {
+        return new StripedCircularIdBuffer( bufferSize );
+    }
 
+    static IdBuffer constantBuffer( final long value )
+    {
+        return new IdBuffer()
+        {
             @Override
-            public Long element()
+            public void add( long id )
             {
-                return value;
             }
 
             @Override
-            public Long peek()
+            public long poll()
             {
                 return value;
             }
-
-            @Override
-            public int size()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean isEmpty()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean contains( Object o )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public Iterator<Long> iterator()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public Object[] toArray()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public <T> T[] toArray( T[] a )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean remove( Object o )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean containsAll( Collection<?> c )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean addAll( Collection<? extends Long> c )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean removeAll( Collection<?> c )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public boolean retainAll( Collection<?> c )
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
-
-            @Override
-            public void clear()
-            {
-                throw new UnsupportedOperationException( "Method not implemented" );
-            }
         };
     }
 }
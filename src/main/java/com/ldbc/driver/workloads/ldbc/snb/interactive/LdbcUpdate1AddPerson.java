@@ -33,20 +33,20 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
     public static final String STUDY_AT = "studyAt";
     public static final String WORK_AT = "workAt";
 
-    private final long personId;
-    private final String personFirstName;
-    private final String personLastName;
-    private final String gender;
-    private final Date birthday; // input format "1984-03-22"
-    private final Date creationDate; // input format "2004-03-22"
-    private final String locationIp;
-    private final String browserUsed;
-    private final long cityId;
-    private final List<String> languages;
-    private final List<String> emails;
-    private final List<Long> tagIds;
-    private final List<Organization> studyAt;
-    private final List<Organization> workAt;
+    private long personId;
+    private String personFirstName;
+    private String personLastName;
+    private String gender;
+    private Date birthday; // input format "1984-03-22"
+    private Date creationDate; // input format "2004-03-22"
+    private String locationIp;
+    private String browserUsed;
+    private long cityId;
+    private List<String> languages;
+    private List<String> emails;
+    private List<Long> tagIds;
+    private List<Organization> studyAt;
+    private List<Organization> workAt;
 
     public LdbcUpdate1AddPerson( long personId,
             String personFirstName,
@@ -79,6 +79,41 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
         this.workAt = workAt;
     }
 
+    LdbcUpdate1AddPerson()
+    {
+    }
+
+    void init( long personId,
+            String personFirstName,
+            String personLastName,
+            String gender,
+            Date birthday,
+            Date creationDate,
+            String locationIp,
+            String browserUsed,
+            long cityId,
+            List<String> languages,
+            List<String> emails,
+            List<Long> tagIds,
+            List<Organization> studyAt,
+            List<Organization> workAt )
+    {
+        this.personId = personId;
+        this.personFirstName = personFirstName;
+        this.personLastName = personLastName;
+        this.gender = gender;
+        this.birthday = birthday;
+        this.creationDate = creationDate;
+        this.locationIp = locationIp;
+        this.browserUsed = browserUsed;
+        this.cityId = cityId;
+        this.languages = languages;
+        this.emails = emails;
+        this.tagIds = tagIds;
+        this.studyAt = studyAt;
+        this.workAt = workAt;
+    }
+
     public long personId()
     {
         return personId;
@@ -19,9 +19,9 @@ public class LdbcUpdate2AddPostLike extends Operation<LdbcNoResult>
     public static final String POST_ID = "postId";
     public static final String CREATION_DATE = "creationDate";
 
-    private final long personId;
-    private final long postId;
-    private final Date creationDate;
+    private long personId;
+    private long postId;
+    private Date creationDate;
 
     public LdbcUpdate2AddPostLike( long personId, long postId, Date creationDate )
     {
@@ -30,6 +30,17 @@ public class LdbcUpdate2AddPostLike extends Operation<LdbcNoResult>
         this.creationDate = creationDate;
     }
 
+    LdbcUpdate2AddPostLike()
+    {
+    }
+
+    void init( long personId, long postId, Date creationDate )
+    {
+        this.personId = personId;
+        this.postId = postId;
+        this.creationDate = creationDate;
+    }
+
     public long personId()
     {
         return personId;
@@ -19,9 +19,9 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
     public static final String COMMENT_ID = "commentId";
     public static final String CREATION_DATE = "creationDate";
 
-    private final long personId;
-    private final long commentId;
-    private final Date creationDate;
+    private long personId;
+    private long commentId;
+    private Date creationDate;
 
     public LdbcUpdate3AddCommentLike( long personId, long commentId, Date creationDate )
     {
@@ -30,6 +30,17 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
         this.creationDate = creationDate;
     }
 
+    LdbcUpdate3AddCommentLike()
+    {
+    }
+
+    void init( long personId, long commentId, Date creationDate )
+    {
+        this.personId = personId;
+        this.commentId = commentId;
+        this.creationDate = creationDate;
+    }
+
     public long personId()
     {
         return personId;
@@ -24,11 +24,11 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
     public static final String MODERATOR_PERSON_ID = "moderatorPersonId";
     public static final String TAG_IDS = "tagIds";
 
-    private final long forumId;
-    private final String forumTitle;
-    private final Date creationDate;
-    private final long moderatorPersonId;
-    private final List<Long> tagIds;
+    private long forumId;
+    private String forumTitle;
+    private Date creationDate;
+    private long moderatorPersonId;
+    private List<Long> tagIds;
 
     public LdbcUpdate4AddForum( long forumId, String forumTitle, Date creationDate, long moderatorPersonId,
             List<Long> tagIds )
@@ -40,6 +40,20 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
         this.tagIds = tagIds;
     }
 
+    LdbcUpdate4AddForum()
+    {
+    }
+
+    void init( long forumId, String forumTitle, Date creationDate, long moderatorPersonId,
+            List<Long> tagIds )
+    {
+        this.forumId = forumId;
+        this.forumTitle = forumTitle;
+        this.creationDate = creationDate;
+        this.moderatorPersonId = moderatorPersonId;
+        this.tagIds = tagIds;
+    }
+
     public long forumId()
     {
         return forumId;
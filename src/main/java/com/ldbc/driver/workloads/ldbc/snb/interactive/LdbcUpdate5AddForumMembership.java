@@ -19,9 +19,9 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
     public static final String PERSON_ID = "personId";
     public static final String JOIN_DATE = "joinDate";
 
-    private final long forumId;
-    private final long personId;
-    private final Date joinDate;
+    private long forumId;
+    private long personId;
+    private Date joinDate;
 
     public LdbcUpdate5AddForumMembership( long forumId, long personId, Date joinDate )
     {
@@ -30,6 +30,17 @@ public class LdbcUpdate5AddForumMembership extends Operation<LdbcNoResult>
         this.joinDate = joinDate;
     }
 
+    LdbcUpdate5AddForumMembership()
+    {
+    }
+
+    void init( long forumId, long personId, Date joinDate )
+    {
+        this.forumId = forumId;
+        this.personId = personId;
+        this.joinDate = joinDate;
+    }
+
     public long forumId()
     {
         return forumId;
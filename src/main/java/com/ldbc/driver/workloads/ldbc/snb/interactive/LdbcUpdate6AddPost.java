@@ -31,18 +31,18 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
     public static final String COUNTRY_ID = "countryId";
     public static final String TAG_IDS = "tagIds";
 
-    private final long postId;
-    private final String imageFile;
-    private final Date creationDate;
-    private final String locationIp;
-    private final String browserUsed;
-    private final String language;
-    private final String content;
-    private final int length;
-    private final long authorPersonId;
-    private final long forumId;
-    private final long countryId;
-    private final List<Long> tagIds;
+    private long postId;
+    private String imageFile;
+    private Date creationDate;
+    private String locationIp;
+    private String browserUsed;
+    private String language;
+    private String content;
+    private int length;
+    private long authorPersonId;
+    private long forumId;
+    private long countryId;
+    private List<Long> tagIds;
 
     public LdbcUpdate6AddPost( long postId,
             String imageFile,
@@ -71,6 +71,37 @@ public class LdbcUpdate6AddPost extends Operation<LdbcNoResult>
         this.tagIds = tagIds;
     }
 
+    LdbcUpdate6AddPost()
+    {
+    }
+
+    void init( long postId,
+            String imageFile,
+            Date creationDate,
+            String locationIp,
+            String browserUsed,
+            String language,
+            String content,
+            int length,
+            long authorPersonId,
+            long forumId,
+            long countryId,
+            List<Long> tagIds )
+    {
+        this.postId = postId;
+        this.imageFile = imageFile;
+        this.creationDate = creationDate;
+        this.locationIp = locationIp;
+        this.browserUsed = browserUsed;
+        this.language = language;
+        this.content = content;
+        this.length = length;
+        this.authorPersonId = authorPersonId;
+        this.forumId = forumId;
+        this.countryId = countryId;
+        this.tagIds = tagIds;
+    }
+
     public long postId()
     {
         return postId;
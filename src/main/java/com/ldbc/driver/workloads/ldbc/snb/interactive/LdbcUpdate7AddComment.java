@@ -30,17 +30,17 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
     public static final String REPLY_TO_COMMENT_ID = "replyToCommentId";
     public static final String TAG_IDS = "tagIds";
 
-    private final long commentId;
-    private final Date creationDate;
-    private final String locationIp;
-    private final String browserUsed;
-    private final String content;
-    private final int length;
-    private final long authorPersonId;
-    private final long countryId;
-    private final long replyToPostId;
-    private final long replyToCommentId;
-    private final List<Long> tagIds;
+    private long commentId;
+    private Date creationDate;
+    private String locationIp;
+    private String browserUsed;
+    private String content;
+    private int length;
+    private long authorPersonId;
+    private long countryId;
+    private long replyToPostId;
+    private long replyToCommentId;
+    private List<Long> tagIds;
 
     public LdbcUpdate7AddComment( long commentId,
             Date creationDate,
@@ -67,6 +67,35 @@ public class LdbcUpdate7AddComment extends Operation<LdbcNoResult>
         this.tagIds = tagIds;
     }
 
+    LdbcUpdate7AddComment()
+    {
+    }
+
+    void init( long commentId,
+            Date creationDate,
+            String locationIp,
+            String browserUsed,
+            String content,
+            int length,
+            long authorPersonId,
+            long countryId,
+            long replyToPostId,
+            long replyToCommentId,
+            List<Long> tagIds )
+    {
+        this.commentId = commentId;
+        this.creationDate = creationDate;
+        this.locationIp = locationIp;
+        this.browserUsed = browserUsed;
+        this.content = content;
+        this.length = length;
+        this.authorPersonId = authorPersonId;
+        this.countryId = countryId;
+        this.replyToPostId = replyToPostId;
+        this.replyToCommentId = replyToCommentId;
+        this.tagIds = tagIds;
+    }
+
     public long commentId()
     {
         return commentId;
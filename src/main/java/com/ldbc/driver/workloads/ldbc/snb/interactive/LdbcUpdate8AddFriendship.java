@@ -19,9 +19,9 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
     public static final String PERSON2_ID = "person2Id";
     public static final String CREATION_DATE = "creationDate";
 
-    private final long person1Id;
-    private final long person2Id;
-    private final Date creationDate;
+    private long person1Id;
+    private long person2Id;
+    private Date creationDate;
 
     public LdbcUpdate8AddFriendship( long person1Id, long person2Id, Date creationDate )
     {
@@ -30,6 +30,17 @@ public class LdbcUpdate8AddFriendship extends Operation<LdbcNoResult>
         this.creationDate = creationDate;
     }
 
+    LdbcUpdate8AddFriendship()
+    {
+    }
+
+    void init( long person1Id, long person2Id, Date creationDate )
+    {
+        this.person1Id = person1Id;
+        this.person2Id = person2Id;
+        this.creationDate = creationDate;
+    }
+
     public long person1Id()
     {
         return person1Id;
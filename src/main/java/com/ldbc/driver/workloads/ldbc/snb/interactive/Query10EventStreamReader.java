@@ -2,6 +2,7 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
@@ -16,10 +17,20 @@ import static java.lang.String.format;
 public class Query10EventStreamReader implements Iterator<Operation>
 {
     private final Iterator<Object[]> csvRows;
+    private final OperationPool<LdbcQuery10> operationPool;
 
     public Query10EventStreamReader( Iterator<Object[]> csvRows )
+    {
+        this( csvRows, null );
+    }
+
+    /**
+     * @param operationPool pool to acquire operations from, or null to instantiate a new operation per row
+     */
+    public Query10EventStreamReader( Iterator<Object[]> csvRows, OperationPool<LdbcQuery10> operationPool )
     {
         this.csvRows = csvRows;
+        this.operationPool = operationPool;
     }
 
     @Override
@@ -32,7 +43,8 @@ public class Query10EventStreamReader implements Iterator<Operation>
     public Operation next()
     {
         Object[] rowAsObjects = csvRows.next();
-        Operation operation = new LdbcQuery10(
+        LdbcQuery10 operation = (null == operationPool) ? new LdbcQuery10() : operationPool.acquire();
+        operation.init(
                 (long) rowAsObjects[0],
                 (int) rowAsObjects[1],
                 LdbcQuery10.DEFAULT_LIMIT
@@ -2,6 +2,7 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
@@ -16,10 +17,20 @@ import static java.lang.String.format;
 public class Query14EventStreamReader implements Iterator<Operation>
 {
     private final Iterator<Object[]> csvRows;
+    private final OperationPool<LdbcQuery14> operationPool;
 
     public Query14EventStreamReader( Iterator<Object[]> csvRows )
+    {
+        this( csvRows, null );
+    }
+
+    /**
+     * @param operationPool pool to acquire operations from, or null to instantiate a new operation per row
+     */
+    public Query14EventStreamReader( Iterator<Object[]> csvRows, OperationPool<LdbcQuery14> operationPool )
     {
         this.csvRows = csvRows;
+        this.operationPool = operationPool;
     }
 
     @Override
@@ -32,7 +43,8 @@ public class Query14EventStreamReader implements Iterator<Operation>
     public Operation next()
     {
         Object[] rowAsObjects = csvRows.next();
-        Operation operation = new LdbcQuery14(
+        LdbcQuery14 operation = (null == operationPool) ? new LdbcQuery14() : operationPool.acquire();
+        operation.init(
                 (long) rowAsObjects[0],
                 (long) rowAsObjects[1]
         );
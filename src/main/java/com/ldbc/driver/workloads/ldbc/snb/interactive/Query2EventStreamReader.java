@@ -2,6 +2,7 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
@@ -17,10 +18,20 @@ import static java.lang.String.format;
 public class Query2EventStreamReader implements Iterator<Operation>
 {
     private final Iterator<Object[]> csvRows;
+    private final OperationPool<LdbcQuery2> operationPool;
 
     public Query2EventStreamReader( Iterator<Object[]> csvRows )
+    {
+        this( csvRows, null );
+    }
+
+    /**
+     * @param operationPool pool to acquire operations from, or null to instantiate a new operation per row
+     */
+    public Query2EventStreamReader( Iterator<Object[]> csvRows, OperationPool<LdbcQuery2> operationPool )
     {
         this.csvRows = csvRows;
+        this.operationPool = operationPool;
     }
 
     @Override
@@ -33,7 +44,8 @@ public class Query2EventStreamReader implements Iterator<Operation>
     public Operation next()
     {
         Object[] rowAsObjects = csvRows.next();
-        Operation operation = new LdbcQuery2(
+        LdbcQuery2 operation = (null == operationPool) ? new LdbcQuery2() : operationPool.acquire();
+        operation.init(
                 (long) rowAsObjects[0],
                 (Date) rowAsObjects[1],
                 LdbcQuery2.DEFAULT_LIMIT
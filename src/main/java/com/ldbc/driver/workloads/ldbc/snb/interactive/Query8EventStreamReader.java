@@ -2,6 +2,7 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
@@ -15,10 +16,20 @@ import static java.lang.String.format;
 public class Query8EventStreamReader implements Iterator<Operation>
 {
     private final Iterator<Object[]> csvRows;
+    private final OperationPool<LdbcQuery8> operationPool;
 
     public Query8EventStreamReader( Iterator<Object[]> csvRows )
+    {
+        this( csvRows, null );
+    }
+
+    /**
+     * @param operationPool pool to acquire operations from, or null to instantiate a new operation per row
+     */
+    public Query8EventStreamReader( Iterator<Object[]> csvRows, OperationPool<LdbcQuery8> operationPool )
     {
         this.csvRows = csvRows;
+        this.operationPool = operationPool;
     }
 
     @Override
@@ -31,7 +42,8 @@ public class Query8EventStreamReader implements Iterator<Operation>
     public Operation next()
     {
         Object[] rowAsObjects = csvRows.next();
-        Operation operation = new LdbcQuery8(
+        LdbcQuery8 operation = (null == operationPool) ? new LdbcQuery8() : operationPool.acquire();
+        operation.init(
                 (long) rowAsObjects[0],
                 LdbcQuery8.DEFAULT_LIMIT
         );
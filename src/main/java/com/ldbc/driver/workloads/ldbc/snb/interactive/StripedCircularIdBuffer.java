@@ -0,0 +1,133 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.lang.String.format;
+
+/**
+ * Lock-free, bounded buffer of primitive IDs, shared by all threads that execute short read sequences.
+ * <p/>
+ * IDs are stored in multiple circular shards. A thread adds to, and first polls from, the shard its thread ID maps to,
+ * when that shard is empty it steals from the other shards, starting at a random one. Like the evicting queue it
+ * replaces, each shard overwrites its oldest IDs once full. Ordering is only FIFO per shard, and under concurrent
+ * adds a poll may return an ID that was about to be overwritten, neither of which matters for picking short read
+ * parameters.
+ */
+public class StripedCircularIdBuffer implements LdbcSnbShortReadGenerator.IdBuffer
+{
+    private static final int MIN_SHARD_CAPACITY = 16;
+
+    private final Shard[] shards;
+    private final int shardMask;
+
+    public StripedCircularIdBuffer( int bufferSize )
+    {
+        this( bufferSize, Runtime.getRuntime().availableProcessors() );
+    }
+
+    public StripedCircularIdBuffer( int bufferSize, int concurrency )
+    {
+        if ( bufferSize < 1 || concurrency < 1 )
+        {
+            throw new IllegalArgumentException(
+                    format( "Buffer size and concurrency must be positive: %s, %s", bufferSize, concurrency ) );
+        }
+        int shardCount = ceilingPowerOfTwo( concurrency );
+        int shardCapacity = ceilingPowerOfTwo( Math.max( MIN_SHARD_CAPACITY, bufferSize / shardCount ) );
+        this.shards = new Shard[shardCount];
+        for ( int i = 0; i < shardCount; i++ )
+        {
+            shards[i] = new Shard( shardCapacity );
+        }
+        this.shardMask = shardCount - 1;
+    }
+
+    private static int ceilingPowerOfTwo( int value )
+    {
+        int highestOneBit = Integer.highestOneBit( value );
+        return (highestOneBit == value) ? value : highestOneBit << 1;
+    }
+
+    private int homeShard()
+    {
+        return (int) Thread.currentThread().getId() & shardMask;
+    }
+
+    @Override
+    public void add( long id )
+    {
+        shards[homeShard()].add( id );
+    }
+
+    @Override
+    public long poll()
+    {
+        long id = shards[homeShard()].poll();
+        if ( NO_ID != id || 0 == shardMask )
+        {
+            return id;
+        }
+        int start = ThreadLocalRandom.current().nextInt( shards.length );
+        for ( int i = 0; i < shards.length; i++ )
+        {
+            id = shards[(start + i) & shardMask].poll();
+            if ( NO_ID != id )
+            {
+                return id;
+            }
+        }
+        return NO_ID;
+    }
+
+    private static class Shard
+    {
+        private final AtomicLongArray slots;
+        private final int mask;
+        private final AtomicLong writeSequence = new AtomicLong( 0 );
+        private final AtomicLong readSequence = new AtomicLong( 0 );
+
+        private Shard( int capacity )
+        {
+            this.slots = new AtomicLongArray( capacity );
+            for ( int i = 0; i < capacity; i++ )
+            {
+                slots.set( i, NO_ID );
+            }
+            this.mask = capacity - 1;
+        }
+
+        private void add( long id )
+        {
+            slots.set( (int) (writeSequence.getAndIncrement() & mask), id );
+        }
+
+        private long poll()
+        {
+            while ( true )
+            {
+                long read = readSequence.get();
+                long write = writeSequence.get();
+                if ( read >= write )
+                {
+                    return NO_ID;
+                }
+                if ( write - read > slots.length() )
+                {
+                    // oldest IDs have been overwritten, skip past them
+                    readSequence.compareAndSet( read, write - slots.length() );
+                }
+                else if ( readSequence.compareAndSet( read, read + 1 ) )
+                {
+                    long id = slots.getAndSet( (int) (read & mask), NO_ID );
+                    if ( NO_ID != id )
+                    {
+                        return id;
+                    }
+                    // writer claimed slot but has not yet written it, or ID was taken by lapping reader
+                }
+            }
+        }
+    }
+}
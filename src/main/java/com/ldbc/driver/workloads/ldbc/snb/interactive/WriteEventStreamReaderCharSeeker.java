@@ -2,6 +2,7 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
@@ -11,8 +12,17 @@ import com.ldbc.driver.generator.GeneratorException;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Supplier;
 
 public class WriteEventStreamReaderCharSeeker {
+    /**
+     * Creates the pool that operations of one type are acquired from, null to instantiate a new operation per event
+     */
+    public interface OperationPoolFactory {
+        <OPERATION extends Operation> OperationPool<OPERATION> poolFor(Class<OPERATION> operationType,
+                                                                       Supplier<OPERATION> operationFactory);
+    }
+
     public static Iterator<Operation> create(CharSeeker charSeeker, Extractors extractors, int columnDelimiter) {
         Map<Integer, EventDecoder<Operation>> decoders = new HashMap<>();
         decoders.put(1, new EventDecoderAddPerson());
@@ -26,7 +36,45 @@ public class WriteEventStreamReaderCharSeeker {
         return new CsvEventStreamReaderTimedTypedCharSeeker<>(charSeeker, extractors, decoders, columnDelimiter);
     }
 
+    /**
+     * As create(), but operations are acquired from pools, one per operation type, as created by operationPoolFactory.
+     * Pools are only acquired from by the returned reader, so must not be shared with other readers.
+     */
+    public static Iterator<Operation> create(CharSeeker charSeeker, Extractors extractors, int columnDelimiter,
+                                             OperationPoolFactory operationPoolFactory) {
+        Map<Integer, EventDecoder<Operation>> decoders = new HashMap<>();
+        decoders.put(1, new EventDecoderAddPerson(
+                operationPoolFactory.poolFor(LdbcUpdate1AddPerson.class, LdbcUpdate1AddPerson::new)));
+        decoders.put(2, new EventDecoderAddLikePost(
+                operationPoolFactory.poolFor(LdbcUpdate2AddPostLike.class, LdbcUpdate2AddPostLike::new)));
+        decoders.put(3, new EventDecoderAddLikeComment(
+                operationPoolFactory.poolFor(LdbcUpdate3AddCommentLike.class, LdbcUpdate3AddCommentLike::new)));
+        decoders.put(4, new EventDecoderAddForum(
+                operationPoolFactory.poolFor(LdbcUpdate4AddForum.class, LdbcUpdate4AddForum::new)));
+        decoders.put(5, new EventDecoderAddForumMembership(
+                operationPoolFactory.poolFor(LdbcUpdate5AddForumMembership.class, LdbcUpdate5AddForumMembership::new)));
+        decoders.put(6, new EventDecoderAddPost(
+                operationPoolFactory.poolFor(LdbcUpdate6AddPost.class, LdbcUpdate6AddPost::new)));
+        decoders.put(7, new EventDecoderAddComment(
+                operationPoolFactory.poolFor(LdbcUpdate7AddComment.class, LdbcUpdate7AddComment::new)));
+        decoders.put(8, new EventDecoderAddFriendship(
+                operationPoolFactory.poolFor(LdbcUpdate8AddFriendship.class, LdbcUpdate8AddFriendship::new)));
+        return new CsvEventStreamReaderTimedTypedCharSeeker<>(charSeeker, extractors, decoders, columnDelimiter);
+    }
+
     public static class EventDecoderAddPerson implements EventDecoder<Operation> {
+        private final OperationPool<LdbcUpdate1AddPerson> operationPool;
+
+        public EventDecoderAddPerson() {
+            this(null);
+        }
+
+        /**
+         * @param operationPool pool to acquire operations from, or null to instantiate a new operation per event
+         */
+        public EventDecoderAddPerson(OperationPool<LdbcUpdate1AddPerson> operationPool) {
+            this.operationPool = operationPool;
+        }
 
         @Override
         public Operation decodeEvent(long scheduledStartTimeAsMilli, long dependencyTimeAsMilli, CharSeeker charSeeker, Extractors extractors, int[] columnDelimiters, Mark mark) {
@@ -155,7 +203,10 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving companies");
                 }
 
-                Operation operation = new LdbcUpdate1AddPerson(
+                LdbcUpdate1AddPerson operation = (null == operationPool)
+                        ? new LdbcUpdate1AddPerson()
+                        : operationPool.acquire();
+                operation.init(
                         personId,
                         firstName,
                         lastName,
@@ -181,6 +232,19 @@ public class WriteEventStreamReaderCharSeeker {
     }
 
     public static class EventDecoderAddLikePost implements EventDecoder<Operation> {
+        private final OperationPool<LdbcUpdate2AddPostLike> operationPool;
+
+        public EventDecoderAddLikePost() {
+            this(null);
+        }
+
+        /**
+         * @param operationPool pool to acquire operations from, or null to instantiate a new operation per event
+         */
+        public EventDecoderAddLikePost(OperationPool<LdbcUpdate2AddPostLike> operationPool) {
+            this.operationPool = operationPool;
+        }
+
         @Override
         public Operation decodeEvent(long scheduledStartTimeAsMilli, long dependencyTimeAsMilli, CharSeeker charSeeker, Extractors extractors, int[] columnDelimiters, Mark mark) {
             try {
@@ -206,7 +270,10 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving creation date");
                 }
 
-                Operation operation = new LdbcUpdate2AddPostLike(personId, postId, creationDate);
+                LdbcUpdate2AddPostLike operation = (null == operationPool)
+                        ? new LdbcUpdate2AddPostLike()
+                        : operationPool.acquire();
+                operation.init(personId, postId, creationDate);
                 operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
                 operation.setTimeStamp(scheduledStartTimeAsMilli);
                 operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -218,6 +285,19 @@ public class WriteEventStreamReaderCharSeeker {
     }
 
     public static class EventDecoderAddLikeComment implements EventDecoder<Operation> {
+        private final OperationPool<LdbcUpdate3AddCommentLike> operationPool;
+
+        public EventDecoderAddLikeComment() {
+            this(null);
+        }
+
+        /**
+         * @param operationPool pool to acquire operations from, or null to instantiate a new operation per event
+         */
+        public EventDecoderAddLikeComment(OperationPool<LdbcUpdate3AddCommentLike> operationPool) {
+            this.operationPool = operationPool;
+        }
+
         @Override
         public Operation decodeEvent(long scheduledStartTimeAsMilli, long dependencyTimeAsMilli, CharSeeker charSeeker, Extractors extractors, int[] columnDelimiters, Mark mark) {
             try {
@@ -243,7 +323,10 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving creation date");
                 }
 
-                Operation operation = new LdbcUpdate3AddCommentLike(personId, commentId, creationDate);
+                LdbcUpdate3AddCommentLike operation = (null == operationPool)
+                        ? new LdbcUpdate3AddCommentLike()
+                        : operationPool.acquire();
+                operation.init(personId, commentId, creationDate);
                 operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
                 operation.setTimeStamp(scheduledStartTimeAsMilli);
                 operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -255,6 +338,19 @@ public class WriteEventStreamReaderCharSeeker {
     }
 
     public static class EventDecoderAddForum implements EventDecoder<Operation> {
+        private final OperationPool<LdbcUpdate4AddForum> operationPool;
+
+        public EventDecoderAddForum() {
+            this(null);
+        }
+
+        /**
+         * @param operationPool pool to acquire operations from, or null to instantiate a new operation per event
+         */
+        public EventDecoderAddForum(OperationPool<LdbcUpdate4AddForum> operationPool) {
+            this.operationPool = operationPool;
+        }
+
         @Override
         public Operation decodeEvent(long scheduledStartTimeAsMilli, long dependencyTimeAsMilli, CharSeeker charSeeker, Extractors extractors, int[] columnDelimiters, Mark mark) {
             try {
@@ -299,7 +395,10 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving tags");
                 }
 
-                Operation operation = new LdbcUpdate4AddForum(forumId, forumTitle, creationDate, moderatorPersonId, tagIds);
+                LdbcUpdate4AddForum operation = (null == operationPool)
+                        ? new LdbcUpdate4AddForum()
+                        : operationPool.acquire();
+                operation.init(forumId, forumTitle, creationDate, moderatorPersonId, tagIds);
                 operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
                 operation.setTimeStamp(scheduledStartTimeAsMilli);
                 operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -311,6 +410,19 @@ public class WriteEventStreamReaderCharSeeker {
     }
 
     public static class EventDecoderAddForumMembership implements EventDecoder<Operation> {
+        private final OperationPool<LdbcUpdate5AddForumMembership> operationPool;
+
+        public EventDecoderAddForumMembership() {
+            this(null);
+        }
+
+        /**
+         * @param operationPool pool to acquire operations from, or null to instantiate a new operation per event
+         */
+        public EventDecoderAddForumMembership(OperationPool<LdbcUpdate5AddForumMembership> operationPool) {
+            this.operationPool = operationPool;
+        }
+
         @Override
         public Operation decodeEvent(long scheduledStartTimeAsMilli, long dependencyTimeAsMilli, CharSeeker charSeeker, Extractors extractors, int[] columnDelimiters, Mark mark) {
             try {
@@ -336,7 +448,10 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving creation date");
                 }
 
-                Operation operation = new LdbcUpdate5AddForumMembership(forumId, personId, creationDate);
+                LdbcUpdate5AddForumMembership operation = (null == operationPool)
+                        ? new LdbcUpdate5AddForumMembership()
+                        : operationPool.acquire();
+                operation.init(forumId, personId, creationDate);
                 operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
                 operation.setTimeStamp(scheduledStartTimeAsMilli);
                 operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -348,6 +463,19 @@ public class WriteEventStreamReaderCharSeeker {
     }
 
     public static class EventDecoderAddPost implements EventDecoder<Operation> {
+        private final OperationPool<LdbcUpdate6AddPost> operationPool;
+
+        public EventDecoderAddPost() {
+            this(null);
+        }
+
+        /**
+         * @param operationPool pool to acquire operations from, or null to instantiate a new operation per event
+         */
+        public EventDecoderAddPost(OperationPool<LdbcUpdate6AddPost> operationPool) {
+            this.operationPool = operationPool;
+        }
+
         @Override
         public Operation decodeEvent(long scheduledStartTimeAsMilli, long dependencyTimeAsMilli, CharSeeker charSeeker, Extractors extractors, int[] columnDelimiters, Mark mark) {
             try {
@@ -445,7 +573,10 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving tags");
                 }
 
-                Operation operation = new LdbcUpdate6AddPost(
+                LdbcUpdate6AddPost operation = (null == operationPool)
+                        ? new LdbcUpdate6AddPost()
+                        : operationPool.acquire();
+                operation.init(
                         postId,
                         imageFile,
                         creationDate,
@@ -469,6 +600,19 @@ public class WriteEventStreamReaderCharSeeker {
     }
 
     public static class EventDecoderAddComment implements EventDecoder<Operation> {
+        private final OperationPool<LdbcUpdate7AddComment> operationPool;
+
+        public EventDecoderAddComment() {
+            this(null);
+        }
+
+        /**
+         * @param operationPool pool to acquire operations from, or null to instantiate a new operation per event
+         */
+        public EventDecoderAddComment(OperationPool<LdbcUpdate7AddComment> operationPool) {
+            this.operationPool = operationPool;
+        }
+
         @Override
         public Operation decodeEvent(long scheduledStartTimeAsMilli, long dependencyTimeAsMilli, CharSeeker charSeeker, Extractors extractors, int[] columnDelimiters, Mark mark) {
             try {
@@ -557,7 +701,10 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving tags");
                 }
 
-                Operation operation = new LdbcUpdate7AddComment(
+                LdbcUpdate7AddComment operation = (null == operationPool)
+                        ? new LdbcUpdate7AddComment()
+                        : operationPool.acquire();
+                operation.init(
                         commentId,
                         creationDate,
                         locationIp,
@@ -580,6 +727,19 @@ public class WriteEventStreamReaderCharSeeker {
     }
 
     public static class EventDecoderAddFriendship implements EventDecoder<Operation> {
+        private final OperationPool<LdbcUpdate8AddFriendship> operationPool;
+
+        public EventDecoderAddFriendship() {
+            this(null);
+        }
+
+        /**
+         * @param operationPool pool to acquire operations from, or null to instantiate a new operation per event
+         */
+        public EventDecoderAddFriendship(OperationPool<LdbcUpdate8AddFriendship> operationPool) {
+            this.operationPool = operationPool;
+        }
+
         @Override
         public Operation decodeEvent(long scheduledStartTimeAsMilli, long dependencyTimeAsMilli, CharSeeker charSeeker, Extractors extractors, int[] columnDelimiters, Mark mark) {
             try {
@@ -605,7 +765,10 @@ public class WriteEventStreamReaderCharSeeker {
                     throw new GeneratorException("Error retrieving creation date");
                 }
 
-                Operation operation = new LdbcUpdate8AddFriendship(person1Id, person2Id, creationDate);
+                LdbcUpdate8AddFriendship operation = (null == operationPool)
+                        ? new LdbcUpdate8AddFriendship()
+                        : operationPool.acquire();
+                operation.init(person1Id, person2Id, creationDate);
                 operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
                 operation.setTimeStamp(scheduledStartTimeAsMilli);
                 operation.setDependencyTimeStamp(dependencyTimeAsMilli);
@@ -319,6 +319,12 @@ public class SimpleWorkload extends Workload
             throw new SerializingMarshallingException(
                     format( "Error while parsing serialized results\n%s", serializedOperation ), e );
         }
+        return marshalOperation( operationAsList );
+    }
+
+    @Override
+    public Operation marshalOperation( List<Object> operationAsList ) throws SerializingMarshallingException
+    {
         String operationClassName = (String) operationAsList.get( 0 );
 
         if ( operationClassName.equals( InsertOperation.class.getName() ) )
@@ -373,7 +379,7 @@ public class SimpleWorkload extends Workload
                         "%s\nSerialized Operation: %s",
                         getClass().getName(),
                         operationClassName,
-                        serializedOperation ) );
+                        operationAsList ) );
     }
 
     @Override
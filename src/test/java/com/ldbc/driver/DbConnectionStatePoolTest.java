@@ -0,0 +1,236 @@
+package com.ldbc.driver;
+
+import com.google.common.collect.ImmutableMap;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.workloads.dummy.DummyResult;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class DbConnectionStatePoolTest
+{
+    @Test
+    public void shouldReturnSameConnectionStateFromSharedPoolAndNotCloseIt() throws DbException, IOException
+    {
+        // Given
+        CountingDbConnectionState dbConnectionState = new CountingDbConnectionState();
+        DbConnectionStatePool pool = DbConnectionStatePool.shared( dbConnectionState );
+
+        // When
+        DbConnectionStatePool.Lease lease1 = pool.acquire();
+        DbConnectionStatePool.Lease lease2 = pool.acquire();
+        lease1.release();
+        lease2.release();
+        pool.close();
+
+        // Then
+        assertThat( lease1.dbConnectionState(), sameInstance( (DbConnectionState) dbConnectionState ) );
+        assertThat( lease2.dbConnectionState(), sameInstance( (DbConnectionState) dbConnectionState ) );
+        assertThat( dbConnectionState.isClosed(), is( false ) );
+    }
+
+    @Test
+    public void shouldNeverHandSameConnectionStateToTwoThreadsAtOnce() throws Exception
+    {
+        // Given
+        final int poolSize = 4;
+        final int threadCount = 16;
+        final int acquisitionsPerThread = 1000;
+        final CountingDbConnectionStateFactory factory = new CountingDbConnectionStateFactory();
+        final DbConnectionStatePool pool = DbConnectionStatePool.pooled( factory, poolSize );
+        final AtomicInteger errorCount = new AtomicInteger( 0 );
+        final CountDownLatch startLatch = new CountDownLatch( 1 );
+        List<Thread> threads = new ArrayList<>();
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            threads.add( new Thread( () ->
+            {
+                try
+                {
+                    startLatch.await();
+                    for ( int j = 0; j < acquisitionsPerThread; j++ )
+                    {
+                        DbConnectionStatePool.Lease lease = pool.acquire();
+                        CountingDbConnectionState dbConnectionState =
+                                (CountingDbConnectionState) lease.dbConnectionState();
+                        if ( 1 != dbConnectionState.users.incrementAndGet() )
+                        {
+                            errorCount.incrementAndGet();
+                        }
+                        dbConnectionState.users.decrementAndGet();
+                        lease.release();
+                    }
+                }
+                catch ( Exception e )
+                {
+                    errorCount.incrementAndGet();
+                }
+            } ) );
+        }
+
+        // When
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        startLatch.countDown();
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+        pool.close();
+
+        // Then
+        assertThat( errorCount.get(), is( 0 ) );
+        assertThat( factory.created.size(), equalTo( poolSize ) );
+        assertThat( pool.acquisitionCount(), equalTo( (long) threadCount * acquisitionsPerThread ) );
+        assertTrue( pool.maxAcquisitionWaitTimeAsNano() <= pool.acquisitionWaitTimeAsNano() );
+        for ( CountingDbConnectionState dbConnectionState : factory.created )
+        {
+            assertThat( dbConnectionState.isClosed(), is( true ) );
+        }
+    }
+
+    @Test
+    public void shouldResetStatistics() throws DbException, IOException
+    {
+        // Given
+        DbConnectionStatePool pool = DbConnectionStatePool.pooled( new CountingDbConnectionStateFactory(), 1 );
+        pool.acquire().release();
+        pool.acquire().release();
+        assertThat( pool.acquisitionCount(), equalTo( 2L ) );
+
+        // When
+        pool.resetStatistics();
+
+        // Then
+        assertThat( pool.acquisitionCount(), equalTo( 0L ) );
+        assertThat( pool.acquisitionWaitTimeAsNano(), equalTo( 0L ) );
+        assertThat( pool.maxAcquisitionWaitTimeAsNano(), equalTo( 0L ) );
+        pool.close();
+    }
+
+    @Test
+    public void shouldPoolConnectionStatesOfDbThatProvidesFactory() throws Exception
+    {
+        // Given
+        CountingDbConnectionStateFactory factory = new CountingDbConnectionStateFactory();
+        Db db = new FactoryDb( factory );
+        Map<String,String> params = ImmutableMap.of( ConsoleAndFileDriverConfiguration.THREADS_ARG, "3" );
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        Map<Integer,Class<? extends Operation>> mapping = new HashMap<>();
+        mapping.put( NothingOperation.TYPE, NothingOperation.class );
+        db.init( params, loggingService, mapping );
+
+        // When
+        OperationHandlerRunnableContext context1 = db.getOperationHandlerRunnableContext( new NothingOperation() );
+        OperationHandlerRunnableContext context2 = db.getOperationHandlerRunnableContext( new NothingOperation() );
+        DbConnectionState dbConnectionState1 = context1.acquireDbConnectionState();
+        DbConnectionState dbConnectionState2 = context2.acquireDbConnectionState();
+
+        // Then
+        assertThat( db.dbConnectionStatePool().size(), equalTo( 3 ) );
+        assertThat( dbConnectionState1, not( sameInstance( dbConnectionState2 ) ) );
+        assertThat( context1.dbConnectionState(), sameInstance( dbConnectionState1 ) );
+        context1.cleanup();
+        context2.cleanup();
+        assertThat( context1.dbConnectionState(), nullValue() );
+        assertThat( db.dbConnectionStatePool().acquisitionCount(), equalTo( 2L ) );
+
+        db.close();
+        for ( CountingDbConnectionState dbConnectionState : factory.created )
+        {
+            assertThat( dbConnectionState.isClosed(), is( true ) );
+        }
+    }
+
+    private static class CountingDbConnectionState extends DbConnectionState
+    {
+        private final AtomicInteger users = new AtomicInteger( 0 );
+        private volatile boolean closed = false;
+
+        boolean isClosed()
+        {
+            return closed;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            closed = true;
+        }
+    }
+
+    private static class CountingDbConnectionStateFactory implements DbConnectionStateFactory
+    {
+        private final List<CountingDbConnectionState> created = new ArrayList<>();
+
+        @Override
+        public synchronized DbConnectionState newDbConnectionState()
+        {
+            CountingDbConnectionState dbConnectionState = new CountingDbConnectionState();
+            created.add( dbConnectionState );
+            return dbConnectionState;
+        }
+    }
+
+    private static class FactoryDb extends Db
+    {
+        private final DbConnectionStateFactory dbConnectionStateFactory;
+
+        private FactoryDb( DbConnectionStateFactory dbConnectionStateFactory )
+        {
+            this.dbConnectionStateFactory = dbConnectionStateFactory;
+        }
+
+        @Override
+        protected void onInit( Map<String,String> properties, LoggingService loggingService ) throws DbException
+        {
+            registerOperationHandler( NothingOperation.class, NothingOperationHandler.class );
+        }
+
+        @Override
+        protected void onClose()
+        {
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            throw new DbException( "Connection state is not shared" );
+        }
+
+        @Override
+        protected DbConnectionStateFactory getConnectionStateFactory()
+        {
+            return dbConnectionStateFactory;
+        }
+    }
+
+    public static class NothingOperationHandler implements OperationHandler<NothingOperation,DbConnectionState>
+    {
+        @Override
+        public void executeOperation( NothingOperation operation, DbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            resultReporter.report( 0, new DummyResult(), operation );
+        }
+    }
+}
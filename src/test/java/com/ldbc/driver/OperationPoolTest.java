@@ -0,0 +1,131 @@
+package com.ldbc.driver;
+
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class OperationPoolTest
+{
+    @Test
+    public void shouldCreateOperationsUntilRecycledThenReuseThem()
+    {
+        // Given
+        OperationPool<NothingOperation> pool = new OperationPool<>( NothingOperation.class, NothingOperation::new );
+
+        // When
+        NothingOperation operation1 = pool.acquire();
+        NothingOperation operation2 = pool.acquire();
+        operation1.setScheduledStartTimeAsMilli( 1 );
+        operation1.setTimeStamp( 2 );
+        operation1.setDependencyTimeStamp( 3 );
+        operation1.recycle();
+        NothingOperation operation3 = pool.acquire();
+
+        // Then
+        assertThat( operation1, not( sameInstance( operation2 ) ) );
+        assertThat( operation3, sameInstance( operation1 ) );
+        assertThat( operation3.scheduledStartTimeAsMilli(), equalTo( -1L ) );
+        assertThat( operation3.timeStamp(), equalTo( -1L ) );
+        assertThat( operation3.dependencyTimeStamp(), equalTo( -1L ) );
+        assertThat( pool.createdCount(), equalTo( 2L ) );
+        assertThat( pool.reusedCount(), equalTo( 1L ) );
+    }
+
+    @Test
+    public void shouldIgnoreRecycleOfOperationsNotAcquiredFromPool()
+    {
+        // Given
+        OperationPool<NothingOperation> pool = new OperationPool<>( NothingOperation.class, NothingOperation::new );
+        NothingOperation operation = new NothingOperation();
+
+        // When
+        operation.recycle();
+
+        // Then
+        assertThat( pool.acquire(), not( sameInstance( operation ) ) );
+        assertThat( pool.createdCount(), equalTo( 1L ) );
+        assertThat( pool.reusedCount(), equalTo( 0L ) );
+    }
+
+    @Test
+    public void shouldNeverHandOutOperationThatIsStillInUseWhenRecycledConcurrently() throws InterruptedException
+    {
+        // Given
+        final int maxInUse = 16;
+        final int recyclerCount = 4;
+        final int acquisitionCount = 100_000;
+        final OperationPool<NothingOperation> pool =
+                new OperationPool<>( NothingOperation.class, NothingOperation::new );
+        final Semaphore inUsePermits = new Semaphore( maxInUse );
+        final Set<Operation> inUse = Collections.synchronizedSet(
+                Collections.newSetFromMap( new IdentityHashMap<Operation,Boolean>() ) );
+        final BlockingQueue<Operation> toRecycle = new LinkedBlockingQueue<>();
+        final AtomicInteger errorCount = new AtomicInteger( 0 );
+        List<Thread> recyclers = new ArrayList<>();
+        for ( int i = 0; i < recyclerCount; i++ )
+        {
+            Thread recycler = new Thread( () ->
+            {
+                try
+                {
+                    while ( true )
+                    {
+                        Operation operation = toRecycle.take();
+                        if ( !inUse.remove( operation ) )
+                        {
+                            errorCount.incrementAndGet();
+                        }
+                        operation.recycle();
+                        inUsePermits.release();
+                    }
+                }
+                catch ( InterruptedException e )
+                {
+                    // test finished
+                }
+            } );
+            recycler.start();
+            recyclers.add( recycler );
+        }
+
+        // When
+        for ( int i = 0; i < acquisitionCount; i++ )
+        {
+            inUsePermits.acquire();
+            NothingOperation operation = pool.acquire();
+            if ( !inUse.add( operation ) )
+            {
+                errorCount.incrementAndGet();
+            }
+            toRecycle.put( operation );
+        }
+        inUsePermits.tryAcquire( maxInUse, 10, TimeUnit.SECONDS );
+        for ( Thread recycler : recyclers )
+        {
+            recycler.interrupt();
+            recycler.join();
+        }
+
+        // Then
+        assertThat( errorCount.get(), is( 0 ) );
+        assertThat( pool.createdCount(), lessThanOrEqualTo( (long) maxInUse ) );
+        assertThat( pool.createdCount() + pool.reusedCount(), equalTo( (long) acquisitionCount ) );
+    }
+}
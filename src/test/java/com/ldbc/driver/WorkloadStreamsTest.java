@@ -18,8 +18,11 @@ import com.ldbc.driver.workloads.dummy.TimedNamedOperation2;
 import com.ldbc.driver.workloads.dummy.TimedNamedOperation2Factory;
 import com.ldbc.driver.workloads.dummy.TimedNamedOperation3;
 import com.ldbc.driver.workloads.dummy.TimedNamedOperation3Factory;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -36,6 +39,8 @@ import static org.junit.Assert.assertThat;
 
 public class WorkloadStreamsTest
 {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     @Test
     public void shouldReturnSameWorkloadStreamsAsCreatedWith()
@@ -339,6 +344,147 @@ public class WorkloadStreamsTest
         workload.close();
     }
 
+    @Test
+    public void shouldCreateAndThenUseStreamOffsetIndex()
+            throws WorkloadException, DriverConfigurationException, IOException
+    {
+        // Given
+        WorkloadFactory workloadFactory = new WorkloadFactory()
+        {
+            @Override
+            public Workload createWorkload() throws WorkloadException
+            {
+                return new TestWorkload();
+            }
+        };
+        File indexDir = temporaryFolder.newFolder();
+        ConsoleAndFileDriverConfiguration configurationWithoutIndex =
+                (ConsoleAndFileDriverConfiguration) ConsoleAndFileDriverConfiguration.fromDefaults( null, null, 100 )
+                        .applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, Long.toString( 10 ) );
+        ConsoleAndFileDriverConfiguration configuration = (ConsoleAndFileDriverConfiguration) configurationWithoutIndex
+                .applyArg( ConsoleAndFileDriverConfiguration.STREAM_OFFSET_INDEX_ARG, indexDir.getAbsolutePath() );
+        LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+        // When
+        List<Operation> operationsWithoutIndex =
+                limitedOperations( workloadFactory, configurationWithoutIndex, loggingServiceFactory );
+        List<Operation> operationsCreatingIndex =
+                limitedOperations( workloadFactory, configuration, loggingServiceFactory );
+        File[] indexFiles = indexDir.listFiles();
+        List<Operation> operationsUsingIndex =
+                limitedOperations( workloadFactory, configuration, loggingServiceFactory );
+
+        // Then
+        assertThat( operationsWithoutIndex.size(), is( 100 ) );
+        assertThat( operationsCreatingIndex, equalTo( operationsWithoutIndex ) );
+        assertThat( operationsUsingIndex, equalTo( operationsWithoutIndex ) );
+        assertThat( indexFiles.length, is( 1 ) );
+        StreamOffsetIndex index = StreamOffsetIndex.readFrom( indexFiles[0] );
+        assertThat( index.offset(), is( 10l ) );
+        assertThat( index.limit(), is( 100l ) );
+
+        // When
+        new StreamOffsetIndex(
+                index.offset(),
+                index.limit(),
+                index.startForStream(),
+                new long[index.limitForStream().length],
+                index.minimumTimeStamp()
+        ).writeTo( indexFiles[0] );
+
+        // Then
+        assertThat( limitedOperations( workloadFactory, configuration, loggingServiceFactory ).size(), is( 0 ) );
+        assertThat( indexDir.listFiles().length, is( 1 ) );
+    }
+
+    @Test
+    public void shouldUseStreamOffsetIndexKeptInDirectoryThatIsFingerprinted()
+            throws WorkloadException, DriverConfigurationException, IOException
+    {
+        File datasetDir = temporaryFolder.newFolder();
+        shouldUseStreamOffsetIndexKeptInDirectoryThatIsFingerprinted( datasetDir, datasetDir );
+    }
+
+    @Test
+    public void shouldUseStreamOffsetIndexKeptInSubdirectoryOfDirectoryThatIsFingerprinted()
+            throws WorkloadException, DriverConfigurationException, IOException
+    {
+        File datasetDir = temporaryFolder.newFolder();
+        shouldUseStreamOffsetIndexKeptInDirectoryThatIsFingerprinted( datasetDir, new File( datasetDir, "index" ) );
+    }
+
+    private void shouldUseStreamOffsetIndexKeptInDirectoryThatIsFingerprinted( File datasetDir, File indexDir )
+            throws WorkloadException, DriverConfigurationException, IOException
+    {
+        // Given
+        WorkloadFactory workloadFactory = new WorkloadFactory()
+        {
+            @Override
+            public Workload createWorkload() throws WorkloadException
+            {
+                return new TestWorkload();
+            }
+        };
+        assertThat( new File( datasetDir, "updates.csv" ).createNewFile(), is( true ) );
+        ConsoleAndFileDriverConfiguration configuration =
+                (ConsoleAndFileDriverConfiguration) ConsoleAndFileDriverConfiguration.fromDefaults( null, null, 100 )
+                        .applyArg( "test.dataset_dir", datasetDir.getAbsolutePath() )
+                        .applyArg( ConsoleAndFileDriverConfiguration.STREAM_OFFSET_INDEX_ARG,
+                                indexDir.getAbsolutePath() );
+        LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+        File indexFileBeforeIndexWasCreated = StreamOffsetIndex.indexFileFor(
+                indexDir, configuration, configuration.warmupCount(), configuration.operationCount() );
+
+        // When
+        List<Operation> operationsCreatingIndex =
+                limitedOperations( workloadFactory, configuration, loggingServiceFactory );
+        File indexFileAfterIndexWasCreated = StreamOffsetIndex.indexFileFor(
+                indexDir, configuration, configuration.warmupCount(), configuration.operationCount() );
+
+        // Then
+        assertThat( operationsCreatingIndex.size(), is( 100 ) );
+        assertThat( indexFileAfterIndexWasCreated, equalTo( indexFileBeforeIndexWasCreated ) );
+        assertThat( indexFileAfterIndexWasCreated.exists(), is( true ) );
+
+        // When
+        StreamOffsetIndex index = StreamOffsetIndex.readFrom( indexFileAfterIndexWasCreated );
+        new StreamOffsetIndex(
+                index.offset(),
+                index.limit(),
+                index.startForStream(),
+                new long[index.limitForStream().length],
+                index.minimumTimeStamp()
+        ).writeTo( indexFileAfterIndexWasCreated );
+
+        // Then
+        // only an index that is read, rather than recreated, limits streams to nothing
+        assertThat( limitedOperations( workloadFactory, configuration, loggingServiceFactory ).size(), is( 0 ) );
+        assertThat( indexDir.listFiles( file -> file.isFile() && file.getName().endsWith( ".json" ) ).length,
+                is( 1 ) );
+    }
+
+    private List<Operation> limitedOperations( WorkloadFactory workloadFactory,
+            ConsoleAndFileDriverConfiguration configuration,
+            LoggingServiceFactory loggingServiceFactory ) throws WorkloadException, IOException
+    {
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Tuple3<WorkloadStreams,Workload,Long> limitedWorkloadStreamsAndWorkload =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        workloadFactory,
+                        configuration,
+                        gf,
+                        false,
+                        configuration.warmupCount(),
+                        configuration.operationCount(),
+                        loggingServiceFactory
+                );
+        try ( Workload workload = limitedWorkloadStreamsAndWorkload._2() )
+        {
+            return Lists.newArrayList( WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(
+                    gf, limitedWorkloadStreamsAndWorkload._1() ) );
+        }
+    }
+
     @Test
     public void shouldLimitStreamsCorrectly() throws WorkloadException
     {
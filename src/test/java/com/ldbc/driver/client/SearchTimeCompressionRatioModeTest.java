@@ -0,0 +1,98 @@
+package com.ldbc.driver.client;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.ClientException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class SearchTimeCompressionRatioModeTest
+{
+    @Test
+    public void shouldSpeedUpUntilUnsustainableThenBisect() throws ClientException
+    {
+        // Given
+        final double lowestSustainable = 0.3;
+        List<Double> probed = new ArrayList<>();
+
+        // When
+        double timeCompressionRatio = SearchTimeCompressionRatioMode.search(
+                1.0,
+                ratio ->
+                {
+                    probed.add( ratio );
+                    return ratio >= lowestSustainable;
+                }
+        );
+
+        // Then
+        assertThat( timeCompressionRatio, allOf(
+                greaterThanOrEqualTo( lowestSustainable ),
+                lessThanOrEqualTo( lowestSustainable * (1 + SearchTimeCompressionRatioMode.PRECISION) )
+        ) );
+        assertThat( probed.get( 0 ), equalTo( 1.0 ) );
+        assertThat( probed.get( 1 ), equalTo( 0.5 ) );
+        assertThat( probed.get( 2 ), equalTo( 0.25 ) );
+        assertThat( probed.size(), lessThanOrEqualTo( SearchTimeCompressionRatioMode.MAX_PROBE_COUNT ) );
+    }
+
+    @Test
+    public void shouldBackOffUntilSustainableThenBisect() throws ClientException
+    {
+        // Given
+        final double lowestSustainable = 0.3;
+        List<Double> probed = new ArrayList<>();
+
+        // When
+        double timeCompressionRatio = SearchTimeCompressionRatioMode.search(
+                0.01,
+                ratio ->
+                {
+                    probed.add( ratio );
+                    return ratio >= lowestSustainable;
+                }
+        );
+
+        // Then
+        assertThat( timeCompressionRatio, allOf(
+                greaterThanOrEqualTo( lowestSustainable ),
+                lessThanOrEqualTo( lowestSustainable * (1 + SearchTimeCompressionRatioMode.PRECISION) )
+        ) );
+        assertThat( probed.get( 1 ), equalTo( 0.02 ) );
+        assertThat( probed.size(), lessThanOrEqualTo( SearchTimeCompressionRatioMode.MAX_PROBE_COUNT ) );
+    }
+
+    @Test( expected = ClientException.class )
+    public void shouldFailWhenNoProbeIsSustainable() throws ClientException
+    {
+        SearchTimeCompressionRatioMode.search( 1.0, ratio -> false );
+    }
+
+    @Test
+    public void probesShouldSkipOperationsOfEarlierProbes()
+    {
+        // Given
+        long skipCount = 100;
+        long probeOperationCount = 1000;
+
+        // When
+        List<Long> probeSkipCounts = new ArrayList<>();
+        for ( int executedProbeCount = 0; executedProbeCount < 3; executedProbeCount++ )
+        {
+            probeSkipCounts.add(
+                    SearchTimeCompressionRatioMode.probeSkipCount( skipCount, probeOperationCount, executedProbeCount )
+            );
+        }
+
+        // Then
+        // each probe starts where the previous one ended, so no operation, e.g., update, is executed twice
+        assertThat( probeSkipCounts, equalTo( (List<Long>) Lists.newArrayList( 100l, 1100l, 2100l ) ) );
+    }
+}
@@ -1,6 +1,11 @@
 package com.ldbc.driver.control;
 
 import com.google.common.collect.Lists;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.coordination.CompletionTimeTrackerType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.MetricsWaitStrategyType;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveDb;
@@ -106,6 +111,20 @@ public class ConsoleAndFileDriverConfigurationTest
         boolean ignoreScheduledStartTimes = true;
         long warmupCount = 5;
         long skipCount = 6;
+        CompletionTimeTrackerType completionTimeTrackerType = CompletionTimeTrackerType.TREE_MULTISET;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.LOCK_FREE;
+        OperationExecutorType operationExecutorType = OperationExecutorType.VIRTUAL_THREAD;
+        int maxInFlightAsynchronousOperations = 512;
+        String compileOperationStreamsFilePath = null;
+        String operationStreamsFilePath = null;
+        String streamOffsetIndexDirPath = null;
+        int metricsRingSize = 1024;
+        MetricsWaitStrategyType metricsWaitStrategyType = MetricsWaitStrategyType.BLOCKING;
+        int metricsHandlerCount = 1;
+        MetricsServiceType metricsServiceType = MetricsServiceType.DISRUPTOR;
+        long metricsIntervalAsMilli = 0;
+        int metricsPort = 0;
+        long timeCompressionRatioSearchProbeCount = 0;
         Map<String,String> paramsMap = new HashMap<>();
 
         ConsoleAndFileDriverConfiguration configurationBefore = new ConsoleAndFileDriverConfiguration(
@@ -126,7 +145,21 @@ public class ConsoleAndFileDriverConfigurationTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                completionTimeTrackerType,
+                completionTimeServiceType,
+                operationExecutorType,
+                maxInFlightAsynchronousOperations,
+                compileOperationStreamsFilePath,
+                operationStreamsFilePath,
+                streamOffsetIndexDirPath,
+                metricsRingSize,
+                metricsWaitStrategyType,
+                metricsHandlerCount,
+                metricsServiceType,
+                metricsIntervalAsMilli,
+                metricsPort,
+                timeCompressionRatioSearchProbeCount
         );
 
         DriverConfiguration configurationAfter =
@@ -565,6 +598,20 @@ public class ConsoleAndFileDriverConfigurationTest
         boolean ignoreScheduledStartTimes = false;
         long warmupCount = 10;
         long skipCount = 100;
+        CompletionTimeTrackerType completionTimeTrackerType = CompletionTimeTrackerType.PRIMITIVE;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+        OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+        int maxInFlightAsynchronousOperations = 1024;
+        String compileOperationStreamsFilePath = null;
+        String operationStreamsFilePath = null;
+        String streamOffsetIndexDirPath = null;
+        int metricsRingSize = 1024;
+        MetricsWaitStrategyType metricsWaitStrategyType = MetricsWaitStrategyType.BLOCKING;
+        int metricsHandlerCount = 1;
+        MetricsServiceType metricsServiceType = MetricsServiceType.DISRUPTOR;
+        long metricsIntervalAsMilli = 0;
+        int metricsPort = 0;
+        long timeCompressionRatioSearchProbeCount = 0;
 
         ConsoleAndFileDriverConfiguration params = new ConsoleAndFileDriverConfiguration(
                 paramsMap,
@@ -584,7 +631,21 @@ public class ConsoleAndFileDriverConfigurationTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                completionTimeTrackerType,
+                completionTimeServiceType,
+                operationExecutorType,
+                maxInFlightAsynchronousOperations,
+                compileOperationStreamsFilePath,
+                operationStreamsFilePath,
+                streamOffsetIndexDirPath,
+                metricsRingSize,
+                metricsWaitStrategyType,
+                metricsHandlerCount,
+                metricsServiceType,
+                metricsIntervalAsMilli,
+                metricsPort,
+                timeCompressionRatioSearchProbeCount
         );
 
         assertThat( params.asMap(), equalTo( paramsMap ) );
@@ -604,6 +665,7 @@ public class ConsoleAndFileDriverConfigurationTest
         assertThat( params.shouldPrintHelpString(), equalTo( printHelp ) );
         assertThat( params.ignoreScheduledStartTimes(), equalTo( ignoreScheduledStartTimes ) );
         assertThat( params.spinnerSleepDurationAsMilli(), equalTo( spinnerSleepDuration ) );
+        assertThat( params.completionTimeServiceType(), equalTo( completionTimeServiceType ) );
     }
 
     @Test
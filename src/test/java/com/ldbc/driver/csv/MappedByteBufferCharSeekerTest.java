@@ -0,0 +1,121 @@
+package com.ldbc.driver.csv;
+
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.MappedByteBufferCharSeeker;
+import com.ldbc.driver.csv.charseeker.Mark;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class MappedByteBufferCharSeekerTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final int[] columnDelimiters = new int[]{'|'};
+    private final Extractors extractors = new Extractors(';', ',');
+
+    private File toFile(String data) throws IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), data.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    public void shouldParseEmptyFile() throws Exception {
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(""));
+        Mark mark = new Mark();
+
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(false));
+        charSeeker.close();
+    }
+
+    @Test
+    public void shouldParseLongsStringsAndArrays() throws Exception {
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile("42|-7|Lei|english;swedish|1,2;3,4\n1|2||a|\n"));
+        Mark mark = new Mark();
+
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.long_()).longValue(), is(42L));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.long_()).longValue(), is(-7L));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.string()).value(), equalTo("Lei"));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.stringArray()).value(), equalTo(new String[]{"english", "swedish"}));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(mark.isEndOfLine(), is(true));
+        assertThat(charSeeker.extract(mark, extractors.intTupleArray(2)).value(), equalTo(new int[][]{{1, 2}, {3, 4}}));
+
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.long_()).longValue(), is(1L));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.long_()).longValue(), is(2L));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.string()).value(), nullValue());
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.string()).value(), equalTo("a"));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(mark.isEndOfLine(), is(true));
+        assertThat(charSeeker.extract(mark, extractors.string()).value(), nullValue());
+
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(false));
+        charSeeker.close();
+    }
+
+    @Test
+    public void shouldDecodeMultiByteCharactersAndQuotedValues() throws Exception {
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile("Łódź|\"say \"\"hi\"\"|bye\"|Zürich;東京\r\n"));
+        Mark mark = new Mark();
+
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.string()).value(), equalTo("Łódź"));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.string()).value(), equalTo("say \"hi\"|bye"));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.stringArray()).value(), equalTo(new String[]{"Zürich", "東京"}));
+
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(false));
+        charSeeker.close();
+    }
+
+    @Test
+    public void shouldParseValuesThatCrossRegionBoundaries() throws Exception {
+        StringBuilder data = new StringBuilder();
+        int rows = 1000;
+        for (int i = 0; i < rows; i++) {
+            data.append(i).append('|').append("name-").append(i).append("-ß").append('\n');
+        }
+        // small region, so file is remapped many times, mostly mid-row
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data.toString()), 13);
+        Mark mark = new Mark();
+
+        for (int i = 0; i < rows; i++) {
+            assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+            assertThat(charSeeker.extract(mark, extractors.long_()).longValue(), is((long) i));
+            assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+            assertThat(charSeeker.extract(mark, extractors.string()).value(), equalTo("name-" + i + "-ß"));
+        }
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(false));
+        charSeeker.close();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailOnValueLargerThanRegion() throws Exception {
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile("1|0123456789abcdef\n"), 8);
+        Mark mark = new Mark();
+
+        charSeeker.seek(mark, columnDelimiters);
+        charSeeker.seek(mark, columnDelimiters);
+    }
+}
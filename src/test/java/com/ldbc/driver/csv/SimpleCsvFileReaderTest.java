@@ -0,0 +1,116 @@
+package com.ldbc.driver.csv;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class SimpleCsvFileReaderTest {
+    @Test
+    public void shouldReadSameRowsWithSingleCharSeparatorAsWithRegex() throws Exception {
+        String[] inputs = new String[]{
+                "",
+                "\n",
+                "a",
+                "a|b|c",
+                "a|b|c\n",
+                "a|b|c\nd|e|f\n",
+                "|\n||\n|||",
+                "a||b|\n\n|c\n",
+                "a|b\r\nc|d\re|f\r\n\r\ng",
+                "a|b\r",
+                "\r\r\n\n",
+                "été|über|中文\n"
+        };
+        for (String input : inputs) {
+            List<String[]> expectedRows = rows(new SimpleCsvFileReader(reader(input), "[|]"));
+            assertRowsEqual(input, rows(new SimpleCsvFileReader(reader(input), '|')), expectedRows);
+            assertRowsEqual(input, rows(new SimpleCsvFileReader(reader(input), "\\|")), expectedRows);
+        }
+    }
+
+    @Test
+    public void shouldReadSameRowsWhenLinesSpanManyReads() throws Exception {
+        Random random = new Random(42L);
+        StringBuilder input = new StringBuilder();
+        String[] tokens = new String[]{"|", "\n", "\r\n", "\r", "a", "bc", "1234567890"};
+        for (int i = 0; i < 50_000; i++) {
+            input.append(tokens[random.nextInt(tokens.length)]);
+        }
+        // line longer than the tokenizer's initial buffer
+        for (int i = 0; i < 100_000; i++) {
+            input.append((0 == i % 10) ? "|" : "x");
+        }
+        String data = input.toString();
+
+        List<String[]> expectedRows = rows(new SimpleCsvFileReader(reader(data), "[|]"));
+        List<String[]> rows = rows(new SimpleCsvFileReader(new BufferedReader(new FewCharsReader(data, random)), '|'));
+
+        assertRowsEqual("random input", rows, expectedRows);
+    }
+
+    @Test
+    public void shouldReadSameRowsWithOtherSingleCharSeparators() throws Exception {
+        String input = "a,b.c;d\te,f\n.,;\t\n";
+        assertRowsEqual(input, rows(new SimpleCsvFileReader(reader(input), ",")),
+                rows(new SimpleCsvFileReader(reader(input), "[,]")));
+        assertRowsEqual(input, rows(new SimpleCsvFileReader(reader(input), "\\.")),
+                rows(new SimpleCsvFileReader(reader(input), "[.]")));
+        assertRowsEqual(input, rows(new SimpleCsvFileReader(reader(input), ';')),
+                rows(new SimpleCsvFileReader(reader(input), "[;]")));
+        // these are regexes rather than literal characters, and must still be treated as such
+        assertRowsEqual(input, rows(new SimpleCsvFileReader(reader(input), ".")),
+                rows(new SimpleCsvFileReader(reader(input), "(.)")));
+        assertRowsEqual(input, rows(new SimpleCsvFileReader(reader(input), "\\t")),
+                rows(new SimpleCsvFileReader(reader(input), "\t")));
+    }
+
+    private static BufferedReader reader(String data) {
+        return new BufferedReader(new StringReader(data));
+    }
+
+    private static List<String[]> rows(SimpleCsvFileReader reader) throws FileNotFoundException {
+        List<String[]> rows = new ArrayList<>();
+        while (reader.hasNext()) {
+            rows.add(reader.next());
+        }
+        reader.close();
+        return rows;
+    }
+
+    private static void assertRowsEqual(String input, List<String[]> rows, List<String[]> expectedRows) {
+        assertThat(input, rows.size(), equalTo(expectedRows.size()));
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(input, rows.get(i), equalTo(expectedRows.get(i)));
+        }
+    }
+
+    private static class FewCharsReader extends Reader {
+        private final StringReader reader;
+        private final Random random;
+
+        private FewCharsReader(String data, Random random) {
+            this.reader = new StringReader(data);
+            this.random = random;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws java.io.IOException {
+            return reader.read(buffer, offset, Math.min(length, 1 + random.nextInt(7)));
+        }
+
+        @Override
+        public void close() {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Iterators;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+@Ignore
+public class OperationMergePerformanceTest
+{
+    private static final int OPERATION_COUNT = 2_048_000;
+    private static final int REPETITIONS = 5;
+
+    private final GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+
+    @Test
+    public void compareMergePerformanceForIncreasingStreamCounts()
+    {
+        for ( int streamCount : new int[]{16, 32, 64, 128, 256, 512} )
+        {
+            List<List<Operation>> streams = streams( streamCount );
+            for ( int i = 0; i < REPETITIONS; i++ )
+            {
+                long guavaDurationAsNano = timeMerge(
+                        Iterators.mergeSorted( iterators( streams ), new ScheduledStartTimeComparator() ) );
+                long comparatorTreeDurationAsNano = timeMerge(
+                        gf.mergeSort( new ScheduledStartTimeComparator(), 1, iteratorsArray( streams ) ) );
+                long primitiveTreeDurationAsNano = timeMerge(
+                        gf.mergeSortOperationsByScheduledStartTime( iteratorsArray( streams ) ) );
+                System.out.println( format( "streams=%s, ops/ms: guava heap=%s, tournament tree=%s, " +
+                                            "tournament tree on primitive keys=%s",
+                        streamCount,
+                        throughput( guavaDurationAsNano ),
+                        throughput( comparatorTreeDurationAsNano ),
+                        throughput( primitiveTreeDurationAsNano ) ) );
+            }
+        }
+    }
+
+    private static long timeMerge( Iterator<Operation> merged )
+    {
+        long startAsNano = System.nanoTime();
+        long count = 0;
+        long previous = Long.MIN_VALUE;
+        while ( merged.hasNext() )
+        {
+            long scheduledStartTime = merged.next().scheduledStartTimeAsMilli();
+            if ( scheduledStartTime < previous )
+            {
+                throw new IllegalStateException( "Merged operations are not ordered" );
+            }
+            previous = scheduledStartTime;
+            count++;
+        }
+        long durationAsNano = System.nanoTime() - startAsNano;
+        assertThat( count, equalTo( (long) OPERATION_COUNT ) );
+        return durationAsNano;
+    }
+
+    private static long throughput( long durationAsNano )
+    {
+        return OPERATION_COUNT * 1_000_000L / Math.max( 1, durationAsNano );
+    }
+
+    private static List<List<Operation>> streams( int streamCount )
+    {
+        Random random = new Random( 42L );
+        List<List<Operation>> streams = new ArrayList<>();
+        for ( int stream = 0; stream < streamCount; stream++ )
+        {
+            List<Operation> operations = new ArrayList<>();
+            long time = 0;
+            for ( int i = 0; i < OPERATION_COUNT / streamCount; i++ )
+            {
+                time += random.nextInt( 100 );
+                operations.add( new TimedNamedOperation1( time, time, 0, null ) );
+            }
+            streams.add( operations );
+        }
+        return streams;
+    }
+
+    private static List<Iterator<Operation>> iterators( List<List<Operation>> streams )
+    {
+        List<Iterator<Operation>> iterators = new ArrayList<>();
+        for ( List<Operation> stream : streams )
+        {
+            iterators.add( stream.iterator() );
+        }
+        return iterators;
+    }
+
+    private static Iterator<Operation>[] iteratorsArray( List<List<Operation>> streams )
+    {
+        List<Iterator<Operation>> iterators = iterators( streams );
+        return iterators.toArray( new Iterator[iterators.size()] );
+    }
+
+    private static class ScheduledStartTimeComparator implements Comparator<Operation>
+    {
+        @Override
+        public int compare( Operation o1, Operation o2 )
+        {
+            return Long.compare( o1.scheduledStartTimeAsMilli(), o2.scheduledStartTimeAsMilli() );
+        }
+    }
+}
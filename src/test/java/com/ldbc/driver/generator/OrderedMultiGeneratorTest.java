@@ -1,11 +1,21 @@
 package com.ldbc.driver.generator;
 
+import com.google.common.collect.Lists;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public class OrderedMultiGeneratorTest {
@@ -175,6 +185,109 @@ public class OrderedMultiGeneratorTest {
         }
     }
 
+    @Test
+    public void shouldMergeGeneratorsOfUnevenLengthsStably() {
+        // Given
+        Random random = new Random(42L);
+        int generatorCount = 100;
+        Iterator<long[]>[] allGenerators = new Iterator[generatorCount];
+        List<long[]> expected = new ArrayList<>();
+        for (int i = 0; i < generatorCount; i++) {
+            // some generators are empty, values repeat within & across generators
+            int length = random.nextInt(50);
+            List<long[]> elements = new ArrayList<>();
+            long value = 0;
+            for (int j = 0; j < length; j++) {
+                value += random.nextInt(3);
+                elements.add(new long[]{value, i});
+            }
+            expected.addAll(elements);
+            allGenerators[i] = elements.iterator();
+        }
+        // stable sort, elements with equal values remain in generator order
+        Collections.sort(expected, new ValueComparator());
+
+        // When
+        Iterator<long[]> orderedGenerator = generators.mergeSort(new ValueComparator(), 1, allGenerators);
+
+        // Then
+        for (long[] expectedElement : expected) {
+            assertThat(orderedGenerator.next(), sameInstance(expectedElement));
+        }
+        assertThat(orderedGenerator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldMergeOperationsByScheduledStartTimeOrByTimeStamp() {
+        // Given
+        Operation a1 = new TimedNamedOperation1(1, 30, 0, "a1");
+        Operation a2 = new TimedNamedOperation1(4, 10, 0, "a2");
+        Operation b1 = new TimedNamedOperation1(2, 20, 0, "b1");
+        Operation b2 = new TimedNamedOperation1(4, 40, 0, "b2");
+        Operation c1 = new TimedNamedOperation1(3, 50, 0, "c1");
+
+        // When
+        Iterator<Operation> byScheduledStartTime = generators.mergeSortOperationsByScheduledStartTime(
+                Lists.newArrayList(a1, a2).iterator(),
+                Collections.<Operation>emptyIterator(),
+                Lists.newArrayList(b1, b2).iterator(),
+                Lists.newArrayList(c1).iterator());
+        Iterator<Operation> byTimeStamp = generators.mergeSortOperationsByTimeStamp(
+                Lists.newArrayList(a2, a1).iterator(),
+                Lists.newArrayList(b1, b2, c1).iterator());
+
+        // Then
+        assertThat(Lists.newArrayList(byScheduledStartTime), equalTo(Lists.newArrayList(a1, b1, c1, a2, b2)));
+        assertThat(Lists.newArrayList(byTimeStamp), equalTo(Lists.newArrayList(a2, b1, a1, b2, c1)));
+    }
+
+    @Test
+    public void shouldNotReadGeneratorsBeforeMergedGeneratorIsRead() {
+        // Given
+        final AtomicInteger readCount = new AtomicInteger(0);
+        Iterator<Integer>[] simpleGenerators = new Iterator[]{
+                countingGenerator(readCount, 1, 3),
+                countingGenerator(readCount, 2, 4)};
+        Iterator<Integer>[] lookaheadGenerators = new Iterator[]{
+                countingGenerator(readCount, 1, 3),
+                countingGenerator(readCount, 2, 4)};
+
+        // When
+        Iterator<Integer> simpleOrderedGenerator = generators.mergeSort(new IntegerComparator(), 1, simpleGenerators);
+        Iterator<Integer> lookaheadOrderedGenerator = generators.mergeSort(new IntegerComparator(), 2, lookaheadGenerators);
+
+        // Then
+        assertThat(readCount.get(), is(0));
+        assertThat(simpleOrderedGenerator.hasNext(), is(true));
+        assertThat(readCount.get() > 0, is(true));
+        assertThat(Lists.newArrayList(simpleOrderedGenerator), equalTo(Lists.newArrayList(1, 2, 3, 4)));
+        assertThat(Lists.newArrayList(lookaheadOrderedGenerator), equalTo(Lists.newArrayList(1, 2, 3, 4)));
+        assertThat(readCount.get(), is(8));
+    }
+
+    private static Iterator<Integer> countingGenerator(final AtomicInteger readCount, Integer... values) {
+        final Iterator<Integer> generator = Lists.newArrayList(values).iterator();
+        return new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return generator.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                readCount.incrementAndGet();
+                return generator.next();
+            }
+        };
+    }
+
+    private static class ValueComparator implements Comparator<long[]> {
+        @Override
+        public int compare(long[] element1, long[] element2) {
+            return Long.compare(element1[0], element2[0]);
+        }
+    }
+
     private static class IntegerComparator implements Comparator<Integer> {
         @Override
         public int compare(Integer i1, Integer i2) {
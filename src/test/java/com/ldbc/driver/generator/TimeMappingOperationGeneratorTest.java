@@ -8,6 +8,11 @@ import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.coordination.CompletionTimeTrackerType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.MetricsWaitStrategyType;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.testutils.TestUtils;
@@ -362,6 +367,20 @@ public class TimeMappingOperationGeneratorTest
         boolean ignoreScheduledStartTimes = false;
         long warmupCount = 0;
         long skipCount = 0;
+        CompletionTimeTrackerType completionTimeTrackerType = CompletionTimeTrackerType.PRIMITIVE;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+        OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+        int maxInFlightAsynchronousOperations = 1024;
+        String compileOperationStreamsFilePath = null;
+        String operationStreamsFilePath = null;
+        String streamOffsetIndexDirPath = null;
+        int metricsRingSize = 1024;
+        MetricsWaitStrategyType metricsWaitStrategyType = MetricsWaitStrategyType.BLOCKING;
+        int metricsHandlerCount = 1;
+        MetricsServiceType metricsServiceType = MetricsServiceType.DISRUPTOR;
+        long metricsIntervalAsMilli = 0;
+        int metricsPort = 0;
+        long timeCompressionRatioSearchProbeCount = 0;
 
         ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                 paramsMap,
@@ -381,7 +400,21 @@ public class TimeMappingOperationGeneratorTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                completionTimeTrackerType,
+                completionTimeServiceType,
+                operationExecutorType,
+                maxInFlightAsynchronousOperations,
+                compileOperationStreamsFilePath,
+                operationStreamsFilePath,
+                streamOffsetIndexDirPath,
+                metricsRingSize,
+                metricsWaitStrategyType,
+                metricsHandlerCount,
+                metricsServiceType,
+                metricsIntervalAsMilli,
+                metricsPort,
+                timeCompressionRatioSearchProbeCount
         );
 
         Map<String,String> updateStreamParams = MapUtils.loadPropertiesToMap(
@@ -0,0 +1,125 @@
+package com.ldbc.driver.runtime;
+
+import com.google.common.io.CharStreams;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.NullResultsLogWriter;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class PrometheusMetricsEndpointTest
+{
+    private final LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @Test
+    public void shouldServeMetricsInPrometheusTextFormatUntilMetricsServiceIsShutdown() throws Exception
+    {
+        // Given
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = new DisruptorSbeMetricsService(
+                new SystemTimeSource(),
+                new ConcurrentErrorReporter(),
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+        MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+        metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 1 );
+        metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 8, TimeUnit.MILLISECONDS.toNanos( 3 ), 0, 1 );
+        metricsServiceWriter.submitOperationResult( LdbcQuery2.TYPE, 1, 11, TimeUnit.MILLISECONDS.toNanos( 5 ), 0, 1 );
+        CompletionTimeReader completionTimeReader = new CompletionTimeReader()
+        {
+            @Override
+            public long lastKnownLowestInitiatedTimeAsMilli()
+            {
+                return 6_000;
+            }
+
+            @Override
+            public long completionTimeAsMilli()
+            {
+                return 5_000;
+            }
+        };
+        PrometheusMetricsEndpoint metricsEndpoint = new PrometheusMetricsEndpoint(
+                0,
+                false,
+                metricsService,
+                completionTimeReader,
+                () -> 7,
+                loggingServiceFactory
+        );
+        metricsEndpoint.start();
+        try
+        {
+            URL metricsUrl = new URL(
+                    "http://localhost:" + metricsEndpoint.port() + PrometheusMetricsEndpoint.METRICS_PATH );
+
+            // When
+            HttpURLConnection connection = (HttpURLConnection) metricsUrl.openConnection();
+
+            // Then
+            assertThat( connection.getResponseCode(), equalTo( 200 ) );
+            assertThat( connection.getContentType(), equalTo( PrometheusMetricsEndpoint.CONTENT_TYPE ) );
+            String metrics = read( connection.getInputStream() );
+            assertThat( metrics, containsString( "# TYPE ldbc_driver_operations_total counter\n" ) );
+            assertThat( metrics, containsString( "\nldbc_driver_operations_total 3\n" ) );
+            assertThat( metrics, containsString( "\nldbc_driver_warmup 0\n" ) );
+            assertThat( metrics, containsString( "\nldbc_driver_operations_in_flight 7\n" ) );
+            assertThat( metrics, containsString( "\nldbc_driver_completion_time_seconds 5\n" ) );
+            assertThat( metrics, containsString( "\nldbc_driver_lowest_initiated_time_seconds 6\n" ) );
+            assertThat( metrics, containsString( "\nldbc_driver_metrics_ring_occupancy " ) );
+            assertThat( metrics,
+                    containsString( "\nldbc_driver_operation_operations_total{operation=\"LdbcQuery1\"} 2\n" ) );
+            assertThat( metrics,
+                    containsString( "\nldbc_driver_operation_operations_total{operation=\"LdbcQuery2\"} 1\n" ) );
+            assertThat( metrics, containsString( "# TYPE ldbc_driver_operation_run_time_seconds summary\n" ) );
+            assertThat( metrics, containsString(
+                    "\nldbc_driver_operation_run_time_seconds{operation=\"LdbcQuery2\",quantile=\"0.99\"} 0.005\n" ) );
+            assertThat( metrics,
+                    containsString( "\nldbc_driver_operation_run_time_seconds_count{operation=\"LdbcQuery1\"} 2\n" ) );
+
+            // When
+            metricsService.shutdown();
+            connection = (HttpURLConnection) metricsUrl.openConnection();
+
+            // Then
+            assertThat( connection.getResponseCode(), equalTo( 503 ) );
+        }
+        finally
+        {
+            metricsEndpoint.stop();
+        }
+    }
+
+    private static String read( InputStream inputStream ) throws Exception
+    {
+        try ( InputStreamReader reader = new InputStreamReader( inputStream, StandardCharsets.UTF_8 ) )
+        {
+            return CharStreams.toString( reader );
+        }
+    }
+}
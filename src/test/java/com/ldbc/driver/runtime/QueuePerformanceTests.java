@@ -5,6 +5,11 @@ import com.ldbc.driver.*;
 import com.ldbc.driver.control.*;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.coordination.CompletionTimeTrackerType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.MetricsWaitStrategyType;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.testutils.TestUtils;
@@ -86,6 +91,20 @@ public class QueuePerformanceTests
         boolean ignoreScheduledStartTimes = false;
         long warmupCount = 0;
         long skipCount = 0;
+        CompletionTimeTrackerType completionTimeTrackerType = CompletionTimeTrackerType.PRIMITIVE;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+        OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+        int maxInFlightAsynchronousOperations = 1024;
+        String compileOperationStreamsFilePath = null;
+        String operationStreamsFilePath = null;
+        String streamOffsetIndexDirPath = null;
+        int metricsRingSize = 1024;
+        MetricsWaitStrategyType metricsWaitStrategyType = MetricsWaitStrategyType.BLOCKING;
+        int metricsHandlerCount = 1;
+        MetricsServiceType metricsServiceType = MetricsServiceType.DISRUPTOR;
+        long metricsIntervalAsMilli = 0;
+        int metricsPort = 0;
+        long timeCompressionRatioSearchProbeCount = 0;
 
         DriverConfiguration config = new ConsoleAndFileDriverConfiguration(
                 paramsMap,
@@ -105,7 +124,21 @@ public class QueuePerformanceTests
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                completionTimeTrackerType,
+                completionTimeServiceType,
+                operationExecutorType,
+                maxInFlightAsynchronousOperations,
+                compileOperationStreamsFilePath,
+                operationStreamsFilePath,
+                streamOffsetIndexDirPath,
+                metricsRingSize,
+                metricsWaitStrategyType,
+                metricsHandlerCount,
+                metricsServiceType,
+                metricsIntervalAsMilli,
+                metricsPort,
+                timeCompressionRatioSearchProbeCount
         );
 
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
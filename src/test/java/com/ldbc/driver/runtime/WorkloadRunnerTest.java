@@ -22,8 +22,13 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.coordination.CompletionTimeTrackerType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.MetricsWaitStrategyType;
 import com.ldbc.driver.runtime.metrics.SimpleDetailedWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
@@ -114,6 +119,20 @@ public class WorkloadRunnerTest
             boolean ignoreScheduledStartTimes = false;
             long warmupCount = 100;
             long skipCount = 10;
+            CompletionTimeTrackerType completionTimeTrackerType = CompletionTimeTrackerType.PRIMITIVE;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+            OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+            int maxInFlightAsynchronousOperations = 1024;
+            String compileOperationStreamsFilePath = null;
+            String operationStreamsFilePath = null;
+            String streamOffsetIndexDirPath = null;
+            int metricsRingSize = 1024;
+            MetricsWaitStrategyType metricsWaitStrategyType = MetricsWaitStrategyType.BLOCKING;
+            int metricsHandlerCount = 1;
+            MetricsServiceType metricsServiceType = MetricsServiceType.DISRUPTOR;
+            long metricsIntervalAsMilli = 0;
+            int metricsPort = 0;
+            long timeCompressionRatioSearchProbeCount = 0;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -133,7 +152,21 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    completionTimeTrackerType,
+                    completionTimeServiceType,
+                    operationExecutorType,
+                    maxInFlightAsynchronousOperations,
+                    compileOperationStreamsFilePath,
+                    operationStreamsFilePath,
+                    streamOffsetIndexDirPath,
+                    metricsRingSize,
+                    metricsWaitStrategyType,
+                    metricsHandlerCount,
+                    metricsServiceType,
+                    metricsIntervalAsMilli,
+                    metricsPort,
+                    timeCompressionRatioSearchProbeCount
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -315,6 +348,20 @@ public class WorkloadRunnerTest
             boolean ignoreScheduledStartTimes = false;
             long warmupCount = 100;
             long skipCount = 10;
+            CompletionTimeTrackerType completionTimeTrackerType = CompletionTimeTrackerType.PRIMITIVE;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+            OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+            int maxInFlightAsynchronousOperations = 1024;
+            String compileOperationStreamsFilePath = null;
+            String operationStreamsFilePath = null;
+            String streamOffsetIndexDirPath = null;
+            int metricsRingSize = 1024;
+            MetricsWaitStrategyType metricsWaitStrategyType = MetricsWaitStrategyType.BLOCKING;
+            int metricsHandlerCount = 1;
+            MetricsServiceType metricsServiceType = MetricsServiceType.DISRUPTOR;
+            long metricsIntervalAsMilli = 0;
+            int metricsPort = 0;
+            long timeCompressionRatioSearchProbeCount = 0;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -334,7 +381,21 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    completionTimeTrackerType,
+                    completionTimeServiceType,
+                    operationExecutorType,
+                    maxInFlightAsynchronousOperations,
+                    compileOperationStreamsFilePath,
+                    operationStreamsFilePath,
+                    streamOffsetIndexDirPath,
+                    metricsRingSize,
+                    metricsWaitStrategyType,
+                    metricsHandlerCount,
+                    metricsServiceType,
+                    metricsIntervalAsMilli,
+                    metricsPort,
+                    timeCompressionRatioSearchProbeCount
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -534,6 +595,20 @@ public class WorkloadRunnerTest
             boolean ignoreScheduledStartTimes = false;
             long warmupCount = 100;
             long skipCount = 10;
+            CompletionTimeTrackerType completionTimeTrackerType = CompletionTimeTrackerType.PRIMITIVE;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+            OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+            int maxInFlightAsynchronousOperations = 1024;
+            String compileOperationStreamsFilePath = null;
+            String operationStreamsFilePath = null;
+            String streamOffsetIndexDirPath = null;
+            int metricsRingSize = 1024;
+            MetricsWaitStrategyType metricsWaitStrategyType = MetricsWaitStrategyType.BLOCKING;
+            int metricsHandlerCount = 1;
+            MetricsServiceType metricsServiceType = MetricsServiceType.DISRUPTOR;
+            long metricsIntervalAsMilli = 0;
+            int metricsPort = 0;
+            long timeCompressionRatioSearchProbeCount = 0;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -553,7 +628,21 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    completionTimeTrackerType,
+                    completionTimeServiceType,
+                    operationExecutorType,
+                    maxInFlightAsynchronousOperations,
+                    compileOperationStreamsFilePath,
+                    operationStreamsFilePath,
+                    streamOffsetIndexDirPath,
+                    metricsRingSize,
+                    metricsWaitStrategyType,
+                    metricsHandlerCount,
+                    metricsServiceType,
+                    metricsIntervalAsMilli,
+                    metricsPort,
+                    timeCompressionRatioSearchProbeCount
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -799,6 +888,20 @@ public class WorkloadRunnerTest
             boolean ignoreScheduledStartTimes = true;
             long warmupCount = 100;
             long skipCount = 10;
+            CompletionTimeTrackerType completionTimeTrackerType = CompletionTimeTrackerType.PRIMITIVE;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+            OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+            int maxInFlightAsynchronousOperations = 1024;
+            String compileOperationStreamsFilePath = null;
+            String operationStreamsFilePath = null;
+            String streamOffsetIndexDirPath = null;
+            int metricsRingSize = 1024;
+            MetricsWaitStrategyType metricsWaitStrategyType = MetricsWaitStrategyType.BLOCKING;
+            int metricsHandlerCount = 1;
+            MetricsServiceType metricsServiceType = MetricsServiceType.DISRUPTOR;
+            long metricsIntervalAsMilli = 0;
+            int metricsPort = 0;
+            long timeCompressionRatioSearchProbeCount = 0;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -818,7 +921,21 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    completionTimeTrackerType,
+                    completionTimeServiceType,
+                    operationExecutorType,
+                    maxInFlightAsynchronousOperations,
+                    compileOperationStreamsFilePath,
+                    operationStreamsFilePath,
+                    streamOffsetIndexDirPath,
+                    metricsRingSize,
+                    metricsWaitStrategyType,
+                    metricsHandlerCount,
+                    metricsServiceType,
+                    metricsIntervalAsMilli,
+                    metricsPort,
+                    timeCompressionRatioSearchProbeCount
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
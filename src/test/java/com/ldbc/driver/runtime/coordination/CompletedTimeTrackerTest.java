@@ -3,6 +3,8 @@ package com.ldbc.driver.runtime.coordination;
 import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.CompletedTimeTrackerImpl;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -21,6 +23,39 @@ public class CompletedTimeTrackerTest
         assertThat( tracker.removeTimesLowerThanAndReturnHighestRemoved( Long.MAX_VALUE ), is( -1L ) );
     }
 
+    @Test
+    public void shouldRemoveSameTimesAsTreeMultiSetWhenManyTimesAreAddedOutOfOrder_UsingPrimitive()
+            throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeStateManager.CompletedTimeTracker expectedTracker =
+                CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+        CompletionTimeStateManager.CompletedTimeTracker tracker =
+                new CompletionTimeStateManager.LongMinHeapCompletedTimeTracker();
+        Random random = new Random( 42 );
+
+        // When
+        // Then
+        // enough times to force heap to grow beyond its initial capacity
+        for ( int i = 0; i < 10000; i++ )
+        {
+            long time = random.nextInt( 5000 );
+            expectedTracker.addCompletedTimeAsMilli( time );
+            tracker.addCompletedTimeAsMilli( time );
+            if ( 0 == i % 7 )
+            {
+                long removeBelow = random.nextInt( 5000 );
+                assertThat(
+                        tracker.removeTimesLowerThanAndReturnHighestRemoved( removeBelow ),
+                        is( expectedTracker.removeTimesLowerThanAndReturnHighestRemoved( removeBelow ) ) );
+            }
+        }
+        assertThat(
+                tracker.removeTimesLowerThanAndReturnHighestRemoved( Long.MAX_VALUE ),
+                is( expectedTracker.removeTimesLowerThanAndReturnHighestRemoved( Long.MAX_VALUE ) ) );
+        assertThat( tracker.removeTimesLowerThanAndReturnHighestRemoved( Long.MAX_VALUE ), is( -1L ) );
+    }
+
     @Test
     public void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime_UsingTreeMultiSet() throws CompletionTimeException
     {
@@ -33,7 +68,13 @@ public class CompletedTimeTrackerTest
         shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
-    private void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTrackerImpl tracker )
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime_UsingPrimitive() throws CompletionTimeException
+    {
+        shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( new CompletionTimeStateManager.LongMinHeapCompletedTimeTracker() );
+    }
+
+    private void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTracker tracker )
             throws CompletionTimeException
     {
         // Given
@@ -64,8 +105,16 @@ public class CompletedTimeTrackerTest
                 CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder_UsingPrimitive()
+            throws CompletionTimeException
+    {
+        shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder(
+                new CompletionTimeStateManager.LongMinHeapCompletedTimeTracker() );
+    }
+
     private void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder(
-            CompletionTimeStateManager.CompletedTimeTrackerImpl tracker ) throws CompletionTimeException
+            CompletionTimeStateManager.CompletedTimeTracker tracker ) throws CompletionTimeException
     {
         // Given
         // tracker
@@ -138,8 +187,16 @@ public class CompletedTimeTrackerTest
                 CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder_UsingPrimitive()
+            throws CompletionTimeException
+    {
+        shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder(
+                new CompletionTimeStateManager.LongMinHeapCompletedTimeTracker() );
+    }
+
     private void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder(
-            CompletionTimeStateManager.CompletedTimeTrackerImpl tracker ) throws CompletionTimeException
+            CompletionTimeStateManager.CompletedTimeTracker tracker ) throws CompletionTimeException
     {
         // Given
         // tracker
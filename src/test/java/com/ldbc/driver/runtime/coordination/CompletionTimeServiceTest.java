@@ -5,6 +5,7 @@ import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -54,6 +55,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldBehavePredictablyAfterInstantiationWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldBehavePredictablyAfterInstantiation( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldBehavePredictablyAfterInstantiation( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -108,6 +128,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimesWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimes( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimes(
             CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -168,6 +207,27 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnAllWritersWithLockFreeImplementation() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldReturnAllWriters( cts );
+            // writers of service can not be modified through returned list
+            cts.getAllWriters().clear();
+            assertThat( cts.getAllWriters().size(), is( 3 ) );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldReturnAllWriters( CompletionTimeService cts ) throws CompletionTimeException
     {
         // Given
@@ -230,6 +290,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenNoITNoCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenNoITNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     // IT = none, CT = none --> null
     private void doShouldReturnNullWhenNoITNoCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -283,6 +362,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndNoCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     // IT = some, CT = none --> null
     private void doShouldReturnNullWhenSomeITAndNoCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -337,6 +435,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndSomeCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndSomeCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     //  IT = some, CT = some --> null
     private void doShouldReturnNullWhenSomeITAndSomeCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -392,6 +509,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhen( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhen( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -551,6 +687,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimesWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -629,4 +784,102 @@ public class CompletionTimeServiceTest
         ctWriter.submitInitiatedTime( 6000L );
         assertThat( cts.completionTimeAsMilliFuture().get( 1, TimeUnit.SECONDS ), is( 5000L ) );
     }
+
+    @Test
+    public void shouldNotifyWhenCtReachesTimeWithSynchronizedImplementation()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+
+        // Then
+        shouldNotifyWhenCtReachesTime( cts );
+    }
+
+    @Test
+    public void shouldNotifyWhenCtReachesTimeWithThreadedImplementation()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        shouldNotifyWhenCtReachesTime( cts );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldNotifyWhenCtReachesTimeWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        shouldNotifyWhenCtReachesTime( cts );
+    }
+
+    private void shouldNotifyWhenCtReachesTime( CompletionTimeService cts )
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+        CountDownLatch notifiedAt1000 = new CountDownLatch( 1 );
+        CountDownLatch notifiedAt2000 = new CountDownLatch( 1 );
+        CountDownLatch notifiedAt3000 = new CountDownLatch( 1 );
+
+        // When
+        cts.notifyWhenCompletionTimeReaches( 2000L, new CountDownRunnable( notifiedAt2000 ) );
+        cts.notifyWhenCompletionTimeReaches( 1000L, new CountDownRunnable( notifiedAt1000 ) );
+        cts.notifyWhenCompletionTimeReaches( 3000L, new CountDownRunnable( notifiedAt3000 ) );
+
+        // Then
+        assertThat( notifiedAt1000.await( 100, TimeUnit.MILLISECONDS ), is( false ) );
+
+        writer.submitInitiatedTime( 1000L );
+        writer.submitCompletedTime( 1000L );
+        writer.submitInitiatedTime( 2000L );
+
+        // CT == 1000
+        assertThat( notifiedAt1000.await( 1, TimeUnit.SECONDS ), is( true ) );
+        assertThat( notifiedAt2000.await( 100, TimeUnit.MILLISECONDS ), is( false ) );
+
+        writer.submitCompletedTime( 2000L );
+        writer.submitInitiatedTime( 2500L );
+
+        // CT == 2000
+        assertThat( notifiedAt2000.await( 1, TimeUnit.SECONDS ), is( true ) );
+        assertThat( notifiedAt3000.await( 100, TimeUnit.MILLISECONDS ), is( false ) );
+
+        // CT already reached, notified immediately
+        CountDownLatch notifiedAt500 = new CountDownLatch( 1 );
+        cts.notifyWhenCompletionTimeReaches( 500L, new CountDownRunnable( notifiedAt500 ) );
+        assertThat( notifiedAt500.getCount(), is( 0L ) );
+
+        // shutdown releases everything that is still waiting
+        writer.submitCompletedTime( 2500L );
+        cts.shutdown();
+        assertThat( notifiedAt3000.await( 1, TimeUnit.SECONDS ), is( true ) );
+    }
+
+    private static class CountDownRunnable implements Runnable
+    {
+        private final CountDownLatch latch;
+
+        private CountDownRunnable( CountDownLatch latch )
+        {
+            this.latch = latch;
+        }
+
+        @Override
+        public void run()
+        {
+            latch.countDown();
+        }
+    }
 }
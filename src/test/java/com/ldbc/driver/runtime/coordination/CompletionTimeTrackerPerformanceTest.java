@@ -0,0 +1,117 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TemporalUtil;
+import com.ldbc.driver.temporal.TimeSource;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.util.Random;
+
+import static java.lang.String.format;
+
+@Ignore
+public class CompletionTimeTrackerPerformanceTest
+{
+    private static final DecimalFormat INTEGRAL_FORMAT = new DecimalFormat( "###,###,###,###" );
+    private final TimeSource timeSource = new SystemTimeSource();
+    private final TemporalUtil temporalUtil = new TemporalUtil();
+
+    @Test
+    public void completionTimeStateManagerPerformanceTest() throws CompletionTimeException
+    {
+        int operationCount = 1000000;
+        int[] inFlightCounts = new int[]{16, 1024, 16384};
+        int warmupRepetitions = 2;
+        int repetitions = 5;
+
+        for ( int inFlightCount : inFlightCounts )
+        {
+            long[] completionOrder = completionOrder( operationCount, inFlightCount, new Random( 42 ) );
+            for ( CompletionTimeTrackerType trackerType : CompletionTimeTrackerType.values() )
+            {
+                if ( CompletionTimeTrackerType.ARRAY_LIST == trackerType && inFlightCount > 1024 )
+                {
+                    // linear removal, would take too long
+                    continue;
+                }
+                for ( int i = 0; i < warmupRepetitions; i++ )
+                {
+                    doCompletionTimeStateManagerPerformanceTest( trackerType, inFlightCount, completionOrder );
+                }
+                long totalDurationAsMilli = 0;
+                for ( int i = 0; i < repetitions; i++ )
+                {
+                    totalDurationAsMilli +=
+                            doCompletionTimeStateManagerPerformanceTest( trackerType, inFlightCount, completionOrder );
+                }
+                long durationAsMilli = totalDurationAsMilli / repetitions;
+                long opsPerSecond = Math.round( ((double) operationCount / durationAsMilli) * 1000 );
+                System.out.println( format( "%s, In Flight: %s, %s operations in %s: %s op/sec",
+                        trackerType,
+                        INTEGRAL_FORMAT.format( inFlightCount ),
+                        INTEGRAL_FORMAT.format( operationCount ),
+                        temporalUtil.milliDurationToString( durationAsMilli ),
+                        INTEGRAL_FORMAT.format( opsPerSecond ) ) );
+            }
+        }
+    }
+
+    private long doCompletionTimeStateManagerPerformanceTest(
+            CompletionTimeTrackerType trackerType,
+            int inFlightCount,
+            long[] completionOrder ) throws CompletionTimeException
+    {
+        CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager( trackerType );
+        long startTimeAsMilli = timeSource.nowAsMilli();
+        // keep inFlightCount operations initiated but not completed, every initiated time is unique
+        for ( int i = 0; i < inFlightCount; i++ )
+        {
+            completionTimeStateManager.submitInitiatedTime( i );
+        }
+        for ( int i = 0; i < completionOrder.length; i++ )
+        {
+            completionTimeStateManager.submitCompletedTime( completionOrder[i] );
+            if ( i + inFlightCount < completionOrder.length )
+            {
+                completionTimeStateManager.submitInitiatedTime( i + inFlightCount );
+            }
+        }
+        long durationAsMilli = timeSource.nowAsMilli() - startTimeAsMilli;
+        // completion time is always strictly lower than the highest initiated time
+        if ( completionTimeStateManager.completionTimeAsMilli() != completionOrder.length - 2 )
+        {
+            throw new RuntimeException( format( "Unexpected completion time: %s",
+                    completionTimeStateManager.completionTimeAsMilli() ) );
+        }
+        return durationAsMilli;
+    }
+
+    // order in which operations complete, always one of the operations that are currently in flight
+    private long[] completionOrder( int operationCount, int inFlightCount, Random random )
+    {
+        long[] inFlight = new long[inFlightCount];
+        for ( int i = 0; i < inFlightCount; i++ )
+        {
+            inFlight[i] = i;
+        }
+        long nextInitiatedTime = inFlightCount;
+        int remainingInFlight = inFlightCount;
+        long[] completionOrder = new long[operationCount];
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            int index = random.nextInt( remainingInFlight );
+            completionOrder[i] = inFlight[index];
+            if ( nextInitiatedTime < operationCount )
+            {
+                inFlight[index] = nextInitiatedTime++;
+            }
+            else
+            {
+                inFlight[index] = inFlight[--remainingInFlight];
+            }
+        }
+        return completionOrder;
+    }
+}
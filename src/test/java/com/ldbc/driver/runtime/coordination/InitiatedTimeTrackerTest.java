@@ -3,6 +3,10 @@ package com.ldbc.driver.runtime.coordination;
 import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.InitiatedTimeTrackerImpl;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -22,6 +26,12 @@ public class InitiatedTimeTrackerTest
         shouldReturnNullsWhenNoTimesHaveBeenSubmitted( InitiatedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldReturnNullsWhenNoTimesHaveBeenSubmitted_PrimitiveImplementation()
+    {
+        shouldReturnNullsWhenNoTimesHaveBeenSubmitted( new CompletionTimeStateManager.RunLengthInitiatedTimeTracker() );
+    }
+
     private void shouldReturnNullsWhenNoTimesHaveBeenSubmitted( CompletionTimeStateManager.InitiatedTimeTracker
             tracker )
     {
@@ -58,6 +68,12 @@ public class InitiatedTimeTrackerTest
         shouldBehaveAsExpectedUnderScenario1( InitiatedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldBehaveAsExpectedUnderScenario1_PrimitiveImplementation() throws CompletionTimeException
+    {
+        shouldBehaveAsExpectedUnderScenario1( new CompletionTimeStateManager.RunLengthInitiatedTimeTracker() );
+    }
+
     private void shouldBehaveAsExpectedUnderScenario1( CompletionTimeStateManager.InitiatedTimeTracker tracker )
             throws CompletionTimeException
     {
@@ -235,4 +251,44 @@ public class InitiatedTimeTrackerTest
         }
         assertThat( tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( 9999L ), is( 9999L ) );
     }
+
+    @Test
+    public void shouldReturnSameLowestTimesAsTreeMultiSetWhenTimesAreCompletedOutOfOrder_PrimitiveImplementation()
+            throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeStateManager.InitiatedTimeTracker expectedTracker =
+                InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
+        CompletionTimeStateManager.InitiatedTimeTracker tracker =
+                new CompletionTimeStateManager.RunLengthInitiatedTimeTracker();
+        List<Long> uncompletedTimes = new ArrayList<>();
+        Random random = new Random( 42 );
+        long time = 0;
+
+        // When
+        // Then
+        // uncompleted times stay in a sliding window, so ring buffer wraps around as well as grows
+        for ( int i = 0; i < 100000; i++ )
+        {
+            time += random.nextInt( 3 );
+            assertThat(
+                    tracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( time ),
+                    equalTo( expectedTracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( time ) ) );
+            uncompletedTimes.add( time );
+            int toComplete = (i < 50000) ? random.nextInt( 2 ) : random.nextInt( 3 );
+            for ( int j = 0; j < toComplete && !uncompletedTimes.isEmpty(); j++ )
+            {
+                // mostly complete old times, occasionally complete any time
+                int index = (0 == random.nextInt( 4 ))
+                            ? random.nextInt( uncompletedTimes.size() )
+                            : random.nextInt( Math.min( 16, uncompletedTimes.size() ) );
+                long completedTime = uncompletedTimes.remove( index );
+                assertThat(
+                        tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( completedTime ),
+                        equalTo( expectedTracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( completedTime ) ) );
+            }
+            assertThat( tracker.uncompletedInitiatedTimes(), equalTo( expectedTracker.uncompletedInitiatedTimes() ) );
+        }
+        assertThat( tracker.highestInitiatedTimeAsMilli(), equalTo( expectedTracker.highestInitiatedTimeAsMilli() ) );
+    }
 }
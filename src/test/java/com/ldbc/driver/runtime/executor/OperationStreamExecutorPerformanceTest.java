@@ -4,6 +4,7 @@ import com.google.common.collect.Lists;
 import com.ldbc.driver.DbException;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.generator.GeneratorFactory;
@@ -126,6 +127,7 @@ public class OperationStreamExecutorPerformanceTest
                 OperationExecutor executor = new ThreadPoolOperationExecutor(
                         1,
                         DefaultQueues.DEFAULT_BOUND_1000,
+                        ConsoleAndFileDriverConfiguration.MAX_IN_FLIGHT_ASYNC_DEFAULT,
                         db,
                         streamDefinition,
                         completionTimeWriter,
@@ -1,8 +1,15 @@
 package com.ldbc.driver.runtime.executor;
 
+import com.ldbc.driver.AsyncOperationHandler;
+import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Db;
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbConnectionStateFactory;
+import com.ldbc.driver.DbException;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.ResultReporter;
 import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
@@ -15,13 +22,24 @@ import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyResult;
 import com.ldbc.driver.workloads.dummy.DummyWorkload;
 import com.ldbc.driver.workloads.dummy.NothingOperation;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -57,10 +75,12 @@ public class ThreadPoolOperationExecutorTest
 
         int threadCount = 1;
         int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+        int maxInFlightAsynchronousOperations = ConsoleAndFileDriverConfiguration.MAX_IN_FLIGHT_ASYNC_DEFAULT;
 
         OperationExecutor executor = new ThreadPoolOperationExecutor(
                 threadCount,
                 boundedQueueSize,
+                maxInFlightAsynchronousOperations,
                 db,
                 streamDefinition,
                 dummyCompletionTimeWriter,
@@ -122,10 +142,12 @@ public class ThreadPoolOperationExecutorTest
 
         int threadCount = 1;
         int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+        int maxInFlightAsynchronousOperations = ConsoleAndFileDriverConfiguration.MAX_IN_FLIGHT_ASYNC_DEFAULT;
 
         OperationExecutor executor = new ThreadPoolOperationExecutor(
                 threadCount,
                 boundedQueueSize,
+                maxInFlightAsynchronousOperations,
                 db,
                 streamDefinition,
                 dummyCompletionTimeWriter,
@@ -164,6 +186,368 @@ public class ThreadPoolOperationExecutorTest
         assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
     }
 
+    @Test
+    public void executorShouldNotHoldThreadWhileAsynchronousHandlerIsInFlight() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        long handlerDurationAsMilli = 500;
+        Map<String,String> params = new HashMap<>();
+        params.put( AsyncDummyDb.DURATION_ARG, Long.toString( handlerDurationAsMilli ) );
+        Db db = new AsyncDummyDb();
+        db.init(
+                params,
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 1;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+        int maxInFlightAsynchronousOperations = ConsoleAndFileDriverConfiguration.MAX_IN_FLIGHT_ASYNC_DEFAULT;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                maxInFlightAsynchronousOperations,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        int operationCount = 10;
+        long scheduledStartTimeAsMilli = timeSource.nowAsMilli() + 100l;
+
+        // When
+        long startTimeAsMilli = timeSource.nowAsMilli();
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+            operation.setTimeStamp( scheduledStartTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+        long durationAsMilli = timeSource.nowAsMilli() - startTimeAsMilli;
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        // with one thread and blocking handlers this would take operationCount * handlerDurationAsMilli
+        assertThat( durationAsMilli < operationCount * handlerDurationAsMilli / 2, is( true ) );
+        executor.shutdown( 1000l );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldBoundNumberOfAsynchronousHandlersInFlight() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        long handlerDurationAsMilli = 200;
+        Map<String,String> params = new HashMap<>();
+        params.put( AsyncDummyDb.DURATION_ARG, Long.toString( handlerDurationAsMilli ) );
+        AsyncDummyDb db = new AsyncDummyDb();
+        db.init(
+                params,
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 4;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+        int maxInFlightAsynchronousOperations = 2;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                maxInFlightAsynchronousOperations,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        int operationCount = 10;
+        long scheduledStartTimeAsMilli = timeSource.nowAsMilli();
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+            operation.setTimeStamp( scheduledStartTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        // pool has more threads than the bound, so the bound is what limits how many are in flight
+        assertThat( db.maxInFlight.get(), is( maxInFlightAsynchronousOperations ) );
+        executor.shutdown( 1000l );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void pooledConnectionStatesShouldBoundNumberOfAsynchronousHandlersInFlight() throws Exception
+    {
+        pooledConnectionStatesShouldBoundNumberOfAsynchronousHandlersInFlight( false );
+    }
+
+    @Test
+    public void pooledConnectionStatesShouldBeReleasedWhenAsynchronousHandlersFail() throws Exception
+    {
+        pooledConnectionStatesShouldBoundNumberOfAsynchronousHandlersInFlight( true );
+    }
+
+    private void pooledConnectionStatesShouldBoundNumberOfAsynchronousHandlersInFlight( boolean fail )
+            throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        int threadCount = 2;
+        long handlerDurationAsMilli = 500;
+        Map<String,String> params = new HashMap<>();
+        params.put( AsyncDummyDb.DURATION_ARG, Long.toString( handlerDurationAsMilli ) );
+        params.put( AsyncDummyDb.POOLED_ARG, Boolean.toString( true ) );
+        params.put( AsyncDummyDb.FAIL_ARG, Boolean.toString( fail ) );
+        params.put( ConsoleAndFileDriverConfiguration.THREADS_ARG, Integer.toString( threadCount ) );
+        AsyncDummyDb db = new AsyncDummyDb();
+        db.init(
+                params,
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+        int maxInFlightAsynchronousOperations = 10;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                maxInFlightAsynchronousOperations,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        int operationCount = maxInFlightAsynchronousOperations;
+        long scheduledStartTimeAsMilli = timeSource.nowAsMilli() + 100l;
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+            operation.setTimeStamp( scheduledStartTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        // failed operations release their connection states too, otherwise later operations would never complete
+        assertThat( metricsService.count(), is( (fail) ? 0l : (long) operationCount ) );
+        assertThat( db.dbConnectionStatePool().size(), is( threadCount ) );
+        // connection states are leased until operations complete, so each is used by one operation at a time
+        assertThat( db.maxInFlight.get(), is( threadCount ) );
+        assertThat( db.maxInFlightPerConnectionState.get(), is( 1 ) );
+        executor.shutdown( 1000l );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( fail ) );
+    }
+
+    @Test
+    public void asynchronousHandlersShouldBeCompletedOnExecutorThreadsNotOnThreadThatCompletedOperation()
+            throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        final Set<String> childOperationThreadNames = Collections.newSetFromMap( new ConcurrentHashMap<>() );
+        ChildOperationGenerator childOperationGenerator = new ChildOperationGenerator()
+        {
+            @Override
+            public double initialState()
+            {
+                return 0;
+            }
+
+            @Override
+            public Operation nextOperation( double state,
+                    Operation operation,
+                    Object result,
+                    long actualStartTimeAsMilli,
+                    long runDurationAsNano )
+            {
+                childOperationThreadNames.add( Thread.currentThread().getName() );
+                return null;
+            }
+
+            @Override
+            public double updateState( double previousState, int previousOperationType )
+            {
+                return previousState;
+            }
+        };
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                childOperationGenerator
+        );
+        long handlerDurationAsMilli = 100;
+        Map<String,String> params = new HashMap<>();
+        params.put( AsyncDummyDb.DURATION_ARG, Long.toString( handlerDurationAsMilli ) );
+        Db db = new AsyncDummyDb();
+        db.init(
+                params,
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 2;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+        int maxInFlightAsynchronousOperations = ConsoleAndFileDriverConfiguration.MAX_IN_FLIGHT_ASYNC_DEFAULT;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                maxInFlightAsynchronousOperations,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        int operationCount = 10;
+        long scheduledStartTimeAsMilli = timeSource.nowAsMilli() + 100l;
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+            operation.setTimeStamp( scheduledStartTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        // operations are completed on the thread of the database, child operations must never run there
+        assertThat( childOperationThreadNames.isEmpty(), is( false ) );
+        for ( String childOperationThreadName : childOperationThreadNames )
+        {
+            assertThat( childOperationThreadName,
+                    childOperationThreadName.startsWith( ThreadPoolOperationExecutor.class.getSimpleName() ) &&
+                    childOperationThreadName.contains( "-completion-thread(" ),
+                    is( true ) );
+        }
+        executor.shutdown( 1000l );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
     @Test
     public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
     {
@@ -193,10 +577,12 @@ public class ThreadPoolOperationExecutorTest
 
         int threadCount = 1;
         int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+        int maxInFlightAsynchronousOperations = ConsoleAndFileDriverConfiguration.MAX_IN_FLIGHT_ASYNC_DEFAULT;
 
         OperationExecutor executor = new ThreadPoolOperationExecutor(
                 threadCount,
                 boundedQueueSize,
+                maxInFlightAsynchronousOperations,
                 db,
                 streamDefinition,
                 dummyCompletionTimeWriter,
@@ -240,4 +626,139 @@ public class ThreadPoolOperationExecutorTest
         assertThat( exceptionThrown, is( true ) );
         assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
     }
+
+    private static class AsyncDummyDb extends Db
+    {
+        static final String DURATION_ARG = "duration";
+        static final String POOLED_ARG = "pooled";
+        static final String FAIL_ARG = "fail";
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicInteger inFlight = new AtomicInteger( 0 );
+        private final AtomicInteger maxInFlight = new AtomicInteger( 0 );
+        private final AtomicInteger maxInFlightPerConnectionState = new AtomicInteger( 0 );
+        private long durationAsMilli;
+        private boolean pooled;
+        private boolean fail;
+
+        @Override
+        protected void onInit( Map<String,String> params, LoggingService loggingService ) throws DbException
+        {
+            registerOperationHandler( NothingOperation.class, AsyncNothingOperationHandler.class );
+            durationAsMilli = Long.parseLong( params.get( DURATION_ARG ) );
+            pooled = Boolean.parseBoolean( params.get( POOLED_ARG ) );
+            fail = Boolean.parseBoolean( params.get( FAIL_ARG ) );
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+            scheduler.shutdownNow();
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            return newConnectionState();
+        }
+
+        @Override
+        protected DbConnectionStateFactory getConnectionStateFactory() throws DbException
+        {
+            if ( false == pooled )
+            {
+                return null;
+            }
+            return new DbConnectionStateFactory()
+            {
+                @Override
+                public DbConnectionState newDbConnectionState() throws DbException
+                {
+                    return newConnectionState();
+                }
+            };
+        }
+
+        private AsyncDummyDbConnectionState newConnectionState()
+        {
+            return new AsyncDummyDbConnectionState(
+                    scheduler,
+                    durationAsMilli,
+                    fail,
+                    inFlight,
+                    maxInFlight,
+                    maxInFlightPerConnectionState );
+        }
+    }
+
+    private static class AsyncDummyDbConnectionState extends DbConnectionState
+    {
+        private final ScheduledExecutorService scheduler;
+        private final long durationAsMilli;
+        private final boolean fail;
+        private final AtomicInteger inFlight;
+        private final AtomicInteger maxInFlight;
+        private final AtomicInteger inFlightOnConnectionState = new AtomicInteger( 0 );
+        private final AtomicInteger maxInFlightPerConnectionState;
+
+        private AsyncDummyDbConnectionState( ScheduledExecutorService scheduler,
+                long durationAsMilli,
+                boolean fail,
+                AtomicInteger inFlight,
+                AtomicInteger maxInFlight,
+                AtomicInteger maxInFlightPerConnectionState )
+        {
+            this.scheduler = scheduler;
+            this.durationAsMilli = durationAsMilli;
+            this.fail = fail;
+            this.inFlight = inFlight;
+            this.maxInFlight = maxInFlight;
+            this.maxInFlightPerConnectionState = maxInFlightPerConnectionState;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+        }
+    }
+
+    public static class AsyncNothingOperationHandler
+            implements AsyncOperationHandler<NothingOperation,AsyncDummyDbConnectionState>
+    {
+        @Override
+        public CompletionStage<Void> executeOperationAsync( final NothingOperation operation,
+                AsyncDummyDbConnectionState connectionState,
+                final ResultReporter resultReporter ) throws DbException
+        {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            final AtomicInteger inFlight = connectionState.inFlight;
+            final AtomicInteger inFlightOnConnectionState = connectionState.inFlightOnConnectionState;
+            final boolean fail = connectionState.fail;
+            connectionState.maxInFlight.accumulateAndGet( inFlight.incrementAndGet(), Math::max );
+            connectionState.maxInFlightPerConnectionState.accumulateAndGet(
+                    inFlightOnConnectionState.incrementAndGet(), Math::max );
+            connectionState.scheduler.schedule( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        inFlight.decrementAndGet();
+                        inFlightOnConnectionState.decrementAndGet();
+                        if ( fail )
+                        {
+                            throw new DbException( "Failed on purpose" );
+                        }
+                        resultReporter.report( 0, new DummyResult(), operation );
+                        future.complete( null );
+                    }
+                    catch ( DbException e )
+                    {
+                        future.completeExceptionally( e );
+                    }
+                }
+            }, connectionState.durationAsMilli, TimeUnit.MILLISECONDS );
+            return future;
+        }
+    }
 }
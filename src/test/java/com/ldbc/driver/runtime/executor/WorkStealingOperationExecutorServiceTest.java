@@ -0,0 +1,418 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.runtime.scheduling.TimerWheelScheduler;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class WorkStealingOperationExecutorServiceTest
+{
+    private static final long TIMEOUT_AS_MILLI = 10_000;
+
+    private final TimeSource timeSource = new SystemTimeSource();
+    private final CompletionTimeServiceAssistant completionTimeServiceAssistant = new CompletionTimeServiceAssistant();
+
+    @Test
+    public void shouldExecuteEveryBlockingStreamInOrderOnFewerThreadsThanStreams() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        RecordingMetricsService metricsService = new RecordingMetricsService();
+        CompletionTimeService completionTimeService =
+                completionTimeServiceAssistant.newSynchronizedCompletionTimeService();
+        TimerWheelScheduler timerWheelScheduler = new TimerWheelScheduler( timeSource, errorReporter );
+        timerWheelScheduler.start();
+        int threadCount = 2;
+        int blockingStreamCount = 8;
+        int operationsPerStream = 20;
+        try ( Db db = newDb() )
+        {
+            WorkStealingOperationExecutorService executorService = newExecutorService(
+                    threadCount, db, completionTimeService, timerWheelScheduler, errorReporter, metricsService );
+            long startTimeAsMilli = timeSource.nowAsMilli() + 50;
+            for ( int stream = 0; stream < blockingStreamCount; stream++ )
+            {
+                List<Operation> operations = new ArrayList<>();
+                for ( int i = 0; i < operationsPerStream; i++ )
+                {
+                    // time stamp identifies stream & position within stream
+                    operations.add( nothingOperation( startTimeAsMilli + i, stream * 1_000 + i ) );
+                }
+                executorService.addStream(
+                        streamDefinition( operations, new ArrayList<Operation>() ),
+                        new DummyCompletionTimeWriter(),
+                        1
+                );
+            }
+
+            // When
+            AtomicBoolean hasFinished = executorService.execute();
+            awaitFinished( hasFinished, errorReporter );
+
+            // Then
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+            assertThat( executorService.uncompletedOperationHandlerCount(), equalTo( 0l ) );
+            List<Long> completedTimeStamps = metricsService.completedTimeStamps();
+            assertThat( completedTimeStamps.size(), equalTo( blockingStreamCount * operationsPerStream ) );
+            long[] lastCompletedPositions = new long[blockingStreamCount];
+            Arrays.fill( lastCompletedPositions, -1 );
+            for ( long completedTimeStamp : completedTimeStamps )
+            {
+                int stream = (int) (completedTimeStamp / 1_000);
+                long position = completedTimeStamp % 1_000;
+                assertThat( completedTimeStamps.toString(), position, equalTo( lastCompletedPositions[stream] + 1 ) );
+                lastCompletedPositions[stream] = position;
+            }
+            executorService.shutdown( 1000l );
+        }
+        finally
+        {
+            timerWheelScheduler.shutdown();
+            completionTimeService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldNotOccupyOnlyThreadWhileOperationWaitsForDependency() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        RecordingMetricsService metricsService = new RecordingMetricsService();
+        CompletionTimeService completionTimeService =
+                completionTimeServiceAssistant.newSynchronizedCompletionTimeService();
+        TimerWheelScheduler timerWheelScheduler = new TimerWheelScheduler( timeSource, errorReporter );
+        timerWheelScheduler.start();
+        int threadCount = 1;
+        try ( Db db = newDb() )
+        {
+            WorkStealingOperationExecutorService executorService = newExecutorService(
+                    threadCount, db, completionTimeService, timerWheelScheduler, errorReporter, metricsService );
+            long writeTimeAsMilli = timeSource.nowAsMilli() + 200;
+            // read is due before the write it depends on, waiting for it on the only pool thread would deadlock
+            long readTimeAsMilli = writeTimeAsMilli - 150;
+            executorService.addStream(
+                    new WorkloadStreams.WorkloadStreamDefinition(
+                            Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation1.class ),
+                            new HashSet<Class<? extends Operation>>(),
+                            Collections.<Operation>emptyIterator(),
+                            Lists.<Operation>newArrayList(
+                                    new TimedNamedOperation1( readTimeAsMilli, readTimeAsMilli, writeTimeAsMilli,
+                                            "read" )
+                            ).iterator(),
+                            null
+                    ),
+                    new DummyCompletionTimeWriter(),
+                    1
+            );
+            executorService.addStream(
+                    new WorkloadStreams.WorkloadStreamDefinition(
+                            new HashSet<Class<? extends Operation>>(),
+                            Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation2.class ),
+                            Lists.<Operation>newArrayList(
+                                    new TimedNamedOperation2( writeTimeAsMilli, writeTimeAsMilli, 0, "write" )
+                            ).iterator(),
+                            Collections.<Operation>emptyIterator(),
+                            null
+                    ),
+                    completionTimeService.newCompletionTimeWriter(),
+                    1
+            );
+
+            // When
+            AtomicBoolean hasFinished = executorService.execute();
+            awaitFinished( hasFinished, errorReporter );
+
+            // Then
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+            assertThat( metricsService.completedTimeStamps(),
+                    equalTo( Lists.newArrayList( writeTimeAsMilli, readTimeAsMilli ) ) );
+            executorService.shutdown( 1000l );
+        }
+        finally
+        {
+            timerWheelScheduler.shutdown();
+            completionTimeService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldBoundInFlightOperationsOfAsynchronousStream() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        RecordingMetricsService metricsService = new RecordingMetricsService();
+        CompletionTimeService completionTimeService =
+                completionTimeServiceAssistant.newSynchronizedCompletionTimeService();
+        TimerWheelScheduler timerWheelScheduler = new TimerWheelScheduler( timeSource, errorReporter );
+        timerWheelScheduler.start();
+        try ( Db db = newDb() )
+        {
+            WorkStealingOperationExecutorService executorService = newExecutorService(
+                    4, db, completionTimeService, timerWheelScheduler, errorReporter, metricsService );
+            long startTimeAsMilli = timeSource.nowAsMilli() + 500;
+            List<Operation> operations = new ArrayList<>();
+            for ( int i = 0; i < 100; i++ )
+            {
+                operations.add( nothingOperation( startTimeAsMilli, i ) );
+            }
+            executorService.addStream(
+                    streamDefinition( operations, new ArrayList<Operation>() ),
+                    new DummyCompletionTimeWriter(),
+                    10
+            );
+
+            // When
+            AtomicBoolean hasFinished = executorService.execute();
+
+            // Then
+            // operations are not yet due, so only the first ten are retrieved
+            assertThat( executorService.uncompletedOperationHandlerCount(), equalTo( 10l ) );
+            awaitFinished( hasFinished, errorReporter );
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+            assertThat( metricsService.completedTimeStamps().size(), equalTo( 100 ) );
+            executorService.shutdown( 1000l );
+        }
+        finally
+        {
+            timerWheelScheduler.shutdown();
+            completionTimeService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldNotOccupyOnlyThreadWhileChildOperationWaitsForScheduledStartTime() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        RecordingMetricsService metricsService = new RecordingMetricsService();
+        CompletionTimeService completionTimeService =
+                completionTimeServiceAssistant.newSynchronizedCompletionTimeService();
+        TimerWheelScheduler timerWheelScheduler = new TimerWheelScheduler( timeSource, errorReporter );
+        timerWheelScheduler.start();
+        try ( Db db = newDb() )
+        {
+            WorkStealingOperationExecutorService executorService = newExecutorService(
+                    1, db, completionTimeService, timerWheelScheduler, errorReporter, metricsService );
+            long startTimeAsMilli = timeSource.nowAsMilli() + 200;
+            final long childStartTimeAsMilli = startTimeAsMilli + 1000;
+            // first operation of stream generates one child operation, due long after operation of other stream
+            ChildOperationGenerator childOperationGenerator = new ChildOperationGenerator()
+            {
+                @Override
+                public double initialState()
+                {
+                    return 0;
+                }
+
+                @Override
+                public Operation nextOperation( double state,
+                        Operation operation,
+                        Object result,
+                        long actualStartTimeAsMilli,
+                        long runDurationAsNano )
+                {
+                    return (0 == state) ? nothingOperation( childStartTimeAsMilli, 100 ) : null;
+                }
+
+                @Override
+                public double updateState( double previousState, int previousOperationType )
+                {
+                    return previousState + 1;
+                }
+            };
+            executorService.addStream(
+                    streamDefinition(
+                            Lists.newArrayList( nothingOperation( startTimeAsMilli, 1 ) ),
+                            new ArrayList<Operation>(),
+                            childOperationGenerator ),
+                    new DummyCompletionTimeWriter(),
+                    1
+            );
+            executorService.addStream(
+                    streamDefinition(
+                            Lists.newArrayList( nothingOperation( startTimeAsMilli + 200, 2 ) ),
+                            new ArrayList<Operation>() ),
+                    new DummyCompletionTimeWriter(),
+                    1
+            );
+
+            // When
+            AtomicBoolean hasFinished = executorService.execute();
+            awaitFinished( hasFinished, errorReporter );
+
+            // Then
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+            // child operation waits on the timer wheel, so the only pool thread remains free for other streams
+            assertThat( metricsService.completedTimeStamps(),
+                    equalTo( (List<Long>) Lists.newArrayList( 1l, 2l, 100l ) ) );
+            executorService.shutdown( 1000l );
+        }
+        finally
+        {
+            timerWheelScheduler.shutdown();
+            completionTimeService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldThrowExceptionIfShutdownMultipleTimes() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        try ( Db db = newDb() )
+        {
+            WorkStealingOperationExecutorService executorService = newExecutorService(
+                    1, db, completionTimeServiceAssistant.newSynchronizedCompletionTimeService(), null,
+                    errorReporter, new RecordingMetricsService() );
+            assertThat( executorService.execute().get(), is( true ) );
+            executorService.shutdown( 1000l );
+
+            // When
+            boolean exceptionThrown = false;
+            try
+            {
+                executorService.shutdown( 1000l );
+            }
+            catch ( OperationExecutorException e )
+            {
+                exceptionThrown = true;
+            }
+
+            // Then
+            assertThat( exceptionThrown, is( true ) );
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        }
+    }
+
+    private WorkStealingOperationExecutorService newExecutorService(
+            int threadCount,
+            Db db,
+            CompletionTimeService completionTimeService,
+            TimerWheelScheduler timerWheelScheduler,
+            ConcurrentErrorReporter errorReporter,
+            RecordingMetricsService metricsService )
+    {
+        boolean ignoreScheduledStartTime = null == timerWheelScheduler;
+        Spinner spinner = new Spinner(
+                timeSource,
+                Spinner.DEFAULT_SLEEP_DURATION_10_MILLI,
+                ignoreScheduledStartTime,
+                timerWheelScheduler
+        );
+        return new WorkStealingOperationExecutorService(
+                threadCount,
+                db,
+                completionTimeService,
+                timerWheelScheduler,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+    }
+
+    private static Db newDb() throws Exception
+    {
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" ),
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return db;
+    }
+
+    private static Operation nothingOperation( long scheduledStartTimeAsMilli, long timeStamp )
+    {
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( timeStamp );
+        operation.setDependencyTimeStamp( 0l );
+        return operation;
+    }
+
+    private static WorkloadStreams.WorkloadStreamDefinition streamDefinition(
+            List<Operation> nonDependencyOperations,
+            List<Operation> dependencyOperations )
+    {
+        return streamDefinition( nonDependencyOperations, dependencyOperations, null );
+    }
+
+    private static WorkloadStreams.WorkloadStreamDefinition streamDefinition(
+            List<Operation> nonDependencyOperations,
+            List<Operation> dependencyOperations,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        return new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                dependencyOperations.iterator(),
+                nonDependencyOperations.iterator(),
+                childOperationGenerator
+        );
+    }
+
+    private void awaitFinished( AtomicBoolean hasFinished, ConcurrentErrorReporter errorReporter )
+    {
+        long timeoutAsMilli = timeSource.nowAsMilli() + TIMEOUT_AS_MILLI;
+        while ( !hasFinished.get() && timeSource.nowAsMilli() < timeoutAsMilli )
+        {
+            Spinner.powerNap( 10 );
+        }
+        assertThat( errorReporter.toString(), hasFinished.get(), is( true ) );
+    }
+
+    private static class RecordingMetricsService extends DummyCountingMetricsService
+    {
+        private final List<Long> completedTimeStamps = new ArrayList<>();
+
+        @Override
+        synchronized public void submitOperationResult( int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
+        {
+            super.submitOperationResult( operationType, scheduledStartTimeAsMilli, actualStartTimeAsMilli,
+                    runDurationAsNano, resultCode, originalStartTime );
+            completedTimeStamps.add( originalStartTime );
+        }
+
+        synchronized List<Long> completedTimeStamps()
+        {
+            return new ArrayList<>( completedTimeStamps );
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbConnectionStatePool;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
@@ -18,6 +20,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 public class DisruptorSbeMetricsServiceTest
@@ -55,6 +58,67 @@ public class DisruptorSbeMetricsServiceTest
         assertThat( exceptionThrown, is( true ) );
     }
 
+    @Test
+    public void shouldReportConnectionStateAcquisitionOfDbConnectionStatePool() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        MetricsService metricsService = new DisruptorSbeMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+        DbConnectionStatePool pool = DbConnectionStatePool.pooled( () -> new DbConnectionState()
+        {
+            @Override
+            public void close()
+            {
+            }
+        }, 1 );
+        try
+        {
+            MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+            metricsServiceWriter.submitOperationResult(
+                    LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 1 );
+            assertThat( metricsServiceWriter.status().connectionStateAcquisition(), nullValue() );
+            assertThat( metricsServiceWriter.results().connectionStateAcquisition(), nullValue() );
+
+            // When
+            metricsService.setDbConnectionStatePool( pool );
+            pool.acquire().release();
+            pool.acquire().release();
+            pool.acquire().release();
+
+            // Then
+            ConnectionStateAcquisitionSnapshot statusAcquisition =
+                    metricsServiceWriter.status().connectionStateAcquisition();
+            assertThat( statusAcquisition.count(), equalTo( 3L ) );
+            assertThat( statusAcquisition.totalWaitAsNano(), equalTo( pool.acquisitionWaitTimeAsNano() ) );
+            assertThat( statusAcquisition.maxWaitAsNano(), equalTo( pool.maxAcquisitionWaitTimeAsNano() ) );
+            WorkloadResultsSnapshot results = metricsServiceWriter.results();
+            assertThat( results.connectionStateAcquisition().count(), equalTo( 3L ) );
+            assertThat( results.connectionStateAcquisition().unit(), equalTo( TimeUnit.MILLISECONDS ) );
+            ConnectionStateAcquisitionSnapshot marshalledAcquisition =
+                    WorkloadResultsSnapshot.fromJson( results.toJson() ).connectionStateAcquisition();
+            assertThat( marshalledAcquisition.count(), equalTo( 3L ) );
+            assertThat( marshalledAcquisition.maxWaitAsNano(),
+                    equalTo( results.connectionStateAcquisition().maxWaitAsNano() ) );
+            assertThat( errorReporter.errorEncountered(), is( false ) );
+        }
+        finally
+        {
+            System.out.println( errorReporter.toString() );
+            metricsService.shutdown();
+            pool.close();
+        }
+    }
+
     @Test
     public void shouldReturnCorrectMeasurements() throws WorkloadException, MetricsCollectionException
     {
@@ -83,6 +147,44 @@ public class DisruptorSbeMetricsServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnCorrectMeasurementsWhenOperationTypesAreShardedAcrossHandlers()
+            throws WorkloadException, MetricsCollectionException
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        ResultsLogWriter resultsLogWriter = new NullResultsLogWriter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        int handlerCount = 2;
+        MetricsService metricsService = new DisruptorSbeMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                8,
+                MetricsWaitStrategyType.YIELDING,
+                handlerCount
+        );
+        try
+        {
+            MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+            shouldReturnCorrectMeasurements( metricsServiceWriter );
+            WorkloadResultsSnapshot results = metricsServiceWriter.results();
+            assertThat( results.totalOperationCount(), equalTo( 3l ) );
+            assertThat( results.allMetrics().size(), equalTo( 2 ) );
+            assertThat( metricsServiceWriter.status().operationCount(), equalTo( 3l ) );
+        }
+        finally
+        {
+            System.out.println( errorReporter.toString() );
+            metricsService.shutdown();
+        }
+    }
+
     public void shouldReturnCorrectMeasurements( MetricsService.MetricsServiceWriter metricsServiceWriter )
             throws WorkloadException, MetricsCollectionException
     {
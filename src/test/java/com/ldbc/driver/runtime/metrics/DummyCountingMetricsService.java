@@ -1,5 +1,7 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.ldbc.driver.DbConnectionStatePool;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -11,7 +13,7 @@ public class DummyCountingMetricsService implements MetricsService, MetricsServi
 
     public DummyCountingMetricsService() {
         metrics = new HashMap<>();
-        metrics.put("default", new OperationMetricsSnapshot(null, null, 0, null));
+        metrics.put("default", new OperationMetricsSnapshot(null, null, 0, null, null));
     }
 
     @Override
@@ -43,6 +45,11 @@ public class DummyCountingMetricsService implements MetricsService, MetricsServi
 
     }
 
+    @Override
+    public void setDbConnectionStatePool(DbConnectionStatePool dbConnectionStatePool) {
+
+    }
+
     @Override
     public MetricsServiceWriter getWriter() {
         return this;
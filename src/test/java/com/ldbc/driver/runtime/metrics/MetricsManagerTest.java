@@ -8,8 +8,17 @@ import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -17,6 +26,9 @@ import static org.junit.Assert.assertThat;
 
 public class MetricsManagerTest
 {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private final TimeSource timeSource = new SystemTimeSource();
     private final LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
 
@@ -43,12 +55,155 @@ public class MetricsManagerTest
         long operation3ActualStartTimeAsMilli = 11;
         long operation3RunDurationAsNano = TimeUnit.MILLISECONDS.toNanos( 5 );
 
-        metricsManager.measure( operation1ActualStartTimeAsMilli, operation1RunDurationAsNano, operation1.type() );
-        metricsManager.measure( operation2ActualStartTimeAsMilli, operation2RunDurationAsNano, operation2.type() );
-        metricsManager.measure( operation3ActualStartTimeAsMilli, operation3RunDurationAsNano, operation3.type() );
+        metricsManager.measure(
+                operation1.scheduledStartTimeAsMilli(),
+                operation1ActualStartTimeAsMilli,
+                operation1RunDurationAsNano,
+                operation1.type() );
+        metricsManager.measure(
+                operation2.scheduledStartTimeAsMilli(),
+                operation2ActualStartTimeAsMilli,
+                operation2RunDurationAsNano,
+                operation2.type() );
+        metricsManager.measure(
+                operation3.scheduledStartTimeAsMilli(),
+                operation3ActualStartTimeAsMilli,
+                operation3RunDurationAsNano,
+                operation3.type() );
 
         WorkloadResultsSnapshot snapshot = metricsManager.snapshot();
         assertThat( snapshot.startTimeAsMilli(), equalTo( 2l ) );
         assertThat( snapshot.latestFinishTimeAsMilli(), equalTo( 16l ) );
     }
+
+    @Test
+    public void shouldMeasureIntendedStartLatencyFromScheduledStartTime()
+            throws WorkloadException, MetricsCollectionException
+    {
+        // Given
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MICROSECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+
+        // When
+        // on schedule
+        metricsManager.measure( 10, 10, TimeUnit.MICROSECONDS.toNanos( 500 ), operation.type() );
+        // 7 ms behind schedule
+        metricsManager.measure( 20, 27, TimeUnit.MICROSECONDS.toNanos( 500 ), operation.type() );
+
+        // Then
+        OperationMetricsSnapshot snapshot = metricsManager.snapshot().allMetrics().iterator().next();
+        assertThat( snapshot.runTimeMetric().min(), equalTo( 500l ) );
+        assertThat( snapshot.runTimeMetric().max(), equalTo( 500l ) );
+        assertThat( snapshot.intendedStartLatencyMetric().count(), equalTo( 2l ) );
+        assertThat( snapshot.intendedStartLatencyMetric().min(), equalTo( 500l ) );
+        assertThat( snapshot.intendedStartLatencyMetric().max(), equalTo( 7_500l ) );
+    }
+
+    @Test
+    public void shouldMeasureStartDelayFromScheduledStartTime() throws WorkloadException, MetricsCollectionException
+    {
+        // Given
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MICROSECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+
+        // When
+        // on schedule
+        metricsManager.measure( 10, 10, TimeUnit.MICROSECONDS.toNanos( 500 ), operation.type() );
+        // before schedule
+        metricsManager.measure( 20, 19, TimeUnit.MICROSECONDS.toNanos( 500 ), operation.type() );
+        // 7 ms behind schedule
+        metricsManager.measure( 30, 37, TimeUnit.MICROSECONDS.toNanos( 500 ), operation.type() );
+
+        // Then
+        OperationMetricsSnapshot snapshot = metricsManager.snapshot().allMetrics().iterator().next();
+        assertThat( snapshot.startDelayMetric().count(), equalTo( 3l ) );
+        assertThat( snapshot.startDelayMetric().min(), equalTo( 0l ) );
+        assertThat( snapshot.startDelayMetric().max(), equalTo( 7_000l ) );
+    }
+
+    @Test
+    public void shouldNotAddStartDelayToIntendedStartLatencyWhenOperationStartsOnOrBeforeSchedule()
+    {
+        assertThat( MetricsManager.intendedStartLatencyAsNano( 10, 10, 3 ), equalTo( 3l ) );
+        assertThat( MetricsManager.intendedStartLatencyAsNano( 10, 9, 3 ), equalTo( 3l ) );
+        assertThat( MetricsManager.intendedStartLatencyAsNano( -1, 9, 3 ), equalTo( 3l ) );
+        assertThat( MetricsManager.intendedStartLatencyAsNano( 10, 11, 3 ),
+                equalTo( TimeUnit.MILLISECONDS.toNanos( 1 ) + 3 ) );
+    }
+
+    @Test
+    public void shouldRecordIntervalsAndWriteThemToIntervalMetricsLog()
+            throws WorkloadException, MetricsCollectionException, IOException
+    {
+        // Given
+        File intervalMetricsLog = temporaryFolder.newFile();
+        IntervalMetricsLogWriter intervalMetricsLogWriter = new IntervalMetricsLogWriter( intervalMetricsLog );
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory,
+                10,
+                intervalMetricsLogWriter
+        );
+        Operation read1 = DummyLdbcSnbInteractiveOperationInstances.read1();
+        Operation read2 = DummyLdbcSnbInteractiveOperationInstances.read2();
+
+        // When
+        // interval [0,10)
+        metricsManager.measure( 2, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), read1.type() );
+        metricsManager.measure( 8, 8, TimeUnit.MILLISECONDS.toNanos( 3 ), read1.type() );
+        // interval [10,20)
+        metricsManager.measure( 11, 11, TimeUnit.MILLISECONDS.toNanos( 5 ), read2.type() );
+        // interval [20,30) is in progress when snapshot is taken
+        metricsManager.measure( 25, 25, TimeUnit.MILLISECONDS.toNanos( 2 ), read1.type() );
+        WorkloadResultsSnapshot snapshot = metricsManager.snapshot();
+        metricsManager.completeInterval();
+        intervalMetricsLogWriter.close();
+
+        // Then
+        Map<String,List<IntervalMetricsSnapshot>> intervals = new HashMap<>();
+        for ( OperationMetricsSnapshot operationMetrics : snapshot.allMetrics() )
+        {
+            intervals.put( operationMetrics.name(), operationMetrics.intervals() );
+        }
+        List<IntervalMetricsSnapshot> read1Intervals = intervals.get( read1.getClass().getSimpleName() );
+        assertThat( read1Intervals.size(), equalTo( 2 ) );
+        assertThat( read1Intervals.get( 0 ).startTimeAsMilli(), equalTo( 0l ) );
+        assertThat( read1Intervals.get( 0 ).endTimeAsMilli(), equalTo( 10l ) );
+        assertThat( read1Intervals.get( 0 ).count(), equalTo( 2l ) );
+        assertThat( read1Intervals.get( 0 ).runTimeMetric().max(), equalTo( 3l ) );
+        assertThat( read1Intervals.get( 1 ).startTimeAsMilli(), equalTo( 20l ) );
+        assertThat( read1Intervals.get( 1 ).count(), equalTo( 1l ) );
+        List<IntervalMetricsSnapshot> read2Intervals = intervals.get( read2.getClass().getSimpleName() );
+        assertThat( read2Intervals.size(), equalTo( 1 ) );
+        assertThat( read2Intervals.get( 0 ).startTimeAsMilli(), equalTo( 10l ) );
+        assertThat( read2Intervals.get( 0 ).runTimeMetric().min(), equalTo( 5l ) );
+
+        // one run time & one intended start latency histogram per operation type per interval
+        HistogramLogReader histogramLogReader = new HistogramLogReader( intervalMetricsLog );
+        long histogramCount = 0;
+        long operationCount = 0;
+        Histogram intervalHistogram;
+        while ( null != (intervalHistogram = histogramLogReader.nextIntervalHistogram()) )
+        {
+            histogramCount++;
+            operationCount += intervalHistogram.getTotalCount();
+        }
+        assertThat( histogramCount, equalTo( 6l ) );
+        assertThat( operationCount, equalTo( 8l ) );
+    }
 }
@@ -5,8 +5,11 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -52,6 +55,7 @@ public class ResultsLogReaderWriterTest
             assertThat( reader.getRunDurationAsNano(), equalTo( Long.MAX_VALUE ) );
             assertThat( reader.getResultCode(), equalTo( Integer.MAX_VALUE ) );
             assertThat( reader.getOriginalStartTime(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getIntendedStartLatencyAsNano(), equalTo( Long.MAX_VALUE ) );
 
             assertTrue( reader.next() );
             assertThat( reader.getOperationName(), equalTo( "b" ) );
@@ -60,6 +64,7 @@ public class ResultsLogReaderWriterTest
             assertThat( reader.getRunDurationAsNano(), equalTo( 0L ) );
             assertThat( reader.getResultCode(), equalTo( Integer.MIN_VALUE ) );
             assertThat( reader.getOriginalStartTime(), equalTo( 0L ) );
+            assertThat( reader.getIntendedStartLatencyAsNano(), equalTo( 0L ) );
 
             assertFalse( reader.next() );
         }
@@ -112,4 +117,64 @@ public class ResultsLogReaderWriterTest
             assertFalse( reader.next() );
         }
     }
+
+    @Test
+    public void shouldWriteAndReadIntendedStartLatency() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        TimeUnit unit = NANOSECONDS;
+
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( resultsLog, unit ) )
+        {
+            // started 5 ms behind schedule
+            writer.write(
+                    "a",
+                    10,
+                    15,
+                    MILLISECONDS.toNanos( 2 ),
+                    0,
+                    10 );
+        }
+
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+        {
+            assertTrue( reader.next() );
+            assertThat( reader.getRunDurationAsNano(), equalTo( MILLISECONDS.toNanos( 2 ) ) );
+            assertThat( reader.getIntendedStartLatencyAsNano(), equalTo( MILLISECONDS.toNanos( 7 ) ) );
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldWriteSameResultsLogWithBatchingWriterAsWithSimpleWriter() throws Exception
+    {
+        File simpleResultsLog = temporaryFolder.newFile();
+        File batchingResultsLog = temporaryFolder.newFile();
+        TimeUnit unit = MICROSECONDS;
+        // small buffer, to force many flushes
+        int bufferSize = 256;
+
+        try ( ResultsLogWriter simpleWriter = new SimpleResultsLogWriter( simpleResultsLog, unit );
+              ResultsLogWriter batchingWriter = new BatchingResultsLogWriter( batchingResultsLog, unit, bufferSize ) )
+        {
+            long[] values = new long[]{Long.MIN_VALUE, -123456789, -1, 0, 1, 9, 10, 987654321, Long.MAX_VALUE};
+            for ( int i = 0; i < 100; i++ )
+            {
+                for ( ResultsLogWriter writer : new ResultsLogWriter[]{simpleWriter, batchingWriter} )
+                {
+                    writer.write(
+                            "operation" + (i % 3),
+                            values[i % values.length],
+                            values[(i + 1) % values.length],
+                            values[(i + 2) % values.length],
+                            (int) values[(i + 3) % values.length],
+                            values[(i + 4) % values.length] );
+                }
+            }
+        }
+
+        assertThat(
+                new String( Files.readAllBytes( batchingResultsLog.toPath() ), StandardCharsets.UTF_8 ),
+                equalTo( new String( Files.readAllBytes( simpleResultsLog.toPath() ), StandardCharsets.UTF_8 ) ) );
+    }
 }
@@ -0,0 +1,237 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ThreadLocalHistogramMetricsServiceTest
+{
+    private TimeSource timeSource = new SystemTimeSource();
+    private LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @Test
+    public void shouldNotAcceptOperationResultsAfterShutdown() throws WorkloadException, MetricsCollectionException
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        MetricsService metricsService = new ThreadLocalHistogramMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+        metricsService.shutdown();
+        boolean exceptionThrown = false;
+        try
+        {
+            metricsServiceWriter.submitOperationResult(
+                    LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 1 );
+        }
+        catch ( MetricsCollectionException e )
+        {
+            exceptionThrown = true;
+        }
+        assertThat( exceptionThrown, is( true ) );
+    }
+
+    @Test
+    public void shouldReturnCorrectMeasurements() throws WorkloadException, MetricsCollectionException
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        MetricsService metricsService = new ThreadLocalHistogramMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        try
+        {
+            new DisruptorSbeMetricsServiceTest().shouldReturnCorrectMeasurements( metricsService.getWriter() );
+            WorkloadResultsSnapshot results = metricsService.getWriter().results();
+            assertThat( results.totalOperationCount(), equalTo( 3l ) );
+            assertThat( results.allMetrics().size(), equalTo( 2 ) );
+            assertThat( metricsService.getWriter().status().operationCount(), equalTo( 3l ) );
+        }
+        finally
+        {
+            System.out.println( errorReporter.toString() );
+            metricsService.shutdown();
+        }
+        assertThat( errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldMergeMeasurementsOfAllThreadsWhileTheyAreRecording() throws Exception
+    {
+        // Given
+        final int threadCount = 8;
+        final int operationsPerThread = 100_000;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final MetricsService metricsService = new ThreadLocalHistogramMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                operationTypeToClassMapping(),
+                loggingServiceFactory,
+                1
+        );
+        final AtomicInteger errorCount = new AtomicInteger( 0 );
+        List<Thread> threads = new ArrayList<>();
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            final int threadIndex = i;
+            threads.add( new Thread( () ->
+            {
+                try
+                {
+                    MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+                    for ( int j = 0; j < operationsPerThread; j++ )
+                    {
+                        int operationType = (0 == (j / 10) % 2) ? LdbcQuery1.TYPE : LdbcQuery2.TYPE;
+                        long actualStartTimeAsMilli = 10 + threadIndex;
+                        metricsServiceWriter.submitOperationResult(
+                                operationType,
+                                actualStartTimeAsMilli,
+                                actualStartTimeAsMilli,
+                                TimeUnit.MILLISECONDS.toNanos( 1 + j % 10 ),
+                                0,
+                                actualStartTimeAsMilli );
+                    }
+                }
+                catch ( MetricsCollectionException e )
+                {
+                    errorCount.incrementAndGet();
+                }
+            } ) );
+        }
+
+        // When
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+        WorkloadResultsSnapshot results = metricsService.getWriter().results();
+        metricsService.shutdown();
+
+        // Then
+        assertThat( errorCount.get(), is( 0 ) );
+        assertThat( errorReporter.errorEncountered(), is( false ) );
+        assertThat( results.totalOperationCount(), equalTo( (long) threadCount * operationsPerThread ) );
+        assertThat( results.startTimeAsMilli(), equalTo( 10l ) );
+        assertThat( results.latestFinishTimeAsMilli(), equalTo( 10l + threadCount - 1 + 10 ) );
+        for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+        {
+            assertThat( operationMetrics.count(), equalTo( (long) threadCount * operationsPerThread / 2 ) );
+            assertThat( operationMetrics.runTimeMetric().min(), equalTo( 1l ) );
+            assertThat( operationMetrics.runTimeMetric().max(), equalTo( 10l ) );
+        }
+    }
+
+    @Test
+    public void shouldRetireRecordersOfTerminatedThreadsWithoutLosingTheirMeasurements() throws Exception
+    {
+        // Given
+        final int threadCount = 2_000;
+        final int concurrentThreadCount = 16;
+        final int operationsPerThread = 100;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final ThreadLocalHistogramMetricsService metricsService = new ThreadLocalHistogramMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                TimeUnit.SECONDS.toNanos( 1 ),
+                operationTypeToClassMapping(),
+                loggingServiceFactory,
+                1
+        );
+        final AtomicInteger errorCount = new AtomicInteger( 0 );
+        Runnable recordOperations = () ->
+        {
+            try
+            {
+                MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+                for ( int j = 0; j < operationsPerThread; j++ )
+                {
+                    int operationType = (0 == (j / 10) % 2) ? LdbcQuery1.TYPE : LdbcQuery2.TYPE;
+                    metricsServiceWriter.submitOperationResult(
+                            operationType,
+                            10,
+                            10,
+                            TimeUnit.MILLISECONDS.toNanos( 1 + j % 10 ),
+                            0,
+                            10 );
+                }
+            }
+            catch ( MetricsCollectionException e )
+            {
+                errorCount.incrementAndGet();
+            }
+        };
+
+        // When
+        for ( int i = 0; i < threadCount; i += concurrentThreadCount )
+        {
+            List<Thread> threads = new ArrayList<>();
+            for ( int j = 0; j < concurrentThreadCount; j++ )
+            {
+                Thread thread = new Thread( recordOperations );
+                thread.start();
+                threads.add( thread );
+            }
+            for ( Thread thread : threads )
+            {
+                thread.join();
+            }
+        }
+        WorkloadResultsSnapshot results = metricsService.getWriter().results();
+        int threadMetricsRecorderCount = metricsService.threadMetricsRecorderCount();
+        metricsService.shutdown();
+
+        // Then
+        assertThat( errorCount.get(), is( 0 ) );
+        assertThat( errorReporter.errorEncountered(), is( false ) );
+        assertThat( threadMetricsRecorderCount, is( 0 ) );
+        assertThat( results.totalOperationCount(), equalTo( (long) threadCount * operationsPerThread ) );
+        for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+        {
+            assertThat( operationMetrics.count(), equalTo( (long) threadCount * operationsPerThread / 2 ) );
+            assertThat( operationMetrics.runTimeMetric().min(), equalTo( 1l ) );
+            assertThat( operationMetrics.runTimeMetric().max(), equalTo( 10l ) );
+        }
+    }
+
+    private static Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return operationTypeToClassMapping;
+    }
+}
@@ -8,8 +8,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 public class WorkloadResultsSnapshotTest
@@ -59,6 +61,38 @@ public class WorkloadResultsSnapshotTest
         assertThat( snapshot1, equalTo( snapshot2 ) );
     }
 
+    @Test
+    public void shouldSerializeConnectionStateAcquisitionOnlyWhenPresent()
+            throws WorkloadException, MetricsCollectionException, IOException
+    {
+        // Given
+        WorkloadResultsSnapshot snapshot =
+                createSnapshot( 1, TimeUnit.NANOSECONDS, TimeUnit.MICROSECONDS, TimeUnit.MILLISECONDS,
+                        TimeUnit.MILLISECONDS );
+        WorkloadResultsSnapshot snapshotWithAcquisition = snapshot.withConnectionStateAcquisition(
+                new ConnectionStateAcquisitionSnapshot(
+                        10,
+                        TimeUnit.MILLISECONDS.toNanos( 50 ),
+                        TimeUnit.MILLISECONDS.toNanos( 20 ),
+                        snapshot.unit() ) );
+
+        // When
+        WorkloadResultsSnapshot marshalledSnapshot = WorkloadResultsSnapshot.fromJson( snapshot.toJson() );
+        WorkloadResultsSnapshot marshalledSnapshotWithAcquisition =
+                WorkloadResultsSnapshot.fromJson( snapshotWithAcquisition.toJson() );
+
+        // Then
+        assertThat( snapshot.toJson(), not( containsString( "connection_state_acquisition" ) ) );
+        assertThat( marshalledSnapshot.connectionStateAcquisition(), nullValue() );
+        assertThat( snapshotWithAcquisition.toJson(), containsString( "connection_state_acquisition" ) );
+        assertThat( marshalledSnapshotWithAcquisition, equalTo( snapshot ) );
+        ConnectionStateAcquisitionSnapshot acquisition = marshalledSnapshotWithAcquisition.connectionStateAcquisition();
+        assertThat( acquisition.count(), equalTo( 10L ) );
+        assertThat( acquisition.unit(), equalTo( TimeUnit.MILLISECONDS ) );
+        assertThat( acquisition.totalWaitAsNano(), equalTo( TimeUnit.MILLISECONDS.toNanos( 50 ) ) );
+        assertThat( acquisition.maxWaitAsNano(), equalTo( TimeUnit.MILLISECONDS.toNanos( 20 ) ) );
+    }
+
     private WorkloadResultsSnapshot createSnapshot( int seed, TimeUnit timeUnit1, TimeUnit timeUnit2,
             TimeUnit timeUnit3, TimeUnit timeUnit4 )
     {
@@ -91,10 +125,24 @@ public class WorkloadResultsSnapshotTest
                 runTimePercentile99,
                 runTimePercentile99_9,
                 runTimeStdDev );
+        ContinuousMetricSnapshot intendedStartLatencyMetric = new ContinuousMetricSnapshot(
+                Integer.toString( seed++ ),
+                runTimeUnit,
+                runTimeCount,
+                seed++,
+                seed++,
+                seed++,
+                0l, seed++,
+                0l, seed++,
+                seed++,
+                seed++,
+                seed++,
+                seed++ );
 
         Map<String,OperationMetricsSnapshot> metrics = new HashMap<>();
         metrics.put( Integer.toString( seed++ ),
-                new OperationMetricsSnapshot( operationName, operationDurationUnit, operationCount, runTimeMetric ) );
+                new OperationMetricsSnapshot( operationName, operationDurationUnit, operationCount, runTimeMetric,
+                        intendedStartLatencyMetric ) );
 
         long operationStartTime = seed++;
         long operationLatestFinishTime = seed++;
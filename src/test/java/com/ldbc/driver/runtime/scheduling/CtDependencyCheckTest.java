@@ -2,10 +2,16 @@ package com.ldbc.driver.runtime.scheduling;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
 import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -48,4 +54,54 @@ public class CtDependencyCheckTest
         dummyCompletionTimeReader.setCompletionTimeAsMilli( 10 );
         assertThat( ctDependencyCheck.doCheck( operation ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
     }
+
+    @Test
+    public void shouldBlockUntilCtReachesDependencyTimeWhenReadingFromCompletionTimeService()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        long dependencyTimeAsMilli = 5;
+        long scheduledStartTimeAsMilli = -1;
+        final Operation operation =
+                new TimedNamedOperation1( scheduledStartTimeAsMilli, scheduledStartTimeAsMilli, dependencyTimeAsMilli,
+                        null );
+        CompletionTimeService completionTimeService =
+                new CompletionTimeServiceAssistant().newSynchronizedCompletionTimeService();
+        CompletionTimeWriter completionTimeWriter = completionTimeService.newCompletionTimeWriter();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final CtDependencyCheck ctDependencyCheck = new CtDependencyCheck( completionTimeService, errorReporter );
+        final AtomicReference<SpinnerCheck.SpinnerCheckResult> result = new AtomicReference<>();
+        Thread checkingThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                result.set( ctDependencyCheck.doCheck( operation ) );
+            }
+        };
+
+        // When
+        checkingThread.start();
+
+        // Then
+        // CT is before Dependency Time
+        completionTimeWriter.submitInitiatedTime( 0 );
+        completionTimeWriter.submitCompletedTime( 0 );
+        completionTimeWriter.submitInitiatedTime( 4 );
+        checkingThread.join( 200 );
+        assertThat( checkingThread.isAlive(), is( true ) );
+        assertThat( result.get(), is( (SpinnerCheck.SpinnerCheckResult) null ) );
+
+        // CT is equal to Dependency Time
+        completionTimeWriter.submitInitiatedTime( 5 );
+        completionTimeWriter.submitCompletedTime( 4 );
+        completionTimeWriter.submitCompletedTime( 5 );
+        completionTimeWriter.submitInitiatedTime( 6 );
+        checkingThread.join( 1000 );
+        assertThat( checkingThread.isAlive(), is( false ) );
+        assertThat( result.get(), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+
+        completionTimeService.shutdown();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
 }
@@ -1,6 +1,7 @@
 package com.ldbc.driver.runtime.scheduling;
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.temporal.ManualTimeSource;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TemporalUtil;
@@ -59,6 +60,42 @@ public class SpinnerTests
         spinningThread.join( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
     }
 
+    @Test
+    public void shouldPassWhenNoCheckAndStartTimeArrivesUsingTimerWheel() throws InterruptedException
+    {
+        // Given
+        timeSource.setNowFromMilli( 0 );
+        boolean ignoreScheduledStartTime = false;
+        long spinnerSleepDuration = 0l;
+        TimerWheelScheduler timerWheelScheduler = new TimerWheelScheduler( timeSource, new ConcurrentErrorReporter() );
+        timerWheelScheduler.start();
+        Spinner spinner = new Spinner( timeSource, spinnerSleepDuration, ignoreScheduledStartTime, timerWheelScheduler );
+
+        long scheduledStartTime = 10l;
+        Operation operation = new TimedNamedOperation1( scheduledStartTime, scheduledStartTime, 0l, "name" );
+
+        SpinningThread spinningThread = new SpinningThread( spinner, operation );
+
+        // When
+        spinningThread.start();
+
+        // Then
+        // should not return before start time
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        assertThat( spinningThread.spinnerHasCompleted(), is( false ) );
+        assertThat( spinningThread.isFineToExecuteOperation(), is( false ) );
+
+        timeSource.setNowFromMilli( scheduledStartTime );
+
+        // should return when start time reached
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        assertThat( spinningThread.spinnerHasCompleted(), is( true ) );
+        assertThat( spinningThread.isFineToExecuteOperation(), is( true ) );
+
+        spinningThread.join( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        timerWheelScheduler.shutdown();
+    }
+
     @Test
     public void shouldPassOnlyWhenCheckPassesAndStartTimeArrives() throws InterruptedException
     {
@@ -0,0 +1,291 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.ManualTimeSource;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class TimerWheelSchedulerTest
+{
+    private static final long ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING = 200;
+
+    @Test
+    public void shouldRunTasksOnlyOnceTheirDueTimeArrives() throws InterruptedException
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        TimerWheelScheduler scheduler = new TimerWheelScheduler( timeSource, errorReporter, 16 );
+        scheduler.start();
+        AtomicInteger counter10 = new AtomicInteger( 0 );
+        AtomicInteger counter20 = new AtomicInteger( 0 );
+
+        // When
+        scheduler.schedule( 10, new IncrementRunnable( counter10 ) );
+        scheduler.schedule( 20, new IncrementRunnable( counter20 ) );
+        // same bucket as 10, but next revolution of the wheel
+        scheduler.schedule( 26, new IncrementRunnable( counter20 ) );
+
+        // Then
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING );
+        assertThat( counter10.get(), is( 0 ) );
+        assertThat( counter20.get(), is( 0 ) );
+        assertThat( scheduler.pendingTaskCount(), is( 3l ) );
+
+        timeSource.setNowFromMilli( 10 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING );
+        assertThat( counter10.get(), is( 1 ) );
+        assertThat( counter20.get(), is( 0 ) );
+        assertThat( scheduler.pendingTaskCount(), is( 2l ) );
+
+        timeSource.setNowFromMilli( 20 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING );
+        assertThat( counter20.get(), is( 1 ) );
+        assertThat( scheduler.pendingTaskCount(), is( 1l ) );
+
+        timeSource.setNowFromMilli( 26 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING );
+        assertThat( counter20.get(), is( 2 ) );
+        assertThat( scheduler.pendingTaskCount(), is( 0l ) );
+
+        scheduler.shutdown();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldRunAllDueTasksWhenTimeAdvancesByMoreThanOneRevolution() throws InterruptedException
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        TimerWheelScheduler scheduler = new TimerWheelScheduler( timeSource, errorReporter, 16 );
+        scheduler.start();
+        AtomicInteger counter = new AtomicInteger( 0 );
+
+        // When
+        for ( long dueTime = 1; dueTime <= 100; dueTime++ )
+        {
+            scheduler.schedule( dueTime, new IncrementRunnable( counter ) );
+        }
+
+        // Then
+        timeSource.setNowFromMilli( 50 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING );
+        assertThat( counter.get(), is( 50 ) );
+
+        timeSource.setNowFromMilli( 1000 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING );
+        assertThat( counter.get(), is( 100 ) );
+        assertThat( scheduler.pendingTaskCount(), is( 0l ) );
+
+        scheduler.shutdown();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldParkWaitingThreadUntilDueTimeArrives() throws InterruptedException
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        TimerWheelScheduler scheduler = new TimerWheelScheduler( timeSource, errorReporter );
+        scheduler.start();
+        WaitingThread waitingThread = new WaitingThread( scheduler, 10 );
+
+        // When
+        waitingThread.start();
+
+        // Then
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING );
+        assertThat( waitingThread.hasCompleted(), is( false ) );
+
+        timeSource.setNowFromMilli( 9 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING );
+        assertThat( waitingThread.hasCompleted(), is( false ) );
+
+        timeSource.setNowFromMilli( 10 );
+        waitingThread.join( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING );
+        assertThat( waitingThread.hasCompleted(), is( true ) );
+
+        scheduler.shutdown();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldReleaseWaitingThreadsOnShutdown() throws InterruptedException
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        TimerWheelScheduler scheduler = new TimerWheelScheduler( timeSource, errorReporter );
+        scheduler.start();
+        WaitingThread waitingThread1 = new WaitingThread( scheduler, 10 );
+        WaitingThread waitingThread2 = new WaitingThread( scheduler, 10000 );
+
+        // When
+        waitingThread1.start();
+        waitingThread2.start();
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING );
+        assertThat( waitingThread1.hasCompleted(), is( false ) );
+        assertThat( waitingThread2.hasCompleted(), is( false ) );
+
+        scheduler.shutdown();
+
+        // Then
+        waitingThread1.join( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING );
+        waitingThread2.join( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING );
+        assertThat( waitingThread1.hasCompleted(), is( true ) );
+        assertThat( waitingThread2.hasCompleted(), is( true ) );
+        assertThat( scheduler.pendingTaskCount(), is( 0l ) );
+    }
+
+    @Test
+    public void shouldReleaseWaitingThreadAtDueTimeOfSystemClock() throws InterruptedException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        TimerWheelScheduler scheduler = new TimerWheelScheduler( timeSource, errorReporter );
+        scheduler.start();
+        long dueTime = timeSource.nowAsMilli() + 100;
+        WaitingThread waitingThread = new WaitingThread( scheduler, dueTime );
+
+        // When
+        waitingThread.start();
+        waitingThread.join( ENOUGH_MILLISECONDS_FOR_SCHEDULER_THREAD_TO_DO_ITS_THING * 5 );
+
+        // Then
+        assertThat( waitingThread.hasCompleted(), is( true ) );
+        assertTrue( waitingThread.completedAtAsMilli() >= dueTime );
+
+        scheduler.shutdown();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldRunTasksImmediatelyAfterShutdown()
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        TimerWheelScheduler scheduler = new TimerWheelScheduler( timeSource, errorReporter );
+        AtomicInteger counter = new AtomicInteger( 0 );
+
+        // When
+        scheduler.shutdown();
+        scheduler.schedule( 10, new IncrementRunnable( counter ) );
+        scheduler.awaitTime( 10 );
+
+        // Then
+        assertThat( counter.get(), is( 1 ) );
+        assertThat( scheduler.pendingTaskCount(), is( 0l ) );
+    }
+
+    @Test
+    public void shouldRunEveryTaskExactlyOnceWhenShutdownRacesWithSubmission() throws InterruptedException
+    {
+        for ( int repetition = 0; repetition < 20; repetition++ )
+        {
+            // Given
+            ManualTimeSource timeSource = new ManualTimeSource( 0 );
+            ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+            final TimerWheelScheduler scheduler = new TimerWheelScheduler( timeSource, errorReporter );
+            scheduler.start();
+            final int submitterCount = 4;
+            final int tasksPerSubmitter = 10_000;
+            final AtomicIntegerArray runCounts = new AtomicIntegerArray( submitterCount * tasksPerSubmitter );
+            List<Thread> submitters = new ArrayList<>();
+            for ( int i = 0; i < submitterCount; i++ )
+            {
+                final int submitter = i;
+                submitters.add( new Thread( () ->
+                {
+                    for ( int task = 0; task < tasksPerSubmitter; task++ )
+                    {
+                        final int taskIndex = submitter * tasksPerSubmitter + task;
+                        scheduler.schedule( 1 + task % 5000, () -> runCounts.incrementAndGet( taskIndex ) );
+                    }
+                } ) );
+            }
+
+            // When
+            for ( Thread submitter : submitters )
+            {
+                submitter.start();
+            }
+            timeSource.setNowFromMilli( 2500 );
+            scheduler.shutdown();
+            for ( Thread submitter : submitters )
+            {
+                submitter.join();
+            }
+
+            // Then
+            for ( int taskIndex = 0; taskIndex < runCounts.length(); taskIndex++ )
+            {
+                assertThat( "task " + taskIndex, runCounts.get( taskIndex ), is( 1 ) );
+            }
+            assertThat( scheduler.pendingTaskCount(), is( 0l ) );
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        }
+    }
+
+    private static class IncrementRunnable implements Runnable
+    {
+        private final AtomicInteger counter;
+
+        private IncrementRunnable( AtomicInteger counter )
+        {
+            this.counter = counter;
+        }
+
+        @Override
+        public void run()
+        {
+            counter.incrementAndGet();
+        }
+    }
+
+    private static class WaitingThread extends Thread
+    {
+        private final TimerWheelScheduler scheduler;
+        private final long dueTimeAsMilli;
+        private final AtomicBoolean hasCompleted = new AtomicBoolean( false );
+        private volatile long completedAtAsMilli = -1;
+
+        private WaitingThread( TimerWheelScheduler scheduler, long dueTimeAsMilli )
+        {
+            this.scheduler = scheduler;
+            this.dueTimeAsMilli = dueTimeAsMilli;
+        }
+
+        @Override
+        public void run()
+        {
+            scheduler.awaitTime( dueTimeAsMilli );
+            completedAtAsMilli = System.currentTimeMillis();
+            hasCompleted.set( true );
+        }
+
+        boolean hasCompleted()
+        {
+            return hasCompleted.get();
+        }
+
+        long completedAtAsMilli()
+        {
+            return completedAtAsMilli;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.ldbc.driver.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import com.ldbc.driver.SerializingMarshallingException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class JsonArrayReaderWriterTest
+{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void shouldWriteSameJsonAsObjectMapper() throws Exception
+    {
+        // Given
+        List<Object> values = mixedValues();
+
+        // When
+        String json = JsonArrayWriter.toJson( values );
+
+        // Then
+        assertThat( json, equalTo( OBJECT_MAPPER.writeValueAsString( values ) ) );
+    }
+
+    @Test
+    public void shouldReadSameValuesAsObjectMapper() throws Exception
+    {
+        // Given
+        String json = OBJECT_MAPPER.writeValueAsString( mixedValues() );
+
+        // When
+        List<Object> values = JsonArrayReader.readList( json );
+
+        // Then
+        List<Object> expectedValues = OBJECT_MAPPER.readValue( json, new TypeReference<List<Object>>()
+        {
+        } );
+        assertThat( values, equalTo( expectedValues ) );
+        assertThat( values.get( 1 ).getClass(), equalTo( (Class) expectedValues.get( 1 ).getClass() ) );
+        assertThat( values.get( 2 ).getClass(), equalTo( (Class) expectedValues.get( 2 ).getClass() ) );
+    }
+
+    @Test
+    public void shouldWriteAndReadRowsValueByValue() throws Exception
+    {
+        // Given
+        JsonArrayWriter writer = new JsonArrayWriter();
+        writer.beginArray();
+        for ( long id = 0; id < 3; id++ )
+        {
+            writer.beginArray();
+            writer.write( id );
+            writer.write( "name" + id );
+            writer.write( 0.5f * id );
+            writer.write( 0 == id % 2 );
+            writer.write( Lists.newArrayList( "a", "b" ) );
+            writer.endArray();
+        }
+
+        // When
+        String json = writer.endArray().toJson();
+        JsonArrayReader reader = new JsonArrayReader( json );
+        List<Long> ids = new ArrayList<>();
+        reader.beginArray();
+        while ( reader.hasNext() )
+        {
+            reader.beginArray();
+            long id = reader.nextLong();
+            assertThat( reader.nextString(), equalTo( "name" + id ) );
+            assertThat( reader.nextFloat(), equalTo( 0.5f * id ) );
+            assertThat( reader.nextBoolean(), equalTo( 0 == id % 2 ) );
+            assertThat( reader.nextStringList(), equalTo( (List<String>) Lists.newArrayList( "a", "b" ) ) );
+            reader.endArray();
+            ids.add( id );
+        }
+        reader.endArray();
+
+        // Then
+        assertThat( json, equalTo(
+                "[[0,\"name0\",0.0,true,[\"a\",\"b\"]],[1,\"name1\",0.5,false,[\"a\",\"b\"]]," +
+                "[2,\"name2\",1.0,true,[\"a\",\"b\"]]]" ) );
+        assertThat( ids, equalTo( (List<Long>) Lists.newArrayList( 0L, 1L, 2L ) ) );
+    }
+
+    @Test
+    public void shouldReadSameValuesFromListsAsFromJson() throws Exception
+    {
+        // Given
+        String json = JsonArrayWriter.toJson( mixedValues() );
+
+        // When
+        List<List<Object>> values = new ArrayList<>();
+        for ( ArrayReader reader : new ArrayReader[]{
+                new JsonArrayReader( json ),
+                new ListArrayReader( JsonArrayReader.readList( json ) )} )
+        {
+            List<Object> readerValues = new ArrayList<>();
+            reader.beginArray();
+            readerValues.add( reader.nextString() );
+            readerValues.add( reader.nextInt() );
+            readerValues.add( reader.nextLong() );
+            readerValues.add( reader.nextDouble() );
+            readerValues.add( reader.nextBoolean() );
+            readerValues.add( reader.nextString() );
+            readerValues.add( reader.nextLong() );
+            readerValues.add( reader.nextStringList() );
+            reader.beginArray();
+            readerValues.add( reader.nextString() );
+            readerValues.add( reader.nextInt() );
+            readerValues.add( reader.nextString() );
+            reader.endArray();
+            readerValues.add( reader.nextList() );
+            readerValues.add( reader.nextString() );
+            readerValues.add( reader.hasNext() );
+            reader.endArray();
+            values.add( readerValues );
+        }
+
+        // Then
+        assertThat( values.get( 1 ), equalTo( values.get( 0 ) ) );
+        assertThat( values.get( 0 ).get( 6 ), equalTo( (Object) 1234L ) );
+        assertThat( values.get( 0 ).get( 13 ), equalTo( (Object) false ) );
+    }
+
+    @Test( expected = SerializingMarshallingException.class )
+    public void shouldFailWhenListValueIsNotOfRequestedType() throws Exception
+    {
+        ListArrayReader reader = new ListArrayReader( Lists.<Object>newArrayList( "1" ) );
+        reader.beginArray();
+        reader.nextLong();
+    }
+
+    @Test( expected = SerializingMarshallingException.class )
+    public void shouldFailWhenListHasMoreElementsThanRead() throws Exception
+    {
+        ListArrayReader reader = new ListArrayReader( Lists.<Object>newArrayList( 1, 2 ) );
+        reader.beginArray();
+        reader.nextLong();
+        reader.endArray();
+    }
+
+    @Test( expected = SerializingMarshallingException.class )
+    public void shouldFailWhenValueIsNotOfRequestedType() throws Exception
+    {
+        JsonArrayReader reader = new JsonArrayReader( "[\"1\"]" );
+        reader.beginArray();
+        reader.nextLong();
+    }
+
+    @Test( expected = SerializingMarshallingException.class )
+    public void shouldFailWhenArrayHasMoreElementsThanRead() throws Exception
+    {
+        JsonArrayReader reader = new JsonArrayReader( "[1,2]" );
+        reader.beginArray();
+        reader.nextLong();
+        reader.endArray();
+    }
+
+    private static List<Object> mixedValues()
+    {
+        Map<String,Object> organization = new LinkedHashMap<>();
+        organization.put( "id", 1L );
+        organization.put( "year", 2010 );
+        List<Object> values = new ArrayList<>();
+        values.add( "com.ldbc.Operation" );
+        values.add( 1 );
+        values.add( Long.MAX_VALUE );
+        values.add( 1.5d );
+        values.add( true );
+        values.add( null );
+        values.add( new Date( 1234L ) );
+        values.add( Lists.newArrayList( "a", null, "c" ) );
+        values.add( Lists.newArrayList( Lists.newArrayList( "university", 2001, "city" ) ) );
+        values.add( Lists.newArrayList( organization ) );
+        values.add( "quote\" & unicode é" );
+        return values;
+    }
+}
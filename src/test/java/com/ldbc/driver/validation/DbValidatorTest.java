@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Map;
 
 import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -154,6 +155,85 @@ public class DbValidatorTest
                 validationResult.isSuccessful(), is( true ) );
     }
 
+    @Test
+    public void shouldReportSameValidationResultWhenValidatedConcurrentlyAsWhenValidatedSequentially()
+            throws WorkloadException, DbException, IOException, DriverConfigurationException
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        long operationCount = 1;
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                operationCount
+        );
+
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+
+        // incorrect results at the start, middle & end, so their order in the validation result can be checked
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        List<ValidationParam> validationParamsList = Lists.newArrayList( unexpectedValidationParam14( 1 ) );
+        validationParamsList.addAll( Lists.newArrayList( gf.limit( gf.repeating( buildParams().iterator() ), 5000 ) ) );
+        validationParamsList.add( unexpectedValidationParam14( 2 ) );
+        validationParamsList.addAll( Lists.newArrayList( gf.limit( gf.repeating( buildParams().iterator() ), 5000 ) ) );
+        validationParamsList.add( unexpectedValidationParam14( 3 ) );
+
+        Db db = new DummyLdbcSnbInteractiveDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                workload.operationTypeToClassMapping()
+        );
+        DbValidator dbValidator = new DbValidator();
+
+        // When
+        DbValidationResult sequentialValidationResult = dbValidator.validate(
+                validationParamsList.iterator(),
+                db,
+                validationParamsList.size(),
+                workload,
+                1
+        );
+        DbValidationResult concurrentValidationResult = dbValidator.validate(
+                validationParamsList.iterator(),
+                db,
+                validationParamsList.size(),
+                workload,
+                4
+        );
+
+        // Then
+        System.out.println( concurrentValidationResult.resultMessage() );
+        assertThat( concurrentValidationResult.isSuccessful(), is( false ) );
+        assertThat( concurrentValidationResult.resultMessage(),
+                equalTo( sequentialValidationResult.resultMessage() ) );
+        assertThat( concurrentValidationResult.expectedResultsForFailedOperationsAsJsonString( workload ),
+                equalTo( sequentialValidationResult.expectedResultsForFailedOperationsAsJsonString( workload ) ) );
+        assertThat( concurrentValidationResult.actualResultsForFailedOperationsAsJsonString( workload ),
+                equalTo( sequentialValidationResult.actualResultsForFailedOperationsAsJsonString( workload ) ) );
+    }
+
+    private ValidationParam unexpectedValidationParam14( int extraResultCount )
+    {
+        List<LdbcQuery14Result> unexpectedResult14 = DummyLdbcSnbInteractiveOperationResultSets.read14Results();
+        for ( int i = 0; i < extraResultCount; i++ )
+        {
+            unexpectedResult14.add( DummyLdbcSnbInteractiveOperationResultInstances.read14Result() );
+        }
+        return ValidationParam.createTyped( DummyLdbcSnbInteractiveOperationInstances.read14(), unexpectedResult14 );
+    }
+
     List<ValidationParam> buildParams()
     {
         ValidationParam validationParamLong1 = ValidationParam.createTyped(
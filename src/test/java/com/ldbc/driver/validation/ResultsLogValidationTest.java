@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static java.lang.String.format;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -260,6 +261,119 @@ public class ResultsLogValidationTest
         doSummaryAsserts( summaryAfterMarshal );
     }
 
+    @Test
+    public void shouldReturnExpectedSummaryWhenValidatedFromFileInParallel() throws IOException, ValidationException
+    {
+        // Given
+        long excessiveDelayThreshold = 5;
+        File file = temporaryFolder.newFile();
+        try ( SimpleCsvFileWriter writer =
+                      new SimpleCsvFileWriter( file, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            writer.writeRow(
+                    "operation_type",
+                    "scheduled_start_time",
+                    "actual_start_time",
+                    "duration",
+                    "result_code"
+            );
+            for ( Tuple2<String,Long> delay : DELAYS )
+            {
+                writer.writeRow( delay._1(), Long.toString( 0 ), Long.toString( delay._2() ), "0", "0" );
+            }
+        }
+        ResultsLogValidator validator = new ResultsLogValidator();
+
+        // When
+        ResultsLogValidationSummary summaryFromOneChunk =
+                validator.computeInParallel( file, excessiveDelayThreshold, 4 );
+        ResultsLogValidationSummary summaryFromChunkPerLine =
+                validator.computeInParallel( file, excessiveDelayThreshold, 4, 1 );
+
+        // Then
+        doSummaryAsserts( summaryFromOneChunk );
+        doSummaryAsserts( summaryFromChunkPerLine );
+    }
+
+    @Test
+    public void shouldComputeSameSummaryInParallelAsSequentiallyForAnyChunkSizeAndThreadCount()
+            throws IOException, ValidationException
+    {
+        // Given
+        long excessiveDelayThreshold = 100;
+        File file = temporaryFolder.newFile();
+        Random random = new Random( 42L );
+        try ( SimpleCsvFileWriter writer =
+                      new SimpleCsvFileWriter( file, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            writer.writeRow(
+                    "operation_type",
+                    "scheduled_start_time",
+                    "actual_start_time",
+                    "duration",
+                    "result_code",
+                    "original_start_time",
+                    "intended_start_latency"
+            );
+            long scheduledStartTime = 1_400_000_000_000L;
+            for ( int i = 0; i < 20_000; i++ )
+            {
+                scheduledStartTime += random.nextInt( 10 );
+                // mostly short delays, with a few delays long enough to grow the histograms of some chunks
+                long delay = (0 == random.nextInt( 1000 )) ? random.nextInt( 10_000_000 ) : random.nextInt( 1000 );
+                writer.writeRow(
+                        "Operation" + random.nextInt( 7 ),
+                        Long.toString( scheduledStartTime ),
+                        Long.toString( scheduledStartTime + delay ),
+                        Integer.toString( random.nextInt( 100 ) ),
+                        "0",
+                        Long.toString( scheduledStartTime ),
+                        "0"
+                );
+            }
+        }
+        ResultsLogValidator validator = new ResultsLogValidator();
+        ResultsLogValidationSummary expectedSummary = validator.compute( file, excessiveDelayThreshold );
+
+        // When
+        for ( int threadCount : new int[]{1, 3, 8} )
+        {
+            for ( long chunkSizeAsBytes : new long[]{1, 1000, 100_000, 64 * 1024 * 1024} )
+            {
+                ResultsLogValidationSummary summary = validator.computeInParallel(
+                        file,
+                        excessiveDelayThreshold,
+                        threadCount,
+                        chunkSizeAsBytes
+                );
+
+                // Then
+                assertThat(
+                        format( "threads=%s, chunk size=%s", threadCount, chunkSizeAsBytes ),
+                        summary,
+                        equalTo( expectedSummary )
+                );
+            }
+        }
+    }
+
+    @Test( expected = ValidationException.class )
+    public void shouldFailToComputeSummaryInParallelWhenDelayIsNegative() throws IOException, ValidationException
+    {
+        // Given
+        File file = temporaryFolder.newFile();
+        try ( SimpleCsvFileWriter writer =
+                      new SimpleCsvFileWriter( file, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            writer.writeRow( "operation_type", "scheduled_start_time", "actual_start_time", "duration" );
+            writer.writeRow( "A", "10", "11", "0" );
+            writer.writeRow( "A", "10", "9", "0" );
+        }
+
+        // When
+        new ResultsLogValidator().computeInParallel( file, 5, 2, 4 );
+    }
+
     private void doSummaryAsserts( ResultsLogValidationSummary summary )
     {
         assertThat( summary.excessiveDelayThresholdAsMilli(), equalTo( 5l ) );
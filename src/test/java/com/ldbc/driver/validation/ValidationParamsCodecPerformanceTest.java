@@ -0,0 +1,234 @@
+package com.ldbc.driver.validation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.util.Tuple2;
+import com.ldbc.driver.workloads.WorkloadTest;
+import com.ldbc.driver.workloads.ldbc.snb.bi.BiWorkloadTest;
+import com.ldbc.driver.workloads.ldbc.snb.bi.LdbcSnbBiQuery1PostingSummary;
+import com.ldbc.driver.workloads.ldbc.snb.bi.LdbcSnbBiQuery1PostingSummaryResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.InteractiveWorkloadTest;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcNoResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2Result;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery2PersonPosts;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery2PersonPostsResult;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate1AddPerson;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Compares marshalling serialized validation params into operations & results as was done before, binding them to
+ * trees of lists & boxed values with ObjectMapper then casting those values field by field, to marshalling them with
+ * the streaming codec. Both paths start from the same strings and end with equal operations & results.
+ * <p/>
+ * Results were marshalled per operation type, so the previous path is reproduced for a few representative types
+ * only: rows of scalars (LdbcQuery2, LdbcShortQuery2PersonPosts, LdbcSnbBiQuery1PostingSummary) and an operation with
+ * nested lists & objects but no result (LdbcUpdate1AddPerson).
+ */
+@Ignore
+public class ValidationParamsCodecPerformanceTest
+{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<Object>> LIST_TYPE_REFERENCE = new TypeReference<List<Object>>()
+    {
+    };
+    private static final TypeReference<List<List<Object>>> LIST_OF_LISTS_TYPE_REFERENCE =
+            new TypeReference<List<List<Object>>>()
+            {
+            };
+    private static final int RESULT_ROWS = 100;
+    private static final int VALIDATION_PARAMS_COUNT = 200_000;
+    private static final int REPETITIONS = 5;
+
+    private interface ObjectMapperResultMarshaller
+    {
+        Object marshalResult( String serializedResults ) throws Exception;
+    }
+
+    private static final Map<Class<? extends Operation>,ObjectMapperResultMarshaller> OBJECT_MAPPER_RESULT_MARSHALLERS =
+            new HashMap<>();
+
+    static
+    {
+        OBJECT_MAPPER_RESULT_MARSHALLERS.put( LdbcQuery2.class, serializedResults ->
+        {
+            List<LdbcQuery2Result> results = new ArrayList<>();
+            List<List<Object>> resultsAsList =
+                    OBJECT_MAPPER.readValue( serializedResults, LIST_OF_LISTS_TYPE_REFERENCE );
+            for ( List<Object> resultAsList : resultsAsList )
+            {
+                results.add( new LdbcQuery2Result(
+                        ((Number) resultAsList.get( 0 )).longValue(),
+                        (String) resultAsList.get( 1 ),
+                        (String) resultAsList.get( 2 ),
+                        ((Number) resultAsList.get( 3 )).longValue(),
+                        (String) resultAsList.get( 4 ),
+                        ((Number) resultAsList.get( 5 )).longValue() ) );
+            }
+            return results;
+        } );
+        OBJECT_MAPPER_RESULT_MARSHALLERS.put( LdbcShortQuery2PersonPosts.class, serializedResults ->
+        {
+            List<LdbcShortQuery2PersonPostsResult> results = new ArrayList<>();
+            List<List<Object>> resultsAsList =
+                    OBJECT_MAPPER.readValue( serializedResults, LIST_OF_LISTS_TYPE_REFERENCE );
+            for ( List<Object> resultAsList : resultsAsList )
+            {
+                results.add( new LdbcShortQuery2PersonPostsResult(
+                        ((Number) resultAsList.get( 0 )).longValue(),
+                        (String) resultAsList.get( 1 ),
+                        ((Number) resultAsList.get( 2 )).longValue(),
+                        ((Number) resultAsList.get( 3 )).longValue(),
+                        ((Number) resultAsList.get( 4 )).longValue(),
+                        (String) resultAsList.get( 5 ),
+                        (String) resultAsList.get( 6 ) ) );
+            }
+            return results;
+        } );
+        OBJECT_MAPPER_RESULT_MARSHALLERS.put( LdbcUpdate1AddPerson.class, serializedResults -> LdbcNoResult.INSTANCE );
+        OBJECT_MAPPER_RESULT_MARSHALLERS.put( LdbcSnbBiQuery1PostingSummary.class, serializedResults ->
+        {
+            List<LdbcSnbBiQuery1PostingSummaryResult> results = new ArrayList<>();
+            List<List<Object>> resultsAsList =
+                    OBJECT_MAPPER.readValue( serializedResults, LIST_OF_LISTS_TYPE_REFERENCE );
+            for ( List<Object> resultAsList : resultsAsList )
+            {
+                results.add( new LdbcSnbBiQuery1PostingSummaryResult(
+                        ((Number) resultAsList.get( 0 )).intValue(),
+                        (boolean) resultAsList.get( 1 ),
+                        ((Number) resultAsList.get( 2 )).intValue(),
+                        ((Number) resultAsList.get( 3 )).longValue(),
+                        ((Number) resultAsList.get( 4 )).longValue(),
+                        ((Number) resultAsList.get( 5 )).longValue(),
+                        ((Number) resultAsList.get( 6 )).floatValue() ) );
+            }
+            return results;
+        } );
+    }
+
+    // consumes marshalled values, so marshalling is not optimized away
+    private static volatile long sink = 0;
+
+    @Test
+    public void compareMarshallingPerformanceOfInteractiveValidationParams() throws Exception
+    {
+        compareMarshallingPerformance( "Interactive", new InteractiveWorkloadTest() );
+    }
+
+    @Test
+    public void compareMarshallingPerformanceOfBiValidationParams() throws Exception
+    {
+        compareMarshallingPerformance( "BI", new BiWorkloadTest() );
+    }
+
+    private void compareMarshallingPerformance( String name, WorkloadTest workloadTest ) throws Exception
+    {
+        try ( Workload workload = workloadTest.workload() )
+        {
+            List<String[]> validationParams = serializedValidationParams( workload, workloadTest );
+            for ( int i = 0; i < REPETITIONS; i++ )
+            {
+                long objectMapperDurationAsNano = timeObjectMapper( workload, validationParams );
+                long streamingDurationAsNano = timeStreaming( workload, validationParams );
+                System.out.println( format( "%s, validation params/ms: ObjectMapper (operations & results)=%s, " +
+                                            "streaming codec (operations & results)=%s",
+                        name,
+                        throughput( objectMapperDurationAsNano ),
+                        throughput( streamingDurationAsNano ) ) );
+            }
+        }
+    }
+
+    private static long timeObjectMapper( Workload workload, List<String[]> validationParams ) throws Exception
+    {
+        long startAsNano = System.nanoTime();
+        long hash = 0;
+        for ( String[] validationParam : validationParams )
+        {
+            Operation operation = marshalWithObjectMapper( workload, validationParam[0] );
+            hash += OBJECT_MAPPER_RESULT_MARSHALLERS.get( operation.getClass() )
+                    .marshalResult( validationParam[1] ).hashCode();
+        }
+        long durationAsNano = System.nanoTime() - startAsNano;
+        sink += hash;
+        return durationAsNano;
+    }
+
+    private static long timeStreaming( Workload workload, List<String[]> validationParams ) throws Exception
+    {
+        long startAsNano = System.nanoTime();
+        long hash = 0;
+        for ( String[] validationParam : validationParams )
+        {
+            Operation operation = workload.marshalOperation( validationParam[0] );
+            hash += operation.marshalResult( validationParam[1] ).hashCode();
+        }
+        long durationAsNano = System.nanoTime() - startAsNano;
+        sink += hash;
+        return durationAsNano;
+    }
+
+    // binds to a list, then the workload casts its values field by field, as operations were marshalled before
+    private static Operation marshalWithObjectMapper( Workload workload, String serializedOperation ) throws Exception
+    {
+        List<Object> operationAsList = OBJECT_MAPPER.readValue( serializedOperation, LIST_TYPE_REFERENCE );
+        return workload.marshalOperation( operationAsList );
+    }
+
+    private static List<String[]> serializedValidationParams( Workload workload, WorkloadTest workloadTest )
+            throws Exception
+    {
+        List<String[]> templates = new ArrayList<>();
+        for ( Tuple2<Operation,Object> operationAndResult : workloadTest.operationsAndResults() )
+        {
+            Operation operation = operationAndResult._1();
+            if ( false == OBJECT_MAPPER_RESULT_MARSHALLERS.containsKey( operation.getClass() ) )
+            {
+                continue;
+            }
+            Object result = operationAndResult._2();
+            if ( result instanceof List && false == ((List) result).isEmpty() )
+            {
+                List<Object> rows = new ArrayList<>();
+                while ( rows.size() < RESULT_ROWS )
+                {
+                    rows.addAll( (List) result );
+                }
+                result = rows;
+            }
+            String[] template = new String[]{
+                    workload.serializeOperation( operation ),
+                    operation.serializeResult( result )
+            };
+            // both paths must do the same work, i.e., marshal equal operations & results
+            Operation marshalledOperation = workload.marshalOperation( template[0] );
+            assertThat( marshalWithObjectMapper( workload, template[0] ), equalTo( marshalledOperation ) );
+            assertThat( OBJECT_MAPPER_RESULT_MARSHALLERS.get( operation.getClass() ).marshalResult( template[1] ),
+                    equalTo( marshalledOperation.marshalResult( template[1] ) ) );
+            templates.add( template );
+        }
+        List<String[]> validationParams = new ArrayList<>( VALIDATION_PARAMS_COUNT );
+        for ( int i = 0; i < VALIDATION_PARAMS_COUNT; i++ )
+        {
+            validationParams.add( templates.get( i % templates.size() ) );
+        }
+        return validationParams;
+    }
+
+    private static long throughput( long durationAsNano )
+    {
+        return VALIDATION_PARAMS_COUNT * 1_000_000L / Math.max( 1, durationAsNano );
+    }
+}
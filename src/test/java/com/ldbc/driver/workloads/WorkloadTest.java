@@ -10,6 +10,7 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.client.ClientMode;
+import com.ldbc.driver.client.CompileOperationStreamsMode;
 import com.ldbc.driver.client.ResultsDirectory;
 import com.ldbc.driver.client.ValidateDatabaseMode;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
@@ -18,6 +19,8 @@ import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
 import com.ldbc.driver.control.LocalControlService;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.generator.BinaryOperationStreamReader;
+import com.ldbc.driver.generator.BinaryOperationStreamWriter;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.temporal.SystemTimeSource;
@@ -26,6 +29,7 @@ import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.util.Bucket;
 import com.ldbc.driver.util.Histogram;
 import com.ldbc.driver.util.Tuple2;
+import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.validation.DbValidationResult;
 import com.ldbc.driver.validation.WorkloadValidationResult;
 import com.ldbc.driver.validation.WorkloadValidator;
@@ -37,6 +41,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +50,7 @@ import java.util.concurrent.TimeUnit;
 import static java.lang.String.format;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
@@ -188,6 +194,169 @@ public abstract class WorkloadTest
         }
     }
 
+    @Test
+    public void shouldBeAbleToCompileAndReadBackAllOperations() throws Exception
+    {
+        // Given
+        File operationStreamsFile = temporaryFolder.newFile();
+        List<Operation> operations = new ArrayList<>();
+        long time = 1000;
+        for ( Tuple2<Operation,Object> operationAndResult : operationsAndResults() )
+        {
+            Operation operation = operationAndResult._1();
+            operation.setScheduledStartTimeAsMilli( time );
+            operation.setTimeStamp( time + 1 );
+            operation.setDependencyTimeStamp( time - 1 );
+            operations.add( operation );
+            time += 10;
+        }
+
+        // When
+        try ( Workload workload = workload() )
+        {
+            try ( BinaryOperationStreamWriter writer =
+                          new BinaryOperationStreamWriter( operationStreamsFile, workload ) )
+            {
+                writer.writeStream( Collections.<Operation>emptyIterator() );
+                writer.writeStream( operations.iterator() );
+            }
+
+            // Then
+            try ( BinaryOperationStreamReader reader =
+                          new BinaryOperationStreamReader( operationStreamsFile, workload ) )
+            {
+                assertThat( reader.streamCount(), equalTo( 2 ) );
+                assertFalse( reader.operations( 0 ).hasNext() );
+                assertThat( reader.streamIndex().get( 1 ).operationCount(), equalTo( (long) operations.size() ) );
+                List<Operation> readOperations = Lists.newArrayList( reader.operations( 1 ) );
+                assertThat( readOperations, equalTo( operations ) );
+                for ( int i = 0; i < operations.size(); i++ )
+                {
+                    assertThat( readOperations.get( i ).scheduledStartTimeAsMilli(),
+                            equalTo( operations.get( i ).scheduledStartTimeAsMilli() ) );
+                    assertThat( readOperations.get( i ).timeStamp(), equalTo( operations.get( i ).timeStamp() ) );
+                    assertThat( readOperations.get( i ).dependencyTimeStamp(),
+                            equalTo( operations.get( i ).dependencyTimeStamp() ) );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldBeAbleToSkipCompiledOperations() throws Exception
+    {
+        // Given
+        File operationStreamsFile = temporaryFolder.newFile();
+        List<Operation> operations = new ArrayList<>();
+        while ( operations.size() < 2500 )
+        {
+            for ( Tuple2<Operation,Object> operationAndResult : operationsAndResults() )
+            {
+                operations.add( operationAndResult._1() );
+            }
+        }
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+
+        try ( Workload workload = workload() )
+        {
+            try ( BinaryOperationStreamWriter writer =
+                          new BinaryOperationStreamWriter( operationStreamsFile, workload ) )
+            {
+                writer.writeStream( operations.iterator() );
+            }
+
+            try ( BinaryOperationStreamReader reader =
+                          new BinaryOperationStreamReader( operationStreamsFile, workload ) )
+            {
+                for ( int skipCount : new int[]{0, 1, 1023, 1024, 1025, 2100, operations.size()} )
+                {
+                    // When
+                    Iterator<Operation> readOperations = reader.operations( 0 );
+                    gf.consume( readOperations, skipCount );
+
+                    // Then
+                    assertThat( Lists.newArrayList( readOperations ),
+                            equalTo( operations.subList( skipCount, operations.size() ) ) );
+                }
+
+                // When
+                Iterator<Operation> readOperations = reader.operations( 0 );
+                gf.consume( readOperations, 10 );
+                gf.consume( readOperations, 2000 );
+
+                // Then
+                assertThat( readOperations.next(), equalTo( operations.get( 2010 ) ) );
+            }
+        }
+    }
+
+    @Test
+    public void shouldGenerateSameOperationsFromCompiledOperationStreams() throws Exception
+    {
+        for ( DriverConfiguration configuration : withSkip( withWarmup( withTempResultDirs( configurations() ) ) ) )
+        {
+            File operationStreamsFile = temporaryFolder.newFile();
+
+            // compile
+            DriverConfiguration compileConfiguration = configuration.applyArg(
+                    ConsoleAndFileDriverConfiguration.COMPILE_OPERATION_STREAMS_ARG,
+                    operationStreamsFile.getAbsolutePath()
+            );
+            ClientMode clientMode = new Client().getClientModeFor(
+                    new LocalControlService(
+                            timeSource.nowAsMilli(),
+                            compileConfiguration,
+                            new Log4jLoggingServiceFactory( false ),
+                            timeSource
+                    )
+            );
+            assertThat( clientMode, instanceOf( CompileOperationStreamsMode.class ) );
+            clientMode.init();
+            clientMode.startExecutionAndAwaitCompletion();
+
+            // generate, from workload & from compiled operation streams
+            DriverConfiguration compiledConfiguration = configuration.applyArg(
+                    ConsoleAndFileDriverConfiguration.OPERATION_STREAMS_ARG,
+                    operationStreamsFile.getAbsolutePath()
+            );
+            List<Operation> generatedOperations = limitedOperations( configuration );
+            List<Operation> compiledOperations = limitedOperations( compiledConfiguration );
+
+            assertThat( compiledOperations.size(), equalTo( generatedOperations.size() ) );
+            for ( int i = 0; i < generatedOperations.size(); i++ )
+            {
+                assertThat( compiledOperations.get( i ), equalTo( generatedOperations.get( i ) ) );
+                assertThat( compiledOperations.get( i ).timeStamp(),
+                        equalTo( generatedOperations.get( i ).timeStamp() ) );
+                assertThat( compiledOperations.get( i ).dependencyTimeStamp(),
+                        equalTo( generatedOperations.get( i ).dependencyTimeStamp() ) );
+            }
+        }
+    }
+
+    private List<Operation> limitedOperations( DriverConfiguration configuration ) throws Exception
+    {
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+        Tuple3<WorkloadStreams,Workload,Long> workloadStreamsAndWorkload =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        configuration,
+                        gf,
+                        false,
+                        configuration.skipCount() + configuration.warmupCount(),
+                        configuration.operationCount(),
+                        new Log4jLoggingServiceFactory( false )
+                );
+        try ( Workload workload = workloadStreamsAndWorkload._2() )
+        {
+            return Lists.newArrayList(
+                    WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(
+                            gf,
+                            workloadStreamsAndWorkload._1()
+                    )
+            );
+        }
+    }
+
     @Test
     public void shouldBeAbleToSerializeAndMarshalAllOperationResults() throws Exception
     {
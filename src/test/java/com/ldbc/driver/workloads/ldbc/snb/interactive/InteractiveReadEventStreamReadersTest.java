@@ -1,6 +1,7 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.csv.charseeker.*;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.workloads.OperationTest;
@@ -13,6 +14,8 @@ import java.util.*;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public class InteractiveReadEventStreamReadersTest
@@ -479,6 +482,45 @@ public class InteractiveReadEventStreamReadersTest
         assertThat(reader.hasNext(), is(false));
     }
 
+    @Test
+    public void shouldReinitializeRecycledQuery9OperationsWhenPooled() throws IOException, ParseException {
+        // Given
+        String data = InteractiveReadEventStreamReadersTestData.QUERY_9_CSV_ROWS();
+        CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(data)));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder = new Query9EventStreamReader.Query9Decoder();
+        Mark mark = new Mark();
+        OperationPool<LdbcQuery9> pool = new OperationPool<>(LdbcQuery9.class, LdbcQuery9::new);
+        Iterator<Operation> reader = new Query9EventStreamReader(
+                new CsvEventStreamReaderBasicCharSeeker<>(
+                        charSeeker,
+                        extractors,
+                        mark,
+                        decoder,
+                        columnDelimiter
+                ),
+                pool
+        );
+
+        // When
+        LdbcQuery9 operation1 = (LdbcQuery9) reader.next();
+        assertThat(operation1.personId(), is(9895605643992L));
+        operation1.recycle();
+        LdbcQuery9 operation2 = (LdbcQuery9) reader.next();
+        LdbcQuery9 operation3 = (LdbcQuery9) reader.next();
+
+        // Then
+        assertThat(operation2, sameInstance(operation1));
+        assertThat(operation2.personId(), is(979201L));
+        assertThat(operation2.limit(), is(LdbcQuery9.DEFAULT_LIMIT));
+        assertThat(operation2.dependencyTimeStamp(), is(0L));
+        assertThat(operation3, not(sameInstance(operation1)));
+        assertThat(operation3.personId(), is(129891L));
+        assertThat(pool.createdCount(), is(2L));
+        assertThat(pool.reusedCount(), is(1L));
+    }
+
     @Test
     public void shouldParseAllQuery10Events() throws IOException, ParseException {
         // Given
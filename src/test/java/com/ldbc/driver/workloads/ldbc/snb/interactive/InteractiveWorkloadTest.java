@@ -216,7 +216,7 @@ public class InteractiveWorkloadTest extends WorkloadTest
                         MapUtils.loadPropertiesToMap(
                                 TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
                 ),
-                // SHORT AND LONG READS, NO WRITES
+                // SHORT AND LONG READS, NO WRITES, POOLED READ OPERATIONS
                 ConsoleAndFileDriverConfiguration.fromDefaults(
                         DummyLdbcSnbInteractiveDb.class.getName(),
                         LdbcSnbInteractiveWorkload.class.getName(),
@@ -226,6 +226,9 @@ public class InteractiveWorkloadTest extends WorkloadTest
                         LdbcSnbInteractiveWorkloadConfiguration.withoutWrites(
                                 LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
                         )
+                ).applyArg(
+                        LdbcSnbInteractiveWorkloadConfiguration.OPERATION_POOLING,
+                        "true"
                 ).applyArg(
                         ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_ARG,
                         "false"
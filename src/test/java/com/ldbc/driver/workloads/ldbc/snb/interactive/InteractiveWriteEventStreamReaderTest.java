@@ -2,28 +2,46 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.MappedByteBufferCharSeeker;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
 import com.ldbc.driver.workloads.OperationTest;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public class InteractiveWriteEventStreamReaderTest
 {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File toFile(String data) throws IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), data.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
 
     @Test
     public void shouldParseAllEventTypesWithWriteEventStreamReaderRegex_DATE() throws IOException, ParseException {
@@ -46,6 +64,67 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseAllEventTypesWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseAllEventTypes(writeEventStreamReader);
+        charSeeker.close();
+    }
+
+    @Test
+    public void shouldReinitializeRecycledUpdateOperationsWhenPooled() throws IOException, ParseException {
+        // Given
+        String data = InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES +
+                      InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES;
+        CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(data)));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        final List<OperationPool> pools = new ArrayList<>();
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(
+                charSeeker,
+                extractors,
+                columnDelimiter,
+                new WriteEventStreamReaderCharSeeker.OperationPoolFactory() {
+                    @Override
+                    public <OPERATION extends Operation> OperationPool<OPERATION> poolFor(
+                            Class<OPERATION> operationType,
+                            Supplier<OPERATION> operationFactory) {
+                        OperationPool<OPERATION> pool = new OperationPool<>(operationType, operationFactory);
+                        pools.add(pool);
+                        return pool;
+                    }
+                });
+
+        // When
+        List<Operation> firstOperations = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            firstOperations.add(writeEventStreamReader.next());
+        }
+        for (Operation operation : firstOperations) {
+            operation.recycle();
+        }
+        List<Operation> secondOperations = Lists.newArrayList(writeEventStreamReader);
+        charSeeker.close();
+
+        // Then
+        doShouldParseAllEventTypes(secondOperations.iterator());
+        assertThat(secondOperations.get(0), sameInstance(firstOperations.get(0)));
+        assertThat(secondOperations.get(8), sameInstance(firstOperations.get(8)));
+        assertThat(pools.size(), is(8));
+        long createdCount = 0;
+        long reusedCount = 0;
+        for (OperationPool pool : pools) {
+            createdCount += pool.createdCount();
+            reusedCount += pool.reusedCount();
+        }
+        assertThat(createdCount, is(9L));
+        assertThat(reusedCount, is(9L));
+    }
+
     public void doShouldParseAllEventTypes(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         // Then
         Date birthday;
@@ -219,6 +298,18 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate1AddPersonWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        // Given
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_1_ADD_PERSON_ROW;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate1AddPerson(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate1AddPerson(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate1AddPerson addPerson = (LdbcUpdate1AddPerson) writeEventStreamReader.next();
 
@@ -273,6 +364,18 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate1AddPersonWithOneLanguageWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        // Given
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_1_ADD_PERSON_ROW_ONE_LANGUAGE;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate1AddPersonWithOneLanguage(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate1AddPersonWithOneLanguage(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate1AddPerson addPerson = (LdbcUpdate1AddPerson) writeEventStreamReader.next();
 
@@ -327,6 +430,18 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate1AddPersonWithNoLanguagesWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        // Given
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_1_ADD_PERSON_ROW_NO_LANGUAGES;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate1AddPersonWithNoLanguages(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate1AddPersonWithNoLanguages(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate1AddPerson addPerson = (LdbcUpdate1AddPerson) writeEventStreamReader.next();
 
@@ -381,6 +496,18 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate1AddPersonWithOneCompanyWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        // Given
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_1_ADD_PERSON_ROW_ONE_COMPANY;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate1AddPersonWithOneCompany(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate1AddPersonWithOneCompany(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate1AddPerson addPerson = (LdbcUpdate1AddPerson) writeEventStreamReader.next();
 
@@ -432,6 +559,18 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate1AddPersonWithNoCompaniesWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        // Given
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_1_ADD_PERSON_ROW_NO_COMPANIES;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate1AddPersonWithNoCompanies(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate1AddPersonWithNoCompanies(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate1AddPerson addPerson = (LdbcUpdate1AddPerson) writeEventStreamReader.next();
 
@@ -481,6 +620,18 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate1AddPersonWithNoUnisWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        // Given
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_1_ADD_PERSON_ROW_NO_UNIS;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate1AddPersonWithNoUnis(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate1AddPersonWithNoUnis(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate1AddPerson addPerson = (LdbcUpdate1AddPerson) writeEventStreamReader.next();
 
@@ -535,6 +686,18 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate1AddPersonWithNoEmailsWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        // Given
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_1_ADD_PERSON_ROW_NO_EMAILS;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate1AddPersonWithNoEmails(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate1AddPersonWithNoEmails(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate1AddPerson addPerson = (LdbcUpdate1AddPerson) writeEventStreamReader.next();
 
@@ -589,6 +752,18 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate1AddPersonWithNoTagsWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        // Given
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_1_ADD_PERSON_ROW_NO_TAGS;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate1AddPersonWithNoTags(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate1AddPersonWithNoTags(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate1AddPerson addPerson = (LdbcUpdate1AddPerson) writeEventStreamReader.next();
 
@@ -643,6 +818,18 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate2AddLikePostWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        // Given
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_2_ADD_LIKE_POST_ROW;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate2AddLikePost(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate2AddLikePost(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate2AddPostLike addPostLike = (LdbcUpdate2AddPostLike) writeEventStreamReader.next();
 
@@ -679,6 +866,17 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate3AddLikeCommentWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_3_ADD_LIKE_COMMENT;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate3AddLikeComment(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate3AddLikeComment(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate3AddCommentLike addCommentLike = (LdbcUpdate3AddCommentLike) writeEventStreamReader.next();
 
@@ -715,6 +913,17 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate4AddForumWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_4_ADD_FORUM;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate4AddForum(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate4AddForum(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate4AddForum addForum = (LdbcUpdate4AddForum) writeEventStreamReader.next();
 
@@ -753,6 +962,17 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate5AddForumMembershipWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_5_ADD_FORUM_MEMBERSHIP;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        shouldParseUpdate5AddForumMembership(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void shouldParseUpdate5AddForumMembership(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate5AddForumMembership addForumMembership = (LdbcUpdate5AddForumMembership) writeEventStreamReader.next();
 
@@ -789,6 +1009,17 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate6AddPostWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_6_ADD_POST;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate6AddPost(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate6AddPost(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate6AddPost addPost = (LdbcUpdate6AddPost) writeEventStreamReader.next();
 
@@ -834,6 +1065,17 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate6AddPostWithManyTagsWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_6_ADD_POST_MANY_TAGS;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate6AddPostWithManyTags(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate6AddPostWithManyTags(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate6AddPost addPost = (LdbcUpdate6AddPost) writeEventStreamReader.next();
 
@@ -879,6 +1121,17 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate6AddPostWithEmptyTagsWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_6_ADD_POST_NO_TAGS;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate6AddPostWithEmptyTags(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate6AddPostWithEmptyTags(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate6AddPost addPost = (LdbcUpdate6AddPost) writeEventStreamReader.next();
 
@@ -924,6 +1177,17 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate7AddCommentWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_7_ADD_COMMENT;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate7AddComment(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate7AddComment(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate7AddComment addComment = (LdbcUpdate7AddComment) writeEventStreamReader.next();
 
@@ -968,6 +1232,17 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate7AddCommentWithEmptyTagsWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_7_ADD_COMMENT_NO_TAGS;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate7AddCommentWithEmptyTags(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate7AddCommentWithEmptyTags(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate7AddComment addComment = (LdbcUpdate7AddComment) writeEventStreamReader.next();
 
@@ -1012,6 +1287,17 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseUpdate8AddFriendshipWithWriteEventStreamReaderMemoryMappedCharSeeker_DATE() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.UPDATE_8_ADD_FRIENDSHIP;
+        CharSeeker charSeeker = new MappedByteBufferCharSeeker(toFile(data));
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseUpdate8AddFriendship(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseUpdate8AddFriendship(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         LdbcUpdate8AddFriendship addFriendship = (LdbcUpdate8AddFriendship) writeEventStreamReader.next();
 
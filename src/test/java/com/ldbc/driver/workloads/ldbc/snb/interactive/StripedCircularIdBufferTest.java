@@ -0,0 +1,140 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class StripedCircularIdBufferTest
+{
+    @Test
+    public void shouldReturnIdsInOrderAddedWhenUsedByOneThread()
+    {
+        // Given
+        StripedCircularIdBuffer buffer = new StripedCircularIdBuffer( 16, 1 );
+
+        // When
+        for ( long id = 0; id < 10; id++ )
+        {
+            buffer.add( id );
+        }
+
+        // Then
+        for ( long id = 0; id < 10; id++ )
+        {
+            assertThat( buffer.poll(), equalTo( id ) );
+        }
+        assertThat( buffer.poll(), equalTo( LdbcSnbShortReadGenerator.IdBuffer.NO_ID ) );
+    }
+
+    @Test
+    public void shouldOverwriteOldestIdsWhenFull()
+    {
+        // Given
+        StripedCircularIdBuffer buffer = new StripedCircularIdBuffer( 16, 1 );
+
+        // When
+        for ( long id = 0; id < 40; id++ )
+        {
+            buffer.add( id );
+        }
+
+        // Then
+        for ( long id = 24; id < 40; id++ )
+        {
+            assertThat( buffer.poll(), equalTo( id ) );
+        }
+        assertThat( buffer.poll(), equalTo( LdbcSnbShortReadGenerator.IdBuffer.NO_ID ) );
+    }
+
+    @Test
+    public void shouldStealIdsAddedByOtherThreads() throws InterruptedException
+    {
+        // Given
+        final StripedCircularIdBuffer buffer = new StripedCircularIdBuffer( 1024, 8 );
+        List<Thread> threads = new ArrayList<>();
+        for ( int i = 0; i < 8; i++ )
+        {
+            final long id = i;
+            threads.add( new Thread( () -> buffer.add( id ) ) );
+        }
+
+        // When
+        for ( Thread thread : threads )
+        {
+            thread.start();
+            thread.join();
+        }
+
+        // Then
+        long sum = 0;
+        for ( int i = 0; i < 8; i++ )
+        {
+            long id = buffer.poll();
+            assertTrue( LdbcSnbShortReadGenerator.IdBuffer.NO_ID != id );
+            sum += id;
+        }
+        assertThat( sum, is( 0L + 1 + 2 + 3 + 4 + 5 + 6 + 7 ) );
+        assertThat( buffer.poll(), equalTo( LdbcSnbShortReadGenerator.IdBuffer.NO_ID ) );
+    }
+
+    @Test
+    public void shouldNeverReturnSameIdTwiceWhenNotOverwritten() throws InterruptedException
+    {
+        // Given
+        final int threadCount = 4;
+        final int idsPerThread = 10_000;
+        final StripedCircularIdBuffer buffer = new StripedCircularIdBuffer( threadCount * idsPerThread, threadCount );
+        final ConcurrentHashMap<Long,Boolean> polledIds = new ConcurrentHashMap<>();
+        final AtomicInteger duplicateCount = new AtomicInteger( 0 );
+        final CountDownLatch startLatch = new CountDownLatch( 1 );
+        List<Thread> threads = new ArrayList<>();
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            final long firstId = (long) i * idsPerThread;
+            threads.add( new Thread( () ->
+            {
+                try
+                {
+                    startLatch.await();
+                }
+                catch ( InterruptedException e )
+                {
+                    throw new RuntimeException( e );
+                }
+                for ( long id = firstId; id < firstId + idsPerThread; id++ )
+                {
+                    buffer.add( id );
+                    long polledId = buffer.poll();
+                    if ( LdbcSnbShortReadGenerator.IdBuffer.NO_ID != polledId &&
+                         null != polledIds.putIfAbsent( polledId, true ) )
+                    {
+                        duplicateCount.incrementAndGet();
+                    }
+                }
+            } ) );
+        }
+
+        // When
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        startLatch.countDown();
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+
+        // Then
+        assertThat( duplicateCount.get(), is( 0 ) );
+    }
+}
@@ -14,8 +14,13 @@ import com.ldbc.driver.control.LocalControlService;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.coordination.CompletionTimeTrackerType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.MetricsWaitStrategyType;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TemporalUtil;
@@ -121,6 +126,20 @@ public class InteractiveWorkloadPerformanceTest
             boolean ignoreScheduledStartTimes = true;
             long warmupCount = 0;
             long skipCount = 0;
+            CompletionTimeTrackerType completionTimeTrackerType = CompletionTimeTrackerType.PRIMITIVE;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+            OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+            int maxInFlightAsynchronousOperations = 1024;
+            String compileOperationStreamsFilePath = null;
+            String operationStreamsFilePath = null;
+            String streamOffsetIndexDirPath = null;
+            int metricsRingSize = 1024;
+            MetricsWaitStrategyType metricsWaitStrategyType = MetricsWaitStrategyType.BLOCKING;
+            int metricsHandlerCount = 1;
+            MetricsServiceType metricsServiceType = MetricsServiceType.DISRUPTOR;
+            long metricsIntervalAsMilli = 0;
+            int metricsPort = 0;
+            long timeCompressionRatioSearchProbeCount = 0;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -140,7 +159,21 @@ public class InteractiveWorkloadPerformanceTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    completionTimeTrackerType,
+                    completionTimeServiceType,
+                    operationExecutorType,
+                    maxInFlightAsynchronousOperations,
+                    compileOperationStreamsFilePath,
+                    operationStreamsFilePath,
+                    streamOffsetIndexDirPath,
+                    metricsRingSize,
+                    metricsWaitStrategyType,
+                    metricsHandlerCount,
+                    metricsServiceType,
+                    metricsIntervalAsMilli,
+                    metricsPort,
+                    timeCompressionRatioSearchProbeCount
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -285,6 +318,20 @@ public class InteractiveWorkloadPerformanceTest
             boolean ignoreScheduledStartTimes = false;
             long warmupCount = 0;
             long skipCount = 0;
+            CompletionTimeTrackerType completionTimeTrackerType = CompletionTimeTrackerType.PRIMITIVE;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+            OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+            int maxInFlightAsynchronousOperations = 1024;
+            String compileOperationStreamsFilePath = null;
+            String operationStreamsFilePath = null;
+            String streamOffsetIndexDirPath = null;
+            int metricsRingSize = 1024;
+            MetricsWaitStrategyType metricsWaitStrategyType = MetricsWaitStrategyType.BLOCKING;
+            int metricsHandlerCount = 1;
+            MetricsServiceType metricsServiceType = MetricsServiceType.DISRUPTOR;
+            long metricsIntervalAsMilli = 0;
+            int metricsPort = 0;
+            long timeCompressionRatioSearchProbeCount = 0;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -304,7 +351,21 @@ public class InteractiveWorkloadPerformanceTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    completionTimeTrackerType,
+                    completionTimeServiceType,
+                    operationExecutorType,
+                    maxInFlightAsynchronousOperations,
+                    compileOperationStreamsFilePath,
+                    operationStreamsFilePath,
+                    streamOffsetIndexDirPath,
+                    metricsRingSize,
+                    metricsWaitStrategyType,
+                    metricsHandlerCount,
+                    metricsServiceType,
+                    metricsIntervalAsMilli,
+                    metricsPort,
+                    timeCompressionRatioSearchProbeCount
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration